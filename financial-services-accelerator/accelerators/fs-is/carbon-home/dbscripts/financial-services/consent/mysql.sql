@@ -87,3 +87,63 @@ CREATE TABLE IF NOT EXISTS FS_CONSENT_ATTRIBUTE (
   CONSTRAINT FK_FS_CONSENT_ATTRIBUTE FOREIGN KEY (CONSENT_ID) REFERENCES FS_CONSENT (CONSENT_ID) ON DELETE CASCADE
 )
 ENGINE INNODB;
+
+-- Pending and completed revocations of the tokens of revoked consents, processed asynchronously
+CREATE TABLE IF NOT EXISTS FS_CONSENT_TOKEN_REVOCATION (
+  REVOCATION_ID         VARCHAR(255) NOT NULL,
+  CONSENT_ID            VARCHAR(255) NOT NULL,
+  CLIENT_ID             VARCHAR(255) NOT NULL,
+  USER_ID               VARCHAR(255) NOT NULL,
+  STATUS                VARCHAR(64) NOT NULL,
+  ATTEMPT_COUNT         INT NOT NULL,
+  NEXT_ATTEMPT_TIME     BIGINT NOT NULL,
+  CREATED_TIME          BIGINT NOT NULL,
+  UPDATED_TIME          BIGINT NOT NULL,
+  REVOKED_TOKEN_COUNT   INT,
+  LAST_ERROR            VARCHAR(1024),
+  PRIMARY KEY(REVOCATION_ID)
+)
+ENGINE INNODB;
+
+-- Consent state change events written with the status change and published to the listeners in order
+CREATE TABLE IF NOT EXISTS FS_CONSENT_EVENT_OUTBOX (
+  EVENT_ID              VARCHAR(255) NOT NULL,
+  CONSENT_ID            VARCHAR(255) NOT NULL,
+  SEQUENCE_NO           BIGINT NOT NULL,
+  CLIENT_ID             VARCHAR(255),
+  USER_ID               VARCHAR(255),
+  PREVIOUS_STATUS       VARCHAR(255),
+  NEW_STATUS            VARCHAR(255) NOT NULL,
+  REASON                VARCHAR(255),
+  CONSENT_DATA          JSON,
+  STATUS                VARCHAR(64) NOT NULL,
+  ATTEMPT_COUNT         INT NOT NULL,
+  NEXT_ATTEMPT_TIME     BIGINT NOT NULL,
+  CREATED_TIME          BIGINT NOT NULL,
+  LAST_ERROR            VARCHAR(1024),
+  PRIMARY KEY(EVENT_ID)
+)
+ENGINE INNODB;
+
+-- Last sequence number assigned to the state change events of each consent
+CREATE TABLE IF NOT EXISTS FS_CONSENT_EVENT_SEQUENCE (
+  CONSENT_ID            VARCHAR(255) NOT NULL,
+  LAST_SEQUENCE_NO      BIGINT NOT NULL,
+  PRIMARY KEY(CONSENT_ID)
+)
+ENGINE INNODB;
+
+-- Secondary indexes for the columns used by the lookup, search and polling queries
+-- Only the first 255 characters of ATT_VALUE are indexed to stay within the InnoDB index key size limit.
+CREATE INDEX IDX_FS_CONSENT_CLIENT_ID ON FS_CONSENT (CLIENT_ID);
+CREATE INDEX IDX_FS_CONSENT_STATUS_VALIDITY ON FS_CONSENT (CURRENT_STATUS, VALIDITY_TIME);
+CREATE INDEX IDX_FS_CONSENT_UPDATED_TIME ON FS_CONSENT (UPDATED_TIME, CONSENT_ID);
+CREATE INDEX IDX_FS_CAR_CONSENT_ID ON FS_CONSENT_AUTH_RESOURCE (CONSENT_ID);
+CREATE INDEX IDX_FS_CAR_USER_ID ON FS_CONSENT_AUTH_RESOURCE (USER_ID);
+CREATE INDEX IDX_FS_CM_AUTH_ID ON FS_CONSENT_MAPPING (AUTH_ID);
+CREATE INDEX IDX_FS_CSA_CONSENT_ID ON FS_CONSENT_STATUS_AUDIT (CONSENT_ID);
+CREATE INDEX IDX_FS_CA_KEY_VALUE ON FS_CONSENT_ATTRIBUTE (ATT_KEY, ATT_VALUE(255));
+CREATE INDEX IDX_FS_CTR_STATUS_NEXT_ATTEMPT ON FS_CONSENT_TOKEN_REVOCATION (STATUS, NEXT_ATTEMPT_TIME);
+CREATE INDEX IDX_FS_CTR_CONSENT_ID ON FS_CONSENT_TOKEN_REVOCATION (CONSENT_ID);
+CREATE UNIQUE INDEX IDX_FS_CEO_CONSENT_SEQUENCE ON FS_CONSENT_EVENT_OUTBOX (CONSENT_ID, SEQUENCE_NO);
+CREATE INDEX IDX_FS_CEO_STATUS_NEXT_ATTEMPT ON FS_CONSENT_EVENT_OUTBOX (STATUS, NEXT_ATTEMPT_TIME);
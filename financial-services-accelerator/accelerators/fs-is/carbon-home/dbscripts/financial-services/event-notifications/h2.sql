@@ -71,3 +71,10 @@ CREATE TABLE IF NOT EXISTS FS_NOTIFICATION_SUBSCRIBED_EVENTS (
     CONSTRAINT FK_NotificationSubEvents FOREIGN KEY (SUBSCRIPTION_ID) REFERENCES FS_NOTIFICATION_SUBSCRIPTION(SUBSCRIPTION_ID)
 )
 ENGINE=InnoDB;
+
+-- Secondary indexes for the columns used by the lookup, search and polling queries
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIF_CLIENT_STATUS ON FS_NOTIFICATION (CLIENT_ID, STATUS);
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIF_STATUS ON FS_NOTIFICATION (STATUS);
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIF_EVENT_NOTIF_ID ON FS_NOTIFICATION_EVENT (NOTIFICATION_ID);
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIF_SUB_CLIENT_ID ON FS_NOTIFICATION_SUBSCRIPTION (CLIENT_ID, STATUS);
+CREATE INDEX IF NOT EXISTS IDX_FS_NOTIF_SUB_EVENT_TYPE ON FS_NOTIFICATION_SUBSCRIBED_EVENTS (EVENT_TYPE);
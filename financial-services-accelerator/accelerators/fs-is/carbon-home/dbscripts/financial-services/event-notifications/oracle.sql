@@ -76,3 +76,15 @@ CREATE TABLE FS_NOTIFICATION_SUBSCRIBED_EVENTS (
     PRIMARY KEY (SUBSCRIPTION_ID, EVENT_TYPE),
     CONSTRAINT FK_NotificationSubEvents FOREIGN KEY (SUBSCRIPTION_ID) REFERENCES FS_NOTIFICATION_SUBSCRIPTION(SUBSCRIPTION_ID))
 /
+
+-- Secondary indexes for the columns used by the lookup, search and polling queries
+CREATE INDEX IDX_FS_NOTIF_CLIENT_STATUS ON FS_NOTIFICATION (CLIENT_ID, STATUS)
+/
+CREATE INDEX IDX_FS_NOTIF_STATUS ON FS_NOTIFICATION (STATUS)
+/
+CREATE INDEX IDX_FS_NOTIF_EVENT_NOTIF_ID ON FS_NOTIFICATION_EVENT (NOTIFICATION_ID)
+/
+CREATE INDEX IDX_FS_NOTIF_SUB_CLIENT_ID ON FS_NOTIFICATION_SUBSCRIPTION (CLIENT_ID, STATUS)
+/
+CREATE INDEX IDX_FS_NOTIF_SUB_EVENT_TYPE ON FS_NOTIFICATION_SUBSCRIBED_EVENTS (EVENT_TYPE)
+/
@@ -22,7 +22,10 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JOSEObjectType;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
 import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.impl.ECDSA;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.apache.commons.logging.Log;
@@ -34,7 +37,9 @@ import org.wso2.financial.services.apim.mediation.policies.consent.enforcement.c
 
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.security.PrivateKey;
+import java.security.interfaces.ECPrivateKey;
 import java.text.ParseException;
 import java.util.HashMap;
 import java.util.Map;
@@ -45,6 +50,8 @@ import java.util.Map;
 public class ConsentEnforcementUtils {
 
     private static final Log log = LogFactory.getLog(ConsentEnforcementUtils.class);
+    private static volatile JWSSigner signer;
+    private static volatile JWSHeader header;
 
     /**
      * Method to construct resource parameter map to invoke the validation service.
@@ -135,19 +142,49 @@ public class ConsentEnforcementUtils {
     public static String generateJWT(String payload) throws ParseException, JOSEException {
 
         log.debug("Generating JWT with provided payload");
-        RSASSASigner signer = new RSASSASigner((PrivateKey) KeyStoreUtils.getSigningKey());
+        initSigner();
         JWTClaimsSet claimsSet = JWTClaimsSet.parse(payload);
 
-        JWSHeader header = new JWSHeader.Builder(JWSAlgorithm.RS512)
-                .type(JOSEObjectType.JWT)
-                .build();
-
         SignedJWT signedJWT = new SignedJWT(header, claimsSet);
         signedJWT.sign(signer);
-        log.info("JWT generated successfully");
+        log.debug("JWT generated successfully");
         return signedJWT.serialize();
     }
 
+    /**
+     * Method to create the signer and the JWS header once from the signing key. Signers are thread safe, so the
+     * same instance is used for every request. RSA keys sign with RS512 and EC keys with the ES algorithm of the
+     * key curve.
+     *
+     * @throws JOSEException When the signing key cannot be used for signing
+     */
+    private static void initSigner() throws JOSEException {
+
+        if (signer == null) {
+            synchronized (ConsentEnforcementUtils.class) {
+                if (signer == null) {
+                    Key signingKey = KeyStoreUtils.getSigningKey();
+                    JWSAlgorithm algorithm;
+                    JWSSigner jwsSigner;
+                    if (signingKey instanceof ECPrivateKey) {
+                        ECPrivateKey ecPrivateKey = (ECPrivateKey) signingKey;
+                        algorithm = ECDSA.resolveAlgorithm(ecPrivateKey);
+                        jwsSigner = new ECDSASigner(ecPrivateKey);
+                    } else if (signingKey instanceof PrivateKey) {
+                        algorithm = JWSAlgorithm.RS512;
+                        jwsSigner = new RSASSASigner((PrivateKey) signingKey);
+                    } else {
+                        throw new JOSEException("Signing key is not available");
+                    }
+                    header = new JWSHeader.Builder(algorithm)
+                            .type(JOSEObjectType.JWT)
+                            .build();
+                    signer = jwsSigner;
+                }
+            }
+        }
+    }
+
     /**
      * Method to check whether the given string is a valid JWT token.
      *
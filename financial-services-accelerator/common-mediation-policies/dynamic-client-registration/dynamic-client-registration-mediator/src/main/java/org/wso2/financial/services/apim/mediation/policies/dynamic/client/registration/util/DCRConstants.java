@@ -40,6 +40,7 @@ public class DCRConstants {
     public static final String DISALLOWED_CHARS_PATTERN = "([~!#$;%^&*+={}\\s\\|\\\\<>\\\"\\'\\/,\\]\\[\\(\\)])";
     public static final String SUBSTITUTE_STRING = "_";
     public static final int ABBREVIATED_STRING_LENGTH = 70;
+    public static final int MAX_CACHED_JWK_SETS = 1000;
     public static final String ERROR = "error";
     public static final String ERROR_DESCRIPTION = "error_description";
     public static final String API_UT_RESOURCE = "api.ut.resource";
@@ -55,9 +55,9 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.ws.rs.core.MediaType;
 import javax.xml.stream.XMLStreamException;
@@ -68,6 +68,13 @@ import javax.xml.stream.XMLStreamException;
 public class DCRUtil {
 
     private static final Log log = LogFactory.getLog(DCRUtil.class);
+    private static final Map<String, RemoteJWKSet<SecurityContext>> jwkSources =
+            new LinkedHashMap<String, RemoteJWKSet<SecurityContext>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, RemoteJWKSet<SecurityContext>> eldest) {
+                    return size() > DCRConstants.MAX_CACHED_JWK_SETS;
+                }
+            };
 
     /**
      * Build Message and extract payload.
@@ -209,23 +216,26 @@ public class DCRUtil {
         int defaultReadTimeout = 3000;
         ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
         JWT jwt = JWTParser.parse(jwtString);
-        // set the Key Selector for the jwks_uri.
-        Map<String, RemoteJWKSet<SecurityContext>> jwkSourceMap = new ConcurrentHashMap<>();
-        RemoteJWKSet<SecurityContext> jwkSet = jwkSourceMap.get(jwksUri);
-        if (jwkSet == null) {
-            int connectionTimeout = jwksConnectionTimeOut;
-            int readTimeout = jwksConnectionTimeOut;
-            int sizeLimit = RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT;
-            if (connectionTimeout == 0 && readTimeout == 0) {
-                connectionTimeout = defaultConnectionTimeout;
-                readTimeout = defaultReadTimeout;
+        // set the Key Selector for the jwks_uri. The remote key set is shared across requests so that the
+        // retrieved keys are reused until they expire or an unknown key ID is presented.
+        RemoteJWKSet<SecurityContext> jwkSet;
+        synchronized (jwkSources) {
+            jwkSet = jwkSources.get(jwksUri);
+            if (jwkSet == null) {
+                int connectionTimeout = jwksConnectionTimeOut;
+                int readTimeout = jwksConnectionTimeOut;
+                int sizeLimit = RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT;
+                if (connectionTimeout == 0 && readTimeout == 0) {
+                    connectionTimeout = defaultConnectionTimeout;
+                    readTimeout = defaultReadTimeout;
+                }
+                DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
+                        connectionTimeout,
+                        readTimeout,
+                        sizeLimit);
+                jwkSet = new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
+                jwkSources.put(jwksUri, jwkSet);
             }
-            DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
-                    connectionTimeout,
-                    readTimeout,
-                    sizeLimit);
-            jwkSet = new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
-            jwkSourceMap.put(jwksUri, jwkSet);
         }
         // The expected JWS algorithm of the access tokens (agreed out-of-band).
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.parse(algorithm);
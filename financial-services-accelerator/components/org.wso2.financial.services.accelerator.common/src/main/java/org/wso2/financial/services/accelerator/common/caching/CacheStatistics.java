@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+/**
+ * Point in time snapshot of the statistics of a cache.
+ */
+public class CacheStatistics {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadCount;
+    private final long loadFailureCount;
+    private final long evictionCount;
+    private final long expirationCount;
+
+    public CacheStatistics(long hitCount, long missCount, long loadCount, long loadFailureCount,
+                           long evictionCount, long expirationCount) {
+
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.loadCount = loadCount;
+        this.loadFailureCount = loadFailureCount;
+        this.evictionCount = evictionCount;
+        this.expirationCount = expirationCount;
+    }
+
+    /**
+     * Number of lookups which found a cached value.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+
+        return hitCount;
+    }
+
+    /**
+     * Number of lookups which did not find a cached value.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+
+        return missCount;
+    }
+
+    /**
+     * Number of values retrieved on demand. Concurrent misses on the same key are counted once.
+     *
+     * @return load count
+     */
+    public long getLoadCount() {
+
+        return loadCount;
+    }
+
+    /**
+     * Number of on demand retrievals which failed.
+     *
+     * @return load failure count
+     */
+    public long getLoadFailureCount() {
+
+        return loadFailureCount;
+    }
+
+    /**
+     * Number of entries removed or rejected to keep the cache within its size bound.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+
+        return evictionCount;
+    }
+
+    /**
+     * Number of entries removed because they expired.
+     *
+     * @return expiration count
+     */
+    public long getExpirationCount() {
+
+        return expirationCount;
+    }
+
+    /**
+     * Ratio of lookups which found a cached value.
+     *
+     * @return hit ratio between 0 and 1, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+
+        long requests = hitCount + missCount;
+        return requests == 0 ? 0 : (double) hitCount / requests;
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("hits=%d, misses=%d, hitRatio=%.3f, loads=%d, loadFailures=%d, evictions=%d, " +
+                "expirations=%d", hitCount, missCount, getHitRatio(), loadCount, loadFailureCount, evictionCount,
+                expirationCount);
+    }
+}
@@ -20,9 +20,15 @@ package org.wso2.financial.services.accelerator.common.caching;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.cache.Cache;
 import javax.cache.CacheBuilder;
@@ -32,6 +38,11 @@ import javax.cache.Caching;
 
 /**
  * Abstract cache manager for Financial Services.
+ * <p>
+ * Entries are held in the Carbon caching framework, or in a {@link FinancialServicesLocalCache} created on first
+ * use when the local cache engine is enabled. Caches whose entries must be invalidated on the other nodes of a
+ * cluster should override {@link #isLocalCacheEnabled()} to stay on the Carbon caching framework. Concurrent misses
+ * on the same key in {@link #getFromCacheOrRetrieve} are served by a single retrieval.
  *
  * @param <K>   Extended Cache Key
  * @param <V>   Cache Value
@@ -40,6 +51,13 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
 
     private static final String BASE_CACHE_KEY = "FS_BASE_CACHE";
     private final String cacheName;
+    private final Map<K, CompletableFuture<V>> retrievals = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private volatile boolean backendResolved;
+    private FinancialServicesLocalCache<K, V> localCache;
 
     private static final Log log = LogFactory.getLog(FinancialServicesBaseCache.class);
 
@@ -66,7 +84,8 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
     }
 
     /**
-     * Get from cache or invoke ondemand retriever and store.
+     * Get from cache or invoke ondemand retriever and store. If the key is being retrieved by another thread, the
+     * result of that retrieval is returned instead of retrieving it again.
      *
      * @param key                  cache key.
      * @param onDemandRetriever    on demand retriever.
@@ -75,34 +94,52 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
      */
     public V getFromCacheOrRetrieve(K key, OnDemandRetriever onDemandRetriever) throws FinancialServicesException {
 
-        Cache<K, V> cache = getBaseCache();
-
-        if (cache.containsKey(key)) {
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Found cache entry `%s` in cache %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
-            }
-            return cache.get(key);
-        } else {
+        V value = getFromCache(key);
+        if (value != null) {
+            return value;
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Cache Entry `%s` not available in cache %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
-            }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Cache Entry `%s` not available in cache %s",
+                    key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+        }
 
-            V value = (V) onDemandRetriever.get();
+        CompletableFuture<V> retrieval = new CompletableFuture<>();
+        CompletableFuture<V> inFlightRetrieval = retrievals.putIfAbsent(key, retrieval);
+        if (inFlightRetrieval != null) {
+            return awaitRetrieval(key, inFlightRetrieval);
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("On demand retrieved `%s` for %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+        try {
+            // The entry may have been stored by a retrieval which completed after the lookup above
+            value = lookup(key);
+            if (value == null) {
+                value = (V) onDemandRetriever.get();
+                loads.increment();
+
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("On demand retrieved `%s` for %s",
+                            key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+                }
+
+                if (value != null) {
+                    removeFromCache(key);
+                    addToCache(key, value);
+                }
             }
-
-            removeFromCache(key);
-            addToCache(key, value);
+            retrieval.complete(value);
             return value;
+        } catch (FinancialServicesException | RuntimeException e) {
+            loadFailures.increment();
+            retrieval.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!retrieval.isDone()) {
+                retrieval.completeExceptionally(
+                        new FinancialServicesException("Error while retrieving the cache entry"));
+            }
+            retrievals.remove(key, retrieval);
         }
-
     }
 
     /**
@@ -113,20 +150,18 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
      */
     public V getFromCache(K key) {
 
-        Cache<K, V> cache = getBaseCache();
-
-        if (cache.containsKey(key)) {
-
-            if (log.isDebugEnabled()) {
-                log.debug(String.format("Found cache entry `%s` in cache %s",
-                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
-            }
-            return cache.get(key);
-        } else {
-
+        V value = lookup(key);
+        if (value == null) {
+            misses.increment();
             return null;
         }
 
+        hits.increment();
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Found cache entry `%s` in cache %s",
+                    key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+        }
+        return value;
     }
 
     /**
@@ -142,8 +177,12 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     cacheName.replaceAll("[\r\n]", "")));
         }
 
-        Cache<K, V> cache = getBaseCache();
-        cache.put(key, value);
+        FinancialServicesLocalCache<K, V> local = getLocalCache();
+        if (local != null) {
+            local.put(key, value);
+        } else {
+            getBaseCache().put(key, value);
+        }
     }
 
     /**
@@ -158,13 +197,17 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     cacheName.replaceAll("[\r\n]", "")));
         }
 
-        Cache<K, V> cache = getBaseCache();
-        cache.remove(key);
+        FinancialServicesLocalCache<K, V> local = getLocalCache();
+        if (local != null) {
+            local.remove(key);
+        } else {
+            getBaseCache().remove(key);
+        }
     }
 
     /**
      * Add to cache only if the key is not already present. The check and insert are
-     * performed as a single atomic operation by the underlying JSR-107 provider.
+     * performed as a single atomic operation by the underlying cache.
      * Returns {@code true} if the value was stored, {@code false} if the key already existed.
      *
      * @param key    cache key.
@@ -178,13 +221,14 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
         }
 
-        return getBaseCache().putIfAbsent(key, value);
+        FinancialServicesLocalCache<K, V> local = getLocalCache();
+        return local != null ? local.putIfAbsent(key, value) : getBaseCache().putIfAbsent(key, value);
     }
 
     /**
      * Remove from cache only if the entry is currently mapped to the expected value.
      * The check and removal are performed as a single atomic operation by the underlying
-     * JSR-107 provider. Returns {@code true} if the entry was removed, {@code false} if
+     * cache. Returns {@code true} if the entry was removed, {@code false} if
      * the key was absent or mapped to a different value.
      *
      * @param key            cache key.
@@ -198,7 +242,93 @@ public abstract class FinancialServicesBaseCache<K extends FinancialServicesBase
                     key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
         }
 
-        return getBaseCache().remove(key, expectedValue);
+        FinancialServicesLocalCache<K, V> local = getLocalCache();
+        return local != null ? local.remove(key, expectedValue) : getBaseCache().remove(key, expectedValue);
+    }
+
+    /**
+     * Get the statistics of the cache. Evictions and expirations are reported only for the local cache engine.
+     *
+     * @return statistics snapshot.
+     */
+    public CacheStatistics getStatistics() {
+
+        FinancialServicesLocalCache<K, V> local = backendResolved ? localCache : null;
+        CacheStatistics localStatistics = local != null ? local.getStatistics() : null;
+        return new CacheStatistics(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(),
+                localStatistics != null ? localStatistics.getEvictionCount() : 0,
+                localStatistics != null ? localStatistics.getExpirationCount() : 0);
+    }
+
+    /**
+     * Whether the entries are held in the node local cache engine. Caches whose entries must be invalidated on the
+     * other nodes of a cluster should return false.
+     *
+     * @return true if the local cache engine is used.
+     */
+    protected boolean isLocalCacheEnabled() {
+
+        return FinancialServicesConfigParser.getInstance().isLocalCacheEnabled();
+    }
+
+    /**
+     * Get the maximum number of entries held in the local cache engine.
+     *
+     * @return maximum number of entries.
+     */
+    protected int getLocalCacheMaxEntries() {
+
+        return FinancialServicesConfigParser.getInstance().getLocalCacheMaxEntries();
+    }
+
+    private V lookup(K key) {
+
+        FinancialServicesLocalCache<K, V> local = getLocalCache();
+        return local != null ? local.get(key) : getBaseCache().get(key);
+    }
+
+    private V awaitRetrieval(K key, CompletableFuture<V> retrieval) throws FinancialServicesException {
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waiting for the on demand retrieval of `%s` for %s",
+                    key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+        }
+        try {
+            return retrieval.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException("Interrupted while waiting for the cache entry to be retrieved", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FinancialServicesException) {
+                throw (FinancialServicesException) e.getCause();
+            }
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FinancialServicesException("Error while retrieving the cache entry", e.getCause());
+        }
+    }
+
+    /**
+     * Get the local cache engine, creating it on first use. The expiry times are read here rather than in the
+     * constructor since they are initialized by the subclasses.
+     *
+     * @return local cache, or null if the Carbon caching framework is used.
+     */
+    private FinancialServicesLocalCache<K, V> getLocalCache() {
+
+        if (!backendResolved) {
+            synchronized (this) {
+                if (!backendResolved) {
+                    if (isLocalCacheEnabled()) {
+                        localCache = new FinancialServicesLocalCache<>(cacheName, getLocalCacheMaxEntries(),
+                                getCacheAccessExpiryMinutes(), getCacheModifiedExpiryMinutes(), TimeUnit.MINUTES);
+                    }
+                    backendResolved = true;
+                }
+            }
+        }
+        return localCache;
     }
 
     /**
@@ -0,0 +1,543 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.caching;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Node local, size bounded cache with access and write expiry.
+ * <p>
+ * Entries are spread over segments, each backed by a {@link ConcurrentHashMap}. Reads do not take locks, while
+ * writes take the lock of the segment of the key only. When a segment is full, a victim is chosen from a sample of
+ * its entries, preferring expired and then least recently used entries. A new key is admitted in place of the victim
+ * only if it has been requested at least as often as the victim, which is estimated with a count-min sketch of 4 bit
+ * counters that are halved periodically. This keeps frequently used entries from being flushed by a burst of keys
+ * that are used once. Conditional inserts are always admitted, since callers rely on them to record what was seen.
+ * <p>
+ * Expired entries are dropped when read, and the whole cache is swept periodically by a shared daemon thread.
+ *
+ * @param <K> cache key
+ * @param <V> cache value
+ */
+public class FinancialServicesLocalCache<K, V> {
+
+    private static final Log log = LogFactory.getLog(FinancialServicesLocalCache.class);
+
+    private static final int SEGMENT_COUNT = 16;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final long MIN_SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_SWEEP_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final String cacheName;
+    private final Segment<K, V>[] segments;
+    private final long accessExpiryNanos;
+    private final long writeExpiryNanos;
+    private final LongSupplier ticker;
+    private final FrequencySketch frequencySketch;
+    private final ScheduledFuture<?> sweepTask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    /**
+     * Creates a local cache. An expiry of zero disables the respective expiry.
+     *
+     * @param cacheName    name of the cache, used in the log messages
+     * @param maxEntries   maximum number of entries
+     * @param accessExpiry time after the last access at which an entry expires
+     * @param writeExpiry  time after the last write at which an entry expires
+     * @param unit         unit of the expiry times
+     */
+    public FinancialServicesLocalCache(String cacheName, int maxEntries, long accessExpiry, long writeExpiry,
+                                       TimeUnit unit) {
+
+        this(cacheName, maxEntries, accessExpiry, writeExpiry, unit, System::nanoTime);
+    }
+
+    /**
+     * Creates a local cache with the given time source.
+     *
+     * @param cacheName    name of the cache, used in the log messages
+     * @param maxEntries   maximum number of entries
+     * @param accessExpiry time after the last access at which an entry expires
+     * @param writeExpiry  time after the last write at which an entry expires
+     * @param unit         unit of the expiry times
+     * @param ticker       time source in nanoseconds
+     */
+    @SuppressWarnings("unchecked")
+    public FinancialServicesLocalCache(String cacheName, int maxEntries, long accessExpiry, long writeExpiry,
+                                       TimeUnit unit, LongSupplier ticker) {
+
+        this.cacheName = cacheName;
+        this.accessExpiryNanos = unit.toNanos(Math.max(0, accessExpiry));
+        this.writeExpiryNanos = unit.toNanos(Math.max(0, writeExpiry));
+        this.ticker = ticker;
+
+        int capacity = Math.max(1, maxEntries);
+        int segmentCount = Math.min(SEGMENT_COUNT, Integer.highestOneBit(capacity));
+        this.segments = new Segment[segmentCount];
+        for (int i = 0; i < segmentCount; i++) {
+            // Spread the remainder so that the segment capacities add up to the maximum number of entries
+            segments[i] = new Segment<>(capacity / segmentCount + (i < capacity % segmentCount ? 1 : 0));
+        }
+        this.frequencySketch = new FrequencySketch(capacity);
+        this.sweepTask = scheduleSweep();
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Local cache %s initialized with %d entries in %d segments",
+                    cacheName.replaceAll("[\r\n]", ""), capacity, segmentCount));
+        }
+    }
+
+    /**
+     * Returns the cached value of a key.
+     *
+     * @param key cache key
+     * @return cached value, or null if the key is not cached or has expired
+     */
+    public V get(K key) {
+
+        frequencySketch.increment(key);
+        Segment<K, V> segment = segmentFor(key);
+        Entry<K, V> entry = segment.map.get(key);
+        if (entry != null) {
+            long now = ticker.getAsLong();
+            if (!isExpired(entry, now)) {
+                entry.accessTime = now;
+                hits.increment();
+                return entry.value;
+            }
+            removeExpired(segment, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Caches a value. A new key may be rejected if the cache is full and the key is used less often than the entry
+     * it would replace.
+     *
+     * @param key   cache key
+     * @param value cache value
+     */
+    public void put(K key, V value) {
+
+        put(key, value, false);
+    }
+
+    /**
+     * Caches a value only if the key is not cached. The check and insert are performed atomically and the value is
+     * always admitted.
+     *
+     * @param key   cache key
+     * @param value cache value
+     * @return true if the value was cached, false if the key was already cached
+     */
+    public boolean putIfAbsent(K key, V value) {
+
+        return put(key, value, true);
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key cache key
+     */
+    public void remove(K key) {
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            if (segment.map.remove(key) != null) {
+                segment.size.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Removes a key only if it is mapped to the expected value.
+     *
+     * @param key           cache key
+     * @param expectedValue value the key must be mapped to
+     * @return true if the key was removed
+     */
+    public boolean remove(K key, V expectedValue) {
+
+        Segment<K, V> segment = segmentFor(key);
+        synchronized (segment) {
+            Entry<K, V> entry = segment.map.get(key);
+            if (entry == null || isExpired(entry, ticker.getAsLong()) || !Objects.equals(entry.value, expectedValue)) {
+                return false;
+            }
+            segment.map.remove(key);
+            segment.size.decrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+
+        for (Segment<K, V> segment : segments) {
+            synchronized (segment) {
+                segment.map.clear();
+                segment.size.set(0);
+            }
+        }
+    }
+
+    /**
+     * Removes the expired entries.
+     */
+    public void cleanUp() {
+
+        long now = ticker.getAsLong();
+        for (Segment<K, V> segment : segments) {
+            for (Entry<K, V> entry : segment.map.values()) {
+                if (isExpired(entry, now)) {
+                    removeExpired(segment, entry);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, including expired entries that are not removed yet.
+     *
+     * @return number of entries
+     */
+    public int size() {
+
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size.get();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return statistics snapshot
+     */
+    public CacheStatistics getStatistics() {
+
+        return new CacheStatistics(hits.sum(), misses.sum(), 0, 0, evictions.sum(), expirations.sum());
+    }
+
+    /**
+     * Stops the periodic removal of expired entries and removes all entries.
+     */
+    public void close() {
+
+        if (sweepTask != null) {
+            sweepTask.cancel(false);
+        }
+        invalidateAll();
+    }
+
+    private boolean put(K key, V value, boolean onlyIfAbsent) {
+
+        Segment<K, V> segment = segmentFor(key);
+        long now = ticker.getAsLong();
+        synchronized (segment) {
+            Entry<K, V> existing = segment.map.get(key);
+            if (existing != null) {
+                if (!isExpired(existing, now)) {
+                    if (onlyIfAbsent) {
+                        return false;
+                    }
+                    segment.map.put(key, new Entry<>(key, value, now));
+                    return true;
+                }
+                segment.map.remove(key);
+                segment.size.decrementAndGet();
+                expirations.increment();
+            }
+            if (segment.size.get() >= segment.capacity && !evictFor(segment, key, now, onlyIfAbsent)) {
+                return false;
+            }
+            segment.map.put(key, new Entry<>(key, value, now));
+            segment.size.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Makes room for a new key in a full segment. Must be called holding the lock of the segment.
+     *
+     * @return true if the key can be inserted, false if it is rejected
+     */
+    private boolean evictFor(Segment<K, V> segment, K key, long now, boolean alwaysAdmit) {
+
+        Entry<K, V> victim = null;
+        int sampled = 0;
+        Iterator<Entry<K, V>> iterator = segment.map.values().iterator();
+        // Start the sample at a rotating position so that the same entries are not examined every time
+        int skip = segment.nextSampleStart(segment.size.get());
+        while (iterator.hasNext() && sampled < EVICTION_SAMPLE_SIZE) {
+            Entry<K, V> candidate = iterator.next();
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (isExpired(candidate, now)) {
+                victim = candidate;
+                break;
+            }
+            if (victim == null || candidate.accessTime < victim.accessTime) {
+                victim = candidate;
+            }
+            sampled++;
+        }
+        if (victim == null) {
+            return true;
+        }
+        boolean expired = isExpired(victim, now);
+        if (!expired && !alwaysAdmit &&
+                frequencySketch.frequency(key) < frequencySketch.frequency(victim.key)) {
+            evictions.increment();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("`%s` is not admitted into local cache %s",
+                        key.toString().replaceAll("[\r\n]", ""), cacheName.replaceAll("[\r\n]", "")));
+            }
+            return false;
+        }
+        segment.map.remove(victim.key);
+        segment.size.decrementAndGet();
+        if (expired) {
+            expirations.increment();
+        } else {
+            evictions.increment();
+        }
+        return true;
+    }
+
+    private void removeExpired(Segment<K, V> segment, Entry<K, V> entry) {
+
+        synchronized (segment) {
+            if (segment.map.remove(entry.key, entry)) {
+                segment.size.decrementAndGet();
+                expirations.increment();
+            }
+        }
+    }
+
+    private boolean isExpired(Entry<K, V> entry, long now) {
+
+        return (writeExpiryNanos > 0 && now - entry.writeTime >= writeExpiryNanos) ||
+                (accessExpiryNanos > 0 && now - entry.accessTime >= accessExpiryNanos);
+    }
+
+    private Segment<K, V> segmentFor(Object key) {
+
+        return segments[spread(key.hashCode()) & (segments.length - 1)];
+    }
+
+    private ScheduledFuture<?> scheduleSweep() {
+
+        long expiryNanos = accessExpiryNanos > 0 && writeExpiryNanos > 0 ?
+                Math.min(accessExpiryNanos, writeExpiryNanos) : Math.max(accessExpiryNanos, writeExpiryNanos);
+        if (expiryNanos == 0) {
+            return null;
+        }
+        long intervalNanos = Math.max(MIN_SWEEP_INTERVAL_NANOS, Math.min(MAX_SWEEP_INTERVAL_NANOS, expiryNanos / 2));
+
+        // The task refers to the cache weakly so that a cache which is no longer used can be collected
+        WeakReference<FinancialServicesLocalCache<K, V>> cacheReference = new WeakReference<>(this);
+        AtomicReference<ScheduledFuture<?>> taskReference = new AtomicReference<>();
+        ScheduledFuture<?> task = Sweeper.EXECUTOR.scheduleWithFixedDelay(() -> {
+            FinancialServicesLocalCache<K, V> cache = cacheReference.get();
+            if (cache == null) {
+                ScheduledFuture<?> self = taskReference.get();
+                if (self != null) {
+                    self.cancel(false);
+                }
+                return;
+            }
+            try {
+                cache.cleanUp();
+            } catch (RuntimeException e) {
+                log.error(String.format("Error while removing the expired entries of local cache %s",
+                        cache.cacheName.replaceAll("[\r\n]", "")), e);
+            }
+        }, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+        taskReference.set(task);
+        return task;
+    }
+
+    private static int spread(int hashCode) {
+
+        int hash = hashCode * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Cached value with its write and access times.
+     */
+    private static final class Entry<K, V> {
+
+        private final K key;
+        private final V value;
+        private final long writeTime;
+        private volatile long accessTime;
+
+        private Entry(K key, V value, long now) {
+
+            this.key = key;
+            this.value = value;
+            this.writeTime = now;
+            this.accessTime = now;
+        }
+    }
+
+    /**
+     * Stripe of the cache. Entries are added and removed holding the segment lock.
+     */
+    private static final class Segment<K, V> {
+
+        private final Map<K, Entry<K, V>> map = new ConcurrentHashMap<>();
+        private final int capacity;
+        private final AtomicInteger size = new AtomicInteger();
+        private int sampleStart;
+
+        private Segment(int capacity) {
+
+            this.capacity = Math.max(1, capacity);
+        }
+
+        private int nextSampleStart(int currentSize) {
+
+            if (currentSize <= EVICTION_SAMPLE_SIZE) {
+                return 0;
+            }
+            sampleStart = (sampleStart + EVICTION_SAMPLE_SIZE) % (currentSize - EVICTION_SAMPLE_SIZE + 1);
+            return sampleStart;
+        }
+    }
+
+    /**
+     * Count-min sketch estimating how often each key is requested, using four 4 bit counters per key. All counters
+     * are halved once the number of increments reaches ten times the capacity, so that the estimates favour recent
+     * use. Updates are not synchronized; a lost update only makes an estimate slightly lower.
+     */
+    private static final class FrequencySketch {
+
+        private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+                0xcbf29ce484222325L};
+        private static final long RESET_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int tableMask;
+        private final int sampleSize;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        private FrequencySketch(int capacity) {
+
+            int tableSize = Integer.highestOneBit(Math.max(16, Math.min(capacity, 1 << 24)) - 1) << 1;
+            this.table = new long[tableSize];
+            this.tableMask = tableSize - 1;
+            this.sampleSize = (int) Math.min(Integer.MAX_VALUE, 10L * capacity);
+        }
+
+        private void increment(Object key) {
+
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                added |= incrementAt(indexOf(hash, i), start + i);
+            }
+            if (added && additions.incrementAndGet() >= sampleSize) {
+                reset();
+            }
+        }
+
+        private int frequency(Object key) {
+
+            int hash = spread(key.hashCode());
+            int start = (hash & 3) << 2;
+            int frequency = Integer.MAX_VALUE;
+            for (int i = 0; i < 4; i++) {
+                int count = (int) ((table[indexOf(hash, i)] >>> ((start + i) << 2)) & 0xfL);
+                frequency = Math.min(frequency, count);
+            }
+            return frequency;
+        }
+
+        private boolean incrementAt(int index, int counter) {
+
+            int offset = counter << 2;
+            long mask = 0xfL << offset;
+            if ((table[index] & mask) != mask) {
+                table[index] += 1L << offset;
+                return true;
+            }
+            return false;
+        }
+
+        private int indexOf(int hash, int i) {
+
+            long index = (hash + SEEDS[i]) * SEEDS[i];
+            index += index >>> 32;
+            return ((int) index) & tableMask;
+        }
+
+        private synchronized void reset() {
+
+            if (additions.get() < sampleSize) {
+                return;
+            }
+            for (int i = 0; i < table.length; i++) {
+                table[i] = (table[i] >>> 1) & RESET_MASK;
+            }
+            additions.set(additions.get() / 2);
+        }
+    }
+
+    /**
+     * Daemon thread shared by all local caches to remove expired entries.
+     */
+    private static final class Sweeper {
+
+        private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fs-local-cache-sweeper");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+}
@@ -44,6 +44,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Stack;
 import java.util.stream.Collectors;
@@ -612,6 +613,54 @@ public final class FinancialServicesConfigParser {
         return source.map(String::trim).orElse("3000");
     }
 
+    /**
+     * Returns the time in seconds a retrieved JWK set is served from the JWKS registry before it is re-fetched.
+     *
+     * @return JWK set cache lifetime in seconds, default value is 300
+     */
+    public int getJWKSCacheLifetime() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.JWKS_CACHE_LIFETIME);
+        return config.map(String::trim).map(Integer::parseInt).orElse(300);
+    }
+
+    /**
+     * Returns the time in seconds before expiry at which a cached JWK set is refreshed in the background.
+     *
+     * @return JWK set refresh ahead time in seconds, default value is 30
+     */
+    public int getJWKSRefreshAheadTime() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JWKS_REFRESH_AHEAD_TIME);
+        return config.map(String::trim).map(Integer::parseInt).orElse(30);
+    }
+
+    /**
+     * Returns the minimum time in seconds between two fetches of the same JWKS endpoint. This limits the
+     * re-fetches triggered by unknown key IDs and by a failing endpoint.
+     *
+     * @return minimum JWK set refresh interval in seconds, default value is 10
+     */
+    public int getJWKSMinRefreshInterval() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JWKS_MIN_REFRESH_INTERVAL);
+        return config.map(String::trim).map(Integer::parseInt).orElse(10);
+    }
+
+    /**
+     * Returns the maximum number of JWKS endpoints held in the JWKS registry.
+     *
+     * @return maximum cached JWK set count, default value is 1000
+     */
+    public int getJWKSMaxCachedKeySets() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.JWKS_MAX_CACHED_KEY_SETS);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
     /**
      * ConnectionPool maximum connection count.
      *
@@ -636,6 +685,21 @@ public final class FinancialServicesConfigParser {
         return timeout.map(Integer::parseInt).orElse(1500);
     }
 
+    /**
+     * Setting of a named HTTP client pool, read from HTTPConnectionPool.{poolName}.{setting}.
+     *
+     * @param poolName     name of the HTTP client pool
+     * @param setting      name of the setting
+     * @param defaultValue value used if the setting is not configured
+     * @return configured value, or the default value
+     */
+    public int getHTTPClientPoolConfiguration(String poolName, String setting, int defaultValue) {
+
+        Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.HTTP_CONNECTION_POOL_TAG +
+                "." + poolName + "." + setting);
+        return config.map(String::trim).map(Integer::parseInt).orElse(defaultValue);
+    }
+
     /**
      * Returns the expiry time for cache modification.
      *
@@ -659,6 +723,31 @@ public final class FinancialServicesConfigParser {
         return expiryTime.map(Integer::parseInt).orElse(60);
     }
 
+    /**
+     * Method to get whether the financial services caches are held in the node local cache engine instead of the
+     * Carbon caching framework.
+     *
+     * @return whether the local cache engine is enabled
+     */
+    public boolean isLocalCacheEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.COMMON_LOCAL_CACHE_ENABLED);
+        return config.map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Method to get the maximum number of entries of each cache held in the local cache engine.
+     *
+     * @return maximum number of entries
+     */
+    public int getLocalCacheMaxEntries() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.COMMON_LOCAL_CACHE_MAX_ENTRIES);
+        return config.map(Integer::parseInt).orElse(10000);
+    }
+
 
     /**
      * Method to get the value Idempotency enable configuration.
@@ -748,6 +837,165 @@ public final class FinancialServicesConfigParser {
         return source.map(String::trim).orElse("false");
     }
 
+    /**
+     * Returns the time in minutes for which the consent data of an authorization session is held after the consent
+     * retrieval, until the consent is persisted.
+     *
+     * @return int Expiry time.
+     */
+    public int getAuthorizationSessionExpiryTime() {
+
+        Optional<String> expiryTime = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.AUTHORIZATION_SESSION_EXPIRY_TIME);
+        return expiryTime.map(String::trim).map(Integer::parseInt).orElse(15);
+    }
+
+    /**
+     * Returns the number of records read from the database in one batch by the consent export. This is also the
+     * JDBC fetch size of the export queries, and bounds the number of records held in memory by an export.
+     *
+     * @return int Batch size.
+     */
+    public int getConsentExportBatchSize() {
+
+        Optional<String> batchSize = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.CONSENT_EXPORT_BATCH_SIZE);
+        return batchSize.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_CONSENT_EXPORT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the maximum number of pending token revocations processed in one batch by the token revocation worker.
+     *
+     * @return int Batch size.
+     */
+    public int getTokenRevocationBatchSize() {
+
+        Optional<String> batchSize = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.TOKEN_REVOCATION_BATCH_SIZE);
+        return batchSize.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_TOKEN_REVOCATION_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the interval in seconds at which the token revocation worker polls for pending token revocations.
+     *
+     * @return int Poll interval in seconds.
+     */
+    public int getTokenRevocationPollInterval() {
+
+        Optional<String> pollInterval = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.TOKEN_REVOCATION_POLL_INTERVAL);
+        return pollInterval.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_TOKEN_REVOCATION_POLL_INTERVAL);
+    }
+
+    /**
+     * Returns the number of attempts made to revoke the tokens of a consent before the revocation is marked as failed.
+     *
+     * @return int Maximum number of attempts.
+     */
+    public int getTokenRevocationMaxAttempts() {
+
+        Optional<String> maxAttempts = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.TOKEN_REVOCATION_MAX_ATTEMPTS);
+        return maxAttempts.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_TOKEN_REVOCATION_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Returns the delay in seconds before the first retry of a failed token revocation. The delay is doubled for
+     * each further retry.
+     *
+     * @return int Retry interval in seconds.
+     */
+    public int getTokenRevocationRetryInterval() {
+
+        Optional<String> retryInterval = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.TOKEN_REVOCATION_RETRY_INTERVAL);
+        return retryInterval.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_TOKEN_REVOCATION_RETRY_INTERVAL);
+    }
+
+    /**
+     * Returns whether consent state changes are recorded in the event outbox and published to the state change
+     * listeners.
+     *
+     * @return boolean Whether state change events are enabled.
+     */
+    public boolean isStateChangeEventEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_ENABLED);
+        return config.map(String::trim).map(Boolean::parseBoolean).orElse(true);
+    }
+
+    /**
+     * Returns the maximum number of consent state change events published in one batch by the event relay.
+     *
+     * @return int Batch size.
+     */
+    public int getStateChangeEventBatchSize() {
+
+        Optional<String> batchSize = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_BATCH_SIZE);
+        return batchSize.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_STATE_CHANGE_EVENT_BATCH_SIZE);
+    }
+
+    /**
+     * Returns the interval in seconds at which the event relay polls for pending consent state change events.
+     *
+     * @return int Poll interval in seconds.
+     */
+    public int getStateChangeEventPollInterval() {
+
+        Optional<String> pollInterval = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_POLL_INTERVAL);
+        return pollInterval.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_STATE_CHANGE_EVENT_POLL_INTERVAL);
+    }
+
+    /**
+     * Returns the number of attempts made to publish a consent state change event before it is marked as failed.
+     *
+     * @return int Maximum number of attempts.
+     */
+    public int getStateChangeEventMaxAttempts() {
+
+        Optional<String> maxAttempts = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_MAX_ATTEMPTS);
+        return maxAttempts.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_STATE_CHANGE_EVENT_MAX_ATTEMPTS);
+    }
+
+    /**
+     * Returns the delay in seconds before the first retry of a failed consent state change event. The delay is
+     * doubled for each further retry.
+     *
+     * @return int Retry interval in seconds.
+     */
+    public int getStateChangeEventRetryInterval() {
+
+        Optional<String> retryInterval = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_RETRY_INTERVAL);
+        return retryInterval.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_STATE_CHANGE_EVENT_RETRY_INTERVAL);
+    }
+
+    /**
+     * Returns the fully qualified class name of the broker adapter that consent state change events are published
+     * to in addition to the in-process listeners.
+     *
+     * @return String Broker adapter class name, or an empty string if no broker adapter is configured.
+     */
+    public String getStateChangeEventBrokerAdapter() {
+
+        Optional<String> source = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.STATE_CHANGE_EVENT_BROKER_ADAPTER);
+        return source.map(String::trim).orElse("");
+    }
+
     public String getConsentValidationConfig() {
 
         Optional<String> source = getConfigurationFromKeyAsString(
@@ -781,6 +1029,18 @@ public final class FinancialServicesConfigParser {
         return config.map(Integer::parseInt).orElse(5);
     }
 
+    /**
+     * Method to get the interval at which the key used to sign event notifications is reloaded from the keystore.
+     *
+     * @return signing key refresh interval in seconds
+     */
+    public long getEventNotificationSigningKeyRefreshInterval() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SIGNING_KEY_REFRESH_INTERVAL);
+        return config.map(Long::parseLong).orElse(300L);
+    }
+
     public boolean isSubClaimIncluded() {
 
         Optional<String> config = getConfigurationFromKeyAsString(FinancialServicesConstants.IS_SUB_CLAIM_INCLUDED);
@@ -892,6 +1152,154 @@ public final class FinancialServicesConfigParser {
         return config.map(Integer::parseInt).orElse(20);
     }
 
+    /**
+     * Method to get the capacity of the realtime event notification queue. Producers wait while the queue is full.
+     *
+     * @return integer maximum number of queued realtime event notifications
+     */
+    public int getRealtimeEventNotificationQueueCapacity() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_QUEUE_CAPACITY);
+        return config.map(Integer::parseInt).orElse(10000);
+    }
+
+    /**
+     * Method to get the maximum number of concurrent realtime event notification requests to a callback host.
+     *
+     * @return integer maximum number of concurrent requests per callback host
+     */
+    public int getRealtimeEventNotificationMaxConcurrentRequestsPerHost() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.MAX_CONCURRENT_REQUESTS_PER_HOST);
+        return config.map(Integer::parseInt).orElse(5);
+    }
+
+    /**
+     * Method to get the number of consecutive failed realtime event notification requests to a callback host
+     * after which the host is suspended.
+     *
+     * @return integer consecutive failure count suspending a callback host
+     */
+    public int getRealtimeEventNotificationHostFailureThreshold() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_FAILURE_THRESHOLD);
+        return config.map(Integer::parseInt).orElse(5);
+    }
+
+    /**
+     * Method to get the time for which no realtime event notifications are sent to a suspended callback host.
+     *
+     * @return integer suspension time in seconds
+     */
+    public int getRealtimeEventNotificationHostSuspensionTimeInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.HOST_SUSPENSION_TIME_IN_SECONDS);
+        return config.map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Method to determine whether realtime event notifications are sent using virtual threads. Virtual threads
+     * are used only if the Java runtime supports them.
+     *
+     * @return boolean value indicating the state
+     */
+    public boolean isRealtimeEventNotificationVirtualThreadsEnabled() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_USE_VIRTUAL_THREADS);
+        return config.map(Boolean::parseBoolean).orElse(false);
+    }
+
+    /**
+     * Method to get the number of OPEN realtime event notifications loaded per database query on server start up.
+     *
+     * @return integer recovery batch size
+     */
+    public int getRealtimeEventNotificationRecoveryBatchSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_RECOVERY_BATCH_SIZE);
+        return config.map(Integer::parseInt).orElse(500);
+    }
+
+    /**
+     * Method to get the number of threads generating realtime event notifications for newly created events.
+     *
+     * @return integer producer thread pool size
+     */
+    public int getRealtimeEventNotificationProducerThreadPoolSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_PRODUCER_THREAD_POOL_SIZE);
+        return config.map(Integer::parseInt).orElse(4);
+    }
+
+    /**
+     * Method to get the maximum number of newly created notifications waiting to be added to the realtime event
+     * notification queue. Further notifications are left in the OPEN state in the database.
+     *
+     * @return integer producer queue capacity
+     */
+    public int getRealtimeEventNotificationProducerQueueCapacity() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_PRODUCER_QUEUE_CAPACITY);
+        return config.map(Integer::parseInt).orElse(10000);
+    }
+
+    /**
+     * Method to get the time for which notifications of a client are collected to be processed together.
+     *
+     * @return long coalesce window in milliseconds
+     */
+    public long getRealtimeEventNotificationProducerCoalesceWindowInMillis() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_PRODUCER_COALESCE_WINDOW);
+        return config.map(Long::parseLong).orElse(50L);
+    }
+
+    /**
+     * Method to get the maximum time a long polling request waits for new event notifications.
+     *
+     * @return integer maximum wait time in seconds
+     */
+    public int getLongPollingMaxWaitTimeInSeconds() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.LONG_POLLING_MAX_WAIT_TIME_IN_SECONDS);
+        return config.map(Integer::parseInt).orElse(30);
+    }
+
+    /**
+     * Method to get the maximum number of long polling requests waiting at the same time in a node.
+     *
+     * @return integer maximum number of waiting long polling requests
+     */
+    public int getLongPollingMaxConcurrentRequests() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.LONG_POLLING_MAX_CONCURRENT_REQUESTS);
+        return config.map(Integer::parseInt).orElse(1000);
+    }
+
+    /**
+     * Method to get the maximum number of long polling requests of a single client waiting at the same time
+     * in a node.
+     *
+     * @return integer maximum number of waiting long polling requests per client
+     */
+    public int getLongPollingMaxConcurrentRequestsPerClient() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.LONG_POLLING_MAX_CONCURRENT_REQUESTS_PER_CLIENT);
+        return config.map(Integer::parseInt).orElse(5);
+    }
+
     /**
      * Method to get EVENT_NOTIFICATION_GENERATOR config for event notifications.
      *
@@ -996,6 +1404,126 @@ public final class FinancialServicesConfigParser {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Method to get the number of consecutive failures after which calls to a service extension are stopped.
+     *
+     * @return failure threshold, default value is 5. Zero disables the circuit breaker
+     */
+    public int getServiceExtensionsCircuitBreakerFailureThreshold() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_CIRCUIT_BREAKER_FAILURE_THRESHOLD);
+        return config.map(String::trim).map(Integer::parseInt).orElse(5);
+    }
+
+    /**
+     * Method to get the time in seconds for which calls to a failing service extension are stopped.
+     *
+     * @return open duration in seconds, default value is 30
+     */
+    public int getServiceExtensionsCircuitBreakerOpenDuration() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_CIRCUIT_BREAKER_OPEN_DURATION);
+        return config.map(String::trim).map(Integer::parseInt).orElse(30);
+    }
+
+    /**
+     * Method to get the initial interval in milliseconds between retries of a service extension call.
+     *
+     * @return initial backoff interval in milliseconds, default value is 100
+     */
+    public int getServiceExtensionsBackoffInitialInterval() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_BACKOFF_INITIAL_INTERVAL);
+        return config.map(String::trim).map(Integer::parseInt).orElse(100);
+    }
+
+    /**
+     * Method to get the maximum interval in milliseconds between retries of a service extension call.
+     *
+     * @return maximum backoff interval in milliseconds, default value is 2000
+     */
+    public int getServiceExtensionsBackoffMaxInterval() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_BACKOFF_MAX_INTERVAL);
+        return config.map(String::trim).map(Integer::parseInt).orElse(2000);
+    }
+
+    /**
+     * Method to get the latency percentile after which a hedged service extension call is sent.
+     *
+     * @return latency percentile, default value is 95
+     */
+    public int getServiceExtensionsHedgingPercentile() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_HEDGING_PERCENTILE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(95);
+    }
+
+    /**
+     * Method to get the service extension types for which hedged calls are sent.
+     *
+     * @return List of service extensions
+     */
+    public List<ServiceExtensionTypeEnum> getServiceExtensionsHedgedTypes() {
+
+        return getServiceExtensionTypes(FinancialServicesConstants.SERVICE_EXTENSIONS_HEDGING_EXTENSION);
+    }
+
+    /**
+     * Method to get the time in seconds for which service extension responses are cached.
+     *
+     * @return time to live in seconds, default value is 60
+     */
+    public int getServiceExtensionsResponseCacheTimeToLive() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_RESPONSE_CACHE_TIME_TO_LIVE);
+        return config.map(String::trim).map(Integer::parseInt).orElse(60);
+    }
+
+    /**
+     * Method to get the maximum number of cached responses of each service extension type.
+     *
+     * @return maximum cached responses, default value is 1000
+     */
+    public int getServiceExtensionsResponseCacheMaxEntries() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.SERVICE_EXTENSIONS_RESPONSE_CACHE_MAX_ENTRIES);
+        return config.map(String::trim).map(Integer::parseInt).orElse(1000);
+    }
+
+    /**
+     * Method to get the service extension types for which responses are cached.
+     *
+     * @return List of service extensions
+     */
+    public List<ServiceExtensionTypeEnum> getServiceExtensionsCachedTypes() {
+
+        return getServiceExtensionTypes(FinancialServicesConstants.SERVICE_EXTENSIONS_RESPONSE_CACHE_EXTENSION);
+    }
+
+    private List<ServiceExtensionTypeEnum> getServiceExtensionTypes(String key) {
+
+        Object serviceExtensionTypesObj = configuration.get(key);
+        if (serviceExtensionTypesObj == null) {
+            return Collections.emptyList();
+        }
+        List<String> serviceExtensionTypes = serviceExtensionTypesObj instanceof List<?>
+                ? (List<String>) serviceExtensionTypesObj
+                : Collections.singletonList((String) serviceExtensionTypesObj);
+
+        return serviceExtensionTypes.stream()
+                .map(ServiceExtensionTypeEnum::fromString)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Method to get service extensions endpoint security type.
      *
@@ -1175,6 +1703,30 @@ public final class FinancialServicesConfigParser {
         return config.map(String::trim).orElse(FinancialServicesConstants.DEFAULT_MIDNIGHT_CRON);
     }
 
+    /**
+     * Method to get the number of consents expired in a single transaction by the periodical consent expiration job.
+     * @return consent expiration chunk size
+     */
+    public int getConsentExpiryChunkSize() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.CONSENT_PERIODICAL_EXPIRATION_CHUNK_SIZE);
+        return config.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_CONSENT_EXPIRATION_CHUNK_SIZE);
+    }
+
+    /**
+     * Method to get the number of consent chunks expired in parallel by the periodical consent expiration job.
+     * @return consent expiration parallelism
+     */
+    public int getConsentExpiryParallelism() {
+
+        Optional<String> config = getConfigurationFromKeyAsString(
+                FinancialServicesConstants.CONSENT_PERIODICAL_EXPIRATION_PARALLELISM);
+        return config.map(String::trim).map(Integer::parseInt)
+                .orElse(FinancialServicesConstants.DEFAULT_CONSENT_EXPIRATION_PARALLELISM);
+    }
+
     /**
      * Returns the JSON path to extract the consent ID from the request object.
      *
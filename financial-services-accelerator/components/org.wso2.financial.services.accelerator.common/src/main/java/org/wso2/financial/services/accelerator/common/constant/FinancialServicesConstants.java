@@ -35,14 +35,32 @@ public class FinancialServicesConstants {
     public static final String EXECUTOR_CONFIG_TAG = "Executor";
     public static final String COMMON_IDENTITY_CACHE_ACCESS_EXPIRY = "Common.Identity.Cache.CacheAccessExpiry";
     public static final String COMMON_IDENTITY_CACHE_MODIFY_EXPIRY = "Common.Identity.Cache.CacheModifiedExpiry";
+    public static final String COMMON_LOCAL_CACHE_ENABLED = "Common.LocalCache.Enabled";
+    public static final String COMMON_LOCAL_CACHE_MAX_ENTRIES = "Common.LocalCache.MaxEntries";
     public static final String JWKS_CONNECTION_TIMEOUT = "JWKS-Retriever.ConnectionTimeout";
     public static final String JWKS_READ_TIMEOUT = "JWKS-Retriever.ReadTimeout";
+    public static final String JWKS_CACHE_LIFETIME = "JWKS-Retriever.CacheLifetime";
+    public static final String JWKS_REFRESH_AHEAD_TIME = "JWKS-Retriever.RefreshAheadTime";
+    public static final String JWKS_MIN_REFRESH_INTERVAL = "JWKS-Retriever.MinRefreshInterval";
+    public static final String JWKS_MAX_CACHED_KEY_SETS = "JWKS-Retriever.MaxCachedKeySets";
     public static final String JDBC_PERSISTENCE_CONFIG = "JDBCPersistenceManager.DataSource.Name";
     public static final String DB_CONNECTION_VERIFICATION_TIMEOUT =
             "JDBCPersistenceManager.ConnectionVerificationTimeout";
     public static final String CONSENT_CONFIG_TAG = "Consent";
     public static final String CONNECTION_POOL_MAX_CONNECTIONS = "HTTPConnectionPool.MaxConnections";
     public static final String CONNECTION_POOL_MAX_CONNECTIONS_PER_ROUTE = "HTTPConnectionPool.MaxConnectionsPerRoute";
+    public static final String HTTP_CONNECTION_POOL_TAG = "HTTPConnectionPool";
+    public static final String HTTP_CLIENT_POOL_CONSENT_VALIDATION = "ConsentValidation";
+    public static final String HTTP_CLIENT_POOL_SERVICE_EXTENSION = "ServiceExtension";
+    public static final String HTTP_CLIENT_POOL_NOTIFICATION_DELIVERY = "NotificationDelivery";
+    public static final String HTTP_CLIENT_POOL_MAX_CONNECTIONS = "MaxConnections";
+    public static final String HTTP_CLIENT_POOL_MAX_CONNECTIONS_PER_ROUTE = "MaxConnectionsPerRoute";
+    public static final String HTTP_CLIENT_POOL_LEASE_TIMEOUT = "LeaseTimeout";
+    public static final String HTTP_CLIENT_POOL_CONNECT_TIMEOUT = "ConnectTimeout";
+    public static final String HTTP_CLIENT_POOL_SOCKET_TIMEOUT = "SocketTimeout";
+    public static final String HTTP_CLIENT_POOL_IDLE_TIMEOUT = "IdleTimeout";
+    public static final String HTTP_CLIENT_POOL_KEEP_ALIVE = "KeepAlive";
+    public static final String HTTP_CLIENT_POOL_ASYNC_THREADS = "AsyncThreads";
     public static final String IS_PSU_FEDERATED = "PSUFederatedAuthentication.Enabled";
     public static final String PSU_FEDERATED_IDP_NAME = "PSUFederatedAuthentication.IDPName";
 
@@ -58,10 +76,32 @@ public class FinancialServicesConstants {
     public static final String STEP_CONFIG_TAG = "Step";
     public static final String CONSENT_JWT_PAYLOAD_VALIDATION = "Consent.Validation.JWTPayloadValidation";
     public static final String SIGNATURE_ALIAS = "Consent.Validation.RequestSignatureAlias";
+    public static final String SIGNATURE_SHARED_SECRET = "Consent.Validation.RequestSignatureSharedSecret";
     public static final String CONSENT_VALIDATOR = "Consent.Validation.Validator";
     public static final String CONSENT_RESPONSE_PAYLOAD_SIGNING = "Consent.Validation.ResponsePayloadSigning.Enabled";
     public static final String ADMIN_HANDLER = "Consent.AdminHandler";
     public static final String PRESERVE_CONSENT = "Consent.PreserveConsentLink";
+    public static final String AUTHORIZATION_SESSION_EXPIRY_TIME = "Consent.AuthorizationSession.ExpiryTime";
+    public static final String CONSENT_EXPORT_BATCH_SIZE = "Consent.Export.BatchSize";
+    public static final int DEFAULT_CONSENT_EXPORT_BATCH_SIZE = 500;
+    public static final String TOKEN_REVOCATION_BATCH_SIZE = "Consent.TokenRevocation.BatchSize";
+    public static final String TOKEN_REVOCATION_POLL_INTERVAL = "Consent.TokenRevocation.PollInterval";
+    public static final String TOKEN_REVOCATION_MAX_ATTEMPTS = "Consent.TokenRevocation.MaxAttempts";
+    public static final String TOKEN_REVOCATION_RETRY_INTERVAL = "Consent.TokenRevocation.RetryInterval";
+    public static final int DEFAULT_TOKEN_REVOCATION_BATCH_SIZE = 100;
+    public static final int DEFAULT_TOKEN_REVOCATION_POLL_INTERVAL = 30;
+    public static final int DEFAULT_TOKEN_REVOCATION_MAX_ATTEMPTS = 5;
+    public static final int DEFAULT_TOKEN_REVOCATION_RETRY_INTERVAL = 30;
+    public static final String STATE_CHANGE_EVENT_ENABLED = "Consent.StateChangeEvent.Enabled";
+    public static final String STATE_CHANGE_EVENT_BATCH_SIZE = "Consent.StateChangeEvent.BatchSize";
+    public static final String STATE_CHANGE_EVENT_POLL_INTERVAL = "Consent.StateChangeEvent.PollInterval";
+    public static final String STATE_CHANGE_EVENT_MAX_ATTEMPTS = "Consent.StateChangeEvent.MaxAttempts";
+    public static final String STATE_CHANGE_EVENT_RETRY_INTERVAL = "Consent.StateChangeEvent.RetryInterval";
+    public static final String STATE_CHANGE_EVENT_BROKER_ADAPTER = "Consent.StateChangeEvent.BrokerAdapter";
+    public static final int DEFAULT_STATE_CHANGE_EVENT_BATCH_SIZE = 100;
+    public static final int DEFAULT_STATE_CHANGE_EVENT_POLL_INTERVAL = 5;
+    public static final int DEFAULT_STATE_CHANGE_EVENT_MAX_ATTEMPTS = 5;
+    public static final int DEFAULT_STATE_CHANGE_EVENT_RETRY_INTERVAL = 30;
     public static final String ADMIN_USERNAME = "Admin.Username";
     public static final String ADMIN_PASSWORD = "Admin.Password";
     public static final String MAX_INSTRUCTED_AMOUNT = "Consent.Payments.MaximumInstructedAmount";
@@ -71,6 +111,11 @@ public class FinancialServicesConstants {
     public static final String IS_CONSENT_AMENDMENT_HISTORY_ENABLED = "Consent.AmendmentHistory.Enabled";
     public static final String CONSENT_PERIODICAL_EXPIRATION_CRON = "Consent.PeriodicalExpiration.CronValue";
     public static final String IS_CONSENT_PERIODICAL_EXPIRATION_ENABLED = "Consent.PeriodicalExpiration.Enabled";
+    public static final String CONSENT_PERIODICAL_EXPIRATION_CHUNK_SIZE = "Consent.PeriodicalExpiration.ChunkSize";
+    public static final String CONSENT_PERIODICAL_EXPIRATION_PARALLELISM =
+            "Consent.PeriodicalExpiration.Parallelism";
+    public static final int DEFAULT_CONSENT_EXPIRATION_CHUNK_SIZE = 500;
+    public static final int DEFAULT_CONSENT_EXPIRATION_PARALLELISM = 2;
 
     public static final String AUTH_SERVLET_EXTENSION = "Identity.AuthenticationWebApp.ServletExtension";
     public static final String REQUEST_VALIDATOR = "Identity.Extensions.RequestObjectValidator";
@@ -116,9 +161,25 @@ public class FinancialServicesConstants {
 
     public static final String PUBLISHER_HOSTNAME = "PublisherURL";
     public static final String REQUEST_ROUTER = "Gateway.RequestRouter";
+    public static final String EXECUTOR_CONCURRENCY_ENABLED = "Gateway.ExecutorPipeline.ConcurrentExecution.Enabled";
+    public static final String EXECUTOR_CONCURRENCY_POOL_SIZE =
+            "Gateway.ExecutorPipeline.ConcurrentExecution.ThreadPoolSize";
+    public static final String EXECUTOR_CONCURRENCY_VIRTUAL_THREADS =
+            "Gateway.ExecutorPipeline.ConcurrentExecution.UseVirtualThreads";
     public static final String GATEWAY_CACHE_EXPIRY = "Gateway.Cache.GatewayCache.CacheAccessExpiry";
     public static final String GATEWAY_CACHE_MODIFIED_EXPIRY = "Gateway.Cache.GatewayCache.CacheModifiedExpiry";
+    public static final String CONSENT_VALIDATION_CACHE_ENABLED = "Gateway.Cache.ConsentValidationCache.Enabled";
+    public static final String CONSENT_VALIDATION_CACHE_TTL = "Gateway.Cache.ConsentValidationCache.TimeToLive";
+    public static final String CONSENT_VALIDATION_CACHE_MAX_ENTRIES =
+            "Gateway.Cache.ConsentValidationCache.MaxEntries";
+    public static final String API_ROUTE_INDEX_REFRESH_INTERVAL = "Gateway.APIRouteIndex.RefreshInterval";
+    public static final String MESSAGE_CONTEXT_STORE_TIME_TO_LIVE = "Gateway.MessageContextStore.TimeToLive";
+    public static final String MESSAGE_CONTEXT_STORE_MAX_ENTRIES = "Gateway.MessageContextStore.MaxEntries";
     public static final String CONSENT_VALIDATION_ENDPOINT = "Gateway.ConsentValidationEndpoint";
+    public static final String CONSENT_VALIDATION_SIGNING_ALG = "Gateway.ConsentValidationSigning.Algorithm";
+    public static final String CONSENT_VALIDATION_SIGNING_KEY_ALIAS = "Gateway.ConsentValidationSigning.KeyAlias";
+    public static final String CONSENT_VALIDATION_SIGNING_SECRET = "Gateway.ConsentValidationSigning.SharedSecret";
+    public static final String CONSENT_VALIDATION_SIGNING_JWK = "Gateway.ConsentValidationSigning.JWKLocation";
     public static final String VALIDATE_JWT = "Gateway.DCR.RequestJWTValidation";
     public static final String JWKS_ENDPOINT_NAME = "Gateway.DCR.JWKSEndpointName";
     public static final String SSA_CLIENT_NAME = "Gateway.DCR.SSAClientName";
@@ -130,6 +191,8 @@ public class FinancialServicesConstants {
             "EventNotifications.NotificationGeneration.NotificationGenerator";
     public static final String TOKEN_ISSUER = "EventNotifications.NotificationGeneration.TokenIssuer";
     public static final String MAX_SETS_TO_RETURN = "EventNotifications.NotificationGeneration.NumberOfSetsToReturn";
+    public static final String SIGNING_KEY_REFRESH_INTERVAL =
+            "EventNotifications.NotificationGeneration.SigningKeyRefreshIntervalInSeconds";
     public static final String SIGNING_ALIAS = "EventNotifications.SigningAlias";
     public static final String IS_SUB_CLAIM_INCLUDED = "EventNotifications.PollingResponseParams.IsSubClaimAvailable";
     public static final String IS_TXN_CLAIM_INCLUDED = "EventNotifications.PollingResponseParams.IsTxnClaimAvailable";
@@ -154,6 +217,29 @@ public class FinancialServicesConstants {
             "EventNotifications.Realtime.EventNotificationThreadPoolSize";
     public static final String REALTIME_EVENT_NOTIFICATION_REQUEST_GENERATOR =
             "EventNotifications.Realtime.RequestGenerator";
+    public static final String REALTIME_EVENT_NOTIFICATION_QUEUE_CAPACITY =
+            "EventNotifications.Realtime.QueueCapacity";
+    public static final String MAX_CONCURRENT_REQUESTS_PER_HOST =
+            "EventNotifications.Realtime.MaxConcurrentRequestsPerHost";
+    public static final String HOST_FAILURE_THRESHOLD = "EventNotifications.Realtime.HostFailureThreshold";
+    public static final String HOST_SUSPENSION_TIME_IN_SECONDS =
+            "EventNotifications.Realtime.HostSuspensionTimeInSeconds";
+    public static final String REALTIME_EVENT_NOTIFICATION_USE_VIRTUAL_THREADS =
+            "EventNotifications.Realtime.UseVirtualThreads";
+    public static final String REALTIME_EVENT_NOTIFICATION_RECOVERY_BATCH_SIZE =
+            "EventNotifications.Realtime.RecoveryBatchSize";
+    public static final String REALTIME_EVENT_NOTIFICATION_PRODUCER_THREAD_POOL_SIZE =
+            "EventNotifications.Realtime.ProducerThreadPoolSize";
+    public static final String REALTIME_EVENT_NOTIFICATION_PRODUCER_QUEUE_CAPACITY =
+            "EventNotifications.Realtime.ProducerQueueCapacity";
+    public static final String REALTIME_EVENT_NOTIFICATION_PRODUCER_COALESCE_WINDOW =
+            "EventNotifications.Realtime.ProducerCoalesceWindowInMillis";
+    public static final String LONG_POLLING_MAX_WAIT_TIME_IN_SECONDS =
+            "EventNotifications.LongPolling.MaxWaitTimeInSeconds";
+    public static final String LONG_POLLING_MAX_CONCURRENT_REQUESTS =
+            "EventNotifications.LongPolling.MaxConcurrentRequests";
+    public static final String LONG_POLLING_MAX_CONCURRENT_REQUESTS_PER_CLIENT =
+            "EventNotifications.LongPolling.MaxConcurrentRequestsPerClient";
 
     // Service Extensions Constants
     public static final String SERVICE_EXTENSIONS_ENDPOINT_ENABLED = "ExtensionsEndpoint.Enable";
@@ -168,6 +254,22 @@ public class FinancialServicesConstants {
     public static final String SERVICE_EXTENSIONS_BASIC_AUTH_USERNAME = "ExtensionsEndpoint.Security.Username";
     public static final String SERVICE_EXTENSIONS_BASIC_AUTH_PASSWORD = "ExtensionsEndpoint.Security.Password";
     public static final String SERVICE_EXTENSIONS_OAUTH2_TOKEN = "ExtensionsEndpoint.Security.Token";
+    public static final String SERVICE_EXTENSIONS_CIRCUIT_BREAKER_FAILURE_THRESHOLD =
+            "ExtensionsEndpoint.CircuitBreaker.FailureThreshold";
+    public static final String SERVICE_EXTENSIONS_CIRCUIT_BREAKER_OPEN_DURATION =
+            "ExtensionsEndpoint.CircuitBreaker.OpenDuration";
+    public static final String SERVICE_EXTENSIONS_BACKOFF_INITIAL_INTERVAL =
+            "ExtensionsEndpoint.Backoff.InitialInterval";
+    public static final String SERVICE_EXTENSIONS_BACKOFF_MAX_INTERVAL = "ExtensionsEndpoint.Backoff.MaxInterval";
+    public static final String SERVICE_EXTENSIONS_HEDGING_PERCENTILE = "ExtensionsEndpoint.Hedging.Percentile";
+    public static final String SERVICE_EXTENSIONS_HEDGING_EXTENSION =
+            "ExtensionsEndpoint.Hedging.AllowedExtensions.AllowedExtension";
+    public static final String SERVICE_EXTENSIONS_RESPONSE_CACHE_TIME_TO_LIVE =
+            "ExtensionsEndpoint.ResponseCache.TimeToLive";
+    public static final String SERVICE_EXTENSIONS_RESPONSE_CACHE_MAX_ENTRIES =
+            "ExtensionsEndpoint.ResponseCache.MaxEntries";
+    public static final String SERVICE_EXTENSIONS_RESPONSE_CACHE_EXTENSION =
+            "ExtensionsEndpoint.ResponseCache.AllowedExtensions.AllowedExtension";
     public static final String CONSENT_TYPE = "consentType";
     public static final String ERROR_DESCRIPTION = "errorDescription";
     public static final String DEFAULT_ERROR_DESCRIPTION = "Unexpected error occurred";
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.extension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit breaker which stops calls to an endpoint after consecutive failures.
+ * <p>
+ * Once the failure threshold is reached the circuit opens and calls are rejected until the open duration elapses.
+ * A single trial call is then let through. The circuit closes if the trial succeeds and opens again if it fails.
+ * A failure threshold of zero or less disables the circuit breaker.
+ */
+public class CircuitBreaker {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier ticker;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedTime;
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit) {
+
+        this(failureThreshold, openDuration, unit, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, long openDuration, TimeUnit unit, LongSupplier ticker) {
+
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = unit.toNanos(Math.max(0, openDuration));
+        this.ticker = ticker;
+    }
+
+    /**
+     * Check whether a call is allowed. Moves an open circuit to half open once the open duration has elapsed.
+     *
+     * @return true if the call can be made
+     */
+    public synchronized boolean allowRequest() {
+
+        if (failureThreshold <= 0 || state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.OPEN && ticker.getAsLong() - openedTime >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        // Either open, or half open with the trial call still in progress
+        return false;
+    }
+
+    /**
+     * Record a successful call.
+     */
+    public synchronized void recordSuccess() {
+
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    /**
+     * Record a failed call.
+     *
+     * @return true if the circuit was opened by this failure
+     */
+    public synchronized boolean recordFailure() {
+
+        if (failureThreshold <= 0) {
+            return false;
+        }
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedTime = ticker.getAsLong();
+            return true;
+        }
+        return false;
+    }
+
+    public synchronized State getState() {
+
+        return state;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.extension;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histogram of latencies with fixed millisecond buckets.
+ * <p>
+ * Recording a latency increments a single counter, so the histogram can be updated concurrently without locks.
+ * Percentiles are interpolated within the bucket they fall in.
+ */
+public class LatencyHistogram {
+
+    private static final long[] BUCKET_UPPER_BOUNDS_MILLIS =
+            {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    // One more bucket than the bounds, which holds the latencies above the last bound
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MILLIS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong maxMillis = new AtomicLong();
+
+    /**
+     * Record a latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public void record(long latencyNanos) {
+
+        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, latencyNanos));
+        int bucket = 0;
+        while (bucket < BUCKET_UPPER_BOUNDS_MILLIS.length && latencyMillis > BUCKET_UPPER_BOUNDS_MILLIS[bucket]) {
+            bucket++;
+        }
+        bucketCounts.incrementAndGet(bucket);
+        count.incrementAndGet();
+        maxMillis.accumulateAndGet(latencyMillis, Math::max);
+    }
+
+    /**
+     * Number of recorded latencies.
+     *
+     * @return count
+     */
+    public long getCount() {
+
+        return count.get();
+    }
+
+    /**
+     * Latency below which the given percentage of the recorded latencies fall.
+     *
+     * @param percentile percentile between 0 and 100
+     * @return latency in milliseconds, or 0 if no latency is recorded
+     */
+    public long getPercentileMillis(double percentile) {
+
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        double rank = Math.min(100, Math.max(0, percentile)) / 100 * total;
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            if (counts[bucket] == 0 || seen + counts[bucket] < rank) {
+                seen += counts[bucket];
+                continue;
+            }
+            long lowerBound = bucket == 0 ? 0 : BUCKET_UPPER_BOUNDS_MILLIS[bucket - 1];
+            long upperBound = bucket < BUCKET_UPPER_BOUNDS_MILLIS.length ?
+                    BUCKET_UPPER_BOUNDS_MILLIS[bucket] : Math.max(lowerBound, maxMillis.get());
+            return lowerBound + Math.round((upperBound - lowerBound) * (rank - seen) / counts[bucket]);
+        }
+        return maxMillis.get();
+    }
+
+    /**
+     * Highest recorded latency.
+     *
+     * @return latency in milliseconds
+     */
+    public long getMaxMillis() {
+
+        return maxMillis.get();
+    }
+
+    /**
+     * Upper bounds of the buckets in milliseconds. The last bucket, which has no upper bound, is not included.
+     *
+     * @return bucket upper bounds
+     */
+    public static long[] getBucketUpperBoundsMillis() {
+
+        return BUCKET_UPPER_BOUNDS_MILLIS.clone();
+    }
+
+    /**
+     * Number of latencies recorded in each bucket.
+     *
+     * @return bucket counts, with one more element than the bucket upper bounds
+     */
+    public long[] getBucketCounts() {
+
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        return counts;
+    }
+}
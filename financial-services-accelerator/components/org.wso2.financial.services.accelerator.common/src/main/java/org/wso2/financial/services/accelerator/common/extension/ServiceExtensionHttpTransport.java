@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.extension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.StringEntity;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.ErrorConstants;
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceResponse;
+import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
+import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.common.util.ServiceExtensionUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Sends service extension calls to the configured extensions endpoint over HTTP.
+ * <p>
+ * The endpoint, timeouts and credentials are read from the configuration once, when the transport is created.
+ */
+public class ServiceExtensionHttpTransport implements ServiceExtensionInvoker.Transport {
+
+    private static final Log log = LogFactory.getLog(ServiceExtensionHttpTransport.class);
+
+    private final String baseUrl;
+    private final RequestConfig requestConfig;
+    private final String securityType;
+    private final String authHeader;
+
+    public ServiceExtensionHttpTransport(FinancialServicesConfigParser configParser) {
+
+        this.baseUrl = configParser.getServiceExtensionsEndpointBaseUrl();
+        int connectTimeoutMillis = configParser.getServiceExtensionsEndpointConnectTimeoutInSeconds() * 1000;
+        this.requestConfig = RequestConfig.custom()
+                .setSocketTimeout(configParser.getServiceExtensionsEndpointReadTimeoutInSeconds() * 1000)
+                .setConnectTimeout(connectTimeoutMillis)
+                .setConnectionRequestTimeout(connectTimeoutMillis)
+                .build();
+        this.securityType = configParser.getServiceExtensionsEndpointSecurityType();
+        if (FinancialServicesConstants.BASIC_AUTH.equals(securityType)) {
+            this.authHeader = ServiceExtensionUtils.getBasicAuthHeader(
+                    configParser.getServiceExtensionsEndpointSecurityBasicAuthUsername(),
+                    configParser.getServiceExtensionsEndpointSecurityBasicAuthPassword());
+        } else if (FinancialServicesConstants.OAUTH2.equals(securityType)) {
+            this.authHeader = FinancialServicesConstants.BEARER_TAG +
+                    configParser.getServiceExtensionsEndpointSecurityOauth2Token();
+        } else {
+            this.authHeader = null;
+        }
+    }
+
+    @Override
+    public String send(ServiceExtensionTypeEnum serviceType, String payload)
+            throws IOException, FinancialServicesException {
+
+        if (authHeader == null) {
+            throw new FinancialServicesException("Invalid security type for service extensions endpoint");
+        }
+        String constructedUrl = baseUrl + "/" + serviceType.toString().replaceAll("_", "-");
+        String sanitizedUrl = constructedUrl.replaceAll("[\r\n]", "");
+        if (log.isDebugEnabled()) {
+            log.debug("Invoking external service [requestUrl=" + sanitizedUrl + "]");
+        }
+
+        HttpPost httpPost = new HttpPost(constructedUrl);
+        httpPost.setEntity(new StringEntity(payload, StandardCharsets.UTF_8));
+        httpPost.setHeader(FinancialServicesConstants.CONTENT_TYPE_TAG, FinancialServicesConstants.JSON_CONTENT_TYPE);
+        httpPost.setHeader(FinancialServicesConstants.ACCEPT, FinancialServicesConstants.JSON_CONTENT_TYPE);
+        httpPost.setHeader(FinancialServicesConstants.AUTH_HEADER, authHeader);
+        httpPost.setConfig(requestConfig);
+
+        try (CloseableHttpResponse response = HTTPClientUtils.getHttpClientPool(
+                FinancialServicesConstants.HTTP_CLIENT_POOL_SERVICE_EXTENSION).execute(httpPost)) {
+            HttpEntity entity = response.getEntity();
+            if (entity == null || entity.getContent() == null) {
+                throw new FinancialServicesException("No response content received from external service");
+            }
+
+            String responseContent = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
+            int statusCode = response.getStatusLine().getStatusCode();
+
+            if (log.isDebugEnabled()) {
+                log.debug("External service response received [requestUrl=" + sanitizedUrl + ", statusCode=" +
+                        statusCode + "]");
+            }
+
+            if (statusCode != 200) {
+                log.error(String.format(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR +
+                        "Status code: %s, Error: %s", statusCode, responseContent.replaceAll("[\r\n]", "")));
+                if (statusCode == 400 || statusCode == 500) {
+                    // The extension rejected the request with an error description
+                    ExternalServiceResponse externalServiceResponse;
+                    try {
+                        externalServiceResponse = ServiceExtensionUtils.mapResponse(responseContent,
+                                ExternalServiceResponse.class);
+                    } catch (JsonProcessingException e) {
+                        throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+                    }
+                    throw new FinancialServicesException(externalServiceResponse.getData()
+                            .path(FinancialServicesConstants.ERROR_DESCRIPTION)
+                            .asText(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR));
+                }
+                throw new HttpResponseException(statusCode, ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR);
+            }
+            return responseContent;
+        }
+    }
+}
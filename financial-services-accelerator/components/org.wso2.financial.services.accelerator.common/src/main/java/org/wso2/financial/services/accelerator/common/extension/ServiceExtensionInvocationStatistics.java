@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.extension;
+
+import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
+
+import java.util.Arrays;
+
+/**
+ * Point in time snapshot of the invocation statistics of a service extension type.
+ */
+public class ServiceExtensionInvocationStatistics {
+
+    private final ServiceExtensionTypeEnum serviceType;
+    private final CircuitBreaker.State circuitState;
+    private final long responseCount;
+    private final long failedRequestCount;
+    private final long rejectedRequestCount;
+    private final long hedgedRequestCount;
+    private final long cacheHitCount;
+    private final long medianLatencyMillis;
+    private final long p95LatencyMillis;
+    private final long p99LatencyMillis;
+    private final long maxLatencyMillis;
+    private final long[] latencyBucketCounts;
+
+    public ServiceExtensionInvocationStatistics(ServiceExtensionTypeEnum serviceType,
+                                                CircuitBreaker.State circuitState, long responseCount,
+                                                long failedRequestCount, long rejectedRequestCount,
+                                                long hedgedRequestCount, long cacheHitCount,
+                                                long medianLatencyMillis, long p95LatencyMillis,
+                                                long p99LatencyMillis, long maxLatencyMillis,
+                                                long[] latencyBucketCounts) {
+
+        this.serviceType = serviceType;
+        this.circuitState = circuitState;
+        this.responseCount = responseCount;
+        this.failedRequestCount = failedRequestCount;
+        this.rejectedRequestCount = rejectedRequestCount;
+        this.hedgedRequestCount = hedgedRequestCount;
+        this.cacheHitCount = cacheHitCount;
+        this.medianLatencyMillis = medianLatencyMillis;
+        this.p95LatencyMillis = p95LatencyMillis;
+        this.p99LatencyMillis = p99LatencyMillis;
+        this.maxLatencyMillis = maxLatencyMillis;
+        this.latencyBucketCounts = latencyBucketCounts.clone();
+    }
+
+    public ServiceExtensionTypeEnum getServiceType() {
+
+        return serviceType;
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+
+        return circuitState;
+    }
+
+    /**
+     * Number of calls which received a response, including responses rejecting the request.
+     *
+     * @return response count
+     */
+    public long getResponseCount() {
+
+        return responseCount;
+    }
+
+    /**
+     * Number of calls which failed without a response, or with an unexpected status.
+     *
+     * @return failed request count
+     */
+    public long getFailedRequestCount() {
+
+        return failedRequestCount;
+    }
+
+    /**
+     * Number of calls rejected without calling the extension because the circuit was open.
+     *
+     * @return rejected request count
+     */
+    public long getRejectedRequestCount() {
+
+        return rejectedRequestCount;
+    }
+
+    /**
+     * Number of hedged calls sent.
+     *
+     * @return hedged request count
+     */
+    public long getHedgedRequestCount() {
+
+        return hedgedRequestCount;
+    }
+
+    /**
+     * Number of calls served from the response cache.
+     *
+     * @return cache hit count
+     */
+    public long getCacheHitCount() {
+
+        return cacheHitCount;
+    }
+
+    public long getMedianLatencyMillis() {
+
+        return medianLatencyMillis;
+    }
+
+    public long getP95LatencyMillis() {
+
+        return p95LatencyMillis;
+    }
+
+    public long getP99LatencyMillis() {
+
+        return p99LatencyMillis;
+    }
+
+    public long getMaxLatencyMillis() {
+
+        return maxLatencyMillis;
+    }
+
+    /**
+     * Number of responses in each latency bucket. The buckets are bounded by
+     * {@link LatencyHistogram#getBucketUpperBoundsMillis()}, and the last bucket holds the latencies above the
+     * highest bound.
+     *
+     * @return latency bucket counts
+     */
+    public long[] getLatencyBucketCounts() {
+
+        return latencyBucketCounts.clone();
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("type=%s, circuit=%s, responses=%d, failures=%d, rejected=%d, hedged=%d, " +
+                        "cacheHits=%d, p50Ms=%d, p95Ms=%d, p99Ms=%d, maxMs=%d, buckets=%s", serviceType,
+                circuitState, responseCount, failedRequestCount, rejectedRequestCount, hedgedRequestCount,
+                cacheHitCount, medianLatencyMillis, p95LatencyMillis, p99LatencyMillis, maxLatencyMillis,
+                Arrays.toString(latencyBucketCounts));
+    }
+}
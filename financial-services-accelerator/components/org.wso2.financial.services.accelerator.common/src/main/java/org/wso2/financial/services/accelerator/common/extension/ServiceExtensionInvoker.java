@@ -0,0 +1,494 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.extension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesLocalCache;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.ErrorConstants;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceRequest;
+import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceResponse;
+import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
+import org.wso2.financial.services.accelerator.common.extension.model.StatusEnum;
+import org.wso2.financial.services.accelerator.common.util.ServiceExtensionUtils;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Invokes the calls of a service extension type.
+ * <p>
+ * Each service extension type has its own invoker, so that a failing or slow extension does not affect the calls of
+ * the other types. Calls failing with a connect, timeout or unknown host error are retried with an exponential backoff
+ * with full jitter. A circuit breaker stops calling the extension after consecutive failures and fails the calls
+ * immediately until the extension recovers. Responses rejecting the request are not counted as failures.
+ * <p>
+ * Calls to idempotent extensions can be hedged, in which case a second call is sent if no response is received
+ * within the configured latency percentile, and the first response received is used. Successful responses of
+ * idempotent extensions can also be cached for a configured time, keyed by the request data.
+ */
+public class ServiceExtensionInvoker {
+
+    private static final Log log = LogFactory.getLog(ServiceExtensionInvoker.class);
+    private static final Map<ServiceExtensionTypeEnum, ServiceExtensionInvoker> INVOKERS = new ConcurrentHashMap<>();
+    // Minimum number of recorded latencies before the hedging delay is derived from them
+    private static final int MIN_HEDGING_SAMPLES = 20;
+    private static final int MAX_HEDGING_THREADS = 64;
+
+    private final ServiceExtensionTypeEnum serviceType;
+    private final Settings settings;
+    private final Transport transport;
+    private final CircuitBreaker circuitBreaker;
+    private final FinancialServicesLocalCache<String, String> responseCache;
+    private final LatencyHistogram latencyHistogram = new LatencyHistogram();
+    private final LongAdder failedRequestCount = new LongAdder();
+    private final LongAdder rejectedRequestCount = new LongAdder();
+    private final LongAdder hedgedRequestCount = new LongAdder();
+    private final LongAdder cacheHitCount = new LongAdder();
+
+    /**
+     * Sends a service extension call.
+     */
+    public interface Transport {
+
+        /**
+         * Send the payload to the extension and return the content of a successful response.
+         *
+         * @param serviceType type of the service extension
+         * @param payload     JSON payload
+         * @return response content
+         * @throws IOException                if no response is received or the extension is unavailable
+         * @throws FinancialServicesException if the extension rejects the request
+         */
+        String send(ServiceExtensionTypeEnum serviceType, String payload)
+                throws IOException, FinancialServicesException;
+    }
+
+    public ServiceExtensionInvoker(ServiceExtensionTypeEnum serviceType, Settings settings, Transport transport) {
+
+        this.serviceType = serviceType;
+        this.settings = settings;
+        this.transport = transport;
+        this.circuitBreaker = new CircuitBreaker(settings.failureThreshold, settings.openDurationMillis,
+                TimeUnit.MILLISECONDS);
+        this.responseCache = settings.cacheEnabled && serviceType.isIdempotent() ?
+                new FinancialServicesLocalCache<>("ServiceExtensionResponseCache-" + serviceType,
+                        settings.cacheMaxEntries, 0, settings.cacheTimeToLiveMillis, TimeUnit.MILLISECONDS) : null;
+    }
+
+    /**
+     * Get the invoker of a service extension type, creating it from the configuration on first use.
+     *
+     * @param serviceType type of the service extension
+     * @return service extension invoker
+     */
+    public static ServiceExtensionInvoker getInstance(ServiceExtensionTypeEnum serviceType) {
+
+        return INVOKERS.computeIfAbsent(serviceType, type -> {
+            FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+            return new ServiceExtensionInvoker(type, Settings.fromConfiguration(configParser, type),
+                    new ServiceExtensionHttpTransport(configParser));
+        });
+    }
+
+    /**
+     * Get the statistics of the invokers created so far.
+     *
+     * @return statistics of each service extension type
+     */
+    public static List<ServiceExtensionInvocationStatistics> getAllStatistics() {
+
+        List<ServiceExtensionInvocationStatistics> statistics = new ArrayList<>();
+        for (ServiceExtensionInvoker invoker : INVOKERS.values()) {
+            statistics.add(invoker.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Invoke the service extension.
+     *
+     * @param externalServiceRequest request to the service extension
+     * @return response of the service extension
+     * @throws FinancialServicesException if the extension rejects the request, cannot be reached or is unavailable
+     */
+    public ExternalServiceResponse invoke(ExternalServiceRequest externalServiceRequest)
+            throws FinancialServicesException {
+
+        String cacheKey = null;
+        if (responseCache != null) {
+            cacheKey = String.valueOf(externalServiceRequest.getData());
+            String cachedContent = responseCache.get(cacheKey);
+            if (cachedContent != null) {
+                cacheHitCount.increment();
+                ExternalServiceResponse response = mapResponse(cachedContent);
+                response.setResponseId(externalServiceRequest.getRequestId());
+                return response;
+            }
+        }
+
+        String content = invokeWithRetries(new JSONObject(externalServiceRequest).toString());
+        ExternalServiceResponse response = mapResponse(content);
+        if (responseCache != null && response.getStatus() == StatusEnum.SUCCESS) {
+            responseCache.put(cacheKey, content);
+        }
+        return response;
+    }
+
+    /**
+     * Point in time snapshot of the statistics of the invoker.
+     *
+     * @return invocation statistics
+     */
+    public ServiceExtensionInvocationStatistics getStatistics() {
+
+        return new ServiceExtensionInvocationStatistics(serviceType, circuitBreaker.getState(),
+                latencyHistogram.getCount(), failedRequestCount.sum(), rejectedRequestCount.sum(),
+                hedgedRequestCount.sum(), cacheHitCount.sum(), latencyHistogram.getPercentileMillis(50),
+                latencyHistogram.getPercentileMillis(95), latencyHistogram.getPercentileMillis(99),
+                latencyHistogram.getMaxMillis(), latencyHistogram.getBucketCounts());
+    }
+
+    private String invokeWithRetries(String payload) throws FinancialServicesException {
+
+        int attempt = 0;
+        while (true) {
+            attempt++;
+            if (!circuitBreaker.allowRequest()) {
+                rejectedRequestCount.increment();
+                throw new FinancialServicesException(String.format("Service extension %s is unavailable after " +
+                        "consecutive failures", serviceType));
+            }
+            try {
+                String content = execute(payload);
+                circuitBreaker.recordSuccess();
+                return content;
+            } catch (FinancialServicesException e) {
+                // The extension responded, so it is available even though it rejected the request
+                circuitBreaker.recordSuccess();
+                throw e;
+            } catch (IOException | RuntimeException e) {
+                failedRequestCount.increment();
+                if (circuitBreaker.recordFailure()) {
+                    log.warn(String.format("Calls to the %s extension are stopped for %d ms after consecutive " +
+                            "failures", serviceType, settings.openDurationMillis));
+                }
+                if (!isRetryableException(e)) {
+                    log.error(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+                    throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR);
+                }
+                log.warn(String.format("Attempt %d failed to call external service: %s", attempt,
+                        String.valueOf(e.getMessage()).replaceAll("[\r\n]", "")));
+                if (attempt >= settings.maxAttempts) {
+                    throw new FinancialServicesException("External service call failed after retries", e);
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    private String execute(String payload) throws IOException, FinancialServicesException {
+
+        long hedgingDelay = getHedgingDelayMillis();
+        if (hedgingDelay < 0) {
+            return send(payload);
+        }
+        CompletableFuture<String> primary = sendAsync(payload);
+        if (primary == null) {
+            return send(payload);
+        }
+        try {
+            return primary.get(hedgingDelay, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            CompletableFuture<String> hedge = sendAsync(payload);
+            if (hedge == null) {
+                return await(primary);
+            }
+            hedgedRequestCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Sent a hedged call to the %s extension after %d ms", serviceType,
+                        hedgingDelay));
+            }
+            return await(firstSuccessful(primary, hedge));
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+        }
+    }
+
+    private String send(String payload) throws IOException, FinancialServicesException {
+
+        long startTime = System.nanoTime();
+        try {
+            String content = transport.send(serviceType, payload);
+            latencyHistogram.record(System.nanoTime() - startTime);
+            return content;
+        } catch (FinancialServicesException e) {
+            latencyHistogram.record(System.nanoTime() - startTime);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<String> sendAsync(String payload) {
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return send(payload);
+                } catch (IOException | FinancialServicesException e) {
+                    throw new CompletionException(e);
+                }
+            }, HedgingExecutorHolder.EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            // All hedging threads are busy, so the call is sent without hedging
+            return null;
+        }
+    }
+
+    private long getHedgingDelayMillis() {
+
+        if (!settings.hedgingEnabled || !serviceType.isIdempotent() ||
+                latencyHistogram.getCount() < MIN_HEDGING_SAMPLES) {
+            return -1;
+        }
+        return Math.max(1, latencyHistogram.getPercentileMillis(settings.hedgingPercentile));
+    }
+
+    private static CompletableFuture<String> firstSuccessful(CompletableFuture<String> first,
+                                                             CompletableFuture<String> second) {
+
+        CompletableFuture<String> result = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        first.whenComplete((content, error) -> complete(result, failures, content, error));
+        second.whenComplete((content, error) -> complete(result, failures, content, error));
+        return result;
+    }
+
+    private static void complete(CompletableFuture<String> result, AtomicInteger failures, String content,
+                                 Throwable error) {
+
+        if (error == null) {
+            result.complete(content);
+        } else if (failures.incrementAndGet() == 2) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static String await(CompletableFuture<String> future) throws IOException, FinancialServicesException {
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) throws FinancialServicesException {
+
+        Throwable cause = e.getCause();
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof FinancialServicesException) {
+            throw (FinancialServicesException) cause;
+        }
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, cause);
+    }
+
+    private void backoff(int attempt) throws FinancialServicesException {
+
+        if (settings.backoffInitialIntervalMillis <= 0) {
+            return;
+        }
+        long interval = Math.min(settings.backoffMaxIntervalMillis,
+                settings.backoffInitialIntervalMillis << Math.min(attempt - 1, 20));
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(interval + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+        }
+    }
+
+    private static boolean isRetryableException(Exception e) {
+
+        return e instanceof SocketTimeoutException ||
+                e instanceof ConnectException ||
+                e instanceof UnknownHostException;
+    }
+
+    private static ExternalServiceResponse mapResponse(String content) throws FinancialServicesException {
+
+        try {
+            return ServiceExtensionUtils.mapResponse(content, ExternalServiceResponse.class);
+        } catch (JsonProcessingException e) {
+            log.error(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
+            throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR);
+        }
+    }
+
+    private static class HedgingExecutorHolder {
+
+        private static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            AtomicInteger threadCount = new AtomicInteger();
+            EXECUTOR = new ThreadPoolExecutor(0, MAX_HEDGING_THREADS, 60, TimeUnit.SECONDS,
+                    new SynchronousQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "fs-service-extension-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Invocation settings of a service extension type. All durations are in milliseconds.
+     */
+    public static class Settings {
+
+        private int maxAttempts = 1;
+        private int failureThreshold = 5;
+        private long openDurationMillis = 30000;
+        private long backoffInitialIntervalMillis = 100;
+        private long backoffMaxIntervalMillis = 2000;
+        private boolean hedgingEnabled;
+        private int hedgingPercentile = 95;
+        private boolean cacheEnabled;
+        private long cacheTimeToLiveMillis = 60000;
+        private int cacheMaxEntries = 1000;
+
+        /**
+         * Read the settings of a service extension type from the configuration.
+         *
+         * @param configParser configuration parser
+         * @param serviceType  type of the service extension
+         * @return settings
+         */
+        public static Settings fromConfiguration(FinancialServicesConfigParser configParser,
+                                                 ServiceExtensionTypeEnum serviceType) {
+
+            return new Settings()
+                    .setMaxAttempts(configParser.getServiceExtensionsEndpointRetryCount())
+                    .setFailureThreshold(configParser.getServiceExtensionsCircuitBreakerFailureThreshold())
+                    .setOpenDurationMillis(TimeUnit.SECONDS.toMillis(
+                            configParser.getServiceExtensionsCircuitBreakerOpenDuration()))
+                    .setBackoffInitialIntervalMillis(configParser.getServiceExtensionsBackoffInitialInterval())
+                    .setBackoffMaxIntervalMillis(configParser.getServiceExtensionsBackoffMaxInterval())
+                    .setHedgingEnabled(configParser.getServiceExtensionsHedgedTypes().contains(serviceType))
+                    .setHedgingPercentile(configParser.getServiceExtensionsHedgingPercentile())
+                    .setCacheEnabled(configParser.getServiceExtensionsCachedTypes().contains(serviceType))
+                    .setCacheTimeToLiveMillis(TimeUnit.SECONDS.toMillis(
+                            configParser.getServiceExtensionsResponseCacheTimeToLive()))
+                    .setCacheMaxEntries(configParser.getServiceExtensionsResponseCacheMaxEntries());
+        }
+
+        public Settings setMaxAttempts(int maxAttempts) {
+
+            this.maxAttempts = Math.max(1, maxAttempts);
+            return this;
+        }
+
+        public Settings setFailureThreshold(int failureThreshold) {
+
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        public Settings setOpenDurationMillis(long openDurationMillis) {
+
+            this.openDurationMillis = openDurationMillis;
+            return this;
+        }
+
+        public Settings setBackoffInitialIntervalMillis(long backoffInitialIntervalMillis) {
+
+            this.backoffInitialIntervalMillis = backoffInitialIntervalMillis;
+            return this;
+        }
+
+        public Settings setBackoffMaxIntervalMillis(long backoffMaxIntervalMillis) {
+
+            this.backoffMaxIntervalMillis = backoffMaxIntervalMillis;
+            return this;
+        }
+
+        public Settings setHedgingEnabled(boolean hedgingEnabled) {
+
+            this.hedgingEnabled = hedgingEnabled;
+            return this;
+        }
+
+        public Settings setHedgingPercentile(int hedgingPercentile) {
+
+            this.hedgingPercentile = hedgingPercentile;
+            return this;
+        }
+
+        public Settings setCacheEnabled(boolean cacheEnabled) {
+
+            this.cacheEnabled = cacheEnabled;
+            return this;
+        }
+
+        public Settings setCacheTimeToLiveMillis(long cacheTimeToLiveMillis) {
+
+            this.cacheTimeToLiveMillis = cacheTimeToLiveMillis;
+            return this;
+        }
+
+        public Settings setCacheMaxEntries(int cacheMaxEntries) {
+
+            this.cacheMaxEntries = cacheMaxEntries;
+            return this;
+        }
+    }
+}
@@ -25,33 +25,39 @@ public enum ServiceExtensionTypeEnum {
 
     PRE_PROCESS_CLIENT_CREATION("pre_process_client_creation"),
     PRE_PROCESS_CLIENT_UPDATE("pre_process_client_update"),
-    PRE_PROCESS_CLIENT_RETRIEVAL("pre_process_client_retrieval"),
+    PRE_PROCESS_CLIENT_RETRIEVAL("pre_process_client_retrieval", true),
     PRE_PROCESS_CONSENT_CREATION("pre_process_consent_creation"),
     ENRICH_CONSENT_CREATION_RESPONSE("enrich_consent_creation_response"),
     PRE_PROCESS_CONSENT_FILE_UPLOAD("pre_process_consent_file_upload"),
     ENRICH_CONSENT_FILE_RESPONSE("enrich_consent_file_response"),
-    VALIDATE_CONSENT_FILE_RETRIEVAL("validate_consent_file_retrieval"),
-    PRE_PROCESS_CONSENT_RETRIEVAL("pre_process_consent_retrieval"),
-    ENRICH_CONSENT_SEARCH_RESPONSE("enrich_consent_search_response"),
+    VALIDATE_CONSENT_FILE_RETRIEVAL("validate_consent_file_retrieval", true),
+    PRE_PROCESS_CONSENT_RETRIEVAL("pre_process_consent_retrieval", true),
+    ENRICH_CONSENT_SEARCH_RESPONSE("enrich_consent_search_response", true),
     PRE_PROCESS_CONSENT_REVOKE("pre_process_consent_revoke"),
-    POPULATE_CONSENT_AUTHORIZE_SCREEN("populate_consent_authorize_screen"),
+    POPULATE_CONSENT_AUTHORIZE_SCREEN("populate_consent_authorize_screen", true),
     PERSIST_AUTHORIZED_CONSENT("persist_authorized_consent"),
-    VALIDATE_CONSENT_ACCESS("validate_consent_access"),
+    VALIDATE_CONSENT_ACCESS("validate_consent_access", true),
     ISSUE_REFRESH_TOKEN("issue_refresh_token"),
-    VALIDATE_AUTHORIZATION_REQUEST("validate_authorization_request"),
+    VALIDATE_AUTHORIZATION_REQUEST("validate_authorization_request", true),
     VALIDATE_EVENT_SUBSCRIPTION("validate_event_subscription"),
     ENRICH_EVENT_SUBSCRIPTION_RESPONSE("enrich_event_subscription_response"),
     VALIDATE_EVENT_CREATION("validate_event_creation"),
-    VALIDATE_EVENT_POLLING("validate_event_polling"),
-    ENRICH_EVENT_POLLING_RESPONSE("enrich_event_polling_response"),
-    MAP_ACCELERATOR_ERROR_RESPONSE("map_accelerator_error_response"),
+    VALIDATE_EVENT_POLLING("validate_event_polling", true),
+    ENRICH_EVENT_POLLING_RESPONSE("enrich_event_polling_response", true),
+    MAP_ACCELERATOR_ERROR_RESPONSE("map_accelerator_error_response", true),
     PRE_PROCESS_APPLICATION_CREATION("pre_process_application_creation"),
     PRE_PROCESS_APPLICATION_UPDATE("pre_process_application_update");
 
     private final String type;
+    private final boolean idempotent;
 
     ServiceExtensionTypeEnum(String value) {
+        this(value, false);
+    }
+
+    ServiceExtensionTypeEnum(String value, boolean idempotent) {
         this.type = value;
+        this.idempotent = idempotent;
     }
 
     public static ServiceExtensionTypeEnum fromString(String type) {
@@ -64,6 +70,16 @@ public enum ServiceExtensionTypeEnum {
         return null;
     }
 
+    /**
+     * Whether the extension only validates or reads data, so that repeating a call has no further effect.
+     * Only calls to idempotent extensions are hedged or served from the response cache.
+     *
+     * @return true if the extension is idempotent
+     */
+    public boolean isIdempotent() {
+        return idempotent;
+    }
+
     public String toString() {
         return String.valueOf(type);
     }
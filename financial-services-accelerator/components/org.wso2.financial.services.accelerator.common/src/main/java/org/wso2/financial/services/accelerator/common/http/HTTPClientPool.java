@@ -0,0 +1,344 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.http;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.ResponseHandler;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP client backed by a connection pool of its own.
+ * <p>
+ * Outbound calls made for different purposes use separate pools, so that a slow endpoint can only exhaust the
+ * connections of its own pool. Idle connections are evicted in the background and kept alive connections are reused
+ * for at most the configured keep alive time, even if the server allows longer. The time spent waiting to lease a
+ * connection and the time taken to receive a response are recorded and can be read through {@link #getStatistics()}.
+ * <p>
+ * Responses handled through a {@link ResponseHandler} are always fully consumed, which returns the connection to the
+ * pool. Callers executing a request without a handler must consume the entity or close the response themselves.
+ */
+public class HTTPClientPool extends CloseableHttpClient {
+
+    private static final Log log = LogFactory.getLog(HTTPClientPool.class);
+
+    private final String name;
+    private final InstrumentedConnectionManager connectionManager;
+    private final CloseableHttpClient httpClient;
+    private final ThreadPoolExecutor asyncExecutor;
+
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder failedRequestCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final LongAdder leaseCount = new LongAdder();
+    private final LongAdder leaseTimeoutCount = new LongAdder();
+    private final LongAdder totalLeaseWaitNanos = new LongAdder();
+    private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+    public HTTPClientPool(String name, Registry<ConnectionSocketFactory> socketFactoryRegistry, Settings settings) {
+
+        this.name = name;
+        this.connectionManager = new InstrumentedConnectionManager(socketFactoryRegistry);
+        this.connectionManager.setMaxTotal(settings.maxConnections);
+        this.connectionManager.setDefaultMaxPerRoute(settings.maxConnectionsPerRoute);
+        // Stale check connections which were idle for a while before reusing them
+        this.connectionManager.setValidateAfterInactivity(1000);
+
+        long keepAliveMillis = settings.keepAliveMillis;
+        ConnectionKeepAliveStrategy keepAliveStrategy = (response, context) -> {
+            long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response,
+                    context);
+            return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+        };
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(settings.leaseTimeoutMillis)
+                .setConnectTimeout(settings.connectTimeoutMillis)
+                .setSocketTimeout(settings.socketTimeoutMillis)
+                .build();
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy(keepAliveStrategy)
+                .evictExpiredConnections()
+                .evictIdleConnections(settings.idleTimeoutMillis, TimeUnit.MILLISECONDS)
+                .build();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.asyncExecutor = new ThreadPoolExecutor(settings.asyncThreads, settings.asyncThreads, 60,
+                TimeUnit.SECONDS, new LinkedBlockingQueue<>(settings.asyncQueueSize), runnable -> {
+            Thread thread = new Thread(runnable, "fs-http-" + name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.asyncExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Name of the pool.
+     *
+     * @return pool name
+     */
+    public String getName() {
+
+        return name;
+    }
+
+    /**
+     * Execute the request on a thread of this pool.
+     * <p>
+     * The response is passed to the handler and its entity is consumed afterwards, even if the handler fails.
+     * Requests which cannot be queued because the pool is saturated complete exceptionally with a
+     * {@link RejectedExecutionException}.
+     *
+     * @param request         HTTP request
+     * @param responseHandler handler which converts the response
+     * @param <T>             type of the converted response
+     * @return future completed with the converted response, or exceptionally with the failure
+     */
+    public <T> CompletableFuture<T> executeAsync(HttpUriRequest request, ResponseHandler<? extends T> responseHandler) {
+
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return execute(request, responseHandler);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+            return future;
+        }
+    }
+
+    /**
+     * Point in time snapshot of the connection and request statistics of the pool.
+     *
+     * @return pool statistics
+     */
+    public HTTPClientPoolStatistics getStatistics() {
+
+        PoolStats poolStats = connectionManager.getTotalStats();
+        return new HTTPClientPoolStatistics(name, poolStats.getMax(), poolStats.getLeased(),
+                poolStats.getAvailable(), poolStats.getPending(), leaseCount.sum(), leaseTimeoutCount.sum(),
+                totalLeaseWaitNanos.sum(), maxLeaseWaitNanos.get(), requestCount.sum(), failedRequestCount.sum(),
+                totalLatencyNanos.sum(), maxLatencyNanos.get());
+    }
+
+    @Override
+    protected CloseableHttpResponse doExecute(HttpHost target, HttpRequest request, HttpContext context)
+            throws IOException {
+
+        long startTime = System.nanoTime();
+        try {
+            CloseableHttpResponse response = httpClient.execute(target, request, context);
+            recordLatency(startTime);
+            return response;
+        } catch (IOException | RuntimeException e) {
+            failedRequestCount.increment();
+            recordLatency(startTime);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Request executed on HTTP client pool %s failed: %s", name,
+                        String.valueOf(e.getMessage()).replaceAll("[\r\n]", "")));
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        asyncExecutor.shutdown();
+        httpClient.close();
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public org.apache.http.params.HttpParams getParams() {
+
+        return httpClient.getParams();
+    }
+
+    @Override
+    @Deprecated
+    @SuppressWarnings("deprecation")
+    public org.apache.http.conn.ClientConnectionManager getConnectionManager() {
+
+        return httpClient.getConnectionManager();
+    }
+
+    private void recordLatency(long startTime) {
+
+        long latency = System.nanoTime() - startTime;
+        requestCount.increment();
+        totalLatencyNanos.add(latency);
+        maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    }
+
+    private void recordLeaseWait(long startTime) {
+
+        long leaseWait = System.nanoTime() - startTime;
+        leaseCount.increment();
+        totalLeaseWaitNanos.add(leaseWait);
+        maxLeaseWaitNanos.accumulateAndGet(leaseWait, Math::max);
+    }
+
+    /**
+     * Connection manager which records the time spent waiting for a connection to be leased.
+     */
+    private class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private InstrumentedConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry) {
+
+            super(socketFactoryRegistry);
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+
+            ConnectionRequest connectionRequest = super.requestConnection(route, state);
+            return new ConnectionRequest() {
+
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException,
+                        ExecutionException, ConnectionPoolTimeoutException {
+
+                    long startTime = System.nanoTime();
+                    try {
+                        HttpClientConnection connection = connectionRequest.get(timeout, timeUnit);
+                        recordLeaseWait(startTime);
+                        return connection;
+                    } catch (ConnectionPoolTimeoutException e) {
+                        leaseTimeoutCount.increment();
+                        log.warn(String.format("Timed out waiting for a connection from HTTP client pool %s", name));
+                        throw e;
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+
+                    return connectionRequest.cancel();
+                }
+            };
+        }
+    }
+
+    /**
+     * Settings of a HTTP client pool. All durations are in milliseconds.
+     */
+    public static class Settings {
+
+        private int maxConnections = 100;
+        private int maxConnectionsPerRoute = 100;
+        private int leaseTimeoutMillis = 5000;
+        private int connectTimeoutMillis = 10000;
+        private int socketTimeoutMillis = 30000;
+        private long idleTimeoutMillis = 60000;
+        private long keepAliveMillis = 60000;
+        private int asyncThreads = Runtime.getRuntime().availableProcessors() * 2;
+        private int asyncQueueSize = 1000;
+
+        public Settings setMaxConnections(int maxConnections) {
+
+            this.maxConnections = maxConnections;
+            return this;
+        }
+
+        public Settings setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+
+            this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+            return this;
+        }
+
+        public Settings setLeaseTimeoutMillis(int leaseTimeoutMillis) {
+
+            this.leaseTimeoutMillis = leaseTimeoutMillis;
+            return this;
+        }
+
+        public Settings setConnectTimeoutMillis(int connectTimeoutMillis) {
+
+            this.connectTimeoutMillis = connectTimeoutMillis;
+            return this;
+        }
+
+        public Settings setSocketTimeoutMillis(int socketTimeoutMillis) {
+
+            this.socketTimeoutMillis = socketTimeoutMillis;
+            return this;
+        }
+
+        public Settings setIdleTimeoutMillis(long idleTimeoutMillis) {
+
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            return this;
+        }
+
+        public Settings setKeepAliveMillis(long keepAliveMillis) {
+
+            this.keepAliveMillis = keepAliveMillis;
+            return this;
+        }
+
+        public Settings setAsyncThreads(int asyncThreads) {
+
+            this.asyncThreads = Math.max(1, asyncThreads);
+            return this;
+        }
+
+        public Settings setAsyncQueueSize(int asyncQueueSize) {
+
+            this.asyncQueueSize = Math.max(1, asyncQueueSize);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.http;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point in time snapshot of the statistics of a HTTP client pool.
+ */
+public class HTTPClientPoolStatistics {
+
+    private final String poolName;
+    private final int maxConnections;
+    private final int leasedConnections;
+    private final int availableConnections;
+    private final int pendingLeases;
+    private final long leaseCount;
+    private final long leaseTimeoutCount;
+    private final long totalLeaseWaitNanos;
+    private final long maxLeaseWaitNanos;
+    private final long requestCount;
+    private final long failedRequestCount;
+    private final long totalLatencyNanos;
+    private final long maxLatencyNanos;
+
+    public HTTPClientPoolStatistics(String poolName, int maxConnections, int leasedConnections,
+                                    int availableConnections, int pendingLeases, long leaseCount,
+                                    long leaseTimeoutCount, long totalLeaseWaitNanos, long maxLeaseWaitNanos,
+                                    long requestCount, long failedRequestCount, long totalLatencyNanos,
+                                    long maxLatencyNanos) {
+
+        this.poolName = poolName;
+        this.maxConnections = maxConnections;
+        this.leasedConnections = leasedConnections;
+        this.availableConnections = availableConnections;
+        this.pendingLeases = pendingLeases;
+        this.leaseCount = leaseCount;
+        this.leaseTimeoutCount = leaseTimeoutCount;
+        this.totalLeaseWaitNanos = totalLeaseWaitNanos;
+        this.maxLeaseWaitNanos = maxLeaseWaitNanos;
+        this.requestCount = requestCount;
+        this.failedRequestCount = failedRequestCount;
+        this.totalLatencyNanos = totalLatencyNanos;
+        this.maxLatencyNanos = maxLatencyNanos;
+    }
+
+    public String getPoolName() {
+
+        return poolName;
+    }
+
+    /**
+     * Maximum number of connections the pool may open.
+     *
+     * @return maximum connections
+     */
+    public int getMaxConnections() {
+
+        return maxConnections;
+    }
+
+    /**
+     * Number of connections currently in use.
+     *
+     * @return leased connections
+     */
+    public int getLeasedConnections() {
+
+        return leasedConnections;
+    }
+
+    /**
+     * Number of idle connections kept alive for reuse.
+     *
+     * @return available connections
+     */
+    public int getAvailableConnections() {
+
+        return availableConnections;
+    }
+
+    /**
+     * Number of requests currently waiting for a connection.
+     *
+     * @return pending leases
+     */
+    public int getPendingLeases() {
+
+        return pendingLeases;
+    }
+
+    /**
+     * Number of connections leased from the pool.
+     *
+     * @return lease count
+     */
+    public long getLeaseCount() {
+
+        return leaseCount;
+    }
+
+    /**
+     * Number of requests which timed out waiting for a connection.
+     *
+     * @return lease timeout count
+     */
+    public long getLeaseTimeoutCount() {
+
+        return leaseTimeoutCount;
+    }
+
+    /**
+     * Average time spent waiting for a connection.
+     *
+     * @return average lease wait in milliseconds, or 0 if no connection was leased
+     */
+    public double getAverageLeaseWaitMillis() {
+
+        return average(totalLeaseWaitNanos, leaseCount);
+    }
+
+    /**
+     * Longest time spent waiting for a connection.
+     *
+     * @return maximum lease wait in milliseconds
+     */
+    public long getMaxLeaseWaitMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLeaseWaitNanos);
+    }
+
+    /**
+     * Number of requests executed, including failed requests.
+     *
+     * @return request count
+     */
+    public long getRequestCount() {
+
+        return requestCount;
+    }
+
+    /**
+     * Number of requests which failed without receiving a response.
+     *
+     * @return failed request count
+     */
+    public long getFailedRequestCount() {
+
+        return failedRequestCount;
+    }
+
+    /**
+     * Average time taken to receive the response of a request, including the lease wait.
+     *
+     * @return average latency in milliseconds, or 0 if no request was executed
+     */
+    public double getAverageLatencyMillis() {
+
+        return average(totalLatencyNanos, requestCount);
+    }
+
+    /**
+     * Longest time taken to receive the response of a request.
+     *
+     * @return maximum latency in milliseconds
+     */
+    public long getMaxLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos);
+    }
+
+    private static double average(long totalNanos, long count) {
+
+        return count == 0 ? 0 : (double) totalNanos / count / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+
+        return String.format("pool=%s, max=%d, leased=%d, available=%d, pending=%d, leases=%d, leaseTimeouts=%d, " +
+                        "avgLeaseWaitMs=%.3f, maxLeaseWaitMs=%d, requests=%d, failedRequests=%d, " +
+                        "avgLatencyMs=%.3f, maxLatencyMs=%d", poolName, maxConnections, leasedConnections,
+                availableConnections, pendingLeases, leaseCount, leaseTimeoutCount, getAverageLeaseWaitMillis(),
+                getMaxLeaseWaitMillis(), requestCount, failedRequestCount, getAverageLatencyMillis(),
+                getMaxLatencyMillis());
+    }
+}
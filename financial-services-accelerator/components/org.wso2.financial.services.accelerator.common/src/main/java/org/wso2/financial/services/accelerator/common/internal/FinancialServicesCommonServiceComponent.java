@@ -64,6 +64,7 @@ public class FinancialServicesCommonServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        HTTPClientUtils.closeHttpClientPools();
         log.debug("Financial Services common component is deactivated");
     }
 
@@ -0,0 +1,242 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.jwks;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.RemoteKeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.text.ParseException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * JWK source backed by a remote JWKS endpoint which keeps the last retrieved key set in memory.
+ * <p>
+ * The key set is served from memory until its lifetime elapses and is refreshed in the background shortly
+ * before that. An unknown key ID triggers a re-fetch to pick up rotated keys, limited to one fetch per
+ * minimum refresh interval. If the endpoint cannot be reached, the last successfully retrieved key set is
+ * served.
+ */
+public class CachingJWKSource implements JWKSource<SecurityContext> {
+
+    private static final Log log = LogFactory.getLog(CachingJWKSource.class);
+
+    private final URL jwksUrl;
+    private final ResourceRetriever resourceRetriever;
+    private final Executor refreshExecutor;
+    private final JWKSetRegistryMetrics metrics;
+    private final long lifetimeMillis;
+    private final long refreshAheadMillis;
+    private final long minRefreshIntervalMillis;
+    private final Object fetchLock = new Object();
+    private final AtomicBoolean backgroundRefreshInProgress = new AtomicBoolean(false);
+
+    private volatile CachedJWKSet cachedJWKSet;
+    private volatile long lastFetchAttempt;
+
+    public CachingJWKSource(URL jwksUrl, ResourceRetriever resourceRetriever, Executor refreshExecutor,
+                            JWKSetRegistryMetrics metrics, long lifetimeMillis, long refreshAheadMillis,
+                            long minRefreshIntervalMillis) {
+
+        this.jwksUrl = jwksUrl;
+        this.resourceRetriever = resourceRetriever;
+        this.refreshExecutor = refreshExecutor;
+        this.metrics = metrics;
+        this.lifetimeMillis = lifetimeMillis;
+        this.refreshAheadMillis = Math.min(refreshAheadMillis, lifetimeMillis);
+        this.minRefreshIntervalMillis = minRefreshIntervalMillis;
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) throws KeySourceException {
+
+        long now = System.currentTimeMillis();
+        CachedJWKSet current = cachedJWKSet;
+
+        if (current == null) {
+            metrics.recordMiss();
+            current = fetch(null);
+        } else if (now - current.getRetrievedTime() >= lifetimeMillis) {
+            metrics.recordMiss();
+            current = fetchOrStale(current);
+        } else {
+            metrics.recordHit();
+            if (now - current.getRetrievedTime() >= lifetimeMillis - refreshAheadMillis) {
+                scheduleBackgroundRefresh();
+            }
+        }
+
+        List<JWK> matches = jwkSelector.select(current.getJWKSet());
+        if (matches.isEmpty() && isKeyIDSelector(jwkSelector) && canFetch(now)) {
+            // Key ID not known yet, the remote party may have rotated its keys
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("No matching key found in cached JWK set of %s. Re-fetching key set",
+                        jwksUrl.toString().replaceAll("[\r\n]", "")));
+            }
+            current = fetchOrStale(current);
+            matches = jwkSelector.select(current.getJWKSet());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the JWKS endpoint URL of this source.
+     *
+     * @return JWKS endpoint URL
+     */
+    public URL getJWKSUrl() {
+
+        return jwksUrl;
+    }
+
+    /**
+     * Returns the cached JWK set without triggering a fetch.
+     *
+     * @return cached JWK set or null if nothing has been retrieved yet
+     */
+    public JWKSet getCachedJWKSet() {
+
+        CachedJWKSet current = cachedJWKSet;
+        return current == null ? null : current.getJWKSet();
+    }
+
+    /**
+     * Refreshes the cached key set from the remote endpoint. Failures are logged and the previous key set is
+     * retained.
+     */
+    public void refresh() {
+
+        try {
+            fetch(cachedJWKSet);
+        } catch (KeySourceException e) {
+            log.warn(String.format("Unable to refresh JWK set from %s. Retaining the last retrieved key set",
+                    jwksUrl.toString().replaceAll("[\r\n]", "")), e);
+        }
+    }
+
+    private void scheduleBackgroundRefresh() {
+
+        if (!backgroundRefreshInProgress.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh();
+                } finally {
+                    backgroundRefreshInProgress.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backgroundRefreshInProgress.set(false);
+            log.debug("Background JWK set refresh rejected. Key set will be refreshed on expiry", e);
+        }
+    }
+
+    private CachedJWKSet fetchOrStale(CachedJWKSet stale) throws KeySourceException {
+
+        if (!canFetch(System.currentTimeMillis())) {
+            return cachedJWKSet;
+        }
+        try {
+            return fetch(stale);
+        } catch (KeySourceException e) {
+            metrics.recordStaleServed();
+            log.warn(String.format("Unable to retrieve JWK set from %s. Serving the last retrieved key set",
+                    jwksUrl.toString().replaceAll("[\r\n]", "")), e);
+            return stale;
+        }
+    }
+
+    /**
+     * Fetches the key set unless another thread replaced the observed key set while this thread waited on
+     * the lock, so that concurrent misses result in a single remote call.
+     */
+    private CachedJWKSet fetch(CachedJWKSet observed) throws KeySourceException {
+
+        synchronized (fetchLock) {
+            CachedJWKSet current = cachedJWKSet;
+            if (current != null && current != observed) {
+                return current;
+            }
+            lastFetchAttempt = System.currentTimeMillis();
+            metrics.recordRefresh();
+            try {
+                Resource resource = resourceRetriever.retrieveResource(jwksUrl);
+                JWKSet jwkSet = JWKSet.parse(resource.getContent());
+                CachedJWKSet fetched = new CachedJWKSet(jwkSet, System.currentTimeMillis());
+                cachedJWKSet = fetched;
+                return fetched;
+            } catch (IOException | ParseException e) {
+                metrics.recordRefreshFailure();
+                throw new RemoteKeySourceException("Couldn't retrieve remote JWK set: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private static boolean isKeyIDSelector(JWKSelector jwkSelector) {
+
+        Set<String> keyIDs = jwkSelector.getMatcher().getKeyIDs();
+        return keyIDs != null && !keyIDs.isEmpty();
+    }
+
+    private boolean canFetch(long now) {
+
+        return now - lastFetchAttempt >= minRefreshIntervalMillis;
+    }
+
+    /**
+     * Immutable holder of a retrieved key set and its retrieval time.
+     */
+    private static final class CachedJWKSet {
+
+        private final JWKSet jwkSet;
+        private final long retrievedTime;
+
+        private CachedJWKSet(JWKSet jwkSet, long retrievedTime) {
+
+            this.jwkSet = jwkSet;
+            this.retrievedTime = retrievedTime;
+        }
+
+        private JWKSet getJWKSet() {
+
+            return jwkSet;
+        }
+
+        private long getRetrievedTime() {
+
+            return retrievedTime;
+        }
+    }
+}
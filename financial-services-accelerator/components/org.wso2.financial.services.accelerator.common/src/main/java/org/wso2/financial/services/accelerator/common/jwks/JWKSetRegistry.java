@@ -0,0 +1,163 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.jwks;
+
+import com.nimbusds.jose.jwk.source.RemoteJWKSet;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Process wide registry of remote JWK sources keyed by JWKS URI.
+ * <p>
+ * Each JWKS endpoint is represented by a single {@link CachingJWKSource} so that signature validations of the
+ * same party reuse the retrieved key set instead of fetching it on every request. The registry holds at most
+ * the configured number of endpoints and evicts the least recently used one beyond that.
+ */
+public final class JWKSetRegistry {
+
+    private static final Log log = LogFactory.getLog(JWKSetRegistry.class);
+    private static final int DEFAULT_TIMEOUT = 3000;
+    private static volatile JWKSetRegistry instance;
+
+    private final Map<String, CachingJWKSource> jwkSources;
+    private final JWKSetRegistryMetrics metrics = new JWKSetRegistryMetrics();
+    private final ThreadPoolExecutor refreshExecutor;
+    private final DefaultResourceRetriever resourceRetriever;
+    private final long lifetimeMillis;
+    private final long refreshAheadMillis;
+    private final long minRefreshIntervalMillis;
+
+    private JWKSetRegistry() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        int connectionTimeout = Integer.parseInt(configParser.getJWKSConnectionTimeOut());
+        int readTimeout = Integer.parseInt(configParser.getJWKSReadTimeOut());
+        if (connectionTimeout == 0 && readTimeout == 0) {
+            connectionTimeout = DEFAULT_TIMEOUT;
+            readTimeout = DEFAULT_TIMEOUT;
+        }
+        this.resourceRetriever = new DefaultResourceRetriever(connectionTimeout, readTimeout,
+                RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT);
+        this.lifetimeMillis = TimeUnit.SECONDS.toMillis(configParser.getJWKSCacheLifetime());
+        this.refreshAheadMillis = TimeUnit.SECONDS.toMillis(configParser.getJWKSRefreshAheadTime());
+        this.minRefreshIntervalMillis = TimeUnit.SECONDS.toMillis(configParser.getJWKSMinRefreshInterval());
+
+        final int maxEntries = configParser.getJWKSMaxCachedKeySets();
+        this.jwkSources = new LinkedHashMap<String, CachingJWKSource>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachingJWKSource> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(1, 2, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxEntries), runnable -> {
+                    Thread thread = new Thread(runnable, "fs-jwks-refresh-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Returns the registry instance.
+     *
+     * @return JWKSetRegistry instance
+     */
+    public static JWKSetRegistry getInstance() {
+
+        if (instance == null) {
+            synchronized (JWKSetRegistry.class) {
+                if (instance == null) {
+                    instance = new JWKSetRegistry();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the JWK source of the given JWKS URI, creating it on first use.
+     *
+     * @param jwksUri JWKS endpoint URI
+     * @return caching JWK source of the endpoint
+     * @throws MalformedURLException if the JWKS URI is not a valid URL
+     */
+    public CachingJWKSource getJWKSource(String jwksUri) throws MalformedURLException {
+
+        synchronized (jwkSources) {
+            CachingJWKSource jwkSource = jwkSources.get(jwksUri);
+            if (jwkSource == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Registering JWK source for %s", jwksUri.replaceAll("[\r\n]", "")));
+                }
+                jwkSource = new CachingJWKSource(new URL(jwksUri), resourceRetriever, refreshExecutor, metrics,
+                        lifetimeMillis, refreshAheadMillis, minRefreshIntervalMillis);
+                jwkSources.put(jwksUri, jwkSource);
+            }
+            return jwkSource;
+        }
+    }
+
+    /**
+     * Removes the JWK source of the given JWKS URI so that the next validation fetches the key set again.
+     *
+     * @param jwksUri JWKS endpoint URI
+     */
+    public void invalidate(String jwksUri) {
+
+        synchronized (jwkSources) {
+            jwkSources.remove(jwksUri);
+        }
+    }
+
+    /**
+     * Returns the number of JWKS endpoints currently held in the registry.
+     *
+     * @return registered JWK source count
+     */
+    public int size() {
+
+        synchronized (jwkSources) {
+            return jwkSources.size();
+        }
+    }
+
+    /**
+     * Returns the hit, miss and refresh counters of the registry.
+     *
+     * @return registry metrics
+     */
+    public JWKSetRegistryMetrics getMetrics() {
+
+        return metrics;
+    }
+}
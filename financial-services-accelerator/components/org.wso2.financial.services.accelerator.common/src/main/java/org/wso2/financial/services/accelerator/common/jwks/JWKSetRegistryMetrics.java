@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.jwks;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters describing the effectiveness of the JWKS registry.
+ */
+public class JWKSetRegistryMetrics {
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+    private final LongAdder staleServed = new LongAdder();
+
+    void recordHit() {
+
+        hits.increment();
+    }
+
+    void recordMiss() {
+
+        misses.increment();
+    }
+
+    void recordRefresh() {
+
+        refreshes.increment();
+    }
+
+    void recordRefreshFailure() {
+
+        refreshFailures.increment();
+    }
+
+    void recordStaleServed() {
+
+        staleServed.increment();
+    }
+
+    /**
+     * Returns the number of key lookups served from a fresh cached key set.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of key lookups which found no key set or an expired key set.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of remote JWKS fetches, including background refreshes.
+     *
+     * @return refresh count
+     */
+    public long getRefreshCount() {
+
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of remote JWKS fetches which failed.
+     *
+     * @return refresh failure count
+     */
+    public long getRefreshFailureCount() {
+
+        return refreshFailures.sum();
+    }
+
+    /**
+     * Returns the number of lookups served from an expired key set because the endpoint was unavailable.
+     *
+     * @return stale served count
+     */
+    public long getStaleServedCount() {
+
+        return staleServed.sum();
+    }
+
+    @Override
+    public String toString() {
+
+        return "JWKSetRegistryMetrics{hits=" + getHitCount() + ", misses=" + getMissCount() +
+                ", refreshes=" + getRefreshCount() + ", refreshFailures=" + getRefreshFailureCount() +
+                ", staleServed=" + getStaleServedCount() + "}";
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.jws;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JOSEObjectType;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.Ed25519Signer;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.OctetKeyPair;
+import com.nimbusds.jose.util.Base64URL;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.PrivateKey;
+import java.security.interfaces.ECPrivateKey;
+
+/**
+ * Reusable signer producing compact JWS serializations of JSON payloads.
+ * <p>
+ * The underlying signer and the encoded protected header are created once, so a single instance can be shared
+ * by all request threads. An unsigned instance returns the payload as it is, for deployments where the payload
+ * is sent over a mutually authenticated channel and the receiving end has JWT payload validation disabled.
+ */
+public final class JWSPayloadSigner {
+
+    /**
+     * Algorithm name used in configurations to select the unsigned mode.
+     */
+    public static final String UNSIGNED = "NONE";
+
+    private static final JWSPayloadSigner UNSIGNED_SIGNER = new JWSPayloadSigner(null, null);
+
+    private final JWSSigner signer;
+    private final JWSHeader header;
+    private final String encodedHeader;
+
+    private JWSPayloadSigner(JWSSigner signer, JWSHeader header) {
+
+        this.signer = signer;
+        this.header = header;
+        this.encodedHeader = header == null ? null : header.toBase64URL().toString();
+    }
+
+    /**
+     * Returns a signer which does not sign the payload.
+     *
+     * @return unsigned payload signer
+     */
+    public static JWSPayloadSigner unsigned() {
+
+        return UNSIGNED_SIGNER;
+    }
+
+    /**
+     * Creates a signer for an RSA or EC private key.
+     *
+     * @param algorithm RS*, PS* or ES* algorithm matching the key type
+     * @param key       private key
+     * @return payload signer
+     * @throws FinancialServicesException if the key does not match the algorithm
+     */
+    public static JWSPayloadSigner forPrivateKey(JWSAlgorithm algorithm, Key key) throws FinancialServicesException {
+
+        if (!(key instanceof PrivateKey)) {
+            throw new FinancialServicesException("A private key is required to sign with " + algorithm.getName());
+        }
+        try {
+            if (JWSAlgorithm.Family.RSA.contains(algorithm)) {
+                return new JWSPayloadSigner(new RSASSASigner((PrivateKey) key), getHeader(algorithm));
+            } else if (JWSAlgorithm.Family.EC.contains(algorithm) && key instanceof ECPrivateKey) {
+                ECDSASigner ecdsaSigner = new ECDSASigner((ECPrivateKey) key);
+                if (!ecdsaSigner.supportedJWSAlgorithms().contains(algorithm)) {
+                    throw new FinancialServicesException("The EC key curve does not support " + algorithm.getName());
+                }
+                return new JWSPayloadSigner(ecdsaSigner, getHeader(algorithm));
+            }
+        } catch (JOSEException e) {
+            throw new FinancialServicesException("Unable to create signer for " + algorithm.getName(), e);
+        }
+        throw new FinancialServicesException(String.format("%s key cannot be used to sign with %s",
+                key.getAlgorithm(), algorithm.getName()));
+    }
+
+    /**
+     * Creates an HMAC signer for a secret shared with the receiving end.
+     *
+     * @param algorithm HS256, HS384 or HS512
+     * @param secret    shared secret, at least as long as the hash output
+     * @return payload signer
+     * @throws FinancialServicesException if the algorithm is not an HMAC algorithm or the secret is too short
+     */
+    public static JWSPayloadSigner forSharedSecret(JWSAlgorithm algorithm, byte[] secret)
+            throws FinancialServicesException {
+
+        if (!JWSAlgorithm.Family.HMAC_SHA.contains(algorithm)) {
+            throw new FinancialServicesException(algorithm.getName() + " is not an HMAC algorithm");
+        }
+        try {
+            MACSigner macSigner = new MACSigner(secret);
+            if (!macSigner.supportedJWSAlgorithms().contains(algorithm)) {
+                throw new FinancialServicesException("Shared secret is too short for " + algorithm.getName());
+            }
+            return new JWSPayloadSigner(macSigner, getHeader(algorithm));
+        } catch (JOSEException e) {
+            throw new FinancialServicesException("Unable to create signer for " + algorithm.getName(), e);
+        }
+    }
+
+    /**
+     * Creates an EdDSA signer for an Ed25519 octet key pair.
+     *
+     * @param octetKeyPair Ed25519 key pair including the private part
+     * @return payload signer
+     * @throws FinancialServicesException if the key pair cannot be used for signing
+     */
+    public static JWSPayloadSigner forOctetKeyPair(OctetKeyPair octetKeyPair) throws FinancialServicesException {
+
+        try {
+            return new JWSPayloadSigner(new Ed25519Signer(octetKeyPair), getHeader(JWSAlgorithm.EdDSA));
+        } catch (JOSEException | NoClassDefFoundError e) {
+            throw new FinancialServicesException("Unable to create signer for " + JWSAlgorithm.EdDSA.getName(), e);
+        }
+    }
+
+    /**
+     * Signs the given payload.
+     *
+     * @param payload JSON payload
+     * @return compact JWS serialization, or the payload itself for an unsigned signer
+     * @throws FinancialServicesException if signing fails
+     */
+    public String sign(String payload) throws FinancialServicesException {
+
+        if (signer == null) {
+            return payload;
+        }
+        String signingInput = encodedHeader + '.' + Base64URL.encode(payload.getBytes(StandardCharsets.UTF_8));
+        try {
+            Base64URL signature = signer.sign(header, signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + '.' + signature;
+        } catch (JOSEException e) {
+            throw new FinancialServicesException("Error occurred while signing the payload", e);
+        }
+    }
+
+    /**
+     * Returns whether payloads are signed by this signer.
+     *
+     * @return false for the unsigned signer
+     */
+    public boolean isSigned() {
+
+        return signer != null;
+    }
+
+    /**
+     * Returns the signing algorithm.
+     *
+     * @return signing algorithm or null for the unsigned signer
+     */
+    public JWSAlgorithm getAlgorithm() {
+
+        return header == null ? null : header.getAlgorithm();
+    }
+
+    private static JWSHeader getHeader(JWSAlgorithm algorithm) {
+
+        return new JWSHeader.Builder(algorithm).type(JOSEObjectType.JWT).build();
+    }
+}
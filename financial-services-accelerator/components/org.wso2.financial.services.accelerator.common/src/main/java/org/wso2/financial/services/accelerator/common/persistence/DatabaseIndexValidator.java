@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.persistence;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Verifies that the secondary indexes required by the data access queries exist in the database.
+ * <p>
+ * An expected index is considered present if any index of the table, including the primary key, starts with the
+ * expected columns in the same order. Index names are not compared, so that indexes created by database
+ * administrators under different names are recognised.
+ */
+public final class DatabaseIndexValidator {
+
+    private static final Log log = LogFactory.getLog(DatabaseIndexValidator.class);
+
+    private DatabaseIndexValidator() {
+
+    }
+
+    /**
+     * Returns the expected indexes which are not found in the database.
+     *
+     * @param connection      database connection
+     * @param expectedIndexes expected indexes
+     * @return missing indexes, empty if all expected indexes exist
+     * @throws SQLException if the index metadata cannot be read
+     */
+    public static List<IndexDefinition> getMissingIndexes(Connection connection,
+                                                          Collection<IndexDefinition> expectedIndexes)
+            throws SQLException {
+
+        DatabaseMetaData metaData = connection.getMetaData();
+        Map<String, Collection<List<String>>> indexColumnsByTable = new HashMap<>();
+        List<IndexDefinition> missingIndexes = new ArrayList<>();
+        for (IndexDefinition expectedIndex : expectedIndexes) {
+            Collection<List<String>> tableIndexes = indexColumnsByTable.get(expectedIndex.getTableName());
+            if (tableIndexes == null) {
+                tableIndexes = getIndexColumns(connection, metaData, expectedIndex.getTableName());
+                indexColumnsByTable.put(expectedIndex.getTableName(), tableIndexes);
+            }
+            if (tableIndexes.stream().noneMatch(expectedIndex::isCoveredBy)) {
+                missingIndexes.add(expectedIndex);
+            }
+        }
+        return missingIndexes;
+    }
+
+    /**
+     * Logs a warning for each expected index which is not found in the database. Failures to read the index
+     * metadata are logged and ignored, since a missing index does not prevent the server from functioning.
+     *
+     * @param connection      database connection
+     * @param expectedIndexes expected indexes
+     * @param featureName     name of the feature owning the tables, used in the log messages
+     */
+    public static void logMissingIndexes(Connection connection, Collection<IndexDefinition> expectedIndexes,
+                                         String featureName) {
+
+        try {
+            List<IndexDefinition> missingIndexes = getMissingIndexes(connection, expectedIndexes);
+            for (IndexDefinition missingIndex : missingIndexes) {
+                log.warn(String.format("Index %s on %s is missing in the %s database. Queries filtering on these " +
+                        "columns will scan the table. Apply the secondary index migration scripts in " +
+                        "dbscripts/financial-services/migration", missingIndex.getIndexName(), missingIndex,
+                        featureName));
+            }
+            if (missingIndexes.isEmpty() && log.isDebugEnabled()) {
+                log.debug(String.format("All expected indexes exist in the %s database", featureName));
+            }
+        } catch (SQLException e) {
+            log.warn(String.format("Unable to verify the indexes of the %s database", featureName), e);
+        }
+    }
+
+    private static Collection<List<String>> getIndexColumns(Connection connection, DatabaseMetaData metaData,
+                                                            String tableName) throws SQLException {
+
+        Collection<List<String>> indexColumns = readIndexColumns(connection, metaData, tableName);
+        if (indexColumns.isEmpty()) {
+            // Databases such as PostgreSQL store unquoted identifiers in lower case
+            indexColumns = readIndexColumns(connection, metaData, tableName.toLowerCase(Locale.ENGLISH));
+        }
+        return indexColumns;
+    }
+
+    private static Collection<List<String>> readIndexColumns(Connection connection, DatabaseMetaData metaData,
+                                                             String tableName) throws SQLException {
+
+        // Columns of each index ordered by their position in the index
+        Map<String, TreeMap<Short, String>> columnsByIndex = new HashMap<>();
+        try (ResultSet resultSet = metaData.getIndexInfo(connection.getCatalog(), null, tableName, false,
+                true)) {
+            while (resultSet.next()) {
+                String indexName = resultSet.getString("INDEX_NAME");
+                String columnName = resultSet.getString("COLUMN_NAME");
+                if (indexName == null || columnName == null) {
+                    continue;
+                }
+                columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(resultSet.getShort("ORDINAL_POSITION"), columnName.toUpperCase(Locale.ENGLISH));
+            }
+        }
+        Collection<List<String>> indexColumns = new ArrayList<>();
+        for (TreeMap<Short, String> columns : columnsByIndex.values()) {
+            indexColumns.add(new ArrayList<>(columns.values()));
+        }
+        return indexColumns;
+    }
+
+    /**
+     * Index expected on a table.
+     */
+    public static final class IndexDefinition {
+
+        private final String indexName;
+        private final String tableName;
+        private final List<String> columnNames;
+
+        public IndexDefinition(String indexName, String tableName, String... columnNames) {
+
+            this.indexName = indexName;
+            this.tableName = tableName.toUpperCase(Locale.ENGLISH);
+            List<String> columns = new ArrayList<>();
+            for (String columnName : columnNames) {
+                columns.add(columnName.toUpperCase(Locale.ENGLISH));
+            }
+            this.columnNames = Collections.unmodifiableList(columns);
+        }
+
+        public String getIndexName() {
+
+            return indexName;
+        }
+
+        public String getTableName() {
+
+            return tableName;
+        }
+
+        public List<String> getColumnNames() {
+
+            return columnNames;
+        }
+
+        private boolean isCoveredBy(List<String> indexColumns) {
+
+            return indexColumns.size() >= columnNames.size() &&
+                    indexColumns.subList(0, columnNames.size()).equals(columnNames);
+        }
+
+        @Override
+        public String toString() {
+
+            return tableName + "(" + String.join(", ", columnNames) + ")";
+        }
+    }
+}
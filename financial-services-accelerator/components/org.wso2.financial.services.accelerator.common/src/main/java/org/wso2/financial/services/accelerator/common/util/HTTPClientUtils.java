@@ -21,6 +21,10 @@ package org.wso2.financial.services.accelerator.common.util;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
 import org.apache.http.conn.ssl.SSLSocketFactory;
 import org.apache.http.conn.ssl.TrustSelfSignedStrategy;
@@ -29,7 +33,11 @@ import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
 import org.apache.http.ssl.SSLContexts;
 import org.wso2.carbon.base.ServerConfiguration;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPool;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPoolStatistics;
 import org.wso2.financial.services.accelerator.common.internal.FinancialServicesCommonDataHolder;
 
 import java.io.FileInputStream;
@@ -39,6 +47,11 @@ import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.cert.CertificateException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import javax.net.ssl.SSLContext;
 
@@ -52,6 +65,7 @@ public class HTTPClientUtils {
     public static final String HOST_NAME_VERIFIER = "httpclient.hostnameVerifier";
     private static final String[] SUPPORTED_HTTP_PROTOCOLS = {"TLSv1.2"};
     private static final Log log = LogFactory.getLog(DatabaseUtils.class);
+    private static final Map<String, HTTPClientPool> HTTP_CLIENT_POOLS = new ConcurrentHashMap<>();
 
     private HTTPClientUtils() {
         // Prevent instantiation
@@ -90,6 +104,104 @@ public class HTTPClientUtils {
         }
     }
 
+    /**
+     * Get the HTTP client pool of the given name, creating it on first use.
+     * <p>
+     * Each pool has its own connections, so that calls made for one purpose cannot exhaust the connections used for
+     * another. The pool is configured from HTTPConnectionPool.{poolName} and falls back to the shared HTTP connection
+     * pool limits for the settings which are not configured.
+     *
+     * @param poolName name of the pool, one of the HTTP_CLIENT_POOL constants in FinancialServicesConstants
+     * @return HTTP client pool
+     */
+    public static HTTPClientPool getHttpClientPool(String poolName) {
+
+        HTTPClientPool pool = HTTP_CLIENT_POOLS.get(poolName);
+        if (pool != null) {
+            return pool;
+        }
+        synchronized (HTTP_CLIENT_POOLS) {
+            return HTTP_CLIENT_POOLS.computeIfAbsent(poolName, name ->
+                    new HTTPClientPool(name, getSocketFactoryRegistry(), getHttpClientPoolSettings(name)));
+        }
+    }
+
+    /**
+     * Get the statistics of the HTTP client pools created so far.
+     *
+     * @return statistics of each HTTP client pool
+     */
+    public static List<HTTPClientPoolStatistics> getHttpClientPoolStatistics() {
+
+        List<HTTPClientPoolStatistics> statistics = new ArrayList<>();
+        for (HTTPClientPool pool : HTTP_CLIENT_POOLS.values()) {
+            statistics.add(pool.getStatistics());
+        }
+        return statistics;
+    }
+
+    /**
+     * Close the HTTP client pools and their connections.
+     */
+    public static void closeHttpClientPools() {
+
+        synchronized (HTTP_CLIENT_POOLS) {
+            for (HTTPClientPool pool : HTTP_CLIENT_POOLS.values()) {
+                try {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Closing HTTP client pool " + pool.getStatistics());
+                    }
+                    pool.close();
+                } catch (IOException e) {
+                    log.error("Error while closing HTTP client pool " + pool.getName(), e);
+                }
+            }
+            HTTP_CLIENT_POOLS.clear();
+        }
+    }
+
+    private static HTTPClientPool.Settings getHttpClientPoolSettings(String poolName) {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        return new HTTPClientPool.Settings()
+                .setMaxConnections(configParser.getHTTPClientPoolConfiguration(poolName,
+                        FinancialServicesConstants.HTTP_CLIENT_POOL_MAX_CONNECTIONS,
+                        configParser.getConnectionPoolMaxConnections()))
+                .setMaxConnectionsPerRoute(configParser.getHTTPClientPoolConfiguration(poolName,
+                        FinancialServicesConstants.HTTP_CLIENT_POOL_MAX_CONNECTIONS_PER_ROUTE,
+                        configParser.getConnectionPoolMaxConnectionsPerRoute()))
+                .setLeaseTimeoutMillis((int) TimeUnit.SECONDS.toMillis(configParser.getHTTPClientPoolConfiguration(
+                        poolName, FinancialServicesConstants.HTTP_CLIENT_POOL_LEASE_TIMEOUT, 5)))
+                .setConnectTimeoutMillis((int) TimeUnit.SECONDS.toMillis(configParser.getHTTPClientPoolConfiguration(
+                        poolName, FinancialServicesConstants.HTTP_CLIENT_POOL_CONNECT_TIMEOUT, 10)))
+                .setSocketTimeoutMillis((int) TimeUnit.SECONDS.toMillis(configParser.getHTTPClientPoolConfiguration(
+                        poolName, FinancialServicesConstants.HTTP_CLIENT_POOL_SOCKET_TIMEOUT, 30)))
+                .setIdleTimeoutMillis(TimeUnit.SECONDS.toMillis(configParser.getHTTPClientPoolConfiguration(
+                        poolName, FinancialServicesConstants.HTTP_CLIENT_POOL_IDLE_TIMEOUT, 60)))
+                .setKeepAliveMillis(TimeUnit.SECONDS.toMillis(configParser.getHTTPClientPoolConfiguration(
+                        poolName, FinancialServicesConstants.HTTP_CLIENT_POOL_KEEP_ALIVE, 60)))
+                .setAsyncThreads(configParser.getHTTPClientPoolConfiguration(poolName,
+                        FinancialServicesConstants.HTTP_CLIENT_POOL_ASYNC_THREADS,
+                        Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    @Generated(message = "Ignoring because ServerConfiguration cannot be mocked")
+    private static Registry<ConnectionSocketFactory> getSocketFactoryRegistry() {
+
+        SSLConnectionSocketFactory sslConnectionSocketFactory;
+        try {
+            sslConnectionSocketFactory = createSSLConnectionSocketFactory();
+        } catch (FinancialServicesException e) {
+            log.error("Error occurred while creating the SSL connection socket factory. The default socket " +
+                    "factory is used", e);
+            sslConnectionSocketFactory = SSLConnectionSocketFactory.getSocketFactory();
+        }
+        return RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", sslConnectionSocketFactory)
+                .build();
+    }
+
     /**
      * create a SSL Connection Socket Factory.
      *
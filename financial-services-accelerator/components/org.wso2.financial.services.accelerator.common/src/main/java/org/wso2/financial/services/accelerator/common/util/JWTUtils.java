@@ -24,15 +24,15 @@ import com.nimbusds.jose.JWSHeader;
 import com.nimbusds.jose.JWSObject;
 import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.MACVerifier;
 import com.nimbusds.jose.crypto.RSASSASigner;
 import com.nimbusds.jose.crypto.RSASSAVerifier;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
 import com.nimbusds.jose.proc.SimpleSecurityContext;
-import com.nimbusds.jose.util.DefaultResourceRetriever;
 import com.nimbusds.jwt.JWT;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.JWTParser;
@@ -43,18 +43,19 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.core.util.KeyStoreManager;
-import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
 import org.wso2.financial.services.accelerator.common.internal.FinancialServicesCommonDataHolder;
+import org.wso2.financial.services.accelerator.common.jwks.CachingJWKSource;
+import org.wso2.financial.services.accelerator.common.jwks.JWKSetRegistry;
 
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.security.KeyFactory;
 import java.security.KeyStore;
@@ -63,6 +64,7 @@ import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
@@ -70,8 +72,6 @@ import java.security.spec.X509EncodedKeySpec;
 import java.text.ParseException;
 import java.util.Base64;
 import java.util.Date;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Util class for jwt related functions.
@@ -121,29 +121,10 @@ public class JWTUtils {
     public static JWTClaimsSet validateJWTSignature(String jwtString, String jwksUri, String algorithm)
             throws ParseException, BadJOSEException, JOSEException, MalformedURLException {
 
-        int defaultConnectionTimeout = 3000;
-        int defaultReadTimeout = 3000;
         ConfigurableJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
         JWT jwt = JWTParser.parse(jwtString);
-        // set the Key Selector for the jwks_uri.
-        Map<String, RemoteJWKSet<SecurityContext>> jwkSourceMap = new ConcurrentHashMap<>();
-        RemoteJWKSet<SecurityContext> jwkSet = jwkSourceMap.get(jwksUri);
-        if (jwkSet == null) {
-            int connectionTimeout = Integer.parseInt(FinancialServicesConfigParser.getInstance()
-                    .getJWKSConnectionTimeOut());
-            int readTimeout = Integer.parseInt(FinancialServicesConfigParser.getInstance().getJWKSReadTimeOut());
-            int sizeLimit = RemoteJWKSet.DEFAULT_HTTP_SIZE_LIMIT;
-            if (connectionTimeout == 0 && readTimeout == 0) {
-                connectionTimeout = defaultConnectionTimeout;
-                readTimeout = defaultReadTimeout;
-            }
-            DefaultResourceRetriever resourceRetriever = new DefaultResourceRetriever(
-                    connectionTimeout,
-                    readTimeout,
-                    sizeLimit);
-            jwkSet = new RemoteJWKSet<>(new URL(jwksUri), resourceRetriever);
-            jwkSourceMap.put(jwksUri, jwkSet);
-        }
+        // set the Key Selector for the jwks_uri. Key sets are shared across validations through the registry.
+        CachingJWKSource jwkSet = JWKSetRegistry.getInstance().getJWKSource(jwksUri);
         // The expected JWS algorithm of the access tokens (agreed out-of-band).
         JWSAlgorithm expectedJWSAlg = JWSAlgorithm.parse(algorithm);
         // Configure the JWT processor with a key selector to feed matching public RSA
@@ -303,7 +284,8 @@ public class JWTUtils {
         PublicKey publicKey = certificate.getPublicKey();
 
         try {
-            JWSVerifier verifier = new RSASSAVerifier((RSAPublicKey) publicKey);
+            JWSVerifier verifier = publicKey instanceof ECPublicKey ? new ECDSAVerifier((ECPublicKey) publicKey) :
+                    new RSASSAVerifier((RSAPublicKey) publicKey);
             boolean isValid = SignedJWT.parse(jwtString).verify(verifier);
             if (!isValid) {
                 log.error("Invalid JWT signature");
@@ -319,6 +301,35 @@ public class JWTUtils {
 
     }
 
+    /**
+     * Validate an HMAC JWT signature with a secret shared with the signing party.
+     *
+     * @param jwtString    string value of the JWT to be validated
+     * @param sharedSecret shared secret
+     * @return boolean value depicting whether the signature is valid
+     * @throws ConsentManagementException error with message mentioning the cause
+     */
+    public static boolean validateJWTSignatureWithSharedSecret(String jwtString, String sharedSecret)
+            throws ConsentManagementException {
+
+        try {
+            SignedJWT signedJWT = SignedJWT.parse(jwtString);
+            if (!JWSAlgorithm.Family.HMAC_SHA.contains(signedJWT.getHeader().getAlgorithm())) {
+                throw new ConsentManagementException("JWT is not signed with an HMAC algorithm");
+            }
+            JWSVerifier verifier = new MACVerifier(sharedSecret.getBytes(StandardCharsets.UTF_8));
+            if (!signedJWT.verify(verifier)) {
+                log.error("Invalid JWT signature");
+                throw new ConsentManagementException("Invalid JWT signature");
+            }
+            log.debug("Returning true since the JWT signature is valid.");
+            return true;
+        } catch (JOSEException | ParseException e) {
+            log.error("Error occurred while validating JWT signature", e);
+            throw new ConsentManagementException("Error occurred while validating JWT signature");
+        }
+    }
+
     /**
      * Util method to get the certificate from the trust store by alias.
      * 
@@ -378,15 +389,27 @@ public class JWTUtils {
      */
     @Generated(message = "Excluding from code coverage since it contains external https call")
     public static String signJWTWithDefaultKey(String body) throws Exception {
+
+        return generateJWT(body, getDefaultPrivateKey());
+    }
+
+    /**
+     * Get the private key of the carbon default key pair.
+     * Skipped in unit tests since @KeystoreManager cannot be mocked
+     *
+     * @return private key of the primary keystore
+     * @throws Exception error if the tenant is invalid or the key cannot be read
+     */
+    @Generated(message = "Excluding from code coverage since @KeystoreManager cannot be mocked")
+    public static Key getDefaultPrivateKey() throws Exception {
+
         KeyStoreManager keyStoreManager = KeyStoreManager.getInstance(-1234);
         KeyStore primaryKeyStore = keyStoreManager.getPrimaryKeyStore();
         if (primaryKeyStore != null) {
-            Key privateKey = keyStoreManager.getDefaultPrivateKey();
-            return generateJWT(body, privateKey);
+            return keyStoreManager.getDefaultPrivateKey();
         } else {
             throw new FinancialServicesRuntimeException("Error while retrieving the Primary Keystore");
         }
-
     }
 
     /**
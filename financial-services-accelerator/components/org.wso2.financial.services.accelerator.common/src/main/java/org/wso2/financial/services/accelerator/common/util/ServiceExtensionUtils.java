@@ -20,27 +20,17 @@ package org.wso2.financial.services.accelerator.common.util;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.apache.commons.io.IOUtils;
-import org.apache.commons.logging.Log;
-import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpEntity;
-import org.apache.http.client.config.RequestConfig;
-import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
 import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
-import org.wso2.financial.services.accelerator.common.constant.ErrorConstants;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.extension.ServiceExtensionInvocationStatistics;
+import org.wso2.financial.services.accelerator.common.extension.ServiceExtensionInvoker;
 import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceRequest;
 import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceResponse;
 import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
 
-import java.io.IOException;
-import java.net.ConnectException;
-import java.net.SocketTimeoutException;
-import java.net.UnknownHostException;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.List;
@@ -51,7 +41,6 @@ import java.util.List;
  */
 public class ServiceExtensionUtils {
 
-    private static final Log log = LogFactory.getLog(ServiceExtensionUtils.class);
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -70,7 +59,8 @@ public class ServiceExtensionUtils {
 
     /**
      * Method to invoke external service call.
-     * Implements the retry mechanism for the external service call.
+     * The call is made through the invoker of the service type, which retries failed calls with a backoff, stops
+     * calling a failing extension and, if configured, hedges calls and caches responses.
      *
      * @param externalServiceRequest  The request containing the details of the external service call.
      * @param serviceType             Type of the service extension to be invoked.
@@ -81,117 +71,17 @@ public class ServiceExtensionUtils {
                                                                     ServiceExtensionTypeEnum serviceType)
             throws FinancialServicesException {
 
-        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
-        final int maxRetries = configParser.getServiceExtensionsEndpointRetryCount();
-
-        // Read timeout
-        final int socketTimeoutMillis = configParser.getServiceExtensionsEndpointReadTimeoutInSeconds() * 1000;
-
-        // Connection timeout
-        final int connectTimeoutMillis = configParser.getServiceExtensionsEndpointConnectTimeoutInSeconds() * 1000;
-
-        int attempt = 0;
-        while (attempt < maxRetries) {
-            attempt++;
-            try {
-                String externalServicesPayload = (new JSONObject(externalServiceRequest)).toString();
-                String constructedUrl = constructExtensionEndpoint(serviceType);
-
-                if (log.isDebugEnabled()) {
-                    String sanitizedUrl = constructedUrl.replaceAll("[\r\n]", "");
-                    log.debug("Invoking external service [requestUrl=" + sanitizedUrl + "]");
-                }
-
-                HttpPost httpPost = new HttpPost(constructedUrl);
-                StringEntity params = new StringEntity(externalServicesPayload);
-                httpPost.setEntity(params);
-                httpPost.setHeader(FinancialServicesConstants.CONTENT_TYPE_TAG,
-                        FinancialServicesConstants.JSON_CONTENT_TYPE);
-                httpPost.setHeader(FinancialServicesConstants.ACCEPT,
-                        FinancialServicesConstants.JSON_CONTENT_TYPE);
-
-                // Set timeouts
-                RequestConfig requestConfig = RequestConfig.custom()
-                        .setSocketTimeout(socketTimeoutMillis)
-                        .setConnectTimeout(connectTimeoutMillis)
-                        .setConnectionRequestTimeout(connectTimeoutMillis)
-                        .build();
-                httpPost.setConfig(requestConfig);
-
-                // Set security credentials
-                String securityType = configParser.getServiceExtensionsEndpointSecurityType();
-                if (FinancialServicesConstants.BASIC_AUTH.equals(securityType)) {
-                    setBasicAuthHeader(httpPost,
-                            configParser.getServiceExtensionsEndpointSecurityBasicAuthUsername(),
-                            configParser.getServiceExtensionsEndpointSecurityBasicAuthPassword());
-                } else if (FinancialServicesConstants.OAUTH2.equals(securityType)) {
-                    setOauth2AuthHeader(httpPost,
-                            configParser.getServiceExtensionsEndpointSecurityOauth2Token());
-                } else {
-                    throw new FinancialServicesException("Invalid security type for service extensions endpoint");
-                }
-
-                try (CloseableHttpResponse response = HTTPClientUtils.getHttpsClient().execute(httpPost)) {
-                    HttpEntity entity = response.getEntity();
-                    if (entity == null || entity.getContent() == null) {
-                        throw new FinancialServicesException("No response content received from external service");
-                    }
-
-                    String responseContent = IOUtils.toString(entity.getContent(),
-                            String.valueOf(StandardCharsets.UTF_8));
-                    int statusCode = response.getStatusLine().getStatusCode();
-
-                    if (log.isDebugEnabled()) {
-                        String sanitizedUrl = constructedUrl.replaceAll("[\r\n]", "");
-                        log.debug("External service response received [requestUrl=" + sanitizedUrl + ", statusCode=" +
-                                statusCode + "]");
-                    }
-
-                    if (statusCode != 200) {
-                        log.error(String.format(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR +
-                                        "Status code: %s, Error: %s", statusCode,
-                                responseContent.replaceAll("[\r\n]", "")));
-                        if (statusCode == 400 || statusCode == 500) {
-                            ExternalServiceResponse externalServiceResponse = mapResponse(responseContent,
-                                    ExternalServiceResponse.class);
-
-                            throw new FinancialServicesException(externalServiceResponse.getData()
-                                    .path(FinancialServicesConstants.ERROR_DESCRIPTION)
-                                    .asText(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR));
-                        }
-                        throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR);
-                    }
-
-                    return mapResponse(responseContent, ExternalServiceResponse.class);
-                }
-
-            } catch (IOException e) {
-                if (isRetryableException(e)) {
-                    log.warn(String.format("Attempt %d failed to call external service: %s",
-                            attempt, e.getMessage().replaceAll("[\r\n]", "")));
-                    if (attempt >= maxRetries) {
-                        throw new FinancialServicesException("External service call failed after retries", e);
-                    }
-                } else {
-                    log.error(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR, e);
-                    throw new FinancialServicesException(ErrorConstants.EXTERNAL_SERVICE_DEFAULT_ERROR);
-                }
-            }
-        }
-
-        throw new FinancialServicesException("External service call failed");
+        return ServiceExtensionInvoker.getInstance(serviceType).invoke(externalServiceRequest);
     }
 
     /**
-     * Method to check whether the exception is retryable.
+     * Method to get the invocation statistics of the service extension types invoked so far.
      *
-     * @param e   Exception to be checked
-     * @return  true if the exception is retryable, false otherwise
+     * @return invocation statistics of each service extension type
      */
-    private static boolean isRetryableException(Exception e) {
-        return e instanceof SocketTimeoutException ||
-                e instanceof ConnectException ||
-                e instanceof UnknownHostException;
+    public static List<ServiceExtensionInvocationStatistics> getInvocationStatistics() {
+
+        return ServiceExtensionInvoker.getAllStatistics();
     }
 
     /**
@@ -208,18 +98,6 @@ public class ServiceExtensionUtils {
         return objectMapper.readValue(jsonResponse, clazz);
     }
 
-    /**
-     * Method to construct the endpoint URL for the service extension.
-     *
-     * @param serviceType  Type of the service extension
-     * @return  Constructed endpoint URL
-     */
-    private static String constructExtensionEndpoint(ServiceExtensionTypeEnum serviceType) {
-
-        String baseUrl = FinancialServicesConfigParser.getInstance().getServiceExtensionsEndpointBaseUrl();
-        return baseUrl + "/" + serviceType.toString().replaceAll("_", "-");
-    }
-
     /**
      * Method to set the basic auth header for the HTTP POST request.
      *
@@ -22,10 +22,14 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
 import org.wso2.financial.services.accelerator.common.util.CarbonUtils;
 
 import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 
 import static org.testng.Assert.assertEquals;
@@ -118,6 +122,22 @@ public class FSConfigParserTests {
         Assert.assertEquals(maxConnectionsPerRoute, 500);
     }
 
+    @Test(priority = 8)
+    public void testGetHTTPClientPoolConfiguration() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+
+        Assert.assertEquals(configParser.getHTTPClientPoolConfiguration(
+                FinancialServicesConstants.HTTP_CLIENT_POOL_NOTIFICATION_DELIVERY,
+                FinancialServicesConstants.HTTP_CLIENT_POOL_MAX_CONNECTIONS, 1000), 200);
+        Assert.assertEquals(configParser.getHTTPClientPoolConfiguration(
+                FinancialServicesConstants.HTTP_CLIENT_POOL_NOTIFICATION_DELIVERY,
+                FinancialServicesConstants.HTTP_CLIENT_POOL_LEASE_TIMEOUT, 5), 3);
+        Assert.assertEquals(configParser.getHTTPClientPoolConfiguration(
+                FinancialServicesConstants.HTTP_CLIENT_POOL_CONSENT_VALIDATION,
+                FinancialServicesConstants.HTTP_CLIENT_POOL_MAX_CONNECTIONS, 1000), 1000);
+    }
+
     @Test(priority = 10)
     public void testGetAuthServletExtension() {
 
@@ -171,6 +191,13 @@ public class FSConfigParserTests {
         Assert.assertEquals(connectionTimeOut, 60);
     }
 
+    @Test(priority = 19)
+    public void testGetLocalCacheConfigs() {
+
+        Assert.assertTrue(FinancialServicesConfigParser.getInstance().isLocalCacheEnabled());
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getLocalCacheMaxEntries(), 5000);
+    }
+
     @Test(priority = 20)
     public void testGetConsentAPIUsername() {
 
@@ -189,6 +216,41 @@ public class FSConfigParserTests {
         Assert.assertEquals(FinancialServicesConfigParser.getInstance().getPreserveConsent(), "false");
     }
 
+    @Test(priority = 22)
+    public void testGetAuthorizationSessionExpiryTime() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getAuthorizationSessionExpiryTime(), 10);
+    }
+
+    @Test(priority = 22)
+    public void testGetConsentExportBatchSize() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getConsentExportBatchSize(), 250);
+    }
+
+    @Test(priority = 22)
+    public void testGetTokenRevocationConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getTokenRevocationBatchSize(), 50);
+        Assert.assertEquals(configParser.getTokenRevocationPollInterval(), 10);
+        Assert.assertEquals(configParser.getTokenRevocationMaxAttempts(), 3);
+        Assert.assertEquals(configParser.getTokenRevocationRetryInterval(), 60);
+    }
+
+    @Test(priority = 22)
+    public void testGetStateChangeEventConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertFalse(configParser.isStateChangeEventEnabled());
+        Assert.assertEquals(configParser.getStateChangeEventBatchSize(), 20);
+        Assert.assertEquals(configParser.getStateChangeEventPollInterval(), 15);
+        Assert.assertEquals(configParser.getStateChangeEventMaxAttempts(), 4);
+        Assert.assertEquals(configParser.getStateChangeEventRetryInterval(), 120);
+        Assert.assertEquals(configParser.getStateChangeEventBrokerAdapter(),
+                "org.wso2.financial.services.accelerator.common.test.CustomBrokerAdapter");
+    }
+
     @Test(priority = 23)
     public void testGetConsentValidationConfig() {
 
@@ -207,6 +269,13 @@ public class FSConfigParserTests {
         Assert.assertEquals(FinancialServicesConfigParser.getInstance().getNumberOfSetsToReturn(), 5);
     }
 
+    @Test(priority = 25)
+    public void testGetEventNotificationSigningKeyRefreshInterval() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getEventNotificationSigningKeyRefreshInterval(),
+                120L);
+    }
+
     @Test(priority = 26)
     public void testIsSubClaimIncluded() {
 
@@ -342,6 +411,24 @@ public class FSConfigParserTests {
                 .getServiceExtensionsEndpointReadTimeoutInSeconds(), 5);
     }
 
+    @Test(priority = 45)
+    public void testGetServiceExtensionsInvocationConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+
+        Assert.assertEquals(configParser.getServiceExtensionsCircuitBreakerFailureThreshold(), 3);
+        Assert.assertEquals(configParser.getServiceExtensionsCircuitBreakerOpenDuration(), 10);
+        Assert.assertEquals(configParser.getServiceExtensionsBackoffInitialInterval(), 100);
+        Assert.assertEquals(configParser.getServiceExtensionsHedgingPercentile(), 90);
+        Assert.assertEquals(configParser.getServiceExtensionsHedgedTypes(),
+                Collections.singletonList(ServiceExtensionTypeEnum.VALIDATE_AUTHORIZATION_REQUEST));
+        Assert.assertEquals(configParser.getServiceExtensionsResponseCacheTimeToLive(), 30);
+        Assert.assertEquals(configParser.getServiceExtensionsResponseCacheMaxEntries(), 1000);
+        Assert.assertEquals(configParser.getServiceExtensionsCachedTypes(), Arrays.asList(
+                ServiceExtensionTypeEnum.VALIDATE_AUTHORIZATION_REQUEST,
+                ServiceExtensionTypeEnum.MAP_ACCELERATOR_ERROR_RESPONSE));
+    }
+
     @Test(priority = 46)
     public void testGetServiceExtensionTypes() {
 
@@ -405,6 +492,37 @@ public class FSConfigParserTests {
                 .getConsentExpiryCronExpression());
     }
 
+    @Test(priority = 54)
+    public void testGetConsentExpiryChunkSizeAndParallelism() {
+
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getConsentExpiryChunkSize(), 200);
+        Assert.assertEquals(FinancialServicesConfigParser.getInstance().getConsentExpiryParallelism(), 4);
+    }
+
+    @Test(priority = 54)
+    public void testGetLongPollingConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getLongPollingMaxWaitTimeInSeconds(), 20);
+        Assert.assertEquals(configParser.getLongPollingMaxConcurrentRequests(), 500);
+        Assert.assertEquals(configParser.getLongPollingMaxConcurrentRequestsPerClient(), 2);
+    }
+
+    @Test(priority = 54)
+    public void testGetRealtimeEventNotificationDeliveryConfigs() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        Assert.assertEquals(configParser.getRealtimeEventNotificationQueueCapacity(), 2000);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationMaxConcurrentRequestsPerHost(), 3);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationHostFailureThreshold(), 4);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationHostSuspensionTimeInSeconds(), 30);
+        Assert.assertTrue(configParser.isRealtimeEventNotificationVirtualThreadsEnabled());
+        Assert.assertEquals(configParser.getRealtimeEventNotificationRecoveryBatchSize(), 200);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationProducerThreadPoolSize(), 8);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationProducerQueueCapacity(), 5000);
+        Assert.assertEquals(configParser.getRealtimeEventNotificationProducerCoalesceWindowInMillis(), 20L);
+    }
+
     @Test(priority = 55)
     public void testGetConsentIdExtractionJsonPath() {
 
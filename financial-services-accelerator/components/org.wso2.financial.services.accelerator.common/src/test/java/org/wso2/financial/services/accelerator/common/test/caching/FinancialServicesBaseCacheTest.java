@@ -0,0 +1,216 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCacheKey;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for FinancialServicesBaseCache backed by the local cache engine.
+ */
+public class FinancialServicesBaseCacheTest {
+
+    @Test
+    public void testGetFromCacheOrRetrieve() throws Exception {
+
+        TestCache cache = new TestCache();
+        AtomicInteger retrievals = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(cache.getFromCacheOrRetrieve(TestCacheKey.of("key"), () -> {
+                retrievals.incrementAndGet();
+                return "value";
+            }), "value");
+        }
+
+        Assert.assertEquals(retrievals.get(), 1);
+        Assert.assertEquals(cache.getStatistics().getHitCount(), 2);
+        Assert.assertEquals(cache.getStatistics().getMissCount(), 1);
+        Assert.assertEquals(cache.getStatistics().getLoadCount(), 1);
+    }
+
+    @Test
+    public void testConcurrentMissesAreRetrievedOnce() throws Exception {
+
+        TestCache cache = new TestCache();
+        AtomicInteger retrievals = new AtomicInteger();
+        CountDownLatch retrievalStarted = new CountDownLatch(1);
+        CountDownLatch releaseRetrieval = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> cache.getFromCacheOrRetrieve(TestCacheKey.of("key"), () -> {
+                    retrievals.incrementAndGet();
+                    retrievalStarted.countDown();
+                    await(releaseRetrieval);
+                    return "value";
+                })));
+            }
+            Assert.assertTrue(retrievalStarted.await(10, TimeUnit.SECONDS));
+            // Give the other threads time to miss and wait on the retrieval in progress
+            Thread.sleep(200);
+            releaseRetrieval.countDown();
+
+            for (Future<String> result : results) {
+                Assert.assertEquals(result.get(10, TimeUnit.SECONDS), "value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Assert.assertEquals(retrievals.get(), 1);
+        Assert.assertEquals(cache.getStatistics().getLoadCount(), 1);
+    }
+
+    @Test
+    public void testRetrievalFailureIsNotCached() throws Exception {
+
+        TestCache cache = new TestCache();
+        try {
+            cache.getFromCacheOrRetrieve(TestCacheKey.of("key"), () -> {
+                throw new FinancialServicesException("retrieval failed");
+            });
+            Assert.fail("Expected the retrieval failure to be thrown");
+        } catch (FinancialServicesException e) {
+            Assert.assertEquals(e.getMessage(), "retrieval failed");
+        }
+
+        Assert.assertEquals(cache.getFromCacheOrRetrieve(TestCacheKey.of("key"), () -> "value"), "value");
+        Assert.assertEquals(cache.getStatistics().getLoadFailureCount(), 1);
+        Assert.assertEquals(cache.getStatistics().getLoadCount(), 1);
+    }
+
+    @Test
+    public void testConditionalOperations() {
+
+        TestCache cache = new TestCache();
+
+        Assert.assertTrue(cache.addToCacheIfAbsent(TestCacheKey.of("key"), "first"));
+        Assert.assertFalse(cache.addToCacheIfAbsent(TestCacheKey.of("key"), "second"));
+        Assert.assertFalse(cache.removeFromCacheIfMatch(TestCacheKey.of("key"), "second"));
+        Assert.assertTrue(cache.removeFromCacheIfMatch(TestCacheKey.of("key"), "first"));
+        Assert.assertNull(cache.getFromCache(TestCacheKey.of("key")));
+
+        cache.addToCache(TestCacheKey.of("key"), "value");
+        Assert.assertEquals(cache.getFromCache(TestCacheKey.of("key")), "value");
+        cache.removeFromCache(TestCacheKey.of("key"));
+        Assert.assertNull(cache.getFromCache(TestCacheKey.of("key")));
+    }
+
+    private static void await(CountDownLatch latch) throws FinancialServicesException {
+
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FinancialServicesException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Cache held in the local cache engine.
+     */
+    private static class TestCache extends FinancialServicesBaseCache<TestCacheKey, String> {
+
+        TestCache() {
+
+            super("FS_TEST_CACHE");
+        }
+
+        @Override
+        protected boolean isLocalCacheEnabled() {
+
+            return true;
+        }
+
+        @Override
+        protected int getLocalCacheMaxEntries() {
+
+            return 100;
+        }
+
+        @Override
+        public int getCacheAccessExpiryMinutes() {
+
+            return 10;
+        }
+
+        @Override
+        public int getCacheModifiedExpiryMinutes() {
+
+            return 10;
+        }
+    }
+
+    /**
+     * Cache key of the test cache.
+     */
+    private static class TestCacheKey extends FinancialServicesBaseCacheKey {
+
+        private final String key;
+
+        TestCacheKey(String key) {
+
+            this.key = key;
+        }
+
+        public static TestCacheKey of(String key) {
+
+            return new TestCacheKey(key);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            return Objects.equals(key, ((TestCacheKey) o).key);
+        }
+
+        @Override
+        public int hashCode() {
+
+            return Objects.hash(key);
+        }
+
+        @Override
+        public String toString() {
+
+            return key;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.caching;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.CacheStatistics;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesLocalCache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for FinancialServicesLocalCache.
+ */
+public class FinancialServicesLocalCacheTest {
+
+    @Test
+    public void testGetAndPut() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 0, 0,
+                TimeUnit.MINUTES);
+
+        Assert.assertNull(cache.get("key"));
+        cache.put("key", "value");
+        Assert.assertEquals(cache.get("key"), "value");
+        cache.put("key", "updated");
+        Assert.assertEquals(cache.get("key"), "updated");
+        Assert.assertEquals(cache.size(), 1);
+
+        CacheStatistics statistics = cache.getStatistics();
+        Assert.assertEquals(statistics.getHitCount(), 2);
+        Assert.assertEquals(statistics.getMissCount(), 1);
+        Assert.assertEquals(statistics.getHitRatio(), 2.0 / 3);
+
+        cache.remove("key");
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+        cache.close();
+    }
+
+    @Test
+    public void testPutIfAbsentAndConditionalRemove() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 0, 0,
+                TimeUnit.MINUTES);
+
+        Assert.assertTrue(cache.putIfAbsent("key", "first"));
+        Assert.assertFalse(cache.putIfAbsent("key", "second"));
+        Assert.assertEquals(cache.get("key"), "first");
+
+        Assert.assertFalse(cache.remove("key", "second"));
+        Assert.assertTrue(cache.remove("key", "first"));
+        Assert.assertNull(cache.get("key"));
+        cache.close();
+    }
+
+    @Test
+    public void testWriteExpiry() {
+
+        AtomicLong time = new AtomicLong();
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 0, 10,
+                TimeUnit.SECONDS, time::get);
+
+        cache.put("key", "value");
+        time.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        Assert.assertEquals(cache.get("key"), "value");
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        Assert.assertNull(cache.get("key"));
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertEquals(cache.getStatistics().getExpirationCount(), 1);
+
+        // An expired entry does not prevent a conditional insert
+        cache.put("other", "value");
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertTrue(cache.putIfAbsent("other", "new value"));
+        Assert.assertEquals(cache.get("other"), "new value");
+        cache.close();
+    }
+
+    @Test
+    public void testAccessExpiryIsExtendedByReads() {
+
+        AtomicLong time = new AtomicLong();
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 10, 60,
+                TimeUnit.SECONDS, time::get);
+
+        cache.put("key", "value");
+        for (int i = 0; i < 5; i++) {
+            time.addAndGet(TimeUnit.SECONDS.toNanos(8));
+            Assert.assertEquals(cache.get("key"), "value");
+        }
+        time.addAndGet(TimeUnit.SECONDS.toNanos(10));
+        Assert.assertNull(cache.get("key"));
+        cache.close();
+    }
+
+    @Test
+    public void testCleanUpRemovesExpiredEntries() {
+
+        AtomicLong time = new AtomicLong();
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 0, 10,
+                TimeUnit.SECONDS, time::get);
+
+        for (int i = 0; i < 10; i++) {
+            cache.put("key-" + i, "value");
+        }
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.put("fresh", "value");
+        time.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        cache.cleanUp();
+
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.get("fresh"), "value");
+        Assert.assertEquals(cache.getStatistics().getExpirationCount(), 10);
+        cache.close();
+    }
+
+    @Test
+    public void testSizeIsBounded() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 64, 0, 0,
+                TimeUnit.MINUTES);
+
+        for (int i = 0; i < 1000; i++) {
+            String key = "key-" + i;
+            if (cache.get(key) == null) {
+                cache.put(key, "value");
+            }
+        }
+
+        Assert.assertTrue(cache.size() <= 64);
+        Assert.assertTrue(cache.size() > 0);
+        Assert.assertTrue(cache.getStatistics().getEvictionCount() >= 1000 - 64);
+        cache.close();
+    }
+
+    @Test
+    public void testFrequentlyUsedEntrySurvivesScan() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 64, 0, 0,
+                TimeUnit.MINUTES);
+
+        cache.put("hot", "value");
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals(cache.get("hot"), "value");
+        }
+        // Keys used once are not admitted in place of the entry which is used regularly
+        for (int i = 0; i < 10000; i++) {
+            String key = "scan-" + i;
+            if (cache.get(key) == null) {
+                cache.put(key, "value");
+            }
+            if (i % 100 == 0) {
+                Assert.assertEquals(cache.get("hot"), "value");
+            }
+        }
+
+        Assert.assertTrue(cache.size() <= 64);
+        cache.close();
+    }
+
+    @Test
+    public void testConditionalInsertIsAlwaysAdmitted() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 16, 0, 0,
+                TimeUnit.MINUTES);
+
+        for (int i = 0; i < 16; i++) {
+            String key = "hot-" + i;
+            cache.put(key, "value");
+            for (int j = 0; j < 10; j++) {
+                cache.get(key);
+            }
+        }
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(cache.putIfAbsent("jti-" + i, "value"));
+            Assert.assertFalse(cache.putIfAbsent("jti-" + i, "value"));
+        }
+        Assert.assertTrue(cache.size() <= 16);
+        cache.close();
+    }
+
+    @Test
+    public void testInvalidateAll() {
+
+        FinancialServicesLocalCache<String, String> cache = new FinancialServicesLocalCache<>("test", 100, 0, 0,
+                TimeUnit.MINUTES);
+
+        for (int i = 0; i < 50; i++) {
+            cache.put("key-" + i, "value");
+        }
+        cache.invalidateAll();
+
+        Assert.assertEquals(cache.size(), 0);
+        Assert.assertNull(cache.get("key-1"));
+        cache.close();
+    }
+}
@@ -0,0 +1,215 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.extension;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.extension.CircuitBreaker;
+import org.wso2.financial.services.accelerator.common.extension.LatencyHistogram;
+import org.wso2.financial.services.accelerator.common.extension.ServiceExtensionInvoker;
+import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceRequest;
+import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceResponse;
+import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
+import org.wso2.financial.services.accelerator.common.extension.model.StatusEnum;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for ServiceExtensionInvoker.
+ */
+public class ServiceExtensionInvokerTest {
+
+    private static final String SUCCESS_RESPONSE = "{\"responseId\":\"response-id\",\"status\":\"SUCCESS\"," +
+            "\"data\":{\"valid\":true}}";
+
+    @Test
+    public void testRetryableFailuresAreRetried() throws FinancialServicesException {
+
+        AtomicInteger calls = new AtomicInteger();
+        ServiceExtensionInvoker invoker = new ServiceExtensionInvoker(ServiceExtensionTypeEnum.VALIDATE_CONSENT_ACCESS,
+                new ServiceExtensionInvoker.Settings().setMaxAttempts(3).setBackoffInitialIntervalMillis(1)
+                        .setBackoffMaxIntervalMillis(5),
+                (serviceType, payload) -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new SocketTimeoutException("Read timed out");
+                    }
+                    return SUCCESS_RESPONSE;
+                });
+
+        ExternalServiceResponse response = invoker.invoke(createRequest("consent-1"));
+
+        Assert.assertEquals(response.getStatus(), StatusEnum.SUCCESS);
+        Assert.assertEquals(calls.get(), 3);
+        Assert.assertEquals(invoker.getStatistics().getFailedRequestCount(), 2);
+        Assert.assertEquals(invoker.getStatistics().getResponseCount(), 1);
+    }
+
+    @Test
+    public void testCircuitOpensAfterConsecutiveFailures() {
+
+        AtomicInteger calls = new AtomicInteger();
+        ServiceExtensionInvoker invoker = new ServiceExtensionInvoker(ServiceExtensionTypeEnum.VALIDATE_CONSENT_ACCESS,
+                new ServiceExtensionInvoker.Settings().setFailureThreshold(2).setOpenDurationMillis(60000),
+                (serviceType, payload) -> {
+                    calls.incrementAndGet();
+                    throw new ConnectException("Connection refused");
+                });
+
+        for (int i = 0; i < 3; i++) {
+            try {
+                invoker.invoke(createRequest("consent-1"));
+                Assert.fail("Invocation should fail");
+            } catch (FinancialServicesException e) {
+                // expected
+            }
+        }
+
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(invoker.getStatistics().getCircuitState(), CircuitBreaker.State.OPEN);
+        Assert.assertEquals(invoker.getStatistics().getRejectedRequestCount(), 1);
+    }
+
+    @Test
+    public void testRejectedRequestsDoNotOpenCircuit() {
+
+        AtomicInteger calls = new AtomicInteger();
+        ServiceExtensionInvoker invoker = new ServiceExtensionInvoker(ServiceExtensionTypeEnum.VALIDATE_CONSENT_ACCESS,
+                new ServiceExtensionInvoker.Settings().setFailureThreshold(1),
+                (serviceType, payload) -> {
+                    calls.incrementAndGet();
+                    throw new FinancialServicesException("Invalid consent");
+                });
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                invoker.invoke(createRequest("consent-1"));
+                Assert.fail("Invocation should fail");
+            } catch (FinancialServicesException e) {
+                Assert.assertEquals(e.getMessage(), "Invalid consent");
+            }
+        }
+
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(invoker.getStatistics().getCircuitState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void testCircuitClosesAfterSuccessfulTrial() {
+
+        AtomicInteger time = new AtomicInteger();
+        CircuitBreaker circuitBreaker = new CircuitBreaker(1, 10, TimeUnit.NANOSECONDS, time::get);
+
+        Assert.assertTrue(circuitBreaker.recordFailure());
+        Assert.assertFalse(circuitBreaker.allowRequest());
+
+        time.set(10);
+        Assert.assertTrue(circuitBreaker.allowRequest());
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.assertFalse(circuitBreaker.allowRequest());
+
+        circuitBreaker.recordSuccess();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+        Assert.assertTrue(circuitBreaker.allowRequest());
+    }
+
+    @Test
+    public void testResponsesOfIdempotentExtensionsAreCached() throws FinancialServicesException {
+
+        AtomicInteger calls = new AtomicInteger();
+        ServiceExtensionInvoker.Settings settings = new ServiceExtensionInvoker.Settings().setCacheEnabled(true);
+        ServiceExtensionInvoker.Transport transport = (serviceType, payload) -> {
+            calls.incrementAndGet();
+            return SUCCESS_RESPONSE;
+        };
+        ServiceExtensionInvoker invoker = new ServiceExtensionInvoker(
+                ServiceExtensionTypeEnum.VALIDATE_CONSENT_ACCESS, settings, transport);
+
+        invoker.invoke(createRequest("consent-1"));
+        ExternalServiceRequest request = createRequest("consent-1");
+        ExternalServiceResponse cachedResponse = invoker.invoke(request);
+        invoker.invoke(createRequest("consent-2"));
+
+        Assert.assertEquals(calls.get(), 2);
+        Assert.assertEquals(cachedResponse.getResponseId(), request.getRequestId());
+        Assert.assertTrue(cachedResponse.getData().get("valid").asBoolean());
+        Assert.assertEquals(invoker.getStatistics().getCacheHitCount(), 1);
+
+        calls.set(0);
+        ServiceExtensionInvoker nonIdempotentInvoker = new ServiceExtensionInvoker(
+                ServiceExtensionTypeEnum.PRE_PROCESS_CONSENT_CREATION, settings, transport);
+        nonIdempotentInvoker.invoke(createRequest("consent-1"));
+        nonIdempotentInvoker.invoke(createRequest("consent-1"));
+        Assert.assertEquals(calls.get(), 2);
+    }
+
+    @Test
+    public void testSlowCallIsHedged() throws FinancialServicesException {
+
+        AtomicInteger calls = new AtomicInteger();
+        ServiceExtensionInvoker invoker = new ServiceExtensionInvoker(ServiceExtensionTypeEnum.VALIDATE_CONSENT_ACCESS,
+                new ServiceExtensionInvoker.Settings().setHedgingEnabled(true).setHedgingPercentile(50),
+                (serviceType, payload) -> {
+                    if (calls.incrementAndGet() == 31) {
+                        try {
+                            Thread.sleep(5000);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    return SUCCESS_RESPONSE;
+                });
+        for (int i = 0; i < 30; i++) {
+            invoker.invoke(createRequest("consent-" + i));
+        }
+
+        long startTime = System.nanoTime();
+        ExternalServiceResponse response = invoker.invoke(createRequest("consent-slow"));
+
+        Assert.assertEquals(response.getStatus(), StatusEnum.SUCCESS);
+        Assert.assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime) < 4000);
+        Assert.assertEquals(invoker.getStatistics().getHedgedRequestCount(), 1);
+    }
+
+    @Test
+    public void testLatencyHistogramPercentiles() {
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int latency = 1; latency <= 100; latency++) {
+            histogram.record(TimeUnit.MILLISECONDS.toNanos(latency));
+        }
+
+        Assert.assertEquals(histogram.getCount(), 100);
+        Assert.assertEquals(histogram.getPercentileMillis(50), 50);
+        Assert.assertEquals(histogram.getPercentileMillis(99), 99);
+        Assert.assertEquals(histogram.getMaxMillis(), 100);
+        Assert.assertEquals(histogram.getBucketCounts().length,
+                LatencyHistogram.getBucketUpperBoundsMillis().length + 1);
+    }
+
+    private static ExternalServiceRequest createRequest(String consentId) {
+
+        return new ExternalServiceRequest(UUID.randomUUID().toString(), new JSONObject().put("consentId", consentId));
+    }
+}
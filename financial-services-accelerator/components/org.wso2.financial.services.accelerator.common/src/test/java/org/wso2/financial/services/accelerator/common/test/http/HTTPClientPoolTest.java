@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.http;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.util.EntityUtils;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPool;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPoolStatistics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for HTTPClientPool.
+ */
+public class HTTPClientPoolTest {
+
+    private static final String RESPONSE = "{\"isValid\":true}";
+    private HttpServer server;
+    private String url;
+
+    @BeforeClass
+    public void init() throws IOException {
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        url = "http://localhost:" + server.getAddress().getPort() + "/validate";
+    }
+
+    @AfterClass
+    public void cleanUp() {
+
+        server.stop(0);
+    }
+
+    @Test
+    public void testResponseHandlerReleasesConnection() throws IOException {
+
+        try (HTTPClientPool pool = createPool("test", 2)) {
+            for (int i = 0; i < 3; i++) {
+                String response = pool.execute(new HttpGet(url),
+                        httpResponse -> EntityUtils.toString(httpResponse.getEntity()));
+                Assert.assertEquals(response, RESPONSE);
+            }
+
+            HTTPClientPoolStatistics statistics = pool.getStatistics();
+            Assert.assertEquals(statistics.getPoolName(), "test");
+            Assert.assertEquals(statistics.getMaxConnections(), 2);
+            Assert.assertEquals(statistics.getLeasedConnections(), 0);
+            Assert.assertEquals(statistics.getAvailableConnections(), 1);
+            Assert.assertEquals(statistics.getRequestCount(), 3);
+            Assert.assertEquals(statistics.getLeaseCount(), 3);
+            Assert.assertEquals(statistics.getFailedRequestCount(), 0);
+            Assert.assertTrue(statistics.getAverageLatencyMillis() > 0);
+        }
+    }
+
+    @Test
+    public void testExecuteAsync() throws Exception {
+
+        try (HTTPClientPool pool = createPool("async", 2)) {
+            CompletableFuture<String> first = pool.executeAsync(new HttpGet(url),
+                    httpResponse -> EntityUtils.toString(httpResponse.getEntity()));
+            CompletableFuture<String> second = pool.executeAsync(new HttpGet(url),
+                    httpResponse -> EntityUtils.toString(httpResponse.getEntity()));
+
+            Assert.assertEquals(first.get(5, TimeUnit.SECONDS), RESPONSE);
+            Assert.assertEquals(second.get(5, TimeUnit.SECONDS), RESPONSE);
+            Assert.assertEquals(pool.getStatistics().getRequestCount(), 2);
+            Assert.assertEquals(pool.getStatistics().getLeasedConnections(), 0);
+        }
+    }
+
+    @Test
+    public void testExhaustedPoolDoesNotAffectOtherPools() throws IOException {
+
+        try (HTTPClientPool exhaustedPool = createPool("exhausted", 1);
+             HTTPClientPool otherPool = createPool("other", 1)) {
+            try (CloseableHttpResponse heldResponse = exhaustedPool.execute(new HttpGet(url))) {
+                Assert.assertEquals(exhaustedPool.getStatistics().getLeasedConnections(), 1);
+                try {
+                    exhaustedPool.execute(new HttpGet(url));
+                    Assert.fail("Connection lease should have timed out");
+                } catch (ConnectionPoolTimeoutException e) {
+                    Assert.assertEquals(exhaustedPool.getStatistics().getLeaseTimeoutCount(), 1);
+                    Assert.assertEquals(exhaustedPool.getStatistics().getFailedRequestCount(), 1);
+                }
+
+                String response = otherPool.execute(new HttpGet(url),
+                        httpResponse -> EntityUtils.toString(httpResponse.getEntity()));
+                Assert.assertEquals(response, RESPONSE);
+                EntityUtils.consume(heldResponse.getEntity());
+            }
+            Assert.assertEquals(exhaustedPool.getStatistics().getLeasedConnections(), 0);
+        }
+    }
+
+    @Test
+    public void testFailedRequestIsRecorded() throws IOException {
+
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        try (HTTPClientPool pool = createPool("failing", 1)) {
+            try {
+                pool.execute(new HttpGet("http://localhost:" + closedPort + "/"),
+                        httpResponse -> EntityUtils.toString(httpResponse.getEntity()));
+                Assert.fail("Request to a closed port should fail");
+            } catch (IOException e) {
+                Assert.assertEquals(pool.getStatistics().getRequestCount(), 1);
+                Assert.assertEquals(pool.getStatistics().getFailedRequestCount(), 1);
+                Assert.assertEquals(pool.getStatistics().getLeasedConnections(), 0);
+            }
+        }
+    }
+
+    private static HTTPClientPool createPool(String name, int maxConnections) {
+
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .build();
+        return new HTTPClientPool(name, registry, new HTTPClientPool.Settings()
+                .setMaxConnections(maxConnections)
+                .setMaxConnectionsPerRoute(maxConnections)
+                .setLeaseTimeoutMillis(200)
+                .setConnectTimeoutMillis(1000)
+                .setSocketTimeoutMillis(5000)
+                .setAsyncThreads(2));
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.jwks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.util.Resource;
+import com.nimbusds.jose.util.ResourceRetriever;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.jwks.CachingJWKSource;
+import org.wso2.financial.services.accelerator.common.jwks.JWKSetRegistryMetrics;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for CachingJWKSource.
+ */
+public class CachingJWKSourceTest {
+
+    private static final String JWKS_URL = "https://localhost:8080/jwks";
+    private RSAKey firstKey;
+    private RSAKey secondKey;
+
+    @BeforeClass
+    public void init() throws JOSEException {
+
+        firstKey = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        secondKey = new RSAKeyGenerator(2048).keyID("key-2").generate();
+    }
+
+    @Test
+    public void testKeySetServedFromCache() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class))).thenReturn(getResource(firstKey));
+        JWKSetRegistryMetrics metrics = new JWKSetRegistryMetrics();
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run, metrics,
+                300000, 30000, 10000);
+
+        for (int i = 0; i < 5; i++) {
+            List<JWK> keys = jwkSource.get(getSelector("key-1"), null);
+            Assert.assertEquals(keys.size(), 1);
+        }
+
+        verify(retriever, times(1)).retrieveResource(any(URL.class));
+        Assert.assertEquals(metrics.getMissCount(), 1);
+        Assert.assertEquals(metrics.getHitCount(), 4);
+        Assert.assertEquals(metrics.getRefreshCount(), 1);
+    }
+
+    @Test
+    public void testUnknownKeyIdTriggersRefetch() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class)))
+                .thenReturn(getResource(firstKey))
+                .thenReturn(getResource(firstKey, secondKey));
+        JWKSetRegistryMetrics metrics = new JWKSetRegistryMetrics();
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run, metrics,
+                300000, 30000, 0);
+
+        Assert.assertEquals(jwkSource.get(getSelector("key-1"), null).size(), 1);
+        Assert.assertEquals(jwkSource.get(getSelector("key-2"), null).size(), 1);
+        verify(retriever, times(2)).retrieveResource(any(URL.class));
+    }
+
+    @Test
+    public void testUnknownKeyIdRefetchIsRateLimited() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class))).thenReturn(getResource(firstKey));
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run,
+                new JWKSetRegistryMetrics(), 300000, 30000, 60000);
+
+        jwkSource.get(getSelector("key-1"), null);
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(jwkSource.get(getSelector("unknown"), null).isEmpty());
+        }
+        verify(retriever, times(1)).retrieveResource(any(URL.class));
+    }
+
+    @Test
+    public void testLastKeySetServedWhenEndpointUnavailable() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class)))
+                .thenReturn(getResource(firstKey))
+                .thenThrow(new IOException("Connection refused"));
+        JWKSetRegistryMetrics metrics = new JWKSetRegistryMetrics();
+        // Zero lifetime makes every lookup after the first one an expired lookup
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run, metrics,
+                0, 0, 0);
+
+        Assert.assertEquals(jwkSource.get(getSelector("key-1"), null).size(), 1);
+        Assert.assertEquals(jwkSource.get(getSelector("key-1"), null).size(), 1);
+        Assert.assertEquals(metrics.getRefreshFailureCount(), 1);
+        Assert.assertEquals(metrics.getStaleServedCount(), 1);
+    }
+
+    @Test
+    public void testBackgroundRefreshBeforeExpiry() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class)))
+                .thenReturn(getResource(firstKey))
+                .thenReturn(getResource(firstKey, secondKey));
+        // Refresh ahead time equal to the lifetime schedules a refresh on every cache hit
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run,
+                new JWKSetRegistryMetrics(), 300000, 300000, 0);
+
+        jwkSource.get(getSelector("key-1"), null);
+        jwkSource.get(getSelector("key-1"), null);
+        Assert.assertEquals(jwkSource.getCachedJWKSet().getKeys().size(), 2);
+    }
+
+    @Test(expectedExceptions = JOSEException.class)
+    public void testInitialFetchFailure() throws Exception {
+
+        ResourceRetriever retriever = mock(ResourceRetriever.class);
+        when(retriever.retrieveResource(any(URL.class))).thenThrow(new IOException("Connection refused"));
+        CachingJWKSource jwkSource = new CachingJWKSource(new URL(JWKS_URL), retriever, Runnable::run,
+                new JWKSetRegistryMetrics(), 300000, 30000, 0);
+
+        jwkSource.get(getSelector("key-1"), null);
+    }
+
+    private static JWKSelector getSelector(String keyId) {
+
+        return new JWKSelector(new JWKMatcher.Builder().keyID(keyId).build());
+    }
+
+    private static Resource getResource(RSAKey... keys) {
+
+        JWKSet jwkSet = new JWKSet(Arrays.<JWK>asList(keys));
+        return new Resource(jwkSet.toPublicJWKSet().toString(), "application/json");
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.jws;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.jws.JWSPayloadSigner;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the consent enforcement payload signing modes. Runs single threaded, so the scores are operations
+ * per second per core. Not part of the unit test suite, run the main method with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JWSPayloadSignerBenchmark {
+
+    private static final String PAYLOAD = "{\"headers\":" +
+            "{\"x-fapi-interaction-id\":\"93bac548-d2de-4546-b106-880a5018460d\"}," +
+            "\"electedResource\":\"/accounts/{AccountId}\",\"consentId\":\"2d1d2c43-4c1c-4d0e-b2d4-3f2c3b7d9e11\"," +
+            "\"userId\":\"admin@wso2.com\",\"clientId\":\"pAOTf7aUZp3oA8sKyGRiHvWqBy0a\",\"resourceParams\":" +
+            "{\"resource\":\"/accounts/30080012343456\",\"httpMethod\":\"GET\",\"context\":\"/open-banking/v3.1/aisp\"}}";
+
+    @Param({"RS512_4096", "RS256_2048", "PS256_2048", "ES256", "HS256", "NONE"})
+    private String mode;
+
+    private JWSPayloadSigner signer;
+
+    @Setup
+    public void setup() throws Exception {
+
+        switch (mode) {
+            case "RS512_4096":
+                signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.RS512,
+                        new RSAKeyGenerator(4096).generate().toPrivateKey());
+                break;
+            case "RS256_2048":
+                signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.RS256,
+                        new RSAKeyGenerator(2048).generate().toPrivateKey());
+                break;
+            case "PS256_2048":
+                signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.PS256,
+                        new RSAKeyGenerator(2048).generate().toPrivateKey());
+                break;
+            case "ES256":
+                signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.ES256,
+                        new ECKeyGenerator(Curve.P_256).generate().toPrivateKey());
+                break;
+            case "HS256":
+                signer = JWSPayloadSigner.forSharedSecret(JWSAlgorithm.HS256,
+                        "a-shared-secret-of-at-least-32-bytes-long".getBytes(StandardCharsets.UTF_8));
+                break;
+            default:
+                signer = JWSPayloadSigner.unsigned();
+        }
+    }
+
+    @Benchmark
+    public String sign() throws FinancialServicesException {
+
+        return signer.sign(PAYLOAD);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        Options options = new OptionsBuilder()
+                .include(JWSPayloadSignerBenchmark.class.getSimpleName())
+                .threads(1)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.common.test.jws;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.ECDSAVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.jws.JWSPayloadSigner;
+import org.wso2.financial.services.accelerator.common.util.JWTUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test class for JWSPayloadSigner.
+ */
+public class JWSPayloadSignerTest {
+
+    private static final String PAYLOAD = "{\"consentId\":\"abc\",\"body\":{\"amount\":\"10.00\"}}";
+    private static final String SHARED_SECRET = "a-shared-secret-of-at-least-32-bytes-long";
+    private RSAKey rsaKey;
+    private ECKey ecKey;
+
+    @BeforeClass
+    public void init() throws Exception {
+
+        rsaKey = new RSAKeyGenerator(2048).generate();
+        ecKey = new ECKeyGenerator(Curve.P_256).generate();
+    }
+
+    @Test
+    public void testRSASigning() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.RS512, rsaKey.toPrivateKey());
+        SignedJWT signedJWT = SignedJWT.parse(signer.sign(PAYLOAD));
+
+        Assert.assertEquals(signedJWT.getHeader().getAlgorithm(), JWSAlgorithm.RS512);
+        Assert.assertTrue(signedJWT.verify(new RSASSAVerifier(rsaKey.toRSAPublicKey())));
+        Assert.assertEquals(signedJWT.getJWTClaimsSet().getStringClaim("consentId"), "abc");
+    }
+
+    @Test
+    public void testECSigning() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.ES256, ecKey.toPrivateKey());
+        SignedJWT signedJWT = SignedJWT.parse(signer.sign(PAYLOAD));
+
+        Assert.assertEquals(signedJWT.getHeader().getAlgorithm(), JWSAlgorithm.ES256);
+        Assert.assertTrue(signedJWT.verify(new ECDSAVerifier(ecKey.toECPublicKey())));
+    }
+
+    @Test
+    public void testSharedSecretSigning() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.forSharedSecret(JWSAlgorithm.HS256,
+                SHARED_SECRET.getBytes(StandardCharsets.UTF_8));
+        String jwt = signer.sign(PAYLOAD);
+
+        Assert.assertTrue(JWTUtils.validateJWTSignatureWithSharedSecret(jwt, SHARED_SECRET));
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testSharedSecretMismatch() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.forSharedSecret(JWSAlgorithm.HS256,
+                SHARED_SECRET.getBytes(StandardCharsets.UTF_8));
+
+        JWTUtils.validateJWTSignatureWithSharedSecret(signer.sign(PAYLOAD), SHARED_SECRET + "-other");
+    }
+
+    @Test
+    public void testSignerIsReusable() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.ES256, ecKey.toPrivateKey());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(SignedJWT.parse(signer.sign(PAYLOAD + " ")).verify(
+                    new ECDSAVerifier(ecKey.toECPublicKey())));
+        }
+    }
+
+    @Test
+    public void testUnsignedPayload() throws Exception {
+
+        JWSPayloadSigner signer = JWSPayloadSigner.unsigned();
+
+        Assert.assertFalse(signer.isSigned());
+        Assert.assertNull(signer.getAlgorithm());
+        Assert.assertEquals(signer.sign(PAYLOAD), PAYLOAD);
+    }
+
+    @Test(expectedExceptions = FinancialServicesException.class)
+    public void testKeyAlgorithmMismatch() throws Exception {
+
+        JWSPayloadSigner.forPrivateKey(JWSAlgorithm.ES256, rsaKey.toPrivateKey());
+    }
+
+    @Test(expectedExceptions = FinancialServicesException.class)
+    public void testShortSharedSecret() throws Exception {
+
+        JWSPayloadSigner.forSharedSecret(JWSAlgorithm.HS512, SHARED_SECRET.getBytes(StandardCharsets.UTF_8));
+    }
+}
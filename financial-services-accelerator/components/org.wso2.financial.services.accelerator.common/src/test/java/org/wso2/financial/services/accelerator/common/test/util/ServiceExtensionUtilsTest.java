@@ -21,7 +21,6 @@ package org.wso2.financial.services.accelerator.common.test.util;
 import org.apache.http.HttpEntity;
 import org.apache.http.StatusLine;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.impl.client.CloseableHttpClient;
 import org.json.JSONObject;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -35,6 +34,7 @@ import org.wso2.financial.services.accelerator.common.exception.FinancialService
 import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceRequest;
 import org.wso2.financial.services.accelerator.common.extension.model.ExternalServiceResponse;
 import org.wso2.financial.services.accelerator.common.extension.model.ServiceExtensionTypeEnum;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPool;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
 import org.wso2.financial.services.accelerator.common.util.ServiceExtensionUtils;
 
@@ -96,14 +96,15 @@ public class ServiceExtensionUtilsTest {
         StatusLine statusLine = Mockito.mock(StatusLine.class);
         Mockito.doReturn(200).when(statusLine).getStatusCode();
 
-        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        HTTPClientPool httpClient = Mockito.mock(HTTPClientPool.class);
         CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
         Mockito.doReturn(httpEntityMock).when(httpResponse).getEntity();
         Mockito.doReturn(statusLine).when(httpResponse).getStatusLine();
         Mockito.doReturn(httpResponse).when(httpClient).execute(Mockito.any());
 
         httpClientUtilsMockedStatic = Mockito.mockStatic(HTTPClientUtils.class);
-        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpsClient()).thenReturn(httpClient);
+        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpClientPool(Mockito.anyString()))
+                .thenReturn(httpClient);
     }
 
     @AfterClass
@@ -132,13 +133,14 @@ public class ServiceExtensionUtilsTest {
         StatusLine statusLine = Mockito.mock(StatusLine.class);
         Mockito.doReturn(400).when(statusLine).getStatusCode();
 
-        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        HTTPClientPool httpClient = Mockito.mock(HTTPClientPool.class);
         CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
         Mockito.doReturn(httpEntityMock).when(httpResponse).getEntity();
         Mockito.doReturn(statusLine).when(httpResponse).getStatusLine();
         Mockito.doReturn(httpResponse).when(httpClient).execute(Mockito.any());
 
-        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpsClient()).thenReturn(httpClient);
+        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpClientPool(Mockito.anyString()))
+                .thenReturn(httpClient);
         ServiceExtensionUtils.invokeExternalServiceCall(getDCRCreateServiceRequest(),
                 ServiceExtensionTypeEnum.PRE_PROCESS_CLIENT_CREATION);
     }
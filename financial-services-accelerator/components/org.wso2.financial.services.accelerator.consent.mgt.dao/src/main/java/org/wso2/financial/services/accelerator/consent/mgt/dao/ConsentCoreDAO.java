@@ -28,7 +28,11 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFil
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 
 import java.sql.Connection;
@@ -413,6 +417,109 @@ public interface ConsentCoreDAO {
                                                       Long fromTime, Long toTime, Integer limit, Integer offset)
             throws ConsentDataRetrievalException;
 
+    /**
+     * This method is used to search a page of detailed consents for the given lists of parameters, starting after the
+     * given cursor position. Consents are ordered by updated time and consent ID, both descending, so the position of
+     * the last consent of a page can be used as the cursor of the next page. Unlike an offset, the cursor does not
+     * require the database to read and skip the consents of the previous pages.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             limit
+     * @param cursor            position of the last consent of the previous page, null for the first page
+     * @return a list of detailed consent resources according to the provided parameters
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    ArrayList<DetailedConsentResource> searchConsentsByCursor(Connection connection, ArrayList<String> consentIDs,
+                                                              ArrayList<String> clientIDs,
+                                                              ArrayList<String> consentTypes,
+                                                              ArrayList<String> consentStatuses,
+                                                              ArrayList<String> userIDs, Long fromTime, Long toTime,
+                                                              Integer limit, ConsentSearchCursor cursor)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to count the detailed consents matching the given lists of parameters, without reading the
+     * consents. The parameters have the same meaning as in the consent search. If account IDs are given, only the
+     * consents mapped to at least one of the accounts are counted.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @return the number of consents matching the provided parameters
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    int countConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                      ArrayList<String> consentTypes, ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                      ArrayList<String> accountIDs, Long fromTime, Long toTime)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to search a page of detailed consents together with the total number of consents matching
+     * the search. The page starts after the cursor if one is given, otherwise at the offset. If account IDs are given,
+     * only the consents mapped to at least one of the accounts are returned. The total is selected with the page
+     * where the database supports it, and counted separately only if it cannot be derived from the page.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             limit
+     * @param offset            offset, ignored if a cursor is given
+     * @param cursor            position of the last consent of the previous page, null for offset pagination
+     * @return the page of detailed consent resources with the total number of matching consents
+     * @throws ConsentDataRetrievalException thrown if any error occur
+     */
+    ConsentSearchResult searchConsentsWithTotal(Connection connection, ArrayList<String> consentIDs,
+                                                ArrayList<String> clientIDs, ArrayList<String> consentTypes,
+                                                ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                                                ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                                                Integer limit, Integer offset, ConsentSearchCursor cursor)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to export the detailed consents matching the given lists of parameters. The parameters
+     * have the same meaning as in {@link #searchConsentsWithTotal}. Consents are read in batches ordered by updated
+     * time and consent ID, both descending, each batch continuing after the last consent of the previous batch, so
+     * that the number of consents held in memory is bounded by the batch size regardless of the number exported.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param cursor            position after which the export starts, null to export from the first consent
+     * @param batchSize         number of consents read in one batch, also used as the JDBC fetch size
+     * @param handler           handler receiving the exported consents
+     * @throws ConsentDataRetrievalException thrown if a database error occurs or the handler fails
+     */
+    void exportConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                        ArrayList<String> consentTypes, ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                        ArrayList<String> accountIDs, Long fromTime, Long toTime, ConsentSearchCursor cursor,
+                        int batchSize, ConsentExportHandler<DetailedConsentResource> handler)
+            throws ConsentDataRetrievalException;
+
 
     /**
      * This method is used to search authorization resources using following optional parameters. If all the input
@@ -478,6 +585,21 @@ public interface ConsentCoreDAO {
                                                                                 Integer limit, Integer offset)
             throws ConsentDataRetrievalException;
 
+    /**
+     * This method is used to export consent status audit records. Records are read in batches ordered by the status
+     * audit ID, each batch continuing after the last record of the previous batch.
+     *
+     * @param connection        connection object
+     * @param consentIDs        consent IDs optional list
+     * @param statusAuditID     status audit ID after which the export starts, null to export from the first record
+     * @param batchSize         number of records read in one batch, also used as the JDBC fetch size
+     * @param handler           handler receiving the exported records
+     * @throws ConsentDataRetrievalException thrown if a database error occurs or the handler fails
+     */
+    void exportConsentStatusAuditRecords(Connection connection, ArrayList<String> consentIDs, String statusAuditID,
+                                         int batchSize, ConsentExportHandler<ConsentStatusAuditRecord> handler)
+            throws ConsentDataRetrievalException;
+
     /**
      * This method is used to store the changed attribute values of the consent into consent history when an
      * amendment happens to the consent.
@@ -519,4 +641,187 @@ public interface ConsentCoreDAO {
                                                            String statusesEligibleForExpiration)
             throws ConsentDataRetrievalException;
 
+    /**
+     * This method is used to fetch a page of consents eligible for expiration, ordered by the validity time and the
+     * consent ID. Only the consent ID and the validity time of the returned consents are populated.
+     *
+     * @param connection                    connection object
+     * @param statusesEligibleForExpiration statuses of the consents eligible for expiration
+     * @param expiryTime                    consents with a validity time before this time (in seconds) are returned
+     * @param lastConsent                   last consent of the previous page, null for the first page
+     * @param limit                         maximum number of consents in the page
+     * @return consents eligible for expiration
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentResource> getExpiringConsentsPage(Connection connection,
+                                                       List<String> statusesEligibleForExpiration, long expiryTime,
+                                                       ConsentResource lastConsent, int limit)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to update the status of the given consents with a single statement.
+     *
+     * @param connection       connection object
+     * @param consentIDs       IDs of the consents to update
+     * @param newConsentStatus new consent status
+     * @return number of updated consents
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    int updateConsentStatuses(Connection connection, List<String> consentIDs, String newConsentStatus)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to store consent status audit records in a single batch.
+     *
+     * @param connection                connection object
+     * @param consentStatusAuditRecords consent status audit records to store
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeConsentStatusAuditRecords(Connection connection,
+                                        List<ConsentStatusAuditRecord> consentStatusAuditRecords)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to store consent amendment history records of one consent data type in a single batch.
+     * A history ID is generated for each record.
+     *
+     * @param connection                     connection object
+     * @param timestamp                      amended time
+     * @param consentDataType                consent data type of the records
+     * @param changedAttributesJsonByRecord  changed attributes JSON string of each record ID
+     * @param amendmentReason                reason of the amendment
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeConsentAmendmentHistoryRecords(Connection connection, long timestamp, String consentDataType,
+                                             Map<String, String> changedAttributesJsonByRecord,
+                                             String amendmentReason)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to store token revocation records in a single batch. A revocation ID is generated for each
+     * record and the records are stored as pending, due for an attempt immediately.
+     *
+     * @param connection          connection object
+     * @param revocationRecords   token revocation records with the consent, client and user IDs
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeTokenRevocationRecords(Connection connection, List<ConsentTokenRevocationRecord> revocationRecords)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to retrieve the pending token revocation records due for an attempt, ordered by the time
+     * of the next attempt.
+     *
+     * @param connection  connection object
+     * @param currentTime current time in seconds, records with a next attempt time up to this time are returned
+     * @param limit       maximum number of records to return
+     * @return pending token revocation records due for an attempt
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentTokenRevocationRecord> getDueTokenRevocationRecords(Connection connection, long currentTime,
+                                                                         int limit)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to claim a pending token revocation record for an attempt. The attempt count of the record
+     * is incremented and the next attempt time is moved to the lease expiry time, so that the record is retried if
+     * the attempt does not complete. The claim fails if the record was claimed or completed by another node after it
+     * was retrieved.
+     *
+     * @param connection      connection object
+     * @param revocationRecord token revocation record as retrieved
+     * @param leaseExpiryTime time in seconds after which the record is attempted again if it is not completed
+     * @return true if the record is claimed, the attempt count and times of the record are updated in that case
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    boolean claimTokenRevocationRecord(Connection connection, ConsentTokenRevocationRecord revocationRecord,
+                                       long leaseExpiryTime)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to update the status, next attempt time, revoked token count and last error of a token
+     * revocation record.
+     *
+     * @param connection       connection object
+     * @param revocationRecord token revocation record with the updated values
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    void updateTokenRevocationRecord(Connection connection, ConsentTokenRevocationRecord revocationRecord)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to retrieve the token revocation records of a consent.
+     *
+     * @param connection connection object
+     * @param consentID  consent ID
+     * @return token revocation records of the consent, ordered by the created time
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentTokenRevocationRecord> getTokenRevocationRecords(Connection connection, String consentID)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to store consent state change events in the event outbox in a single batch. An event ID
+     * and the next sequence number of the consent are assigned to each event, and the events are stored as pending,
+     * due for publishing immediately. The events of a consent are numbered in the order of the list. The consents
+     * are locked until the transaction ends, so concurrent changes of a consent are numbered one after the other.
+     *
+     * @param connection         connection object
+     * @param stateChangeEvents  consent state change events
+     * @throws ConsentDataInsertionException thrown if any error occurs in the process
+     */
+    void storeConsentStateChangeEvents(Connection connection, List<ConsentStateChangeEvent> stateChangeEvents)
+            throws ConsentDataInsertionException;
+
+    /**
+     * This method is used to retrieve the pending consent state change events due for publishing. Only the earliest
+     * pending event of each consent is returned, so that the events of a consent are published in order.
+     *
+     * @param connection  connection object
+     * @param currentTime current time in seconds, events with a next attempt time up to this time are returned
+     * @param limit       maximum number of events to return
+     * @return the earliest pending event of each consent, if due for publishing
+     * @throws ConsentDataRetrievalException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentStateChangeEvent> getDueConsentStateChangeEvents(Connection connection, long currentTime,
+                                                                      int limit)
+            throws ConsentDataRetrievalException;
+
+    /**
+     * This method is used to claim a pending consent state change event for publishing. The attempt count of the
+     * event is incremented and the next attempt time is moved to the lease expiry time, so that the event is
+     * published again if the attempt does not complete. The claim fails if the event was claimed or published by
+     * another node after it was retrieved.
+     *
+     * @param connection       connection object
+     * @param stateChangeEvent consent state change event as retrieved
+     * @param leaseExpiryTime  time in seconds after which the event is published again if it is not completed
+     * @return true if the event is claimed, the attempt count and next attempt time of the event are updated in
+     * that case
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    boolean claimConsentStateChangeEvent(Connection connection, ConsentStateChangeEvent stateChangeEvent,
+                                         long leaseExpiryTime)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to update the status, next attempt time and last error of a consent state change event.
+     *
+     * @param connection       connection object
+     * @param stateChangeEvent consent state change event with the updated values
+     * @throws ConsentDataUpdationException thrown if any error occurs in the process
+     */
+    void updateConsentStateChangeEvent(Connection connection, ConsentStateChangeEvent stateChangeEvent)
+            throws ConsentDataUpdationException;
+
+    /**
+     * This method is used to delete a published consent state change event from the event outbox.
+     *
+     * @param connection connection object
+     * @param eventID    event ID
+     * @throws ConsentDataDeletionException thrown if any error occurs in the process
+     */
+    void deleteConsentStateChangeEvent(Connection connection, String eventID)
+            throws ConsentDataDeletionException;
+
 }
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao;
+
+import java.io.IOException;
+
+/**
+ * Receives the records of a consent export one at a time, in the order in which they are read from the database.
+ * <p>
+ * The handler is invoked after a batch of records has been read and its result set closed, so it may use the
+ * connection of the export. A record is not referenced by the export once the handler returns.
+ *
+ * @param <T> type of the exported record
+ */
+@FunctionalInterface
+public interface ConsentExportHandler<T> {
+
+    /**
+     * Handles an exported record, usually by writing it to the export response.
+     *
+     * @param record exported record
+     * @throws IOException thrown if the record cannot be written, which stops the export
+     */
+    void handle(T record) throws IOException;
+}
@@ -18,6 +18,9 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.dao.constants;
 
+import org.wso2.financial.services.accelerator.common.persistence.DatabaseIndexValidator;
+
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -37,6 +40,7 @@ public class ConsentMgtDAOConstants {
     public static final String RECURRING_INDICATOR = "RECURRING_INDICATOR";
     public static final String CONSENT_CREATED_TIME = "CONSENT_CREATED_TIME";
     public static final String CONSENT_UPDATED_TIME = "CONSENT_UPDATED_TIME";
+    public static final String TOTAL_COUNT = "TOTAL_COUNT";
     public static final String AUTH_ID = "AUTH_ID";
     public static final String AUTH_TYPE = "AUTH_TYPE";
     public static final String USER_ID = "USER_ID";
@@ -62,6 +66,26 @@ public class ConsentMgtDAOConstants {
     public static final String HISTORY_ID = "HISTORY_ID";
     public static final String CHANGED_VALUES = "CHANGED_VALUES";
     public static final String CONSENT_EXPIRY_TIME_ATTRIBUTE = "ExpirationDateTime";
+    public static final String REVOCATION_ID = "REVOCATION_ID";
+    public static final String STATUS = "STATUS";
+    public static final String ATTEMPT_COUNT = "ATTEMPT_COUNT";
+    public static final String NEXT_ATTEMPT_TIME = "NEXT_ATTEMPT_TIME";
+    public static final String REVOKED_TOKEN_COUNT = "REVOKED_TOKEN_COUNT";
+    public static final String LAST_ERROR = "LAST_ERROR";
+    public static final String EVENT_ID = "EVENT_ID";
+    public static final String SEQUENCE_NO = "SEQUENCE_NO";
+    public static final String NEW_STATUS = "NEW_STATUS";
+    public static final String CONSENT_DATA = "CONSENT_DATA";
+    public static final String LAST_SEQUENCE_NO = "LAST_SEQUENCE_NO";
+
+    // Statuses of the token revocation records
+    public static final String TOKEN_REVOCATION_PENDING = "PENDING";
+    public static final String TOKEN_REVOCATION_REVOKED = "REVOKED";
+    public static final String TOKEN_REVOCATION_FAILED = "FAILED";
+
+    // Statuses of the consent state change events in the event outbox
+    public static final String STATE_CHANGE_EVENT_PENDING = "PENDING";
+    public static final String STATE_CHANGE_EVENT_FAILED = "FAILED";
 
     public static final String TYPE_CONSENT_BASIC_DATA = "ConsentData";
     public static final String TYPE_CONSENT_AUTH_RESOURCE_DATA = "ConsentAuthResourceData";
@@ -85,6 +109,8 @@ public class ConsentMgtDAOConstants {
     public static final String TABLE_FS_CONSENT_MAPPING = "FS_CONSENT_MAPPING";
     public static final String TABLE_FS_CONSENT_ATTRIBUTE = "FS_CONSENT_ATTRIBUTE";
     public static final String TABLE_FS_CONSENT_FILE = "FS_CONSENT_FILE";
+    public static final String TABLE_FS_CONSENT_TOKEN_REVOCATION = "FS_CONSENT_TOKEN_REVOCATION";
+    public static final String TABLE_FS_CONSENT_EVENT_OUTBOX = "FS_CONSENT_EVENT_OUTBOX";
 
     //Numbers are assigned to each consent DB table & used as the reference for each table when storing CA history
     public static final Map<String, String> TABLES_MAP = Map.of(
@@ -103,6 +129,32 @@ public class ConsentMgtDAOConstants {
             USER_IDS, "OCAR.USER_ID"
     );
 
+    // Secondary indexes of the consent tables used by the lookup and search queries
+    public static final List<DatabaseIndexValidator.IndexDefinition> SECONDARY_INDEXES = List.of(
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CONSENT_CLIENT_ID", TABLE_FS_CONSENT, "CLIENT_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CONSENT_STATUS_VALIDITY", TABLE_FS_CONSENT,
+                    "CURRENT_STATUS", "VALIDITY_TIME"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CONSENT_UPDATED_TIME", TABLE_FS_CONSENT,
+                    "UPDATED_TIME", "CONSENT_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CAR_CONSENT_ID", TABLE_FS_CONSENT_AUTH_RESOURCE,
+                    "CONSENT_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CAR_USER_ID", TABLE_FS_CONSENT_AUTH_RESOURCE,
+                    "USER_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CM_AUTH_ID", TABLE_FS_CONSENT_MAPPING, "AUTH_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CSA_CONSENT_ID", "FS_CONSENT_STATUS_AUDIT",
+                    "CONSENT_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CA_KEY_VALUE", TABLE_FS_CONSENT_ATTRIBUTE,
+                    "ATT_KEY", "ATT_VALUE"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CTR_STATUS_NEXT_ATTEMPT",
+                    TABLE_FS_CONSENT_TOKEN_REVOCATION, "STATUS", "NEXT_ATTEMPT_TIME"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CTR_CONSENT_ID", TABLE_FS_CONSENT_TOKEN_REVOCATION,
+                    "CONSENT_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CEO_CONSENT_SEQUENCE", TABLE_FS_CONSENT_EVENT_OUTBOX,
+                    "CONSENT_ID", "SEQUENCE_NO"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_CEO_STATUS_NEXT_ATTEMPT", TABLE_FS_CONSENT_EVENT_OUTBOX,
+                    "STATUS", "NEXT_ATTEMPT_TIME")
+    );
+
     //Error Messages
     public static final String CONSENT_RESOURCE_STORE_ERROR_MSG = "Error occurred while storing consent resource in " +
             "the database";
@@ -155,10 +207,25 @@ public class ConsentMgtDAOConstants {
     public static final String CONSENT_FILE_RETRIEVE_ERROR_MSG = "Error occurred while retrieving consent file " +
             "resource from the database";
     public static final String CONSENT_SEARCH_ERROR_MSG = "Error occurred while searching consents";
+    public static final String CONSENT_EXPORT_ERROR_MSG = "Error occurred while writing exported consent records";
     public static final String AUDIT_RECORD_STORE_ERROR_MSG = "Error occurred while storing consent status audit " +
             "record in the database";
     public static final String AUDIT_RECORDS_RETRIEVE_ERROR_MSG = "Error occurred while retrieving consent status " +
             "audit records";
+    public static final String TOKEN_REVOCATION_STORE_ERROR_MSG = "Error occurred while storing token revocation " +
+            "records in the database";
+    public static final String TOKEN_REVOCATION_RETRIEVE_ERROR_MSG = "Error occurred while retrieving token " +
+            "revocation records from the database";
+    public static final String TOKEN_REVOCATION_UPDATE_ERROR_MSG = "Error occurred while updating token revocation " +
+            "record in the database";
+    public static final String STATE_CHANGE_EVENT_STORE_ERROR_MSG = "Error occurred while storing consent state " +
+            "change events in the database";
+    public static final String STATE_CHANGE_EVENT_RETRIEVE_ERROR_MSG = "Error occurred while retrieving consent " +
+            "state change events from the database";
+    public static final String STATE_CHANGE_EVENT_UPDATE_ERROR_MSG = "Error occurred while updating consent state " +
+            "change event in the database";
+    public static final String STATE_CHANGE_EVENT_DELETE_ERROR_MSG = "Error occurred while deleting consent state " +
+            "change event from the database";
     public static final String CONSENT_AMENDMENT_HISTORY_RETRIEVE_ERROR_MSG = "Error occurred while retrieving " +
             "consent amendment history records from the database for the given consent ID";
 
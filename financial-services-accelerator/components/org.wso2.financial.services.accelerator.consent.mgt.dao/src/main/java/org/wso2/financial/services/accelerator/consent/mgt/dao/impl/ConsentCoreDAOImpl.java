@@ -24,6 +24,7 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentExportHandler;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataDeletionException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataInsertionException;
@@ -35,24 +36,29 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFil
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtCommonDBQueries;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentManagementDAOUtil;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -66,7 +72,10 @@ import java.util.stream.IntStream;
 public class ConsentCoreDAOImpl implements ConsentCoreDAO {
 
     private static final Log log = LogFactory.getLog(ConsentCoreDAOImpl.class);
-    private static final String GROUP_BY_SEPARATOR = "\\|\\|";
+    // Oracle allows at most 1000 values in an "IN" clause
+    private static final int SEARCH_CHILD_FETCH_BATCH_SIZE = 1000;
+    // Length of the LAST_ERROR column of the token revocation table
+    private static final int LAST_ERROR_MAX_LENGTH = 1024;
     ConsentMgtCommonDBQueries sqlStatements;
 
     public ConsentCoreDAOImpl(ConsentMgtCommonDBQueries sqlStatements) {
@@ -1160,11 +1169,6 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
     }
 
     @Override
-    @SuppressFBWarnings("SQL_INJECTION_JDBC")
-    // Suppressed content - connection.prepareStatement(searchConsentsPreparedStatement,
-    //                  ResultSet.TYPE_SCROLL_INSENSITIVE, ResultSet.CONCUR_UPDATABLE)
-    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
-    // Suppressed warning count - 1
     public ArrayList<DetailedConsentResource> searchConsents(Connection connection, ArrayList<String> consentIDs,
                                                              ArrayList<String> clientIDs,
                                                              ArrayList<String> consentTypes,
@@ -1173,96 +1177,274 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
                                                              Integer limit, Integer offset)
             throws ConsentDataRetrievalException {
 
-        boolean shouldLimit = true;
-        boolean shouldOffset = true;
-        int parameterIndex = 0;
-        Map<String, ArrayList<String>> applicableConditionsMap = new HashMap<>();
+        ConsentSearchConditions searchConditions = new ConsentSearchConditions(consentIDs, clientIDs, consentTypes,
+                consentStatuses, userIDs, null, fromTime, toTime);
+        return searchConsentsPage(connection, searchConditions, limit, offset, null, false)
+                .detailedConsentResources;
+    }
 
-        validateAndSetSearchConditions(applicableConditionsMap, consentIDs, clientIDs, consentTypes, consentStatuses);
+    @Override
+    public ArrayList<DetailedConsentResource> searchConsentsByCursor(Connection connection,
+                                                                     ArrayList<String> consentIDs,
+                                                                     ArrayList<String> clientIDs,
+                                                                     ArrayList<String> consentTypes,
+                                                                     ArrayList<String> consentStatuses,
+                                                                     ArrayList<String> userIDs, Long fromTime,
+                                                                     Long toTime, Integer limit,
+                                                                     ConsentSearchCursor cursor)
+            throws ConsentDataRetrievalException {
 
-        // Don't limit if either of limit or offset is null
-        if (limit == null) {
-            shouldLimit = false;
-        }
-        if (offset == null) {
-            shouldOffset = false;
-        }
+        ConsentSearchConditions searchConditions = new ConsentSearchConditions(consentIDs, clientIDs, consentTypes,
+                consentStatuses, userIDs, null, fromTime, toTime);
+        return searchConsentsPage(connection, searchConditions, limit, null, cursor, false)
+                .detailedConsentResources;
+    }
 
-        // logic to set the prepared statement
-        log.debug("Constructing the prepared statement");
-        String constructedConditions =
-                ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(applicableConditionsMap);
+    @Override
+    public int countConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                             ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                             ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime)
+            throws ConsentDataRetrievalException {
+
+        ConsentSearchConditions searchConditions = new ConsentSearchConditions(consentIDs, clientIDs, consentTypes,
+                consentStatuses, userIDs, accountIDs, fromTime, toTime);
+        return countConsents(connection, searchConditions);
+    }
+
+    @Override
+    public ConsentSearchResult searchConsentsWithTotal(Connection connection, ArrayList<String> consentIDs,
+                                                       ArrayList<String> clientIDs, ArrayList<String> consentTypes,
+                                                       ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                                                       ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                                                       Integer limit, Integer offset, ConsentSearchCursor cursor)
+            throws ConsentDataRetrievalException {
 
-        String userIDFilterCondition = "";
-        Map<String, ArrayList<String>> userIdMap = new HashMap<>();
-        if (CollectionUtils.isNotEmpty(userIDs)) {
-            userIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.USER_IDS), userIDs);
-            userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
+        ConsentSearchConditions searchConditions = new ConsentSearchConditions(consentIDs, clientIDs, consentTypes,
+                consentStatuses, userIDs, accountIDs, fromTime, toTime);
+        // The window total of a cursor page only counts the consents after the cursor
+        boolean withTotal = limit != null && cursor == null && sqlStatements.isWindowedTotalSupported();
+        ConsentSearchPage page = searchConsentsPage(connection, searchConditions, limit, offset, cursor, withTotal);
+
+        int pageSize = page.detailedConsentResources.size();
+        int skipped = offset != null ? offset : 0;
+        int total;
+        if (limit == null && cursor == null) {
+            // Without a limit the offset is not applied, so the page holds every matching consent
+            total = pageSize;
+        } else if (page.windowTotal != null) {
+            total = page.windowTotal;
+        } else if (cursor == null && pageSize < limit && (pageSize > 0 || skipped == 0)) {
+            // A partial page is the last page of the search
+            total = skipped + pageSize;
+        } else {
+            total = countConsents(connection, searchConditions);
         }
+        return new ConsentSearchResult(page.detailedConsentResources, total);
+    }
 
-        String searchConsentsPreparedStatement =
-                sqlStatements.getSearchConsentsPreparedStatement(constructedConditions, shouldLimit, shouldOffset,
-                        userIDFilterCondition);
+    @Override
+    public void exportConsents(Connection connection, ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                               ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                               ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                               ConsentSearchCursor cursor, int batchSize,
+                               ConsentExportHandler<DetailedConsentResource> handler)
+            throws ConsentDataRetrievalException {
 
-        try (PreparedStatement searchConsentsPreparedStmt =
-                     connection.prepareStatement(searchConsentsPreparedStatement, ResultSet.TYPE_SCROLL_INSENSITIVE,
-                             ResultSet.CONCUR_UPDATABLE)) {
+        ConsentSearchConditions searchConditions = new ConsentSearchConditions(consentIDs, clientIDs, consentTypes,
+                consentStatuses, userIDs, accountIDs, fromTime, toTime);
+        ConsentSearchCursor position = cursor;
+        ArrayList<DetailedConsentResource> batch;
+        do {
+            batch = searchConsentsPage(connection, searchConditions, batchSize, null, position, false)
+                    .detailedConsentResources;
+            try {
+                for (DetailedConsentResource detailedConsentResource : batch) {
+                    handler.handle(detailedConsentResource);
+                }
+            } catch (IOException e) {
+                log.error(ConsentMgtDAOConstants.CONSENT_EXPORT_ERROR_MSG, e);
+                throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_EXPORT_ERROR_MSG, e);
+            }
+            if (!batch.isEmpty()) {
+                DetailedConsentResource lastConsent = batch.get(batch.size() - 1);
+                position = new ConsentSearchCursor(lastConsent.getUpdatedTime(), lastConsent.getConsentID());
+            }
+        } while (!batch.isEmpty() && batch.size() == batchSize);
+    }
 
-            /* Since we don't know the order of the set condition clauses, have to determine the order of them to set
-               the actual values to the  prepared statement */
-            Map<Integer, ArrayList<String>> orderedParamsMap = ConsentManagementDAOUtil.determineOrderOfParamsToSet(
-                    constructedConditions, applicableConditionsMap, ConsentMgtDAOConstants.COLUMNS_MAP);
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(countConsentsPreparedStatement)
+    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
+    // Suppressed warning count - 1
+    private int countConsents(Connection connection, ConsentSearchConditions searchConditions)
+            throws ConsentDataRetrievalException {
 
-            log.debug("Setting parameters to prepared statement to search consents");
+        String countConsentsPreparedStatement = sqlStatements.getCountConsentsPreparedStatement(
+                searchConditions.constructedConditions, searchConditions.userIDFilterCondition,
+                searchConditions.accountIDPlaceholders);
 
-            parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(searchConsentsPreparedStmt,
-                    orderedParamsMap, ++parameterIndex);
-            parameterIndex = parameterIndex - 1;
+        try (PreparedStatement countConsentsPreparedStmt =
+                     connection.prepareStatement(countConsentsPreparedStatement)) {
 
-            //determine order of user Ids to set
-            if (CollectionUtils.isNotEmpty(userIDs)) {
-                Map<Integer, ArrayList<String>> orderedUserIdsMap = ConsentManagementDAOUtil
-                        .determineOrderOfParamsToSet(userIDFilterCondition, userIdMap,
-                                ConsentMgtDAOConstants.COLUMNS_MAP);
-                parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(searchConsentsPreparedStmt,
-                        orderedUserIdsMap, ++parameterIndex);
-                parameterIndex = parameterIndex - 1;
+            log.debug("Setting parameters to prepared statement to count consents");
+            searchConditions.setParameters(countConsentsPreparedStmt);
+
+            try (ResultSet resultSet = countConsentsPreparedStmt.executeQuery()) {
+                return resultSet.next() ? resultSet.getInt(ConsentMgtDAOConstants.TOTAL_COUNT) : 0;
             }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+        }
+    }
 
-            if (fromTime != null) {
-                searchConsentsPreparedStmt.setLong(++parameterIndex, fromTime);
-            } else {
-                searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+    /**
+     * Searches consents in two phases. The first query selects a page of consents from the consent table only, and
+     * the child resources of the page are then fetched with one query per child table using the consent IDs of
+     * the page.
+     */
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(searchConsentsPreparedStatement)
+    // Suppression reason - False Positive : Cannot bind variables separately as the query is complex
+    // Suppressed warning count - 1
+    ConsentSearchPage searchConsentsPage(Connection connection, ConsentSearchConditions searchConditions,
+                                         Integer limit, Integer offset, ConsentSearchCursor cursor,
+                                         boolean withTotal)
+            throws ConsentDataRetrievalException {
+
+        // Don't limit if limit is null, and don't offset if either of limit or offset is null
+        boolean shouldLimit = limit != null;
+        boolean shouldOffset = limit != null && offset != null;
+
+        String searchConsentsPreparedStatement = sqlStatements.getSearchConsentsPagePreparedStatement(
+                searchConditions.constructedConditions, searchConditions.userIDFilterCondition,
+                searchConditions.accountIDPlaceholders, cursor != null, withTotal, shouldLimit, shouldOffset);
+
+        Map<String, DetailedConsentResource> detailedConsentResources = new LinkedHashMap<>();
+        Integer windowTotal = null;
+        try (PreparedStatement searchConsentsPreparedStmt =
+                     connection.prepareStatement(searchConsentsPreparedStatement)) {
+
+            if (shouldLimit) {
+                // Read the page in one round trip, drivers such as Oracle fetch only a few rows at a time by default
+                searchConsentsPreparedStmt.setFetchSize(limit);
             }
+            log.debug("Setting parameters to prepared statement to search consents");
+            int parameterIndex = searchConditions.setParameters(searchConsentsPreparedStmt);
 
-            if (toTime != null) {
-                searchConsentsPreparedStmt.setLong(++parameterIndex, toTime);
-            } else {
-                searchConsentsPreparedStmt.setNull(++parameterIndex, Types.BIGINT);
+            if (cursor != null) {
+                searchConsentsPreparedStmt.setLong(++parameterIndex, cursor.getUpdatedTime());
+                searchConsentsPreparedStmt.setLong(++parameterIndex, cursor.getUpdatedTime());
+                searchConsentsPreparedStmt.setLong(++parameterIndex, cursor.getUpdatedTime());
+                searchConsentsPreparedStmt.setString(++parameterIndex, cursor.getConsentID());
             }
 
-            if (limit != null && offset != null) {
-                searchConsentsPreparedStmt.setInt(++parameterIndex, limit);
-                searchConsentsPreparedStmt.setInt(++parameterIndex, offset);
-            } else if (limit != null) {
+            if (shouldLimit && shouldOffset) {
+                if (sqlStatements.isLimitBeforeThanOffset()) {
+                    searchConsentsPreparedStmt.setInt(++parameterIndex, limit);
+                    searchConsentsPreparedStmt.setInt(++parameterIndex, offset);
+                } else {
+                    searchConsentsPreparedStmt.setInt(++parameterIndex, offset);
+                    searchConsentsPreparedStmt.setInt(++parameterIndex, limit);
+                }
+            } else if (shouldLimit) {
                 searchConsentsPreparedStmt.setInt(++parameterIndex, limit);
             }
-            ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
 
             try (ResultSet resultSet = searchConsentsPreparedStmt.executeQuery()) {
-                if (resultSet.isBeforeFirst()) {
-                    int resultSetSize = ConsentManagementDAOUtil.getResultSetSize(resultSet);
-                    detailedConsentResources = constructDetailedConsentsSearchResult(resultSet, resultSetSize);
+                while (resultSet.next()) {
+                    DetailedConsentResource detailedConsentResource = ConsentManagementDAOUtil
+                            .setConsentDataToDetailedConsentResource(resultSet);
+                    detailedConsentResources.put(detailedConsentResource.getConsentID(), detailedConsentResource);
+                    if (withTotal && windowTotal == null) {
+                        windowTotal = resultSet.getInt(ConsentMgtDAOConstants.TOTAL_COUNT);
+                    }
                 }
-                return detailedConsentResources;
-            } catch (SQLException e) {
-                log.error("Error occurred while searching detailed consent resources", e);
-                throw new ConsentDataRetrievalException("Error occurred while searching detailed " +
-                        "consent resources", e);
+            }
+
+            if (!detailedConsentResources.isEmpty()) {
+                setChildResourcesOfSearchResult(connection, detailedConsentResources);
             }
         } catch (SQLException e) {
             log.error(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
-            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_SEARCH_ERROR_MSG, e);
+        }
+        return new ConsentSearchPage(new ArrayList<>(detailedConsentResources.values()), windowTotal);
+    }
+
+    /**
+     * Sets the consent attributes, authorization resources and consent mapping resources of the searched consents.
+     * Consent IDs are bound in chunks to stay within the "IN" clause limits of the databases.
+     *
+     * @param connection                connection object
+     * @param detailedConsentResources  searched consents by consent ID
+     * @throws SQLException thrown if an error occurs when querying the child resources
+     */
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(attributesStatement)
+    // Suppression reason - False Positive : Only the number of placeholders is dynamic
+    // Suppressed warning count - 3
+    protected void setChildResourcesOfSearchResult(Connection connection,
+                                                   Map<String, DetailedConsentResource> detailedConsentResources)
+            throws SQLException {
+
+        List<String> consentIds = new ArrayList<>(detailedConsentResources.keySet());
+        for (int fromIndex = 0; fromIndex < consentIds.size(); fromIndex += SEARCH_CHILD_FETCH_BATCH_SIZE) {
+            List<String> consentIdBatch = consentIds.subList(fromIndex,
+                    Math.min(fromIndex + SEARCH_CHILD_FETCH_BATCH_SIZE, consentIds.size()));
+            String placeholders = ConsentManagementDAOUtil.constructPlaceholders(consentIdBatch.size());
+
+            String attributesStatement =
+                    sqlStatements.getSearchConsentAttributesByConsentIdsPreparedStatement(placeholders);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(attributesStatement)) {
+                setConsentIdParameters(preparedStatement, consentIdBatch);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        String attributeKey = resultSet.getString(ConsentMgtDAOConstants.ATT_KEY);
+                        String attributeValue = resultSet.getString(ConsentMgtDAOConstants.ATT_VALUE);
+                        if (StringUtils.isNotBlank(attributeKey) && StringUtils.isNotBlank(attributeValue)) {
+                            detailedConsentResources.get(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID))
+                                    .getConsentAttributes().put(attributeKey, attributeValue);
+                        }
+                    }
+                }
+            }
+
+            String authorizationsStatement =
+                    sqlStatements.getSearchAuthorizationResourcesByConsentIdsPreparedStatement(placeholders);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(authorizationsStatement)) {
+                setConsentIdParameters(preparedStatement, consentIdBatch);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        AuthorizationResource authorizationResource = ConsentManagementDAOUtil
+                                .setAuthorizationData(resultSet, ConsentMgtDAOConstants.UPDATED_TIME);
+                        detailedConsentResources.get(authorizationResource.getConsentID())
+                                .getAuthorizationResources().add(authorizationResource);
+                    }
+                }
+            }
+
+            String mappingsStatement =
+                    sqlStatements.getSearchConsentMappingsByConsentIdsPreparedStatement(placeholders);
+            try (PreparedStatement preparedStatement = connection.prepareStatement(mappingsStatement)) {
+                setConsentIdParameters(preparedStatement, consentIdBatch);
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        detailedConsentResources.get(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID))
+                                .getConsentMappingResources()
+                                .add(ConsentManagementDAOUtil.getConsentMappingResourceWithData(resultSet));
+                    }
+                }
+            }
+        }
+    }
+
+    private static void setConsentIdParameters(PreparedStatement preparedStatement, List<String> consentIds)
+            throws SQLException {
+
+        int parameterIndex = 0;
+        for (String consentId : consentIds) {
+            preparedStatement.setString(++parameterIndex, consentId);
         }
     }
 
@@ -1447,18 +1629,8 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
             try (ResultSet resultSet = getConsentStatusAuditRecordPreparedStmt.executeQuery()) {
                 if (resultSet.isBeforeFirst()) {
                     while (resultSet.next()) {
-                        ConsentStatusAuditRecord consentStatusAuditRecord = new ConsentStatusAuditRecord();
-                        consentStatusAuditRecord
-                                .setStatusAuditID(resultSet.getString(ConsentMgtDAOConstants.STATUS_AUDIT_ID));
-                        consentStatusAuditRecord.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
-                        consentStatusAuditRecord
-                                .setCurrentStatus(resultSet.getString(ConsentMgtDAOConstants.CURRENT_STATUS));
-                        consentStatusAuditRecord.setActionBy(resultSet.getString(ConsentMgtDAOConstants.ACTION_BY));
-                        consentStatusAuditRecord.setActionTime(resultSet.getLong(ConsentMgtDAOConstants.ACTION_TIME));
-                        consentStatusAuditRecord.setReason(resultSet.getString(ConsentMgtDAOConstants.REASON));
-                        consentStatusAuditRecord
-                                .setPreviousStatus(resultSet.getString(ConsentMgtDAOConstants.PREVIOUS_STATUS));
-                        retrievedAuditRecords.add(consentStatusAuditRecord);
+                        retrievedAuditRecords.add(ConsentManagementDAOUtil
+                                .getConsentStatusAuditRecordFromResultSet(resultSet));
                     }
                 } else {
                     log.error("No records are found for the provided inputs");
@@ -1530,18 +1702,8 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
             try (ResultSet resultSet = getConsentStatusAuditRecordPreparedStmt.executeQuery()) {
                 if (resultSet.isBeforeFirst()) {
                     while (resultSet.next()) {
-                        ConsentStatusAuditRecord consentStatusAuditRecord = new ConsentStatusAuditRecord();
-                        consentStatusAuditRecord
-                                .setStatusAuditID(resultSet.getString(ConsentMgtDAOConstants.STATUS_AUDIT_ID));
-                        consentStatusAuditRecord.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
-                        consentStatusAuditRecord
-                                .setCurrentStatus(resultSet.getString(ConsentMgtDAOConstants.CURRENT_STATUS));
-                        consentStatusAuditRecord.setActionBy(resultSet.getString(ConsentMgtDAOConstants.ACTION_BY));
-                        consentStatusAuditRecord.setActionTime(resultSet.getLong(ConsentMgtDAOConstants.ACTION_TIME));
-                        consentStatusAuditRecord.setReason(resultSet.getString(ConsentMgtDAOConstants.REASON));
-                        consentStatusAuditRecord
-                                .setPreviousStatus(resultSet.getString(ConsentMgtDAOConstants.PREVIOUS_STATUS));
-                        retrievedAuditRecords.add(consentStatusAuditRecord);
+                        retrievedAuditRecords.add(ConsentManagementDAOUtil
+                                .getConsentStatusAuditRecordFromResultSet(resultSet));
                     }
                 }
             } catch (SQLException e) {
@@ -1558,6 +1720,64 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         return retrievedAuditRecords;
     }
 
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(exportStatusAuditRecordsPrepStatement)
+    // Suppression reason - False Positive : Only the number of placeholders is dynamic
+    // Suppressed warning count - 1
+    public void exportConsentStatusAuditRecords(Connection connection, ArrayList<String> consentIDs,
+                                                String statusAuditID, int batchSize,
+                                                ConsentExportHandler<ConsentStatusAuditRecord> handler)
+            throws ConsentDataRetrievalException {
+
+        String consentIdPlaceholders = CollectionUtils.isNotEmpty(consentIDs) ?
+                ConsentManagementDAOUtil.constructPlaceholders(consentIDs.size()) : null;
+        String position = statusAuditID;
+        List<ConsentStatusAuditRecord> batch = new ArrayList<>(batchSize);
+        do {
+            batch.clear();
+            String exportStatusAuditRecordsPrepStatement = sqlStatements
+                    .getExportConsentStatusAuditRecordsPreparedStatement(consentIdPlaceholders, position != null);
+            try (PreparedStatement exportStatusAuditRecordsPreparedStmt =
+                         connection.prepareStatement(exportStatusAuditRecordsPrepStatement)) {
+
+                log.debug("Setting parameters to prepared statement to export consent status audit records");
+                exportStatusAuditRecordsPreparedStmt.setFetchSize(batchSize);
+                int parameterIndex = 0;
+                if (consentIdPlaceholders != null) {
+                    for (String consentID : consentIDs) {
+                        exportStatusAuditRecordsPreparedStmt.setString(++parameterIndex, consentID);
+                    }
+                }
+                if (position != null) {
+                    exportStatusAuditRecordsPreparedStmt.setString(++parameterIndex, position);
+                }
+                exportStatusAuditRecordsPreparedStmt.setInt(++parameterIndex, batchSize);
+
+                try (ResultSet resultSet = exportStatusAuditRecordsPreparedStmt.executeQuery()) {
+                    while (resultSet.next()) {
+                        batch.add(ConsentManagementDAOUtil.getConsentStatusAuditRecordFromResultSet(resultSet));
+                    }
+                }
+            } catch (SQLException e) {
+                log.error(ConsentMgtDAOConstants.AUDIT_RECORDS_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.AUDIT_RECORDS_RETRIEVE_ERROR_MSG, e);
+            }
+
+            try {
+                for (ConsentStatusAuditRecord consentStatusAuditRecord : batch) {
+                    handler.handle(consentStatusAuditRecord);
+                }
+            } catch (IOException e) {
+                log.error(ConsentMgtDAOConstants.CONSENT_EXPORT_ERROR_MSG, e);
+                throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.CONSENT_EXPORT_ERROR_MSG, e);
+            }
+            if (!batch.isEmpty()) {
+                position = batch.get(batch.size() - 1).getStatusAuditID();
+            }
+        } while (!batch.isEmpty() && batch.size() == batchSize);
+    }
+
     @Override
     public boolean storeConsentAmendmentHistory(Connection connection, String historyID, long timestamp,
                 String recordID, String consentDataType, String changedAttributesJsonString, String amendmentReason)
@@ -1701,6 +1921,585 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(expiringConsentsPageStatement)
+    // Suppression reason - False Positive : Only the status placeholders are appended to the query
+    // Suppressed warning count - 1
+    public ArrayList<ConsentResource> getExpiringConsentsPage(Connection connection,
+                                                              List<String> statusesEligibleForExpiration,
+                                                              long expiryTime, ConsentResource lastConsent,
+                                                              int limit)
+            throws ConsentDataRetrievalException {
+
+        String statusesEligibleForExpirationCondition = ConsentManagementDAOUtil
+                .constructStatusesEligibleForExpirationCondition(statusesEligibleForExpiration);
+        String expiringConsentsPageStatement = sqlStatements.getSearchExpiringConsentsPagePreparedStatement(
+                statusesEligibleForExpirationCondition, lastConsent != null);
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(expiringConsentsPageStatement)) {
+
+            log.debug("Setting parameters to prepared statement to fetch a page of consents eligible for expiration");
+
+            int parameterIndex = 0;
+            for (String status : statusesEligibleForExpiration) {
+                preparedStatement.setString(++parameterIndex, status);
+            }
+            preparedStatement.setLong(++parameterIndex, expiryTime);
+            if (lastConsent != null) {
+                preparedStatement.setLong(++parameterIndex, lastConsent.getValidityPeriod());
+                preparedStatement.setLong(++parameterIndex, lastConsent.getValidityPeriod());
+                preparedStatement.setLong(++parameterIndex, lastConsent.getValidityPeriod());
+                preparedStatement.setString(++parameterIndex, lastConsent.getConsentID());
+            }
+            preparedStatement.setInt(++parameterIndex, limit);
+
+            ArrayList<ConsentResource> expiringConsents = new ArrayList<>();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    ConsentResource consentResource = new ConsentResource();
+                    consentResource.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+                    consentResource.setValidityPeriod(resultSet.getLong(ConsentMgtDAOConstants.VALIDITY_TIME));
+                    expiringConsents.add(consentResource);
+                }
+            }
+            return expiringConsents;
+        } catch (SQLException e) {
+            log.error("Error while searching consents eligible for expiration", e);
+            throw new ConsentDataRetrievalException("Error while searching consents eligible for expiration", e);
+        }
+    }
+
+    @Override
+    @SuppressFBWarnings("SQL_INJECTION_JDBC")
+    // Suppressed content - connection.prepareStatement(updateConsentsStatusPrepStatement)
+    // Suppression reason - False Positive : Only the consent ID placeholders are appended to the query
+    // Suppressed warning count - 1
+    public int updateConsentStatuses(Connection connection, List<String> consentIDs, String newConsentStatus)
+            throws ConsentDataUpdationException {
+
+        if (consentIDs.isEmpty()) {
+            return 0;
+        }
+        long updatedTime = System.currentTimeMillis() / 1000;
+        String updateConsentsStatusPrepStatement = sqlStatements.getUpdateConsentsStatusPreparedStatement(
+                ConsentManagementDAOUtil.constructPlaceholders(consentIDs.size()));
+
+        try (PreparedStatement updateConsentsStatusPreparedStmt =
+                     connection.prepareStatement(updateConsentsStatusPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to update consent statuses");
+
+            int parameterIndex = 0;
+            updateConsentsStatusPreparedStmt.setString(++parameterIndex, newConsentStatus);
+            updateConsentsStatusPreparedStmt.setLong(++parameterIndex, updatedTime);
+            for (String consentID : consentIDs) {
+                updateConsentsStatusPreparedStmt.setString(++parameterIndex, consentID);
+            }
+            int result = updateConsentsStatusPreparedStmt.executeUpdate();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Updated the status of %d consents", result));
+            }
+            return result;
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.CONSENT_STATUS_UPDATE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public void storeConsentStatusAuditRecords(Connection connection,
+                                               List<ConsentStatusAuditRecord> consentStatusAuditRecords)
+            throws ConsentDataInsertionException {
+
+        if (consentStatusAuditRecords.isEmpty()) {
+            return;
+        }
+        String storeConsentStatusAuditRecordPrepStatement =
+                sqlStatements.getStoreConsentStatusAuditRecordPreparedStatement();
+
+        try (PreparedStatement storeConsentStatusAuditRecordPreparedStmt =
+                     connection.prepareStatement(storeConsentStatusAuditRecordPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to store consent audit records");
+
+            for (ConsentStatusAuditRecord consentStatusAuditRecord : consentStatusAuditRecords) {
+                String statusAuditID = StringUtils.isEmpty(consentStatusAuditRecord.getStatusAuditID()) ?
+                        UUID.randomUUID().toString() : consentStatusAuditRecord.getStatusAuditID();
+                long actionTime = (consentStatusAuditRecord.getActionTime() == 0) ?
+                        System.currentTimeMillis() / 1000 : consentStatusAuditRecord.getActionTime();
+
+                storeConsentStatusAuditRecordPreparedStmt.setString(1, statusAuditID);
+                storeConsentStatusAuditRecordPreparedStmt.setString(2, consentStatusAuditRecord.getConsentID());
+                storeConsentStatusAuditRecordPreparedStmt.setString(3, consentStatusAuditRecord.getCurrentStatus());
+                storeConsentStatusAuditRecordPreparedStmt.setLong(4, actionTime);
+                storeConsentStatusAuditRecordPreparedStmt.setString(5, consentStatusAuditRecord.getReason());
+                storeConsentStatusAuditRecordPreparedStmt.setString(6, consentStatusAuditRecord.getActionBy());
+                storeConsentStatusAuditRecordPreparedStmt.setString(7,
+                        consentStatusAuditRecord.getPreviousStatus());
+                storeConsentStatusAuditRecordPreparedStmt.addBatch();
+
+                consentStatusAuditRecord.setStatusAuditID(statusAuditID);
+                consentStatusAuditRecord.setActionTime(actionTime);
+            }
+
+            int[] results = storeConsentStatusAuditRecordPreparedStmt.executeBatch();
+            if (!isBatchSuccessful(results)) {
+                throw new ConsentDataInsertionException("Failed to store consent status audit record data properly.");
+            }
+            log.debug("Batch insert for consent status audit records completed successfully.");
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.AUDIT_RECORD_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.AUDIT_RECORD_STORE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public void storeConsentAmendmentHistoryRecords(Connection connection, long timestamp, String consentDataType,
+                                                    Map<String, String> changedAttributesJsonByRecord,
+                                                    String amendmentReason)
+            throws ConsentDataInsertionException {
+
+        if (changedAttributesJsonByRecord.isEmpty()) {
+            return;
+        }
+        String tableID = ConsentManagementDAOUtil.generateConsentTableId(consentDataType.replaceAll("[\r\n]", ""));
+        String insertConsentHistoryPrepStatement = sqlStatements.getInsertConsentHistoryPreparedStatement();
+
+        try (PreparedStatement insertConsentHistoryPreparedStmt =
+                     connection.prepareStatement(insertConsentHistoryPrepStatement)) {
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Setting parameters to prepared statement to store consent amendment history " +
+                        "records of %s", consentDataType.replaceAll("[\r\n]", "")));
+            }
+
+            for (Map.Entry<String, String> changedAttributes : changedAttributesJsonByRecord.entrySet()) {
+                insertConsentHistoryPreparedStmt.setString(1, tableID);
+                insertConsentHistoryPreparedStmt.setString(2, changedAttributes.getKey());
+                insertConsentHistoryPreparedStmt.setString(3, UUID.randomUUID().toString());
+                insertConsentHistoryPreparedStmt.setString(4, changedAttributes.getValue());
+                insertConsentHistoryPreparedStmt.setString(5, amendmentReason);
+                insertConsentHistoryPreparedStmt.setLong(6, timestamp);
+                insertConsentHistoryPreparedStmt.addBatch();
+            }
+
+            int[] results = insertConsentHistoryPreparedStmt.executeBatch();
+            if (!isBatchSuccessful(results)) {
+                log.error("Failed to store consent amendment history data.");
+                throw new ConsentDataInsertionException("Failed to store consent amendment history data properly.");
+            }
+        } catch (SQLException e) {
+            log.error("Error while storing consent amendment history", e);
+            throw new ConsentDataInsertionException(String.format("Error while storing consent amendment history of" +
+                    " %s", consentDataType), e);
+        }
+    }
+
+    @Override
+    public void storeTokenRevocationRecords(Connection connection,
+                                            List<ConsentTokenRevocationRecord> revocationRecords)
+            throws ConsentDataInsertionException {
+
+        if (revocationRecords.isEmpty()) {
+            return;
+        }
+        // Unix time in seconds
+        long currentTime = System.currentTimeMillis() / 1000;
+        String storeTokenRevocationRecordPrepStatement = sqlStatements.getStoreTokenRevocationRecordPreparedStatement();
+
+        try (PreparedStatement storeTokenRevocationRecordPreparedStmt =
+                     connection.prepareStatement(storeTokenRevocationRecordPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to store token revocation records");
+
+            for (ConsentTokenRevocationRecord revocationRecord : revocationRecords) {
+                String revocationID = UUID.randomUUID().toString();
+                storeTokenRevocationRecordPreparedStmt.setString(1, revocationID);
+                storeTokenRevocationRecordPreparedStmt.setString(2, revocationRecord.getConsentID());
+                storeTokenRevocationRecordPreparedStmt.setString(3, revocationRecord.getClientID());
+                storeTokenRevocationRecordPreparedStmt.setString(4, revocationRecord.getUserID());
+                storeTokenRevocationRecordPreparedStmt.setString(5, ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+                storeTokenRevocationRecordPreparedStmt.setInt(6, 0);
+                storeTokenRevocationRecordPreparedStmt.setLong(7, currentTime);
+                storeTokenRevocationRecordPreparedStmt.setLong(8, currentTime);
+                storeTokenRevocationRecordPreparedStmt.setLong(9, currentTime);
+                storeTokenRevocationRecordPreparedStmt.addBatch();
+
+                revocationRecord.setRevocationID(revocationID);
+                revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+                revocationRecord.setAttemptCount(0);
+                revocationRecord.setNextAttemptTime(currentTime);
+                revocationRecord.setCreatedTime(currentTime);
+                revocationRecord.setUpdatedTime(currentTime);
+            }
+
+            int[] results = storeTokenRevocationRecordPreparedStmt.executeBatch();
+            if (!isBatchSuccessful(results)) {
+                throw new ConsentDataInsertionException("Failed to store token revocation records properly.");
+            }
+            log.debug("Stored the token revocation records successfully");
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.TOKEN_REVOCATION_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.TOKEN_REVOCATION_STORE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public ArrayList<ConsentTokenRevocationRecord> getDueTokenRevocationRecords(Connection connection,
+                                                                                long currentTime, int limit)
+            throws ConsentDataRetrievalException {
+
+        ArrayList<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
+        String getDueTokenRevocationRecordsPrepStatement =
+                sqlStatements.getDueTokenRevocationRecordsPreparedStatement();
+
+        try (PreparedStatement getDueTokenRevocationRecordsPreparedStmt =
+                     connection.prepareStatement(getDueTokenRevocationRecordsPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to retrieve due token revocation records");
+
+            getDueTokenRevocationRecordsPreparedStmt.setString(1, ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+            getDueTokenRevocationRecordsPreparedStmt.setLong(2, currentTime);
+            getDueTokenRevocationRecordsPreparedStmt.setInt(3, limit);
+
+            try (ResultSet resultSet = getDueTokenRevocationRecordsPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    revocationRecords.add(ConsentManagementDAOUtil
+                            .getConsentTokenRevocationRecordFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.TOKEN_REVOCATION_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.TOKEN_REVOCATION_RETRIEVE_ERROR_MSG, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Retrieved %d due token revocation records", revocationRecords.size()));
+        }
+        return revocationRecords;
+    }
+
+    @Override
+    public boolean claimTokenRevocationRecord(Connection connection, ConsentTokenRevocationRecord revocationRecord,
+                                              long leaseExpiryTime)
+            throws ConsentDataUpdationException {
+
+        long currentTime = System.currentTimeMillis() / 1000;
+        int attemptCount = revocationRecord.getAttemptCount() + 1;
+        String claimTokenRevocationRecordPrepStatement =
+                sqlStatements.getClaimTokenRevocationRecordPreparedStatement();
+
+        try (PreparedStatement claimTokenRevocationRecordPreparedStmt =
+                     connection.prepareStatement(claimTokenRevocationRecordPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to claim token revocation record");
+
+            claimTokenRevocationRecordPreparedStmt.setInt(1, attemptCount);
+            claimTokenRevocationRecordPreparedStmt.setLong(2, leaseExpiryTime);
+            claimTokenRevocationRecordPreparedStmt.setLong(3, currentTime);
+            claimTokenRevocationRecordPreparedStmt.setString(4, revocationRecord.getRevocationID());
+            claimTokenRevocationRecordPreparedStmt.setString(5, ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+            claimTokenRevocationRecordPreparedStmt.setInt(6, revocationRecord.getAttemptCount());
+
+            if (claimTokenRevocationRecordPreparedStmt.executeUpdate() == 0) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Token revocation record %s is already claimed",
+                            revocationRecord.getRevocationID().replaceAll("[\r\n]", "")));
+                }
+                return false;
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.TOKEN_REVOCATION_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.TOKEN_REVOCATION_UPDATE_ERROR_MSG, e);
+        }
+        revocationRecord.setAttemptCount(attemptCount);
+        revocationRecord.setNextAttemptTime(leaseExpiryTime);
+        revocationRecord.setUpdatedTime(currentTime);
+        return true;
+    }
+
+    @Override
+    public void updateTokenRevocationRecord(Connection connection, ConsentTokenRevocationRecord revocationRecord)
+            throws ConsentDataUpdationException {
+
+        long currentTime = System.currentTimeMillis() / 1000;
+        String updateTokenRevocationRecordPrepStatement =
+                sqlStatements.getUpdateTokenRevocationRecordPreparedStatement();
+
+        try (PreparedStatement updateTokenRevocationRecordPreparedStmt =
+                     connection.prepareStatement(updateTokenRevocationRecordPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to update token revocation record");
+
+            updateTokenRevocationRecordPreparedStmt.setString(1, revocationRecord.getStatus());
+            updateTokenRevocationRecordPreparedStmt.setLong(2, revocationRecord.getNextAttemptTime());
+            updateTokenRevocationRecordPreparedStmt.setInt(3, revocationRecord.getRevokedTokenCount());
+            updateTokenRevocationRecordPreparedStmt.setString(4,
+                    StringUtils.left(revocationRecord.getLastError(), LAST_ERROR_MAX_LENGTH));
+            updateTokenRevocationRecordPreparedStmt.setLong(5, currentTime);
+            updateTokenRevocationRecordPreparedStmt.setString(6, revocationRecord.getRevocationID());
+
+            if (updateTokenRevocationRecordPreparedStmt.executeUpdate() == 0) {
+                throw new ConsentDataUpdationException("Failed to update the token revocation record properly.");
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.TOKEN_REVOCATION_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.TOKEN_REVOCATION_UPDATE_ERROR_MSG, e);
+        }
+        revocationRecord.setUpdatedTime(currentTime);
+    }
+
+    @Override
+    public ArrayList<ConsentTokenRevocationRecord> getTokenRevocationRecords(Connection connection, String consentID)
+            throws ConsentDataRetrievalException {
+
+        ArrayList<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
+        String getTokenRevocationRecordsPrepStatement = sqlStatements.getGetTokenRevocationRecordsPreparedStatement();
+
+        try (PreparedStatement getTokenRevocationRecordsPreparedStmt =
+                     connection.prepareStatement(getTokenRevocationRecordsPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to retrieve token revocation records");
+
+            getTokenRevocationRecordsPreparedStmt.setString(1, consentID);
+
+            try (ResultSet resultSet = getTokenRevocationRecordsPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    revocationRecords.add(ConsentManagementDAOUtil
+                            .getConsentTokenRevocationRecordFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.TOKEN_REVOCATION_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.TOKEN_REVOCATION_RETRIEVE_ERROR_MSG, e);
+        }
+        return revocationRecords;
+    }
+
+    @Override
+    public void storeConsentStateChangeEvents(Connection connection, List<ConsentStateChangeEvent> stateChangeEvents)
+            throws ConsentDataInsertionException {
+
+        if (stateChangeEvents.isEmpty()) {
+            return;
+        }
+        // Unix time in seconds
+        long currentTime = System.currentTimeMillis() / 1000;
+        List<String> consentIDs = stateChangeEvents.stream().map(ConsentStateChangeEvent::getConsentID).distinct()
+                .collect(Collectors.toList());
+        String consentIdPlaceholders = ConsentManagementDAOUtil.constructPlaceholders(consentIDs.size());
+        String lockConsentsPrepStatement = sqlStatements.getLockConsentsPreparedStatement(consentIdPlaceholders);
+        String getSequencesPrepStatement =
+                sqlStatements.getStateChangeEventSequencesPreparedStatement(consentIdPlaceholders);
+        String storeSequencePrepStatement = sqlStatements.getStoreStateChangeEventSequencePreparedStatement();
+        String updateSequencePrepStatement = sqlStatements.getUpdateStateChangeEventSequencePreparedStatement();
+        String storeStateChangeEventPrepStatement = sqlStatements.getStoreStateChangeEventPreparedStatement();
+
+        try (PreparedStatement lockConsentsPreparedStmt = connection.prepareStatement(lockConsentsPrepStatement);
+             PreparedStatement getSequencesPreparedStmt = connection.prepareStatement(getSequencesPrepStatement);
+             PreparedStatement storeSequencePreparedStmt = connection.prepareStatement(storeSequencePrepStatement);
+             PreparedStatement updateSequencePreparedStmt = connection.prepareStatement(updateSequencePrepStatement);
+             PreparedStatement storeStateChangeEventPreparedStmt =
+                     connection.prepareStatement(storeStateChangeEventPrepStatement)) {
+
+            // The consents are locked until the transaction ends, so the events of a consent are numbered by one
+            // transaction at a time, including the first event of a consent which has no sequence row yet
+            for (int i = 0; i < consentIDs.size(); i++) {
+                lockConsentsPreparedStmt.setString(i + 1, consentIDs.get(i));
+                getSequencesPreparedStmt.setString(i + 1, consentIDs.get(i));
+            }
+            int lockedConsentCount = 0;
+            try (ResultSet resultSet = lockConsentsPreparedStmt.executeQuery()) {
+                // Some databases lock a row only once it is read
+                while (resultSet.next()) {
+                    lockedConsentCount++;
+                }
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Locked %d consents to number their state change events",
+                        lockedConsentCount));
+            }
+            Map<String, Long> storedSequences = new HashMap<>();
+            try (ResultSet resultSet = getSequencesPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    storedSequences.put(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID),
+                            resultSet.getLong(ConsentMgtDAOConstants.LAST_SEQUENCE_NO));
+                }
+            }
+
+            log.debug("Setting parameters to prepared statement to store consent state change events");
+
+            Map<String, Long> lastSequences = new HashMap<>(storedSequences);
+            for (ConsentStateChangeEvent stateChangeEvent : stateChangeEvents) {
+                String eventID = UUID.randomUUID().toString();
+                long sequenceNumber = lastSequences.merge(stateChangeEvent.getConsentID(), 1L, Long::sum);
+                storeStateChangeEventPreparedStmt.setString(1, eventID);
+                storeStateChangeEventPreparedStmt.setString(2, stateChangeEvent.getConsentID());
+                storeStateChangeEventPreparedStmt.setLong(3, sequenceNumber);
+                storeStateChangeEventPreparedStmt.setString(4, stateChangeEvent.getClientID());
+                storeStateChangeEventPreparedStmt.setString(5, stateChangeEvent.getUserID());
+                storeStateChangeEventPreparedStmt.setString(6, stateChangeEvent.getPreviousStatus());
+                storeStateChangeEventPreparedStmt.setString(7, stateChangeEvent.getNewStatus());
+                storeStateChangeEventPreparedStmt.setString(8, stateChangeEvent.getReason());
+                storeStateChangeEventPreparedStmt.setString(9, stateChangeEvent.getConsentData());
+                storeStateChangeEventPreparedStmt.setString(10, ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+                storeStateChangeEventPreparedStmt.setInt(11, 0);
+                storeStateChangeEventPreparedStmt.setLong(12, currentTime);
+                storeStateChangeEventPreparedStmt.setLong(13, currentTime);
+                storeStateChangeEventPreparedStmt.addBatch();
+
+                stateChangeEvent.setEventID(eventID);
+                stateChangeEvent.setSequenceNumber(sequenceNumber);
+                stateChangeEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+                stateChangeEvent.setAttemptCount(0);
+                stateChangeEvent.setNextAttemptTime(currentTime);
+                stateChangeEvent.setCreatedTime(currentTime);
+            }
+
+            // The last sequence numbers are kept after the events are published, so the numbers of a consent are
+            // never reused
+            for (Map.Entry<String, Long> lastSequence : lastSequences.entrySet()) {
+                PreparedStatement sequencePreparedStmt = storedSequences.containsKey(lastSequence.getKey()) ?
+                        updateSequencePreparedStmt : storeSequencePreparedStmt;
+                sequencePreparedStmt.setLong(1, lastSequence.getValue());
+                sequencePreparedStmt.setString(2, lastSequence.getKey());
+                sequencePreparedStmt.addBatch();
+            }
+            if (!isBatchSuccessful(storeSequencePreparedStmt.executeBatch()) ||
+                    !isBatchSuccessful(updateSequencePreparedStmt.executeBatch())) {
+                throw new ConsentDataInsertionException("Failed to store consent state change event sequences " +
+                        "properly.");
+            }
+
+            int[] results = storeStateChangeEventPreparedStmt.executeBatch();
+            if (!isBatchSuccessful(results)) {
+                throw new ConsentDataInsertionException("Failed to store consent state change events properly.");
+            }
+            log.debug("Stored the consent state change events successfully");
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_STORE_ERROR_MSG, e);
+            throw new ConsentDataInsertionException(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_STORE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public ArrayList<ConsentStateChangeEvent> getDueConsentStateChangeEvents(Connection connection, long currentTime,
+                                                                             int limit)
+            throws ConsentDataRetrievalException {
+
+        ArrayList<ConsentStateChangeEvent> stateChangeEvents = new ArrayList<>();
+        String getDueStateChangeEventsPrepStatement = sqlStatements.getDueStateChangeEventsPreparedStatement();
+
+        try (PreparedStatement getDueStateChangeEventsPreparedStmt =
+                     connection.prepareStatement(getDueStateChangeEventsPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to retrieve due consent state change events");
+
+            getDueStateChangeEventsPreparedStmt.setString(1, ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+            getDueStateChangeEventsPreparedStmt.setLong(2, currentTime);
+            getDueStateChangeEventsPreparedStmt.setString(3, ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+            getDueStateChangeEventsPreparedStmt.setInt(4, limit);
+
+            try (ResultSet resultSet = getDueStateChangeEventsPreparedStmt.executeQuery()) {
+                while (resultSet.next()) {
+                    stateChangeEvents.add(ConsentManagementDAOUtil.getConsentStateChangeEventFromResultSet(resultSet));
+                }
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentDataRetrievalException(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_RETRIEVE_ERROR_MSG, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Retrieved %d due consent state change events", stateChangeEvents.size()));
+        }
+        return stateChangeEvents;
+    }
+
+    @Override
+    public boolean claimConsentStateChangeEvent(Connection connection, ConsentStateChangeEvent stateChangeEvent,
+                                                long leaseExpiryTime)
+            throws ConsentDataUpdationException {
+
+        int attemptCount = stateChangeEvent.getAttemptCount() + 1;
+        String claimStateChangeEventPrepStatement = sqlStatements.getClaimStateChangeEventPreparedStatement();
+
+        try (PreparedStatement claimStateChangeEventPreparedStmt =
+                     connection.prepareStatement(claimStateChangeEventPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to claim consent state change event");
+
+            claimStateChangeEventPreparedStmt.setInt(1, attemptCount);
+            claimStateChangeEventPreparedStmt.setLong(2, leaseExpiryTime);
+            claimStateChangeEventPreparedStmt.setString(3, stateChangeEvent.getEventID());
+            claimStateChangeEventPreparedStmt.setString(4, ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+            claimStateChangeEventPreparedStmt.setInt(5, stateChangeEvent.getAttemptCount());
+
+            if (claimStateChangeEventPreparedStmt.executeUpdate() == 0) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Consent state change event %s is already claimed",
+                            stateChangeEvent.getEventID().replaceAll("[\r\n]", "")));
+                }
+                return false;
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_UPDATE_ERROR_MSG, e);
+        }
+        stateChangeEvent.setAttemptCount(attemptCount);
+        stateChangeEvent.setNextAttemptTime(leaseExpiryTime);
+        return true;
+    }
+
+    @Override
+    public void updateConsentStateChangeEvent(Connection connection, ConsentStateChangeEvent stateChangeEvent)
+            throws ConsentDataUpdationException {
+
+        String updateStateChangeEventPrepStatement = sqlStatements.getUpdateStateChangeEventPreparedStatement();
+
+        try (PreparedStatement updateStateChangeEventPreparedStmt =
+                     connection.prepareStatement(updateStateChangeEventPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to update consent state change event");
+
+            updateStateChangeEventPreparedStmt.setString(1, stateChangeEvent.getStatus());
+            updateStateChangeEventPreparedStmt.setLong(2, stateChangeEvent.getNextAttemptTime());
+            updateStateChangeEventPreparedStmt.setString(3,
+                    StringUtils.left(stateChangeEvent.getLastError(), LAST_ERROR_MAX_LENGTH));
+            updateStateChangeEventPreparedStmt.setString(4, stateChangeEvent.getEventID());
+
+            if (updateStateChangeEventPreparedStmt.executeUpdate() == 0) {
+                throw new ConsentDataUpdationException("Failed to update the consent state change event properly.");
+            }
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_UPDATE_ERROR_MSG, e);
+            throw new ConsentDataUpdationException(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_UPDATE_ERROR_MSG, e);
+        }
+    }
+
+    @Override
+    public void deleteConsentStateChangeEvent(Connection connection, String eventID)
+            throws ConsentDataDeletionException {
+
+        String deleteStateChangeEventPrepStatement = sqlStatements.getDeleteStateChangeEventPreparedStatement();
+
+        try (PreparedStatement deleteStateChangeEventPreparedStmt =
+                     connection.prepareStatement(deleteStateChangeEventPrepStatement)) {
+
+            log.debug("Setting parameters to prepared statement to delete consent state change event");
+
+            deleteStateChangeEventPreparedStmt.setString(1, eventID);
+            deleteStateChangeEventPreparedStmt.executeUpdate();
+        } catch (SQLException e) {
+            log.error(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_DELETE_ERROR_MSG, e);
+            throw new ConsentDataDeletionException(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_DELETE_ERROR_MSG, e);
+        }
+    }
+
+    private static boolean isBatchSuccessful(int[] results) {
+
+        return Arrays.stream(results).allMatch(result -> result > 0 || result == Statement.SUCCESS_NO_INFO);
+    }
+
     void validateAndSetSearchConditions(Map<String, ArrayList<String>> applicableConditionsMap,
                                         ArrayList<String> consentIDs, ArrayList<String> clientIDs,
                                         ArrayList<String> consentTypes, ArrayList<String> consentStatuses) {
@@ -1725,131 +2524,111 @@ public class ConsentCoreDAOImpl implements ConsentCoreDAO {
         }
     }
 
-    ArrayList<DetailedConsentResource> constructDetailedConsentsSearchResult(ResultSet resultSet, int resultSetSize)
-            throws SQLException {
+    /**
+     * Conditions of a consent search, shared by the page and count queries so that both bind the same parameters.
+     */
+    class ConsentSearchConditions {
+
+        private final Map<String, ArrayList<String>> applicableConditionsMap = new HashMap<>();
+        private final Map<String, ArrayList<String>> userIdMap = new HashMap<>();
+        private final ArrayList<String> accountIDs;
+        private final Long fromTime;
+        private final Long toTime;
+        private final String constructedConditions;
+        private final String userIDFilterCondition;
+        private final String accountIDPlaceholders;
+
+        ConsentSearchConditions(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime,
+                                Long toTime) {
+
+            validateAndSetSearchConditions(applicableConditionsMap, consentIDs, clientIDs, consentTypes,
+                    consentStatuses);
 
-        ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
-
-        while (resultSet.next()) {
-
-            Map<String, String> consentAttributesMap = new HashMap<>();
-            ArrayList<ConsentMappingResource> consentMappingResources = new ArrayList<>();
-            ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
-            DetailedConsentResource detailedConsentResource = ConsentManagementDAOUtil
-                    .setConsentDataToDetailedConsentResource(resultSet);
-
-            // Set consent attributes to map if available
-            if (resultSet.getString(ConsentMgtDAOConstants.ATT_KEY) != null &&
-                    StringUtils.isNotBlank(resultSet.getString(ConsentMgtDAOConstants.ATT_KEY))
-                    && StringUtils.isNotBlank(resultSet.getString(ConsentMgtDAOConstants.ATT_VALUE))) {
-                // fetch attribute keys and values from group_concat
-                String[] attributeKeys = resultSet.getString(ConsentMgtDAOConstants.ATT_KEY).split(GROUP_BY_SEPARATOR);
-                String[] attributeValues = resultSet
-                        .getString(ConsentMgtDAOConstants.ATT_VALUE).split(GROUP_BY_SEPARATOR);
-                // check if all attribute keys has values
-                if (attributeKeys.length == attributeValues.length) {
-                    for (int index = 0; index < attributeKeys.length; index++) {
-                        consentAttributesMap.put(attributeKeys[index], attributeValues[index]);
-                    }
-                }
+            // logic to set the prepared statement
+            log.debug("Constructing the prepared statement");
+            this.constructedConditions =
+                    ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(applicableConditionsMap);
+
+            if (CollectionUtils.isNotEmpty(userIDs)) {
+                userIdMap.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.USER_IDS), userIDs);
+                this.userIDFilterCondition = ConsentManagementDAOUtil.constructUserIdListFilterCondition(userIdMap);
+            } else {
+                this.userIDFilterCondition = "";
             }
-            // Set authorization data
-            setAuthorizationDataInResponseForGroupedQuery(authorizationResources, resultSet,
-                    detailedConsentResource.getConsentID());
-            // Set consent account mapping data if available
-            setAccountConsentMappingDataInResponse(consentMappingResources, resultSet);
 
-            detailedConsentResource.setConsentAttributes(consentAttributesMap);
-            detailedConsentResource.setAuthorizationResources(authorizationResources);
-            detailedConsentResource.setConsentMappingResources(consentMappingResources);
+            this.accountIDs = CollectionUtils.isNotEmpty(accountIDs) ? accountIDs : null;
+            this.accountIDPlaceholders = this.accountIDs != null ?
+                    ConsentManagementDAOUtil.constructPlaceholders(this.accountIDs.size()) : null;
+            this.fromTime = fromTime;
+            this.toTime = toTime;
+        }
 
-            detailedConsentResources.add(detailedConsentResource);
+        /**
+         * Sets the search parameters to the prepared statement, starting from the first parameter.
+         *
+         * @param preparedStatement page or count query of the search
+         * @return index of the last parameter set
+         * @throws SQLException thrown if a parameter cannot be set
+         */
+        int setParameters(PreparedStatement preparedStatement) throws SQLException {
 
-        }
-        return detailedConsentResources;
-    }
+            int parameterIndex = 0;
 
-    protected void setAuthorizationDataInResponseForGroupedQuery(ArrayList<AuthorizationResource>
-                                                                         authorizationResources,
-                                                                 ResultSet resultSet, String consentId)
-            throws SQLException {
+            /* Since we don't know the order of the set condition clauses, have to determine the order of them to set
+               the actual values to the  prepared statement */
+            Map<Integer, ArrayList<String>> orderedParamsMap = ConsentManagementDAOUtil.determineOrderOfParamsToSet(
+                    constructedConditions, applicableConditionsMap, ConsentMgtDAOConstants.COLUMNS_MAP);
 
-        //identify duplicate auth data
-        Set<String> authIdSet = new HashSet<>();
-
-        // fetch values from group_concat
-        String[] authIds = resultSet.getString(ConsentMgtDAOConstants.AUTH_ID) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.AUTH_ID).split(GROUP_BY_SEPARATOR) : null;
-        String[] authTypes = resultSet.getString(ConsentMgtDAOConstants.AUTH_TYPE) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.AUTH_TYPE).split(GROUP_BY_SEPARATOR) : null;
-        String[] authStatues = resultSet.getString(ConsentMgtDAOConstants.AUTH_STATUS) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.AUTH_STATUS).split(GROUP_BY_SEPARATOR) : null;
-        String[] updatedTimes = resultSet.getString(ConsentMgtDAOConstants.UPDATED_TIME) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.UPDATED_TIME).split(GROUP_BY_SEPARATOR) : null;
-        String[] userIds = resultSet.getString(ConsentMgtDAOConstants.USER_ID) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.USER_ID).split(GROUP_BY_SEPARATOR) : null;
-
-        for (int index = 0; index < (authIds != null ? authIds.length : 0); index++) {
-            if (!authIdSet.contains(authIds[index])) {
-                AuthorizationResource authorizationResource = new AuthorizationResource();
-                authIdSet.add(authIds[index]);
-                authorizationResource.setAuthorizationID(authIds[index]);
-                authorizationResource.setConsentID(consentId);
-                if (authTypes != null && authTypes.length > index) {
-                    authorizationResource.setAuthorizationType(authTypes[index]);
-                }
-                if (authStatues != null && authStatues.length > index) {
-                    authorizationResource.setAuthorizationStatus(authStatues[index]);
-                }
-                if (updatedTimes != null && updatedTimes.length > index) {
-                    authorizationResource.setUpdatedTime(Long.parseLong(updatedTimes[index]));
-                }
-                if (userIds != null && userIds.length > index) {
-                    authorizationResource.setUserID(userIds[index]);
+            parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                    orderedParamsMap, ++parameterIndex);
+            parameterIndex = parameterIndex - 1;
+
+            //determine order of user Ids to set
+            if (!userIdMap.isEmpty()) {
+                Map<Integer, ArrayList<String>> orderedUserIdsMap = ConsentManagementDAOUtil
+                        .determineOrderOfParamsToSet(userIDFilterCondition, userIdMap,
+                                ConsentMgtDAOConstants.COLUMNS_MAP);
+                parameterIndex = ConsentManagementDAOUtil.setDynamicConsentSearchParameters(preparedStatement,
+                        orderedUserIdsMap, ++parameterIndex);
+                parameterIndex = parameterIndex - 1;
+            }
+
+            if (accountIDs != null) {
+                for (String accountID : accountIDs) {
+                    preparedStatement.setString(++parameterIndex, accountID);
                 }
-                authorizationResources.add(authorizationResource);
             }
-        }
 
+            if (fromTime != null) {
+                preparedStatement.setLong(++parameterIndex, fromTime);
+            } else {
+                preparedStatement.setNull(++parameterIndex, Types.BIGINT);
+            }
+
+            if (toTime != null) {
+                preparedStatement.setLong(++parameterIndex, toTime);
+            } else {
+                preparedStatement.setNull(++parameterIndex, Types.BIGINT);
+            }
+            return parameterIndex;
+        }
     }
 
-    protected void setAccountConsentMappingDataInResponse(ArrayList<ConsentMappingResource> consentMappingResources,
-                                                          ResultSet resultSet) throws SQLException {
+    /**
+     * Page of a consent search with the total selected by the window function, null if the total is not selected or
+     * the page is empty.
+     */
+    static class ConsentSearchPage {
 
-        //identify duplicate mappingIds
-        Set<String> mappingIdSet = new HashSet<>();
+        private final ArrayList<DetailedConsentResource> detailedConsentResources;
+        private final Integer windowTotal;
 
-        // fetch values from group_concat
-        String[] authIds = resultSet.getString(ConsentMgtDAOConstants.AUTH_MAPPING_ID) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.AUTH_MAPPING_ID).split(GROUP_BY_SEPARATOR) : null;
-        String[] mappingIds = resultSet.getString(ConsentMgtDAOConstants.MAPPING_ID) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.MAPPING_ID).split(GROUP_BY_SEPARATOR) : null;
-        String[] accountIds = resultSet.getString(ConsentMgtDAOConstants.ACCOUNT_ID) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.ACCOUNT_ID).split(GROUP_BY_SEPARATOR) : null;
-        String[] mappingStatues = resultSet.getString(ConsentMgtDAOConstants.MAPPING_STATUS) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.MAPPING_STATUS).split(GROUP_BY_SEPARATOR) : null;
-        String[] permissions = resultSet.getString(ConsentMgtDAOConstants.PERMISSION) != null ?
-                resultSet.getString(ConsentMgtDAOConstants.PERMISSION).split(GROUP_BY_SEPARATOR) : null;
+        ConsentSearchPage(ArrayList<DetailedConsentResource> detailedConsentResources, Integer windowTotal) {
 
-        for (int index = 0; index < (mappingIds != null ? mappingIds.length : 0); index++) {
-            if (!mappingIdSet.contains(mappingIds[index])) {
-                ConsentMappingResource consentMappingResource = new ConsentMappingResource();
-                if (authIds != null && authIds.length > index) {
-                    consentMappingResource.setAuthorizationID(authIds[index]);
-                }
-                consentMappingResource.setMappingID(mappingIds[index]);
-                if (accountIds != null && accountIds.length > index) {
-                    consentMappingResource.setAccountID(accountIds[index]);
-                }
-                if (mappingStatues != null && mappingStatues.length > index) {
-                    consentMappingResource.setMappingStatus(mappingStatues[index]);
-                }
-                if (permissions != null && permissions.length > index) {
-                    consentMappingResource.setPermission(permissions[index]);
-                }
-                consentMappingResources.add(consentMappingResource);
-                mappingIdSet.add(mappingIds[index]);
-            }
+            this.detailedConsentResources = detailedConsentResources;
+            this.windowTotal = windowTotal;
         }
     }
 }
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+import java.util.Map;
+
+/**
+ * Amendment history of a consent together with the current state of the consent.
+ */
+public class ConsentAmendmentHistory {
+
+    private final DetailedConsentResource currentConsent;
+    private final Map<String, ConsentHistoryResource> consentHistory;
+
+    public ConsentAmendmentHistory(DetailedConsentResource currentConsent,
+                                   Map<String, ConsentHistoryResource> consentHistory) {
+
+        this.currentConsent = currentConsent;
+        this.consentHistory = consentHistory;
+    }
+
+    public DetailedConsentResource getCurrentConsent() {
+
+        return currentConsent;
+    }
+
+    public Map<String, ConsentHistoryResource> getConsentHistory() {
+
+        return consentHistory;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+/**
+ * Position of the last consent of a consent search page.
+ * <p>
+ * Search results are ordered by consent updated time and consent ID, both descending. The next page starts with the
+ * first consent after this position in that order.
+ */
+public class ConsentSearchCursor {
+
+    private final long updatedTime;
+    private final String consentID;
+
+    public ConsentSearchCursor(long updatedTime, String consentID) {
+
+        this.updatedTime = updatedTime;
+        this.consentID = consentID;
+    }
+
+    public long getUpdatedTime() {
+
+        return updatedTime;
+    }
+
+    public String getConsentID() {
+
+        return consentID;
+    }
+}
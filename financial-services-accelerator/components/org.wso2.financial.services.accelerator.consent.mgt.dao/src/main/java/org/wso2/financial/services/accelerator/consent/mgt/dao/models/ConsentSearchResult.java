@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+import java.util.ArrayList;
+
+/**
+ * Page of a consent search with the total number of consents matching the search.
+ */
+public class ConsentSearchResult {
+
+    private final ArrayList<DetailedConsentResource> detailedConsentResources;
+    private final int total;
+
+    public ConsentSearchResult(ArrayList<DetailedConsentResource> detailedConsentResources, int total) {
+
+        this.detailedConsentResources = detailedConsentResources;
+        this.total = total;
+    }
+
+    public ArrayList<DetailedConsentResource> getDetailedConsentResources() {
+
+        return detailedConsentResources;
+    }
+
+    public int getTotal() {
+
+        return total;
+    }
+}
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+/**
+ * Model for a consent state change event. An event is stored in the event outbox in the transaction changing the
+ * consent status and is published to the state change listeners asynchronously. The sequence number orders the
+ * events of a consent, and the remaining delivery fields track the publishing attempts of the event. The consent data
+ * holds the consent data of the change, such as the changed consent resource, as a JSON string.
+ */
+public class ConsentStateChangeEvent {
+
+    private String eventID;
+    private String consentID;
+    private long sequenceNumber;
+    private String clientID;
+    private String userID;
+    private String previousStatus;
+    private String newStatus;
+    private String reason;
+    private String consentData;
+    private long createdTime;
+    private String status;
+    private int attemptCount;
+    private long nextAttemptTime;
+    private String lastError;
+
+    public ConsentStateChangeEvent() {
+
+    }
+
+    public ConsentStateChangeEvent(String consentID, String clientID, String userID, String previousStatus,
+                                   String newStatus, String reason) {
+
+        this.consentID = consentID;
+        this.clientID = clientID;
+        this.userID = userID;
+        this.previousStatus = previousStatus;
+        this.newStatus = newStatus;
+        this.reason = reason;
+    }
+
+    public String getEventID() {
+
+        return eventID;
+    }
+
+    public void setEventID(String eventID) {
+
+        this.eventID = eventID;
+    }
+
+    public String getConsentID() {
+
+        return consentID;
+    }
+
+    public void setConsentID(String consentID) {
+
+        this.consentID = consentID;
+    }
+
+    public long getSequenceNumber() {
+
+        return sequenceNumber;
+    }
+
+    public void setSequenceNumber(long sequenceNumber) {
+
+        this.sequenceNumber = sequenceNumber;
+    }
+
+    public String getClientID() {
+
+        return clientID;
+    }
+
+    public void setClientID(String clientID) {
+
+        this.clientID = clientID;
+    }
+
+    public String getUserID() {
+
+        return userID;
+    }
+
+    public void setUserID(String userID) {
+
+        this.userID = userID;
+    }
+
+    public String getPreviousStatus() {
+
+        return previousStatus;
+    }
+
+    public void setPreviousStatus(String previousStatus) {
+
+        this.previousStatus = previousStatus;
+    }
+
+    public String getNewStatus() {
+
+        return newStatus;
+    }
+
+    public void setNewStatus(String newStatus) {
+
+        this.newStatus = newStatus;
+    }
+
+    public String getReason() {
+
+        return reason;
+    }
+
+    public void setReason(String reason) {
+
+        this.reason = reason;
+    }
+
+    public String getConsentData() {
+
+        return consentData;
+    }
+
+    public void setConsentData(String consentData) {
+
+        this.consentData = consentData;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(long createdTime) {
+
+        this.createdTime = createdTime;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(String status) {
+
+        this.status = status;
+    }
+
+    public int getAttemptCount() {
+
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+
+        this.attemptCount = attemptCount;
+    }
+
+    public long getNextAttemptTime() {
+
+        return nextAttemptTime;
+    }
+
+    public void setNextAttemptTime(long nextAttemptTime) {
+
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    public String getLastError() {
+
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.models;
+
+/**
+ * Model for a pending or completed revocation of the tokens issued to a user for a consent. A record is stored in
+ * the transaction revoking the consent and is processed asynchronously, so it also reports the revocation status.
+ */
+public class ConsentTokenRevocationRecord {
+
+    private String revocationID;
+    private String consentID;
+    private String clientID;
+    private String userID;
+    private String status;
+    private int attemptCount;
+    private long nextAttemptTime;
+    private long createdTime;
+    private long updatedTime;
+    private int revokedTokenCount;
+    private String lastError;
+
+    public ConsentTokenRevocationRecord() {
+
+    }
+
+    public ConsentTokenRevocationRecord(String consentID, String clientID, String userID) {
+
+        this.consentID = consentID;
+        this.clientID = clientID;
+        this.userID = userID;
+    }
+
+    public String getRevocationID() {
+
+        return revocationID;
+    }
+
+    public void setRevocationID(String revocationID) {
+
+        this.revocationID = revocationID;
+    }
+
+    public String getConsentID() {
+
+        return consentID;
+    }
+
+    public void setConsentID(String consentID) {
+
+        this.consentID = consentID;
+    }
+
+    public String getClientID() {
+
+        return clientID;
+    }
+
+    public void setClientID(String clientID) {
+
+        this.clientID = clientID;
+    }
+
+    public String getUserID() {
+
+        return userID;
+    }
+
+    public void setUserID(String userID) {
+
+        this.userID = userID;
+    }
+
+    public String getStatus() {
+
+        return status;
+    }
+
+    public void setStatus(String status) {
+
+        this.status = status;
+    }
+
+    public int getAttemptCount() {
+
+        return attemptCount;
+    }
+
+    public void setAttemptCount(int attemptCount) {
+
+        this.attemptCount = attemptCount;
+    }
+
+    public long getNextAttemptTime() {
+
+        return nextAttemptTime;
+    }
+
+    public void setNextAttemptTime(long nextAttemptTime) {
+
+        this.nextAttemptTime = nextAttemptTime;
+    }
+
+    public long getCreatedTime() {
+
+        return createdTime;
+    }
+
+    public void setCreatedTime(long createdTime) {
+
+        this.createdTime = createdTime;
+    }
+
+    public long getUpdatedTime() {
+
+        return updatedTime;
+    }
+
+    public void setUpdatedTime(long updatedTime) {
+
+        this.updatedTime = updatedTime;
+    }
+
+    public int getRevokedTokenCount() {
+
+        return revokedTokenCount;
+    }
+
+    public void setRevokedTokenCount(int revokedTokenCount) {
+
+        this.revokedTokenCount = revokedTokenCount;
+    }
+
+    public String getLastError() {
+
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+
+        this.lastError = lastError;
+    }
+}
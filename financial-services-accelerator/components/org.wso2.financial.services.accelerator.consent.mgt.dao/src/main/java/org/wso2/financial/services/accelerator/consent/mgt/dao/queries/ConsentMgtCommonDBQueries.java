@@ -20,6 +20,9 @@ package org.wso2.financial.services.accelerator.consent.mgt.dao.queries;
 
 import org.apache.commons.lang3.StringUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * The common database queries used by the consent management DAO layer.
  */
@@ -81,6 +84,12 @@ public class ConsentMgtCommonDBQueries {
         return "UPDATE FS_CONSENT SET CURRENT_STATUS = ?, UPDATED_TIME = ? WHERE CONSENT_ID = ?";
     }
 
+    public String getUpdateConsentsStatusPreparedStatement(String consentIdPlaceholders) {
+
+        return "UPDATE FS_CONSENT SET CURRENT_STATUS = ?, UPDATED_TIME = ? WHERE CONSENT_ID IN (" +
+                consentIdPlaceholders + ")";
+    }
+
     public String getUpdateConsentReceiptPreparedStatement() {
 
         return "UPDATE FS_CONSENT SET RECEIPT = ? WHERE CONSENT_ID = ?";
@@ -196,99 +205,149 @@ public class ConsentMgtCommonDBQueries {
         return "SELECT * FROM FS_CONSENT_FILE WHERE CONSENT_ID = ?";
     }
 
-    public String getSearchConsentsPreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
-                                                     String userIdFilterClause) {
+    /**
+     * Returns the query selecting a page of consents for the consent search. Only the consent table is read and the
+     * results are ordered by the updated time and the consent ID, so that the database can walk an index on those
+     * columns. The child resources of the page are fetched afterwards by consent ID.
+     *
+     * @param whereClause        the pre-constructed dynamic where clause
+     * @param userIdFilterClause the pre-constructed user id filter condition
+     * @param isKeyset           whether the page starts after a cursor position
+     * @param shouldLimit        flag that indicates the limit
+     * @param shouldOffset       flag that indicates the offset
+     * @return the constructed prepared statement for the consent search page
+     */
+    public String getSearchConsentsPagePreparedStatement(String whereClause, String userIdFilterClause,
+                                                         boolean isKeyset, boolean shouldLimit,
+                                                         boolean shouldOffset) {
+
+        return getSearchConsentsPagePreparedStatement(whereClause, userIdFilterClause, null, isKeyset, false,
+                shouldLimit, shouldOffset);
+    }
+
+    /**
+     * Returns the query selecting a page of consents for the consent search, optionally filtered by the accounts
+     * mapped to the consents. When the total is requested, each row carries the number of consents matching the
+     * search in the TOTAL_COUNT column, which requires {@link #isWindowedTotalSupported()}.
+     *
+     * @param whereClause           the pre-constructed dynamic where clause
+     * @param userIdFilterClause    the pre-constructed user id filter condition
+     * @param accountIdPlaceholders placeholders of the account IDs, null if not filtered by account
+     * @param isKeyset              whether the page starts after a cursor position
+     * @param withTotal             whether the total number of matching consents is selected
+     * @param shouldLimit           flag that indicates the limit
+     * @param shouldOffset          flag that indicates the offset
+     * @return the constructed prepared statement for the consent search page
+     */
+    public String getSearchConsentsPagePreparedStatement(String whereClause, String userIdFilterClause,
+                                                         String accountIdPlaceholders, boolean isKeyset,
+                                                         boolean withTotal, boolean shouldLimit,
+                                                         boolean shouldOffset) {
+
+        StringBuilder query = new StringBuilder("SELECT OBC.CONSENT_ID, OBC.RECEIPT, OBC.CLIENT_ID, " +
+                "OBC.CONSENT_TYPE, OBC.CURRENT_STATUS, OBC.CONSENT_FREQUENCY, OBC.VALIDITY_TIME, " +
+                "OBC.RECURRING_INDICATOR, OBC.CREATED_TIME AS CONSENT_CREATED_TIME, " +
+                "OBC.UPDATED_TIME AS CONSENT_UPDATED_TIME ");
+        if (withTotal) {
+            query.append(", COUNT(*) OVER() AS TOTAL_COUNT ");
+        }
+        query.append("FROM FS_CONSENT OBC ");
+        appendConsentSearchConditions(query, whereClause, userIdFilterClause, accountIdPlaceholders);
+        if (isKeyset) {
+            // The leading range condition lets the database seek the updated time index to the cursor position
+            query.append("AND OBC.UPDATED_TIME <= ? " +
+                    "AND (OBC.UPDATED_TIME < ? OR (OBC.UPDATED_TIME = ? AND OBC.CONSENT_ID < ?)) ");
+        }
+        query.append("ORDER BY OBC.UPDATED_TIME DESC, OBC.CONSENT_ID DESC ");
+        query.append(getPaginationClause(shouldLimit, shouldOffset));
+
+        return query.toString();
+    }
+
+    /**
+     * Returns the query counting the consents matching the consent search. The parameters are bound in the same
+     * order as in the consent search page query.
+     *
+     * @param whereClause           the pre-constructed dynamic where clause
+     * @param userIdFilterClause    the pre-constructed user id filter condition
+     * @param accountIdPlaceholders placeholders of the account IDs, null if not filtered by account
+     * @return the constructed prepared statement for the consent search count
+     */
+    public String getCountConsentsPreparedStatement(String whereClause, String userIdFilterClause,
+                                                    String accountIdPlaceholders) {
+
+        StringBuilder query = new StringBuilder("SELECT COUNT(*) AS TOTAL_COUNT FROM FS_CONSENT OBC ");
+        appendConsentSearchConditions(query, whereClause, userIdFilterClause, accountIdPlaceholders);
+        return query.toString();
+    }
 
-        String selectClause = "(SELECT * FROM FS_CONSENT " + whereClause + ")";
-        String joinType = "LEFT ";
+    /**
+     * Whether the database supports the COUNT(*) OVER() window function, so that the total of a consent search can
+     * be selected with the page. MySQL and H2 share these queries and older versions of both lack window functions.
+     *
+     * @return true if the total can be selected with the page
+     */
+    public boolean isWindowedTotalSupported() {
+
+        return false;
+    }
+
+    private void appendConsentSearchConditions(StringBuilder query, String whereClause, String userIdFilterClause,
+                                               String accountIdPlaceholders) {
+
+        if (StringUtils.isBlank(whereClause)) {
+            query.append("WHERE ");
+        } else {
+            query.append(whereClause).append(" AND ");
+        }
         if (StringUtils.isNotEmpty(userIdFilterClause)) {
-            joinType = "INNER ";
-            userIdFilterClause = "AND " + userIdFilterClause;
+            query.append("EXISTS (SELECT 1 FROM FS_CONSENT_AUTH_RESOURCE OCAR WHERE OCAR.CONSENT_ID = OBC.CONSENT_ID " +
+                    "AND ").append(userIdFilterClause).append(") AND ");
+        }
+        if (StringUtils.isNotEmpty(accountIdPlaceholders)) {
+            query.append("EXISTS (SELECT 1 FROM FS_CONSENT_AUTH_RESOURCE OCAR2 INNER JOIN FS_CONSENT_MAPPING OCM " +
+                    "ON OCM.AUTH_ID = OCAR2.AUTH_ID WHERE OCAR2.CONSENT_ID = OBC.CONSENT_ID AND OCM.ACCOUNT_ID IN (")
+                    .append(accountIdPlaceholders).append(")) AND ");
         }
+        query.append("OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
+                "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME) ");
+    }
 
-        StringBuilder query = new StringBuilder("SELECT OBC.CONSENT_ID, " +
-                "RECEIPT, " +
-                "CLIENT_ID, " +
-                "CONSENT_TYPE, " +
-                "OBC.CURRENT_STATUS AS CURRENT_STATUS," +
-                "CONSENT_FREQUENCY," +
-                "VALIDITY_TIME," +
-                "RECURRING_INDICATOR," +
-                "OBC.CREATED_TIME AS CONSENT_CREATED_TIME," +
-                "OBC.UPDATED_TIME AS CONSENT_UPDATED_TIME," +
-                "Group_concat(distinct CA.att_key order by CA.att_key SEPARATOR '||' ) AS ATT_KEY, " +
-                "Group_concat(distinct CA.att_value order by CA.att_key SEPARATOR '||') AS ATT_VALUE, " +
-
-
-                "( SELECT   Group_concat( OCAR2.auth_id order by OCAR2.auth_id SEPARATOR '||') " +
-                "         FROM FS_CONSENT_AUTH_RESOURCE OCAR2 " +
-                "         WHERE OCAR2.consent_id = OBC.consent_id " +
-                "         GROUP BY OCAR2.consent_id ) AS AUTH_ID, " +
-
-                "( SELECT   Group_concat(OCAR2.auth_status order by OCAR2.auth_id SEPARATOR '||') " +
-                "         FROM FS_CONSENT_AUTH_RESOURCE OCAR2 " +
-                "         WHERE OCAR2.consent_id = OBC.consent_id " +
-                "         GROUP BY OCAR2.consent_id ) AS AUTH_STATUS, " +
-
-                "( SELECT   Group_concat(OCAR2.auth_type order by OCAR2.auth_id SEPARATOR '||')  " +
-                "         FROM FS_CONSENT_AUTH_RESOURCE OCAR2 " +
-                "         WHERE OCAR2.consent_id = OBC.consent_id " +
-                "         GROUP BY OCAR2.consent_id ) AS AUTH_TYPE, " +
-
-                "( SELECT   Group_concat(OCAR2.updated_time order by OCAR2.auth_id SEPARATOR '||')  " +
-                "         FROM FS_CONSENT_AUTH_RESOURCE OCAR2 " +
-                "         WHERE OCAR2.consent_id = OBC.consent_id " +
-                "         GROUP BY OCAR2.consent_id ) AS UPDATED_TIME, " +
-
-                "( SELECT   Group_concat(OCAR2.user_id order by OCAR2.auth_id SEPARATOR '||') " +
-                "         FROM FS_CONSENT_AUTH_RESOURCE OCAR2 " +
-                "         WHERE OCAR2.consent_id = OBC.consent_id " +
-                "         GROUP BY OCAR2.consent_id ) AS USER_ID," +
-
-
-                " ( SELECT   Group_concat(OCM2.auth_id order by OCM2.mapping_id SEPARATOR '||') " +
-                "           FROM FS_CONSENT_MAPPING OCM2 " +
-                "           JOIN FS_CONSENT_AUTH_RESOURCE OCAR2 ON OCAR2.auth_id = OCM2.auth_id " +
-                "           WHERE OCAR2.consent_id = OBC.consent_id) AS AUTH_MAPPING_ID  , " +
-
-                "( SELECT   Group_concat(OCM2.account_id order by OCM2.mapping_id SEPARATOR '||') " +
-                "           FROM FS_CONSENT_MAPPING OCM2 " +
-                "           JOIN FS_CONSENT_AUTH_RESOURCE OCAR2 ON OCAR2.auth_id = OCM2.auth_id " +
-                "           WHERE OCAR2.consent_id = OBC.consent_id) AS ACCOUNT_ID  , " +
-
-                "( SELECT   Group_concat(OCM2.mapping_id order by OCM2.mapping_id SEPARATOR '||')  " +
-                "           FROM FS_CONSENT_MAPPING OCM2 " +
-                "           JOIN FS_CONSENT_AUTH_RESOURCE OCAR2 ON OCAR2.auth_id = OCM2.auth_id " +
-                "           WHERE OCAR2.consent_id = OBC.consent_id) AS MAPPING_ID  , " +
-
-                "( SELECT   Group_concat(OCM2.mapping_status order by OCM2.mapping_id SEPARATOR '||') " +
-                "           FROM FS_CONSENT_MAPPING OCM2 " +
-                "           JOIN FS_CONSENT_AUTH_RESOURCE OCAR2 ON OCAR2.auth_id = OCM2.auth_id " +
-                "           WHERE OCAR2.consent_id = OBC.consent_id) AS MAPPING_STATUS , " +
-
-                "( SELECT   Group_concat(OCM2.permission order by OCM2.mapping_id SEPARATOR '||') " +
-                "           FROM FS_CONSENT_MAPPING OCM2 " +
-                "           JOIN FS_CONSENT_AUTH_RESOURCE OCAR2 ON OCAR2.auth_id = OCM2.auth_id " +
-                "           WHERE OCAR2.consent_id = OBC.consent_id) AS PERMISSION " +
-
-                "FROM " +
-                selectClause +
-                "AS OBC " +
-                "LEFT JOIN FS_CONSENT_ATTRIBUTE CA ON OBC.CONSENT_ID=CA.CONSENT_ID " +
-                joinType + "JOIN FS_CONSENT_AUTH_RESOURCE OCAR ON OBC.CONSENT_ID=OCAR.CONSENT_ID "
-                + userIdFilterClause +
-                "LEFT JOIN FS_CONSENT_MAPPING OCM ON OCAR.AUTH_ID=OCM.AUTH_ID WHERE " +
-                "(OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
-                "AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) " +
-                "group by OBC.CONSENT_ID ORDER BY OBC.UPDATED_TIME DESC ");
+    /**
+     * Returns the pagination clause of the consent search page query.
+     *
+     * @param shouldLimit  flag that indicates the limit
+     * @param shouldOffset flag that indicates the offset
+     * @return pagination clause, or an empty string if the results should not be limited
+     */
+    public String getPaginationClause(boolean shouldLimit, boolean shouldOffset) {
 
         if (shouldLimit && shouldOffset) {
-            query.append(" LIMIT ? OFFSET ? ");
+            return "LIMIT ? OFFSET ? ";
         } else if (shouldLimit) {
-            query.append(" LIMIT ? ");
+            return "LIMIT ? ";
         }
+        return "";
+    }
 
-        return query.toString();
+    public String getSearchConsentAttributesByConsentIdsPreparedStatement(String consentIdPlaceholders) {
+
+        return "SELECT CONSENT_ID, ATT_KEY, ATT_VALUE FROM FS_CONSENT_ATTRIBUTE WHERE CONSENT_ID IN (" +
+                consentIdPlaceholders + ")";
+    }
+
+    public String getSearchAuthorizationResourcesByConsentIdsPreparedStatement(String consentIdPlaceholders) {
+
+        return "SELECT AUTH_ID, CONSENT_ID, AUTH_TYPE, USER_ID, AUTH_STATUS, UPDATED_TIME " +
+                "FROM FS_CONSENT_AUTH_RESOURCE WHERE CONSENT_ID IN (" + consentIdPlaceholders + ") ORDER BY AUTH_ID";
+    }
+
+    public String getSearchConsentMappingsByConsentIdsPreparedStatement(String consentIdPlaceholders) {
+
+        return "SELECT OCAR.CONSENT_ID, OCM.MAPPING_ID, OCM.AUTH_ID, OCM.ACCOUNT_ID, OCM.PERMISSION, " +
+                "OCM.MAPPING_STATUS FROM FS_CONSENT_MAPPING OCM INNER JOIN FS_CONSENT_AUTH_RESOURCE OCAR " +
+                "ON OCM.AUTH_ID = OCAR.AUTH_ID WHERE OCAR.CONSENT_ID IN (" + consentIdPlaceholders + ") " +
+                "ORDER BY OCM.MAPPING_ID";
     }
 
     public String getSearchAuthorizationResourcesPreparedStatement(String whereClause) {
@@ -331,6 +390,33 @@ public class ConsentMgtCommonDBQueries {
         return query.toString();
     }
 
+    /**
+     * SQL query for a batch of the consent status audit export. Records are ordered by the status audit ID so that
+     * the export can continue after the last exported record by walking the primary key.
+     *
+     * @param consentIdPlaceholders placeholders of the consent IDs, null if not filtered by consent
+     * @param isKeyset              whether the batch starts after a status audit ID
+     * @return SQL query for a batch of the consent status audit export
+     */
+    public String getExportConsentStatusAuditRecordsPreparedStatement(String consentIdPlaceholders,
+                                                                      boolean isKeyset) {
+
+        StringBuilder query = new StringBuilder("SELECT * FROM FS_CONSENT_STATUS_AUDIT ");
+        List<String> conditions = new ArrayList<>();
+        if (StringUtils.isNotEmpty(consentIdPlaceholders)) {
+            conditions.add("CONSENT_ID IN (" + consentIdPlaceholders + ")");
+        }
+        if (isKeyset) {
+            conditions.add("STATUS_AUDIT_ID > ?");
+        }
+        if (!conditions.isEmpty()) {
+            query.append("WHERE ").append(String.join(" AND ", conditions)).append(" ");
+        }
+        query.append("ORDER BY STATUS_AUDIT_ID ");
+        query.append(getPaginationClause(true, false));
+        return query.toString();
+    }
+
     /**
      * Util method to get the limit offset order for differentiate oracle and mssql pagination.
      * @return is limit is before in prepared statement than offset
@@ -351,6 +437,147 @@ public class ConsentMgtCommonDBQueries {
         return "SELECT * FROM FS_CONSENT_HISTORY " + whereClause + "ORDER BY EFFECTIVE_TIMESTAMP DESC";
     }
 
+    /**
+     * SQL query for a page of consents eligible for expiration, ordered by validity time and consent ID.
+     *
+     * @param statusesEligibleForExpirationCondition the pre-constructed status placeholders
+     * @param isKeyset                               whether the page starts after a previous page
+     * @return the constructed prepared statement for the expiring consents page
+     */
+    public String getSearchExpiringConsentsPagePreparedStatement(String statusesEligibleForExpirationCondition,
+                                                                boolean isKeyset) {
+
+        StringBuilder query = new StringBuilder("SELECT CONSENT_ID, VALIDITY_TIME FROM FS_CONSENT " +
+                "WHERE CURRENT_STATUS IN " + statusesEligibleForExpirationCondition +
+                "AND VALIDITY_TIME > 0 AND VALIDITY_TIME < ? ");
+        if (isKeyset) {
+            query.append("AND VALIDITY_TIME >= ? AND (VALIDITY_TIME > ? OR (VALIDITY_TIME = ? AND CONSENT_ID > ?)) ");
+        }
+        query.append("ORDER BY VALIDITY_TIME, CONSENT_ID ");
+        query.append(getPaginationClause(true, false));
+
+        return query.toString();
+    }
+
+    public String getStoreTokenRevocationRecordPreparedStatement() {
+
+        return "INSERT INTO FS_CONSENT_TOKEN_REVOCATION (REVOCATION_ID, CONSENT_ID, CLIENT_ID, USER_ID, STATUS, " +
+                "ATTEMPT_COUNT, NEXT_ATTEMPT_TIME, CREATED_TIME, UPDATED_TIME) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * SQL query for the token revocation records due for an attempt, ordered by the time of the next attempt.
+     *
+     * @return SQL query for the token revocation records due for an attempt
+     */
+    public String getDueTokenRevocationRecordsPreparedStatement() {
+
+        return "SELECT * FROM FS_CONSENT_TOKEN_REVOCATION WHERE STATUS = ? AND NEXT_ATTEMPT_TIME <= ? " +
+                "ORDER BY NEXT_ATTEMPT_TIME, REVOCATION_ID " + getPaginationClause(true, false);
+    }
+
+    /**
+     * SQL query to claim a token revocation record for an attempt. The attempt count acts as the version of the
+     * record, so only one node claims the record when several nodes poll the table.
+     *
+     * @return SQL query to claim a token revocation record
+     */
+    public String getClaimTokenRevocationRecordPreparedStatement() {
+
+        return "UPDATE FS_CONSENT_TOKEN_REVOCATION SET ATTEMPT_COUNT = ?, NEXT_ATTEMPT_TIME = ?, UPDATED_TIME = ? " +
+                "WHERE REVOCATION_ID = ? AND STATUS = ? AND ATTEMPT_COUNT = ?";
+    }
+
+    public String getUpdateTokenRevocationRecordPreparedStatement() {
+
+        return "UPDATE FS_CONSENT_TOKEN_REVOCATION SET STATUS = ?, NEXT_ATTEMPT_TIME = ?, REVOKED_TOKEN_COUNT = ?, " +
+                "LAST_ERROR = ?, UPDATED_TIME = ? WHERE REVOCATION_ID = ?";
+    }
+
+    public String getGetTokenRevocationRecordsPreparedStatement() {
+
+        return "SELECT * FROM FS_CONSENT_TOKEN_REVOCATION WHERE CONSENT_ID = ? ORDER BY CREATED_TIME, REVOCATION_ID";
+    }
+
+    /**
+     * SQL query to lock the consents whose state change events are numbered, so that the events of a consent are
+     * numbered by one transaction at a time.
+     *
+     * @param consentIdPlaceholders placeholders of the consent IDs
+     * @return SQL query to lock the consents
+     */
+    public String getLockConsentsPreparedStatement(String consentIdPlaceholders) {
+
+        return "SELECT CONSENT_ID FROM FS_CONSENT WHERE CONSENT_ID IN (" + consentIdPlaceholders + ") FOR UPDATE";
+    }
+
+    /**
+     * SQL query for the last sequence number assigned to the state change events of each consent. The rows are read
+     * with a lock, so the latest committed numbers are returned even when the transaction reads from a snapshot.
+     *
+     * @param consentIdPlaceholders placeholders of the consent IDs
+     * @return SQL query for the last sequence numbers of the consents
+     */
+    public String getStateChangeEventSequencesPreparedStatement(String consentIdPlaceholders) {
+
+        return "SELECT CONSENT_ID, LAST_SEQUENCE_NO FROM FS_CONSENT_EVENT_SEQUENCE WHERE CONSENT_ID IN (" +
+                consentIdPlaceholders + ") FOR UPDATE";
+    }
+
+    public String getStoreStateChangeEventSequencePreparedStatement() {
+
+        return "INSERT INTO FS_CONSENT_EVENT_SEQUENCE (LAST_SEQUENCE_NO, CONSENT_ID) VALUES (?, ?)";
+    }
+
+    public String getUpdateStateChangeEventSequencePreparedStatement() {
+
+        return "UPDATE FS_CONSENT_EVENT_SEQUENCE SET LAST_SEQUENCE_NO = ? WHERE CONSENT_ID = ?";
+    }
+
+    public String getStoreStateChangeEventPreparedStatement() {
+
+        return "INSERT INTO FS_CONSENT_EVENT_OUTBOX (EVENT_ID, CONSENT_ID, SEQUENCE_NO, CLIENT_ID, USER_ID, " +
+                "PREVIOUS_STATUS, NEW_STATUS, REASON, CONSENT_DATA, STATUS, ATTEMPT_COUNT, NEXT_ATTEMPT_TIME, " +
+                "CREATED_TIME) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    }
+
+    /**
+     * SQL query for the state change events due for publishing. An event is returned only if no earlier event of the
+     * same consent is pending, so the events of a consent are published one after the other in order.
+     *
+     * @return SQL query for the state change events due for publishing
+     */
+    public String getDueStateChangeEventsPreparedStatement() {
+
+        return "SELECT E.* FROM FS_CONSENT_EVENT_OUTBOX E WHERE E.STATUS = ? AND E.NEXT_ATTEMPT_TIME <= ? " +
+                "AND NOT EXISTS (SELECT 1 FROM FS_CONSENT_EVENT_OUTBOX P WHERE P.CONSENT_ID = E.CONSENT_ID " +
+                "AND P.SEQUENCE_NO < E.SEQUENCE_NO AND P.STATUS = ?) " +
+                "ORDER BY E.NEXT_ATTEMPT_TIME, E.EVENT_ID " + getPaginationClause(true, false);
+    }
+
+    /**
+     * SQL query to claim a state change event for publishing. The attempt count acts as the version of the event,
+     * so only one node claims the event when several nodes poll the table.
+     *
+     * @return SQL query to claim a state change event
+     */
+    public String getClaimStateChangeEventPreparedStatement() {
+
+        return "UPDATE FS_CONSENT_EVENT_OUTBOX SET ATTEMPT_COUNT = ?, NEXT_ATTEMPT_TIME = ? " +
+                "WHERE EVENT_ID = ? AND STATUS = ? AND ATTEMPT_COUNT = ?";
+    }
+
+    public String getUpdateStateChangeEventPreparedStatement() {
+
+        return "UPDATE FS_CONSENT_EVENT_OUTBOX SET STATUS = ?, NEXT_ATTEMPT_TIME = ?, LAST_ERROR = ? " +
+                "WHERE EVENT_ID = ?";
+    }
+
+    public String getDeleteStateChangeEventPreparedStatement() {
+
+        return "DELETE FROM FS_CONSENT_EVENT_OUTBOX WHERE EVENT_ID = ?";
+    }
+
     public String getSearchExpiringConsentPreparedStatement(String statusesEligibleForExpirationCondition) {
 
         return "SELECT CONSENT_ID " +
@@ -18,131 +18,32 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.dao.queries;
 
-import org.apache.commons.lang3.StringUtils;
-
 /**
  * The Oracle database queries used by the consent management DAO layer.
  */
 public class ConsentMgtOracleDBQueries extends ConsentMgtCommonDBQueries {
 
-    public String getSearchConsentsPreparedStatement(String whereClause, boolean shouldLimit, boolean shouldOffset,
-                                                     String userIdFilterClause) {
-
-        String selectClause = "FS_CONSENT ";
-        String joinType = "LEFT";
-
-        if (StringUtils.isNotEmpty(userIdFilterClause)) {
-            joinType = "INNER";
-            userIdFilterClause = "AND " + userIdFilterClause;
-        }
-
-        if (whereClause.trim().isEmpty()) {
-            whereClause = " WHERE ";
-        } else {
-            whereClause = whereClause + " AND ";
-        }
-
-        StringBuilder query = new StringBuilder("SELECT OBC.CONSENT_ID, " +
-                " ( SELECT receipt FROM FS_CONSENT WHERE consent_id = obc.consent_id " +
-                "               FETCH first 1 rows only ) AS RECEIPT, " +
-                " (SELECT client_id FROM FS_CONSENT WHERE consent_id = obc.consent_id " +
-                "               FETCH FIRST 1 rows only ) AS CLIENT_ID, " +
-                " (SELECT consent_type FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS CONSENT_TYPE, " +
-                " (SELECT current_status FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS current_status, " +
-                " (SELECT consent_frequency FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS CONSENT_FREQUENCY, " +
-                " (SELECT validity_time FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS VALIDITY_TIME, " +
-                " (SELECT recurring_indicator FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS RECURRING_INDICATOR, " +
-                " (SELECT created_time FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS consent_created_time,       " +
-                " (SELECT updated_time FROM FS_CONSENT WHERE consent_id = obc.consent_id  " +
-                "               FETCH FIRST 1  rows only ) AS consent_updated_time, " +
-
-                "          ( SELECT   listagg(att_key || '||') within GROUP (ORDER BY att_key) " +
-                "                   FROM     fs_consent_attribute " +
-                "                   WHERE    consent_id = obc.consent_id " +
-                "                   GROUP BY consent_id ) AS ATT_KEY, " +
-
-                "          ( SELECT   listagg(att_value || '||') within GROUP (ORDER BY att_key)" +
-                "                   FROM     fs_consent_attribute" +
-                "                   WHERE    consent_id = obc.consent_id" +
-                "                   GROUP BY consent_id ) AS ATT_VALUE, " +
-
-                "          ( SELECT   listagg(auth_id || '||') within GROUP (ORDER BY auth_id)" +
-                "                   FROM     fs_consent_auth_resource" +
-                "                   WHERE    consent_id = obc.consent_id" +
-                "                   GROUP BY consent_id ) AS AUTH_ID, " +
-
-                "          ( SELECT   listagg(auth_status || '||') within GROUP (ORDER BY auth_id)" +
-                "                   FROM     fs_consent_auth_resource" +
-                "                   WHERE    consent_id = obc.consent_id" +
-                "                   GROUP BY consent_id ) AS AUTH_STATUS, " +
-
-                "          ( SELECT   listagg(auth_type || '||') within GROUP (ORDER BY auth_id) " +
-                "                   FROM     fs_consent_auth_resource " +
-                "                   WHERE    consent_id = obc.consent_id " +
-                "                   GROUP BY consent_id ) AS AUTH_TYPE, " +
-
-                "          ( SELECT   listagg(updated_time || '||') within GROUP (ORDER BY auth_id) " +
-                "                   FROM     fs_consent_auth_resource " +
-                "                   WHERE    consent_id = obc.consent_id " +
-                "                   GROUP BY consent_id ) AS UPDATED_TIME, " +
-
-                "          ( SELECT   listagg(user_id || '||') within GROUP (ORDER BY auth_id) " +
-                "                   FROM     fs_consent_auth_resource " +
-                "                   WHERE    consent_id = obc.consent_id " +
-                "                   GROUP BY consent_id ) AS USER_ID, " +
-
-
-                "           ( SELECT   listagg(ocm2.auth_id || '||') within GROUP (ORDER BY ocm2.mapping_id) " +
-                "                   FROM     fs_consent_mapping ocm2 " +
-                "                   JOIN     fs_consent_auth_resource ocar2 " +
-                "                   ON       ocar2.auth_id = ocm2.auth_id " +
-                "                   WHERE    ocar2.consent_id = obc.consent_id) AS AUTH_MAPPING_ID , " +
-
-                "           ( SELECT   listagg(ocm2.account_id || '||') within GROUP (ORDER BY ocm2.mapping_id) " +
-                "                   FROM     fs_consent_mapping ocm2 " +
-                "                   JOIN     fs_consent_auth_resource ocar2 " +
-                "                   ON       ocar2.auth_id = ocm2.auth_id " +
-                "                   WHERE    ocar2.consent_id = obc.consent_id) AS ACCOUNT_ID , " +
-
-                "          ( SELECT   listagg(ocm2.mapping_id || '||') within GROUP (ORDER BY ocm2.mapping_id) " +
-                "                   FROM     fs_consent_mapping ocm2 " +
-                "                   JOIN     fs_consent_auth_resource ocar2 " +
-                "                   ON       ocar2.auth_id = ocm2.auth_id " +
-                "                   WHERE    ocar2.consent_id = obc.consent_id) AS MAPPING_ID , " +
-
-                "          ( SELECT   listagg(ocm2.mapping_status || '||') within GROUP (ORDER BY ocm2.mapping_id) " +
-                "                   FROM     fs_consent_mapping ocm2 " +
-                "                   JOIN     fs_consent_auth_resource ocar2 " +
-                "                   ON       ocar2.auth_id = ocm2.auth_id " +
-                "                   WHERE    ocar2.consent_id = obc.consent_id) AS MAPPING_STATUS , " +
-
-                "          ( SELECT   listagg(ocm2.permission || '||') within GROUP (ORDER BY ocm2.mapping_id) " +
-                "                   FROM     fs_consent_mapping ocm2 " +
-                "                   JOIN     fs_consent_auth_resource ocar2 " +
-                "                   ON       ocar2.auth_id = ocm2.auth_id " +
-                "                   WHERE    ocar2.consent_id = obc.consent_id) AS PERMISSION " +
-
-                "FROM " + selectClause + " OBC " +
-                "LEFT JOIN FS_CONSENT_ATTRIBUTE CA ON OBC.CONSENT_ID=CA.CONSENT_ID " +
-                joinType + " JOIN FS_CONSENT_AUTH_RESOURCE OCAR ON OBC.CONSENT_ID=OCAR.CONSENT_ID "
-                + userIdFilterClause +
-                "LEFT JOIN FS_CONSENT_MAPPING OCM ON OCAR.AUTH_ID=OCM.AUTH_ID " + whereClause +
-                " (OBC.UPDATED_TIME >= COALESCE(?, OBC.UPDATED_TIME) " +
-                " AND OBC.UPDATED_TIME <= COALESCE(?, OBC.UPDATED_TIME)) GROUP BY obc.consent_id " +
-                "ORDER BY UPDATED_TIME DESC ");
+    /**
+     * Returns the pagination clause of the consent search page query.
+     *
+     * @param shouldLimit  flag that indicates the limit
+     * @param shouldOffset flag that indicates the offset
+     * @return pagination clause, or an empty string if the results should not be limited
+     */
+    public String getPaginationClause(boolean shouldLimit, boolean shouldOffset) {
 
         if (shouldLimit && shouldOffset) {
-            query.append("OFFSET ? ROWS FETCH NEXT ? ROWS ONLY ");
+            return "OFFSET ? ROWS FETCH NEXT ? ROWS ONLY ";
         } else if (shouldLimit) {
-            query.append("FETCH NEXT ? ROWS ONLY");
+            return "FETCH NEXT ? ROWS ONLY ";
         }
-        return query.toString();
+        return "";
+    }
+
+    @Override
+    public boolean isWindowedTotalSupported() {
+
+        return true;
     }
 
     /**
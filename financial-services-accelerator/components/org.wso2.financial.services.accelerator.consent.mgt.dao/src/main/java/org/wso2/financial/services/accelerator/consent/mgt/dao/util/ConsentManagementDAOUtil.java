@@ -30,6 +30,9 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.Authorizat
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 
 import java.sql.PreparedStatement;
@@ -207,6 +210,77 @@ public class ConsentManagementDAOUtil {
         );
     }
 
+    /**
+     * Set data from the result set to ConsentStatusAuditRecord object.
+     * @param resultSet           result set
+     * @return consentStatusAuditRecord consent status audit record
+     * @throws SQLException thrown if an error occurs when getting data from the result set
+     */
+    public static ConsentStatusAuditRecord getConsentStatusAuditRecordFromResultSet(ResultSet resultSet)
+            throws SQLException {
+
+        ConsentStatusAuditRecord consentStatusAuditRecord = new ConsentStatusAuditRecord();
+        consentStatusAuditRecord.setStatusAuditID(resultSet.getString(ConsentMgtDAOConstants.STATUS_AUDIT_ID));
+        consentStatusAuditRecord.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+        consentStatusAuditRecord.setCurrentStatus(resultSet.getString(ConsentMgtDAOConstants.CURRENT_STATUS));
+        consentStatusAuditRecord.setActionBy(resultSet.getString(ConsentMgtDAOConstants.ACTION_BY));
+        consentStatusAuditRecord.setActionTime(resultSet.getLong(ConsentMgtDAOConstants.ACTION_TIME));
+        consentStatusAuditRecord.setReason(resultSet.getString(ConsentMgtDAOConstants.REASON));
+        consentStatusAuditRecord.setPreviousStatus(resultSet.getString(ConsentMgtDAOConstants.PREVIOUS_STATUS));
+        return consentStatusAuditRecord;
+    }
+
+    /**
+     * Set data from the result set to ConsentTokenRevocationRecord object.
+     * @param resultSet           result set
+     * @return token revocation record
+     * @throws SQLException thrown if an error occurs when getting data from the result set
+     */
+    public static ConsentTokenRevocationRecord getConsentTokenRevocationRecordFromResultSet(ResultSet resultSet)
+            throws SQLException {
+
+        ConsentTokenRevocationRecord revocationRecord = new ConsentTokenRevocationRecord();
+        revocationRecord.setRevocationID(resultSet.getString(ConsentMgtDAOConstants.REVOCATION_ID));
+        revocationRecord.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+        revocationRecord.setClientID(resultSet.getString(ConsentMgtDAOConstants.CLIENT_ID));
+        revocationRecord.setUserID(resultSet.getString(ConsentMgtDAOConstants.USER_ID));
+        revocationRecord.setStatus(resultSet.getString(ConsentMgtDAOConstants.STATUS));
+        revocationRecord.setAttemptCount(resultSet.getInt(ConsentMgtDAOConstants.ATTEMPT_COUNT));
+        revocationRecord.setNextAttemptTime(resultSet.getLong(ConsentMgtDAOConstants.NEXT_ATTEMPT_TIME));
+        revocationRecord.setCreatedTime(resultSet.getLong(ConsentMgtDAOConstants.CREATED_TIME));
+        revocationRecord.setUpdatedTime(resultSet.getLong(ConsentMgtDAOConstants.UPDATED_TIME));
+        revocationRecord.setRevokedTokenCount(resultSet.getInt(ConsentMgtDAOConstants.REVOKED_TOKEN_COUNT));
+        revocationRecord.setLastError(resultSet.getString(ConsentMgtDAOConstants.LAST_ERROR));
+        return revocationRecord;
+    }
+
+    /**
+     * Set data from the result set to ConsentStateChangeEvent object.
+     * @param resultSet           result set
+     * @return consent state change event
+     * @throws SQLException thrown if an error occurs when getting data from the result set
+     */
+    public static ConsentStateChangeEvent getConsentStateChangeEventFromResultSet(ResultSet resultSet)
+            throws SQLException {
+
+        ConsentStateChangeEvent stateChangeEvent = new ConsentStateChangeEvent();
+        stateChangeEvent.setEventID(resultSet.getString(ConsentMgtDAOConstants.EVENT_ID));
+        stateChangeEvent.setConsentID(resultSet.getString(ConsentMgtDAOConstants.CONSENT_ID));
+        stateChangeEvent.setSequenceNumber(resultSet.getLong(ConsentMgtDAOConstants.SEQUENCE_NO));
+        stateChangeEvent.setClientID(resultSet.getString(ConsentMgtDAOConstants.CLIENT_ID));
+        stateChangeEvent.setUserID(resultSet.getString(ConsentMgtDAOConstants.USER_ID));
+        stateChangeEvent.setPreviousStatus(resultSet.getString(ConsentMgtDAOConstants.PREVIOUS_STATUS));
+        stateChangeEvent.setNewStatus(resultSet.getString(ConsentMgtDAOConstants.NEW_STATUS));
+        stateChangeEvent.setReason(resultSet.getString(ConsentMgtDAOConstants.REASON));
+        stateChangeEvent.setConsentData(resultSet.getString(ConsentMgtDAOConstants.CONSENT_DATA));
+        stateChangeEvent.setStatus(resultSet.getString(ConsentMgtDAOConstants.STATUS));
+        stateChangeEvent.setAttemptCount(resultSet.getInt(ConsentMgtDAOConstants.ATTEMPT_COUNT));
+        stateChangeEvent.setNextAttemptTime(resultSet.getLong(ConsentMgtDAOConstants.NEXT_ATTEMPT_TIME));
+        stateChangeEvent.setCreatedTime(resultSet.getLong(ConsentMgtDAOConstants.CREATED_TIME));
+        stateChangeEvent.setLastError(resultSet.getString(ConsentMgtDAOConstants.LAST_ERROR));
+        return stateChangeEvent;
+    }
+
     /**
      * Set data from the result set to AuthorizationResource object.
      *
@@ -269,6 +343,8 @@ public class ConsentManagementDAOUtil {
             // Oracle only allows 1000 values to be used in a SQL "IN" clause. Since more than 1000 consent IDs
             // are used in some queries, "OR" clause is used
             if (entry.getKey().contains(ConsentMgtDAOConstants.CONSENT_ID)) {
+                // Group the OR conditions so that they are not combined with the following AND conditions
+                whereClauseBuilder.append(SPACE).append(LEFT_PARENTHESIS);
                 for (int i = 0; i < entry.getValue().size(); i++) {
                     whereClauseBuilder
                             .append(SPACE)
@@ -280,9 +356,10 @@ public class ConsentManagementDAOUtil {
                             .append(SPACE)
                             .append(DB_OPERATORS_MAP.get(ConsentMgtDAOConstants.OR));
                 }
-                // Delete last OR from the statement
-                whereClauseBuilder.replace(whereClauseBuilder.length() - 2,
-                        whereClauseBuilder.length(), DB_OPERATORS_MAP.get(ConsentMgtDAOConstants.AND));
+                // Replace last OR of the statement with the closing parenthesis
+                whereClauseBuilder.replace(whereClauseBuilder.length() - 3,
+                        whereClauseBuilder.length(), RIGHT_PARENTHESIS + SPACE +
+                                DB_OPERATORS_MAP.get(ConsentMgtDAOConstants.AND));
             } else {
                 for (int i = 0; i < entry.getValue().size(); i++) {
                     placeHoldersBuilder.append(DB_OPERATORS_MAP.get(ConsentMgtDAOConstants.PLACEHOLDER));
@@ -411,6 +488,21 @@ public class ConsentManagementDAOUtil {
         return parameterIndex;
     }
 
+    /**
+     * Construct a comma separated list of placeholders for an "IN" clause.
+     *
+     * @param count  number of placeholders
+     * @return placeholders of the "IN" clause
+     */
+    public static String constructPlaceholders(int count) {
+
+        StringBuilder placeHoldersBuilder = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            placeHoldersBuilder.append(DB_OPERATORS_MAP.get(ConsentMgtDAOConstants.PLACEHOLDER));
+        }
+        return StringUtils.removeEnd(placeHoldersBuilder.toString(), COMMA);
+    }
+
     /**
      * Get the size of the result set.
      *
@@ -34,13 +34,21 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFil
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtCommonDBQueries;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtMssqlDBQueries;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtOracleDBQueries;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.queries.ConsentMgtPostgresDBQueries;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentManagementDAOTestDataProvider;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentMgtDAOTestData;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.util.DAOUtils;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
@@ -48,9 +56,15 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
  * Consent management DAO tests.
@@ -1546,68 +1560,176 @@ public class ConsentCoreDAOTests {
     }
 
     @Test
-    public void testConsentSearchForNullValues() throws Exception {
-
-        ResultSet mockedResultSetTemp = Mockito.mock(ResultSet.class);
-        Mockito.doReturn(null).when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_ID);
-        Mockito.doReturn(null).when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.MAPPING_ID);
-        ConsentCoreDAOImpl dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries());
-        ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
-        ArrayList<ConsentMappingResource> consentMappingResources = new ArrayList<>();
-        dao.setAuthorizationDataInResponseForGroupedQuery(authorizationResources,
-                mockedResultSetTemp, "");
-        dao.setAccountConsentMappingDataInResponse(consentMappingResources,
-                mockedResultSetTemp);
-        Assert.assertEquals(authorizationResources.size(), 0);
-        Assert.assertEquals(consentMappingResources.size(), 0);
-    }
-
-    @Test
-    public void testConsentSearchForNoneNullValues() throws Exception {
-
-        ResultSet mockedResultSetTemp = Mockito.mock(ResultSet.class);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_ID);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.MAPPING_ID);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.ACCOUNT_ID);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.MAPPING_STATUS);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.PERMISSION);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_TYPE);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_STATUS);
-        Mockito.doReturn("123456").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.UPDATED_TIME);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.USER_ID);
-        ConsentCoreDAOImpl dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries());
-        ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
-        ArrayList<ConsentMappingResource> consentMappingResources = new ArrayList<>();
-        dao.setAuthorizationDataInResponseForGroupedQuery(authorizationResources,
-                mockedResultSetTemp, "");
-        dao.setAccountConsentMappingDataInResponse(consentMappingResources,
-                mockedResultSetTemp);
-        Assert.assertTrue(authorizationResources.size() != 0);
-        Assert.assertTrue(consentMappingResources.size() != 0);
-    }
-
-    @Test
-    public void testConsentSearchForNoneNullValuesNegativeCase() throws Exception {
-
-        ResultSet mockedResultSetTemp = Mockito.mock(ResultSet.class);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_ID);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.MAPPING_ID);
-        Mockito.doReturn("1,2").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.ACCOUNT_ID);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.MAPPING_STATUS);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.PERMISSION);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_TYPE);
-        Mockito.doReturn("test").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.AUTH_STATUS);
-        Mockito.doReturn("123456").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.UPDATED_TIME);
-        Mockito.doReturn("test,test2").when(mockedResultSetTemp).getString(ConsentMgtDAOConstants.USER_ID);
-        ConsentCoreDAOImpl dao = new ConsentCoreDAOImpl(new ConsentMgtCommonDBQueries());
-        ArrayList<AuthorizationResource> authorizationResources = new ArrayList<>();
-        ArrayList<ConsentMappingResource> consentMappingResources = new ArrayList<>();
-        dao.setAuthorizationDataInResponseForGroupedQuery(authorizationResources,
-                mockedResultSetTemp, "");
-        dao.setAccountConsentMappingDataInResponse(consentMappingResources,
-                mockedResultSetTemp);
-        Assert.assertTrue(authorizationResources.size() != 0);
-        Assert.assertTrue(consentMappingResources.size() != 0);
+    public void testConsentSearchChildResources() throws Exception {
+
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+        ArrayList<String> consentIDs = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            detailedConsentResources = consentCoreDAO.searchConsents(connection, consentIDs, null,
+                    null, null, null, null, null, null, null);
+        }
+
+        Assert.assertEquals(detailedConsentResources.size(), consentIDs.size());
+        for (DetailedConsentResource resource : detailedConsentResources) {
+            Assert.assertEquals(resource.getAuthorizationResources().size(), 2);
+            Assert.assertEquals(resource.getConsentMappingResources().size(), 4);
+            Assert.assertEquals(resource.getConsentAttributes(),
+                    ConsentMgtDAOTestData.SAMPLE_CONSENT_ATTRIBUTES_MAP);
+        }
+    }
+
+    @Test
+    public void testConsentSearchByCursor() throws Exception {
+
+        ArrayList<DetailedConsentResource> firstPage;
+        ArrayList<DetailedConsentResource> secondPage;
+        ArrayList<String> consentIDs = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            firstPage = consentCoreDAO.searchConsentsByCursor(connection, consentIDs, null, null, null, null,
+                    null, null, 2, null);
+            DetailedConsentResource lastResource = firstPage.get(firstPage.size() - 1);
+            secondPage = consentCoreDAO.searchConsentsByCursor(connection, consentIDs, null, null, null, null,
+                    null, null, 2, new ConsentSearchCursor(lastResource.getUpdatedTime(),
+                            lastResource.getConsentID()));
+        }
+
+        Assert.assertEquals(firstPage.size(), 2);
+        Assert.assertEquals(secondPage.size(), 1);
+        List<String> retrievedConsentIDs = new ArrayList<>();
+        for (DetailedConsentResource resource : firstPage) {
+            retrievedConsentIDs.add(resource.getConsentID());
+        }
+        for (DetailedConsentResource resource : secondPage) {
+            Assert.assertFalse(retrievedConsentIDs.contains(resource.getConsentID()));
+            retrievedConsentIDs.add(resource.getConsentID());
+            Assert.assertEquals(resource.getAuthorizationResources().size(), 2);
+        }
+        Assert.assertTrue(retrievedConsentIDs.containsAll(consentIDs));
+    }
+
+    @Test
+    public void testSearchConsentsPaginationClauses() {
+
+        Assert.assertEquals(new ConsentMgtCommonDBQueries().getPaginationClause(true, true),
+                "LIMIT ? OFFSET ? ");
+        Assert.assertEquals(new ConsentMgtOracleDBQueries().getPaginationClause(true, false),
+                "FETCH NEXT ? ROWS ONLY ");
+        Assert.assertEquals(new ConsentMgtMssqlDBQueries().getPaginationClause(true, false),
+                "OFFSET 0 ROWS FETCH NEXT ? ROWS ONLY ");
+        Assert.assertEquals(new ConsentMgtMssqlDBQueries().getPaginationClause(false, false), "");
+    }
+
+    @Test
+    public void testSearchConsentsPageQueryWithTotal() {
+
+        Assert.assertFalse(new ConsentMgtCommonDBQueries().isWindowedTotalSupported());
+        Assert.assertTrue(new ConsentMgtPostgresDBQueries().isWindowedTotalSupported());
+        Assert.assertTrue(new ConsentMgtPostgresDBQueries().getSearchConsentsPagePreparedStatement("", "", "?, ?",
+                false, true, true, true).contains("COUNT(*) OVER() AS TOTAL_COUNT"));
+        Assert.assertTrue(new ConsentMgtCommonDBQueries().getCountConsentsPreparedStatement("", "", "?")
+                .contains("INNER JOIN FS_CONSENT_MAPPING OCM ON OCM.AUTH_ID = OCAR2.AUTH_ID"));
+    }
+
+    @Test
+    public void testCountConsents() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            Assert.assertEquals(consentCoreDAO.countConsents(connection, consentIDs, null, null, null, null, null,
+                    null, null), 3);
+            Assert.assertEquals(consentCoreDAO.countConsents(connection, consentIDs, null, null, null, null,
+                    new ArrayList<>(Collections.singletonList(ConsentMgtDAOTestData.SAMPLE_ACCOUNT_ID)),
+                    null, null), 3);
+            Assert.assertEquals(consentCoreDAO.countConsents(connection, consentIDs, null, null, null, null,
+                    new ArrayList<>(Collections.singletonList("unknownAccount")), null, null), 0);
+        }
+    }
+
+    @Test
+    public void testConsentSearchWithTotal() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        ArrayList<String> accountIDs = new ArrayList<>(Collections.singletonList(
+                ConsentMgtDAOTestData.SAMPLE_ACCOUNT_ID));
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+
+            ConsentSearchResult firstPage = consentCoreDAO.searchConsentsWithTotal(connection, consentIDs, null,
+                    null, null, null, accountIDs, null, null, 2, 0, null);
+            Assert.assertEquals(firstPage.getDetailedConsentResources().size(), 2);
+            Assert.assertEquals(firstPage.getTotal(), 3);
+
+            ConsentSearchResult lastPage = consentCoreDAO.searchConsentsWithTotal(connection, consentIDs, null,
+                    null, null, null, accountIDs, null, null, 2, 2, null);
+            Assert.assertEquals(lastPage.getDetailedConsentResources().size(), 1);
+            Assert.assertEquals(lastPage.getTotal(), 3);
+            Assert.assertEquals(lastPage.getDetailedConsentResources().get(0).getAuthorizationResources().size(), 2);
+
+            ConsentSearchResult pageAfterLast = consentCoreDAO.searchConsentsWithTotal(connection, consentIDs, null,
+                    null, null, null, null, null, null, 2, 4, null);
+            Assert.assertTrue(pageAfterLast.getDetailedConsentResources().isEmpty());
+            Assert.assertEquals(pageAfterLast.getTotal(), 3);
+
+            ConsentSearchResult otherAccount = consentCoreDAO.searchConsentsWithTotal(connection, consentIDs, null,
+                    null, null, null, new ArrayList<>(Collections.singletonList("unknownAccount")), null, null,
+                    2, 0, null);
+            Assert.assertTrue(otherAccount.getDetailedConsentResources().isEmpty());
+            Assert.assertEquals(otherAccount.getTotal(), 0);
+        }
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testCountConsentsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.countConsents(mockedConnection, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    public void testExportConsents() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        List<DetailedConsentResource> exportedConsents = new ArrayList<>();
+        List<DetailedConsentResource> resumedConsents = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            consentCoreDAO.exportConsents(connection, consentIDs, null, null, null, null, null, null, null, null,
+                    2, exportedConsents::add);
+
+            DetailedConsentResource firstConsent = exportedConsents.get(0);
+            consentCoreDAO.exportConsents(connection, consentIDs, null, null, null, null, null, null, null,
+                    new ConsentSearchCursor(firstConsent.getUpdatedTime(), firstConsent.getConsentID()), 2,
+                    resumedConsents::add);
+        }
+
+        Assert.assertEquals(exportedConsents.size(), 3);
+        Assert.assertEquals(exportedConsents.stream().map(DetailedConsentResource::getConsentID).distinct().count(),
+                3);
+        Assert.assertEquals(exportedConsents.get(0).getAuthorizationResources().size(), 2);
+        Assert.assertEquals(resumedConsents.size(), 2);
+        Assert.assertEquals(resumedConsents.get(0).getConsentID(), exportedConsents.get(1).getConsentID());
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testExportConsentsHandlerError() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            storeDataForConsentSearchTest(consentIDs, connection);
+            consentCoreDAO.exportConsents(connection, consentIDs, null, null, null, null, null, null, null, null,
+                    2, consent -> {
+                        throw new IOException("Client disconnected");
+                    });
+        }
     }
 
     @Test
@@ -1692,8 +1814,7 @@ public class ConsentCoreDAOTests {
     @Test (expectedExceptions = ConsentDataRetrievalException.class)
     public void testSearchConsentsSQLError() throws Exception {
 
-        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString(),
-                Mockito.anyInt(), Mockito.anyInt());
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
         consentCoreDAO.searchConsents(mockedConnection, null, null, null,
                 null, null, null, null, null, null);
     }
@@ -1701,8 +1822,7 @@ public class ConsentCoreDAOTests {
     @Test (expectedExceptions = ConsentDataRetrievalException.class)
     public void testSearchConsentsPreparedResultSetError() throws Exception {
 
-        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection)
-                .prepareStatement(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+        Mockito.doReturn(mockedPreparedStatement).when(mockedConnection).prepareStatement(Mockito.anyString());
         Mockito.doThrow(SQLException.class).when(mockedPreparedStatement).executeQuery();
         consentCoreDAO.searchConsents(mockedConnection, null, null, null,
                 null, null, null, null, null, null);
@@ -2117,6 +2237,44 @@ public class ConsentCoreDAOTests {
                 consentIds, null, null);
     }
 
+    @Test
+    public void testExportConsentStatusAuditRecords() throws Exception {
+
+        List<ConsentStatusAuditRecord> exportedRecords = new ArrayList<>();
+        List<ConsentStatusAuditRecord> resumedRecords = new ArrayList<>();
+        ArrayList<String> consentIds = new ArrayList<>();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            ConsentResource storedConsentResource = consentCoreDAO.storeConsentResource(connection,
+                    ConsentMgtDAOTestData.getSampleTestConsentResource());
+            for (int i = 0; i < 3; i++) {
+                consentCoreDAO.storeConsentStatusAuditRecord(connection, ConsentMgtDAOTestData
+                        .getSampleTestConsentStatusAuditRecord(storedConsentResource.getConsentID(),
+                                storedConsentResource.getCurrentStatus()));
+            }
+            connection.commit();
+            consentIds.add(storedConsentResource.getConsentID());
+
+            consentCoreDAO.exportConsentStatusAuditRecords(connection, consentIds, null, 2, exportedRecords::add);
+            consentCoreDAO.exportConsentStatusAuditRecords(connection, consentIds,
+                    exportedRecords.get(0).getStatusAuditID(), 2, resumedRecords::add);
+        }
+
+        Assert.assertEquals(exportedRecords.size(), 3);
+        for (ConsentStatusAuditRecord record : exportedRecords) {
+            Assert.assertEquals(record.getConsentID(), consentIds.get(0));
+        }
+        Assert.assertEquals(resumedRecords.size(), 2);
+        Assert.assertEquals(resumedRecords.get(0).getStatusAuditID(), exportedRecords.get(1).getStatusAuditID());
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testExportConsentStatusAuditRecordsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.exportConsentStatusAuditRecords(mockedConnection, null, null, 2, record -> { });
+    }
+
     @Test (dataProvider = "storeConsentHistoryDataProvider",
             dataProviderClass = ConsentManagementDAOTestDataProvider.class)
     public void testStoreConsentAmendmentHistory(String historyID, String recordID, String changedAttributes,
@@ -2298,6 +2456,117 @@ public class ConsentCoreDAOTests {
         consentCoreDAO.getExpiringConsents(mockedConnection, "authorised,awaitingAuthorisation");
     }
 
+    @Test
+    public void testExpireConsentsInChunk() throws Exception {
+
+        String eligibleStatus = "expiryChunkTestStatus";
+        List<String> consentIDs = new ArrayList<>();
+        ArrayList<ConsentResource> firstPage;
+        ArrayList<ConsentResource> secondPage;
+        ArrayList<ConsentStatusAuditRecord> auditRecords;
+        Map<String, ConsentHistoryResource> historyRecords;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            for (long validityTime : new long[]{200, 100, 100}) {
+                ConsentResource consentResource = ConsentMgtDAOTestData.getSampleTestConsentResource();
+                consentResource.setCurrentStatus(eligibleStatus);
+                consentResource.setValidityPeriod(validityTime);
+                consentIDs.add(consentCoreDAO.storeConsentResource(connection, consentResource).getConsentID());
+            }
+
+            List<String> statuses = Collections.singletonList(eligibleStatus);
+            firstPage = consentCoreDAO.getExpiringConsentsPage(connection, statuses, 150, null, 2);
+            secondPage = consentCoreDAO.getExpiringConsentsPage(connection, statuses, 150,
+                    firstPage.get(firstPage.size() - 1), 2);
+
+            Assert.assertEquals(consentCoreDAO.updateConsentStatuses(connection, consentIDs,
+                    ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS), 3);
+            consentCoreDAO.storeConsentStatusAuditRecords(connection, Collections.singletonList(
+                    new ConsentStatusAuditRecord(consentIDs.get(0), ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS,
+                            0, "Expired", ConsentMgtDAOTestData.SAMPLE_ACTION_BY, eligibleStatus)));
+            Map<String, String> changedData = new HashMap<>();
+            changedData.put(consentIDs.get(0), "{\"CURRENT_STATUS\":\"" + eligibleStatus + "\"}");
+            consentCoreDAO.storeConsentAmendmentHistoryRecords(connection, 1632918113L,
+                    ConsentMgtDAOConstants.TYPE_CONSENT_BASIC_DATA, changedData, "ConsentExpiration");
+
+            auditRecords = consentCoreDAO.getConsentStatusAuditRecords(connection, consentIDs.get(0), null, null,
+                    null, null, null);
+            historyRecords = consentCoreDAO.retrieveConsentAmendmentHistory(connection,
+                    Collections.singletonList(consentIDs.get(0)));
+            Assert.assertTrue(consentCoreDAO.getExpiringConsentsPage(connection, statuses, 150, null, 2)
+                    .isEmpty());
+        }
+
+        // Consents are ordered by validity time and consent ID, the consent valid until 200 is not expired yet
+        Assert.assertEquals(firstPage.size(), 2);
+        Assert.assertTrue(secondPage.isEmpty());
+        Assert.assertTrue(firstPage.get(0).getConsentID().compareTo(firstPage.get(1).getConsentID()) < 0);
+        Assert.assertTrue(consentIDs.subList(1, 3).containsAll(Arrays.asList(firstPage.get(0).getConsentID(),
+                firstPage.get(1).getConsentID())));
+        Assert.assertEquals(auditRecords.size(), 1);
+        Assert.assertEquals(auditRecords.get(0).getPreviousStatus(), eligibleStatus);
+        Assert.assertEquals(historyRecords.size(), 1);
+    }
+
+    @Test
+    public void testExpiringConsentsPageKeyset() throws Exception {
+
+        String eligibleStatus = "expiryKeysetTestStatus";
+        ArrayList<ConsentResource> firstPage;
+        ArrayList<ConsentResource> secondPage;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            for (long validityTime : new long[]{300, 100, 200}) {
+                ConsentResource consentResource = ConsentMgtDAOTestData.getSampleTestConsentResource();
+                consentResource.setCurrentStatus(eligibleStatus);
+                consentResource.setValidityPeriod(validityTime);
+                consentCoreDAO.storeConsentResource(connection, consentResource);
+            }
+            List<String> statuses = Collections.singletonList(eligibleStatus);
+            firstPage = consentCoreDAO.getExpiringConsentsPage(connection, statuses, 1000, null, 2);
+            secondPage = consentCoreDAO.getExpiringConsentsPage(connection, statuses, 1000,
+                    firstPage.get(firstPage.size() - 1), 2);
+        }
+
+        Assert.assertEquals(firstPage.size(), 2);
+        Assert.assertEquals(firstPage.get(0).getValidityPeriod(), 100);
+        Assert.assertEquals(firstPage.get(1).getValidityPeriod(), 200);
+        Assert.assertEquals(secondPage.size(), 1);
+        Assert.assertEquals(secondPage.get(0).getValidityPeriod(), 300);
+    }
+
+    @Test
+    public void testUpdateConsentStatusesWithoutConsents() throws Exception {
+
+        Assert.assertEquals(consentCoreDAO.updateConsentStatuses(mockedConnection, new ArrayList<>(),
+                ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS), 0);
+    }
+
+    @Test (expectedExceptions = ConsentDataUpdationException.class)
+    public void testUpdateConsentStatusesSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.updateConsentStatuses(mockedConnection, Collections.singletonList(
+                ConsentMgtDAOTestData.SAMPLE_CONSENT_ID), ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS);
+    }
+
+    @Test (expectedExceptions = ConsentDataInsertionException.class)
+    public void testStoreConsentStatusAuditRecordsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.storeConsentStatusAuditRecords(mockedConnection, Collections.singletonList(
+                new ConsentStatusAuditRecord(ConsentMgtDAOTestData.SAMPLE_CONSENT_ID,
+                        ConsentMgtDAOTestData.SAMPLE_EXPIRED_STATUS, 0, "Expired", null, null)));
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testRetrieveExpiringConsentsPageDataRetrievalError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.getExpiringConsentsPage(mockedConnection, Collections.singletonList("authorised"), 150,
+                null, 2);
+    }
+
     private void storeDataForConsentSearchTest(ArrayList<String> consentIDs,
                                                Connection connection) throws ConsentDataInsertionException {
 
@@ -2381,4 +2650,310 @@ public class ConsentCoreDAOTests {
         consentCoreDAO.updateConsentResource(connection, consentResource);
     }
 
+    @Test
+    public void testStoreAndProcessTokenRevocationRecords() throws Exception {
+
+        String consentID = UUID.randomUUID().toString();
+        ConsentTokenRevocationRecord firstRecord = new ConsentTokenRevocationRecord(consentID,
+                ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0), ConsentMgtDAOTestData.SAMPLE_USER_ID);
+        ConsentTokenRevocationRecord secondRecord = new ConsentTokenRevocationRecord(consentID,
+                ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0), "user2@wso2.com");
+        ArrayList<ConsentTokenRevocationRecord> dueRecords = new ArrayList<>();
+        ArrayList<ConsentTokenRevocationRecord> retrievedRecords;
+        boolean isClaimed;
+        boolean isClaimedAgain;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeTokenRevocationRecords(connection, Arrays.asList(firstRecord, secondRecord));
+            connection.commit();
+
+            for (ConsentTokenRevocationRecord dueRecord : consentCoreDAO.getDueTokenRevocationRecords(connection,
+                    System.currentTimeMillis() / 1000, 1000)) {
+                if (consentID.equals(dueRecord.getConsentID())) {
+                    dueRecords.add(dueRecord);
+                }
+            }
+
+            ConsentTokenRevocationRecord staleRecord = new ConsentTokenRevocationRecord();
+            staleRecord.setRevocationID(dueRecords.get(0).getRevocationID());
+            staleRecord.setAttemptCount(dueRecords.get(0).getAttemptCount());
+            long leaseExpiryTime = System.currentTimeMillis() / 1000 + 300;
+            isClaimed = consentCoreDAO.claimTokenRevocationRecord(connection, dueRecords.get(0), leaseExpiryTime);
+            isClaimedAgain = consentCoreDAO.claimTokenRevocationRecord(connection, staleRecord, leaseExpiryTime);
+
+            dueRecords.get(0).setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+            dueRecords.get(0).setRevokedTokenCount(2);
+            consentCoreDAO.updateTokenRevocationRecord(connection, dueRecords.get(0));
+            connection.commit();
+
+            retrievedRecords = consentCoreDAO.getTokenRevocationRecords(connection, consentID);
+        }
+
+        Assert.assertEquals(dueRecords.size(), 2);
+        Assert.assertNotNull(firstRecord.getRevocationID());
+        Assert.assertEquals(firstRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+        Assert.assertTrue(isClaimed);
+        Assert.assertFalse(isClaimedAgain);
+        Assert.assertEquals(dueRecords.get(0).getAttemptCount(), 1);
+        Assert.assertEquals(retrievedRecords.size(), 2);
+        for (ConsentTokenRevocationRecord retrievedRecord : retrievedRecords) {
+            if (retrievedRecord.getRevocationID().equals(dueRecords.get(0).getRevocationID())) {
+                Assert.assertEquals(retrievedRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+                Assert.assertEquals(retrievedRecord.getAttemptCount(), 1);
+                Assert.assertEquals(retrievedRecord.getRevokedTokenCount(), 2);
+            } else {
+                Assert.assertEquals(retrievedRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+                Assert.assertEquals(retrievedRecord.getAttemptCount(), 0);
+            }
+        }
+    }
+
+    @Test
+    public void testGetDueTokenRevocationRecordsExcludesLeasedRecords() throws Exception {
+
+        String consentID = UUID.randomUUID().toString();
+        ConsentTokenRevocationRecord revocationRecord = new ConsentTokenRevocationRecord(consentID,
+                ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0), ConsentMgtDAOTestData.SAMPLE_USER_ID);
+        long currentTime = System.currentTimeMillis() / 1000;
+        boolean isDue = false;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeTokenRevocationRecords(connection, Collections.singletonList(revocationRecord));
+            consentCoreDAO.claimTokenRevocationRecord(connection, revocationRecord, currentTime + 300);
+            connection.commit();
+
+            for (ConsentTokenRevocationRecord dueRecord : consentCoreDAO.getDueTokenRevocationRecords(connection,
+                    currentTime, 1000)) {
+                isDue = isDue || consentID.equals(dueRecord.getConsentID());
+            }
+        }
+        Assert.assertFalse(isDue);
+    }
+
+    @Test (expectedExceptions = ConsentDataInsertionException.class)
+    public void testStoreTokenRevocationRecordsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.storeTokenRevocationRecords(mockedConnection, Collections.singletonList(
+                new ConsentTokenRevocationRecord(ConsentMgtDAOTestData.SAMPLE_CONSENT_ID,
+                        ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0), ConsentMgtDAOTestData.SAMPLE_USER_ID)));
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testGetDueTokenRevocationRecordsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.getDueTokenRevocationRecords(mockedConnection, System.currentTimeMillis() / 1000, 10);
+    }
+
+    @Test (expectedExceptions = ConsentDataUpdationException.class)
+    public void testUpdateTokenRevocationRecordSQLError() throws Exception {
+
+        ConsentTokenRevocationRecord revocationRecord = new ConsentTokenRevocationRecord();
+        revocationRecord.setRevocationID(UUID.randomUUID().toString());
+        revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_FAILED);
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.updateTokenRevocationRecord(mockedConnection, revocationRecord);
+    }
+
+    @Test
+    public void testStoreAndPublishConsentStateChangeEventsInOrder() throws Exception {
+
+        String consentID = UUID.randomUUID().toString();
+        String otherConsentID = UUID.randomUUID().toString();
+        String clientID = ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0);
+        ConsentStateChangeEvent firstEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "awaitingAuthorisation", "authorised", "authorised");
+        ConsentStateChangeEvent secondEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "authorised", "revoked", "revoked");
+        ConsentStateChangeEvent otherEvent = new ConsentStateChangeEvent(otherConsentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "awaitingAuthorisation", "rejected", "rejected");
+        firstEvent.setConsentData("{\"ConsentResource\":{\"consentID\":\"" + consentID + "\"}}");
+        List<String> dueEventIDs;
+        List<String> dueEventIDsAfterPublishing;
+        String dueConsentData = null;
+        boolean isClaimed;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Arrays.asList(firstEvent, otherEvent));
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Collections.singletonList(secondEvent));
+            connection.commit();
+
+            dueEventIDs = getDueConsentStateChangeEventIDs(connection, consentID, otherConsentID);
+            for (ConsentStateChangeEvent dueEvent : consentCoreDAO.getDueConsentStateChangeEvents(connection,
+                    System.currentTimeMillis() / 1000, 1000)) {
+                if (firstEvent.getEventID().equals(dueEvent.getEventID())) {
+                    dueConsentData = dueEvent.getConsentData();
+                }
+            }
+
+            isClaimed = consentCoreDAO.claimConsentStateChangeEvent(connection, firstEvent,
+                    System.currentTimeMillis() / 1000 + 300);
+            consentCoreDAO.deleteConsentStateChangeEvent(connection, firstEvent.getEventID());
+            consentCoreDAO.deleteConsentStateChangeEvent(connection, otherEvent.getEventID());
+            connection.commit();
+
+            dueEventIDsAfterPublishing = getDueConsentStateChangeEventIDs(connection, consentID, otherConsentID);
+        }
+
+        Assert.assertEquals(firstEvent.getSequenceNumber(), 1);
+        Assert.assertEquals(secondEvent.getSequenceNumber(), 2);
+        Assert.assertEquals(otherEvent.getSequenceNumber(), 1);
+        Assert.assertEquals(secondEvent.getStatus(), ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+        Assert.assertEquals(dueEventIDs.size(), 2);
+        Assert.assertTrue(dueEventIDs.contains(firstEvent.getEventID()));
+        Assert.assertTrue(dueEventIDs.contains(otherEvent.getEventID()));
+        Assert.assertTrue(isClaimed);
+        Assert.assertEquals(firstEvent.getAttemptCount(), 1);
+        Assert.assertEquals(dueConsentData, firstEvent.getConsentData());
+        Assert.assertEquals(dueEventIDsAfterPublishing, Collections.singletonList(secondEvent.getEventID()));
+    }
+
+    @Test
+    public void testConsentStateChangeEventSequenceIsNotReusedAfterPublishing() throws Exception {
+
+        String consentID = UUID.randomUUID().toString();
+        String clientID = ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0);
+        ConsentStateChangeEvent firstEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "awaitingAuthorisation", "authorised", "authorised");
+        ConsentStateChangeEvent secondEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "authorised", "revoked", "revoked");
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Collections.singletonList(firstEvent));
+            consentCoreDAO.claimConsentStateChangeEvent(connection, firstEvent,
+                    System.currentTimeMillis() / 1000 + 300);
+            consentCoreDAO.deleteConsentStateChangeEvent(connection, firstEvent.getEventID());
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Collections.singletonList(secondEvent));
+            connection.commit();
+        }
+
+        Assert.assertEquals(firstEvent.getSequenceNumber(), 1);
+        Assert.assertEquals(secondEvent.getSequenceNumber(), 2);
+    }
+
+    @Test
+    public void testConcurrentConsentStateChangeEventsAreNumberedInOrder() throws Exception {
+
+        ConsentResource consentResource = ConsentMgtDAOTestData.getSampleTestConsentResource();
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentResource = consentCoreDAO.storeConsentResource(connection, consentResource);
+        }
+        ConsentStateChangeEvent firstEvent = new ConsentStateChangeEvent(consentResource.getConsentID(),
+                consentResource.getClientID(), ConsentMgtDAOTestData.SAMPLE_USER_ID, "awaitingAuthorisation",
+                "authorised", "authorised");
+        ConsentStateChangeEvent secondEvent = new ConsentStateChangeEvent(consentResource.getConsentID(),
+                consentResource.getClientID(), ConsentMgtDAOTestData.SAMPLE_USER_ID, "authorised", "revoked",
+                "revoked");
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME);
+             Connection otherConnection = DAOUtils.getConnection(DB_NAME)) {
+            connection.setAutoCommit(false);
+            otherConnection.setAutoCommit(false);
+
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Collections.singletonList(firstEvent));
+            Future<?> otherChange = executorService.submit(() -> {
+                consentCoreDAO.storeConsentStateChangeEvents(otherConnection, Collections.singletonList(secondEvent));
+                otherConnection.commit();
+                return null;
+            });
+            // The other change waits for the lock on the consent until the first change is committed
+            Assert.assertThrows(TimeoutException.class, () -> otherChange.get(200, TimeUnit.MILLISECONDS));
+            connection.commit();
+            otherChange.get(5, TimeUnit.SECONDS);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assert.assertEquals(firstEvent.getSequenceNumber(), 1);
+        Assert.assertEquals(secondEvent.getSequenceNumber(), 2);
+    }
+
+    @Test
+    public void testClaimedConsentStateChangeEventBlocksLaterEvents() throws Exception {
+
+        String consentID = UUID.randomUUID().toString();
+        String clientID = ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0);
+        ConsentStateChangeEvent firstEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "awaitingAuthorisation", "authorised", "authorised");
+        ConsentStateChangeEvent secondEvent = new ConsentStateChangeEvent(consentID, clientID,
+                ConsentMgtDAOTestData.SAMPLE_USER_ID, "authorised", "revoked", "revoked");
+        ConsentStateChangeEvent staleEvent = new ConsentStateChangeEvent();
+        List<String> dueEventIDsWhileClaimed;
+        List<String> dueEventIDsAfterFailure;
+        boolean isClaimedAgain;
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            consentCoreDAO.storeConsentStateChangeEvents(connection, Arrays.asList(firstEvent, secondEvent));
+            staleEvent.setEventID(firstEvent.getEventID());
+            staleEvent.setAttemptCount(firstEvent.getAttemptCount());
+            long leaseExpiryTime = System.currentTimeMillis() / 1000 + 300;
+            consentCoreDAO.claimConsentStateChangeEvent(connection, firstEvent, leaseExpiryTime);
+            isClaimedAgain = consentCoreDAO.claimConsentStateChangeEvent(connection, staleEvent, leaseExpiryTime);
+            connection.commit();
+
+            dueEventIDsWhileClaimed = getDueConsentStateChangeEventIDs(connection, consentID);
+
+            firstEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_FAILED);
+            firstEvent.setLastError("Listener failed");
+            consentCoreDAO.updateConsentStateChangeEvent(connection, firstEvent);
+            connection.commit();
+
+            dueEventIDsAfterFailure = getDueConsentStateChangeEventIDs(connection, consentID);
+        }
+
+        Assert.assertFalse(isClaimedAgain);
+        Assert.assertTrue(dueEventIDsWhileClaimed.isEmpty());
+        Assert.assertEquals(dueEventIDsAfterFailure, Collections.singletonList(secondEvent.getEventID()));
+    }
+
+    @Test (expectedExceptions = ConsentDataInsertionException.class)
+    public void testStoreConsentStateChangeEventsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.storeConsentStateChangeEvents(mockedConnection, Collections.singletonList(
+                new ConsentStateChangeEvent(ConsentMgtDAOTestData.SAMPLE_CONSENT_ID,
+                        ConsentMgtDAOTestData.SAMPLE_CLIENT_IDS_LIST.get(0), ConsentMgtDAOTestData.SAMPLE_USER_ID,
+                        "awaitingAuthorisation", "authorised", "authorised")));
+    }
+
+    @Test (expectedExceptions = ConsentDataRetrievalException.class)
+    public void testGetDueConsentStateChangeEventsSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.getDueConsentStateChangeEvents(mockedConnection, System.currentTimeMillis() / 1000, 10);
+    }
+
+    @Test (expectedExceptions = ConsentDataUpdationException.class)
+    public void testUpdateConsentStateChangeEventSQLError() throws Exception {
+
+        ConsentStateChangeEvent stateChangeEvent = new ConsentStateChangeEvent();
+        stateChangeEvent.setEventID(UUID.randomUUID().toString());
+        stateChangeEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_FAILED);
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.updateConsentStateChangeEvent(mockedConnection, stateChangeEvent);
+    }
+
+    @Test (expectedExceptions = ConsentDataDeletionException.class)
+    public void testDeleteConsentStateChangeEventSQLError() throws Exception {
+
+        Mockito.doThrow(SQLException.class).when(mockedConnection).prepareStatement(Mockito.anyString());
+        consentCoreDAO.deleteConsentStateChangeEvent(mockedConnection, UUID.randomUUID().toString());
+    }
+
+    private List<String> getDueConsentStateChangeEventIDs(Connection connection, String... consentIDs)
+            throws ConsentDataRetrievalException {
+
+        List<String> consentIDList = Arrays.asList(consentIDs);
+        List<String> dueEventIDs = new ArrayList<>();
+        for (ConsentStateChangeEvent dueEvent : consentCoreDAO.getDueConsentStateChangeEvents(connection,
+                System.currentTimeMillis() / 1000, 1000)) {
+            if (consentIDList.contains(dueEvent.getConsentID())) {
+                dueEventIDs.add(dueEvent.getEventID());
+            }
+        }
+        return dueEventIDs;
+    }
+
 }
@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.dao.queries;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.persistence.DatabaseIndexValidator;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.util.ConsentManagementDAOUtil;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.util.DAOUtils;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests verifying that the consent queries are served by indexes instead of full table scans.
+ */
+public class ConsentMgtDBQueriesIndexTests {
+
+    private static final String DB_NAME = "CONSENT_INDEX_DB";
+    private static final String H2_TABLE_SCAN = "tableScan";
+
+    private final ConsentMgtCommonDBQueries queries = new ConsentMgtCommonDBQueries();
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        DAOUtils.initializeDataSource(DB_NAME, DAOUtils.getFilePath("dbScripts/h2.sql"));
+    }
+
+    @Test
+    public void testSecondaryIndexesExist() throws Exception {
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            Assert.assertTrue(DatabaseIndexValidator.getMissingIndexes(connection,
+                    ConsentMgtDAOConstants.SECONDARY_INDEXES).isEmpty());
+        }
+    }
+
+    @Test
+    public void testMissingSecondaryIndexesAreReported() throws Exception {
+
+        DatabaseIndexValidator.IndexDefinition missingIndex = new DatabaseIndexValidator.IndexDefinition(
+                "IDX_FS_CONSENT_RECEIPT", ConsentMgtDAOConstants.TABLE_FS_CONSENT, "CONSENT_FREQUENCY");
+        try (Connection connection = DAOUtils.getConnection(DB_NAME)) {
+            List<DatabaseIndexValidator.IndexDefinition> missingIndexes =
+                    DatabaseIndexValidator.getMissingIndexes(connection, Collections.singletonList(missingIndex));
+            Assert.assertEquals(missingIndexes, Collections.singletonList(missingIndex));
+        }
+    }
+
+    @Test
+    public void testConsentIdByAttributeQueryUsesIndex() throws Exception {
+
+        assertNoTableScan(queries.getConsentIdByConsentAttributeNameAndValuePreparedStatement(),
+                "idempotency-key", "value");
+    }
+
+    @Test
+    public void testExpiringConsentsQueryUsesIndex() throws Exception {
+
+        List<String> statuses = Arrays.asList("authorised", "awaitingAuthorisation");
+        String statusesCondition = ConsentManagementDAOUtil.constructStatusesEligibleForExpirationCondition(statuses);
+        assertNoTableScan(queries.getSearchExpiringConsentPreparedStatement(statusesCondition),
+                1700000000L, "authorised", "awaitingAuthorisation");
+    }
+
+    @Test
+    public void testExpiringConsentsPageQueryUsesIndex() throws Exception {
+
+        String statusesCondition = ConsentManagementDAOUtil.constructStatusesEligibleForExpirationCondition(
+                Collections.singletonList("authorised"));
+        assertNoTableScan(queries.getSearchExpiringConsentsPagePreparedStatement(statusesCondition, true),
+                "authorised", 1700000000L, 1600000000L, 1600000000L, 1600000000L, "consentId", 500);
+    }
+
+    @Test
+    public void testConsentSearchByClientIdQueryUsesIndex() throws Exception {
+
+        Map<String, ArrayList<String>> conditions = new HashMap<>();
+        conditions.put(ConsentMgtDAOConstants.COLUMNS_MAP.get(ConsentMgtDAOConstants.CLIENT_IDS),
+                new ArrayList<>(Collections.singletonList("clientId")));
+        String whereClause = ConsentManagementDAOUtil.constructConsentSearchPreparedStatement(conditions);
+        assertNoTableScan(queries.getSearchConsentsPagePreparedStatement(whereClause, null, false, true, true),
+                "clientId", null, null, 25, 0);
+    }
+
+    @Test
+    public void testConsentSearchByCursorQueryUsesIndex() throws Exception {
+
+        assertNoTableScan(queries.getSearchConsentsPagePreparedStatement(null, null, true, true, false),
+                null, null, 1700000000L, 1700000000L, 1700000000L, "consentId", 25);
+    }
+
+    @Test
+    public void testSearchChildResourcesQueriesUseIndexes() throws Exception {
+
+        String placeholders = ConsentManagementDAOUtil.constructPlaceholders(2);
+        assertNoTableScan(queries.getSearchAuthorizationResourcesByConsentIdsPreparedStatement(placeholders),
+                "consentId1", "consentId2");
+        assertNoTableScan(queries.getSearchConsentMappingsByConsentIdsPreparedStatement(placeholders),
+                "consentId1", "consentId2");
+        assertNoTableScan(queries.getSearchConsentAttributesByConsentIdsPreparedStatement(placeholders),
+                "consentId1", "consentId2");
+    }
+
+    @Test
+    public void testConsentMappingsByAuthIdQueryUsesIndex() throws Exception {
+
+        assertNoTableScan(queries.getGetConsentMappingResourcesPreparedStatement(), "authId");
+    }
+
+    @Test
+    public void testAuthorizationResourcesByUserIdQueryUsesIndex() throws Exception {
+
+        assertNoTableScan(queries.getSearchAuthorizationResourcesPreparedStatement(" WHERE USER_ID = ?"), "userId");
+    }
+
+    @Test
+    public void testTokenRevocationQueriesUseIndexes() throws Exception {
+
+        assertNoTableScan(queries.getDueTokenRevocationRecordsPreparedStatement(),
+                ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING, 1700000000L, 100);
+        assertNoTableScan(queries.getGetTokenRevocationRecordsPreparedStatement(), "consentId");
+    }
+
+    @Test
+    public void testStateChangeEventQueriesUseIndexes() throws Exception {
+
+        assertNoTableScan(queries.getDueStateChangeEventsPreparedStatement(),
+                ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING, 1700000000L,
+                ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING, 100);
+        assertNoTableScan(queries.getLockConsentsPreparedStatement(
+                ConsentManagementDAOUtil.constructPlaceholders(2)), "consentId1", "consentId2");
+        assertNoTableScan(queries.getStateChangeEventSequencesPreparedStatement(
+                ConsentManagementDAOUtil.constructPlaceholders(2)), "consentId1", "consentId2");
+    }
+
+    private void assertNoTableScan(String query, Object... parameters) throws SQLException {
+
+        String plan = getQueryPlan(query, parameters);
+        Assert.assertFalse(plan.contains(H2_TABLE_SCAN), "Query is served by a full table scan: " + plan);
+    }
+
+    private String getQueryPlan(String query, Object... parameters) throws SQLException {
+
+        try (Connection connection = DAOUtils.getConnection(DB_NAME);
+             PreparedStatement preparedStatement = connection.prepareStatement("EXPLAIN " + query)) {
+            for (int i = 0; i < parameters.length; i++) {
+                preparedStatement.setObject(i + 1, parameters[i]);
+            }
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+}
@@ -21,6 +21,8 @@ package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin;
 
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ConsentAdminData;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentOperationEnum;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
 
 /**
  * Consent admin handler interface.
@@ -81,4 +83,17 @@ public interface ConsentAdminHandler {
      */
     public void handleSearchConsentAttributes(ConsentAdminData consentAdminData) throws ConsentException;
 
+    /**
+     * This method is used to handle the export of consents, consent status audit records or consent amendment
+     * history. The exported records are written as a streaming response payload.
+     *
+     * @param consentAdminData Data wrapper for consent admin data that holds the request context data
+     * @throws ConsentException  thrown if any error occurs in the process
+     */
+    default void handleExport(ConsentAdminData consentAdminData) throws ConsentException {
+
+        throw new ConsentException(ResponseStatus.NOT_IMPLEMENTED, "Consent export is not supported",
+                ConsentOperationEnum.CONSENT_EXPORT);
+    }
+
 }
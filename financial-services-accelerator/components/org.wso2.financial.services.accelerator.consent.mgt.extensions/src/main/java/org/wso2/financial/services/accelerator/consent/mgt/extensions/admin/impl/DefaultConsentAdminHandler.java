@@ -31,6 +31,8 @@ import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.ConsentAdminHandler;
@@ -40,7 +42,9 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.mode
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ExternalAPIAdminConsentSearchRequestDTO;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ExternalAPIAdminConsentSearchResponseDTO;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.SearchTypeEnum;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.StreamingResponsePayload;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils.ConsentAdminUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils.ConsentExportWriter;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils.ExternalAPIConsentAdminUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
@@ -52,7 +56,12 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.internal.C
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.job.ExpiredConsentStatusUpdateJob;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -60,10 +69,27 @@ import java.util.Map;
  */
 public class DefaultConsentAdminHandler implements ConsentAdminHandler {
     private static final Log log = LogFactory.getLog(DefaultConsentAdminHandler.class);
+    private static final List<String> CONSENT_EXPORT_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            ConsentExtensionConstants.CURSOR, ConsentExtensionConstants.CC_CONSENT_ID,
+            ConsentExtensionConstants.CLIENT_ID, ConsentExtensionConstants.RECEIPT,
+            ConsentExtensionConstants.CONSENT_TYPE, ConsentExtensionConstants.CURRENT_STATUS,
+            ConsentExtensionConstants.CONSENT_FREQUENCY, ConsentExtensionConstants.VALIDITY_PERIOD,
+            ConsentExtensionConstants.CREATED_TIMESTAMP, ConsentExtensionConstants.UPDATED_TIMESTAMP,
+            ConsentExtensionConstants.RECURRING_INDICATOR, ConsentExtensionConstants.CONSENT_ATTRIBUTES,
+            ConsentExtensionConstants.AUTH_RESOURCES, ConsentExtensionConstants.MAPPING_RESOURCES));
+    private static final List<String> STATUS_AUDIT_EXPORT_COLUMNS = Collections.unmodifiableList(Arrays.asList(
+            ConsentExtensionConstants.CURSOR, ConsentExtensionConstants.STATUS_AUDIT_ID,
+            ConsentExtensionConstants.CC_CONSENT_ID, ConsentExtensionConstants.CURRENT_STATUS,
+            ConsentExtensionConstants.ACTION_TIME, ConsentExtensionConstants.REASON,
+            ConsentExtensionConstants.ACTION_BY, ConsentExtensionConstants.PREVIOUS_STATUS));
+    private static final List<String> AMENDMENT_HISTORY_EXPORT_COLUMNS = Collections.unmodifiableList(
+            Arrays.asList(ConsentExtensionConstants.CURSOR, ConsentExtensionConstants.CC_CONSENT_ID,
+                    ConsentExtensionConstants.CURRENT_CONSENT, ConsentExtensionConstants.AMENDMENT_HISTORY));
     ConsentCoreService consentCoreService;
     boolean isExtensionsEnabled;
     boolean isExternalPreConsentRevocationEnabled;
     boolean isExternalEnrichConsentSearchResponseEnabled;
+    int exportBatchSize;
 
     public DefaultConsentAdminHandler() {
 
@@ -74,6 +100,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
                 .contains(ServiceExtensionTypeEnum.PRE_PROCESS_CONSENT_REVOKE);
         isExternalEnrichConsentSearchResponseEnabled = configParser.getServiceExtensionTypes()
                 .contains(ServiceExtensionTypeEnum.ENRICH_CONSENT_SEARCH_RESPONSE);
+        exportBatchSize = configParser.getConsentExportBatchSize();
     }
 
     @Override
@@ -86,8 +113,9 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         ArrayList<String> consentTypes;
         ArrayList<String> consentStatuses;
         ArrayList<String> userIDs;
-        Long fromTime = null;
-        Long toTime = null;
+        ArrayList<String> accountIDs;
+        Long fromTime;
+        Long toTime;
         Integer limit = null;
         Integer offset = null;
 
@@ -104,21 +132,10 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
                 .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CONSENT_STATUSES));
         userIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
                 .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.USER_IDS));
-
-        try {
-            long fromTimeValue = ConsentAdminUtils.getLongFromQueryParam(ConsentAdminUtils
-                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.FROM_TIME));
-            fromTime = fromTimeValue == 0 ? null : fromTimeValue;
-        } catch (NumberFormatException e) {
-            log.warn("Number format incorrect in search for parameter fromTime. Ignoring parameter");
-        }
-        try {
-            long toTimeValue = ConsentAdminUtils.getLongFromQueryParam(ConsentAdminUtils
-                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.TO_TIME));
-            toTime = toTimeValue == 0 ? null : toTimeValue;
-        } catch (NumberFormatException e) {
-            log.warn("Number format incorrect in search for parameter toTime. Ignoring parameter");
-        }
+        // Consents are filtered by account in the database, so that the page and the total only hold matching consents
+        accountIDs = getAccountIDs(queryParams);
+        fromTime = getTimeQueryParam(queryParams, ConsentExtensionConstants.FROM_TIME);
+        toTime = getTimeQueryParam(queryParams, ConsentExtensionConstants.TO_TIME);
         try {
             int limitValue = ConsentAdminUtils.getIntFromQueryParam(ConsentAdminUtils
                     .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.LIMIT));
@@ -133,36 +150,38 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         } catch (NumberFormatException e) {
             log.warn("Number format incorrect in search for parameter limit. Ignoring parameter");
         }
+        // The cursor points after the last consent of the previous page, hence the offset is not applicable
+        ConsentSearchCursor cursor = ConsentAdminUtils.decodeSearchCursor(ConsentAdminUtils
+                .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CURSOR));
+        if (cursor != null) {
+            offset = null;
+        }
 
         int count, total = 0;
+        String nextCursor = null;
 
         try {
-            ArrayList<DetailedConsentResource> results = ConsentExtensionsDataHolder.getInstance()
-                    .getConsentCoreService().searchDetailedConsents(consentIDs, clientIDs,
-                            consentTypes, consentStatuses, userIDs, fromTime, toTime, limit, offset);
+            ConsentCoreService consentCoreService = ConsentExtensionsDataHolder.getInstance()
+                    .getConsentCoreService();
+            // The total is selected with the page or counted, without loading the full result set
+            ConsentSearchResult consentSearchResult = consentCoreService.searchDetailedConsentsWithTotal(
+                    consentIDs, clientIDs, consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime,
+                    limit, offset, cursor);
+            ArrayList<DetailedConsentResource> results = consentSearchResult.getDetailedConsentResources();
             JSONArray searchResults = new JSONArray();
             for (DetailedConsentResource result : results) {
                 searchResults.put(ConsentAdminUtils.detailedConsentToJSON(result));
             }
             response.put(ConsentExtensionConstants.DATA.toLowerCase(), searchResults);
             count = searchResults.length();
-            total = results.size();
+            total = consentSearchResult.getTotal();
+            if (limit != null && !results.isEmpty() && results.size() == limit) {
+                nextCursor = ConsentAdminUtils.encodeSearchCursor(results.get(results.size() - 1));
+            }
         } catch (ConsentManagementException e) {
             throw ConsentExtensionUtils.toConsentException(e, ConsentOperationEnum.CONSENT_SEARCH);
         }
 
-        //retrieve the total of the data set queried
-        if (limit != null || offset != null) {
-            try {
-                ArrayList<DetailedConsentResource> results = ConsentExtensionsDataHolder.getInstance()
-                        .getConsentCoreService().searchDetailedConsents(consentIDs,
-                                clientIDs, consentTypes, consentStatuses, userIDs, fromTime, toTime, null, null);
-                total = results.size();
-            } catch (ConsentManagementException e) {
-                throw ConsentExtensionUtils.toConsentException(e, ConsentOperationEnum.CONSENT_SEARCH);
-            }
-        }
-
         //if the OpenAPI extension is enabled for admin-consent search
         if (isExtensionsEnabled && isExternalEnrichConsentSearchResponseEnabled) {
             // Call external service to enrich consent search response
@@ -183,6 +202,9 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
                 metadata.put(ConsentExtensionConstants.OFFSET, offset);
                 metadata.put(ConsentExtensionConstants.LIMIT, limit);
                 metadata.put(ConsentExtensionConstants.TOTAL, total);
+                if (nextCursor != null) {
+                    metadata.put(ConsentExtensionConstants.NEXT_CURSOR, nextCursor);
+                }
 
                 enrichedSearchResult.put(ConsentExtensionConstants.METADATA, metadata);
                 consentAdminData.setResponsePayload(enrichedSearchResult);
@@ -196,15 +218,14 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
             metadata.put(ConsentExtensionConstants.OFFSET, offset);
             metadata.put(ConsentExtensionConstants.LIMIT, limit);
             metadata.put(ConsentExtensionConstants.TOTAL, total);
+            if (nextCursor != null) {
+                metadata.put(ConsentExtensionConstants.NEXT_CURSOR, nextCursor);
+            }
 
             response.put(ConsentExtensionConstants.METADATA, metadata);
             consentAdminData.setResponseStatus(ResponseStatus.OK);
             consentAdminData.setResponsePayload(response);
         }
-        // Filter consent data based on the accounts if accounts are available in the query params.
-        if (consentAdminData.getQueryParams().containsKey(ConsentExtensionConstants.ACCOUNT_IDS)) {
-            filterConsentsByAccount(consentAdminData);
-        }
     }
 
     @Override
@@ -290,17 +311,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
 
             JSONArray consentHistory = new JSONArray();
             for (Map.Entry<String, ConsentHistoryResource> result : results.entrySet()) {
-                JSONObject consentResourceJSON = new JSONObject();
-                ConsentHistoryResource consentHistoryResource = result.getValue();
-                DetailedConsentResource detailedConsentHistory = consentHistoryResource.getDetailedConsentResource();
-                consentResourceJSON.put(ConsentExtensionConstants.HISTORY_ID, result.getKey());
-                consentResourceJSON.put(ConsentExtensionConstants.AMENDED_REASON,
-                        consentHistoryResource.getReason());
-                consentResourceJSON.put(ConsentExtensionConstants.AMENDED_TIME,
-                        detailedConsentHistory.getUpdatedTime());
-                consentResourceJSON.put(ConsentExtensionConstants.CONSENT_DATA,
-                        ConsentAdminUtils.detailedConsentToJSON(detailedConsentHistory));
-                consentHistory.put(consentResourceJSON);
+                consentHistory.put(ConsentAdminUtils.consentHistoryToJSON(result.getKey(), result.getValue()));
             }
             response.put(ConsentExtensionConstants.CC_CONSENT_ID, consentId);
             response.put(ConsentExtensionConstants.CURRENT_CONSENT,
@@ -387,20 +398,7 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
 
             JSONArray consentAuditRecords = new JSONArray();
             for (ConsentStatusAuditRecord statusAuditRecord : results) {
-                JSONObject statusAuditRecordJSON = new JSONObject();
-                statusAuditRecordJSON.put(ConsentExtensionConstants.STATUS_AUDIT_ID,
-                        statusAuditRecord.getStatusAuditID());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.CC_CONSENT_ID,
-                        statusAuditRecord.getConsentID());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.CURRENT_STATUS,
-                        statusAuditRecord.getCurrentStatus());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.ACTION_TIME,
-                        statusAuditRecord.getActionTime());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.REASON, statusAuditRecord.getReason());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.ACTION_BY, statusAuditRecord.getActionBy());
-                statusAuditRecordJSON.put(ConsentExtensionConstants.PREVIOUS_STATUS,
-                        statusAuditRecord.getPreviousStatus());
-                consentAuditRecords.put(statusAuditRecordJSON);
+                consentAuditRecords.put(ConsentAdminUtils.statusAuditRecordToJSON(statusAuditRecord));
             }
             response.put(ConsentExtensionConstants.DATA.toLowerCase(), consentAuditRecords);
             count = consentAuditRecords.length();
@@ -518,34 +516,173 @@ public class DefaultConsentAdminHandler implements ConsentAdminHandler {
         consentAdminData.setResponsePayload(response);
     }
 
+    @Override
+    public void handleExport(ConsentAdminData consentAdminData) throws ConsentException {
+
+        Map queryParams = consentAdminData.getQueryParams();
+
+        String exportType = StringUtils.defaultIfBlank(ConsentAdminUtils.validateAndGetQueryParam(queryParams,
+                ConsentExtensionConstants.EXPORT_TYPE), ConsentExtensionConstants.EXPORT_TYPE_CONSENTS);
+        String exportFormat = StringUtils.defaultIfBlank(ConsentAdminUtils.validateAndGetQueryParam(queryParams,
+                ConsentExtensionConstants.EXPORT_FORMAT), ConsentExtensionConstants.EXPORT_FORMAT_NDJSON);
+        if (!ConsentExtensionConstants.EXPORT_FORMAT_NDJSON.equals(exportFormat) &&
+                !ConsentExtensionConstants.EXPORT_FORMAT_CSV.equals(exportFormat)) {
+            log.error("Request contains an unsupported export format");
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Unsupported export format",
+                    ConsentOperationEnum.CONSENT_EXPORT);
+        }
+
+        ConsentCoreService consentCoreService = ConsentExtensionsDataHolder.getInstance().getConsentCoreService();
+        ArrayList<String> consentIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CONSENT_IDS));
+        String cursor = ConsentAdminUtils.validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CURSOR);
+        List<String> csvColumns;
+        ConsentRecordExporter exporter;
+
+        // Every record carries the cursor pointing after it, so that an interrupted export can be resumed
+        if (ConsentExtensionConstants.EXPORT_TYPE_CONSENT_STATUS_AUDIT.equals(exportType)) {
+            String statusAuditID = ConsentAdminUtils.decodeStatusAuditCursor(cursor);
+            csvColumns = STATUS_AUDIT_EXPORT_COLUMNS;
+            exporter = writer -> consentCoreService.exportConsentStatusAuditRecords(consentIDs, statusAuditID,
+                    exportBatchSize, statusAuditRecord -> {
+                        JSONObject record = ConsentAdminUtils.statusAuditRecordToJSON(statusAuditRecord);
+                        record.put(ConsentExtensionConstants.CURSOR,
+                                ConsentAdminUtils.encodeStatusAuditCursor(statusAuditRecord.getStatusAuditID()));
+                        writer.write(record);
+                    });
+        } else if (ConsentExtensionConstants.EXPORT_TYPE_CONSENTS.equals(exportType) ||
+                ConsentExtensionConstants.EXPORT_TYPE_CONSENT_AMENDMENT_HISTORY.equals(exportType)) {
+            ArrayList<String> clientIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CLIENT_IDS));
+            ArrayList<String> consentTypes = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CONSENT_TYPES));
+            ArrayList<String> consentStatuses = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.CONSENT_STATUSES));
+            ArrayList<String> userIDs = ConsentAdminUtils.getArrayListFromQueryParam(ConsentAdminUtils
+                    .validateAndGetQueryParam(queryParams, ConsentExtensionConstants.USER_IDS));
+            ArrayList<String> accountIDs = getAccountIDs(queryParams);
+            Long fromTime = getTimeQueryParam(queryParams, ConsentExtensionConstants.FROM_TIME);
+            Long toTime = getTimeQueryParam(queryParams, ConsentExtensionConstants.TO_TIME);
+            ConsentSearchCursor searchCursor = ConsentAdminUtils.decodeSearchCursor(cursor);
+
+            if (ConsentExtensionConstants.EXPORT_TYPE_CONSENTS.equals(exportType)) {
+                csvColumns = CONSENT_EXPORT_COLUMNS;
+                exporter = writer -> consentCoreService.exportDetailedConsents(consentIDs, clientIDs, consentTypes,
+                        consentStatuses, userIDs, accountIDs, fromTime, toTime, searchCursor, exportBatchSize,
+                        detailedConsent -> {
+                            JSONObject record = ConsentAdminUtils.detailedConsentToJSON(detailedConsent);
+                            record.put(ConsentExtensionConstants.CURSOR,
+                                    ConsentAdminUtils.encodeSearchCursor(detailedConsent));
+                            writer.write(record);
+                        });
+            } else {
+                csvColumns = AMENDMENT_HISTORY_EXPORT_COLUMNS;
+                exporter = writer -> consentCoreService.exportConsentAmendmentHistory(consentIDs, clientIDs,
+                        consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime, searchCursor,
+                        exportBatchSize, amendmentHistory -> {
+                            DetailedConsentResource currentConsent = amendmentHistory.getCurrentConsent();
+                            JSONArray consentHistory = new JSONArray();
+                            for (Map.Entry<String, ConsentHistoryResource> entry :
+                                    amendmentHistory.getConsentHistory().entrySet()) {
+                                consentHistory.put(ConsentAdminUtils.consentHistoryToJSON(entry.getKey(),
+                                        entry.getValue()));
+                            }
+                            JSONObject record = new JSONObject();
+                            record.put(ConsentExtensionConstants.CC_CONSENT_ID, currentConsent.getConsentID());
+                            record.put(ConsentExtensionConstants.CURRENT_CONSENT,
+                                    ConsentAdminUtils.detailedConsentToJSON(currentConsent));
+                            record.put(ConsentExtensionConstants.AMENDMENT_HISTORY, consentHistory);
+                            record.put(ConsentExtensionConstants.CURSOR,
+                                    ConsentAdminUtils.encodeSearchCursor(currentConsent));
+                            writer.write(record);
+                        });
+            }
+        } else {
+            log.error("Request contains an unsupported export type");
+            throw new ConsentException(ResponseStatus.BAD_REQUEST, "Unsupported export type",
+                    ConsentOperationEnum.CONSENT_EXPORT);
+        }
+
+        // Records are read and written when the payload is streamed to the client, not held in the response
+        consentAdminData.setStreamingResponsePayload(new ConsentExportPayload(exportType, exportFormat, csvColumns,
+                exporter));
+        consentAdminData.setResponseStatus(ResponseStatus.OK);
+    }
+
+    private static ArrayList<String> getAccountIDs(Map queryParams) {
+
+        if (!queryParams.containsKey(ConsentExtensionConstants.ACCOUNT_IDS)) {
+            return null;
+        }
+        ArrayList<String> accountIDs = new ArrayList<>();
+        for (Object accountID : (ArrayList<?>) queryParams.get(ConsentExtensionConstants.ACCOUNT_IDS)) {
+            accountIDs.add(String.valueOf(accountID));
+        }
+        return accountIDs;
+    }
+
+    private static Long getTimeQueryParam(Map queryParams, String key) {
+
+        try {
+            long timeValue = ConsentAdminUtils.getLongFromQueryParam(ConsentAdminUtils
+                    .validateAndGetQueryParam(queryParams, key));
+            return timeValue == 0 ? null : timeValue;
+        } catch (NumberFormatException e) {
+            log.warn(String.format("Number format incorrect in search for parameter %s. Ignoring parameter", key));
+            return null;
+        }
+    }
+
     /**
-     * Filter the consent data based on the accounts.
-     * @param consentAdminData Consent admin data.
+     * Reads the exported records and writes them with the given writer.
      */
-    public void filterConsentsByAccount(ConsentAdminData consentAdminData) {
-
-        ArrayList accounts = ((ArrayList) consentAdminData.getQueryParams()
-                .get(ConsentExtensionConstants.ACCOUNT_IDS));
-        if (accounts.size() > 0) {
-            JSONArray filteredConsentData = new JSONArray();
-            for (Object consentObj : (JSONArray) consentAdminData.getResponsePayload()
-                    .get(ConsentExtensionConstants.DATA_CC)) {
-                JSONObject consent = (JSONObject) consentObj;
-                JSONArray consentMappingResources = (JSONArray) consent
-                        .get(ConsentExtensionConstants.MAPPING_RESOURCES);
-                for (Object consentMappingResource : consentMappingResources) {
-                    JSONObject consentMappingResourceObject = (JSONObject) consentMappingResource;
-                    if (accounts.contains(consentMappingResourceObject.get(ConsentExtensionConstants.ACCOUNT_ID_CC))) {
-                        filteredConsentData.put(consent);
-                        break;
-                    }
-                }
+    @FunctionalInterface
+    private interface ConsentRecordExporter {
+
+        void export(ConsentExportWriter writer) throws ConsentManagementException;
+    }
+
+    /**
+     * Streaming payload of a consent export, written as NDJSON or as gzip compressed CSV.
+     */
+    private static class ConsentExportPayload implements StreamingResponsePayload {
+
+        private final String exportType;
+        private final boolean isCsv;
+        private final List<String> csvColumns;
+        private final ConsentRecordExporter exporter;
+
+        private ConsentExportPayload(String exportType, String exportFormat, List<String> csvColumns,
+                                     ConsentRecordExporter exporter) {
+
+            this.exportType = exportType;
+            this.isCsv = ConsentExtensionConstants.EXPORT_FORMAT_CSV.equals(exportFormat);
+            this.csvColumns = csvColumns;
+            this.exporter = exporter;
+        }
+
+        @Override
+        public String getContentType() {
+
+            return isCsv ? ConsentExtensionConstants.GZIP_CONTENT_TYPE : ConsentExtensionConstants.NDJSON_CONTENT_TYPE;
+        }
+
+        @Override
+        public String getFileName() {
+
+            return isCsv ? exportType + ".csv.gz" : null;
+        }
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+
+            try (ConsentExportWriter writer = isCsv ? ConsentExportWriter.gzipCsv(outputStream, csvColumns) :
+                    ConsentExportWriter.ndjson(outputStream)) {
+                exporter.export(writer);
+            } catch (ConsentManagementException e) {
+                log.error("Error while exporting consent data", e);
+                throw new IOException(e.getMessage(), e);
             }
-            JSONObject responseMetadata = (JSONObject) consentAdminData.getResponsePayload()
-                    .get(ConsentExtensionConstants.METADATA);
-            responseMetadata.put(ConsentExtensionConstants.TOTAL, filteredConsentData.length());
-            responseMetadata.put(ConsentExtensionConstants.COUNT, filteredConsentData.length());
-            consentAdminData.getResponsePayload().put(ConsentExtensionConstants.DATA_CC, filteredConsentData);
         }
     }
 
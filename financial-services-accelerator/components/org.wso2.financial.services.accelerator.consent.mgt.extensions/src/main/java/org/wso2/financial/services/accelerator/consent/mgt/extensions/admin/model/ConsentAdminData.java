@@ -39,6 +39,7 @@ public class ConsentAdminData {
     private HttpServletResponse response;
     private ResponseStatus responseStatus;
     private JSONObject responsePayload;
+    private StreamingResponsePayload streamingResponsePayload;
 
     public ConsentAdminData(Map<String, String> headers, JSONObject payload, Map queryParams,
                             String absolutePath, HttpServletRequest request, HttpServletResponse response) {
@@ -97,6 +98,14 @@ public class ConsentAdminData {
         return responseStatus;
     }
 
+    public StreamingResponsePayload getStreamingResponsePayload() {
+        return streamingResponsePayload;
+    }
+
+    public void setStreamingResponsePayload(StreamingResponsePayload streamingResponsePayload) {
+        this.streamingResponsePayload = streamingResponsePayload;
+    }
+
     public void setResponseHeader(String key, String value) {
         response.setHeader(key.replaceAll("\n\r", ""), value.replaceAll("\n\r", ""));
     }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Response payload which is written to the response stream after the handler returns, instead of being held in
+ * memory as a JSON object.
+ */
+public interface StreamingResponsePayload {
+
+    /**
+     * Returns the media type of the payload.
+     *
+     * @return content type
+     */
+    String getContentType();
+
+    /**
+     * Returns the file name under which the payload should be saved by the client.
+     *
+     * @return file name, or null if the payload is not an attachment
+     */
+    String getFileName();
+
+    /**
+     * Writes the payload to the response stream. The stream is owned by the caller and is not closed.
+     *
+     * @param outputStream response stream
+     * @throws IOException thrown if the payload cannot be produced or written
+     */
+    void writeTo(OutputStream outputStream) throws IOException;
+}
@@ -18,18 +18,26 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils;
 
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentOperationEnum;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Map;
 
 /**
@@ -37,6 +45,9 @@ import java.util.Map;
  */
 public class ConsentAdminUtils {
 
+    private static final Log log = LogFactory.getLog(ConsentAdminUtils.class);
+    private static final String CURSOR_SEPARATOR = ":";
+
     /**
      * Validate and retrieve query param.
      * 1. Check whether the key exists as a query param.
@@ -191,4 +202,109 @@ public class ConsentAdminUtils {
         }
         return consentAttribute;
     }
+
+    /**
+     * Convert a consent status audit record to JSON.
+     *
+     * @param statusAuditRecord   consent status audit record
+     * @return  JSON object of the audit record
+     */
+    public static JSONObject statusAuditRecordToJSON(ConsentStatusAuditRecord statusAuditRecord) {
+        JSONObject statusAuditRecordJSON = new JSONObject();
+        statusAuditRecordJSON.put(ConsentExtensionConstants.STATUS_AUDIT_ID, statusAuditRecord.getStatusAuditID());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.CC_CONSENT_ID, statusAuditRecord.getConsentID());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.CURRENT_STATUS, statusAuditRecord.getCurrentStatus());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.ACTION_TIME, statusAuditRecord.getActionTime());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.REASON, statusAuditRecord.getReason());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.ACTION_BY, statusAuditRecord.getActionBy());
+        statusAuditRecordJSON.put(ConsentExtensionConstants.PREVIOUS_STATUS, statusAuditRecord.getPreviousStatus());
+        return statusAuditRecordJSON;
+    }
+
+    /**
+     * Convert a consent amendment history entry to JSON.
+     *
+     * @param historyID                 history ID of the amendment
+     * @param consentHistoryResource    consent history resource of the amendment
+     * @return  JSON object of the amendment history entry
+     */
+    public static JSONObject consentHistoryToJSON(String historyID, ConsentHistoryResource consentHistoryResource) {
+        DetailedConsentResource detailedConsentHistory = consentHistoryResource.getDetailedConsentResource();
+        JSONObject consentResourceJSON = new JSONObject();
+        consentResourceJSON.put(ConsentExtensionConstants.HISTORY_ID, historyID);
+        consentResourceJSON.put(ConsentExtensionConstants.AMENDED_REASON, consentHistoryResource.getReason());
+        consentResourceJSON.put(ConsentExtensionConstants.AMENDED_TIME, detailedConsentHistory.getUpdatedTime());
+        consentResourceJSON.put(ConsentExtensionConstants.CONSENT_DATA, detailedConsentToJSON(detailedConsentHistory));
+        return consentResourceJSON;
+    }
+
+    /**
+     * Encode the search cursor pointing after the given consent.
+     *
+     * @param detailedConsentResource   last consent of a search result page
+     * @return  URL safe cursor string
+     */
+    public static String encodeSearchCursor(DetailedConsentResource detailedConsentResource) {
+        String cursor = detailedConsentResource.getUpdatedTime() + CURSOR_SEPARATOR +
+                detailedConsentResource.getConsentID();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a search cursor returned in a previous search response.
+     *
+     * @param cursor    cursor query param value
+     * @return  search cursor or null if the cursor is not provided
+     * @throws ConsentException if the cursor is malformed
+     */
+    public static ConsentSearchCursor decodeSearchCursor(String cursor) throws ConsentException {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = decodedCursor.indexOf(CURSOR_SEPARATOR);
+            if (separatorIndex > 0 && separatorIndex < decodedCursor.length() - 1) {
+                return new ConsentSearchCursor(Long.parseLong(decodedCursor.substring(0, separatorIndex)),
+                        decodedCursor.substring(separatorIndex + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Unable to decode the consent search cursor", e);
+        }
+        throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid cursor provided",
+                ConsentOperationEnum.CONSENT_SEARCH);
+    }
+
+    /**
+     * Encode the export cursor pointing after the given consent status audit record.
+     *
+     * @param statusAuditID   status audit ID of the last exported audit record
+     * @return  URL safe cursor string
+     */
+    public static String encodeStatusAuditCursor(String statusAuditID) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(statusAuditID.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a consent status audit export cursor.
+     *
+     * @param cursor    cursor query param value
+     * @return  status audit ID or null if the cursor is not provided
+     * @throws ConsentException if the cursor is malformed
+     */
+    public static String decodeStatusAuditCursor(String cursor) throws ConsentException {
+        if (cursor == null) {
+            return null;
+        }
+        try {
+            String statusAuditID = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!statusAuditID.isEmpty()) {
+                return statusAuditID;
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Unable to decode the consent status audit export cursor", e);
+        }
+        throw new ConsentException(ResponseStatus.BAD_REQUEST, "Invalid cursor provided",
+                ConsentOperationEnum.CONSENT_EXPORT);
+    }
 }
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils;
+
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes exported records to a response stream one at a time, either as newline delimited JSON or as gzip
+ * compressed CSV. Only the record being written is held in memory.
+ * <p>
+ * CSV columns are fixed when the writer is created and written as the header row. Nested objects and arrays are
+ * written to a column as JSON.
+ */
+public class ConsentExportWriter implements Closeable {
+
+    private static final char CSV_SEPARATOR = ',';
+    private static final String CSV_LINE_SEPARATOR = "\r\n";
+
+    private final Writer writer;
+    private final GZIPOutputStream gzipOutputStream;
+    private final List<String> csvColumns;
+
+    private ConsentExportWriter(Writer writer, GZIPOutputStream gzipOutputStream, List<String> csvColumns) {
+
+        this.writer = writer;
+        this.gzipOutputStream = gzipOutputStream;
+        this.csvColumns = csvColumns;
+    }
+
+    /**
+     * Creates a writer producing one JSON object per line.
+     *
+     * @param outputStream response stream
+     * @return NDJSON export writer
+     */
+    public static ConsentExportWriter ndjson(OutputStream outputStream) {
+
+        return new ConsentExportWriter(new BufferedWriter(new OutputStreamWriter(outputStream,
+                StandardCharsets.UTF_8)), null, null);
+    }
+
+    /**
+     * Creates a writer producing gzip compressed CSV with the given columns, and writes the header row.
+     *
+     * @param outputStream response stream
+     * @param columns      keys of the record values written to each column
+     * @return CSV export writer
+     * @throws IOException thrown if the header row cannot be written
+     */
+    public static ConsentExportWriter gzipCsv(OutputStream outputStream, List<String> columns) throws IOException {
+
+        GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream);
+        ConsentExportWriter exportWriter = new ConsentExportWriter(new BufferedWriter(new OutputStreamWriter(
+                gzipOutputStream, StandardCharsets.UTF_8)), gzipOutputStream, columns);
+        exportWriter.writeCsvRow(columns);
+        return exportWriter;
+    }
+
+    /**
+     * Writes a record.
+     *
+     * @param record exported record
+     * @throws IOException thrown if the record cannot be written
+     */
+    public void write(JSONObject record) throws IOException {
+
+        if (csvColumns == null) {
+            writer.write(record.toString());
+            writer.write('\n');
+            return;
+        }
+        String[] values = new String[csvColumns.size()];
+        for (int i = 0; i < values.length; i++) {
+            Object value = record.opt(csvColumns.get(i));
+            values[i] = value == null || JSONObject.NULL.equals(value) ? "" : value.toString();
+        }
+        writeCsvRow(Arrays.asList(values));
+    }
+
+    /**
+     * Flushes the written records and completes the gzip stream. The response stream is not closed.
+     *
+     * @throws IOException thrown if the records cannot be flushed
+     */
+    @Override
+    public void close() throws IOException {
+
+        writer.flush();
+        if (gzipOutputStream != null) {
+            gzipOutputStream.finish();
+        }
+    }
+
+    private void writeCsvRow(List<String> values) throws IOException {
+
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(CSV_SEPARATOR);
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write(CSV_LINE_SEPARATOR);
+    }
+
+    /**
+     * Quotes a CSV value if it contains a separator, a quote or a line break, as described in RFC 4180.
+     *
+     * @param value CSV value
+     * @return escaped CSV value
+     */
+    static String escapeCsv(String value) {
+
+        for (int i = 0; i < value.length(); i++) {
+            char character = value.charAt(i);
+            if (character == CSV_SEPARATOR || character == '"' || character == '\n' || character == '\r') {
+                return '"' + value.replace("\"", "\"\"") + '"';
+            }
+        }
+        return value;
+    }
+}
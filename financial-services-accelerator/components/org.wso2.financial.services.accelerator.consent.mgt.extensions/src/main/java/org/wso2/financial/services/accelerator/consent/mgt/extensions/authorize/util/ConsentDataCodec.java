@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.util;
+
+import com.google.gson.Gson;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.model.ConsentData;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Encodes the consent data of an authorization session into a compact binary form.
+ * <p>
+ * The string fields are written as length prefixed UTF-8, while the maps and the consent and authorization resources,
+ * whose contents are defined by the extensions, are written as JSON. The result is deflate compressed, so that
+ * sessions can be held in shared caches and database columns of limited size. The maps are restored as generic maps,
+ * in the same way as when the consent data is read back from its JSON form.
+ */
+public final class ConsentDataCodec {
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final int NULL_LENGTH = -1;
+    private static final byte REGULATORY_UNSET = 0;
+    private static final byte REGULATORY_FALSE = 1;
+    private static final byte REGULATORY_TRUE = 2;
+    private static final Gson gson = new Gson();
+
+    private ConsentDataCodec() {
+
+    }
+
+    /**
+     * Encode consent data.
+     *
+     * @param consentData consent data
+     * @return encoded consent data
+     * @throws ConsentManagementException if the consent data cannot be encoded
+     */
+    public static byte[] encode(ConsentData consentData) throws ConsentManagementException {
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            out.writeByte(FORMAT_VERSION);
+            writeString(out, consentData.getSessionDataKey());
+            writeString(out, consentData.getUserId());
+            writeString(out, consentData.getSpQueryParams());
+            writeString(out, consentData.getScopeString());
+            writeString(out, consentData.getApplication());
+            writeString(out, consentData.getConsentId());
+            writeString(out, consentData.getClientId());
+            writeString(out, consentData.getState());
+            writeString(out, consentData.getType());
+            writeString(out, consentData.getRedirectURI() == null ? null : consentData.getRedirectURI().toString());
+            out.writeByte(consentData.isRegulatory() == null ? REGULATORY_UNSET :
+                    consentData.isRegulatory() ? REGULATORY_TRUE : REGULATORY_FALSE);
+            writeJson(out, consentData.getRequestHeaders());
+            writeJson(out, consentData.getSensitiveDataMap());
+            writeJson(out, consentData.getMetaDataMap());
+            writeJson(out, consentData.getConsentResource());
+            writeJson(out, consentData.getAuthResource());
+        } catch (IOException | RuntimeException e) {
+            throw new ConsentManagementException("Error while encoding the consent data", e);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decode consent data encoded with {@link #encode(ConsentData)}.
+     *
+     * @param encodedConsentData encoded consent data
+     * @return consent data
+     * @throws ConsentManagementException if the encoded consent data is malformed
+     */
+    @SuppressWarnings("unchecked")
+    public static ConsentData decode(byte[] encodedConsentData) throws ConsentManagementException {
+
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(encodedConsentData)))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) {
+                throw new ConsentManagementException("Unsupported consent data format version " + version);
+            }
+            String sessionDataKey = readString(in);
+            String userId = readString(in);
+            String spQueryParams = readString(in);
+            String scopeString = readString(in);
+            String application = readString(in);
+            String consentId = readString(in);
+            String clientId = readString(in);
+            String state = readString(in);
+            String type = readString(in);
+            String redirectURI = readString(in);
+            byte regulatory = in.readByte();
+            Map<String, String> requestHeaders = readJson(in, Map.class);
+
+            ConsentData consentData = new ConsentData(sessionDataKey, userId, spQueryParams, scopeString,
+                    application, requestHeaders);
+            consentData.setConsentId(consentId);
+            consentData.setClientId(clientId);
+            consentData.setState(state);
+            consentData.setType(type);
+            consentData.setRedirectURI(redirectURI == null ? null : new URI(redirectURI));
+            consentData.setRegulatory(regulatory == REGULATORY_UNSET ? null : regulatory == REGULATORY_TRUE);
+            consentData.setSensitiveDataMap((Map<String, Serializable>) readJson(in, Map.class));
+            Map<String, Object> metaDataMap = readJson(in, Map.class);
+            if (metaDataMap != null) {
+                consentData.setMetaDataMap(metaDataMap);
+            }
+            consentData.setConsentResource(readJson(in, ConsentResource.class));
+            consentData.setAuthResource(readJson(in, AuthorizationResource.class));
+            return consentData;
+        } catch (IOException | URISyntaxException | RuntimeException e) {
+            throw new ConsentManagementException("Error while decoding the consent data", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+
+        if (value == null) {
+            out.writeInt(NULL_LENGTH);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+
+        int length = in.readInt();
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeJson(DataOutputStream out, Object value) throws IOException {
+
+        writeString(out, value == null ? null : gson.toJson(value));
+    }
+
+    private static <T> T readJson(DataInputStream in, Class<T> type) throws IOException {
+
+        String json = readString(in);
+        return json == null ? null : gson.fromJson(json, type);
+    }
+}
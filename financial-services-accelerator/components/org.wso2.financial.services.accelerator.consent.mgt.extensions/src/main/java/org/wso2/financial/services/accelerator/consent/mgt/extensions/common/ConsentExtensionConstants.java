@@ -127,6 +127,17 @@ public class ConsentExtensionConstants {
     public static final String TO_TIME = "toTime";
     public static final String LIMIT = "limit";
     public static final String OFFSET = "offset";
+    public static final String CURSOR = "cursor";
+    public static final String NEXT_CURSOR = "nextCursor";
+    public static final String EXPORT_TYPE = "type";
+    public static final String EXPORT_FORMAT = "format";
+    public static final String EXPORT_TYPE_CONSENTS = "consents";
+    public static final String EXPORT_TYPE_CONSENT_STATUS_AUDIT = "consent-status-audit";
+    public static final String EXPORT_TYPE_CONSENT_AMENDMENT_HISTORY = "consent-amendment-history";
+    public static final String EXPORT_FORMAT_NDJSON = "ndjson";
+    public static final String EXPORT_FORMAT_CSV = "csv";
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+    public static final String GZIP_CONTENT_TYPE = "application/gzip";
     public static final String COUNT = "count";
     public static final String TOTAL = "total";
     public static final String METADATA = "metadata";
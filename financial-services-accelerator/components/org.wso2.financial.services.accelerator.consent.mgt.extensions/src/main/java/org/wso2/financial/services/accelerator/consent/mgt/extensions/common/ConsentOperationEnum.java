@@ -35,7 +35,8 @@ public enum ConsentOperationEnum {
     CONSENT_FILE_RETRIEVAL("consent_file_retrieval"),
     CONSENT_AMENDMENT_HISTORY_RETRIEVAL("consent_amend_history_retrieval"),
     CONSENT_FILE_SEARCH("consent_file_search"),
-    CONSENT_ATTRIBUTES_SEARCH("consent_attributes_search");
+    CONSENT_ATTRIBUTES_SEARCH("consent_attributes_search"),
+    CONSENT_EXPORT("consent_export");
 
     private final String operation;
 
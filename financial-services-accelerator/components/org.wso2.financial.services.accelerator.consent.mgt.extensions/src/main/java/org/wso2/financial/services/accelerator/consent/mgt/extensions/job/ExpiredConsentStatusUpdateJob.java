@@ -27,21 +27,26 @@ import org.quartz.JobExecutionException;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.util.Generated;
-import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
-import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.internal.ConsentExtensionsDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
-import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Scheduled Task to read and update expired consents in the DB
- * 1) Read the consents which has a expiry time attribute from the DB.
- * 2) Check if expired, and collect expired consents
- * 3) Update the expired statues in DB
- * 4) Notify state change to relevant handler.
+ * 1) Read the IDs of the consents with a validity time before the job start time in pages.
+ * 2) Expire each page as a chunk in a single transaction, updating the statuses with a single statement and
+ *    storing the audit and history records in batches.
+ * 3) Chunks are expired in parallel up to the configured limit.
+ * <p>
+ * Each chunk is committed independently, so the consents expired before a crash no longer match the eligible
+ * statuses and the next run continues with the remaining consents.
  */
 @DisallowConcurrentExecution
 public class ExpiredConsentStatusUpdateJob implements Job {
@@ -51,6 +56,8 @@ public class ExpiredConsentStatusUpdateJob implements Job {
             FinancialServicesConfigParser.getInstance().getStatusWordingForExpiredConsents();
     private static final String expirationEligibleConsentStatuses =
             FinancialServicesConfigParser.getInstance().getEligibleStatusesForConsentExpiry();
+    // Oracle allows at most 1000 values in an IN clause
+    private static final int MAX_CHUNK_SIZE = 1000;
 
     /**
      * Method used to enforce periodic statues update of consents.
@@ -74,84 +81,83 @@ public class ExpiredConsentStatusUpdateJob implements Job {
     public static void updateExpiredStatues() throws ConsentManagementException {
 
         log.debug("Expired Consent Status Update Scheduled Task is executing.");
-        // get consents which has a expiry time attribute
-        ArrayList<DetailedConsentResource> consentsEligibleForExpiration =
-                ConsentExtensionsDataHolder.getInstance().getConsentCoreService()
-                        .getConsentsEligibleForExpiration(expirationEligibleConsentStatuses);
-        // filter out expired consents and change the status of expired consents
-        for (DetailedConsentResource consentResource : consentsEligibleForExpiration) {
-            if (isExpired(consentResource)) {
-                String updatedConsentId = updateConsentExpiredStatus(consentResource);
-                if (log.isDebugEnabled()) {
-                    log.debug("Expired status updated for consent : " + updatedConsentId.replaceAll("[\r\n]", ""));
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        int chunkSize = Math.max(1, Math.min(configParser.getConsentExpiryChunkSize(), MAX_CHUNK_SIZE));
+        int parallelism = Math.max(1, configParser.getConsentExpiryParallelism());
+        boolean storeAmendmentHistory = configParser.isConsentAmendmentHistoryEnabled();
+        ConsentCoreService consentCoreService = ConsentExtensionsDataHolder.getInstance().getConsentCoreService();
+        long expiryTime = Instant.now().getEpochSecond();
+
+        AtomicInteger expiredCount = new AtomicInteger();
+        AtomicInteger failedCount = new AtomicInteger();
+        // Chunks waiting for a worker are bounded, the reading thread expires the chunk itself when the queue is full
+        ThreadPoolExecutor chunkExecutor = new ThreadPoolExecutor(parallelism, parallelism, 0, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(parallelism), new ThreadPoolExecutor.CallerRunsPolicy());
+        try {
+            ConsentResource lastConsent = null;
+            ArrayList<ConsentResource> page;
+            do {
+                page = consentCoreService.getConsentsEligibleForExpiration(expirationEligibleConsentStatuses,
+                        expiryTime, lastConsent, chunkSize);
+                if (page.isEmpty()) {
+                    break;
                 }
-            }
-        }
-        log.debug("Expired Consent Status Update Scheduled Task is finished.");
-    }
-
-    /**
-     * Check if the consents is expired based on the consent attribute value.
-     *
-     * @param detailedConsentResource  the detailed consent resource
-     * @return true if the consent is expired, false otherwise
-     */
-    private static boolean isExpired(DetailedConsentResource detailedConsentResource) {
-
-        long validityPeriod = detailedConsentResource.getValidityPeriod();
-        if (validityPeriod > 0) {
-            // Compare with current UTC timestamp in long
-            Instant instant = Instant.now();
-            long currentTimeStampSeconds = instant.getEpochSecond();
-            if (currentTimeStampSeconds >= validityPeriod) {
-                String info = "Consent " + detailedConsentResource.getConsentID() +
-                        " is identified as expired based on the given consent validity time : " +
-                        validityPeriod;
-                log.info(info.replaceAll("[\r\n]", ""));
-                return true;
-            }
+                lastConsent = page.get(page.size() - 1);
+                ArrayList<String> consentIDs = new ArrayList<>();
+                for (ConsentResource consentResource : page) {
+                    consentIDs.add(consentResource.getConsentID());
+                }
+                chunkExecutor.execute(() -> expireChunk(consentCoreService, consentIDs, storeAmendmentHistory,
+                        expiredCount, failedCount));
+            } while (page.size() == chunkSize);
+        } finally {
+            awaitChunks(chunkExecutor);
         }
-        return false;
+        log.info(String.format("Expired Consent Status Update Scheduled Task is finished. Expired %d consents, " +
+                "failed to expire %d consents", expiredCount.get(), failedCount.get()));
     }
 
     /**
-     * Update the expired consents in DB.
+     * Expire a chunk of consents in a single transaction.
      *
-     * @param detailedConsentResource
-     * @return
+     * @param consentCoreService    consent core service
+     * @param consentIDs            IDs of the consents in the chunk
+     * @param storeAmendmentHistory whether to store the previous status in the consent amendment history
+     * @param expiredCount          counter of expired consents
+     * @param failedCount           counter of consents failed to expire
      */
-    private static String updateConsentExpiredStatus(DetailedConsentResource detailedConsentResource) {
+    private static void expireChunk(ConsentCoreService consentCoreService, ArrayList<String> consentIDs,
+                                    boolean storeAmendmentHistory, AtomicInteger expiredCount,
+                                    AtomicInteger failedCount) {
 
         try {
-            ConsentExtensionsDataHolder.getInstance().getConsentCoreService()
-                    .updateConsentStatus(detailedConsentResource.getConsentID(), expiredConsentStatus);
-
-            //since the consent status is changed during the consent expiration, the previous status will be saved
-            //in the consent history to properly back-track the previous status held in the consent
-            storeConsentStateChangeInConsentHistory(detailedConsentResource);
-
-        } catch (ConsentManagementException e) {
-            String error = "Error occurred while updating status for consentId : " +
-                    detailedConsentResource.getConsentID();
+            ArrayList<String> expiredConsentIDs = consentCoreService.expireConsents(consentIDs,
+                    expirationEligibleConsentStatuses, expiredConsentStatus, storeAmendmentHistory);
+            expiredCount.addAndGet(expiredConsentIDs.size());
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Expired status updated for %d consents up to consent : %s",
+                        expiredConsentIDs.size(), consentIDs.get(consentIDs.size() - 1).replaceAll("[\r\n]", "")));
+            }
+        } catch (ConsentManagementException | RuntimeException e) {
+            // The consents of a failed chunk remain eligible and are retried in the next run
+            failedCount.addAndGet(consentIDs.size());
+            String error = "Error occurred while updating status for a chunk of consents starting from consentId : " +
+                    consentIDs.get(0);
             log.error(error.replaceAll("[\r\n]", ""), e);
         }
-        return detailedConsentResource.getConsentID();
     }
 
-    private static void storeConsentStateChangeInConsentHistory(DetailedConsentResource detailedConsentResource)
-            throws ConsentManagementException {
+    private static void awaitChunks(ThreadPoolExecutor chunkExecutor) throws ConsentManagementException {
 
-        if (FinancialServicesConfigParser.getInstance().isConsentAmendmentHistoryEnabled()) {
-
-            ConsentCoreService consentCoreService = ConsentExtensionsDataHolder.getInstance().getConsentCoreService();
-            ConsentHistoryResource consentHistoryResource = new ConsentHistoryResource();
-            consentHistoryResource.setTimestamp(System.currentTimeMillis() / 1000);
-            consentHistoryResource.setReason(ConsentCoreServiceConstants.AMENDMENT_REASON_CONSENT_EXPIRATION);
-            consentHistoryResource.setDetailedConsentResource(detailedConsentResource);
-
-            consentCoreService.storeConsentAmendmentHistory(detailedConsentResource.getConsentID(),
-                    consentHistoryResource, null);
+        chunkExecutor.shutdown();
+        try {
+            while (!chunkExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                log.debug("Waiting for the consent expiration chunks to complete");
+            }
+        } catch (InterruptedException e) {
+            chunkExecutor.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new ConsentManagementException("Interrupted while waiting for the consent expiration chunks", e);
         }
     }
-
 }
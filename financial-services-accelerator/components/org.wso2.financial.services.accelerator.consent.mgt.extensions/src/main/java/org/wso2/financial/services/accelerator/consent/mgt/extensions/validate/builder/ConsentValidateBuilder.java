@@ -36,6 +36,7 @@ public class ConsentValidateBuilder {
     private static final Log log = LogFactory.getLog(ConsentValidateBuilder.class);
     private ConsentValidator consentValidator = null;
     private String requestSignatureAlias = null;
+    private String requestSignatureSharedSecret = null;
 
     public ConsentValidateBuilder() {
         build();
@@ -50,6 +51,7 @@ public class ConsentValidateBuilder {
         String handlerConfig = (String)  configs.get(FinancialServicesConstants.CONSENT_VALIDATOR);
         consentValidator = FinancialServicesUtils.getClassInstanceFromFQN(handlerConfig, ConsentValidator.class);
         requestSignatureAlias = (String) configs.get(FinancialServicesConstants.SIGNATURE_ALIAS);
+        requestSignatureSharedSecret = (String) configs.get(FinancialServicesConstants.SIGNATURE_SHARED_SECRET);
         log.debug("Validate handler loaded successfully");
     }
 
@@ -60,4 +62,8 @@ public class ConsentValidateBuilder {
     public String getRequestSignatureAlias() {
         return requestSignatureAlias;
     }
+
+    public String getRequestSignatureSharedSecret() {
+        return requestSignatureSharedSecret;
+    }
 }
@@ -20,15 +20,20 @@ package org.wso2.financial.services.accelerator.consent.mgt.extensions.admin;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentExportHandler;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.builder.ConsentAdminBuilder;
@@ -38,6 +43,8 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.mode
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ExternalAPIAdminConsentRevokeResponseDTO;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ExternalAPIAdminConsentSearchRequestDTO;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ExternalAPIAdminConsentSearchResponseDTO;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.StreamingResponsePayload;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils.ConsentAdminUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.utils.ExternalAPIConsentAdminUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
@@ -48,17 +55,25 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.util.TestC
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.util.TestUtil;
 import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
 import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -98,9 +113,9 @@ public class DefaultConsentAdminHandlerTest {
 
         ArrayList<DetailedConsentResource> resources = new ArrayList<>();
         resources.add(TestUtil.getSampleDetailedConsentResource());
-        doReturn(resources).when(consentCoreServiceMock).searchDetailedConsents(any(ArrayList.class),
-                any(ArrayList.class), any(ArrayList.class), any(ArrayList.class), any(ArrayList.class),
-                anyLong(), anyLong(), anyInt(), anyInt());
+        doReturn(new ConsentSearchResult(resources, resources.size())).when(consentCoreServiceMock)
+                .searchDetailedConsentsWithTotal(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                        any());
         doReturn(TestUtil.getSampleConsentResource(TestConstants.AUTHORISED_STATUS)).when(consentCoreServiceMock)
                 .getConsent(anyString(), anyBoolean());
         doReturn(TestUtil.getSampleAuthorizedDetailedConsentResource()).when(consentCoreServiceMock)
@@ -161,9 +176,44 @@ public class DefaultConsentAdminHandlerTest {
     public void testHandleSearchWithAccountIdFilter() {
         ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
         doReturn(getQueryParamsWithAccountId()).when(consentAdminDataMock).getQueryParams();
-        doReturn(new JSONObject(TestConstants.ADMIN_SEARCH_RESPONSE)).when(consentAdminDataMock).getResponsePayload();
         defaultConsentAdminHandler.handleSearch(consentAdminDataMock);
         verify(consentAdminDataMock).setResponseStatus(ResponseStatus.OK);
+        verify(consentCoreServiceMock, atLeastOnce()).searchDetailedConsentsWithTotal(any(), any(), any(), any(),
+                any(), eq(new ArrayList<>(Collections.singletonList(TestConstants.SAMPLE_ACCOUNT_ID))), any(), any(),
+                any(), any(), any());
+    }
+
+    @Test
+    public void testHandleSearchWithCursor() throws ConsentManagementException {
+        ArrayList<DetailedConsentResource> resources = new ArrayList<>();
+        resources.add(TestUtil.getSampleDetailedConsentResource());
+        doReturn(new ConsentSearchResult(resources, 2)).when(consentCoreServiceMock)
+                .searchDetailedConsentsWithTotal(any(), any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                        any(ConsentSearchCursor.class));
+
+        Map queryParams = getQueryParams();
+        queryParams.put(ConsentExtensionConstants.LIMIT, new ArrayList<>(Collections.singletonList("1")));
+        queryParams.put(ConsentExtensionConstants.CURSOR, new ArrayList<>(Collections
+                .singletonList(ConsentAdminUtils.encodeSearchCursor(TestUtil.getSampleDetailedConsentResource()))));
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        doReturn(queryParams).when(consentAdminDataMock).getQueryParams();
+        defaultConsentAdminHandler.handleSearch(consentAdminDataMock);
+
+        ArgumentCaptor<JSONObject> responseCaptor = ArgumentCaptor.forClass(JSONObject.class);
+        verify(consentAdminDataMock).setResponsePayload(responseCaptor.capture());
+        Assert.assertTrue(responseCaptor.getValue().getJSONObject(ConsentExtensionConstants.METADATA)
+                .has(ConsentExtensionConstants.NEXT_CURSOR));
+        Assert.assertEquals(responseCaptor.getValue().getJSONObject(ConsentExtensionConstants.METADATA)
+                .getInt(ConsentExtensionConstants.TOTAL), 2);
+    }
+
+    @Test(expectedExceptions = ConsentException.class)
+    public void testHandleSearchWithInvalidCursor() {
+        Map queryParams = getQueryParams();
+        queryParams.put(ConsentExtensionConstants.CURSOR, new ArrayList<>(Collections.singletonList("invalid")));
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        doReturn(queryParams).when(consentAdminDataMock).getQueryParams();
+        defaultConsentAdminHandler.handleSearch(consentAdminDataMock);
     }
 
     @Test
@@ -269,6 +319,92 @@ public class DefaultConsentAdminHandlerTest {
         defaultConsentAdminHandler.handleSearchConsentAttributes(consentAdminDataMock);
     }
 
+    @Test
+    public void testHandleExportAsNdjson() throws Exception {
+        doAnswer(invocation -> {
+            ConsentExportHandler<DetailedConsentResource> handler = invocation.getArgument(10);
+            handler.handle(TestUtil.getSampleDetailedConsentResource());
+            handler.handle(TestUtil.getSampleDetailedConsentResource());
+            return null;
+        }).when(consentCoreServiceMock).exportDetailedConsents(any(), any(), any(), any(), any(), any(), any(),
+                any(), any(), anyInt(), any());
+
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        doReturn(getQueryParamsWithAccountId()).when(consentAdminDataMock).getQueryParams();
+        defaultConsentAdminHandler.handleExport(consentAdminDataMock);
+        verify(consentAdminDataMock).setResponseStatus(ResponseStatus.OK);
+
+        ArgumentCaptor<StreamingResponsePayload> payloadCaptor =
+                ArgumentCaptor.forClass(StreamingResponsePayload.class);
+        verify(consentAdminDataMock).setStreamingResponsePayload(payloadCaptor.capture());
+        Assert.assertEquals(payloadCaptor.getValue().getContentType(),
+                ConsentExtensionConstants.NDJSON_CONTENT_TYPE);
+        Assert.assertNull(payloadCaptor.getValue().getFileName());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        payloadCaptor.getValue().writeTo(outputStream);
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8.name()).split("\n");
+        Assert.assertEquals(lines.length, 2);
+        JSONObject record = new JSONObject(lines[0]);
+        Assert.assertEquals(record.getString(ConsentExtensionConstants.CC_CONSENT_ID),
+                TestUtil.getSampleDetailedConsentResource().getConsentID());
+        Assert.assertNotNull(ConsentAdminUtils.decodeSearchCursor(record.getString(ConsentExtensionConstants.CURSOR)));
+    }
+
+    @Test
+    public void testHandleExportStatusAuditAsCsv() throws Exception {
+        ConsentStatusAuditRecord auditRecord = TestUtil.getSampleConsentStatusAuditRecord(
+                TestConstants.SAMPLE_CONSENT_ID, TestConstants.AUTHORISED_STATUS);
+        auditRecord.setStatusAuditID("sampleStatusAuditID");
+        auditRecord.setReason("Revoked, by \"user\"");
+        doAnswer(invocation -> {
+            ConsentExportHandler<ConsentStatusAuditRecord> handler = invocation.getArgument(3);
+            handler.handle(auditRecord);
+            return null;
+        }).when(consentCoreServiceMock).exportConsentStatusAuditRecords(any(), any(), anyInt(), any());
+
+        Map queryParams = getQueryParams();
+        queryParams.put(ConsentExtensionConstants.EXPORT_TYPE, new ArrayList<>(Collections
+                .singletonList(ConsentExtensionConstants.EXPORT_TYPE_CONSENT_STATUS_AUDIT)));
+        queryParams.put(ConsentExtensionConstants.EXPORT_FORMAT, new ArrayList<>(Collections
+                .singletonList(ConsentExtensionConstants.EXPORT_FORMAT_CSV)));
+        queryParams.put(ConsentExtensionConstants.CURSOR, new ArrayList<>(Collections
+                .singletonList(ConsentAdminUtils.encodeStatusAuditCursor("previousStatusAuditID"))));
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        doReturn(queryParams).when(consentAdminDataMock).getQueryParams();
+        defaultConsentAdminHandler.handleExport(consentAdminDataMock);
+
+        ArgumentCaptor<StreamingResponsePayload> payloadCaptor =
+                ArgumentCaptor.forClass(StreamingResponsePayload.class);
+        verify(consentAdminDataMock).setStreamingResponsePayload(payloadCaptor.capture());
+        Assert.assertEquals(payloadCaptor.getValue().getContentType(), ConsentExtensionConstants.GZIP_CONTENT_TYPE);
+        Assert.assertNotNull(payloadCaptor.getValue().getFileName());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        payloadCaptor.getValue().writeTo(outputStream);
+        verify(consentCoreServiceMock).exportConsentStatusAuditRecords(any(), eq("previousStatusAuditID"),
+                anyInt(), any());
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(
+                new ByteArrayInputStream(outputStream.toByteArray())), StandardCharsets.UTF_8))) {
+            Assert.assertTrue(reader.readLine().startsWith(ConsentExtensionConstants.CURSOR + "," +
+                    ConsentExtensionConstants.STATUS_AUDIT_ID));
+            String row = reader.readLine();
+            Assert.assertTrue(row.contains(",sampleStatusAuditID," + TestConstants.SAMPLE_CONSENT_ID + ","));
+            Assert.assertTrue(row.contains(",\"Revoked, by \"\"user\"\"\","));
+            Assert.assertNull(reader.readLine());
+        }
+    }
+
+    @Test(expectedExceptions = ConsentException.class)
+    public void testHandleExportWithUnsupportedFormat() {
+        Map queryParams = getQueryParams();
+        queryParams.put(ConsentExtensionConstants.EXPORT_FORMAT, new ArrayList<>(Collections
+                .singletonList("xml")));
+        ConsentAdminData consentAdminDataMock = mock(ConsentAdminData.class);
+        doReturn(queryParams).when(consentAdminDataMock).getQueryParams();
+        defaultConsentAdminHandler.handleExport(consentAdminDataMock);
+    }
+
     private Map getQueryParams() {
         Map queryParams = new HashMap();
         queryParams.put(ConsentExtensionConstants.CC_CONSENT_ID, new ArrayList<>(Collections
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize;
+
+import com.google.gson.Gson;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.model.ConsentData;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.util.ConsentDataCodec;
+
+import java.io.Serializable;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test class for ConsentDataCodec.
+ */
+public class ConsentDataCodecTest {
+
+    @Test
+    public void testEncodeAndDecode() throws Exception {
+
+        ConsentData consentData = getConsentData();
+
+        ConsentData decoded = ConsentDataCodec.decode(ConsentDataCodec.encode(consentData));
+
+        Assert.assertEquals(decoded.getSessionDataKey(), consentData.getSessionDataKey());
+        Assert.assertEquals(decoded.getUserId(), consentData.getUserId());
+        Assert.assertEquals(decoded.getSpQueryParams(), consentData.getSpQueryParams());
+        Assert.assertEquals(decoded.getScopeString(), consentData.getScopeString());
+        Assert.assertEquals(decoded.getApplication(), consentData.getApplication());
+        Assert.assertEquals(decoded.getConsentId(), consentData.getConsentId());
+        Assert.assertEquals(decoded.getClientId(), consentData.getClientId());
+        Assert.assertEquals(decoded.getState(), consentData.getState());
+        Assert.assertEquals(decoded.getType(), consentData.getType());
+        Assert.assertEquals(decoded.getRedirectURI(), consentData.getRedirectURI());
+        Assert.assertTrue(decoded.isRegulatory());
+        Assert.assertEquals(decoded.getRequestHeaders(), consentData.getRequestHeaders());
+        Assert.assertEquals(decoded.getSensitiveDataMap().get("loggedInUser"), "admin@wso2.com");
+        Assert.assertEquals(decoded.getMetaDataMap().get("accountId"), "30080012343456");
+        Assert.assertEquals(decoded.getConsentResource().getReceipt(), consentData.getConsentResource().getReceipt());
+        Assert.assertEquals(decoded.getConsentResource().getCurrentStatus(), "awaitingAuthorisation");
+        Assert.assertEquals(decoded.getAuthResource().getUserID(), "admin@wso2.com");
+    }
+
+    @Test
+    public void testEncodeAndDecodeWithUnsetFields() throws Exception {
+
+        ConsentData consentData = new ConsentData("session-key", null, null, "openid accounts", null, null);
+
+        ConsentData decoded = ConsentDataCodec.decode(ConsentDataCodec.encode(consentData));
+
+        Assert.assertEquals(decoded.getSessionDataKey(), "session-key");
+        Assert.assertEquals(decoded.getScopeString(), "openid accounts");
+        Assert.assertNull(decoded.getUserId());
+        Assert.assertNull(decoded.getConsentId());
+        Assert.assertNull(decoded.getRedirectURI());
+        Assert.assertNull(decoded.isRegulatory());
+        Assert.assertNull(decoded.getRequestHeaders());
+        Assert.assertNull(decoded.getSensitiveDataMap());
+        Assert.assertNull(decoded.getConsentResource());
+        Assert.assertNull(decoded.getAuthResource());
+        Assert.assertTrue(decoded.getMetaDataMap().isEmpty());
+    }
+
+    @Test
+    public void testEncodedConsentDataIsSmallerThanJson() throws Exception {
+
+        ConsentData consentData = getConsentData();
+
+        Assert.assertTrue(ConsentDataCodec.encode(consentData).length <
+                new Gson().toJson(consentData).getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testDecodeMalformedConsentData() throws Exception {
+
+        ConsentDataCodec.decode("{\"sessionDataKey\":\"session-key\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static ConsentData getConsentData() throws Exception {
+
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Content-Type", "application/json");
+        ConsentData consentData = new ConsentData("session-key", "admin@wso2.com", "client_id=test-client",
+                "openid accounts", "test-application", headers);
+        consentData.setConsentId("4ba4f2e5-8b9b-4bd5-a0a6-2d2bd1f5a0a1");
+        consentData.setClientId("test-client");
+        consentData.setState("state-value");
+        consentData.setType("accounts");
+        consentData.setRedirectURI(new URI("https://www.example.com/redirect"));
+        consentData.setRegulatory(true);
+        Map<String, Serializable> sensitiveDataMap = new HashMap<>();
+        sensitiveDataMap.put("loggedInUser", "admin@wso2.com");
+        sensitiveDataMap.put("spQueryParams", "client_id=test-client");
+        consentData.setSensitiveDataMap(sensitiveDataMap);
+        consentData.addData("accountId", "30080012343456");
+        consentData.setConsentResource(new ConsentResource("test-client",
+                "{\"Data\":{\"Permissions\":[\"ReadAccountsBasic\",\"ReadAccountsDetail\",\"ReadBalances\"]," +
+                        "\"ExpirationDateTime\":\"2026-12-31T00:00:00+00:00\"}}", "accounts",
+                "awaitingAuthorisation"));
+        consentData.setAuthResource(new AuthorizationResource(consentData.getConsentId(), "admin@wso2.com",
+                "created", "authorisation", 0));
+        consentData.getConsentResource().setConsentAttributes(Collections.singletonMap("key", "value"));
+        return consentData;
+    }
+}
@@ -22,16 +22,28 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
-import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.internal.ConsentExtensionsDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -40,31 +52,26 @@ import static org.mockito.Mockito.when;
 public class ExpiredConsentStatusUpdateJobTests {
 
     private static MockedStatic<FinancialServicesConfigParser> mockedConfigParser;
+    private ConsentCoreService consentCoreService;
 
     @BeforeClass
-    public void initTest() throws ConsentManagementException {
+    public void initTest() {
 
         mockedConfigParser = Mockito.mockStatic(FinancialServicesConfigParser.class);
         FinancialServicesConfigParser mockConfigParser = mock(FinancialServicesConfigParser.class);
         when(mockConfigParser.getStatusWordingForExpiredConsents()).thenReturn("Expired");
         when(mockConfigParser.getEligibleStatusesForConsentExpiry()).thenReturn("Authorised");
         when(mockConfigParser.isConsentAmendmentHistoryEnabled()).thenReturn(true);
+        when(mockConfigParser.getConsentExpiryChunkSize()).thenReturn(2);
+        when(mockConfigParser.getConsentExpiryParallelism()).thenReturn(2);
         mockedConfigParser.when(FinancialServicesConfigParser::getInstance).thenReturn(mockConfigParser);
+    }
 
-        ConsentCoreService consentCoreService = mock(ConsentCoreService.class);
-
-        ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
-        DetailedConsentResource detailedConsentResource = new DetailedConsentResource();
-        detailedConsentResource.setConsentID("123");
-        detailedConsentResource.setValidityPeriod(1746017102);
-        detailedConsentResources.add(detailedConsentResource);
+    @BeforeMethod
+    public void initMethod() {
 
-        when(consentCoreService.getConsentsEligibleForExpiration(Mockito.any()))
-                .thenReturn(detailedConsentResources);
-        when(consentCoreService.updateConsentStatus(Mockito.any(), Mockito.any()))
-                .thenReturn(detailedConsentResource);
+        consentCoreService = mock(ConsentCoreService.class);
         ConsentExtensionsDataHolder.getInstance().setConsentCoreService(consentCoreService);
-
     }
 
     @AfterClass
@@ -74,7 +81,71 @@ public class ExpiredConsentStatusUpdateJobTests {
 
     @Test
     void testUpdateExpiredStatues() throws ConsentManagementException {
+
+        ArrayList<ConsentResource> firstPage = new ArrayList<>(Arrays.asList(getConsent("123", 1746017102),
+                getConsent("456", 1746017103)));
+        ArrayList<ConsentResource> secondPage = new ArrayList<>(Arrays.asList(getConsent("789", 1746017104)));
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), isNull(), anyInt()))
+                .thenReturn(firstPage);
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), eq(firstPage.get(1)),
+                anyInt())).thenReturn(secondPage);
+        when(consentCoreService.expireConsents(any(), anyString(), anyString(), anyBoolean()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        ExpiredConsentStatusUpdateJob.updateExpiredStatues();
+
+        verify(consentCoreService).expireConsents(new ArrayList<>(Arrays.asList("123", "456")), "Authorised",
+                "Expired", true);
+        verify(consentCoreService).expireConsents(new ArrayList<>(Arrays.asList("789")), "Authorised",
+                "Expired", true);
+        verify(consentCoreService, times(2)).getConsentsEligibleForExpiration(anyString(), anyLong(), any(),
+                eq(2));
+    }
+
+    @Test
+    void testUpdateExpiredStatuesWithoutExpiredConsents() throws ConsentManagementException {
+
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), any(), anyInt()))
+                .thenReturn(new ArrayList<>());
+
         ExpiredConsentStatusUpdateJob.updateExpiredStatues();
+
+        verify(consentCoreService, never()).expireConsents(any(), anyString(), anyString(), anyBoolean());
     }
 
+    @Test
+    void testUpdateExpiredStatuesContinuesAfterFailedChunk() throws ConsentManagementException {
+
+        ArrayList<ConsentResource> firstPage = new ArrayList<>(Arrays.asList(getConsent("123", 1746017102),
+                getConsent("456", 1746017103)));
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), isNull(), anyInt()))
+                .thenReturn(firstPage);
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), eq(firstPage.get(1)),
+                anyInt())).thenReturn(new ArrayList<>(Arrays.asList(getConsent("789", 1746017104))));
+        when(consentCoreService.expireConsents(eq(new ArrayList<>(Arrays.asList("123", "456"))), anyString(),
+                anyString(), anyBoolean())).thenThrow(new ConsentManagementException("Error"));
+        when(consentCoreService.expireConsents(eq(new ArrayList<>(Arrays.asList("789"))), anyString(),
+                anyString(), anyBoolean())).thenReturn(new ArrayList<>(Arrays.asList("789")));
+
+        ExpiredConsentStatusUpdateJob.updateExpiredStatues();
+
+        verify(consentCoreService, times(2)).expireConsents(any(), anyString(), anyString(), anyBoolean());
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    void testUpdateExpiredStatuesWhenSelectionFails() throws ConsentManagementException {
+
+        when(consentCoreService.getConsentsEligibleForExpiration(anyString(), anyLong(), any(), anyInt()))
+                .thenThrow(new ConsentManagementException("Error"));
+
+        ExpiredConsentStatusUpdateJob.updateExpiredStatues();
+    }
+
+    private static ConsentResource getConsent(String consentID, long validityPeriod) {
+
+        ConsentResource consentResource = new ConsentResource();
+        consentResource.setConsentID(consentID);
+        consentResource.setValidityPeriod(validityPeriod);
+        return consentResource;
+    }
 }
@@ -19,13 +19,18 @@
 package org.wso2.financial.services.accelerator.consent.mgt.service;
 
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentExportHandler;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAmendmentHistory;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 
 
@@ -474,7 +479,8 @@ public interface ConsentCoreService {
      * 2. Update existing consent status
      * 3. Create an audit record for consent update
      * 4. Update account mapping status as inactive
-     * 5. Revoke tokens related to the consent if the flag 'shouldRevokeTokens' is true
+     * 5. Revoke tokens related to the consent if the flag 'shouldRevokeTokens' is true. The revocation is recorded
+     *    with the consent update and the tokens are revoked asynchronously after the commit
      *
      * @param consentID             ID of the consent
      * @param revokedConsentStatus  the status of the consent after revoked
@@ -493,7 +499,8 @@ public interface ConsentCoreService {
      * 2. Update existing consent status
      * 3. Create an audit record for consent update
      * 4. Update account mapping status as inactive
-     * 5. Revoke tokens related to the consent if the flag 'shouldRevokeTokens' is true
+     * 5. Revoke tokens related to the consent if the flag 'shouldRevokeTokens' is true. The revocation is recorded
+     *    with the consent update and the tokens are revoked asynchronously after the commit
      *
      * @param consentID             ID of the consent
      * @param revokedConsentStatus  the status of the consent after revoked
@@ -673,6 +680,20 @@ public interface ConsentCoreService {
                                                                      Integer offset)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to export consent status audit records. Records are passed to the handler one at a time
+     * while they are read in batches ordered by the status audit ID.
+     *
+     * @param consentIDs        list of consentIDs (optional)
+     * @param statusAuditID     status audit ID after which the export starts, null to export from the first record
+     * @param batchSize         number of records read from the database at once
+     * @param handler           handler receiving the exported records
+     * @throws ConsentManagementException thrown if a database error occurs or the handler fails
+     */
+    void exportConsentStatusAuditRecords(ArrayList<String> consentIDs, String statusAuditID, int batchSize,
+                                         ConsentExportHandler<ConsentStatusAuditRecord> handler)
+            throws ConsentManagementException;
+
     /**
      * This method is used to store the details of the previous consent when an consent amendment happens.
      * The consent ID is mandatory. The detailed consent resource for the previous consent and the amendedTimestamp
@@ -688,6 +709,17 @@ public interface ConsentCoreService {
                                          DetailedConsentResource currentConsentResource)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to retrieve the token revocation status of a consent. A record is returned for each user
+     * whose tokens were requested to be revoked, with the number of attempts and the outcome of the revocation.
+     *
+     * @param consentID consent ID
+     * @return a list of token revocation records
+     * @throws ConsentManagementException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentTokenRevocationRecord> getTokenRevocationStatus(String consentID)
+            throws ConsentManagementException;
+
     /**
      * This method is used to retrieve consent amendment history for a given consentId. Consent ID is mandatory.
      *
@@ -731,6 +763,130 @@ public interface ConsentCoreService {
                                                               Integer limit, Integer offset)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to search detailed consents page by page using a cursor. The search parameters behave as
+     * in {@link #searchDetailedConsents}. Consents are ordered by the last updated time and then by the consent ID,
+     * both descending, and the cursor built from the last consent of a page retrieves the page after it.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             maximum number of consents in the page
+     * @param cursor            position after which the page starts, null for the first page
+     * @return a list of detailed consent resources according to the provided parameters
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    ArrayList<DetailedConsentResource> searchDetailedConsentsByCursor(ArrayList<String> consentIDs,
+                                                                      ArrayList<String> clientIDs,
+                                                                      ArrayList<String> consentTypes,
+                                                                      ArrayList<String> consentStatuses,
+                                                                      ArrayList<String> userIDs, Long fromTime,
+                                                                      Long toTime, Integer limit,
+                                                                      ConsentSearchCursor cursor)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to count the detailed consents matching the given search parameters without retrieving
+     * them. The search parameters behave as in {@link #searchDetailedConsents}. If account IDs are given, only the
+     * consents mapped to at least one of the accounts are counted.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @return the number of consents matching the provided parameters
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    int countDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                              ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                              ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to search a page of detailed consents together with the total number of consents matching
+     * the search. The search parameters behave as in {@link #searchDetailedConsents}. If account IDs are given, only
+     * the consents mapped to at least one of the accounts are returned. The page starts after the cursor if one is
+     * given, otherwise at the offset.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param limit             maximum number of consents in the page
+     * @param offset            offset, ignored if a cursor is given
+     * @param cursor            position after which the page starts, null for offset pagination
+     * @return the page of detailed consent resources with the total number of matching consents
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    ConsentSearchResult searchDetailedConsentsWithTotal(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                                        ArrayList<String> consentTypes,
+                                                        ArrayList<String> consentStatuses, ArrayList<String> userIDs,
+                                                        ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                                                        Integer limit, Integer offset, ConsentSearchCursor cursor)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to export the detailed consents matching the search parameters. The search parameters
+     * behave as in {@link #searchDetailedConsentsWithTotal}. Consents are passed to the handler one at a time while
+     * they are read in batches, so that the export does not hold the full result set in memory.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param cursor            position after which the export starts, null to export from the first consent
+     * @param batchSize         number of consents read from the database at once
+     * @param handler           handler receiving the exported consents
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    void exportDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime, Long toTime,
+                                ConsentSearchCursor cursor, int batchSize,
+                                ConsentExportHandler<DetailedConsentResource> handler)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to export the amendment history of the consents matching the search parameters. The search
+     * parameters behave as in {@link #exportDetailedConsents}. The amendment history of each consent is passed to the
+     * handler together with the current consent.
+     *
+     * @param consentIDs        consent IDs optional list
+     * @param clientIDs         client IDs optional list
+     * @param consentTypes      consent types optional list
+     * @param consentStatuses   consent statuses optional list
+     * @param userIDs           user IDs optional list
+     * @param accountIDs        account IDs optional list
+     * @param fromTime          from time
+     * @param toTime            to time
+     * @param cursor            position after which the export starts, null to export from the first consent
+     * @param batchSize         number of consents read from the database at once
+     * @param handler           handler receiving the amendment history of each consent
+     * @throws ConsentManagementException thrown if any error occur
+     */
+    void exportConsentAmendmentHistory(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                       ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                       ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime,
+                                       Long toTime, ConsentSearchCursor cursor, int batchSize,
+                                       ConsentExportHandler<ConsentAmendmentHistory> handler)
+            throws ConsentManagementException;
+
     /**
      * This method is used to amend consent receipt or validity period. The consent ID is mandatory. One of consent
      * receipt of validity period must be provided. An audit record is created to indicate that the consent is
@@ -784,4 +940,36 @@ public interface ConsentCoreService {
     ArrayList<DetailedConsentResource> getConsentsEligibleForExpiration(String statusesEligibleForExpiration)
             throws ConsentManagementException;
 
+    /**
+     * This method is used to fetch a page of consents eligible for expiration, ordered by the validity time and the
+     * consent ID. Only the consent ID and the validity time of the returned consents are populated.
+     *
+     * @param statusesEligibleForExpiration comma separated statuses of the consents eligible for expiration
+     * @param expiryTime                    consents with a validity time before this time (in seconds) are returned
+     * @param lastConsent                   last consent of the previous page, null for the first page
+     * @param limit                         maximum number of consents in the page
+     * @return consents eligible for expiration
+     * @throws ConsentManagementException thrown if any error occurs in the process
+     */
+    ArrayList<ConsentResource> getConsentsEligibleForExpiration(String statusesEligibleForExpiration,
+                                                                long expiryTime, ConsentResource lastConsent,
+                                                                int limit)
+            throws ConsentManagementException;
+
+    /**
+     * This method is used to expire a chunk of consents in a single transaction. The consent statuses are updated
+     * with a single statement and the audit records and amendment history records are stored in batches. Consents
+     * which are no longer eligible for expiration when the transaction starts are skipped.
+     *
+     * @param consentIDs                    IDs of the consents to expire
+     * @param statusesEligibleForExpiration comma separated statuses of the consents eligible for expiration
+     * @param expiredConsentStatus          status of the expired consents
+     * @param storeAmendmentHistory         whether to store the previous status in the consent amendment history
+     * @return IDs of the expired consents
+     * @throws ConsentManagementException thrown if any error occurs in the process
+     */
+    ArrayList<String> expireConsents(ArrayList<String> consentIDs, String statusesEligibleForExpiration,
+                                     String expiredConsentStatus, boolean storeAmendmentHistory)
+            throws ConsentManagementException;
+
 }
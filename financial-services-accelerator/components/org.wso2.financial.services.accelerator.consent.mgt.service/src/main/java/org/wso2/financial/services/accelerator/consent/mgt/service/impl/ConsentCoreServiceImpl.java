@@ -24,29 +24,34 @@ import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentExportHandler;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataDeletionException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataInsertionException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAmendmentHistory;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchCursor;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
 import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentCoreServiceUtil;
-import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationUtil;
 
+import java.io.IOException;
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -98,6 +103,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                         .createAuthorizableConsentWithAuditRecord(connection, consentCoreDAO, consentResource,
                                 userID, authStatus, authType, isImplicitAuth);
                 DatabaseUtils.commitTransaction(connection);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return detailedConsentResource;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -156,6 +162,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit the transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return storedDetailedConsentResource;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -278,6 +285,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
 
                 DatabaseUtils.commitTransaction(connection);
                 log.debug("Stored DetailedConsentResource with audit successfully");
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return detailedConsentResource;
 
             } catch (ConsentDataInsertionException e) {
@@ -365,6 +373,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
             DatabaseUtils.commitTransaction(connection);
             log.debug("Updated the basic consent details, consent attributes, authorization resources and " +
                     "mapping resource successfully.");
+            ConsentCoreServiceUtil.requestStateChangeEventPublication();
 
             return getDetailedConsent(consentIdToUpdate);
 
@@ -450,6 +459,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
 
                 DatabaseUtils.commitTransaction(connection);
                 log.debug("Updated consent and created authorization and mapping records successfully.");
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return detailedConsentResource;
 
             } catch (ConsentDataInsertionException | ConsentDataUpdationException e) {
@@ -589,6 +599,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -990,6 +1001,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return true;
             } catch (ConsentDataInsertionException e) {
                 log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
@@ -1054,6 +1066,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
 
                 return existingConsentResource;
             } catch (ConsentDataRetrievalException e) {
@@ -1364,9 +1377,13 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                                 " is not a member of the consent user list");
                         throw new ConsentManagementException(ConsentMgtErrorCodes.BAD_REQUEST, errorMsg);
                     }
+                    // Record the token revocation of each user, the tokens are revoked after the commit
+                    List<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
                     for (String user : consentUserIDSet) {
-                        TokenRevocationUtil.revokeTokens(retrievedDetailedConsentResource, user);
+                        revocationRecords.add(new ConsentTokenRevocationRecord(consentID,
+                                retrievedDetailedConsentResource.getClientID(), user));
                     }
+                    consentCoreDAO.storeTokenRevocationRecords(connection, revocationRecords);
                 }
 
                 ArrayList<ConsentMappingResource> consentMappingResources = retrievedDetailedConsentResource
@@ -1408,6 +1425,10 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 //Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
+                if (shouldRevokeTokens) {
+                    ConsentCoreServiceUtil.requestTokenRevocation();
+                }
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
                 if (ConsentMgtDAOConstants.NO_RECORDS_FOUND_ERROR_MSG.equals(e.getMessage())) {
@@ -1423,11 +1444,6 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
                 DatabaseUtils.rollbackTransaction(connection);
                 throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
-            } catch (IdentityOAuth2Exception e) {
-                log.error(String.format("Error while revoking tokens for the consent ID: %s",
-                        consentID.replaceAll("[\r\n]", "")), e);
-                throw new ConsentManagementException("Error occurred while revoking tokens for the consent ID: "
-                        + consentID);
             }
         } finally {
             log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
@@ -1471,6 +1487,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                                 consentStatusesList, userIDsList, null, null, null, null);
 
                 // Revoke existing consents and create audit records
+                List<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
                 for (DetailedConsentResource resource : retrievedDetailedConsentResources) {
                     String previousConsentStatus = resource.getCurrentStatus();
 
@@ -1482,7 +1499,8 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                     consentCoreDAO.updateConsentStatus(connection, resource.getConsentID(), revokedConsentStatus);
 
                     if (shouldRevokeTokens) {
-                        TokenRevocationUtil.revokeTokens(resource, userID);
+                        revocationRecords.add(new ConsentTokenRevocationRecord(resource.getConsentID(),
+                                resource.getClientID(), userID));
                     }
 
                     // Create an audit record for consent update
@@ -1512,9 +1530,16 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 consentCoreDAO.updateConsentMappingStatus(connection, accountMappingIDsList,
                         ConsentCoreServiceConstants.INACTIVE_MAPPING_STATUS);
 
+                // Record the token revocations, the tokens are revoked after the commit
+                consentCoreDAO.storeTokenRevocationRecords(connection, revocationRecords);
+
                 //Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
+                if (!revocationRecords.isEmpty()) {
+                    ConsentCoreServiceUtil.requestTokenRevocation();
+                }
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1527,9 +1552,6 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
                 DatabaseUtils.rollbackTransaction(connection);
                 throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
-            } catch (IdentityOAuth2Exception e) {
-                log.error("Error while revoking tokens for existing consents", e);
-                throw new ConsentManagementException("Error occurred while revoking tokens for existing consents");
             }
         } finally {
             log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
@@ -1578,6 +1600,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -1673,6 +1696,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transactions
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return true;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -2052,6 +2076,59 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         }
     }
 
+    @Override
+    public ArrayList<ConsentTokenRevocationRecord> getTokenRevocationStatus(String consentID)
+            throws ConsentManagementException {
+
+        if (StringUtils.isBlank(consentID)) {
+            log.error(ConsentCoreServiceConstants.CONSENT_ID_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentMgtErrorCodes.BAD_REQUEST,
+                    ConsentCoreServiceConstants.CONSENT_ID_MISSING_ERROR_MSG);
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Retrieving the token revocation status of the consent ID: %s",
+                        consentID.replaceAll("[\r\n]", "")));
+            }
+            return consentCoreDAO.getTokenRevocationRecords(connection, consentID);
+
+        } catch (ConsentDataRetrievalException e) {
+            log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public void exportConsentStatusAuditRecords(ArrayList<String> consentIDs, String statusAuditID, int batchSize,
+                                                ConsentExportHandler<ConsentStatusAuditRecord> handler)
+            throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+        try {
+            log.debug("Exporting consent status audit records");
+            consentCoreDAO.exportConsentStatusAuditRecords(connection, consentIDs, statusAuditID, batchSize,
+                    handler);
+
+        } catch (ConsentDataRetrievalException e) {
+            log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+            throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     @Override
     public boolean storeConsentAmendmentHistory(String consentID, ConsentHistoryResource consentHistoryResource,
                                                 DetailedConsentResource detailedCurrentConsent)
@@ -2219,6 +2296,197 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         return detailedConsentResources;
     }
 
+    @Override
+    public ArrayList<DetailedConsentResource> searchDetailedConsentsByCursor(ArrayList<String> consentIDs,
+                                                                             ArrayList<String> clientIDs,
+                                                                             ArrayList<String> consentTypes,
+                                                                             ArrayList<String> consentStatuses,
+                                                                             ArrayList<String> userIDs, Long fromTime,
+                                                                             Long toTime, Integer limit,
+                                                                             ConsentSearchCursor cursor)
+            throws ConsentManagementException {
+
+        ArrayList<DetailedConsentResource> detailedConsentResources;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Searching detailed consents by cursor");
+                detailedConsentResources = consentCoreDAO.searchConsentsByCursor(connection, consentIDs, clientIDs,
+                        consentTypes, consentStatuses, userIDs, fromTime, toTime, limit, cursor);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return detailedConsentResources;
+    }
+
+    @Override
+    public int countDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                     ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                     ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime,
+                                     Long toTime)
+            throws ConsentManagementException {
+
+        int consentCount;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Counting detailed consents");
+                consentCount = consentCoreDAO.countConsents(connection, consentIDs, clientIDs, consentTypes,
+                        consentStatuses, userIDs, accountIDs, fromTime, toTime);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return consentCount;
+    }
+
+    @Override
+    public ConsentSearchResult searchDetailedConsentsWithTotal(ArrayList<String> consentIDs,
+                                                               ArrayList<String> clientIDs,
+                                                               ArrayList<String> consentTypes,
+                                                               ArrayList<String> consentStatuses,
+                                                               ArrayList<String> userIDs,
+                                                               ArrayList<String> accountIDs, Long fromTime,
+                                                               Long toTime, Integer limit, Integer offset,
+                                                               ConsentSearchCursor cursor)
+            throws ConsentManagementException {
+
+        ConsentSearchResult consentSearchResult;
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Searching detailed consents with the total");
+                consentSearchResult = consentCoreDAO.searchConsentsWithTotal(connection, consentIDs, clientIDs,
+                        consentTypes, consentStatuses, userIDs, accountIDs, fromTime, toTime, limit, offset, cursor);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+        return consentSearchResult;
+    }
+
+    @Override
+    public void exportDetailedConsents(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                       ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                       ArrayList<String> userIDs, ArrayList<String> accountIDs, Long fromTime,
+                                       Long toTime, ConsentSearchCursor cursor, int batchSize,
+                                       ConsentExportHandler<DetailedConsentResource> handler)
+            throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Exporting detailed consents");
+                consentCoreDAO.exportConsents(connection, consentIDs, clientIDs, consentTypes, consentStatuses,
+                        userIDs, accountIDs, fromTime, toTime, cursor, batchSize, handler);
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DETAIL_CONSENT_SEARCH_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public void exportConsentAmendmentHistory(ArrayList<String> consentIDs, ArrayList<String> clientIDs,
+                                              ArrayList<String> consentTypes, ArrayList<String> consentStatuses,
+                                              ArrayList<String> userIDs, ArrayList<String> accountIDs,
+                                              Long fromTime, Long toTime, ConsentSearchCursor cursor,
+                                              int batchSize, ConsentExportHandler<ConsentAmendmentHistory> handler)
+            throws ConsentManagementException {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            try {
+                ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+
+                log.debug("Exporting consent amendment history");
+                // The history of a consent is built from the exported consent, as in getConsentAmendmentHistoryData
+                consentCoreDAO.exportConsents(connection, consentIDs, clientIDs, consentTypes, consentStatuses,
+                        userIDs, accountIDs, fromTime, toTime, cursor, batchSize, currentConsentResource -> {
+                            Map<String, ConsentHistoryResource> consentAmendmentHistory = new LinkedHashMap<>();
+                            try {
+                                Map<String, ConsentHistoryResource> consentAmendmentHistoryRetrievalResult =
+                                        consentCoreDAO.retrieveConsentAmendmentHistory(connection,
+                                                ConsentCoreServiceUtil.getRecordIdListForConsentHistoryRetrieval(
+                                                        currentConsentResource));
+                                if (!consentAmendmentHistoryRetrievalResult.isEmpty()) {
+                                    consentAmendmentHistory = ConsentCoreServiceUtil
+                                            .processConsentAmendmentHistoryData(
+                                                    consentAmendmentHistoryRetrievalResult, currentConsentResource);
+                                }
+                            } catch (ConsentDataRetrievalException | ConsentManagementException e) {
+                                throw new IOException(e.getMessage(), e);
+                            }
+                            handler.handle(new ConsentAmendmentHistory(currentConsentResource,
+                                    consentAmendmentHistory));
+                        });
+
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+
+            // Commit transactions
+            DatabaseUtils.commitTransaction(connection);
+            log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     @Override
     public ConsentResource amendConsentData(String consentID, String consentReceipt, Long consentValidityTime,
                                             String userID)
@@ -2268,6 +2536,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
                 // Commit transaction
                 DatabaseUtils.commitTransaction(connection);
                 log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
                 return consentResource;
             } catch (ConsentDataRetrievalException e) {
                 log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -2367,6 +2636,7 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
             // Commit transactions
             DatabaseUtils.commitTransaction(connection);
             log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+            ConsentCoreServiceUtil.requestStateChangeEventPublication();
             return newDetailedConsentResource;
         } catch (ConsentDataRetrievalException e) {
             log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
@@ -2420,6 +2690,141 @@ public class ConsentCoreServiceImpl implements ConsentCoreService {
         }
     }
 
+    @Override
+    public ArrayList<ConsentResource> getConsentsEligibleForExpiration(String statusesEligibleForExpiration,
+                                                                       long expiryTime, ConsentResource lastConsent,
+                                                                       int limit)
+            throws ConsentManagementException {
+
+        List<String> statuses = getStatusList(statusesEligibleForExpiration);
+        if (statuses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                log.debug("Retrieving a page of consents eligible for expiration.");
+                ArrayList<ConsentResource> expiringConsents = consentCoreDAO.getExpiringConsentsPage(connection,
+                        statuses, expiryTime, lastConsent, limit);
+                // Commit transactions
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                return expiringConsents;
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    @Override
+    public ArrayList<String> expireConsents(ArrayList<String> consentIDs, String statusesEligibleForExpiration,
+                                            String expiredConsentStatus, boolean storeAmendmentHistory)
+            throws ConsentManagementException {
+
+        if (StringUtils.isBlank(expiredConsentStatus)) {
+            log.error(ConsentCoreServiceConstants.CONSENT_STATUS_MISSING_ERROR_MSG);
+            throw new ConsentManagementException(ConsentMgtErrorCodes.BAD_REQUEST,
+                    ConsentCoreServiceConstants.CONSENT_STATUS_MISSING_ERROR_MSG);
+        }
+        List<String> statuses = getStatusList(statusesEligibleForExpiration);
+        if (CollectionUtils.isEmpty(consentIDs) || statuses.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            try {
+                ArrayList<DetailedConsentResource> consents = consentCoreDAO.searchConsents(connection, consentIDs,
+                        null, null, null, null, null, null, null, null);
+
+                // The status or the validity time may have changed after the consents were selected
+                long currentTime = System.currentTimeMillis() / 1000;
+                ArrayList<String> expiredConsentIDs = new ArrayList<>();
+                List<ConsentStatusAuditRecord> auditRecords = new ArrayList<>();
+                List<ConsentStateChangeEvent> stateChangeEvents = new ArrayList<>();
+                Map<String, String> changedConsentDataByConsent = new LinkedHashMap<>();
+                String auditMessage = "Consent status updated to " + expiredConsentStatus;
+                for (DetailedConsentResource consent : consents) {
+                    if (!statuses.contains(consent.getCurrentStatus()) || consent.getValidityPeriod() <= 0 ||
+                            consent.getValidityPeriod() > currentTime) {
+                        continue;
+                    }
+                    expiredConsentIDs.add(consent.getConsentID());
+                    for (AuthorizationResource authResource : consent.getAuthorizationResources()) {
+                        String actionBy = StringUtils.isNotEmpty(authResource.getUserID()) ?
+                                authResource.getUserID() : null;
+                        auditRecords.add(new ConsentStatusAuditRecord(consent.getConsentID(), expiredConsentStatus,
+                                currentTime, auditMessage, actionBy, consent.getCurrentStatus()));
+                    }
+                    stateChangeEvents.add(new ConsentStateChangeEvent(consent.getConsentID(), consent.getClientID(),
+                            null, consent.getCurrentStatus(), expiredConsentStatus, auditMessage));
+                    JSONObject changedConsentDataJson = new JSONObject();
+                    changedConsentDataJson.put(ConsentCoreServiceConstants.UPDATED_TIME,
+                            String.valueOf(consent.getUpdatedTime()));
+                    changedConsentDataJson.put(ConsentCoreServiceConstants.CURRENT_STATUS,
+                            consent.getCurrentStatus());
+                    changedConsentDataByConsent.put(consent.getConsentID(), changedConsentDataJson.toJSONString());
+                }
+                if (expiredConsentIDs.isEmpty()) {
+                    return expiredConsentIDs;
+                }
+
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Updating the status of %d expired consents", expiredConsentIDs.size()));
+                }
+                consentCoreDAO.updateConsentStatuses(connection, expiredConsentIDs, expiredConsentStatus);
+                consentCoreDAO.storeConsentStatusAuditRecords(connection, auditRecords);
+                ConsentCoreServiceUtil.storeStateChangeEvents(connection, consentCoreDAO, stateChangeEvents);
+                if (storeAmendmentHistory) {
+                    // The previous status is stored in the consent history to back-track the status of the consent
+                    consentCoreDAO.storeConsentAmendmentHistoryRecords(connection, currentTime,
+                            ConsentCoreServiceConstants.TYPE_CONSENT_BASIC_DATA, changedConsentDataByConsent,
+                            ConsentCoreServiceConstants.AMENDMENT_REASON_CONSENT_EXPIRATION);
+                }
+
+                // Commit transaction
+                DatabaseUtils.commitTransaction(connection);
+                log.debug(ConsentCoreServiceConstants.TRANSACTION_COMMITTED_LOG_MSG);
+                ConsentCoreServiceUtil.requestStateChangeEventPublication();
+                return expiredConsentIDs;
+            } catch (ConsentDataRetrievalException e) {
+                log.error(ConsentCoreServiceConstants.DATA_RETRIEVE_ERROR_MSG, e);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            } catch (ConsentDataInsertionException e) {
+                log.error(ConsentCoreServiceConstants.DATA_INSERTION_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            } catch (ConsentDataUpdationException e) {
+                log.error(ConsentCoreServiceConstants.DATA_UPDATE_ROLLBACK_ERROR_MSG, e);
+                DatabaseUtils.rollbackTransaction(connection);
+                throw new ConsentManagementException(ConsentMgtErrorCodes.INTERNAL_ERROR, e.getMessage(), e);
+            }
+        } finally {
+            log.debug(ConsentCoreServiceConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    private static List<String> getStatusList(String statuses) {
+
+        List<String> statusList = new ArrayList<>();
+        if (StringUtils.isNotBlank(statuses)) {
+            for (String status : statuses.split(",")) {
+                if (StringUtils.isNotBlank(status)) {
+                    statusList.add(status.trim());
+                }
+            }
+        }
+        return statusList;
+    }
+
     private boolean isValidUserID(String requestUserID, Set<String> consentUserIDSet) {
         if (StringUtils.isEmpty(requestUserID)) {
             // userId not present in request query parameters, can use consentUserID to revoke tokens
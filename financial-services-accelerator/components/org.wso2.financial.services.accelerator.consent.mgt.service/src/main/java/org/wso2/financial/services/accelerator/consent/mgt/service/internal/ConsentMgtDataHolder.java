@@ -19,6 +19,12 @@
 package org.wso2.financial.services.accelerator.consent.mgt.service.internal;
 
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentStateChangeListener;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentStateChangeEventRelay;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationWorker;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * Data holder for consent management service.
@@ -26,6 +32,9 @@ import org.wso2.carbon.identity.oauth2.OAuth2Service;
 public class ConsentMgtDataHolder {
 
     private OAuth2Service oAuth2Service;
+    private TokenRevocationWorker tokenRevocationWorker;
+    private ConsentStateChangeEventRelay consentStateChangeEventRelay;
+    private final List<ConsentStateChangeListener> consentStateChangeListeners = new CopyOnWriteArrayList<>();
     private static volatile ConsentMgtDataHolder instance;
 
     public static ConsentMgtDataHolder getInstance() {
@@ -49,4 +58,39 @@ public class ConsentMgtDataHolder {
 
         this.oAuth2Service = oAuth2Service;
     }
+
+    public TokenRevocationWorker getTokenRevocationWorker() {
+
+        return tokenRevocationWorker;
+    }
+
+    public void setTokenRevocationWorker(TokenRevocationWorker tokenRevocationWorker) {
+
+        this.tokenRevocationWorker = tokenRevocationWorker;
+    }
+
+    public ConsentStateChangeEventRelay getConsentStateChangeEventRelay() {
+
+        return consentStateChangeEventRelay;
+    }
+
+    public void setConsentStateChangeEventRelay(ConsentStateChangeEventRelay consentStateChangeEventRelay) {
+
+        this.consentStateChangeEventRelay = consentStateChangeEventRelay;
+    }
+
+    public List<ConsentStateChangeListener> getConsentStateChangeListeners() {
+
+        return consentStateChangeListeners;
+    }
+
+    public void addConsentStateChangeListener(ConsentStateChangeListener consentStateChangeListener) {
+
+        consentStateChangeListeners.add(consentStateChangeListener);
+    }
+
+    public void removeConsentStateChangeListener(ConsentStateChangeListener consentStateChangeListener) {
+
+        consentStateChangeListeners.remove(consentStateChangeListener);
+    }
 }
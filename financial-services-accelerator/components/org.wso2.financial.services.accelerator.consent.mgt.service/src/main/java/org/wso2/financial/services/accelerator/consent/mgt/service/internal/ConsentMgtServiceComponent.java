@@ -18,6 +18,7 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.service.internal;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
@@ -29,10 +30,20 @@ import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementRuntimeException;
+import org.wso2.financial.services.accelerator.common.persistence.DatabaseIndexValidator;
 import org.wso2.financial.services.accelerator.common.persistence.JDBCPersistenceManager;
+import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
 import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentEventBrokerAdapter;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentStateChangeListener;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentStateChangeEventRelay;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationUtil;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationWorker;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 
 /**
@@ -60,6 +71,36 @@ public class ConsentMgtServiceComponent {
             log.error("Database connection is not active, cannot proceed");
         }
 
+        // Report the secondary indexes missing in databases created with an earlier version
+        try (Connection connection = JDBCPersistenceManager.getInstance().getDBConnection()) {
+            DatabaseIndexValidator.logMissingIndexes(connection, ConsentMgtDAOConstants.SECONDARY_INDEXES,
+                    "consent");
+        } catch (SQLException | ConsentManagementRuntimeException e) {
+            log.warn("Unable to obtain a database connection to verify the consent database indexes");
+        }
+
+        // Revoke the tokens of revoked consents in the background
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        TokenRevocationWorker tokenRevocationWorker = new TokenRevocationWorker(TokenRevocationUtil::revokeTokens,
+                configParser.getTokenRevocationBatchSize(), configParser.getTokenRevocationPollInterval(),
+                configParser.getTokenRevocationMaxAttempts(), configParser.getTokenRevocationRetryInterval());
+        ConsentMgtDataHolder.getInstance().setTokenRevocationWorker(tokenRevocationWorker);
+        tokenRevocationWorker.start();
+
+        // Publish the consent state changes recorded in the event outbox to the listeners in the background
+        if (configParser.isStateChangeEventEnabled()) {
+            String brokerAdapterClass = configParser.getStateChangeEventBrokerAdapter();
+            ConsentEventBrokerAdapter brokerAdapter = StringUtils.isNotBlank(brokerAdapterClass) ?
+                    FinancialServicesUtils.getClassInstanceFromFQN(brokerAdapterClass,
+                            ConsentEventBrokerAdapter.class) : null;
+            ConsentStateChangeEventRelay eventRelay = new ConsentStateChangeEventRelay(
+                    ConsentMgtDataHolder.getInstance().getConsentStateChangeListeners(), brokerAdapter,
+                    configParser.getStateChangeEventBatchSize(), configParser.getStateChangeEventPollInterval(),
+                    configParser.getStateChangeEventMaxAttempts(), configParser.getStateChangeEventRetryInterval());
+            ConsentMgtDataHolder.getInstance().setConsentStateChangeEventRelay(eventRelay);
+            eventRelay.start();
+        }
+
         context.getBundleContext().registerService(ConsentCoreService.class.getName(), consentCoreService, null);
         log.debug("Consent Management Service is registered successfully.");
     }
@@ -67,6 +108,16 @@ public class ConsentMgtServiceComponent {
     @Deactivate
     protected void deactivate(ComponentContext ctxt) {
 
+        TokenRevocationWorker tokenRevocationWorker = ConsentMgtDataHolder.getInstance().getTokenRevocationWorker();
+        if (tokenRevocationWorker != null) {
+            tokenRevocationWorker.shutdown();
+            ConsentMgtDataHolder.getInstance().setTokenRevocationWorker(null);
+        }
+        ConsentStateChangeEventRelay eventRelay = ConsentMgtDataHolder.getInstance().getConsentStateChangeEventRelay();
+        if (eventRelay != null) {
+            eventRelay.shutdown();
+            ConsentMgtDataHolder.getInstance().setConsentStateChangeEventRelay(null);
+        }
          log.debug("Consent Management Service is deactivated");
     }
 
@@ -87,4 +138,22 @@ public class ConsentMgtServiceComponent {
 
         ConsentMgtDataHolder.getInstance().setOAuth2Service(oAuth2Service);
     }
+
+    @Reference(
+            name = "consent.state.change.listener",
+            service = ConsentStateChangeListener.class,
+            cardinality = ReferenceCardinality.MULTIPLE,
+            policy = ReferencePolicy.DYNAMIC,
+            unbind = "removeConsentStateChangeListener"
+    )
+    protected void addConsentStateChangeListener(ConsentStateChangeListener consentStateChangeListener) {
+
+        ConsentMgtDataHolder.getInstance().addConsentStateChangeListener(consentStateChangeListener);
+        log.debug("Consent state change listener is registered");
+    }
+
+    protected void removeConsentStateChangeListener(ConsentStateChangeListener consentStateChangeListener) {
+
+        ConsentMgtDataHolder.getInstance().removeConsentStateChangeListener(consentStateChangeListener);
+    }
 }
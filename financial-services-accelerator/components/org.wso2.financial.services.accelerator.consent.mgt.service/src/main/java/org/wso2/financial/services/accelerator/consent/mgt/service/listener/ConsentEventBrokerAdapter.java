@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.listener;
+
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
+
+/**
+ * Adapter publishing consent state change events to an external message broker.
+ * <p>
+ * The adapter is configured by its fully qualified class name and is instantiated through its default constructor.
+ * It is called after the in-process listeners with the same ordering and at least once delivery guarantees.
+ */
+public interface ConsentEventBrokerAdapter {
+
+    /**
+     * Publish a consent state change event to the broker.
+     *
+     * @param stateChangeEvent consent state change event
+     * @throws ConsentManagementException if the event cannot be published and the publication should be retried
+     */
+    void publish(ConsentStateChangeEvent stateChangeEvent) throws ConsentManagementException;
+}
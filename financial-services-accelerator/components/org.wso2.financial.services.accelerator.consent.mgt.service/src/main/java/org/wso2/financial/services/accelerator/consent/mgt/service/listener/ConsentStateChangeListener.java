@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.listener;
+
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
+
+/**
+ * Listener notified of consent state changes.
+ * <p>
+ * Listeners are registered as OSGi services and are notified by the consent state change event relay after the
+ * status change is committed. The events of a consent are delivered in the order of the changes. An event is
+ * delivered at least once, so a listener may receive an event again if the delivery to any listener fails or the
+ * node stops during the delivery, and should be idempotent by the event ID.
+ */
+public interface ConsentStateChangeListener {
+
+    /**
+     * Handle a consent state change.
+     *
+     * @param stateChangeEvent consent state change event
+     * @throws ConsentManagementException if the event cannot be handled and the delivery should be retried
+     */
+    void onStateChange(ConsentStateChangeEvent stateChangeEvent) throws ConsentManagementException;
+}
@@ -38,12 +38,15 @@ import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAtt
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.service.internal.ConsentMgtDataHolder;
 
 import java.sql.Connection;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
@@ -222,7 +225,7 @@ public class ConsentCoreServiceUtil {
     }
 
     /**
-     * Method to create an audit record in post consent state change.
+     * Method to create an audit record and a state change event in post consent state change.
      *
      * @param connection              Database connection
      * @param consentCoreDAO          Consent core DAO
@@ -232,8 +235,8 @@ public class ConsentCoreServiceUtil {
      * @param previousConsentStatus   Previous consent status
      * @param reason                  Reason for the status change
      * @param clientId                Client ID
-     * @param consentDataMap          Consent data map
-     * @throws ConsentDataInsertionException If an error occurs when storing the audit record
+     * @param consentDataMap          Consent data map, stored with the state change event
+     * @throws ConsentDataInsertionException If an error occurs when storing the audit record or the event
      * @throws ConsentManagementException    Consent management exception
      */
     public static void postStateChange(Connection connection, ConsentCoreDAO consentCoreDAO, String consentID,
@@ -243,9 +246,37 @@ public class ConsentCoreServiceUtil {
 
         createAuditRecord(connection, consentCoreDAO, consentID, userID, newConsentStatus, previousConsentStatus,
                 reason);
-        // TODO: Uncomment and test when ConsentStateChangeListenerImpl is implemented
-//        ConsentStateChangeListenerImpl.getInstance().onStateChange(consentID, userID, newConsentStatus,
-//                previousConsentStatus, reason, clientId, consentDataMap);
+        String actionBy = StringUtils.isNotEmpty(userID) ? userID : null;
+        ConsentStateChangeEvent stateChangeEvent = new ConsentStateChangeEvent(consentID, clientId, actionBy,
+                previousConsentStatus, newConsentStatus, reason);
+        // The event is published after the transaction, so the consent data is stored with the event as JSON
+        if (MapUtils.isNotEmpty(consentDataMap)) {
+            stateChangeEvent.setConsentData(new Gson().toJson(consentDataMap));
+        }
+        storeStateChangeEvents(connection, consentCoreDAO, Collections.singletonList(stateChangeEvent));
+    }
+
+    /**
+     * Store the consent state change events in the event outbox, in the transaction of the status change, to be
+     * published to the state change listeners once the transaction is committed. The events are not stored if the
+     * state change events are disabled.
+     *
+     * @param connection         database connection
+     * @param consentCoreDAO     consent core DAO
+     * @param stateChangeEvents  state change events in the order of the changes
+     * @throws ConsentDataInsertionException thrown if an error occurs when storing the events
+     */
+    public static void storeStateChangeEvents(Connection connection, ConsentCoreDAO consentCoreDAO,
+                                              List<ConsentStateChangeEvent> stateChangeEvents)
+            throws ConsentDataInsertionException {
+
+        if (ConsentMgtDataHolder.getInstance().getConsentStateChangeEventRelay() == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Storing %d consent state change events", stateChangeEvents.size()));
+        }
+        consentCoreDAO.storeConsentStateChangeEvents(connection, stateChangeEvents);
     }
 
     /**
@@ -905,4 +936,26 @@ public class ConsentCoreServiceUtil {
         }
         consentCoreDAO.storeConsentMappingResources(connection, mappingResources);
     }
+
+    /**
+     * Method to wake the token revocation worker once the revocation records are committed.
+     */
+    public static void requestTokenRevocation() {
+
+        TokenRevocationWorker tokenRevocationWorker = ConsentMgtDataHolder.getInstance().getTokenRevocationWorker();
+        if (tokenRevocationWorker != null) {
+            tokenRevocationWorker.requestRun();
+        }
+    }
+
+    /**
+     * Method to wake the consent state change event relay once the state change events are committed.
+     */
+    public static void requestStateChangeEventPublication() {
+
+        ConsentStateChangeEventRelay eventRelay = ConsentMgtDataHolder.getInstance().getConsentStateChangeEventRelay();
+        if (eventRelay != null) {
+            eventRelay.requestRun();
+        }
+    }
 }
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataDeletionException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentEventBrokerAdapter;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentStateChangeListener;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Publishes consent state change events to the registered listeners in the background.
+ * <p>
+ * A consent state change stores an event in the event outbox in the same transaction as the status change, so an
+ * event is published only if the change is committed and is not lost if the node stops before publishing it. The
+ * relay polls the earliest pending event of each consent in batches, claims each event by incrementing its attempt
+ * count so that only one node publishes it, and moves its next attempt time forward by a lease so that an event is
+ * published again if the node stops during the attempt. The later events of a consent are not retrieved until the
+ * earlier event is published, which keeps the events of a consent in order. A published event is removed from the
+ * outbox. A failed attempt is retried with an exponentially increasing delay until the maximum number of attempts is
+ * reached, after which the event is marked as failed and the later events of the consent are published.
+ */
+public class ConsentStateChangeEventRelay {
+
+    private static final Log log = LogFactory.getLog(ConsentStateChangeEventRelay.class);
+    // Time after which a claimed event is published again if the attempt does not complete
+    private static final long LEASE_DURATION_SECONDS = 300;
+    private static final long MAX_RETRY_INTERVAL_SECONDS = 3600;
+
+    private final Collection<ConsentStateChangeListener> listeners;
+    private final ConsentEventBrokerAdapter brokerAdapter;
+    private final int batchSize;
+    private final long pollIntervalSeconds;
+    private final int maxAttempts;
+    private final long retryIntervalSeconds;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean runRequested = new AtomicBoolean();
+
+    /**
+     * Create an event relay.
+     *
+     * @param listeners            listeners to publish the events to, read on each publication
+     * @param brokerAdapter        broker adapter to publish the events to, or null if no broker is configured
+     * @param batchSize            maximum number of events claimed at once
+     * @param pollIntervalSeconds  interval at which the pending events are polled
+     * @param maxAttempts          number of attempts before an event is marked as failed
+     * @param retryIntervalSeconds delay before the first retry of a failed event
+     */
+    public ConsentStateChangeEventRelay(Collection<ConsentStateChangeListener> listeners,
+                                        ConsentEventBrokerAdapter brokerAdapter, int batchSize,
+                                        long pollIntervalSeconds, int maxAttempts, long retryIntervalSeconds) {
+
+        this.listeners = listeners;
+        this.brokerAdapter = brokerAdapter;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalSeconds = Math.max(1, pollIntervalSeconds);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryIntervalSeconds = Math.max(1, retryIntervalSeconds);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fs-consent-event-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start polling the pending consent state change events.
+     */
+    public void start() {
+
+        executor.scheduleWithFixedDelay(this::run, pollIntervalSeconds, pollIntervalSeconds, TimeUnit.SECONDS);
+        log.debug("Consent state change event relay is started");
+    }
+
+    /**
+     * Request the pending events to be published without waiting for the next poll. Requests made while a run is
+     * already requested are merged into that run.
+     */
+    public void requestRun() {
+
+        if (runRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                runRequested.set(false);
+                log.debug("Consent state change event relay is shut down, the event is published on the next start");
+            }
+        }
+    }
+
+    /**
+     * Stop the relay. An attempt in progress is interrupted and retried once its lease expires.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+        log.debug("Consent state change event relay is shut down");
+    }
+
+    /**
+     * Publish the due events in batches until no due event is left.
+     *
+     * @return number of published events
+     */
+    public int publishDueEvents() {
+
+        int publishedCount = 0;
+        int retrievedCount;
+        int batchPublishedCount;
+        do {
+            List<ConsentStateChangeEvent> claimedEvents = new ArrayList<>();
+            retrievedCount = claimDueEvents(claimedEvents);
+            batchPublishedCount = 0;
+            for (ConsentStateChangeEvent stateChangeEvent : claimedEvents) {
+                if (publish(stateChangeEvent)) {
+                    batchPublishedCount++;
+                }
+            }
+            publishedCount += batchPublishedCount;
+            // A published event makes the next event of its consent due
+        } while ((batchPublishedCount > 0 || retrievedCount == batchSize) && !Thread.currentThread().isInterrupted());
+        return publishedCount;
+    }
+
+    private void run() {
+
+        runRequested.set(false);
+        try {
+            int publishedCount = publishDueEvents();
+            if (publishedCount > 0 && log.isDebugEnabled()) {
+                log.debug(String.format("Published %d consent state change events", publishedCount));
+            }
+        } catch (RuntimeException e) {
+            // The scheduled task is cancelled if an exception is propagated
+            log.error("Error while publishing the pending consent state change events", e);
+        }
+    }
+
+    /**
+     * Retrieve a batch of due events and claim them in one transaction.
+     *
+     * @param claimedEvents list to which the claimed events are added
+     * @return number of retrieved events, including the events claimed by other nodes
+     */
+    private int claimDueEvents(List<ConsentStateChangeEvent> claimedEvents) {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            long currentTime = System.currentTimeMillis() / 1000;
+            List<ConsentStateChangeEvent> dueEvents =
+                    consentCoreDAO.getDueConsentStateChangeEvents(connection, currentTime, batchSize);
+            for (ConsentStateChangeEvent dueEvent : dueEvents) {
+                if (consentCoreDAO.claimConsentStateChangeEvent(connection, dueEvent,
+                        currentTime + LEASE_DURATION_SECONDS)) {
+                    claimedEvents.add(dueEvent);
+                }
+            }
+            DatabaseUtils.commitTransaction(connection);
+            return dueEvents.size();
+        } catch (ConsentManagementException | ConsentDataRetrievalException | ConsentDataUpdationException e) {
+            log.error("Error while claiming the pending consent state change events", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            claimedEvents.clear();
+            return 0;
+        } finally {
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    private boolean publish(ConsentStateChangeEvent stateChangeEvent) {
+
+        String consentID = stateChangeEvent.getConsentID().replaceAll("[\r\n]", "");
+        try {
+            for (ConsentStateChangeListener listener : listeners) {
+                listener.onStateChange(stateChangeEvent);
+            }
+            if (brokerAdapter != null) {
+                brokerAdapter.publish(stateChangeEvent);
+            }
+        } catch (ConsentManagementException | RuntimeException e) {
+            stateChangeEvent.setLastError(e.getMessage());
+            if (stateChangeEvent.getAttemptCount() >= maxAttempts) {
+                stateChangeEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_FAILED);
+                log.error(String.format("Publishing the state change event %d of the consent ID: %s failed after %d " +
+                        "attempts", stateChangeEvent.getSequenceNumber(), consentID,
+                        stateChangeEvent.getAttemptCount()), e);
+            } else {
+                stateChangeEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+                stateChangeEvent.setNextAttemptTime(System.currentTimeMillis() / 1000 +
+                        getRetryInterval(stateChangeEvent.getAttemptCount()));
+                log.warn(String.format("Publishing attempt %d of the state change event %d of the consent ID: %s " +
+                        "failed, the event is published again", stateChangeEvent.getAttemptCount(),
+                        stateChangeEvent.getSequenceNumber(), consentID), e);
+            }
+            updateEvent(stateChangeEvent);
+            return false;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Published the state change event %d of the consent ID: %s",
+                    stateChangeEvent.getSequenceNumber(), consentID));
+        }
+        return deleteEvent(stateChangeEvent);
+    }
+
+    private long getRetryInterval(int attemptCount) {
+
+        return Math.min(MAX_RETRY_INTERVAL_SECONDS, retryIntervalSeconds << Math.min(attemptCount - 1, 20));
+    }
+
+    private void updateEvent(ConsentStateChangeEvent stateChangeEvent) {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentStoreInitializer.getInitializedConsentCoreDAOImpl()
+                    .updateConsentStateChangeEvent(connection, stateChangeEvent);
+            DatabaseUtils.commitTransaction(connection);
+        } catch (ConsentManagementException | ConsentDataUpdationException e) {
+            log.error("Error while updating the consent state change event. The event is published again once its " +
+                    "lease expires", e);
+            DatabaseUtils.rollbackTransaction(connection);
+        } finally {
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    private boolean deleteEvent(ConsentStateChangeEvent stateChangeEvent) {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentStoreInitializer.getInitializedConsentCoreDAOImpl()
+                    .deleteConsentStateChangeEvent(connection, stateChangeEvent.getEventID());
+            DatabaseUtils.commitTransaction(connection);
+            return true;
+        } catch (ConsentManagementException | ConsentDataDeletionException e) {
+            log.error("Error while removing the published consent state change event. The event is published again " +
+                    "once its lease expires", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            return false;
+        } finally {
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+}
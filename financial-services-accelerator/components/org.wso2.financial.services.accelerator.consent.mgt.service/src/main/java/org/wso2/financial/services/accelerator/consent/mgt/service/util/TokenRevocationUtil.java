@@ -18,6 +18,7 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.service.util;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.oltu.oauth2.common.message.types.GrantType;
@@ -30,6 +31,8 @@ import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationRequestDTO;
 import org.wso2.carbon.identity.oauth2.dto.OAuthRevocationResponseDTO;
 import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.carbon.user.core.util.UserCoreUtil;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.service.internal.ConsentMgtDataHolder;
@@ -44,59 +47,70 @@ import java.util.Set;
 public class TokenRevocationUtil {
 
     private static final Log log = LogFactory.getLog(TokenRevocationUtil.class);
+    private static final String DEFAULT_CONSENT_ID_CLAIM_NAME = "consent_id";
 
     public static void revokeTokens(DetailedConsentResource detailedConsentResource, String userID)
             throws IdentityOAuth2Exception {
 
+        revokeTokens(detailedConsentResource.getClientID(), detailedConsentResource.getConsentID(), userID);
+    }
+
+    /**
+     * Revoke the tokens issued to a user for a consent. The tokens of the user for the client are filtered by the
+     * consent ID scope, so tokens issued for other consents of the user are not revoked.
+     *
+     * @param clientId  client ID of the consent
+     * @param consentId consent ID
+     * @param userID    user ID
+     * @return number of revoked tokens
+     * @throws IdentityOAuth2Exception if the tokens cannot be retrieved or a token cannot be revoked
+     */
+    public static int revokeTokens(String clientId, String consentId, String userID)
+            throws IdentityOAuth2Exception {
+
         OAuth2Service oAuth2Service = getOAuth2Service();
-        String clientId = detailedConsentResource.getClientID();
-        String consentId = detailedConsentResource.getConsentID();
         AuthenticatedUser authenticatedUser = getAuthenticatedUser(userID);
-        Set<AccessTokenDO> accessTokenDOSet = getAccessTokenDOSet(detailedConsentResource, authenticatedUser);
-
-        //TODO : Get consent id claim name from configuration
-        String consentIdClaim = "consent_id";
-
-        if (!accessTokenDOSet.isEmpty()) {
-            Set<String> activeTokens = new HashSet<>();
-            // Get tokens to revoke to an array
-            for (AccessTokenDO accessTokenDO : accessTokenDOSet) {
-                // Filter tokens by consent ID claim
-                if (Arrays.asList(accessTokenDO.getScope()).contains(consentIdClaim +
-                        detailedConsentResource.getConsentID())) {
-                    activeTokens.add(accessTokenDO.getAccessToken());
-                }
+        Set<AccessTokenDO> accessTokenDOSet = getAccessTokens(clientId, authenticatedUser);
+        String consentIdScope = getConsentIdClaimName() + consentId;
+
+        Set<String> activeTokens = new HashSet<>();
+        // Get tokens to revoke to an array
+        for (AccessTokenDO accessTokenDO : accessTokenDOSet) {
+            // Filter tokens by consent ID claim
+            if (Arrays.asList(accessTokenDO.getScope()).contains(consentIdScope)) {
+                activeTokens.add(accessTokenDO.getAccessToken());
             }
+        }
 
-            if (!activeTokens.isEmpty()) {
-                // set authorization context details for the given user
-                OAuthClientAuthnContext oAuthClientAuthnContext = new OAuthClientAuthnContext();
-                oAuthClientAuthnContext.setAuthenticated(true);
-                oAuthClientAuthnContext.setClientId(clientId);
-                oAuthClientAuthnContext.addParameter("IS_CONSENT_REVOCATION_FLOW", true);
-
-                // set common properties of token revocation request
-                OAuthRevocationRequestDTO revokeRequestDTO = new OAuthRevocationRequestDTO();
-                revokeRequestDTO.setOauthClientAuthnContext(oAuthClientAuthnContext);
-                revokeRequestDTO.setConsumerKey(clientId);
-                revokeRequestDTO.setTokenType(GrantType.REFRESH_TOKEN.toString());
-
-                for (String activeToken : activeTokens) {
-                    // set access token to be revoked
-                    revokeRequestDTO.setToken(activeToken);
-                    OAuthRevocationResponseDTO oAuthRevocationResponseDTO =
-                            revokeTokenByClient(oAuth2Service, revokeRequestDTO);
-
-                    if (oAuthRevocationResponseDTO.isError()) {
-                        log.error(String.format("Error while revoking access token for consent ID: %s",
-                                consentId.replaceAll("[\r\n]", "")));
-                        throw new IdentityOAuth2Exception(
-                                String.format("Error while revoking access token for consent ID: %s. Caused by, %s",
-                                        consentId, oAuthRevocationResponseDTO.getErrorMsg()));
-                    }
+        if (!activeTokens.isEmpty()) {
+            // set authorization context details for the given user
+            OAuthClientAuthnContext oAuthClientAuthnContext = new OAuthClientAuthnContext();
+            oAuthClientAuthnContext.setAuthenticated(true);
+            oAuthClientAuthnContext.setClientId(clientId);
+            oAuthClientAuthnContext.addParameter("IS_CONSENT_REVOCATION_FLOW", true);
+
+            // set common properties of token revocation request
+            OAuthRevocationRequestDTO revokeRequestDTO = new OAuthRevocationRequestDTO();
+            revokeRequestDTO.setOauthClientAuthnContext(oAuthClientAuthnContext);
+            revokeRequestDTO.setConsumerKey(clientId);
+            revokeRequestDTO.setTokenType(GrantType.REFRESH_TOKEN.toString());
+
+            for (String activeToken : activeTokens) {
+                // set access token to be revoked
+                revokeRequestDTO.setToken(activeToken);
+                OAuthRevocationResponseDTO oAuthRevocationResponseDTO =
+                        revokeTokenByClient(oAuth2Service, revokeRequestDTO);
+
+                if (oAuthRevocationResponseDTO.isError()) {
+                    log.error(String.format("Error while revoking access token for consent ID: %s",
+                            consentId.replaceAll("[\r\n]", "")));
+                    throw new IdentityOAuth2Exception(
+                            String.format("Error while revoking access token for consent ID: %s. Caused by, %s",
+                                    consentId, oAuthRevocationResponseDTO.getErrorMsg()));
                 }
             }
         }
+        return activeTokens.size();
     }
 
     @Generated(message = "Excluded from code coverage since used for testing purposes")
@@ -119,9 +133,24 @@ public class TokenRevocationUtil {
     public static Set<AccessTokenDO> getAccessTokenDOSet(DetailedConsentResource detailedConsentResource,
                                                   AuthenticatedUser authenticatedUser) throws IdentityOAuth2Exception {
 
+        return getAccessTokens(detailedConsentResource.getClientID(), authenticatedUser);
+    }
+
+    @Generated(message = "Excluded from code coverage since used for testing purposes")
+    public static Set<AccessTokenDO> getAccessTokens(String clientId, AuthenticatedUser authenticatedUser)
+            throws IdentityOAuth2Exception {
+
         return OAuthTokenPersistenceFactory.getInstance().getAccessTokenDAO()
-                .getAccessTokens(detailedConsentResource.getClientID(), authenticatedUser,
-                        authenticatedUser.getUserStoreDomain(), false);
+                .getAccessTokens(clientId, authenticatedUser, authenticatedUser.getUserStoreDomain(), false);
+    }
+
+    @Generated(message = "Excluded from code coverage since it requires the server configuration")
+    static String getConsentIdClaimName() {
+
+        Object consentIdClaimName = FinancialServicesConfigParser.getInstance().getConfiguration()
+                .get(FinancialServicesConstants.CONSENT_ID_CLAIM_NAME);
+        return consentIdClaimName instanceof String && StringUtils.isNotBlank((String) consentIdClaimName) ?
+                ((String) consentIdClaimName).trim() : DEFAULT_CONSENT_ID_CLAIM_NAME;
     }
 
     @Generated(message = "Excluded from code coverage since used for testing purposes")
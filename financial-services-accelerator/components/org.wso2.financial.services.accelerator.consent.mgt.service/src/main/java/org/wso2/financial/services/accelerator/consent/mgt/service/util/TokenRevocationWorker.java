@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.util;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Revokes the tokens of revoked consents in the background.
+ * <p>
+ * Revoking a consent stores a pending token revocation record for each user of the consent in the same transaction,
+ * so the revocation neither waits for nor depends on the number of tokens issued. The worker polls the due records in
+ * batches, claims each record by incrementing its attempt count so that only one node processes it, and moves its
+ * next attempt time forward by a lease so that a record is retried if the node stops during the attempt. A failed
+ * attempt is retried with an exponentially increasing delay until the maximum number of attempts is reached, after
+ * which the record is marked as failed. The outcome of each record is kept as the revocation status of the consent.
+ */
+public class TokenRevocationWorker {
+
+    private static final Log log = LogFactory.getLog(TokenRevocationWorker.class);
+    // Time after which a claimed record is attempted again if the attempt does not complete
+    private static final long LEASE_DURATION_SECONDS = 300;
+    private static final long MAX_RETRY_INTERVAL_SECONDS = 3600;
+
+    private final TokenRevoker tokenRevoker;
+    private final int batchSize;
+    private final long pollIntervalSeconds;
+    private final int maxAttempts;
+    private final long retryIntervalSeconds;
+    private final ScheduledExecutorService executor;
+    private final AtomicBoolean runRequested = new AtomicBoolean();
+
+    /**
+     * Revokes the tokens issued to a user for a consent.
+     */
+    public interface TokenRevoker {
+
+        int revokeTokens(String clientID, String consentID, String userID) throws IdentityOAuth2Exception;
+    }
+
+    public TokenRevocationWorker(TokenRevoker tokenRevoker, int batchSize, long pollIntervalSeconds,
+                                 int maxAttempts, long retryIntervalSeconds) {
+
+        this.tokenRevoker = tokenRevoker;
+        this.batchSize = Math.max(1, batchSize);
+        this.pollIntervalSeconds = Math.max(1, pollIntervalSeconds);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryIntervalSeconds = Math.max(1, retryIntervalSeconds);
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fs-token-revocation-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Start polling the pending token revocations.
+     */
+    public void start() {
+
+        executor.scheduleWithFixedDelay(this::run, pollIntervalSeconds, pollIntervalSeconds, TimeUnit.SECONDS);
+        log.debug("Token revocation worker is started");
+    }
+
+    /**
+     * Request the pending token revocations to be processed without waiting for the next poll. Requests made while
+     * a run is already requested are merged into that run.
+     */
+    public void requestRun() {
+
+        if (runRequested.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                runRequested.set(false);
+                log.debug("Token revocation worker is shut down, the revocation is processed on the next start");
+            }
+        }
+    }
+
+    /**
+     * Stop the worker. An attempt in progress is interrupted and retried once its lease expires.
+     */
+    public void shutdown() {
+
+        executor.shutdownNow();
+        log.debug("Token revocation worker is shut down");
+    }
+
+    /**
+     * Process the due token revocations in batches until no due revocation is left.
+     *
+     * @return number of processed token revocations
+     */
+    public int processDueRevocations() {
+
+        int processedCount = 0;
+        int retrievedCount;
+        do {
+            List<ConsentTokenRevocationRecord> claimedRecords = new ArrayList<>();
+            retrievedCount = claimDueRevocations(claimedRecords);
+            for (ConsentTokenRevocationRecord revocationRecord : claimedRecords) {
+                revoke(revocationRecord);
+                processedCount++;
+            }
+        } while (retrievedCount == batchSize && !Thread.currentThread().isInterrupted());
+        return processedCount;
+    }
+
+    private void run() {
+
+        runRequested.set(false);
+        try {
+            int processedCount = processDueRevocations();
+            if (processedCount > 0 && log.isDebugEnabled()) {
+                log.debug(String.format("Processed %d token revocations", processedCount));
+            }
+        } catch (RuntimeException e) {
+            // The scheduled task is cancelled if an exception is propagated
+            log.error("Error while processing the pending token revocations", e);
+        }
+    }
+
+    /**
+     * Retrieve a batch of due token revocations and claim them in one transaction.
+     *
+     * @param claimedRecords list to which the claimed records are added
+     * @return number of retrieved records, including the records claimed by other nodes
+     */
+    private int claimDueRevocations(List<ConsentTokenRevocationRecord> claimedRecords) {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentCoreDAO consentCoreDAO = ConsentStoreInitializer.getInitializedConsentCoreDAOImpl();
+            long currentTime = System.currentTimeMillis() / 1000;
+            List<ConsentTokenRevocationRecord> dueRecords =
+                    consentCoreDAO.getDueTokenRevocationRecords(connection, currentTime, batchSize);
+            for (ConsentTokenRevocationRecord dueRecord : dueRecords) {
+                if (consentCoreDAO.claimTokenRevocationRecord(connection, dueRecord,
+                        currentTime + LEASE_DURATION_SECONDS)) {
+                    claimedRecords.add(dueRecord);
+                }
+            }
+            DatabaseUtils.commitTransaction(connection);
+            return dueRecords.size();
+        } catch (ConsentManagementException | ConsentDataRetrievalException | ConsentDataUpdationException e) {
+            log.error("Error while claiming the pending token revocations", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            claimedRecords.clear();
+            return 0;
+        } finally {
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
+    private void revoke(ConsentTokenRevocationRecord revocationRecord) {
+
+        String consentID = revocationRecord.getConsentID().replaceAll("[\r\n]", "");
+        try {
+            int revokedTokenCount = tokenRevoker.revokeTokens(revocationRecord.getClientID(),
+                    revocationRecord.getConsentID(), revocationRecord.getUserID());
+            revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+            revocationRecord.setRevokedTokenCount(revokedTokenCount);
+            revocationRecord.setLastError(null);
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Revoked %d tokens of the consent ID: %s", revokedTokenCount, consentID));
+            }
+        } catch (IdentityOAuth2Exception | RuntimeException e) {
+            revocationRecord.setLastError(e.getMessage());
+            if (revocationRecord.getAttemptCount() >= maxAttempts) {
+                revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_FAILED);
+                log.error(String.format("Token revocation of the consent ID: %s failed after %d attempts", consentID,
+                        revocationRecord.getAttemptCount()), e);
+            } else {
+                revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+                revocationRecord.setNextAttemptTime(System.currentTimeMillis() / 1000 +
+                        getRetryInterval(revocationRecord.getAttemptCount()));
+                log.warn(String.format("Token revocation attempt %d of the consent ID: %s failed, the revocation " +
+                        "is retried", revocationRecord.getAttemptCount(), consentID), e);
+            }
+        }
+        updateRevocation(revocationRecord);
+    }
+
+    private long getRetryInterval(int attemptCount) {
+
+        return Math.min(MAX_RETRY_INTERVAL_SECONDS, retryIntervalSeconds << Math.min(attemptCount - 1, 20));
+    }
+
+    private void updateRevocation(ConsentTokenRevocationRecord revocationRecord) {
+
+        Connection connection = DatabaseUtils.getDBConnection();
+        try {
+            ConsentStoreInitializer.getInitializedConsentCoreDAOImpl()
+                    .updateTokenRevocationRecord(connection, revocationRecord);
+            DatabaseUtils.commitTransaction(connection);
+        } catch (ConsentManagementException | ConsentDataUpdationException e) {
+            log.error("Error while updating the token revocation status. The revocation is attempted again once " +
+                    "its lease expires", e);
+            DatabaseUtils.rollbackTransaction(connection);
+        } finally {
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+}
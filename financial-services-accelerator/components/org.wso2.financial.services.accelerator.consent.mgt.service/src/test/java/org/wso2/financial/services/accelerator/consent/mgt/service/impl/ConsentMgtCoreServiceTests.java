@@ -32,23 +32,29 @@ import org.wso2.carbon.identity.oauth2.model.AccessTokenDO;
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentExportHandler;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataDeletionException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataInsertionException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataUpdationException;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.AuthorizationResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAmendmentHistory;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentAttributes;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentFile;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentHistoryResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentMappingResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentResource;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentSearchResult;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStatusAuditRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.models.DetailedConsentResource;
 import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
 import org.wso2.financial.services.accelerator.consent.mgt.service.constants.ConsentCoreServiceConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.service.internal.ConsentMgtDataHolder;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentMgtServiceTestData;
+import org.wso2.financial.services.accelerator.consent.mgt.service.util.ConsentStateChangeEventRelay;
 import org.wso2.financial.services.accelerator.consent.mgt.service.util.TokenRevocationUtil;
 
 import java.sql.Connection;
@@ -66,6 +72,7 @@ import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
@@ -1526,6 +1533,11 @@ public class ConsentMgtCoreServiceTests {
                         any(ConsentStatusAuditRecord.class));
         doNothing().when(mockedConsentCoreDAO).updateConsentMappingStatus(any(),
                 any(), anyString());
+        List<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
+        doAnswer(invocation -> {
+            revocationRecords.addAll(invocation.getArgument(1));
+            return null;
+        }).when(mockedConsentCoreDAO).storeTokenRevocationRecords(any(), any());
 
         boolean isConsentRevoked = consentCoreServiceImpl.revokeConsent(
                 ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID,
@@ -1533,6 +1545,46 @@ public class ConsentMgtCoreServiceTests {
                 true);
 
         Assert.assertTrue(isConsentRevoked);
+        Assert.assertEquals(revocationRecords.size(), 1);
+        Assert.assertEquals(revocationRecords.get(0).getConsentID(), ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID);
+        Assert.assertEquals(revocationRecords.get(0).getClientID(), retrievedDetailedConsentResource.getClientID());
+        Assert.assertEquals(revocationRecords.get(0).getUserID(), ConsentMgtServiceTestData.SAMPLE_USER_ID);
+    }
+
+    @Test
+    public void testRevokeConsentStoresStateChangeEvent() throws Exception {
+
+        DetailedConsentResource retrievedDetailedConsentResource =
+                ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        ConsentStateChangeEventRelay eventRelayMock = Mockito.mock(ConsentStateChangeEventRelay.class);
+
+        doReturn(retrievedDetailedConsentResource).when(mockedConsentCoreDAO)
+                .getDetailedConsentResource(any(), any());
+        doReturn(eventRelayMock).when(consentManagementDataHolderMock).getConsentStateChangeEventRelay();
+        List<ConsentStateChangeEvent> stateChangeEvents = new ArrayList<>();
+        doAnswer(invocation -> {
+            stateChangeEvents.addAll(invocation.getArgument(1));
+            return null;
+        }).when(mockedConsentCoreDAO).storeConsentStateChangeEvents(any(), any());
+
+        try {
+            consentCoreServiceImpl.revokeConsent(ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID,
+                    ConsentMgtServiceTestData.SAMPLE_CONSUMED_STATUS, ConsentMgtServiceTestData.SAMPLE_USER_ID,
+                    false);
+        } finally {
+            doReturn(null).when(consentManagementDataHolderMock).getConsentStateChangeEventRelay();
+            doNothing().when(mockedConsentCoreDAO).storeConsentStateChangeEvents(any(), any());
+        }
+
+        Assert.assertEquals(stateChangeEvents.size(), 1);
+        Assert.assertEquals(stateChangeEvents.get(0).getConsentID(), ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID);
+        Assert.assertEquals(stateChangeEvents.get(0).getClientID(), retrievedDetailedConsentResource.getClientID());
+        Assert.assertEquals(stateChangeEvents.get(0).getPreviousStatus(),
+                retrievedDetailedConsentResource.getCurrentStatus());
+        Assert.assertEquals(stateChangeEvents.get(0).getNewStatus(), ConsentMgtServiceTestData.SAMPLE_CONSUMED_STATUS);
+        Assert.assertTrue(stateChangeEvents.get(0).getConsentData()
+                .contains(retrievedDetailedConsentResource.getClientID()));
+        Mockito.verify(eventRelayMock).requestRun();
     }
 
     @Test
@@ -1553,16 +1605,19 @@ public class ConsentMgtCoreServiceTests {
                         any(ConsentStatusAuditRecord.class));
         doNothing().when(mockedConsentCoreDAO).updateConsentMappingStatus(any(),
                 any(), anyString());
+        doThrow(ConsentDataInsertionException.class).when(mockedConsentCoreDAO)
+                .storeTokenRevocationRecords(any(), any());
         try {
-            boolean isConsentRevoked = consentCoreServiceImpl.revokeConsentWithReason(
+            consentCoreServiceImpl.revokeConsentWithReason(
                     ConsentMgtServiceTestData.UNMATCHED_CONSENT_ID, ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS,
                     ConsentMgtServiceTestData.SAMPLE_USER_ID, true,
                     ConsentCoreServiceConstants.CONSENT_REVOKE_REASON);
-            Assert.assertTrue(isConsentRevoked);
-        } catch (Exception e) {
-            Assert.assertTrue(e instanceof ConsentManagementException);
+            Assert.fail("Consent revocation should fail when the token revocation cannot be recorded");
+        } catch (ConsentManagementException e) {
+            Assert.assertNotNull(e.getMessage());
+        } finally {
+            doNothing().when(mockedConsentCoreDAO).storeTokenRevocationRecords(any(), any());
         }
-
     }
 
     @Test
@@ -2602,6 +2657,38 @@ public class ConsentMgtCoreServiceTests {
         Assert.assertNotNull(statusAuditRecords);
     }
 
+    @Test
+    public void testGetTokenRevocationStatus() throws Exception {
+
+        ConsentTokenRevocationRecord revocationRecord = new ConsentTokenRevocationRecord(sampleID,
+                ConsentMgtServiceTestData.SAMPLE_CLIENT_ID, ConsentMgtServiceTestData.SAMPLE_USER_ID);
+        revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+        ArrayList<ConsentTokenRevocationRecord> revocationRecords = new ArrayList<>();
+        revocationRecords.add(revocationRecord);
+
+        doReturn(revocationRecords).when(mockedConsentCoreDAO).getTokenRevocationRecords(any(), eq(sampleID));
+
+        ArrayList<ConsentTokenRevocationRecord> retrievedRecords =
+                consentCoreServiceImpl.getTokenRevocationStatus(sampleID);
+        Assert.assertEquals(retrievedRecords.size(), 1);
+        Assert.assertEquals(retrievedRecords.get(0).getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testGetTokenRevocationStatusWithoutConsentID() throws Exception {
+
+        consentCoreServiceImpl.getTokenRevocationStatus(null);
+    }
+
+    @Test(expectedExceptions = ConsentManagementException.class)
+    public void testGetTokenRevocationStatusWithDataRetrievalError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class).when(mockedConsentCoreDAO)
+                .getTokenRevocationRecords(any(), anyString());
+
+        consentCoreServiceImpl.getTokenRevocationStatus(sampleID);
+    }
+
     @Test
     public void testStoreConsentAmendmentHistory() throws Exception {
 
@@ -2834,6 +2921,77 @@ public class ConsentMgtCoreServiceTests {
                 12345L, 23456L, 1, 0);
     }
 
+    @Test
+    public void testSearchConsentsWithTotal() throws Exception {
+
+        ArrayList<DetailedConsentResource> detailedConsentResources = new ArrayList<>();
+        detailedConsentResources.add(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+
+        doReturn(new ConsentSearchResult(detailedConsentResources, 5))
+                .when(mockedConsentCoreDAO).searchConsentsWithTotal(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any(), any(), any(), any());
+
+        ConsentSearchResult consentSearchResult = consentCoreServiceImpl.searchDetailedConsentsWithTotal(null,
+                ConsentMgtServiceTestData.SAMPLE_CLIENT_IDS_LIST, null, null, null,
+                ConsentMgtServiceTestData.SAMPLE_ACCOUNT_ID_LIST, null, null, 1, 0, null);
+
+        Assert.assertEquals(consentSearchResult.getDetailedConsentResources().size(), 1);
+        Assert.assertEquals(consentSearchResult.getTotal(), 5);
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testCountConsentsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class)
+                .when(mockedConsentCoreDAO).countConsents(any(), any(), any(), any(),
+                        any(), any(), any(), any(), any());
+
+        consentCoreServiceImpl.countDetailedConsents(null, ConsentMgtServiceTestData.SAMPLE_CLIENT_IDS_LIST,
+                null, null, null, null, 12345L, 23456L);
+    }
+
+    @Test
+    public void testExportConsentAmendmentHistory() throws Exception {
+
+        doAnswer(invocation -> {
+            ConsentExportHandler<DetailedConsentResource> handler = invocation.getArgument(11);
+            handler.handle(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource());
+            return null;
+        }).when(mockedConsentCoreDAO).exportConsents(any(), any(), any(), any(), any(), any(), any(), any(), any(),
+                any(), anyInt(), any());
+        doReturn(ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentHistoryDataMap())
+                .when(mockedConsentCoreDAO).retrieveConsentAmendmentHistory(any(), any());
+
+        List<ConsentAmendmentHistory> exportedHistory = new ArrayList<>();
+        consentCoreServiceImpl.exportConsentAmendmentHistory(null, ConsentMgtServiceTestData.SAMPLE_CLIENT_IDS_LIST,
+                null, null, null, null, null, null, null, 10, exportedHistory::add);
+
+        Assert.assertEquals(exportedHistory.size(), 1);
+        Assert.assertNotNull(exportedHistory.get(0).getCurrentConsent());
+        Assert.assertTrue(exportedHistory.get(0).getConsentHistory()
+                .containsKey(ConsentMgtServiceTestData.SAMPLE_HISTORY_ID));
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExportDetailedConsentsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class)
+                .when(mockedConsentCoreDAO).exportConsents(any(), any(), any(), any(), any(), any(), any(), any(),
+                        any(), any(), anyInt(), any());
+
+        consentCoreServiceImpl.exportDetailedConsents(null, ConsentMgtServiceTestData.SAMPLE_CLIENT_IDS_LIST,
+                null, null, null, null, null, null, null, 10, consent -> { });
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExportConsentStatusAuditRecordsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class)
+                .when(mockedConsentCoreDAO).exportConsentStatusAuditRecords(any(), any(), any(), anyInt(), any());
+
+        consentCoreServiceImpl.exportConsentStatusAuditRecords(null, null, 10, record -> { });
+    }
+
     @Test
     public void testAmendConsentData() throws Exception {
 
@@ -3378,6 +3536,87 @@ public class ConsentMgtCoreServiceTests {
         consentCoreServiceImpl.getConsentsEligibleForExpiration(ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS);
     }
 
+    @Test
+    public void testGetConsentsEligibleForExpirationPage() throws Exception {
+
+        ArrayList<ConsentResource> expiringConsents = new ArrayList<>();
+        expiringConsents.add(ConsentMgtServiceTestData.getSampleStoredConsentResource());
+        doReturn(expiringConsents).when(mockedConsentCoreDAO).getExpiringConsentsPage(any(), anyList(), anyLong(),
+                any(), anyInt());
+
+        ArrayList<ConsentResource> result = consentCoreServiceImpl.getConsentsEligibleForExpiration(
+                ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS, System.currentTimeMillis() / 1000, null, 10);
+
+        Assert.assertEquals(result.size(), 1);
+    }
+
+    @Test
+    public void testExpireConsents() throws Exception {
+
+        DetailedConsentResource consent = ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        consent.setValidityPeriod(System.currentTimeMillis() / 1000 - 60);
+        ArrayList<DetailedConsentResource> storedConsents = new ArrayList<>();
+        storedConsents.add(consent);
+        doReturn(storedConsents).when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any());
+        doReturn(1).when(mockedConsentCoreDAO).updateConsentStatuses(any(), anyList(), anyString());
+        doNothing().when(mockedConsentCoreDAO).storeConsentStatusAuditRecords(any(), anyList());
+        doNothing().when(mockedConsentCoreDAO).storeConsentAmendmentHistoryRecords(any(), anyLong(), anyString(),
+                anyMap(), anyString());
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        consentIDs.add(consent.getConsentID());
+        ArrayList<String> expiredConsentIDs = consentCoreServiceImpl.expireConsents(consentIDs,
+                ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS, "Expired", true);
+
+        Assert.assertEquals(expiredConsentIDs, consentIDs);
+    }
+
+    @Test
+    public void testExpireConsentsSkipsConsentsNotExpired() throws Exception {
+
+        DetailedConsentResource consent = ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        consent.setValidityPeriod(System.currentTimeMillis() / 1000 + 3600);
+        ArrayList<DetailedConsentResource> storedConsents = new ArrayList<>();
+        storedConsents.add(consent);
+        doReturn(storedConsents).when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any());
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        consentIDs.add(consent.getConsentID());
+        ArrayList<String> expiredConsentIDs = consentCoreServiceImpl.expireConsents(consentIDs,
+                ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS, "Expired", false);
+
+        Assert.assertTrue(expiredConsentIDs.isEmpty());
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExpireConsentsWithoutExpiredStatus() throws Exception {
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        consentIDs.add(sampleID);
+        consentCoreServiceImpl.expireConsents(consentIDs, ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS, null,
+                false);
+    }
+
+    @Test (expectedExceptions = ConsentManagementException.class)
+    public void testExpireConsentsUpdateError() throws Exception {
+
+        DetailedConsentResource consent = ConsentMgtServiceTestData.getSampleDetailedStoredTestConsentResource();
+        consent.setValidityPeriod(System.currentTimeMillis() / 1000 - 60);
+        ArrayList<DetailedConsentResource> storedConsents = new ArrayList<>();
+        storedConsents.add(consent);
+        doReturn(storedConsents).when(mockedConsentCoreDAO).searchConsents(any(), any(), any(), any(), any(),
+                any(), any(), any(), any(), any());
+        doThrow(ConsentDataUpdationException.class).when(mockedConsentCoreDAO).updateConsentStatuses(any(),
+                anyList(), anyString());
+
+        ArrayList<String> consentIDs = new ArrayList<>();
+        consentIDs.add(consent.getConsentID());
+        consentCoreServiceImpl.expireConsents(consentIDs, ConsentMgtServiceTestData.SAMPLE_CURRENT_STATUS,
+                "Expired", false);
+    }
+
     @Test
     public void testReAuthorizeConsentWithNewAuthResourceDeactivatesExistingMappings() throws Exception {
 
@@ -0,0 +1,225 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.util;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentStateChangeEvent;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
+import org.wso2.financial.services.accelerator.consent.mgt.service.listener.ConsentStateChangeListener;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for the consent state change event relay.
+ */
+public class ConsentStateChangeEventRelayTests {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String CONSENT_ID = UUID.randomUUID().toString();
+
+    private ConsentCoreDAO mockedConsentCoreDAO;
+    private MockedStatic<DatabaseUtils> databaseUtilMockedStatic;
+    private MockedStatic<ConsentStoreInitializer> consentStoreInitializerMockedStatic;
+
+    @BeforeClass
+    public void mockStaticClasses() {
+
+        Connection connectionMock = Mockito.mock(Connection.class);
+        databaseUtilMockedStatic = mockStatic(DatabaseUtils.class);
+        databaseUtilMockedStatic.when(DatabaseUtils::getDBConnection).thenReturn(connectionMock);
+
+        consentStoreInitializerMockedStatic = mockStatic(ConsentStoreInitializer.class);
+        consentStoreInitializerMockedStatic.when(ConsentStoreInitializer::getInitializedConsentCoreDAOImpl)
+                .thenAnswer(invocation -> mockedConsentCoreDAO);
+    }
+
+    @BeforeMethod
+    public void initMocks() throws Exception {
+
+        mockedConsentCoreDAO = Mockito.mock(ConsentCoreDAO.class);
+        // Claiming an event increments its attempt count as the DAO does
+        doAnswer(invocation -> {
+            ConsentStateChangeEvent stateChangeEvent = invocation.getArgument(1);
+            stateChangeEvent.setAttemptCount(stateChangeEvent.getAttemptCount() + 1);
+            return true;
+        }).when(mockedConsentCoreDAO).claimConsentStateChangeEvent(any(), any(), anyLong());
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        databaseUtilMockedStatic.close();
+        consentStoreInitializerMockedStatic.close();
+    }
+
+    @Test
+    public void testPublishDueEvents() throws Exception {
+
+        ConsentStateChangeEvent stateChangeEvent = getPendingEvent(1, 0);
+        doReturn(getDueEvents(stateChangeEvent), getDueEvents())
+                .when(mockedConsentCoreDAO).getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+
+        List<ConsentStateChangeEvent> receivedEvents = new ArrayList<>();
+        List<ConsentStateChangeEvent> brokerEvents = new ArrayList<>();
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(
+                Collections.singletonList(receivedEvents::add), brokerEvents::add, 10, 5, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(relay.publishDueEvents(), 1);
+
+        Assert.assertEquals(receivedEvents, Collections.singletonList(stateChangeEvent));
+        Assert.assertEquals(brokerEvents, Collections.singletonList(stateChangeEvent));
+        verify(mockedConsentCoreDAO).deleteConsentStateChangeEvent(any(), Mockito.eq(stateChangeEvent.getEventID()));
+        verify(mockedConsentCoreDAO, never()).updateConsentStateChangeEvent(any(), any());
+    }
+
+    @Test
+    public void testEventsOfConsentArePublishedInOrder() throws Exception {
+
+        ConsentStateChangeEvent firstEvent = getPendingEvent(1, 0);
+        ConsentStateChangeEvent secondEvent = getPendingEvent(2, 0);
+        // The next event of a consent is due only once the earlier event is published
+        doReturn(getDueEvents(firstEvent), getDueEvents(secondEvent), getDueEvents())
+                .when(mockedConsentCoreDAO).getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+
+        List<ConsentStateChangeEvent> receivedEvents = new ArrayList<>();
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(
+                Collections.singletonList(receivedEvents::add), null, 10, 5, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(relay.publishDueEvents(), 2);
+
+        Assert.assertEquals(receivedEvents, Arrays.asList(firstEvent, secondEvent));
+    }
+
+    @Test
+    public void testFailedPublicationIsRetried() throws Exception {
+
+        doReturn(getDueEvents(getPendingEvent(1, 0)))
+                .when(mockedConsentCoreDAO).getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+
+        long currentTime = System.currentTimeMillis() / 1000;
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(
+                Collections.singletonList(getFailingListener()), null, 10, 5, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(relay.publishDueEvents(), 0);
+
+        ConsentStateChangeEvent updatedEvent = getUpdatedEvent();
+        Assert.assertEquals(updatedEvent.getStatus(), ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+        Assert.assertEquals(updatedEvent.getLastError(), "Listener is unavailable");
+        Assert.assertTrue(updatedEvent.getNextAttemptTime() >= currentTime + 30);
+        verify(mockedConsentCoreDAO, never()).deleteConsentStateChangeEvent(any(), anyString());
+    }
+
+    @Test
+    public void testPublicationFailsAfterMaxAttempts() throws Exception {
+
+        doReturn(getDueEvents(getPendingEvent(1, MAX_ATTEMPTS - 1)))
+                .when(mockedConsentCoreDAO).getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(
+                Collections.singletonList(getFailingListener()), null, 10, 5, MAX_ATTEMPTS, 30);
+        relay.publishDueEvents();
+
+        ConsentStateChangeEvent updatedEvent = getUpdatedEvent();
+        Assert.assertEquals(updatedEvent.getStatus(), ConsentMgtDAOConstants.STATE_CHANGE_EVENT_FAILED);
+        Assert.assertEquals(updatedEvent.getAttemptCount(), MAX_ATTEMPTS);
+    }
+
+    @Test
+    public void testEventClaimedByAnotherNodeIsSkipped() throws Exception {
+
+        doReturn(getDueEvents(getPendingEvent(1, 0)))
+                .when(mockedConsentCoreDAO).getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+        doReturn(false).when(mockedConsentCoreDAO).claimConsentStateChangeEvent(any(), any(), anyLong());
+
+        List<ConsentStateChangeEvent> receivedEvents = new ArrayList<>();
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(
+                Collections.singletonList(receivedEvents::add), null, 10, 5, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(relay.publishDueEvents(), 0);
+
+        Assert.assertTrue(receivedEvents.isEmpty());
+        verify(mockedConsentCoreDAO, never()).deleteConsentStateChangeEvent(any(), anyString());
+    }
+
+    @Test
+    public void testPublishDueEventsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class).when(mockedConsentCoreDAO)
+                .getDueConsentStateChangeEvents(any(), anyLong(), anyInt());
+
+        ConsentStateChangeEventRelay relay = new ConsentStateChangeEventRelay(Collections.emptyList(), null, 10, 5,
+                MAX_ATTEMPTS, 30);
+        Assert.assertEquals(relay.publishDueEvents(), 0);
+    }
+
+    private ConsentStateChangeListener getFailingListener() {
+
+        return stateChangeEvent -> {
+            throw new ConsentManagementException("Listener is unavailable");
+        };
+    }
+
+    private ConsentStateChangeEvent getPendingEvent(long sequenceNumber, int attemptCount) {
+
+        ConsentStateChangeEvent stateChangeEvent = new ConsentStateChangeEvent(CONSENT_ID,
+                ConsentMgtServiceTestData.SAMPLE_CLIENT_ID, ConsentMgtServiceTestData.SAMPLE_USER_ID,
+                "awaitingAuthorisation", "authorised", "authorised");
+        stateChangeEvent.setEventID(UUID.randomUUID().toString());
+        stateChangeEvent.setSequenceNumber(sequenceNumber);
+        stateChangeEvent.setStatus(ConsentMgtDAOConstants.STATE_CHANGE_EVENT_PENDING);
+        stateChangeEvent.setAttemptCount(attemptCount);
+        return stateChangeEvent;
+    }
+
+    private ArrayList<ConsentStateChangeEvent> getDueEvents(ConsentStateChangeEvent... dueEvents) {
+
+        return new ArrayList<>(Arrays.asList(dueEvents));
+    }
+
+    private ConsentStateChangeEvent getUpdatedEvent() throws Exception {
+
+        ArgumentCaptor<ConsentStateChangeEvent> eventCaptor = ArgumentCaptor.forClass(ConsentStateChangeEvent.class);
+        verify(mockedConsentCoreDAO).updateConsentStateChangeEvent(any(), eventCaptor.capture());
+        return eventCaptor.getValue();
+    }
+}
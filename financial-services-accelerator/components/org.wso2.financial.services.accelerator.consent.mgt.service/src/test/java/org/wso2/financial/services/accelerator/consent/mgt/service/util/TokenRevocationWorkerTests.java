@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.service.util;
+
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.ConsentCoreDAO;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.constants.ConsentMgtDAOConstants;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.exceptions.ConsentDataRetrievalException;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.models.ConsentTokenRevocationRecord;
+import org.wso2.financial.services.accelerator.consent.mgt.dao.persistence.ConsentStoreInitializer;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test for the token revocation worker.
+ */
+public class TokenRevocationWorkerTests {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    private ConsentCoreDAO mockedConsentCoreDAO;
+    private MockedStatic<DatabaseUtils> databaseUtilMockedStatic;
+    private MockedStatic<ConsentStoreInitializer> consentStoreInitializerMockedStatic;
+
+    @BeforeClass
+    public void mockStaticClasses() {
+
+        Connection connectionMock = Mockito.mock(Connection.class);
+        databaseUtilMockedStatic = mockStatic(DatabaseUtils.class);
+        databaseUtilMockedStatic.when(DatabaseUtils::getDBConnection).thenReturn(connectionMock);
+
+        consentStoreInitializerMockedStatic = mockStatic(ConsentStoreInitializer.class);
+        consentStoreInitializerMockedStatic.when(ConsentStoreInitializer::getInitializedConsentCoreDAOImpl)
+                .thenAnswer(invocation -> mockedConsentCoreDAO);
+    }
+
+    @BeforeMethod
+    public void initMocks() throws Exception {
+
+        mockedConsentCoreDAO = Mockito.mock(ConsentCoreDAO.class);
+        // Claiming a record increments its attempt count as the DAO does
+        doAnswer(invocation -> {
+            ConsentTokenRevocationRecord revocationRecord = invocation.getArgument(1);
+            revocationRecord.setAttemptCount(revocationRecord.getAttemptCount() + 1);
+            return true;
+        }).when(mockedConsentCoreDAO).claimTokenRevocationRecord(any(), any(), anyLong());
+    }
+
+    @AfterClass
+    public void tearDown() {
+
+        databaseUtilMockedStatic.close();
+        consentStoreInitializerMockedStatic.close();
+    }
+
+    @Test
+    public void testProcessDueRevocations() throws Exception {
+
+        doReturn(getDueRecords(getPendingRecord(0)), getDueRecords())
+                .when(mockedConsentCoreDAO).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) -> 2, 1, 30,
+                MAX_ATTEMPTS, 30);
+        Assert.assertEquals(worker.processDueRevocations(), 1);
+
+        ConsentTokenRevocationRecord updatedRecord = getUpdatedRecord();
+        Assert.assertEquals(updatedRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_REVOKED);
+        Assert.assertEquals(updatedRecord.getRevokedTokenCount(), 2);
+        Assert.assertEquals(updatedRecord.getAttemptCount(), 1);
+        Assert.assertNull(updatedRecord.getLastError());
+    }
+
+    @Test
+    public void testFailedRevocationIsRetried() throws Exception {
+
+        doReturn(getDueRecords(getPendingRecord(0)))
+                .when(mockedConsentCoreDAO).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+
+        long currentTime = System.currentTimeMillis() / 1000;
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) -> {
+            throw new IdentityOAuth2Exception("Token store is unavailable");
+        }, 10, 30, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(worker.processDueRevocations(), 1);
+
+        ConsentTokenRevocationRecord updatedRecord = getUpdatedRecord();
+        Assert.assertEquals(updatedRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+        Assert.assertEquals(updatedRecord.getLastError(), "Token store is unavailable");
+        Assert.assertTrue(updatedRecord.getNextAttemptTime() >= currentTime + 30);
+    }
+
+    @Test
+    public void testRevocationFailsAfterMaxAttempts() throws Exception {
+
+        doReturn(getDueRecords(getPendingRecord(MAX_ATTEMPTS - 1)))
+                .when(mockedConsentCoreDAO).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) -> {
+            throw new IdentityOAuth2Exception("Token store is unavailable");
+        }, 10, 30, MAX_ATTEMPTS, 30);
+        worker.processDueRevocations();
+
+        ConsentTokenRevocationRecord updatedRecord = getUpdatedRecord();
+        Assert.assertEquals(updatedRecord.getStatus(), ConsentMgtDAOConstants.TOKEN_REVOCATION_FAILED);
+        Assert.assertEquals(updatedRecord.getAttemptCount(), MAX_ATTEMPTS);
+    }
+
+    @Test
+    public void testRecordClaimedByAnotherNodeIsSkipped() throws Exception {
+
+        doReturn(getDueRecords(getPendingRecord(0)))
+                .when(mockedConsentCoreDAO).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+        doReturn(false).when(mockedConsentCoreDAO).claimTokenRevocationRecord(any(), any(), anyLong());
+
+        AtomicInteger revocationCount = new AtomicInteger();
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) ->
+                revocationCount.incrementAndGet(), 10, 30, MAX_ATTEMPTS, 30);
+        Assert.assertEquals(worker.processDueRevocations(), 0);
+
+        Assert.assertEquals(revocationCount.get(), 0);
+        verify(mockedConsentCoreDAO, never()).updateTokenRevocationRecord(any(), any());
+    }
+
+    @Test
+    public void testProcessDueRevocationsInBatches() throws Exception {
+
+        doReturn(getDueRecords(getPendingRecord(0), getPendingRecord(0)), getDueRecords(getPendingRecord(0)))
+                .when(mockedConsentCoreDAO).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) -> 1, 2, 30,
+                MAX_ATTEMPTS, 30);
+        Assert.assertEquals(worker.processDueRevocations(), 3);
+        verify(mockedConsentCoreDAO, times(2)).getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    public void testProcessDueRevocationsRetrieveError() throws Exception {
+
+        doThrow(ConsentDataRetrievalException.class).when(mockedConsentCoreDAO)
+                .getDueTokenRevocationRecords(any(), anyLong(), anyInt());
+
+        TokenRevocationWorker worker = new TokenRevocationWorker((clientID, consentID, userID) -> 1, 10, 30,
+                MAX_ATTEMPTS, 30);
+        Assert.assertEquals(worker.processDueRevocations(), 0);
+    }
+
+    private ConsentTokenRevocationRecord getPendingRecord(int attemptCount) {
+
+        ConsentTokenRevocationRecord revocationRecord = new ConsentTokenRevocationRecord(
+                UUID.randomUUID().toString(), ConsentMgtServiceTestData.SAMPLE_CLIENT_ID,
+                ConsentMgtServiceTestData.SAMPLE_USER_ID);
+        revocationRecord.setRevocationID(UUID.randomUUID().toString());
+        revocationRecord.setStatus(ConsentMgtDAOConstants.TOKEN_REVOCATION_PENDING);
+        revocationRecord.setAttemptCount(attemptCount);
+        return revocationRecord;
+    }
+
+    private ArrayList<ConsentTokenRevocationRecord> getDueRecords(ConsentTokenRevocationRecord... dueRecords) {
+
+        return new ArrayList<>(Arrays.asList(dueRecords));
+    }
+
+    private ConsentTokenRevocationRecord getUpdatedRecord() throws Exception {
+
+        ArgumentCaptor<ConsentTokenRevocationRecord> recordCaptor =
+                ArgumentCaptor.forClass(ConsentTokenRevocationRecord.class);
+        verify(mockedConsentCoreDAO).updateTokenRevocationRecord(any(), recordCaptor.capture());
+        return recordCaptor.getValue();
+    }
+}
@@ -19,11 +19,11 @@
 package org.wso2.financial.services.accelerator.event.notifications.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.nimbusds.jwt.JWTClaimsSet;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.util.Generated;
-import org.wso2.financial.services.accelerator.common.util.JWTUtils;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
@@ -67,7 +67,9 @@ public class DefaultEventNotificationGenerator implements EventNotificationGener
     public String generateEventNotification(JsonNode jsonNode) throws FSEventNotificationException {
 
         try {
-            return JWTUtils.signJWTWithDefaultKey(jsonNode.toString());
+            // Parsed as a claims set to omit the claims with null values
+            return EventNotificationSigningService.getInstance()
+                    .sign(JWTClaimsSet.parse(jsonNode.toString()).toJSONObject().toJSONString());
         } catch (Exception e) {
             log.error("Error while signing the JWT token", e);
             throw new FSEventNotificationException("Error while signing the JWT token", e);
@@ -75,6 +77,43 @@ public class DefaultEventNotificationGenerator implements EventNotificationGener
 
     }
 
+    /**
+     * Signs the event notification response body with the cached signing key. Bodies of extended response classes
+     * are converted to a JsonNode to include their additional claims.
+     *
+     * @param notificationResponse  Event Notification Response Body
+     * @return Signed Event Notification
+     * @throws FSEventNotificationException  Exception when signing the event notification
+     */
+    @Override
+    public String generateEventNotification(NotificationResponse notificationResponse)
+            throws FSEventNotificationException {
+
+        if (notificationResponse.getClass() != NotificationResponse.class) {
+            return EventNotificationGenerator.super.generateEventNotification(notificationResponse);
+        }
+        return EventNotificationSigningService.getInstance().sign(notificationResponse);
+    }
+
+    /**
+     * Signs the event notification response bodies in parallel with the cached signing key.
+     *
+     * @param notificationResponses  Event Notification Response Bodies
+     * @return Signed Event Notifications in the order of the bodies
+     * @throws FSEventNotificationException  Exception when signing the event notifications
+     */
+    @Override
+    public List<String> generateEventNotifications(List<NotificationResponse> notificationResponses)
+            throws FSEventNotificationException {
+
+        for (NotificationResponse notificationResponse : notificationResponses) {
+            if (notificationResponse.getClass() != NotificationResponse.class) {
+                return EventNotificationGenerator.super.generateEventNotifications(notificationResponses);
+            }
+        }
+        return EventNotificationSigningService.getInstance().signAll(notificationResponses);
+    }
+
     @Generated(message = "Private method tested when the used method is tested")
     private String generateSubClaim(Notification notification) {
         return notification.getClientId();
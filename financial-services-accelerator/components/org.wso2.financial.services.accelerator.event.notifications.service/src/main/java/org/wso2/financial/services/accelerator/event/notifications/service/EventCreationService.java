@@ -21,16 +21,17 @@ package org.wso2.financial.services.accelerator.event.notifications.service;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONObject;
-import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventNotificationDAO;
 import org.wso2.financial.services.accelerator.event.notifications.service.dto.NotificationCreationDTO;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.internal.EventNotificationDataHolder;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
-import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.EventNotificationProducerService;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.EventPollingWaiterRegistry;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.EventNotificationProducerStage;
 
 import java.sql.Connection;
 import java.util.ArrayList;
@@ -81,8 +82,14 @@ public class EventCreationService {
             eventResponse = eventCreationDAO.persistEventNotification(connection, notification, eventsList);
             DatabaseUtils.commitTransaction(connection);
 
-            if (FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationEnabled()) {
-                new Thread(new EventNotificationProducerService(notification, eventsList)).start();
+            // Wake the long polling requests of the client waiting in this node
+            EventPollingWaiterRegistry.getInstance().notifyWaiters(notification.getClientId());
+
+            // The producer stage is available only if realtime event notifications are enabled
+            EventNotificationProducerStage producerStage = EventNotificationDataHolder.getInstance()
+                    .getEventNotificationProducerStage();
+            if (producerStage != null) {
+                producerStage.submit(notification, eventsList);
             }
             return eventResponse;
         } catch (FSEventNotificationException e) {
@@ -19,11 +19,15 @@
 package org.wso2.financial.services.accelerator.event.notifications.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.nimbusds.jose.JOSEException;
+import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -45,4 +49,40 @@ public interface EventNotificationGenerator {
             notificationEventList) throws FSEventNotificationException;
 
     String generateEventNotification(JsonNode jsonNode) throws FSEventNotificationException;
+
+    /**
+     * This method is to generate the signed event notification of an event notification response body. By default
+     * the body is converted to a JsonNode and signed with {@link #generateEventNotification(JsonNode)}.
+     *
+     * @param notificationResponse  Event Notification Response Body
+     * @return Signed Event Notification
+     * @throws FSEventNotificationException  Exception when generating event notification
+     */
+    default String generateEventNotification(NotificationResponse notificationResponse)
+            throws FSEventNotificationException {
+
+        try {
+            return generateEventNotification(NotificationResponse.getJsonNode(notificationResponse));
+        } catch (IOException | JOSEException | IdentityOAuth2Exception e) {
+            throw new FSEventNotificationException("Error while converting the event notification body", e);
+        }
+    }
+
+    /**
+     * This method is to generate the signed event notifications of a batch of event notification response bodies.
+     * By default the bodies are signed one after the other.
+     *
+     * @param notificationResponses  Event Notification Response Bodies
+     * @return Signed Event Notifications in the order of the bodies
+     * @throws FSEventNotificationException  Exception when generating event notifications
+     */
+    default List<String> generateEventNotifications(List<NotificationResponse> notificationResponses)
+            throws FSEventNotificationException {
+
+        List<String> eventNotifications = new ArrayList<>(notificationResponses.size());
+        for (NotificationResponse notificationResponse : notificationResponses) {
+            eventNotifications.add(generateEventNotification(notificationResponse));
+        }
+        return eventNotifications;
+    }
 }
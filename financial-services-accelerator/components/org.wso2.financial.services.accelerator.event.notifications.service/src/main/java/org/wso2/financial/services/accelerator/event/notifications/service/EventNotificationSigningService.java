@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.jws.JWSPayloadSigner;
+import org.wso2.financial.services.accelerator.common.util.JWTUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Signs security event tokens with the carbon default key.
+ * <p>
+ * The signing key and the signer created from it are held for the lifetime of the server and shared by all threads.
+ * Once the refresh interval elapses the key is read from the keystore again and the signer is recreated only if the
+ * key has changed, so a rotated key is used without a restart. The claims are serialized directly from the
+ * notification response. Batches of tokens are signed in parallel on a pool sized to the number of cores.
+ */
+public class EventNotificationSigningService {
+
+    private static final Log log = LogFactory.getLog(EventNotificationSigningService.class);
+    private static final String SIGNING_ERROR = "Error while signing the JWT token";
+
+    private static volatile EventNotificationSigningService instance;
+
+    private final KeyResolver keyResolver;
+    private final long keyRefreshIntervalNanos;
+    private final int parallelism;
+    private final ThreadPoolExecutor signingExecutor;
+    private volatile SigningKey signingKey;
+
+    /**
+     * Resolves the key used to sign the security event tokens.
+     */
+    public interface KeyResolver {
+
+        Key getKey() throws Exception;
+    }
+
+    public EventNotificationSigningService(KeyResolver keyResolver, long keyRefreshIntervalMillis, int parallelism) {
+
+        this.keyResolver = keyResolver;
+        this.keyRefreshIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, keyRefreshIntervalMillis));
+        this.parallelism = Math.max(1, parallelism);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.signingExecutor = new ThreadPoolExecutor(this.parallelism, this.parallelism, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "fs-event-signer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.signingExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Singleton getInstance method to create only one object.
+     *
+     * @return EventNotificationSigningService object
+     */
+    public static EventNotificationSigningService getInstance() {
+
+        if (instance == null) {
+            synchronized (EventNotificationSigningService.class) {
+                if (instance == null) {
+                    instance = new EventNotificationSigningService(JWTUtils::getDefaultPrivateKey,
+                            TimeUnit.SECONDS.toMillis(FinancialServicesConfigParser.getInstance()
+                                    .getEventNotificationSigningKeyRefreshInterval()),
+                            Runtime.getRuntime().availableProcessors());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Sign the claims of an event notification response.
+     *
+     * @param notificationResponse event notification response
+     * @return signed security event token
+     * @throws FSEventNotificationException if the signing key cannot be loaded or signing fails
+     */
+    public String sign(NotificationResponse notificationResponse) throws FSEventNotificationException {
+
+        return sign(getSigner(), notificationResponse);
+    }
+
+    /**
+     * Sign the claims of a JSON payload.
+     *
+     * @param claims JSON claims set
+     * @return signed security event token
+     * @throws FSEventNotificationException if the signing key cannot be loaded or signing fails
+     */
+    public String sign(String claims) throws FSEventNotificationException {
+
+        try {
+            return getSigner().sign(claims);
+        } catch (FinancialServicesException e) {
+            throw new FSEventNotificationException(SIGNING_ERROR, e);
+        }
+    }
+
+    /**
+     * Sign the claims of event notification responses in parallel.
+     *
+     * @param notificationResponses event notification responses
+     * @return signed security event tokens in the order of the responses
+     * @throws FSEventNotificationException if the signing key cannot be loaded or signing of any token fails
+     */
+    public List<String> signAll(List<NotificationResponse> notificationResponses)
+            throws FSEventNotificationException {
+
+        JWSPayloadSigner signer = getSigner();
+        List<String> tokens = new ArrayList<>(notificationResponses.size());
+        if (notificationResponses.size() <= 1 || parallelism == 1) {
+            for (NotificationResponse notificationResponse : notificationResponses) {
+                tokens.add(sign(signer, notificationResponse));
+            }
+            return tokens;
+        }
+
+        List<Future<String>> results = new ArrayList<>(notificationResponses.size());
+        for (NotificationResponse notificationResponse : notificationResponses) {
+            results.add(signingExecutor.submit(() -> sign(signer, notificationResponse)));
+        }
+        try {
+            for (Future<String> result : results) {
+                tokens.add(result.get());
+            }
+            return tokens;
+        } catch (ExecutionException e) {
+            results.forEach(result -> result.cancel(false));
+            if (e.getCause() instanceof FSEventNotificationException) {
+                throw (FSEventNotificationException) e.getCause();
+            }
+            throw new FSEventNotificationException(SIGNING_ERROR, e.getCause());
+        } catch (InterruptedException e) {
+            results.forEach(result -> result.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new FSEventNotificationException(SIGNING_ERROR, e);
+        }
+    }
+
+    private String sign(JWSPayloadSigner signer, NotificationResponse notificationResponse)
+            throws FSEventNotificationException {
+
+        try {
+            return signer.sign(NotificationResponse.getClaims(notificationResponse).toString());
+        } catch (FinancialServicesException e) {
+            throw new FSEventNotificationException(SIGNING_ERROR, e);
+        }
+    }
+
+    private JWSPayloadSigner getSigner() throws FSEventNotificationException {
+
+        SigningKey current = signingKey;
+        if (current != null && !current.isExpired()) {
+            return current.signer;
+        }
+        synchronized (this) {
+            current = signingKey;
+            if (current != null && !current.isExpired()) {
+                return current.signer;
+            }
+            Key key;
+            try {
+                key = keyResolver.getKey();
+            } catch (Exception e) {
+                if (current == null) {
+                    throw new FSEventNotificationException("Error while retrieving the signing key", e);
+                }
+                log.error("Error while reloading the signing key. The previously loaded key is used", e);
+                signingKey = new SigningKey(current.key, current.signer);
+                return current.signer;
+            }
+            if (current != null && current.key.equals(key)) {
+                signingKey = new SigningKey(current.key, current.signer);
+                return current.signer;
+            }
+            try {
+                JWSPayloadSigner signer = JWSPayloadSigner.forPrivateKey(JWSAlgorithm.RS256, key);
+                if (current != null) {
+                    log.info("Event notification signing key is reloaded from the keystore");
+                }
+                signingKey = new SigningKey(key, signer);
+                return signer;
+            } catch (FinancialServicesException e) {
+                throw new FSEventNotificationException("Error while creating the signer of the signing key", e);
+            }
+        }
+    }
+
+    /**
+     * Signing key with the signer created from it.
+     */
+    private class SigningKey {
+
+        private final Key key;
+        private final JWSPayloadSigner signer;
+        private final long loadedTime = System.nanoTime();
+
+        private SigningKey(Key key, JWSPayloadSigner signer) {
+
+            this.key = key;
+            this.signer = signer;
+        }
+
+        private boolean isExpired() {
+
+            return System.nanoTime() - loadedTime >= keyRefreshIntervalNanos;
+        }
+    }
+}
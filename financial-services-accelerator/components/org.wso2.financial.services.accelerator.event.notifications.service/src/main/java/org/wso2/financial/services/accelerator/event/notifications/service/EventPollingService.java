@@ -18,11 +18,10 @@
 
 package org.wso2.financial.services.accelerator.event.notifications.service;
 
-import com.nimbusds.jose.JOSEException;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpStatus;
-import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventNotificationDAO;
@@ -30,28 +29,49 @@ import org.wso2.financial.services.accelerator.event.notifications.service.excep
 import org.wso2.financial.services.accelerator.event.notifications.service.model.AggregatedPollingResponse;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventPolling;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
-import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.EventPollingWaiterRegistry;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
-import java.io.IOException;
 import java.sql.Connection;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Event polling service.
+ * <p>
+ * Long polling requests which find no notifications wait in the {@link EventPollingWaiterRegistry} without holding
+ * a database connection, and read the notifications again once a notification is created for the client or the
+ * configured maximum wait time elapses.
  */
 public class EventPollingService {
 
     private static Log log = LogFactory.getLog(EventPollingService.class);
 
+    private EventPollingWaiterRegistry waiterRegistry;
+
+    public EventPollingService() {
+
+    }
+
+    public EventPollingService(EventPollingWaiterRegistry waiterRegistry) {
+
+        this.waiterRegistry = waiterRegistry;
+    }
+
     /**
      * The pollEvents methods will return the Aggregated Polling Response for
-     * event polling request.
+     * event polling request. Long polling requests block the calling thread until notifications are available
+     * or the maximum wait time elapses, use {@link #pollEventsAsync(EventPolling)} to wait without blocking.
      * @param eventPolling Event polling request
      * @return AggregatedPollingResponse Aggregated Polling Response
      * @throws FSEventNotificationException Exception when polling events
@@ -59,6 +79,87 @@ public class EventPollingService {
     public AggregatedPollingResponse pollEvents(EventPolling eventPolling)
             throws FSEventNotificationException {
 
+        if (eventPolling.getReturnImmediately()) {
+            return retrieveEvents(eventPolling, true);
+        }
+        try {
+            return pollEventsAsync(eventPolling).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FSEventNotificationException("Interrupted while waiting for FS event notifications.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FSEventNotificationException) {
+                throw (FSEventNotificationException) e.getCause();
+            }
+            throw new FSEventNotificationException("Error when retrieving FS event notifications.", e.getCause());
+        }
+    }
+
+    /**
+     * Polls events without blocking the calling thread. The returned future of a long polling request without
+     * available notifications completes when a notification is created for the client or the maximum wait time
+     * elapses. Short polling requests and requests exceeding the long polling concurrency limits are served
+     * immediately.
+     *
+     * @param eventPolling Event polling request
+     * @return future of the Aggregated Polling Response, completed exceptionally with FSEventNotificationException
+     *         when polling fails
+     */
+    public CompletableFuture<AggregatedPollingResponse> pollEventsAsync(EventPolling eventPolling) {
+
+        CompletableFuture<Boolean> waiter = null;
+        if (!eventPolling.getReturnImmediately() && eventPolling.getMaxEvents() > 0) {
+            // Registered before reading the notifications so that a notification created meanwhile is not missed
+            waiter = getWaiterRegistry().register(eventPolling.getClientId(), TimeUnit.SECONDS.toMillis(
+                    FinancialServicesConfigParser.getInstance().getLongPollingMaxWaitTimeInSeconds()));
+        }
+
+        AggregatedPollingResponse aggregatedPollingResponse;
+        try {
+            aggregatedPollingResponse = retrieveEvents(eventPolling, true);
+        } catch (FSEventNotificationException e) {
+            if (waiter != null) {
+                getWaiterRegistry().release(waiter);
+            }
+            CompletableFuture<AggregatedPollingResponse> failedResponse = new CompletableFuture<>();
+            failedResponse.completeExceptionally(e);
+            return failedResponse;
+        }
+
+        if (waiter == null) {
+            return CompletableFuture.completedFuture(aggregatedPollingResponse);
+        }
+        if (!aggregatedPollingResponse.getSets().isEmpty()) {
+            getWaiterRegistry().release(waiter);
+            return CompletableFuture.completedFuture(aggregatedPollingResponse);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waiting for FS Event Notifications of the client with ID : '%s'.",
+                    eventPolling.getClientId().replaceAll("[\r\n]", "")));
+        }
+        // Notifications are read again on time out as well, since notifications created in other nodes do not
+        // wake the waiter
+        return waiter.thenApply(notified -> {
+            try {
+                return retrieveEvents(eventPolling, false);
+            } catch (FSEventNotificationException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Updates the acknowledged and erroneous notifications and reads the open notifications of the client.
+     *
+     * @param eventPolling              Event polling request
+     * @param processAcknowledgements   whether to update the acknowledged and erroneous notifications
+     * @return AggregatedPollingResponse Aggregated Polling Response
+     * @throws FSEventNotificationException Exception when polling events
+     */
+    private AggregatedPollingResponse retrieveEvents(EventPolling eventPolling, boolean processAcknowledgements)
+            throws FSEventNotificationException {
+
         Connection connection = DatabaseUtils.getDBConnection();
         AggregatedPollingResponse aggregatedPollingResponse = new AggregatedPollingResponse();
         EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
@@ -68,95 +169,96 @@ public class EventPollingService {
 
         Map<String, String> sets = new HashMap<>();
 
-        //Short polling
-        if (eventPolling.getReturnImmediately()) {
-
-            try {
+        try {
+            if (processAcknowledgements) {
                 //Update notifications with ack
-                for (String notificationId : eventPolling.getAck()) {
-                    eventNotificationDAO.updateNotificationStatusById(connection, notificationId,
+                if (!eventPolling.getAck().isEmpty()) {
+                    eventNotificationDAO.updateNotificationStatusByIds(connection, eventPolling.getAck(),
                             EventNotificationConstants.ACK);
                 }
 
-                //Update notifications with err
-                for (Map.Entry<String, NotificationError> entry: eventPolling.getErrors().entrySet()) {
-                    //Check if the notification is in OPEN status
-                    if (eventNotificationDAO.getNotificationStatus(connection, entry.getKey())) {
-                        eventNotificationDAO.updateNotificationStatusById(connection, entry.getKey(),
-                                EventNotificationConstants.ERROR);
-                        eventNotificationDAO.storeErrorNotification(connection, entry.getValue());
-                    }
+                //Update notifications with err, only the notifications in OPEN status are updated
+                if (!eventPolling.getErrors().isEmpty()) {
+                    eventNotificationDAO.storeErrorNotifications(connection, eventPolling.getErrors());
                 }
+            }
 
-                //Retrieve notifications
-                int maxEvents = eventPolling.getMaxEvents();
+            //Retrieve notifications
+            int maxEvents = eventPolling.getMaxEvents();
+            int openNotificationCount;
 
-                if (maxEvents == 0) {
-                    aggregatedPollingResponse.setSets(sets);
-                    aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
-                } else {
+            if (maxEvents == 0) {
+                aggregatedPollingResponse.setSets(sets);
+                aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
+                openNotificationCount = eventNotificationDAO.getNotificationCountByClientIdAndStatus(connection,
+                        eventPolling.getClientId(), EventNotificationConstants.OPEN);
+            } else {
 
-                    int setsToReturn = eventPolling.getSetsToReturn();
+                //Notifications are read with their events and the open notification count in a single query
+                NotificationPage notificationPage = eventNotificationDAO.getNotificationsWithEventsByClientIdAndStatus(
+                        connection, eventPolling.getClientId(), EventNotificationConstants.OPEN,
+                        Math.min(maxEvents, eventPolling.getSetsToReturn()));
+                openNotificationCount = notificationPage.getTotalCount();
 
-                    List<Notification> notificationList;
-
-                    if (maxEvents < setsToReturn) {
-                        notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
-                                eventPolling.getClientId(), EventNotificationConstants.OPEN, maxEvents);
+                if (notificationPage.getNotifications().isEmpty()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("No FS Event Notifications available for for the client " +
+                                "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
+                    }
+                    aggregatedPollingResponse.setStatus(HttpStatus.SC_NOT_FOUND);
+                } else {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("FS Event Notifications available for the client " +
+                                "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
+                    }
+                    aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
 
-                    } else {
-                        notificationList = eventNotificationDAO.getNotificationsByClientIdAndStatus(connection,
-                                eventPolling.getClientId(), EventNotificationConstants.OPEN, setsToReturn);
+                    List<String> notificationIds = new ArrayList<>(notificationPage.getNotifications().size());
+                    List<NotificationResponse> responseNotifications =
+                            new ArrayList<>(notificationPage.getNotifications().size());
+                    for (Map.Entry<Notification, List<NotificationEvent>> entry :
+                            notificationPage.getNotifications().entrySet()) {
+                        notificationIds.add(entry.getKey().getNotificationId());
+                        responseNotifications.add(eventNotificationGenerator.
+                                generateEventNotificationBody(entry.getKey(), entry.getValue()));
                     }
 
-                    if (notificationList.isEmpty()) {
-                        if (log.isDebugEnabled()) {
-                            log.debug(String.format("No FS Event Notifications available for for the client " +
-                                    "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
-                        }
-                        aggregatedPollingResponse.setStatus(HttpStatus.SC_NOT_FOUND);
-                    } else {
-                        if (log.isDebugEnabled()) {
-                            log.debug(String.format("FS Event Notifications available for the client " +
-                                    "with ID : '%s'.", eventPolling.getClientId().replaceAll("[\r\n]", "")));
-                        }
-                        aggregatedPollingResponse.setStatus(HttpStatus.SC_OK);
-
-                        for (Notification notification : notificationList) {
-
-                            //Get events by notificationId
-                            List<NotificationEvent> notificationEvents = eventNotificationDAO.
-                                    getEventsByNotificationID(connection, notification.getNotificationId());
-
-                            NotificationResponse responseNotification = eventNotificationGenerator.
-                                    generateEventNotificationBody(notification, notificationEvents);
-                            sets.put(notification.getNotificationId(), eventNotificationGenerator
-                                    .generateEventNotification(NotificationResponse.getJsonNode(responseNotification)));
-                            log.info("Retrieved FS event notifications");
-                        }
-                        aggregatedPollingResponse.setSets(sets);
+                    //Sign the notifications of the response as a batch
+                    List<String> eventNotifications = eventNotificationGenerator
+                            .generateEventNotifications(responseNotifications);
+                    if (eventNotifications.size() != notificationIds.size()) {
+                        throw new FSEventNotificationException("Signed event notification count does not match " +
+                                "the retrieved notification count");
+                    }
+                    for (int i = 0; i < notificationIds.size(); i++) {
+                        sets.put(notificationIds.get(i), eventNotifications.get(i));
                     }
+                    log.info("Retrieved FS event notifications");
+                    aggregatedPollingResponse.setSets(sets);
                 }
-
-                int count = eventNotificationDAO.getNotificationCountByClientIdAndStatus(connection,
-                        eventPolling.getClientId(), EventNotificationConstants.OPEN)
-                        - aggregatedPollingResponse.getSets().size();
-
-                aggregatedPollingResponse.setCount(count);
-                DatabaseUtils.commitTransaction(connection);
-
-                return aggregatedPollingResponse;
-            } catch (FSEventNotificationException |
-                     IOException | JOSEException | IdentityOAuth2Exception e) {
-                log.debug("Error when retrieving FS event notifications.", e);
-                DatabaseUtils.rollbackTransaction(connection);
-                throw new FSEventNotificationException("Error when retrieving FS event notifications.", e);
-            } finally {
-                log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
-                DatabaseUtils.closeConnection(connection);
             }
+
+            int count = openNotificationCount - aggregatedPollingResponse.getSets().size();
+
+            aggregatedPollingResponse.setCount(count);
+            DatabaseUtils.commitTransaction(connection);
+
+            return aggregatedPollingResponse;
+        } catch (FSEventNotificationException e) {
+            log.debug("Error when retrieving FS event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException("Error when retrieving FS event notifications.", e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
         }
+    }
+
+    private EventPollingWaiterRegistry getWaiterRegistry() {
 
-        return null;
+        if (waiterRegistry == null) {
+            waiterRegistry = EventPollingWaiterRegistry.getInstance();
+        }
+        return waiterRegistry;
     }
 }
@@ -22,11 +22,16 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCache;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCacheKey;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventSubscriptionDAO;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.internal.EventNotificationDataHolder;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
 
 import java.sql.Connection;
@@ -74,6 +79,7 @@ public class EventSubscriptionService {
             }
             log.debug("Event subscription created successfully.");
             DatabaseUtils.commitTransaction(connection);
+            invalidateEventSubscriptionIndex(eventSubscription.getClientId());
             return storeEventSubscriptionResult;
         } catch (FSEventNotificationException e) {
             log.error("Error while creating event subscription.", e);
@@ -159,6 +165,40 @@ public class EventSubscriptionService {
         }
     }
 
+    /**
+     * This method will return the event subscriptions of a client indexed by event type. The index is read from the
+     * event subscription cache and is retrieved from the database only if it is not cached.
+     *
+     * @param clientId client id of the event subscriptions
+     * @return event subscription index of the client
+     * @throws FSEventNotificationException if an error occurred while retrieving the event subscriptions
+     */
+    public EventSubscriptionIndex getEventSubscriptionIndex(String clientId) throws FSEventNotificationException {
+
+        if (clientId == null) {
+            log.error("Mandatory field clientId is null");
+            throw new FSEventNotificationException("Mandatory field clientId is null");
+        }
+
+        EventSubscriptionCache eventSubscriptionCache = EventNotificationDataHolder.getInstance()
+                .getEventSubscriptionCache();
+        if (eventSubscriptionCache == null) {
+            return new EventSubscriptionIndex(getEventSubscriptionsByClientId(clientId));
+        }
+        try {
+            EventSubscriptionIndex eventSubscriptionIndex = eventSubscriptionCache.getFromCacheOrRetrieve(
+                    EventSubscriptionCacheKey.of(clientId),
+                    () -> new EventSubscriptionIndex(getEventSubscriptionsByClientId(clientId)));
+            // The entry may expire between the lookup and the read
+            return eventSubscriptionIndex != null ? eventSubscriptionIndex :
+                    new EventSubscriptionIndex(getEventSubscriptionsByClientId(clientId));
+        } catch (FSEventNotificationException e) {
+            throw e;
+        } catch (FinancialServicesException e) {
+            throw new FSEventNotificationException(e.getMessage(), e);
+        }
+    }
+
     /**
      * This method will call the dao layer to retrieve all event subscriptions by event type.
      *
@@ -257,6 +297,9 @@ public class EventSubscriptionService {
             }
             log.debug("Event subscription updated successfully.");
             DatabaseUtils.commitTransaction(connection);
+            if (isUpdated) {
+                invalidateEventSubscriptionIndex(eventSubscription.getClientId());
+            }
             return isUpdated;
         } catch (JSONException e) {
             log.error("Error while Parsing the stored request Object", e);
@@ -289,10 +332,18 @@ public class EventSubscriptionService {
 
         try {
             EventSubscriptionDAO eventSubscriptionDAO = EventNotificationStoreInitializer.getEventSubscriptionDAO();
+            // The client of the subscription is required to invalidate its cached subscriptions
+            String clientId = null;
+            if (EventNotificationDataHolder.getInstance().getEventSubscriptionCache() != null) {
+                EventSubscription storedEventSubscription = eventSubscriptionDAO
+                        .getEventSubscriptionBySubscriptionId(connection, subscriptionId);
+                clientId = storedEventSubscription == null ? null : storedEventSubscription.getClientId();
+            }
             boolean isDeleted = eventSubscriptionDAO.deleteEventSubscription(connection, subscriptionId);
             if (isDeleted) {
                 log.debug("Event subscription deleted successfully.");
                 DatabaseUtils.commitTransaction(connection);
+                invalidateEventSubscriptionIndex(clientId);
             } else {
                 log.debug("Event subscription deletion failed.");
                 DatabaseUtils.rollbackTransaction(connection);
@@ -307,4 +358,19 @@ public class EventSubscriptionService {
             DatabaseUtils.closeConnection(connection);
         }
     }
+
+    /**
+     * Removes the cached event subscriptions of a client. Called after the subscriptions of the client are changed
+     * in the database.
+     *
+     * @param clientId client id of the changed event subscription
+     */
+    private void invalidateEventSubscriptionIndex(String clientId) {
+
+        EventSubscriptionCache eventSubscriptionCache = EventNotificationDataHolder.getInstance()
+                .getEventSubscriptionCache();
+        if (eventSubscriptionCache != null && clientId != null) {
+            eventSubscriptionCache.removeFromCache(EventSubscriptionCacheKey.of(clientId));
+        }
+    }
 }
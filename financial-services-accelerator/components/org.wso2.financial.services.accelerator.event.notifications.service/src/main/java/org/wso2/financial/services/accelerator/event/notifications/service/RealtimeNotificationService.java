@@ -31,6 +31,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.persi
 
 import java.sql.Connection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Realtime Notification service class.
@@ -72,6 +73,39 @@ public class RealtimeNotificationService {
         }
     }
 
+    /**
+     * Method to retrieve a page of notifications by status together with their events.
+     *
+     * @param status              Notification status to retrieve
+     * @param afterNotificationId Notification ID after which the page starts, or null for the first page
+     * @param limit               Maximum number of notifications in the page
+     * @return Notifications of the page mapped to their events, in notification ID order
+     * @throws FSEventNotificationException  Exception when retrieving notifications by status
+     */
+    public Map<Notification, List<NotificationEvent>> getNotificationsWithEventsByStatus(String status,
+                                                                                         String afterNotificationId,
+                                                                                         int limit)
+            throws FSEventNotificationException {
+
+        EventNotificationDAO eventNotificationDAO = EventNotificationStoreInitializer.getEventNotificationDAO();
+
+        Connection connection = DatabaseUtils.getDBConnection();
+
+        try {
+            Map<Notification, List<NotificationEvent>> notifications = eventNotificationDAO
+                    .getNotificationsWithEventsByStatus(connection, status, afterNotificationId, limit);
+            DatabaseUtils.commitTransaction(connection);
+            return notifications;
+        } catch (FSEventNotificationException e) {
+            log.error("Error while retrieving event notifications.", e);
+            DatabaseUtils.rollbackTransaction(connection);
+            throw new FSEventNotificationException(e.getMessage(), e);
+        } finally {
+            log.debug(EventNotificationConstants.DATABASE_CONNECTION_CLOSE_LOG_MSG);
+            DatabaseUtils.closeConnection(connection);
+        }
+    }
+
     /**
      * Method to retrieve notifications by NotificationID.
      *
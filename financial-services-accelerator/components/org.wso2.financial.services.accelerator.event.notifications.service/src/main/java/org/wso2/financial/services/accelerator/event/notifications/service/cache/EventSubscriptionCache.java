@@ -0,0 +1,73 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.cache;
+
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
+
+/**
+ * Cache definition to store the event subscription index of each client.
+ * <p>
+ * Entries are invalidated when a subscription of the client is created, updated or deleted. The cache is not a
+ * local cache, so in a clustered deployment the invalidation is propagated to the other nodes by the Carbon
+ * caching framework.
+ */
+public class EventSubscriptionCache extends FinancialServicesBaseCache<EventSubscriptionCacheKey,
+        EventSubscriptionIndex> {
+
+    private static final String CACHE_NAME = "FS_EVENT_SUBSCRIPTION_CACHE";
+
+    private final Integer accessExpiryMinutes;
+    private final Integer modifiedExpiryMinutes;
+
+    /**
+     * Initialize with unique cache name.
+     */
+    public EventSubscriptionCache() {
+
+        super(CACHE_NAME);
+        this.accessExpiryMinutes = FinancialServicesConfigParser.getInstance().getCommonCacheAccessExpiryTime();
+        this.modifiedExpiryMinutes = FinancialServicesConfigParser.getInstance().getCommonCacheModifiedExpiryTime();
+    }
+
+    /**
+     * The entries are kept in the Carbon caching framework even if the local cache engine is enabled, so that the
+     * invalidations are propagated to the other nodes of a cluster.
+     *
+     * @return false
+     */
+    @Override
+    protected boolean isLocalCacheEnabled() {
+
+        return false;
+    }
+
+    @Override
+    public int getCacheAccessExpiryMinutes() {
+
+        return accessExpiryMinutes;
+    }
+
+    @Override
+    public int getCacheModifiedExpiryMinutes() {
+
+        return modifiedExpiryMinutes;
+    }
+}
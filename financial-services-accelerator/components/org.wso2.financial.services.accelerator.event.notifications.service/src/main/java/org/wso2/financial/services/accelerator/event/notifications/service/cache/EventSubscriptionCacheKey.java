@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.cache;
+
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCacheKey;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Cache key for the event subscription cache. Entries are keyed by client ID.
+ */
+public class EventSubscriptionCacheKey extends FinancialServicesBaseCacheKey implements Serializable {
+
+    private static final long serialVersionUID = 5462173094812376201L;
+    private final String clientId;
+
+    public EventSubscriptionCacheKey(String clientId) {
+
+        this.clientId = clientId;
+    }
+
+    public static EventSubscriptionCacheKey of(String clientId) {
+
+        return new EventSubscriptionCacheKey(clientId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EventSubscriptionCacheKey that = (EventSubscriptionCacheKey) o;
+        return Objects.equals(clientId, that.clientId);
+    }
+
+    @Override
+    public int hashCode() {
+
+        return Objects.hash(clientId);
+    }
+
+    @Override
+    public String toString() {
+
+        return clientId;
+    }
+}
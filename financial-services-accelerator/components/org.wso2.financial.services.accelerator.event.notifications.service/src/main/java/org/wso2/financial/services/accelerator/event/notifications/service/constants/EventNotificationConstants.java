@@ -18,6 +18,8 @@
 
 package org.wso2.financial.services.accelerator.event.notifications.service.constants;
 
+import org.wso2.financial.services.accelerator.common.persistence.DatabaseIndexValidator;
+
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -35,6 +37,19 @@ public class EventNotificationConstants {
     public static final String ERROR = "ERR";
     public static final String OPEN = "OPEN";
 
+    // Secondary indexes of the event notification tables used by the polling and subscription queries
+    public static final List<DatabaseIndexValidator.IndexDefinition> SECONDARY_INDEXES = Arrays.asList(
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_NOTIF_CLIENT_STATUS", "FS_NOTIFICATION",
+                    "CLIENT_ID", "STATUS"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_NOTIF_STATUS", "FS_NOTIFICATION", "STATUS"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_NOTIF_EVENT_NOTIF_ID", "FS_NOTIFICATION_EVENT",
+                    "NOTIFICATION_ID"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_NOTIF_SUB_CLIENT_ID", "FS_NOTIFICATION_SUBSCRIPTION",
+                    "CLIENT_ID", "STATUS"),
+            new DatabaseIndexValidator.IndexDefinition("IDX_FS_NOTIF_SUB_EVENT_TYPE",
+                    "FS_NOTIFICATION_SUBSCRIBED_EVENTS", "EVENT_TYPE")
+    );
+
     /**
      * Specifies the Schema Names of Debtor Account.
      */
@@ -83,6 +98,7 @@ public class EventNotificationConstants {
     public static final String STATUS = "STATUS";
     public static final String UPDATED_TIMESTAMP = "UPDATED_TIMESTAMP";
     public static final String EVENT_INFO = "EVENT_INFO";
+    public static final String TOTAL_COUNT = "TOTAL_COUNT";
     public static final String EVENT_TYPE = "EVENT_TYPE";
     public static final String SUBSCRIPTION_ID = "SUBSCRIPTION_ID";
     public static final String CALLBACK_URL = "CALLBACK_URL";
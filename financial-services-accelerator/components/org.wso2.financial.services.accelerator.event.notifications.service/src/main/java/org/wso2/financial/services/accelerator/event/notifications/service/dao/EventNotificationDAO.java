@@ -22,10 +22,12 @@ import org.wso2.financial.services.accelerator.event.notifications.service.excep
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 
 import java.sql.Connection;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Event Publisher DAO interface.
@@ -57,6 +59,28 @@ public interface EventNotificationDAO {
     void updateNotificationStatusById(Connection connection, String notificationId, String notificationStatus)
             throws FSEventNotificationException;
 
+    /**
+     * This method is to update the status of multiple notifications with a single statement per chunk of IDs.
+     *
+     * @param connection         Database connection
+     * @param notificationIds    Notification IDs to update
+     * @param notificationStatus Notification status to update
+     * @throws FSEventNotificationException  Exception when any of the notifications is not found or the update fails
+     */
+    void updateNotificationStatusByIds(Connection connection, List<String> notificationIds, String notificationStatus)
+            throws FSEventNotificationException;
+
+    /**
+     * This method is to mark the notifications in OPEN status as erroneous and store their error details. Errors
+     * of notifications which are not in OPEN status are ignored.
+     *
+     * @param connection          Database connection
+     * @param notificationErrors  Notification error details by notification ID
+     * @throws FSEventNotificationException  Exception when updating the notifications or storing the error details
+     */
+    void storeErrorNotifications(Connection connection, Map<String, NotificationError> notificationErrors)
+            throws FSEventNotificationException;
+
     /**
      * This method is to store event notifications error details in the FS_NOTIFICATION table.
      *
@@ -80,6 +104,22 @@ public interface EventNotificationDAO {
     List<Notification> getNotificationsByClientIdAndStatus(Connection connection, String clientId, String
             status, int max) throws FSEventNotificationException;
 
+    /**
+     * This method is to retrieve the first notifications of a client with the given status together with their
+     * events, and the total number of notifications of the client with the status, in a single query.
+     * Notifications are ordered by notification ID.
+     *
+     * @param connection  Database connection
+     * @param clientId    Client ID to retrieve notifications
+     * @param status      Notification status to retrieve
+     * @param max         Maximum number of notifications to retrieve
+     * @return Notifications mapped to their events, and the total notification count by client ID and status
+     * @throws FSEventNotificationException  Exception when retrieving notifications by client ID and status
+     */
+    NotificationPage getNotificationsWithEventsByClientIdAndStatus(Connection connection, String clientId,
+                                                                   String status, int max)
+            throws FSEventNotificationException;
+
     /**
      * This method is to retrieve notifications by NotificationID.
      *
@@ -124,4 +164,22 @@ public interface EventNotificationDAO {
      */
     boolean getNotificationStatus(Connection connection, String notificationId) throws FSEventNotificationException;
 
+    /**
+     * This method is to retrieve a page of notifications by status together with their events in a single query.
+     * Notifications are ordered by notification ID, so the last notification ID of a page is used as the cursor
+     * of the next page.
+     *
+     * @param connection          Database connection
+     * @param status              Notification status to retrieve
+     * @param afterNotificationId Notification ID after which the page starts, or null for the first page
+     * @param limit               Maximum number of notifications in the page
+     * @return Notifications of the page mapped to their events, in notification ID order
+     * @throws FSEventNotificationException  Exception when retrieving notifications by status
+     */
+    Map<Notification, List<NotificationEvent>> getNotificationsWithEventsByStatus(Connection connection,
+                                                                                  String status,
+                                                                                  String afterNotificationId,
+                                                                                  int limit)
+            throws FSEventNotificationException;
+
 }
@@ -20,11 +20,13 @@ package org.wso2.financial.services.accelerator.event.notifications.service.dao;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.json.JSONException;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 import org.wso2.financial.services.accelerator.event.notifications.service.queries.EventNotificationSqlStatements;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
@@ -33,7 +35,11 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persisting event notifications to database.
@@ -41,6 +47,8 @@ import java.util.List;
 public class EventNotificationDAOImpl implements EventNotificationDAO {
 
     private static Log log = LogFactory.getLog(EventNotificationDAOImpl.class);
+    // Notification IDs are bound in chunks to stay within the "IN" clause limits of the databases
+    private static final int NOTIFICATION_ID_BATCH_SIZE = 1000;
     protected EventNotificationSqlStatements sqlStatements;
 
     public EventNotificationDAOImpl(EventNotificationSqlStatements eventNotificationSqlStatements) {
@@ -132,6 +140,98 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
         }
     }
 
+    @Override
+    public void updateNotificationStatusByIds(Connection connection, List<String> notificationIds,
+                                              String notificationStatus) throws FSEventNotificationException {
+
+        // Duplicates are removed so that the updated row count can be compared with the number of IDs
+        List<String> distinctNotificationIds = new ArrayList<>(new LinkedHashSet<>(notificationIds));
+        long currentTimestamp = System.currentTimeMillis() / 1000;
+
+        for (List<String> notificationIdBatch : getNotificationIdBatches(distinctNotificationIds)) {
+            String sql = sqlStatements.getUpdateNotificationStatusByIdsQuery(
+                    getPlaceholders(notificationIdBatch.size()));
+            String joinedNotificationIds = String.join(", ", notificationIdBatch);
+            try (PreparedStatement updateNotificationStatusByIds = connection.prepareStatement(sql)) {
+                updateNotificationStatusByIds.setString(1, notificationStatus);
+                updateNotificationStatusByIds.setLong(2, currentTimestamp);
+                setNotificationIds(updateNotificationStatusByIds, 3, notificationIdBatch);
+
+                int affectedRows = updateNotificationStatusByIds.executeUpdate();
+                if (affectedRows != notificationIdBatch.size()) {
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Updated %d of the notifications with IDs : '%s'", affectedRows,
+                                joinedNotificationIds.replaceAll("[\r\n]", "")));
+                    }
+                    throw new FSEventNotificationException(String.format(
+                            EventNotificationConstants.DB_ERROR_UPDATING, joinedNotificationIds));
+                }
+            } catch (SQLException e) {
+                log.error(String.format(EventNotificationConstants.DB_ERROR_UPDATING,
+                        joinedNotificationIds.replaceAll("[\r\n]", "")), e);
+                throw new FSEventNotificationException(String.format(EventNotificationConstants.DB_ERROR_UPDATING,
+                        joinedNotificationIds), e);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Updated %d notifications to %s status", distinctNotificationIds.size(),
+                    notificationStatus.replaceAll("[\r\n]", "")));
+        }
+    }
+
+    @Override
+    public void storeErrorNotifications(Connection connection, Map<String, NotificationError> notificationErrors)
+            throws FSEventNotificationException {
+
+        List<String> openNotificationIds = new ArrayList<>();
+        for (List<String> notificationIdBatch : getNotificationIdBatches(
+                new ArrayList<>(notificationErrors.keySet()))) {
+            String sql = sqlStatements.getNotificationIdsByStatusQuery(getPlaceholders(notificationIdBatch.size()));
+            try (PreparedStatement getOpenNotificationIds = connection.prepareStatement(sql)) {
+                getOpenNotificationIds.setString(1, EventNotificationConstants.OPEN);
+                setNotificationIds(getOpenNotificationIds, 2, notificationIdBatch);
+                try (ResultSet resultSet = getOpenNotificationIds.executeQuery()) {
+                    while (resultSet.next()) {
+                        openNotificationIds.add(resultSet.getString(EventNotificationConstants.NOTIFICATION_ID));
+                    }
+                }
+            } catch (SQLException e) {
+                throw new FSEventNotificationException("Error occurred while retrieving the status of the " +
+                        "erroneous notifications", e);
+            }
+        }
+        if (openNotificationIds.isEmpty()) {
+            log.debug("No erroneous notifications in OPEN status to update");
+            return;
+        }
+
+        updateNotificationStatusByIds(connection, openNotificationIds, EventNotificationConstants.ERROR);
+
+        try (PreparedStatement storeErrorNotifications =
+                     connection.prepareStatement(sqlStatements.storeErrorNotificationQuery())) {
+            for (String notificationId : openNotificationIds) {
+                NotificationError notificationError = notificationErrors.get(notificationId);
+                storeErrorNotifications.setString(1, notificationId);
+                storeErrorNotifications.setString(2, notificationError.getErrorCode());
+                storeErrorNotifications.setString(3, notificationError.getErrorDescription());
+                storeErrorNotifications.addBatch();
+            }
+            int[] affectedRows = storeErrorNotifications.executeBatch();
+            for (int i = 0; i < affectedRows.length; i++) {
+                if (affectedRows[i] == 0 || affectedRows[i] == PreparedStatement.EXECUTE_FAILED) {
+                    throw new FSEventNotificationException(EventNotificationConstants.
+                            DB_FAILED_ERROR_NOTIFICATION_STORING + openNotificationIds.get(i));
+                }
+            }
+        } catch (SQLException e) {
+            throw new FSEventNotificationException(EventNotificationConstants.
+                    DB_ERROR_STORING_ERROR_NOTIFICATION, e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Successfully stored %d error notifications", openNotificationIds.size()));
+        }
+    }
+
     @Override
     public void storeErrorNotification(Connection connection, NotificationError notificationError)
             throws FSEventNotificationException {
@@ -222,6 +322,54 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
         return notificationList;
     }
 
+    @Override
+    public NotificationPage getNotificationsWithEventsByClientIdAndStatus(Connection connection, String clientId,
+                                                                          String status, int max)
+            throws FSEventNotificationException {
+
+        Map<Notification, List<NotificationEvent>> notifications = new LinkedHashMap<>();
+        int totalCount = 0;
+        String sql = sqlStatements.getNotificationsWithEventsByClientIdAndStatusQuery();
+        try (PreparedStatement getNotificationsPreparedStatement = connection.prepareStatement(sql)) {
+            getNotificationsPreparedStatement.setString(1, clientId);
+            getNotificationsPreparedStatement.setString(2, status);
+            getNotificationsPreparedStatement.setInt(3, max);
+            getNotificationsPreparedStatement.setString(4, clientId);
+            getNotificationsPreparedStatement.setString(5, status);
+
+            try (ResultSet resultSet = getNotificationsPreparedStatement.executeQuery()) {
+                // Rows of a notification are consecutive since the result is ordered by notification ID
+                Notification notification = null;
+                List<NotificationEvent> events = null;
+                while (resultSet.next()) {
+                    String notificationId = resultSet.getString(EventNotificationConstants.NOTIFICATION_ID);
+                    if (notification == null || !notification.getNotificationId().equals(notificationId)) {
+                        notification = getNotification(resultSet, notificationId);
+                        events = new ArrayList<>();
+                        notifications.put(notification, events);
+                        totalCount = resultSet.getInt(EventNotificationConstants.TOTAL_COUNT);
+                    }
+                    NotificationEvent event = getNotificationEvent(resultSet, notificationId);
+                    if (event != null) {
+                        events.add(event);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new FSEventNotificationException(String.format
+                    (EventNotificationConstants.DB_ERROR_NOTIFICATION_RETRIEVE, clientId), e);
+        } catch (JSONException e) {
+            throw new FSEventNotificationException(String.format(
+                    "Error occurred while parsing events of notifications for client ID : '%s'.", clientId), e);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format(notifications.isEmpty() ? EventNotificationConstants.NO_NOTIFICATIONS_FOUND_CLIENT
+                    : EventNotificationConstants.RETRIEVED_NOTIFICATION_CLIENT, clientId.replaceAll("[\r\n]", "")));
+        }
+        return new NotificationPage(notifications, totalCount);
+    }
+
     @Override
     public List<NotificationEvent> getEventsByNotificationID(Connection connection, String notificationId)
             throws FSEventNotificationException {
@@ -392,4 +540,110 @@ public class EventNotificationDAOImpl implements EventNotificationDAO {
 
         return false;
     }
+
+    @Override
+    public Map<Notification, List<NotificationEvent>> getNotificationsWithEventsByStatus(Connection connection,
+                                                                                         String status,
+                                                                                         String afterNotificationId,
+                                                                                         int limit)
+            throws FSEventNotificationException {
+
+        Map<Notification, List<NotificationEvent>> notifications = new LinkedHashMap<>();
+        String sql = sqlStatements.getNotificationsWithEventsByStatusQuery(afterNotificationId != null);
+        try (PreparedStatement getNotificationsPreparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            getNotificationsPreparedStatement.setString(parameterIndex++, status);
+            if (afterNotificationId != null) {
+                getNotificationsPreparedStatement.setString(parameterIndex++, afterNotificationId);
+            }
+            getNotificationsPreparedStatement.setInt(parameterIndex, limit);
+
+            try (ResultSet resultSet = getNotificationsPreparedStatement.executeQuery()) {
+                // Rows of a notification are consecutive since the result is ordered by notification ID
+                Notification notification = null;
+                List<NotificationEvent> events = null;
+                while (resultSet.next()) {
+                    String notificationId = resultSet.getString(EventNotificationConstants.NOTIFICATION_ID);
+                    if (notification == null || !notification.getNotificationId().equals(notificationId)) {
+                        notification = getNotification(resultSet, notificationId);
+                        events = new ArrayList<>();
+                        notifications.put(notification, events);
+                    }
+                    NotificationEvent event = getNotificationEvent(resultSet, notificationId);
+                    if (event != null) {
+                        events.add(event);
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new FSEventNotificationException(String.format(
+                    "Error occurred while retrieving notifications with status : '%s'.", status), e);
+        } catch (JSONException e) {
+            throw new FSEventNotificationException(String.format(
+                    "Error occurred while parsing events of notifications with status : '%s'.", status), e);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Retrieved %d notifications with %s status", notifications.size(),
+                    status.replaceAll("[\r\n]", "")));
+        }
+        return notifications;
+    }
+
+    /**
+     * Reads the notification columns of a row of a notification joined with its events.
+     */
+    private static Notification getNotification(ResultSet resultSet, String notificationId) throws SQLException {
+
+        Notification notification = new Notification();
+        notification.setNotificationId(notificationId);
+        notification.setClientId(resultSet.getString(EventNotificationConstants.CLIENT_ID));
+        notification.setResourceId(resultSet.getString(EventNotificationConstants.RESOURCE_ID));
+        notification.setStatus(resultSet.getString(EventNotificationConstants.STATUS));
+        notification.setUpdatedTimeStamp(resultSet.getLong(EventNotificationConstants.UPDATED_TIMESTAMP));
+        return notification;
+    }
+
+    /**
+     * Reads the event columns of a row of a notification joined with its events.
+     *
+     * @return the event, or null if the notification has no events
+     */
+    private static NotificationEvent getNotificationEvent(ResultSet resultSet, String notificationId)
+            throws SQLException {
+
+        String eventType = resultSet.getString(EventNotificationConstants.EVENT_TYPE);
+        if (eventType == null) {
+            return null;
+        }
+        NotificationEvent event = new NotificationEvent();
+        event.setNotificationId(notificationId);
+        event.setEventType(eventType);
+        event.setEventInformation(EventNotificationServiceUtil.getEventJSONFromString(
+                resultSet.getString(EventNotificationConstants.EVENT_INFO)));
+        return event;
+    }
+
+    private static List<List<String>> getNotificationIdBatches(List<String> notificationIds) {
+
+        List<List<String>> notificationIdBatches = new ArrayList<>();
+        for (int fromIndex = 0; fromIndex < notificationIds.size(); fromIndex += NOTIFICATION_ID_BATCH_SIZE) {
+            notificationIdBatches.add(notificationIds.subList(fromIndex,
+                    Math.min(fromIndex + NOTIFICATION_ID_BATCH_SIZE, notificationIds.size())));
+        }
+        return notificationIdBatches;
+    }
+
+    private static String getPlaceholders(int count) {
+
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static void setNotificationIds(PreparedStatement preparedStatement, int firstParameterIndex,
+                                           List<String> notificationIds) throws SQLException {
+
+        int parameterIndex = firstParameterIndex;
+        for (String notificationId : notificationIds) {
+            preparedStatement.setString(parameterIndex++, notificationId);
+        }
+    }
 }
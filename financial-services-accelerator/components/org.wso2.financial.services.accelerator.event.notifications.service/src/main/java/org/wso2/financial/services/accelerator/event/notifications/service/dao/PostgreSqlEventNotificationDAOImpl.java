@@ -25,6 +25,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.const
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 import org.wso2.financial.services.accelerator.event.notifications.service.queries.EventNotificationSqlStatements;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
@@ -35,6 +36,7 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * PostgreSql event polling dao class.
@@ -111,6 +113,20 @@ public class PostgreSqlEventNotificationDAOImpl extends EventNotificationDAOImpl
         return notificationList;
     }
 
+    @Override
+    public NotificationPage getNotificationsWithEventsByClientIdAndStatus(Connection connection, String clientId,
+                                                                          String status, int max)
+            throws FSEventNotificationException {
+
+        NotificationPage notificationPage = super.getNotificationsWithEventsByClientIdAndStatus(connection, clientId,
+                status, max);
+        // Polled notifications carry the updated time in milliseconds, as read by getNotificationsByClientIdAndStatus
+        for (Notification notification : notificationPage.getNotifications().keySet()) {
+            notification.setUpdatedTimeStamp(TimeUnit.SECONDS.toMillis(notification.getUpdatedTimeStamp()));
+        }
+        return notificationPage;
+    }
+
     @Override
     public List<NotificationEvent> getEventsByNotificationID(Connection connection, String notificationId)
             throws FSEventNotificationException {
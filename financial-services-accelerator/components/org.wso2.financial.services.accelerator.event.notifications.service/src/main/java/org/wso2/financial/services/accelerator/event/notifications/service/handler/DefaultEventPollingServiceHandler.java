@@ -43,6 +43,8 @@ import org.wso2.financial.services.accelerator.event.notifications.service.util.
 
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * This is the service handler for event polling.
@@ -66,7 +68,60 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
      */
     public EventPollingResponse pollEvents(EventPollingDTO eventPollingDTO) {
 
-        EventPollingResponse eventPollingResponse = new EventPollingResponse();
+        EventPolling eventPolling = mapEventPollingDtoToModel(eventPollingDTO);
+        EventPollingResponse validationResponse = validatePollingRequest(eventPollingDTO, eventPolling);
+        if (validationResponse != null) {
+            return validationResponse;
+        }
+        //Poll events
+        try {
+            AggregatedPollingResponse aggregatedPollingResponse = eventPollingService.pollEvents(eventPolling);
+            return getPollingResponse(aggregatedPollingResponse);
+        } catch (FSEventNotificationException e) {
+            return getPollingErrorResponse(e);
+        }
+    }
+
+    /**
+     * This method is used to Poll Events as per request params without blocking the calling thread while a long
+     * polling request waits for notifications.
+     * @param eventPollingDTO Event polling DTO
+     * @return  future of the EventPollingResponse
+     */
+    @Override
+    public CompletableFuture<EventPollingResponse> pollEventsAsync(EventPollingDTO eventPollingDTO) {
+
+        EventPolling eventPolling = mapEventPollingDtoToModel(eventPollingDTO);
+        EventPollingResponse validationResponse = validatePollingRequest(eventPollingDTO, eventPolling);
+        if (validationResponse != null) {
+            return CompletableFuture.completedFuture(validationResponse);
+        }
+        //Poll events
+        return eventPollingService.pollEventsAsync(eventPolling).handle((aggregatedPollingResponse, throwable) -> {
+            try {
+                if (throwable != null) {
+                    Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ?
+                            throwable.getCause() : throwable;
+                    if (cause instanceof FSEventNotificationException) {
+                        throw (FSEventNotificationException) cause;
+                    }
+                    throw new FSEventNotificationException("Error when retrieving FS event notifications.", cause);
+                }
+                return getPollingResponse(aggregatedPollingResponse);
+            } catch (FSEventNotificationException e) {
+                return getPollingErrorResponse(e);
+            }
+        });
+    }
+
+    /**
+     * Validates the client, the subscription of the client and the polling request.
+     *
+     * @param eventPollingDTO Event polling DTO
+     * @param eventPolling    Event polling model
+     * @return error response if the request is invalid, null otherwise
+     */
+    private EventPollingResponse validatePollingRequest(EventPollingDTO eventPollingDTO, EventPolling eventPolling) {
 
         EventPollingResponse clientIdValidation = validateClientId(eventPollingDTO.getClientId());
         // check whether clientIdValidation is not null, then return the error response
@@ -74,10 +129,7 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
             return clientIdValidation;
         }
 
-        EventPolling eventPolling = mapEventPollingDtoToModel(eventPollingDTO);
-        //Poll events
         try {
-
             if (Boolean.parseBoolean(configs.get(FinancialServicesConstants.REQUIRE_SUBSCRIPTION_TO_POLL).toString()) &&
                     !EventNotificationServiceUtil.isSubscriptionExist(new EventSubscriptionService(),
                             eventPollingDTO.getClientId())) {
@@ -85,6 +137,7 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
                     log.debug(String.format("'%s' with clientId '%s'.", EventNotificationConstants.SUBSCRIPTION_EXISTS,
                             eventPollingDTO.getClientId().replaceAll("[\r\n]", "")));
                 }
+                EventPollingResponse eventPollingResponse = new EventPollingResponse();
                 eventPollingResponse.setStatus(HttpStatus.SC_CONFLICT);
                 eventPollingResponse.setResponseBody(EventNotificationServiceUtil.getErrorDTO(
                         EventNotificationConstants.INVALID_REQUEST,
@@ -92,24 +145,31 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
                 return eventPollingResponse;
             }
 
-            EventPollingResponse validationResponse = handleValidation(new JSONObject(eventPolling));
-            if (validationResponse != null) {
-                return validationResponse;
-            }
-            AggregatedPollingResponse aggregatedPollingResponse = eventPollingService.pollEvents(eventPolling);
-
-            eventPollingResponse.setStatus(aggregatedPollingResponse.getStatus());
-            eventPollingResponse.setResponseBody(handleResponseGeneration(aggregatedPollingResponse));
-            return eventPollingResponse;
+            return handleValidation(new JSONObject(eventPolling));
         } catch (FSEventNotificationException e) {
-            log.error("Error occurred while polling events" , e);
-            eventPollingResponse.setStatus(e.getStatus() == 0 ? HttpStatus.SC_INTERNAL_SERVER_ERROR : e.getStatus());
-            eventPollingResponse.setErrorResponse(EventNotificationServiceUtil.getErrorDTO(
-                    EventNotificationConstants.INVALID_REQUEST, e.getMessage()));
-            return eventPollingResponse;
+            return getPollingErrorResponse(e);
         }
     }
 
+    private EventPollingResponse getPollingResponse(AggregatedPollingResponse aggregatedPollingResponse)
+            throws FSEventNotificationException {
+
+        EventPollingResponse eventPollingResponse = new EventPollingResponse();
+        eventPollingResponse.setStatus(aggregatedPollingResponse.getStatus());
+        eventPollingResponse.setResponseBody(handleResponseGeneration(aggregatedPollingResponse));
+        return eventPollingResponse;
+    }
+
+    private EventPollingResponse getPollingErrorResponse(FSEventNotificationException e) {
+
+        log.error("Error occurred while polling events" , e);
+        EventPollingResponse eventPollingResponse = new EventPollingResponse();
+        eventPollingResponse.setStatus(e.getStatus() == 0 ? HttpStatus.SC_INTERNAL_SERVER_ERROR : e.getStatus());
+        eventPollingResponse.setErrorResponse(EventNotificationServiceUtil.getErrorDTO(
+                EventNotificationConstants.INVALID_REQUEST, e.getMessage()));
+        return eventPollingResponse;
+    }
+
     /**
      * This method will map the event subscription DTO to event subscription model
      * to be passed to the dao layer.
@@ -122,7 +182,8 @@ public class DefaultEventPollingServiceHandler implements EventPollingServiceHan
         EventPolling eventPolling = new EventPolling();
         eventPolling.setClientId(eventPollingDTO.getClientId());
         eventPolling.setMaxEvents(eventPollingDTO.getMaxEvents());
-        eventPolling.setReturnImmediately(eventPollingDTO.getReturnImmediately());
+        eventPolling.setReturnImmediately(eventPollingDTO.getReturnImmediately() == null ||
+                eventPollingDTO.getReturnImmediately());
         eventPolling.setSetsToReturn(FinancialServicesConfigParser.getInstance().getNumberOfSetsToReturn());
         eventPollingDTO.getAck().forEach(eventPolling::setAck);
         eventPollingDTO.getErrors().forEach(eventPolling::setErrors);
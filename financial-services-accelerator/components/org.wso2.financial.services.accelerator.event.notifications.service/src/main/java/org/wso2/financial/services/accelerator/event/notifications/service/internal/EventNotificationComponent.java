@@ -23,14 +23,26 @@ import org.apache.commons.logging.LogFactory;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.wso2.carbon.identity.oauth2.OAuth2Service;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementRuntimeException;
+import org.wso2.financial.services.accelerator.common.persistence.DatabaseIndexValidator;
+import org.wso2.financial.services.accelerator.common.persistence.JDBCPersistenceManager;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCache;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.EventNotificationProducerStage;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationDeliveryEngine;
 import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationLoaderService;
-import org.wso2.financial.services.accelerator.event.notifications.service.realtime.util.activator.PeriodicalEventNotificationConsumerJobActivator;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.LinkedBlockingQueue;
 
 /**
  * The Component class for activating event notification osgi service.
@@ -46,19 +58,59 @@ public class EventNotificationComponent {
     protected void activate(ComponentContext context) {
         log.debug("Event Notification Service Component Activated");
 
+        // Report the secondary indexes missing in databases created with an earlier version
+        try (Connection connection = JDBCPersistenceManager.getInstance().getDBConnection()) {
+            DatabaseIndexValidator.logMissingIndexes(connection, EventNotificationConstants.SECONDARY_INDEXES,
+                    "event notification");
+        } catch (SQLException | ConsentManagementRuntimeException e) {
+            log.warn("Unable to obtain a database connection to verify the event notification database indexes");
+        }
+
+        // Cache the subscriptions of each client, read whenever an event notification is produced
+        EventNotificationDataHolder.getInstance().setEventSubscriptionCache(new EventSubscriptionCache());
+
         // Check if realtime event notification enabled
         if (FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationEnabled()) {
             /*
-             * Initialize the blocking queue for storing the realtime event notifications
-             * Initialize the quartz job for consuming the realtime event notifications
+             * Initialize the bounded blocking queue for storing the realtime event notifications
+             * Initialize the delivery engine for consuming the realtime event notifications
+             * Initialize the producer stage for producing the realtime event notifications of new events
              * Initialize the thread for producing the open state realtime event notifications
              */
             log.debug("Realtime Event Notification Service Activated");
+            LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(
+                    FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationQueueCapacity());
+            EventNotificationDataHolder.getInstance().setRealtimeEventNotificationQueue(queue);
+            RealtimeEventNotificationDeliveryEngine deliveryEngine = new RealtimeEventNotificationDeliveryEngine(queue);
+            EventNotificationDataHolder.getInstance().setRealtimeEventNotificationDeliveryEngine(deliveryEngine);
+            deliveryEngine.start();
+            EventNotificationProducerStage producerStage = new EventNotificationProducerStage(queue);
+            producerStage.start();
+            EventNotificationDataHolder.getInstance().setEventNotificationProducerStage(producerStage);
             new Thread(new RealtimeEventNotificationLoaderService()).start();
-            new PeriodicalEventNotificationConsumerJobActivator().activate();
         }
     }
 
+    @Deactivate
+    protected void deactivate(ComponentContext context) {
+
+        EventNotificationProducerStage producerStage = EventNotificationDataHolder.getInstance()
+                .getEventNotificationProducerStage();
+        if (producerStage != null) {
+            producerStage.stop();
+            EventNotificationDataHolder.getInstance().setEventNotificationProducerStage(null);
+        }
+
+        RealtimeEventNotificationDeliveryEngine deliveryEngine = EventNotificationDataHolder.getInstance()
+                .getRealtimeEventNotificationDeliveryEngine();
+        if (deliveryEngine != null) {
+            deliveryEngine.stop();
+            EventNotificationDataHolder.getInstance().setRealtimeEventNotificationDeliveryEngine(null);
+        }
+
+        EventNotificationDataHolder.getInstance().setEventSubscriptionCache(null);
+    }
+
     /**
      * Setters for the descendent OSGI services of the EventNotificationComponent.
      * This is added to run the EventNotification OSGI component after the Common module
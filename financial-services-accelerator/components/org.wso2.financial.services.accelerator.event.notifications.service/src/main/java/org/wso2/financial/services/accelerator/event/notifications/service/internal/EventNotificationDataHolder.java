@@ -21,7 +21,10 @@ package org.wso2.financial.services.accelerator.event.notifications.service.inte
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCache;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.EventNotificationProducerStage;
+import org.wso2.financial.services.accelerator.event.notifications.service.realtime.service.RealtimeEventNotificationDeliveryEngine;
 
 import java.util.concurrent.LinkedBlockingQueue;
 
@@ -33,6 +36,9 @@ public class EventNotificationDataHolder {
     private static volatile EventNotificationDataHolder instance;
     private volatile LinkedBlockingQueue<RealtimeEventNotification> realtimeEventNotificationQueue;
     private FinancialServicesConfigurationService configService;
+    private RealtimeEventNotificationDeliveryEngine realtimeEventNotificationDeliveryEngine;
+    private EventNotificationProducerStage eventNotificationProducerStage;
+    private volatile EventSubscriptionCache eventSubscriptionCache;
 
     private EventNotificationDataHolder() {
         this.realtimeEventNotificationQueue = new LinkedBlockingQueue<>();
@@ -71,4 +77,34 @@ public class EventNotificationDataHolder {
 
         this.configService = configService;
     }
+
+    public RealtimeEventNotificationDeliveryEngine getRealtimeEventNotificationDeliveryEngine() {
+
+        return realtimeEventNotificationDeliveryEngine;
+    }
+
+    public void setRealtimeEventNotificationDeliveryEngine(RealtimeEventNotificationDeliveryEngine deliveryEngine) {
+
+        this.realtimeEventNotificationDeliveryEngine = deliveryEngine;
+    }
+
+    public EventNotificationProducerStage getEventNotificationProducerStage() {
+
+        return eventNotificationProducerStage;
+    }
+
+    public void setEventNotificationProducerStage(EventNotificationProducerStage producerStage) {
+
+        this.eventNotificationProducerStage = producerStage;
+    }
+
+    public EventSubscriptionCache getEventSubscriptionCache() {
+
+        return eventSubscriptionCache;
+    }
+
+    public void setEventSubscriptionCache(EventSubscriptionCache eventSubscriptionCache) {
+
+        this.eventSubscriptionCache = eventSubscriptionCache;
+    }
 }
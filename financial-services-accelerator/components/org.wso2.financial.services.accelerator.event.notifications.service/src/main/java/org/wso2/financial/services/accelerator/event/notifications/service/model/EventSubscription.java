@@ -18,12 +18,15 @@
 
 package org.wso2.financial.services.accelerator.event.notifications.service.model;
 
+import java.io.Serializable;
 import java.util.List;
 
 /**
  * This is the Event Subscription Model.
  */
-public class EventSubscription {
+public class EventSubscription implements Serializable {
+
+    private static final long serialVersionUID = 2174830597163402815L;
 
     private String subscriptionId = null;
     private String clientId = null;
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.model;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Event subscriptions of a client indexed by the subscribed event types.
+ * <p>
+ * The index is built once from the subscriptions of the client, so matching the events of a notification to the
+ * subscriptions to notify is a map lookup per event instead of a scan over the event types of every subscription.
+ * Only subscriptions with a callback URL are indexed by event type.
+ */
+public class EventSubscriptionIndex implements Serializable {
+
+    private static final long serialVersionUID = -3785046127360539471L;
+
+    private final List<EventSubscription> eventSubscriptions;
+    private final Map<String, List<EventSubscription>> callbackSubscriptionsByEventType;
+
+    public EventSubscriptionIndex(List<EventSubscription> eventSubscriptions) {
+
+        List<EventSubscription> subscriptions = eventSubscriptions == null ? new ArrayList<>() :
+                new ArrayList<>(eventSubscriptions);
+        Map<String, List<EventSubscription>> subscriptionsByEventType = new HashMap<>();
+        for (EventSubscription subscription : subscriptions) {
+            if (StringUtils.isEmpty(subscription.getCallbackUrl()) || subscription.getEventTypes() == null) {
+                continue;
+            }
+            for (String eventType : subscription.getEventTypes()) {
+                List<EventSubscription> eventTypeSubscriptions = subscriptionsByEventType
+                        .computeIfAbsent(eventType, type -> new ArrayList<>());
+                if (!eventTypeSubscriptions.contains(subscription)) {
+                    eventTypeSubscriptions.add(subscription);
+                }
+            }
+        }
+        this.eventSubscriptions = Collections.unmodifiableList(subscriptions);
+        this.callbackSubscriptionsByEventType = subscriptionsByEventType;
+    }
+
+    /**
+     * Returns all subscriptions of the client.
+     *
+     * @return unmodifiable list of event subscriptions
+     */
+    public List<EventSubscription> getEventSubscriptions() {
+
+        return eventSubscriptions;
+    }
+
+    public boolean isEmpty() {
+
+        return eventSubscriptions.isEmpty();
+    }
+
+    /**
+     * Returns the subscriptions with a callback URL which are subscribed to the given event type.
+     *
+     * @param eventType event type
+     * @return unmodifiable list of event subscriptions, empty if there are none
+     */
+    public List<EventSubscription> getCallbackSubscriptions(String eventType) {
+
+        List<EventSubscription> subscriptions = callbackSubscriptionsByEventType.get(eventType);
+        return subscriptions == null ? Collections.emptyList() : Collections.unmodifiableList(subscriptions);
+    }
+
+    /**
+     * Groups the events of a notification by the subscriptions with a callback URL to notify. Subscriptions which
+     * are not subscribed to any of the events are not included.
+     *
+     * @param notificationEvents events of a notification
+     * @return events to send to each subscription, in the order of the first matching event
+     */
+    public Map<EventSubscription, List<NotificationEvent>> getEventsByCallbackSubscription(
+            List<NotificationEvent> notificationEvents) {
+
+        Map<EventSubscription, List<NotificationEvent>> eventsBySubscription = new LinkedHashMap<>();
+        for (NotificationEvent notificationEvent : notificationEvents) {
+            for (EventSubscription subscription : getCallbackSubscriptions(notificationEvent.getEventType())) {
+                eventsBySubscription.computeIfAbsent(subscription, key -> new ArrayList<>()).add(notificationEvent);
+            }
+        }
+        return eventsBySubscription;
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Page of notifications read together with their events, and the total number of notifications matching the query.
+ */
+public class NotificationPage {
+
+    private final Map<Notification, List<NotificationEvent>> notifications;
+    private final int totalCount;
+
+    public NotificationPage(Map<Notification, List<NotificationEvent>> notifications, int totalCount) {
+
+        this.notifications = notifications;
+        this.totalCount = totalCount;
+    }
+
+    public Map<Notification, List<NotificationEvent>> getNotifications() {
+
+        return notifications;
+    }
+
+    public int getTotalCount() {
+
+        return totalCount;
+    }
+}
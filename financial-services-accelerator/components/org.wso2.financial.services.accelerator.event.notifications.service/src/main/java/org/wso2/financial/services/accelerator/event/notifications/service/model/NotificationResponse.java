@@ -123,4 +123,27 @@ public class NotificationResponse {
         return objectMapper.convertValue(notificationResponse, JsonNode.class);
     }
 
+    /**
+     * This method is to convert the class to the claims set of the security event token, without converting it
+     * to a JsonNode. Claims with null values are omitted.
+     * @param notificationResponse Notification Response
+     * @return JSONObject of the claims
+     */
+    public static JSONObject getClaims(NotificationResponse notificationResponse) {
+        JSONObject claims = new JSONObject();
+        claims.put("iss", notificationResponse.getIss());
+        claims.put("iat", notificationResponse.getIat());
+        claims.put("jti", notificationResponse.getJti());
+        claims.put("sub", notificationResponse.getSub());
+        claims.put("aud", notificationResponse.getAud());
+        claims.put("txn", notificationResponse.getTxn());
+        claims.put("toe", notificationResponse.getToe());
+        JSONObject events = new JSONObject();
+        for (Map.Entry<String, JSONObject> event : notificationResponse.getEvents().entrySet()) {
+            events.put(event.getKey(), event.getValue());
+        }
+        claims.put("events", events);
+        return claims;
+    }
+
 }
@@ -0,0 +1,195 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.polling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Node local registry of long polling requests waiting for event notifications of a client.
+ * <p>
+ * A waiter is a future which completes with true when a notification is created for the client and with false
+ * when the maximum wait time elapses. Waiters are completed on the registry threads, so that dependent actions
+ * such as reading the notifications neither block the thread creating the notification nor hold a request thread
+ * while waiting. Notifications created in another node of a cluster do not wake the waiters of this node, in which
+ * case the waiters complete at the end of the wait time.
+ */
+public class EventPollingWaiterRegistry {
+
+    private static final Log log = LogFactory.getLog(EventPollingWaiterRegistry.class);
+    private static volatile EventPollingWaiterRegistry instance;
+
+    private final int maxWaiters;
+    private final int maxWaitersPerClient;
+    private final Map<String, Set<Waiter>> waitersByClient = new ConcurrentHashMap<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final Executor completionExecutor;
+
+    public EventPollingWaiterRegistry(int maxWaiters, int maxWaitersPerClient) {
+
+        this(maxWaiters, maxWaitersPerClient, null);
+    }
+
+    /**
+     * Creates a registry completing the notified waiters with the given executor.
+     *
+     * @param maxWaiters          maximum number of waiters
+     * @param maxWaitersPerClient maximum number of waiters of a client
+     * @param completionExecutor  executor completing the notified waiters, the registry threads are used if null
+     */
+    public EventPollingWaiterRegistry(int maxWaiters, int maxWaitersPerClient, Executor completionExecutor) {
+
+        this.maxWaiters = maxWaiters;
+        this.maxWaitersPerClient = maxWaitersPerClient;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.scheduler = new ScheduledThreadPoolExecutor(Math.max(2, Runtime.getRuntime().availableProcessors()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "fs-event-polling-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.completionExecutor = completionExecutor == null ? scheduler : completionExecutor;
+    }
+
+    /**
+     * Returns the registry instance configured with the long polling concurrency limits.
+     *
+     * @return EventPollingWaiterRegistry instance
+     */
+    public static EventPollingWaiterRegistry getInstance() {
+
+        if (instance == null) {
+            synchronized (EventPollingWaiterRegistry.class) {
+                if (instance == null) {
+                    FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+                    instance = new EventPollingWaiterRegistry(configParser.getLongPollingMaxConcurrentRequests(),
+                            configParser.getLongPollingMaxConcurrentRequestsPerClient());
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Registers a waiter for notifications of the given client.
+     *
+     * @param clientId      client ID
+     * @param timeoutMillis maximum time to wait
+     * @return future completing with true when notified and false on timeout, or null if the concurrency limits
+     *         are reached
+     */
+    public CompletableFuture<Boolean> register(String clientId, long timeoutMillis) {
+
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            log.debug("Maximum number of waiting long polling requests reached");
+            return null;
+        }
+        Waiter waiter = new Waiter();
+        boolean[] registered = new boolean[1];
+        waitersByClient.compute(clientId, (id, waiters) -> {
+            Set<Waiter> clientWaiters = waiters == null ? ConcurrentHashMap.newKeySet() : waiters;
+            if (clientWaiters.size() < maxWaitersPerClient) {
+                clientWaiters.add(waiter);
+                registered[0] = true;
+            }
+            return clientWaiters.isEmpty() ? null : clientWaiters;
+        });
+        if (!registered[0]) {
+            waiterCount.decrementAndGet();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Maximum number of waiting long polling requests reached for the client " +
+                        "with ID : '%s'.", clientId.replaceAll("[\r\n]", "")));
+            }
+            return null;
+        }
+
+        waiter.timeout = scheduler.schedule(() -> waiter.complete(false), timeoutMillis, TimeUnit.MILLISECONDS);
+        waiter.whenComplete((notified, throwable) -> {
+            waiter.timeout.cancel(false);
+            waitersByClient.computeIfPresent(clientId, (id, waiters) -> {
+                waiters.remove(waiter);
+                return waiters.isEmpty() ? null : waiters;
+            });
+            waiterCount.decrementAndGet();
+        });
+        return waiter;
+    }
+
+    /**
+     * Wakes the waiters of the given client.
+     *
+     * @param clientId client ID
+     */
+    public void notifyWaiters(String clientId) {
+
+        Set<Waiter> waiters = waitersByClient.remove(clientId);
+        if (waiters == null) {
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waking %d long polling requests of the client with ID : '%s'.",
+                    waiters.size(), clientId.replaceAll("[\r\n]", "")));
+        }
+        for (Waiter waiter : waiters) {
+            completionExecutor.execute(() -> waiter.complete(true));
+        }
+    }
+
+    /**
+     * Releases a waiter which is no longer needed, without waking the other waiters of the client.
+     *
+     * @param waiter waiter returned by {@link #register}
+     */
+    public void release(CompletableFuture<Boolean> waiter) {
+
+        waiter.complete(false);
+    }
+
+    /**
+     * Returns the number of waiting long polling requests.
+     *
+     * @return number of waiters
+     */
+    public int getWaiterCount() {
+
+        return waiterCount.get();
+    }
+
+    /**
+     * Waiter of a long polling request.
+     */
+    private static final class Waiter extends CompletableFuture<Boolean> {
+
+        private volatile ScheduledFuture<?> timeout;
+    }
+}
@@ -59,6 +59,18 @@ public class EventNotificationSqlStatements {
         return "UPDATE FS_NOTIFICATION SET STATUS = ?, UPDATED_TIMESTAMP= ? WHERE NOTIFICATION_ID = ?";
     }
 
+    public String getUpdateNotificationStatusByIdsQuery(String notificationIdPlaceholders) {
+
+        return "UPDATE FS_NOTIFICATION SET STATUS = ?, UPDATED_TIMESTAMP = ? WHERE NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
+    public String getNotificationIdsByStatusQuery(String notificationIdPlaceholders) {
+
+        return "SELECT NOTIFICATION_ID FROM FS_NOTIFICATION WHERE STATUS = ? AND NOTIFICATION_ID IN (" +
+                notificationIdPlaceholders + ")";
+    }
+
     public String getNotificationByNotificationId() {
 
         return "SELECT NOTIFICATION_ID, STATUS FROM FS_NOTIFICATION WHERE NOTIFICATION_ID = ?";
@@ -68,4 +80,49 @@ public class EventNotificationSqlStatements {
 
         return "SELECT * FROM FS_NOTIFICATION WHERE STATUS = ?";
     }
+
+    /**
+     * Query to retrieve a page of notifications with the given status together with their events. Notifications
+     * are ordered by notification ID and the page continues after the given notification ID if a cursor is used.
+     *
+     * @param afterCursor whether the query continues after a notification ID
+     * @return query with the status, the cursor if used, and the page size as parameters
+     */
+    public String getNotificationsWithEventsByStatusQuery(boolean afterCursor) {
+
+        return "SELECT N.NOTIFICATION_ID, N.CLIENT_ID, N.RESOURCE_ID, N.STATUS, N.UPDATED_TIMESTAMP, " +
+                "E.EVENT_TYPE, E.EVENT_INFO FROM (" + getNotificationPageByStatusQuery(afterCursor) + ") N " +
+                "LEFT JOIN FS_NOTIFICATION_EVENT E ON N.NOTIFICATION_ID = E.NOTIFICATION_ID " +
+                "ORDER BY N.NOTIFICATION_ID, E.EVENT_ID";
+    }
+
+    /**
+     * Query to retrieve the first notifications of a client with the given status together with their events.
+     * Each row carries the total number of notifications of the client with the status, so that the remaining
+     * notification count is read in the same round trip.
+     *
+     * @return query with the client ID, the status, the page size, the client ID and the status as parameters
+     */
+    public String getNotificationsWithEventsByClientIdAndStatusQuery() {
+
+        return "SELECT N.NOTIFICATION_ID, N.CLIENT_ID, N.RESOURCE_ID, N.STATUS, N.UPDATED_TIMESTAMP, C.TOTAL_COUNT, " +
+                "E.EVENT_TYPE, E.EVENT_INFO FROM (" + getNotificationPageByClientIdAndStatusQuery() + ") N " +
+                "CROSS JOIN (SELECT COUNT(*) AS TOTAL_COUNT FROM FS_NOTIFICATION " +
+                "WHERE CLIENT_ID = ? AND STATUS = ?) C " +
+                "LEFT JOIN FS_NOTIFICATION_EVENT E ON N.NOTIFICATION_ID = E.NOTIFICATION_ID " +
+                "ORDER BY N.NOTIFICATION_ID, E.EVENT_ID";
+    }
+
+    protected String getNotificationPageByClientIdAndStatusQuery() {
+
+        return "SELECT NOTIFICATION_ID, CLIENT_ID, RESOURCE_ID, STATUS, UPDATED_TIMESTAMP FROM FS_NOTIFICATION " +
+                "WHERE CLIENT_ID = ? AND STATUS = ? ORDER BY NOTIFICATION_ID LIMIT ?";
+    }
+
+    protected String getNotificationPageByStatusQuery(boolean afterCursor) {
+
+        return "SELECT NOTIFICATION_ID, CLIENT_ID, RESOURCE_ID, STATUS, UPDATED_TIMESTAMP FROM FS_NOTIFICATION " +
+                "WHERE STATUS = ?" + (afterCursor ? " AND NOTIFICATION_ID > ?" : "") +
+                " ORDER BY NOTIFICATION_ID LIMIT ?";
+    }
 }
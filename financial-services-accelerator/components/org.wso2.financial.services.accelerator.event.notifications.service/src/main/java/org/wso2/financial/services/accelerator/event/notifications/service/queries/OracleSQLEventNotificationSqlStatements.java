@@ -29,4 +29,19 @@ public class OracleSQLEventNotificationSqlStatements extends EventNotificationSq
         return "SELECT * FROM FS_NOTIFICATION WHERE CLIENT_ID = ? AND STATUS = ? FETCH FIRST ? ROWS ONLY";
     }
 
+    @Override
+    protected String getNotificationPageByClientIdAndStatusQuery() {
+
+        return "SELECT NOTIFICATION_ID, CLIENT_ID, RESOURCE_ID, STATUS, UPDATED_TIMESTAMP FROM FS_NOTIFICATION " +
+                "WHERE CLIENT_ID = ? AND STATUS = ? ORDER BY NOTIFICATION_ID FETCH FIRST ? ROWS ONLY";
+    }
+
+    @Override
+    protected String getNotificationPageByStatusQuery(boolean afterCursor) {
+
+        return "SELECT NOTIFICATION_ID, CLIENT_ID, RESOURCE_ID, STATUS, UPDATED_TIMESTAMP FROM FS_NOTIFICATION " +
+                "WHERE STATUS = ?" + (afterCursor ? " AND NOTIFICATION_ID > ?" : "") +
+                " ORDER BY NOTIFICATION_ID FETCH FIRST ? ROWS ONLY";
+    }
+
 }
@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the concurrent realtime event notification deliveries to each callback host and suspends deliveries to
+ * hosts which fail repeatedly.
+ * <p>
+ * A delivery which cannot get a permit waits in a per host queue and is started when a running delivery to the
+ * same host releases its permit. After the configured number of consecutive failures, the host is suspended for
+ * the configured time. Once the suspension ends, deliveries are attempted again and a further failure suspends the
+ * host again, while a success closes the circuit.
+ */
+public class CallbackHostGuard {
+
+    private final int maxConcurrentDeliveriesPerHost;
+    private final int failureThreshold;
+    private final long suspensionMillis;
+    private final LongSupplier clock;
+    private final Map<String, HostState> hostStates = new HashMap<>();
+
+    public CallbackHostGuard(int maxConcurrentDeliveriesPerHost, int failureThreshold, long suspensionMillis) {
+
+        this(maxConcurrentDeliveriesPerHost, failureThreshold, suspensionMillis, System::currentTimeMillis);
+    }
+
+    CallbackHostGuard(int maxConcurrentDeliveriesPerHost, int failureThreshold, long suspensionMillis,
+                      LongSupplier clock) {
+
+        this.maxConcurrentDeliveriesPerHost = Math.max(1, maxConcurrentDeliveriesPerHost);
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.suspensionMillis = suspensionMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the key used to group deliveries of a callback URL.
+     *
+     * @param callbackUrl callback URL
+     * @return host and port of the URL, or the URL itself if it cannot be parsed
+     */
+    public static String getHostKey(String callbackUrl) {
+
+        if (callbackUrl == null) {
+            return "";
+        }
+        try {
+            URI uri = URI.create(callbackUrl);
+            if (uri.getHost() != null) {
+                return uri.getHost().toLowerCase(Locale.ENGLISH) + ":" + uri.getPort();
+            }
+        } catch (IllegalArgumentException e) {
+            // Deliveries to an invalid URL are grouped by the URL and fail when sent
+        }
+        return callbackUrl;
+    }
+
+    /**
+     * Acquires a delivery permit for the host, or queues the delivery until a permit is released.
+     *
+     * @param hostKey  host key
+     * @param delivery delivery to start when a permit is handed over to it
+     * @return true if the permit is acquired and the caller should start the delivery
+     */
+    public synchronized boolean tryAcquire(String hostKey, Runnable delivery) {
+
+        HostState state = hostStates.computeIfAbsent(hostKey, key -> new HostState());
+        if (state.activeDeliveries < maxConcurrentDeliveriesPerHost) {
+            state.activeDeliveries++;
+            return true;
+        }
+        state.waitingDeliveries.add(delivery);
+        return false;
+    }
+
+    /**
+     * Releases a delivery permit of the host. If deliveries are waiting for the host, the permit is handed over to
+     * the first one which should then be started by the caller.
+     *
+     * @param hostKey host key
+     * @return the delivery which received the permit, or null if no delivery is waiting
+     */
+    public synchronized Runnable release(String hostKey) {
+
+        HostState state = hostStates.get(hostKey);
+        if (state == null) {
+            return null;
+        }
+        Runnable next = state.waitingDeliveries.poll();
+        if (next == null) {
+            state.activeDeliveries--;
+            removeIfIdle(hostKey, state);
+        }
+        return next;
+    }
+
+    /**
+     * Records the result of a delivery to the host.
+     *
+     * @param hostKey host key
+     * @param success whether the callback accepted the notification
+     */
+    public synchronized void recordResult(String hostKey, boolean success) {
+
+        HostState state = hostStates.computeIfAbsent(hostKey, key -> new HostState());
+        if (success) {
+            state.consecutiveFailures = 0;
+            state.suspendedUntil = 0;
+            removeIfIdle(hostKey, state);
+        } else if (++state.consecutiveFailures >= failureThreshold) {
+            state.suspendedUntil = clock.getAsLong() + suspensionMillis;
+        }
+    }
+
+    /**
+     * Returns the remaining suspension time of the host.
+     *
+     * @param hostKey host key
+     * @return remaining suspension time in milliseconds, or 0 if deliveries to the host are allowed
+     */
+    public synchronized long getRemainingSuspensionMillis(String hostKey) {
+
+        HostState state = hostStates.get(hostKey);
+        if (state == null) {
+            return 0;
+        }
+        return Math.max(0, state.suspendedUntil - clock.getAsLong());
+    }
+
+    /**
+     * Returns the number of hosts with running, waiting or recently failed deliveries.
+     *
+     * @return tracked host count
+     */
+    public synchronized int getTrackedHostCount() {
+
+        return hostStates.size();
+    }
+
+    private void removeIfIdle(String hostKey, HostState state) {
+
+        if (state.activeDeliveries == 0 && state.waitingDeliveries.isEmpty() && state.consecutiveFailures == 0) {
+            hostStates.remove(hostKey);
+        }
+    }
+
+    /**
+     * Delivery state of a callback host.
+     */
+    private static class HostState {
+
+        private int activeDeliveries;
+        private int consecutiveFailures;
+        private long suspendedUntil;
+        private final ArrayDeque<Runnable> waitingDeliveries = new ArrayDeque<>();
+    }
+}
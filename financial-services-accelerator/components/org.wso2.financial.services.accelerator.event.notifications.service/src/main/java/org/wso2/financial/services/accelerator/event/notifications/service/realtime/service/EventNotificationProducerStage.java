@@ -0,0 +1,371 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Producer stage adding newly created event notifications to the realtime event notification queue.
+ * <p>
+ * Notifications of a client submitted within the coalesce window are processed together by a single task of a
+ * shared worker pool, or of virtual threads where the runtime supports them. The subscription index of the client
+ * is read once for all of them and the security event tokens of the batch are generated in one pass. The number of
+ * submitted notifications not yet added to the queue is limited. Notifications submitted beyond the limit, or
+ * after the stage is stopped, are dropped from the stage only. They remain in the OPEN state in the database and
+ * are added to the queue by the {@link RealtimeEventNotificationLoaderService} on the next server start.
+ */
+public class EventNotificationProducerStage {
+
+    private static final Log log = LogFactory.getLog(EventNotificationProducerStage.class);
+
+    private final EventSubscriptionService eventSubscriptionService;
+    private final EventNotificationGenerator eventNotificationGenerator;
+    private final BlockingQueue<RealtimeEventNotification> queue;
+    private final int threadPoolSize;
+    private final boolean useVirtualThreads;
+    private final long coalesceWindowMillis;
+    private final int maxPendingNotifications;
+    private final Semaphore pendingNotifications;
+    private final Map<String, List<PendingNotification>> pendingBatches = new HashMap<>();
+
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder totalEnqueueLatencyNanos = new LongAdder();
+    private final LongAccumulator maxEnqueueLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile boolean running;
+    private ExecutorService producerExecutor;
+    private ScheduledExecutorService coalesceScheduler;
+
+    public EventNotificationProducerStage(BlockingQueue<RealtimeEventNotification> queue) {
+
+        this(EventNotificationServiceUtil.getEventSubscriptionService(),
+                EventNotificationServiceUtil.getEventNotificationGenerator(), queue,
+                FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationProducerThreadPoolSize(),
+                FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationVirtualThreadsEnabled(),
+                FinancialServicesConfigParser.getInstance()
+                        .getRealtimeEventNotificationProducerCoalesceWindowInMillis(),
+                FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationProducerQueueCapacity());
+    }
+
+    public EventNotificationProducerStage(EventSubscriptionService eventSubscriptionService,
+                                          EventNotificationGenerator eventNotificationGenerator,
+                                          BlockingQueue<RealtimeEventNotification> queue, int threadPoolSize,
+                                          boolean useVirtualThreads, long coalesceWindowMillis,
+                                          int maxPendingNotifications) {
+
+        this.eventSubscriptionService = eventSubscriptionService;
+        this.eventNotificationGenerator = eventNotificationGenerator;
+        this.queue = queue;
+        this.threadPoolSize = Math.max(1, threadPoolSize);
+        this.useVirtualThreads = useVirtualThreads;
+        this.coalesceWindowMillis = Math.max(0, coalesceWindowMillis);
+        this.maxPendingNotifications = Math.max(1, maxPendingNotifications);
+        this.pendingNotifications = new Semaphore(this.maxPendingNotifications);
+    }
+
+    /**
+     * Start accepting notifications.
+     */
+    public synchronized void start() {
+
+        if (running) {
+            return;
+        }
+        producerExecutor = createProducerExecutor();
+        coalesceScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fs-event-producer-coalesce");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+    }
+
+    /**
+     * Stop accepting notifications. Notifications not yet added to the queue remain in the OPEN state in the
+     * database.
+     */
+    public synchronized void stop() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        coalesceScheduler.shutdownNow();
+        producerExecutor.shutdownNow();
+    }
+
+    /**
+     * Submit a newly persisted notification to be added to the realtime event notification queue. This method
+     * does not block.
+     *
+     * @param notification       persisted notification
+     * @param notificationEvents events of the notification
+     * @return false if the notification is dropped from the stage and left in the OPEN state in the database
+     */
+    public boolean submit(Notification notification, List<NotificationEvent> notificationEvents) {
+
+        if (!running || !pendingNotifications.tryAcquire()) {
+            droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Realtime event notification producer is at capacity. Notification with notificationId: " +
+                        notification.getNotificationId().replaceAll("[\r\n]", "") + " is left in the OPEN state");
+            }
+            return false;
+        }
+        submittedCount.increment();
+        PendingNotification pendingNotification = new PendingNotification(notification, notificationEvents);
+        if (coalesceWindowMillis == 0) {
+            List<PendingNotification> batch = new ArrayList<>();
+            batch.add(pendingNotification);
+            execute(notification.getClientId(), batch);
+            return true;
+        }
+        synchronized (pendingBatches) {
+            List<PendingNotification> batch = pendingBatches.get(notification.getClientId());
+            if (batch != null) {
+                batch.add(pendingNotification);
+                return true;
+            }
+            batch = new ArrayList<>();
+            batch.add(pendingNotification);
+            pendingBatches.put(notification.getClientId(), batch);
+        }
+        try {
+            coalesceScheduler.schedule(() -> flush(notification.getClientId()), coalesceWindowMillis,
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            flush(notification.getClientId());
+        }
+        return true;
+    }
+
+    public long getSubmittedCount() {
+
+        return submittedCount.sum();
+    }
+
+    /**
+     * Returns the number of realtime event notifications added to the queue. A notification is added once for
+     * each subscription of the client receiving its events.
+     *
+     * @return enqueued realtime event notification count
+     */
+    public long getEnqueuedCount() {
+
+        return enqueuedCount.sum();
+    }
+
+    /**
+     * Returns the number of notifications dropped from the stage because it was at capacity or stopped.
+     *
+     * @return dropped notification count
+     */
+    public long getDroppedCount() {
+
+        return droppedCount.sum();
+    }
+
+    /**
+     * Returns the number of notifications for which the realtime event notifications could not be generated.
+     *
+     * @return failed notification count
+     */
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    /**
+     * Returns the number of submitted notifications not yet added to the queue.
+     *
+     * @return pending notification count
+     */
+    public int getPendingCount() {
+
+        return maxPendingNotifications - pendingNotifications.availablePermits();
+    }
+
+    /**
+     * Returns the average time from the submission of a notification to the addition of its realtime event
+     * notifications to the queue.
+     *
+     * @return average submit to enqueue latency in milliseconds
+     */
+    public double getAverageEnqueueLatencyMillis() {
+
+        long enqueued = enqueuedCount.sum();
+        return enqueued == 0 ? 0 : totalEnqueueLatencyNanos.sum() / (enqueued * 1_000_000d);
+    }
+
+    /**
+     * Returns the longest time from the submission of a notification to the addition of its realtime event
+     * notifications to the queue.
+     *
+     * @return maximum submit to enqueue latency in milliseconds
+     */
+    public long getMaxEnqueueLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxEnqueueLatencyNanos.get());
+    }
+
+    private void flush(String clientId) {
+
+        List<PendingNotification> batch;
+        synchronized (pendingBatches) {
+            batch = pendingBatches.remove(clientId);
+        }
+        if (batch != null) {
+            execute(clientId, batch);
+        }
+    }
+
+    private void execute(String clientId, List<PendingNotification> batch) {
+
+        try {
+            producerExecutor.execute(() -> produce(clientId, batch));
+        } catch (RejectedExecutionException e) {
+            droppedCount.add(batch.size());
+            pendingNotifications.release(batch.size());
+        }
+    }
+
+    private void produce(String clientId, List<PendingNotification> batch) {
+
+        int completed = 0;
+        try {
+            EventSubscriptionIndex subscriptionIndex = eventSubscriptionService.getEventSubscriptionIndex(clientId);
+            if (subscriptionIndex == null || subscriptionIndex.isEmpty()) {
+                log.error("No subscriptions found for the client ID: " + clientId.replaceAll("[\r\n]", ""));
+                failedCount.add(batch.size());
+                return;
+            }
+            for (PendingNotification pendingNotification : batch) {
+                produce(pendingNotification, subscriptionIndex);
+                completed++;
+                pendingNotifications.release();
+            }
+        } catch (FSEventNotificationException e) {
+            log.error("Error when retrieving the subscriptions of the client ID: " +
+                    clientId.replaceAll("[\r\n]", ""), e);
+            failedCount.add(batch.size() - completed);
+        } catch (InterruptedException e) {
+            log.error("Error when adding the Realtime Notification into the RealtimeEventNotification Queue", e);
+            droppedCount.add(batch.size() - completed);
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingNotifications.release(batch.size() - completed);
+        }
+    }
+
+    private void produce(PendingNotification pendingNotification, EventSubscriptionIndex subscriptionIndex)
+            throws InterruptedException {
+
+        Notification notification = pendingNotification.notification;
+        for (Map.Entry<EventSubscription, List<NotificationEvent>> entry : subscriptionIndex
+                .getEventsByCallbackSubscription(pendingNotification.notificationEvents).entrySet()) {
+            EventSubscription subscription = entry.getKey();
+            List<NotificationEvent> allowedEvents = entry.getValue();
+
+            RealtimeEventNotification realtimeEventNotification = new RealtimeEventNotification();
+            realtimeEventNotification.setNotification(notification);
+            realtimeEventNotification.setCallbackUrl(subscription.getCallbackUrl());
+            try {
+                NotificationResponse notificationResponse = eventNotificationGenerator
+                        .generateEventNotificationBody(notification, allowedEvents);
+                realtimeEventNotification.setSecurityEventToken(eventNotificationGenerator
+                        .generateEventNotification(notificationResponse));
+            } catch (FSEventNotificationException e) {
+                log.error("Error when generating the event notification with notificationId: " +
+                        notification.getNotificationId().replaceAll("[\r\n]", ""), e);
+                failedCount.increment();
+                return;
+            }
+
+            queue.put(realtimeEventNotification);
+            long latency = System.nanoTime() - pendingNotification.submittedTime;
+            enqueuedCount.increment();
+            totalEnqueueLatencyNanos.add(latency);
+            maxEnqueueLatencyNanos.accumulate(latency);
+        }
+    }
+
+    private ExecutorService createProducerExecutor() {
+
+        if (useVirtualThreads) {
+            ExecutorService virtualThreadExecutor = EventNotificationServiceUtil.getVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+            log.warn("Virtual threads are not supported by the Java runtime. Using a pool of " + threadPoolSize +
+                    " threads to produce realtime event notifications");
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threadPoolSize, runnable -> {
+            Thread thread = new Thread(runnable, "fs-event-producer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Notification submitted to the stage.
+     */
+    private static class PendingNotification {
+
+        private final Notification notification;
+        private final List<NotificationEvent> notificationEvents;
+        private final long submittedTime = System.nanoTime();
+
+        private PendingNotification(Notification notification, List<NotificationEvent> notificationEvents) {
+
+            this.notification = notification;
+            this.notificationEvents = notificationEvents;
+        }
+    }
+}
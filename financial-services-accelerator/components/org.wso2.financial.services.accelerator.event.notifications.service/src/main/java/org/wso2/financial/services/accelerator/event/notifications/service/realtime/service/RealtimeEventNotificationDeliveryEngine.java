@@ -0,0 +1,391 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Long-lived engine delivering realtime event notifications to the callback URLs of the subscriptions.
+ * <p>
+ * A dispatcher thread takes notifications from the bounded realtime event notification queue. The number of
+ * notifications taken from the queue and not yet completed, including the ones waiting for a retry, is limited.
+ * Once the limit is reached the dispatcher stops taking notifications, the queue fills up and the producers block
+ * until capacity is available. Sends run on a fixed worker pool, or on virtual threads where the runtime supports
+ * them, and are limited per callback host by the {@link CallbackHostGuard}. Failed sends are retried by a
+ * scheduler according to the {@link RealtimeEventNotificationRetryPolicy} without holding a worker thread while
+ * waiting.
+ */
+public class RealtimeEventNotificationDeliveryEngine {
+
+    private static final Log log = LogFactory.getLog(RealtimeEventNotificationDeliveryEngine.class);
+
+    private final BlockingQueue<RealtimeEventNotification> queue;
+    private final RealtimeEventNotificationSenderService sender;
+    private final RealtimeNotificationService notificationService;
+    private final RealtimeEventNotificationRetryPolicy retryPolicy;
+    private final CallbackHostGuard hostGuard;
+    private final int maxConcurrentDeliveries;
+    private final boolean useVirtualThreads;
+    private final int maxPendingDeliveries;
+    private final Semaphore pendingDeliveries;
+
+    private final AtomicInteger inFlightSends = new AtomicInteger();
+    private final LongAdder deliveredCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder sendCount = new LongAdder();
+    private final LongAdder totalSendLatencyNanos = new LongAdder();
+    private final LongAccumulator maxSendLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService sendExecutor;
+    private ScheduledExecutorService retryScheduler;
+
+    public RealtimeEventNotificationDeliveryEngine(BlockingQueue<RealtimeEventNotification> queue) {
+
+        this(queue, new RealtimeEventNotificationSenderService(),
+                EventNotificationServiceUtil.getRealtimeNotificationService(), getConfiguredRetryPolicy(),
+                getConfiguredHostGuard(), FinancialServicesConfigParser.getInstance()
+                        .getEventNotificationThreadPoolSize(),
+                FinancialServicesConfigParser.getInstance().isRealtimeEventNotificationVirtualThreadsEnabled(),
+                FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationQueueCapacity());
+    }
+
+    public RealtimeEventNotificationDeliveryEngine(BlockingQueue<RealtimeEventNotification> queue,
+                                                   RealtimeEventNotificationSenderService sender,
+                                                   RealtimeNotificationService notificationService,
+                                                   RealtimeEventNotificationRetryPolicy retryPolicy,
+                                                   CallbackHostGuard hostGuard, int maxConcurrentDeliveries,
+                                                   boolean useVirtualThreads, int maxPendingDeliveries) {
+
+        this.queue = queue;
+        this.sender = sender;
+        this.notificationService = notificationService;
+        this.retryPolicy = retryPolicy;
+        this.hostGuard = hostGuard;
+        this.maxConcurrentDeliveries = Math.max(1, maxConcurrentDeliveries);
+        this.useVirtualThreads = useVirtualThreads;
+        this.maxPendingDeliveries = Math.max(1, maxPendingDeliveries);
+        this.pendingDeliveries = new Semaphore(this.maxPendingDeliveries);
+    }
+
+    /**
+     * Start consuming the realtime event notification queue.
+     */
+    public synchronized void start() {
+
+        if (running) {
+            return;
+        }
+        running = true;
+        sendExecutor = createSendExecutor();
+        retryScheduler = Executors.newSingleThreadScheduledExecutor(
+                daemonThreadFactory("fs-realtime-event-retry-"));
+        dispatcher = new Thread(this::dispatchNotifications, "fs-realtime-event-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        log.debug("Realtime event notification delivery engine started");
+    }
+
+    /**
+     * Stop consuming the realtime event notification queue. Notifications being sent or waiting for a retry are
+     * left in the OPEN state and are loaded again on the next server start.
+     */
+    public synchronized void stop() {
+
+        if (!running) {
+            return;
+        }
+        running = false;
+        dispatcher.interrupt();
+        retryScheduler.shutdownNow();
+        sendExecutor.shutdownNow();
+        log.debug("Realtime event notification delivery engine stopped");
+    }
+
+    /**
+     * Returns the number of notifications waiting in the queue.
+     *
+     * @return queue depth
+     */
+    public int getQueueDepth() {
+
+        return queue.size();
+    }
+
+    /**
+     * Returns the number of HTTP requests currently being sent.
+     *
+     * @return in-flight send count
+     */
+    public int getInFlightSendCount() {
+
+        return inFlightSends.get();
+    }
+
+    /**
+     * Returns the number of notifications taken from the queue and not yet completed, including the ones waiting
+     * for a retry or for a callback host permit.
+     *
+     * @return pending delivery count
+     */
+    public int getPendingDeliveryCount() {
+
+        return maxPendingDeliveries - pendingDeliveries.availablePermits();
+    }
+
+    public long getDeliveredCount() {
+
+        return deliveredCount.sum();
+    }
+
+    public long getFailedCount() {
+
+        return failedCount.sum();
+    }
+
+    public long getRetryCount() {
+
+        return retryCount.sum();
+    }
+
+    /**
+     * Returns the average time taken by a send attempt.
+     *
+     * @return average send latency in milliseconds
+     */
+    public double getAverageSendLatencyMillis() {
+
+        long sends = sendCount.sum();
+        return sends == 0 ? 0 : totalSendLatencyNanos.sum() / (sends * 1_000_000d);
+    }
+
+    /**
+     * Returns the longest time taken by a send attempt.
+     *
+     * @return maximum send latency in milliseconds
+     */
+    public long getMaxSendLatencyMillis() {
+
+        return TimeUnit.NANOSECONDS.toMillis(maxSendLatencyNanos.get());
+    }
+
+    private void dispatchNotifications() {
+
+        while (running) {
+            try {
+                RealtimeEventNotification notification = queue.take();
+                // Wait for a completed delivery before taking further notifications from the queue
+                pendingDeliveries.acquire();
+                try {
+                    dispatch(new Delivery(notification));
+                } catch (RuntimeException e) {
+                    pendingDeliveries.release();
+                    log.error("Error while dispatching the realtime event notification", e);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void dispatch(Delivery delivery) {
+
+        long remainingSuspension = hostGuard.getRemainingSuspensionMillis(delivery.hostKey);
+        if (remainingSuspension > 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("Callback host of the realtime event notification with notificationId: " +
+                        delivery.notificationId + " is suspended. Deferring the delivery by " + remainingSuspension +
+                        " ms");
+            }
+            schedule(delivery, remainingSuspension);
+            return;
+        }
+        if (hostGuard.tryAcquire(delivery.hostKey, () -> submit(delivery))) {
+            submit(delivery);
+        }
+    }
+
+    private void submit(Delivery delivery) {
+
+        try {
+            sendExecutor.execute(() -> attempt(delivery));
+        } catch (RejectedExecutionException e) {
+            abandon(delivery);
+        }
+    }
+
+    private void schedule(Delivery delivery, long delayMillis) {
+
+        try {
+            retryScheduler.schedule(() -> dispatch(delivery), delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingDeliveries.release();
+        }
+    }
+
+    private void attempt(Delivery delivery) {
+
+        boolean success;
+        inFlightSends.incrementAndGet();
+        long startTime = System.nanoTime();
+        try {
+            success = sender.send(delivery.notification);
+        } catch (RuntimeException e) {
+            log.error("Real-time event notification with notificationId: " + delivery.notificationId +
+                    " sent failed", e);
+            success = false;
+        } finally {
+            long latency = System.nanoTime() - startTime;
+            inFlightSends.decrementAndGet();
+            sendCount.increment();
+            totalSendLatencyNanos.add(latency);
+            maxSendLatencyNanos.accumulate(latency);
+        }
+
+        hostGuard.recordResult(delivery.hostKey, success);
+        Runnable next = hostGuard.release(delivery.hostKey);
+        if (next != null) {
+            next.run();
+        }
+
+        if (success) {
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ACK);
+            deliveredCount.increment();
+            return;
+        }
+        delivery.failedAttempts++;
+        long retryDelay = retryPolicy.getRetryDelayMillis(delivery.failedAttempts,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - delivery.firstAttemptTime));
+        if (retryDelay < 0) {
+            if (log.isDebugEnabled()) {
+                log.debug("Retries exhausted for the realtime event notification with notificationId: " +
+                        delivery.notificationId);
+            }
+            complete(delivery, EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            failedCount.increment();
+            return;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("HTTP request Retry #" + delivery.failedAttempts + " of the realtime event notification " +
+                    "with notificationId: " + delivery.notificationId + " scheduled in " + retryDelay + " ms");
+        }
+        retryCount.increment();
+        schedule(delivery, retryDelay);
+    }
+
+    private void complete(Delivery delivery, EventNotificationConstants.EventNotificationStatusEnum status) {
+
+        try {
+            notificationService.updateNotificationStatusById(delivery.notification.getNotificationId(), status);
+        } catch (FSEventNotificationException e) {
+            log.error("Error while updating the status of the realtime event notification with notificationId: " +
+                    delivery.notificationId, e);
+        } finally {
+            pendingDeliveries.release();
+        }
+    }
+
+    private void abandon(Delivery delivery) {
+
+        hostGuard.release(delivery.hostKey);
+        pendingDeliveries.release();
+    }
+
+    private ExecutorService createSendExecutor() {
+
+        if (useVirtualThreads) {
+            ExecutorService virtualThreadExecutor = EventNotificationServiceUtil.getVirtualThreadPerTaskExecutor();
+            if (virtualThreadExecutor != null) {
+                return virtualThreadExecutor;
+            }
+            log.warn("Virtual threads are not supported by the Java runtime. Using a pool of " +
+                    maxConcurrentDeliveries + " threads to send realtime event notifications");
+        }
+        return Executors.newFixedThreadPool(maxConcurrentDeliveries, daemonThreadFactory("fs-realtime-event-sender-"));
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static RealtimeEventNotificationRetryPolicy getConfiguredRetryPolicy() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        int retryTimeoutInSeconds = configParser.getRealtimeEventNotificationCircuitBreakerOpenTimeoutInSeconds();
+        return new RealtimeEventNotificationRetryPolicy(configParser.getRealtimeEventNotificationMaxRetries(),
+                TimeUnit.SECONDS.toMillis(configParser.getRealtimeEventNotificationInitialBackoffTimeInSeconds()),
+                configParser.getRealtimeEventNotificationBackoffFunction(),
+                TimeUnit.SECONDS.toMillis(retryTimeoutInSeconds));
+    }
+
+    private static CallbackHostGuard getConfiguredHostGuard() {
+
+        FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
+        return new CallbackHostGuard(configParser.getRealtimeEventNotificationMaxConcurrentRequestsPerHost(),
+                configParser.getRealtimeEventNotificationHostFailureThreshold(),
+                TimeUnit.SECONDS.toMillis(configParser.getRealtimeEventNotificationHostSuspensionTimeInSeconds()));
+    }
+
+    /**
+     * Delivery of a realtime event notification across its attempts.
+     */
+    private static class Delivery {
+
+        private final RealtimeEventNotification notification;
+        private final String notificationId;
+        private final String hostKey;
+        private final long firstAttemptTime = System.nanoTime();
+        private int failedAttempts;
+
+        private Delivery(RealtimeEventNotification notification) {
+
+            this.notification = notification;
+            this.notificationId = String.valueOf(notification.getNotificationId()).replaceAll("[\r\n]", "");
+            this.hostKey = CallbackHostGuard.getHostKey(notification.getCallbackUrl());
+        }
+    }
+}
@@ -9,87 +9,178 @@
 
 package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
 
-import com.nimbusds.jose.JOSEException;
-import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.wso2.carbon.identity.oauth2.IdentityOAuth2Exception;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
 import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.internal.EventNotificationDataHolder;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
-import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * This service is used to add open state event notifications to the realtime event notification queue.
  * This service is called whenever the server starts.
+ * <p>
+ * Open notifications are read in pages ordered by notification ID, each page with a single query returning the
+ * notifications together with their events. The subscriptions of each client are retrieved once per page and the
+ * security event tokens of a page are generated in parallel. The next page is read only after the notifications of
+ * the current page are added to the bounded queue, so the memory used does not depend on the number of open
+ * notifications.
  */
 public class RealtimeEventNotificationLoaderService implements Runnable {
 
     private static final Log log = LogFactory.getLog(RealtimeEventNotificationLoaderService.class);
 
+    private final RealtimeNotificationService realtimeNotificationService;
+    private final EventSubscriptionService eventSubscriptionService;
+    private final EventNotificationGenerator eventNotificationGenerator;
+    private final BlockingQueue<RealtimeEventNotification> queue;
+    private final int batchSize;
+    private final int parallelism;
+
+    public RealtimeEventNotificationLoaderService() {
+
+        this(EventNotificationServiceUtil.getRealtimeNotificationService(),
+                EventNotificationServiceUtil.getEventSubscriptionService(),
+                EventNotificationServiceUtil.getEventNotificationGenerator(),
+                EventNotificationDataHolder.getInstance().getRealtimeEventNotificationQueue(),
+                FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationRecoveryBatchSize(),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    public RealtimeEventNotificationLoaderService(RealtimeNotificationService realtimeNotificationService,
+                                                  EventSubscriptionService eventSubscriptionService,
+                                                  EventNotificationGenerator eventNotificationGenerator,
+                                                  BlockingQueue<RealtimeEventNotification> queue, int batchSize,
+                                                  int parallelism) {
+
+        this.realtimeNotificationService = realtimeNotificationService;
+        this.eventSubscriptionService = eventSubscriptionService;
+        this.eventNotificationGenerator = eventNotificationGenerator;
+        this.queue = queue;
+        this.batchSize = Math.max(1, batchSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
     @Override
     public void run() {
-        // Get all open state event notifications from the database and add them to the queue
-        try {
-            LinkedBlockingQueue<RealtimeEventNotification> queue = EventNotificationDataHolder.getInstance().
-                    getRealtimeEventNotificationQueue();
-            EventNotificationGenerator eventNotificationGenerator = EventNotificationServiceUtil.
-                    getEventNotificationGenerator();
-            RealtimeNotificationService realtimeNotificationService = EventNotificationServiceUtil
-                    .getRealtimeNotificationService();
-            List<Notification> openNotifications = realtimeNotificationService
-                    .getNotificationsByStatus(EventNotificationConstants.OPEN);
-
-            for (Notification notification : openNotifications) {
-                //Get events by notificationId
-                List<NotificationEvent> notificationEvents = realtimeNotificationService.
-                        getEventsByNotificationID(notification.getNotificationId());
-
-                List<EventSubscription> subscriptionList = EventNotificationServiceUtil.getEventSubscriptionService()
-                        .getEventSubscriptionsByClientId(notification.getClientId());
-                if (subscriptionList.isEmpty()) {
-                    throw new FSEventNotificationException("No subscriptions found for the client ID: " +
-                            notification.getClientId());
-                }
 
-                for (EventSubscription subscription : subscriptionList) {
-                    List<NotificationEvent> allowedEvents = new ArrayList<>();
-                    notificationEvents.forEach(notificationEvent -> {
-                        if (subscription.getEventTypes().contains(notificationEvent.getEventType())) {
-                            allowedEvents.add(notificationEvent);
-                        }
-                    });
-
-                    if (!allowedEvents.isEmpty() && StringUtils.isNotEmpty(subscription.getCallbackUrl())) {
-                        NotificationResponse responseNotification = eventNotificationGenerator.
-                                generateEventNotificationBody(notification, allowedEvents);
-                        RealtimeEventNotification realtimeEventNotification = new RealtimeEventNotification();
-                        realtimeEventNotification.setCallbackUrl(subscription.getCallbackUrl());
-                        realtimeEventNotification.setSecurityEventToken(eventNotificationGenerator.
-                                generateEventNotification(NotificationResponse.getJsonNode(responseNotification)));
-                        realtimeEventNotification.setNotification(notification);
-                        queue.put(realtimeEventNotification); // put the notification into the queue
-                    }
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "fs-realtime-event-loader-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int loadedCount = 0;
+        try {
+            // Get all open state event notifications from the database page by page and add them to the queue
+            String lastNotificationId = null;
+            Map<Notification, List<NotificationEvent>> page;
+            do {
+                page = realtimeNotificationService.getNotificationsWithEventsByStatus(EventNotificationConstants.OPEN,
+                        lastNotificationId, batchSize);
+                loadedCount += loadPage(page, executor);
+                for (Notification notification : page.keySet()) {
+                    lastNotificationId = notification.getNotificationId();
                 }
+            } while (page.size() >= batchSize);
+            if (log.isDebugEnabled()) {
+                log.debug("Added " + loadedCount + " open realtime event notifications to the queue");
             }
         } catch (InterruptedException e) {
             log.error("Error when adding the Realtime Notification into the RealtimeEventNotification Queue", e);
+            Thread.currentThread().interrupt();
+        } catch (FSEventNotificationException e) {
+            log.error("Error when retrieving the open event notifications", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private int loadPage(Map<Notification, List<NotificationEvent>> page, ExecutorService executor)
+            throws InterruptedException {
+
+        Map<String, EventSubscriptionIndex> subscriptionsByClientId = new HashMap<>();
+        List<Future<Void>> results = new ArrayList<>();
+        for (Map.Entry<Notification, List<NotificationEvent>> entry : page.entrySet()) {
+            Notification notification = entry.getKey();
+            EventSubscriptionIndex subscriptionIndex = subscriptionsByClientId.get(notification.getClientId());
+            if (subscriptionIndex == null) {
+                subscriptionIndex = getSubscriptions(notification.getClientId());
+                subscriptionsByClientId.put(notification.getClientId(), subscriptionIndex);
+            }
+
+            for (Map.Entry<EventSubscription, List<NotificationEvent>> subscriptionEvents : subscriptionIndex
+                    .getEventsByCallbackSubscription(entry.getValue()).entrySet()) {
+                EventSubscription subscription = subscriptionEvents.getKey();
+                List<NotificationEvent> allowedEvents = subscriptionEvents.getValue();
+                results.add(executor.submit(() -> {
+                    queue.put(getRealtimeEventNotification(notification, subscription, allowedEvents));
+                    return null;
+                }));
+            }
+        }
+
+        int loadedCount = 0;
+        for (Future<Void> result : results) {
+            try {
+                result.get();
+                loadedCount++;
+            } catch (ExecutionException e) {
+                log.error("Error when generating the event notification", e.getCause());
+            }
+        }
+        return loadedCount;
+    }
+
+    private EventSubscriptionIndex getSubscriptions(String clientId) {
+
+        try {
+            EventSubscriptionIndex subscriptionIndex = eventSubscriptionService.getEventSubscriptionIndex(clientId);
+            if (subscriptionIndex.isEmpty()) {
+                log.error("No subscriptions found for the client ID: " + clientId.replaceAll("[\r\n]", ""));
+            }
+            return subscriptionIndex;
         } catch (FSEventNotificationException e) {
-            log.error("Error when generating the event notification", e);
-        } catch (IOException | JOSEException | IdentityOAuth2Exception e) {
-            log.error("Error while processing event notification JSON object", e);
+            log.error("Error when retrieving the subscriptions of the client ID: " +
+                    clientId.replaceAll("[\r\n]", ""), e);
+            return new EventSubscriptionIndex(Collections.emptyList());
         }
     }
+
+    private RealtimeEventNotification getRealtimeEventNotification(Notification notification,
+                                                                   EventSubscription subscription,
+                                                                   List<NotificationEvent> allowedEvents)
+            throws FSEventNotificationException {
+
+        NotificationResponse responseNotification = eventNotificationGenerator.
+                generateEventNotificationBody(notification, allowedEvents);
+        RealtimeEventNotification realtimeEventNotification = new RealtimeEventNotification();
+        realtimeEventNotification.setCallbackUrl(subscription.getCallbackUrl());
+        realtimeEventNotification.setSecurityEventToken(eventNotificationGenerator.
+                generateEventNotification(responseNotification));
+        realtimeEventNotification.setNotification(notification);
+        return realtimeEventNotification;
+    }
 }
@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Retry policy of realtime event notification delivery.
+ * <p>
+ * A notification is retried up to the maximum retry count as long as the time since the first attempt does not
+ * exceed the retry timeout. The waiting time before a retry starts from the initial backoff time and stays
+ * constant (CONSTANT), doubles on each retry (LINEAR) or grows exponentially (EX).
+ */
+public class RealtimeEventNotificationRetryPolicy {
+
+    private static final Log log = LogFactory.getLog(RealtimeEventNotificationRetryPolicy.class);
+    private static final String CONSTANT_BACKOFF = "CONSTANT";
+    private static final String LINEAR_BACKOFF = "LINEAR";
+    private static final String EXPONENTIAL_BACKOFF = "EX";
+
+    private final int maxRetries;
+    private final long initialBackoffMillis;
+    private final String backoffFunction;
+    private final long retryTimeoutMillis;
+
+    public RealtimeEventNotificationRetryPolicy(int maxRetries, long initialBackoffMillis, String backoffFunction,
+                                                long retryTimeoutMillis) {
+
+        this.maxRetries = maxRetries;
+        this.initialBackoffMillis = initialBackoffMillis;
+        this.retryTimeoutMillis = retryTimeoutMillis;
+        if (CONSTANT_BACKOFF.equals(backoffFunction) || LINEAR_BACKOFF.equals(backoffFunction) ||
+                EXPONENTIAL_BACKOFF.equals(backoffFunction)) {
+            this.backoffFunction = backoffFunction;
+        } else {
+            log.error("Invalid backoff function for the realtime event notification retry policy: " +
+                    String.valueOf(backoffFunction).replaceAll("[\r\n]", "") + ". Using the exponential backoff");
+            this.backoffFunction = EXPONENTIAL_BACKOFF;
+        }
+    }
+
+    /**
+     * Returns the time to wait before the next attempt of a failed notification.
+     *
+     * @param failedAttempts number of failed attempts so far
+     * @param elapsedMillis  time since the first attempt
+     * @return waiting time in milliseconds, or -1 if the notification should not be retried
+     */
+    public long getRetryDelayMillis(int failedAttempts, long elapsedMillis) {
+
+        if (failedAttempts > maxRetries || elapsedMillis > retryTimeoutMillis) {
+            return -1;
+        }
+        switch (backoffFunction) {
+            case CONSTANT_BACKOFF:
+                return initialBackoffMillis;
+            case LINEAR_BACKOFF:
+                // nextWaitingTime = 2 x previousWaitingTime
+                return initialBackoffMillis << Math.min(failedAttempts - 1, 30);
+            default:
+                // nextWaitingTime = startWaitingTime x e^(retryCount - 1)
+                return (long) (initialBackoffMillis * Math.exp(failedAttempts - 1));
+        }
+    }
+
+    /**
+     * Returns whether a notification first attempted the given time ago may still be attempted.
+     *
+     * @param elapsedMillis time since the first attempt
+     * @return false if the retry timeout is exceeded
+     */
+    public boolean isWithinRetryTimeout(long elapsedMillis) {
+
+        return elapsedMillis <= retryTimeoutMillis;
+    }
+}
@@ -20,175 +20,95 @@ package org.wso2.financial.services.accelerator.event.notifications.service.real
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
-import org.json.JSONObject;
+import org.apache.http.util.EntityUtils;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
-import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
-import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
-import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 
 import java.io.IOException;
 import java.net.URI;
-import java.time.Duration;
-import java.time.LocalTime;
 import java.util.Map;
 
 /**
- * This method is used to send the HTTP requests to the TPP provided callback URL.
- * Exponential backoff and Circuit breaker based retry policy is used to retry failed POST requests.
+ * This class is used to send the HTTP requests to the TPP provided callback URL.
+ * Requests are sent through the notification delivery HTTP client pool, so that slow callback endpoints do not hold
+ * the connections used by other outbound calls.
+ * Each call makes a single attempt. Retries are scheduled by the {@link RealtimeEventNotificationDeliveryEngine}.
  */
-public class RealtimeEventNotificationSenderService implements Runnable {
+public class RealtimeEventNotificationSenderService {
 
     private static final Log log = LogFactory.getLog(RealtimeEventNotificationSenderService.class);
 
-    private static final FinancialServicesConfigParser configParser = FinancialServicesConfigParser.getInstance();
-    private static final int MAX_RETRIES = configParser.getRealtimeEventNotificationMaxRetries();
-    private static final int INITIAL_BACKOFF_TIME_IN_SECONDS =
-            configParser.getRealtimeEventNotificationInitialBackoffTimeInSeconds();
-    private static final String BACKOFF_FUNCTION =
-            configParser.getRealtimeEventNotificationBackoffFunction().replaceAll("[\r\n]", "");
-    private static final int CIRCUIT_BREAKER_OPEN_TIMEOUT_IN_SECONDS =
-            configParser.getRealtimeEventNotificationCircuitBreakerOpenTimeoutInSeconds();
-    private static final int TIMEOUT_IN_SECONDS = configParser.getRealtimeEventNotificationTimeoutInSeconds();
+    private final CloseableHttpClient httpClient;
+    private final RealtimeEventNotificationRequestGenerator httpRequestGenerator;
+    private final RequestConfig requestConfig;
 
-    private CloseableHttpClient httpClient;
-    private RealtimeEventNotificationRequestGenerator httpRequestGenerator;
-    private String notificationId;
-    private String callbackUrl;
-    private JSONObject payloadJson;
+    public RealtimeEventNotificationSenderService() {
 
-    public RealtimeEventNotificationSenderService(String callbackUrl, JSONObject payloadJson,
-                                                  String notificationId) {
-
-        this.httpClient = HTTPClientUtils.getHttpsClient();
-
-        this.httpRequestGenerator = EventNotificationServiceUtil.getRealtimeEventNotificationRequestGenerator();
-        this.notificationId = notificationId;
-        this.callbackUrl = callbackUrl;
-        this.payloadJson = payloadJson;
+        this(HTTPClientUtils.getHttpClientPool(FinancialServicesConstants.HTTP_CLIENT_POOL_NOTIFICATION_DELIVERY),
+                EventNotificationServiceUtil.getRealtimeEventNotificationRequestGenerator(),
+                FinancialServicesConfigParser.getInstance().getRealtimeEventNotificationTimeoutInSeconds());
     }
 
-    public void run() {
-        try {
-            postWithRetry();
-        } catch (FSEventNotificationException e) {
-            log.error("Failed to send the Real-time event notification with notificationId: "
-                    + notificationId.replaceAll("[\r\n]", ""), e);
-        }
+    public RealtimeEventNotificationSenderService(CloseableHttpClient httpClient,
+                                                  RealtimeEventNotificationRequestGenerator httpRequestGenerator,
+                                                  int timeoutInSeconds) {
+
+        this.httpClient = httpClient;
+        this.httpRequestGenerator = httpRequestGenerator;
+        this.requestConfig = RequestConfig.custom()
+                .setConnectTimeout(timeoutInSeconds * 1000)
+                .setConnectionRequestTimeout(timeoutInSeconds * 1000)
+                .setSocketTimeout(timeoutInSeconds * 1000)
+                .build();
     }
 
     /**
-     * This method is used to send the HTTP requests to the TPP provided callback URL.
-     * Exponential backoff and Circuit breaker based retry policy is used to retry failed POST requests.
+     * Send the realtime event notification to the callback URL of the subscription.
      *
-     * @throws FSEventNotificationException
+     * @param notification realtime event notification
+     * @return true if the callback accepted the notification
      */
-    private void postWithRetry() throws FSEventNotificationException {
-        RealtimeNotificationService realtimeNotificationService = EventNotificationServiceUtil
-                .getRealtimeNotificationService();
-        int retryCount = 0;
-        long backoffTimeMs = INITIAL_BACKOFF_TIME_IN_SECONDS * 1000L;
-        boolean circuitBreakerOpen = false;
-        LocalTime startTime = LocalTime.now();
-
-        while (retryCount <= MAX_RETRIES && !circuitBreakerOpen) {
-            try {
-                // This if closure will execute only if the initial POST request is failed.
-                // This includes the retry policy and will execute according to the configurations.
-                if (retryCount > 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("HTTP request Retry #" + retryCount + " - waiting for "
-                                + backoffTimeMs + " ms before trying again");
-                    }
-                    Thread.sleep(backoffTimeMs);
-
-                    switch (BACKOFF_FUNCTION) {
-                        case "CONSTANT":
-                            // Backoff time will not be changed
-                            // Retries will happen in constant time frames
-                            break;
-                        case "LINEAR":
-                            // Backoff time will be doubled after each retry
-                            // nextWaitingTime = 2 x previousWaitingTime
-                            backoffTimeMs *= 2;
-                            break;
-                        case "EX":
-                            // Backoff time will be increased exponentially
-                            // nextWaitingTime = startWaitingTime x e^(retryCount)
-                            backoffTimeMs = (long)
-                                    (INITIAL_BACKOFF_TIME_IN_SECONDS
-                                            * 1000 * Math.exp(retryCount));
-                            break;
-                        default:
-                            log.error("Invalid backoff function for the realtime event notification retry policy: "
-                                    + BACKOFF_FUNCTION);
-                            throw new IllegalArgumentException(
-                                    "Invalid backoff function for the realtime event notification retry policy: "
-                                            + BACKOFF_FUNCTION);
-                    }
-                }
-
-                HttpPost httpPost = new HttpPost(URI.create(callbackUrl));
+    public boolean send(RealtimeEventNotification notification) {
 
-                for (Map.Entry<String, String> entry : httpRequestGenerator.getAdditionalHeaders().entrySet()) {
-                    String headerName = entry.getKey();
-                    String headerValue = entry.getValue();
-                    httpPost.setHeader(headerName, headerValue);
-                }
-
-                httpPost.setEntity(new StringEntity(String.valueOf(payloadJson), ContentType.APPLICATION_JSON));
-                RequestConfig requestConfig = RequestConfig.custom()
-                        .setConnectTimeout(TIMEOUT_IN_SECONDS * 1000)
-                        .setConnectionRequestTimeout(TIMEOUT_IN_SECONDS * 1000)
-                        .setSocketTimeout(TIMEOUT_IN_SECONDS * 1000)
-                        .build();
-                httpPost.setConfig(requestConfig);
+        String notificationId = notification.getNotificationId().replaceAll("[\r\n]", "");
+        try {
+            HttpPost httpPost = new HttpPost(URI.create(notification.getCallbackUrl()));
+            for (Map.Entry<String, String> entry : httpRequestGenerator.getAdditionalHeaders().entrySet()) {
+                httpPost.setHeader(entry.getKey(), entry.getValue());
+            }
+            httpPost.setEntity(new StringEntity(String.valueOf(notification.getJsonPayload()),
+                    ContentType.APPLICATION_JSON));
+            httpPost.setConfig(requestConfig);
 
-                HttpResponse response = httpClient.execute(httpPost);
+            try (CloseableHttpResponse response = httpClient.execute(httpPost)) {
+                // Consume the response so that the connection is returned to the pool
+                EntityUtils.consumeQuietly(response.getEntity());
                 int statusCode = response.getStatusLine().getStatusCode();
                 if (statusCode == HttpStatus.SC_ACCEPTED) {
                     if (log.isDebugEnabled()) {
-                        log.debug("Real-time event notification with notificationId: " +
-                                notificationId.replaceAll("[\r\n]", "") + " sent successfully");
-                    }
-                    realtimeNotificationService.updateNotificationStatusById(notificationId,
-                            EventNotificationConstants.EventNotificationStatusEnum.ACK);
-                    return;
-                } else {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Real-time event notification with notificationId: " +
-                                notificationId.replaceAll("[\r\n]", "")
-                                + " sent failed with status code: " + statusCode);
+                        log.debug("Real-time event notification with notificationId: " + notificationId +
+                                " sent successfully");
                     }
+                    return true;
                 }
-
-                // Circuit breaker will be opened if the retrying time exceeds the configured circuit breaker timeout.
-                if (Duration.between(startTime, LocalTime.now()).toMillis()
-                        > CIRCUIT_BREAKER_OPEN_TIMEOUT_IN_SECONDS * 1000) {
-                    circuitBreakerOpen = true;
-                    if (log.isDebugEnabled()) {
-                        log.debug("Circuit breaker open for the realtime event notification with notificationId: "
-                                + notificationId.replaceAll("[\r\n]", ""));
-                    }
+                if (log.isDebugEnabled()) {
+                    log.debug("Real-time event notification with notificationId: " + notificationId +
+                            " sent failed with status code: " + statusCode);
                 }
-                retryCount++;
-
-                // If the circuit breaker is opened or the maximum retry count is exceeded,
-                // the notification status will be updated as ERROR.
-                realtimeNotificationService.updateNotificationStatusById(notificationId,
-                        EventNotificationConstants.EventNotificationStatusEnum.ERROR);
-            } catch (IOException | InterruptedException | FSEventNotificationException  e) {
-                log.error("Real-time event notification with notificationId: " +
-                        notificationId.replaceAll("[\r\n]", "") + " sent failed", e);
             }
+        } catch (IOException | RuntimeException e) {
+            log.error("Real-time event notification with notificationId: " + notificationId + " sent failed", e);
         }
+        return false;
     }
 }
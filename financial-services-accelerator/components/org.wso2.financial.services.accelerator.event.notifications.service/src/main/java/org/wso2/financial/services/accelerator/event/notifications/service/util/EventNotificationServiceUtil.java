@@ -40,6 +40,8 @@ import org.wso2.financial.services.accelerator.event.notifications.service.realt
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Default event notification validations.
@@ -161,4 +163,17 @@ public class EventNotificationServiceUtil {
         return false;
     }
 
+    /**
+     * Method to create an executor starting a new virtual thread for each task.
+     *
+     * @return executor, or null if the Java runtime does not support virtual threads
+     */
+    public static ExecutorService getVirtualThreadPerTaskExecutor() {
+
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service;
+
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.financial.services.accelerator.common.util.JWTUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
+
+import java.security.Key;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to sign a polling response of 20 security event tokens, comparing a signer created for every token from the
+ * serialized JSON node with the cached signer of the signing service, sequentially and in parallel. Not part of the
+ * unit test suite, run the main method with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventNotificationSigningServiceBenchmark {
+
+    private static final int SETS_PER_RESPONSE = 20;
+
+    private Key key;
+    private List<NotificationResponse> notificationResponses;
+    private EventNotificationSigningService sequentialSigningService;
+    private EventNotificationSigningService parallelSigningService;
+
+    @Setup
+    public void setup() throws Exception {
+
+        key = new RSAKeyGenerator(2048).generate().toPrivateKey();
+        notificationResponses = new ArrayList<>();
+        for (int i = 0; i < SETS_PER_RESPONSE; i++) {
+            NotificationResponse notificationResponse = new NotificationResponse();
+            notificationResponse.setIss("www.wso2.com");
+            notificationResponse.setIat(1700000000L);
+            notificationResponse.setJti("notification-" + i);
+            notificationResponse.setAud("pAOTf7aUZp3oA8sKyGRiHvWqBy0a");
+            notificationResponse.setSub("event-subject");
+            notificationResponse.setEvents(EventNotificationTestUtils.getSampleNotificationsList());
+            notificationResponses.add(notificationResponse);
+        }
+        sequentialSigningService = new EventNotificationSigningService(() -> key, TimeUnit.MINUTES.toMillis(5), 1);
+        parallelSigningService = new EventNotificationSigningService(() -> key, TimeUnit.MINUTES.toMillis(5),
+                Runtime.getRuntime().availableProcessors());
+    }
+
+    @Benchmark
+    public List<String> signerPerToken() throws Exception {
+
+        List<String> tokens = new ArrayList<>(SETS_PER_RESPONSE);
+        for (NotificationResponse notificationResponse : notificationResponses) {
+            tokens.add(JWTUtils.generateJWT(NotificationResponse.getJsonNode(notificationResponse).toString(), key));
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public List<String> cachedSigner() throws FSEventNotificationException {
+
+        List<String> tokens = new ArrayList<>(SETS_PER_RESPONSE);
+        for (NotificationResponse notificationResponse : notificationResponses) {
+            tokens.add(sequentialSigningService.sign(notificationResponse));
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public List<String> cachedSignerParallel() throws FSEventNotificationException {
+
+        return parallelSigningService.signAll(notificationResponses);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        Options options = new OptionsBuilder()
+                .include(EventNotificationSigningServiceBenchmark.class.getSimpleName())
+                .threads(1)
+                .build();
+        new Runner(options).run();
+    }
+}
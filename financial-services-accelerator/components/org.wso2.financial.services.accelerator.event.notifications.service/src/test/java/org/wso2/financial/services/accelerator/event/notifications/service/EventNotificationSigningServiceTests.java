@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.SignedJWT;
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationTestConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for EventNotificationSigningService.
+ */
+public class EventNotificationSigningServiceTests {
+
+    private RSAKey firstKey;
+    private RSAKey secondKey;
+
+    @BeforeClass
+    public void initTest() throws Exception {
+
+        firstKey = new RSAKeyGenerator(2048).generate();
+        secondKey = new RSAKeyGenerator(2048).generate();
+    }
+
+    @Test
+    public void testSignNotificationResponse() throws Exception {
+
+        EventNotificationSigningService signingService =
+                new EventNotificationSigningService(firstKey::toPrivateKey, 60000, 1);
+
+        SignedJWT signedJWT = SignedJWT.parse(signingService.sign(getNotificationResponse("notification-1")));
+
+        Assert.assertEquals(signedJWT.getHeader().getAlgorithm(), JWSAlgorithm.RS256);
+        Assert.assertTrue(signedJWT.verify(new RSASSAVerifier(firstKey)));
+        Assert.assertEquals(signedJWT.getJWTClaimsSet().getJWTID(), "notification-1");
+        Assert.assertEquals(signedJWT.getJWTClaimsSet().getAudience(),
+                Collections.singletonList(EventNotificationTestConstants.SAMPLE_CLIENT_ID));
+        JSONObject events = new JSONObject(signedJWT.getJWTClaimsSet().getJSONObjectClaim("events"));
+        Assert.assertEquals(events.getJSONObject(EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1)
+                .getString("key1"), "value1");
+        Assert.assertFalse(signedJWT.getJWTClaimsSet().getClaims().containsKey("txn"));
+    }
+
+    @Test
+    public void testSignAllKeepsOrder() throws Exception {
+
+        EventNotificationSigningService signingService =
+                new EventNotificationSigningService(firstKey::toPrivateKey, 60000, 4);
+        List<NotificationResponse> notificationResponses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            notificationResponses.add(getNotificationResponse("notification-" + i));
+        }
+
+        List<String> tokens = signingService.signAll(notificationResponses);
+
+        Assert.assertEquals(tokens.size(), notificationResponses.size());
+        for (int i = 0; i < tokens.size(); i++) {
+            SignedJWT signedJWT = SignedJWT.parse(tokens.get(i));
+            Assert.assertTrue(signedJWT.verify(new RSASSAVerifier(firstKey)));
+            Assert.assertEquals(signedJWT.getJWTClaimsSet().getJWTID(), "notification-" + i);
+        }
+    }
+
+    @Test
+    public void testSigningKeyLoadedOnce() throws Exception {
+
+        AtomicInteger keyLoads = new AtomicInteger();
+        EventNotificationSigningService signingService = new EventNotificationSigningService(() -> {
+            keyLoads.incrementAndGet();
+            return firstKey.toPrivateKey();
+        }, 60000, 1);
+
+        signingService.sign(getNotificationResponse("notification-1"));
+        signingService.sign(getNotificationResponse("notification-2"));
+
+        Assert.assertEquals(keyLoads.get(), 1);
+    }
+
+    @Test
+    public void testRotatedSigningKeyIsUsed() throws Exception {
+
+        AtomicInteger keyLoads = new AtomicInteger();
+        EventNotificationSigningService signingService = new EventNotificationSigningService(() ->
+                keyLoads.getAndIncrement() == 0 ? firstKey.toPrivateKey() : secondKey.toPrivateKey(), 0, 1);
+
+        SignedJWT firstToken = SignedJWT.parse(signingService.sign(getNotificationResponse("notification-1")));
+        SignedJWT secondToken = SignedJWT.parse(signingService.sign(getNotificationResponse("notification-2")));
+
+        Assert.assertTrue(firstToken.verify(new RSASSAVerifier(firstKey)));
+        Assert.assertTrue(secondToken.verify(new RSASSAVerifier(secondKey)));
+    }
+
+    @Test
+    public void testPreviousKeyUsedWhenReloadFails() throws Exception {
+
+        AtomicInteger keyLoads = new AtomicInteger();
+        EventNotificationSigningService signingService = new EventNotificationSigningService(() -> {
+            if (keyLoads.getAndIncrement() == 0) {
+                return firstKey.toPrivateKey();
+            }
+            throw new IllegalStateException("Keystore unavailable");
+        }, 0, 1);
+
+        signingService.sign(getNotificationResponse("notification-1"));
+        SignedJWT signedJWT = SignedJWT.parse(signingService.sign(getNotificationResponse("notification-2")));
+
+        Assert.assertTrue(signedJWT.verify(new RSASSAVerifier(firstKey)));
+    }
+
+    @Test(expectedExceptions = FSEventNotificationException.class)
+    public void testSignWithoutSigningKey() throws Exception {
+
+        EventNotificationSigningService signingService = new EventNotificationSigningService(() -> {
+            throw new IllegalStateException("Keystore unavailable");
+        }, 60000, 1);
+
+        signingService.sign(getNotificationResponse("notification-1"));
+    }
+
+    private NotificationResponse getNotificationResponse(String notificationId) {
+
+        NotificationResponse notificationResponse = new NotificationResponse();
+        notificationResponse.setIss("www.wso2.com");
+        notificationResponse.setIat(1700000000L);
+        notificationResponse.setJti(notificationId);
+        notificationResponse.setAud(EventNotificationTestConstants.SAMPLE_CLIENT_ID);
+        notificationResponse.setSub("event-subject");
+        notificationResponse.setEvents(EventNotificationTestUtils.getSampleNotificationsList());
+        return notificationResponse;
+    }
+}
@@ -31,16 +31,25 @@ import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventNotificationDAO;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.AggregatedPollingResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventPolling;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
+import org.wso2.financial.services.accelerator.event.notifications.service.polling.EventPollingWaiterRegistry;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
 
 import java.sql.Connection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 
 /**
@@ -67,8 +76,11 @@ public class EventPollingServiceTests {
         configs.put(FinancialServicesConstants.REALTIME_EVENT_NOTIFICATION_ENABLED, false);
         FinancialServicesConfigParser configParserMock = Mockito.mock(FinancialServicesConfigParser.class);
         Mockito.doReturn(configs).when(configParserMock).getConfiguration();
+        Mockito.doReturn(30).when(configParserMock).getLongPollingMaxWaitTimeInSeconds();
         configParserMockedStatic.when(FinancialServicesConfigParser::getInstance).thenReturn(configParserMock);
 
+        Mockito.when(mockedEventNotificationGenerator.generateEventNotifications(anyList())).thenAnswer(
+                invocation -> Collections.nCopies(((List<?>) invocation.getArgument(0)).size(), "set"));
         eventNotificationUtilMockedStatic.when(EventNotificationServiceUtil::getEventNotificationGenerator)
                 .thenReturn(mockedEventNotificationGenerator);
         databaseUtilMockedStatic.when(DatabaseUtils::getDBConnection).thenReturn(mockedConnection);
@@ -86,7 +98,8 @@ public class EventPollingServiceTests {
     public void testPollEventsNoNotifications() throws FSEventNotificationException {
 
         mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
-        Mockito.when(mockedEventNotificationDao.getNotificationStatus(any(), anyString())).thenReturn(true);
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(EventNotificationTestUtils.getEmptyNotificationPage());
 
         eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
                 .thenReturn(mockedEventNotificationDao);
@@ -97,15 +110,16 @@ public class EventPollingServiceTests {
                 EventNotificationTestUtils.getEventPollingDTO());
 
         Assert.assertEquals(aggregatedPollingResponse.getStatus(), HttpStatus.SC_NOT_FOUND);
+        Mockito.verify(mockedEventNotificationDao).updateNotificationStatusByIds(any(), anyList(), anyString());
+        Mockito.verify(mockedEventNotificationDao).storeErrorNotifications(any(), anyMap());
     }
 
     @Test
     public void testPollNotifications() throws FSEventNotificationException {
 
         mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
-        Mockito.when(mockedEventNotificationDao.getNotificationStatus(any(), anyString())).thenReturn(true);
-        Mockito.when(mockedEventNotificationDao.getNotificationsByClientIdAndStatus(any(), anyString(), anyString(),
-                anyInt())).thenReturn(EventNotificationTestUtils.getSampleSavedTestNotification());
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(EventNotificationTestUtils.getSampleNotificationPage());
 
         eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
                 .thenReturn(mockedEventNotificationDao);
@@ -117,4 +131,99 @@ public class EventPollingServiceTests {
 
         Assert.assertEquals(aggregatedPollingResponse.getStatus(), HttpStatus.SC_OK);
     }
+
+    @Test
+    public void testPollNotificationsRemainingCount() throws FSEventNotificationException {
+
+        NotificationPage samplePage = EventNotificationTestUtils.getSampleNotificationPage();
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(new NotificationPage(samplePage.getNotifications(), 5));
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        AggregatedPollingResponse aggregatedPollingResponse = new EventPollingService().pollEvents(
+                EventNotificationTestUtils.getEventPollingDTO());
+
+        Assert.assertEquals(aggregatedPollingResponse.getSets().size(), 1);
+        Assert.assertEquals(aggregatedPollingResponse.getCount(), 4);
+        Assert.assertTrue(aggregatedPollingResponse.isMoreAvailable());
+        Mockito.verify(mockedEventNotificationDao, Mockito.never()).getNotificationCountByClientIdAndStatus(any(),
+                anyString(), anyString());
+    }
+
+    @Test
+    public void testLongPollingWithAvailableNotifications() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(EventNotificationTestUtils.getSampleNotificationPage());
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        EventPollingWaiterRegistry waiterRegistry = new EventPollingWaiterRegistry(10, 2);
+        EventPollingService eventPollingService = new EventPollingService(waiterRegistry);
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+
+        Assert.assertTrue(pollingResponse.isDone());
+        Assert.assertEquals(pollingResponse.get().getStatus(), HttpStatus.SC_OK);
+        Assert.assertEquals(waiterRegistry.getWaiterCount(), 0);
+    }
+
+    @Test
+    public void testLongPollingWaitsForNotifications() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(EventNotificationTestUtils.getEmptyNotificationPage())
+                .thenReturn(EventNotificationTestUtils.getSampleNotificationPage());
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        // Notified waiters are completed in the calling thread, where the static mocks are active
+        EventPollingWaiterRegistry waiterRegistry = new EventPollingWaiterRegistry(10, 2, Runnable::run);
+        EventPollingService eventPollingService = new EventPollingService(waiterRegistry);
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+        Assert.assertFalse(pollingResponse.isDone());
+        Assert.assertEquals(waiterRegistry.getWaiterCount(), 1);
+
+        waiterRegistry.notifyWaiters(eventPolling.getClientId());
+
+        Assert.assertEquals(pollingResponse.get(5, TimeUnit.SECONDS).getStatus(), HttpStatus.SC_OK);
+        Assert.assertEquals(waiterRegistry.getWaiterCount(), 0);
+        // Acknowledgements are processed only once
+        Mockito.verify(mockedEventNotificationDao, Mockito.times(1)).updateNotificationStatusByIds(any(),
+                anyList(), anyString());
+    }
+
+    @Test
+    public void testLongPollingConcurrencyLimitReached() throws Exception {
+
+        mockedEventNotificationDao = Mockito.mock(EventNotificationDAO.class);
+        Mockito.when(mockedEventNotificationDao.getNotificationsWithEventsByClientIdAndStatus(any(), anyString(),
+                anyString(), anyInt())).thenReturn(EventNotificationTestUtils.getEmptyNotificationPage());
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventNotificationDAO)
+                .thenReturn(mockedEventNotificationDao);
+
+        EventPollingService eventPollingService = new EventPollingService(new EventPollingWaiterRegistry(0, 0));
+        EventPolling eventPolling = EventNotificationTestUtils.getEventPollingDTO();
+        eventPolling.setReturnImmediately(false);
+
+        CompletableFuture<AggregatedPollingResponse> pollingResponse =
+                eventPollingService.pollEventsAsync(eventPolling);
+
+        Assert.assertTrue(pollingResponse.isDone());
+        Assert.assertEquals(pollingResponse.get().getStatus(), HttpStatus.SC_NOT_FOUND);
+    }
 }
@@ -24,19 +24,26 @@ import org.testng.Assert;
 import org.testng.annotations.AfterClass;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.DatabaseUtils;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCache;
+import org.wso2.financial.services.accelerator.event.notifications.service.cache.EventSubscriptionCacheKey;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationTestConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.dao.EventSubscriptionDAO;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.internal.EventNotificationDataHolder;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
 import org.wso2.financial.services.accelerator.event.notifications.service.persistence.EventNotificationStoreInitializer;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationServiceUtil;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
 
 import java.sql.Connection;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -387,4 +394,90 @@ public class EventSubscriptionServiceTests {
 
         Assert.assertTrue(result);
     }
+
+    @Test
+    public void testGetEventSubscriptionIndex() throws FSEventNotificationException {
+
+        mockedEventSubscriptionDAO = Mockito.mock(EventSubscriptionDAO.class);
+        Mockito.when(mockedEventSubscriptionDAO.getEventSubscriptionsByClientId(any(), anyString()))
+                .thenReturn(EventNotificationTestUtils.getSampleStoredEventSubscriptions());
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventSubscriptionDAO)
+                .thenReturn(mockedEventSubscriptionDAO);
+
+        EventSubscriptionService eventSubscriptionService = new EventSubscriptionService();
+
+        EventSubscriptionIndex result = eventSubscriptionService.
+                getEventSubscriptionIndex(EventNotificationTestConstants.SAMPLE_CLIENT_ID);
+
+        Assert.assertEquals(result.getEventSubscriptions().size(), 2);
+        Assert.assertEquals(result.getCallbackSubscriptions(
+                EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1).size(), 2);
+        Assert.assertTrue(result.getCallbackSubscriptions("unsubscribedEventType").isEmpty());
+
+        NotificationEvent subscribedEvent = new NotificationEvent();
+        subscribedEvent.setEventType(EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1);
+        NotificationEvent unsubscribedEvent = new NotificationEvent();
+        unsubscribedEvent.setEventType("unsubscribedEventType");
+        Map<EventSubscription, List<NotificationEvent>> eventsBySubscription = result
+                .getEventsByCallbackSubscription(Arrays.asList(subscribedEvent, unsubscribedEvent));
+        Assert.assertEquals(eventsBySubscription.size(), 2);
+        eventsBySubscription.values().forEach(events -> Assert.assertEquals(events,
+                Arrays.asList(subscribedEvent)));
+    }
+
+    @Test
+    public void testGetEventSubscriptionIndexFromCache() throws Exception {
+
+        mockedEventSubscriptionDAO = Mockito.mock(EventSubscriptionDAO.class);
+        Mockito.when(mockedEventSubscriptionDAO.getEventSubscriptionsByClientId(any(), anyString()))
+                .thenReturn(EventNotificationTestUtils.getSampleStoredEventSubscriptions());
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventSubscriptionDAO)
+                .thenReturn(mockedEventSubscriptionDAO);
+
+        EventSubscriptionCache eventSubscriptionCache = Mockito.mock(EventSubscriptionCache.class);
+        Mockito.when(eventSubscriptionCache.getFromCacheOrRetrieve(any(), any())).thenAnswer(invocation ->
+                ((FinancialServicesBaseCache.OnDemandRetriever) invocation.getArgument(1)).get());
+        EventNotificationDataHolder.getInstance().setEventSubscriptionCache(eventSubscriptionCache);
+        try {
+            EventSubscriptionService eventSubscriptionService = new EventSubscriptionService();
+
+            EventSubscriptionIndex result = eventSubscriptionService.
+                    getEventSubscriptionIndex(EventNotificationTestConstants.SAMPLE_CLIENT_ID);
+
+            Assert.assertEquals(result.getEventSubscriptions().size(), 2);
+            Mockito.verify(eventSubscriptionCache).getFromCacheOrRetrieve(
+                    Mockito.eq(EventSubscriptionCacheKey.of(EventNotificationTestConstants.SAMPLE_CLIENT_ID)), any());
+        } finally {
+            EventNotificationDataHolder.getInstance().setEventSubscriptionCache(null);
+        }
+    }
+
+    @Test
+    public void testDeleteEventSubscriptionInvalidatesCache() throws FSEventNotificationException {
+
+        mockedEventSubscriptionDAO = Mockito.mock(EventSubscriptionDAO.class);
+        Mockito.when(mockedEventSubscriptionDAO.getEventSubscriptionBySubscriptionId(any(), anyString()))
+                .thenReturn(EventNotificationTestUtils.getSampleStoredEventSubscription());
+        Mockito.when(mockedEventSubscriptionDAO.deleteEventSubscription(any(), anyString())).thenReturn(true);
+
+        eventStoreInitializerMockedStatic.when(EventNotificationStoreInitializer::getEventSubscriptionDAO)
+                .thenReturn(mockedEventSubscriptionDAO);
+
+        EventSubscriptionCache eventSubscriptionCache = Mockito.mock(EventSubscriptionCache.class);
+        EventNotificationDataHolder.getInstance().setEventSubscriptionCache(eventSubscriptionCache);
+        try {
+            EventSubscriptionService eventSubscriptionService = new EventSubscriptionService();
+
+            Boolean result = eventSubscriptionService.
+                    deleteEventSubscription(EventNotificationTestConstants.SAMPLE_SUBSCRIPTION_ID_1);
+
+            Assert.assertTrue(result);
+            Mockito.verify(eventSubscriptionCache).removeFromCache(
+                    EventSubscriptionCacheKey.of(EventNotificationTestConstants.SAMPLE_CLIENT_ID));
+        } finally {
+            EventNotificationDataHolder.getInstance().setEventSubscriptionCache(null);
+        }
+    }
 }
@@ -29,7 +29,9 @@ import org.wso2.financial.services.accelerator.event.notifications.service.const
 import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationTestConstants;
 import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 import org.wso2.financial.services.accelerator.event.notifications.service.queries.EventNotificationSqlStatements;
 import org.wso2.financial.services.accelerator.event.notifications.service.util.EventNotificationTestUtils;
 
@@ -37,7 +39,13 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.anyString;
@@ -255,4 +263,157 @@ public class EventNotificationDAOImplTests {
         }
     }
 
+    @Test
+    public void testGetNotificationsWithEventsByStatus() throws SQLException, FSEventNotificationException {
+
+        List<String> notificationIdsSent = new ArrayList<>();
+        List<String> notificationIdsReceived = new ArrayList<>();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            for (int i = 0; i < 3; i++) {
+                String notificationId = UUID.randomUUID().toString();
+                eventNotificationDAOImpl.persistEventNotification(connection,
+                        EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                        EventNotificationTestUtils.getSampleEventList());
+                notificationIdsSent.add(notificationId);
+            }
+
+            String lastNotificationId = null;
+            Map<Notification, List<NotificationEvent>> page;
+            do {
+                page = eventNotificationDAOImpl.getNotificationsWithEventsByStatus(connection,
+                        EventNotificationConstants.OPEN, lastNotificationId, 2);
+                Assert.assertTrue(page.size() <= 2);
+                for (Map.Entry<Notification, List<NotificationEvent>> entry : page.entrySet()) {
+                    lastNotificationId = entry.getKey().getNotificationId();
+                    notificationIdsReceived.add(lastNotificationId);
+                    if (notificationIdsSent.contains(lastNotificationId)) {
+                        Assert.assertEquals(entry.getValue().size(), 1);
+                        Assert.assertEquals(entry.getValue().get(0).getEventType(),
+                                EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1);
+                    }
+                }
+            } while (page.size() == 2);
+        }
+
+        Assert.assertTrue(notificationIdsReceived.containsAll(notificationIdsSent));
+        List<String> sortedNotificationIds = new ArrayList<>(notificationIdsReceived);
+        Collections.sort(sortedNotificationIds);
+        Assert.assertEquals(notificationIdsReceived, sortedNotificationIds);
+        Assert.assertEquals(new HashSet<>(notificationIdsReceived).size(), notificationIdsReceived.size());
+    }
+
+    @Test
+    public void testUpdateNotificationStatusByIds() throws SQLException, FSEventNotificationException {
+
+        List<String> notificationIds = Arrays.asList(UUID.randomUUID().toString(), UUID.randomUUID().toString());
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            for (String notificationId : notificationIds) {
+                eventNotificationDAOImpl.persistEventNotification(connection,
+                        EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                        EventNotificationTestUtils.getSampleEventList());
+            }
+            eventNotificationDAOImpl.updateNotificationStatusByIds(connection,
+                    Arrays.asList(notificationIds.get(0), notificationIds.get(1), notificationIds.get(0)),
+                    EventNotificationConstants.ACK);
+
+            Assert.assertFalse(eventNotificationDAOImpl.getNotificationStatus(connection, notificationIds.get(0)));
+            Assert.assertFalse(eventNotificationDAOImpl.getNotificationStatus(connection, notificationIds.get(1)));
+        }
+    }
+
+    @Test(expectedExceptions = FSEventNotificationException.class)
+    public void testUpdateNotificationStatusByIdsWithUnknownId() throws SQLException, FSEventNotificationException {
+
+        String notificationId = UUID.randomUUID().toString();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            eventNotificationDAOImpl.persistEventNotification(connection,
+                    EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                    EventNotificationTestUtils.getSampleEventList());
+            eventNotificationDAOImpl.updateNotificationStatusByIds(connection,
+                    Arrays.asList(notificationId, UUID.randomUUID().toString()), EventNotificationConstants.ACK);
+        }
+    }
+
+    @Test
+    public void testStoreErrorNotificationsOfOpenNotifications() throws SQLException, FSEventNotificationException {
+
+        String openNotificationId = UUID.randomUUID().toString();
+        String acknowledgedNotificationId = UUID.randomUUID().toString();
+        Map<String, NotificationError> notificationErrors = new HashMap<>();
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            for (String notificationId : Arrays.asList(openNotificationId, acknowledgedNotificationId)) {
+                eventNotificationDAOImpl.persistEventNotification(connection,
+                        EventNotificationTestUtils.getSampleNotificationDTO(notificationId),
+                        EventNotificationTestUtils.getSampleEventList());
+                notificationErrors.put(notificationId, EventNotificationTestUtils.getNotificationError(notificationId));
+            }
+            eventNotificationDAOImpl.updateNotificationStatusById(connection, acknowledgedNotificationId,
+                    EventNotificationConstants.ACK);
+
+            eventNotificationDAOImpl.storeErrorNotifications(connection, notificationErrors);
+
+            Assert.assertEquals(getStatus(connection, openNotificationId), EventNotificationConstants.ERROR);
+            Assert.assertEquals(getStatus(connection, acknowledgedNotificationId), EventNotificationConstants.ACK);
+        }
+    }
+
+    @Test
+    public void testGetNotificationsWithEventsByClientIdAndStatus() throws SQLException,
+            FSEventNotificationException {
+
+        String clientId = UUID.randomUUID().toString();
+        List<String> notificationIdsSent = new ArrayList<>();
+        NotificationPage notificationPage;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            for (int i = 0; i < 3; i++) {
+                Notification notification = EventNotificationTestUtils.getSampleNotificationDTO(
+                        UUID.randomUUID().toString());
+                notification.setClientId(clientId);
+                eventNotificationDAOImpl.persistEventNotification(connection, notification,
+                        EventNotificationTestUtils.getSampleEventList());
+                notificationIdsSent.add(notification.getNotificationId());
+            }
+            notificationPage = eventNotificationDAOImpl.getNotificationsWithEventsByClientIdAndStatus(connection,
+                    clientId, EventNotificationConstants.OPEN, 2);
+        }
+
+        Collections.sort(notificationIdsSent);
+        Assert.assertEquals(notificationPage.getTotalCount(), 3);
+        Assert.assertEquals(notificationPage.getNotifications().size(), 2);
+        List<String> notificationIdsReceived = new ArrayList<>();
+        for (Map.Entry<Notification, List<NotificationEvent>> entry :
+                notificationPage.getNotifications().entrySet()) {
+            notificationIdsReceived.add(entry.getKey().getNotificationId());
+            Assert.assertEquals(entry.getKey().getClientId(), clientId);
+            Assert.assertEquals(entry.getValue().size(), 1);
+            Assert.assertEquals(entry.getValue().get(0).getEventType(),
+                    EventNotificationTestConstants.SAMPLE_NOTIFICATION_EVENT_TYPE_1);
+        }
+        Assert.assertEquals(notificationIdsReceived, notificationIdsSent.subList(0, 2));
+    }
+
+    @Test
+    public void testGetNotificationsWithEventsByClientIdAndStatusNoNotifications() throws SQLException,
+            FSEventNotificationException {
+
+        NotificationPage notificationPage;
+        try (Connection connection = EventNotificationTestUtils.getConnection(DB_NAME)) {
+            notificationPage = eventNotificationDAOImpl.getNotificationsWithEventsByClientIdAndStatus(connection,
+                    UUID.randomUUID().toString(), EventNotificationConstants.OPEN, 5);
+        }
+
+        Assert.assertTrue(notificationPage.getNotifications().isEmpty());
+        Assert.assertEquals(notificationPage.getTotalCount(), 0);
+    }
+
+    private static String getStatus(Connection connection, String notificationId) throws SQLException {
+
+        try (PreparedStatement preparedStatement = connection.prepareStatement(
+                "SELECT STATUS FROM FS_NOTIFICATION WHERE NOTIFICATION_ID = ?")) {
+            preparedStatement.setString(1, notificationId);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? resultSet.getString("STATUS") : null;
+            }
+        }
+    }
 }
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.polling;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for EventPollingWaiterRegistry.
+ */
+public class EventPollingWaiterRegistryTests {
+
+    private static final String CLIENT_ID = "client1";
+    private static final String OTHER_CLIENT_ID = "client2";
+
+    @Test
+    public void testNotifyWaiters() throws Exception {
+
+        EventPollingWaiterRegistry registry = new EventPollingWaiterRegistry(10, 2);
+        CompletableFuture<Boolean> waiter = registry.register(CLIENT_ID, 60000);
+        CompletableFuture<Boolean> otherClientWaiter = registry.register(OTHER_CLIENT_ID, 60000);
+        Assert.assertEquals(registry.getWaiterCount(), 2);
+
+        registry.notifyWaiters(CLIENT_ID);
+
+        Assert.assertTrue(waiter.get(5, TimeUnit.SECONDS));
+        Assert.assertFalse(otherClientWaiter.isDone());
+        assertWaiterCount(registry, 1);
+    }
+
+    @Test
+    public void testWaiterTimeout() throws Exception {
+
+        EventPollingWaiterRegistry registry = new EventPollingWaiterRegistry(10, 2);
+        CompletableFuture<Boolean> waiter = registry.register(CLIENT_ID, 50);
+
+        Assert.assertFalse(waiter.get(5, TimeUnit.SECONDS));
+        assertWaiterCount(registry, 0);
+    }
+
+    @Test
+    public void testConcurrencyLimits() {
+
+        EventPollingWaiterRegistry registry = new EventPollingWaiterRegistry(3, 2);
+        Assert.assertNotNull(registry.register(CLIENT_ID, 60000));
+        Assert.assertNotNull(registry.register(CLIENT_ID, 60000));
+        Assert.assertNull(registry.register(CLIENT_ID, 60000));
+        Assert.assertNotNull(registry.register(OTHER_CLIENT_ID, 60000));
+        Assert.assertNull(registry.register(OTHER_CLIENT_ID, 60000));
+        Assert.assertEquals(registry.getWaiterCount(), 3);
+    }
+
+    @Test
+    public void testReleaseWaiter() {
+
+        EventPollingWaiterRegistry registry = new EventPollingWaiterRegistry(1, 1);
+        CompletableFuture<Boolean> waiter = registry.register(CLIENT_ID, 60000);
+        registry.release(waiter);
+
+        Assert.assertFalse(waiter.join());
+        Assert.assertEquals(registry.getWaiterCount(), 0);
+        Assert.assertNotNull(registry.register(CLIENT_ID, 60000));
+    }
+
+    private static void assertWaiterCount(EventPollingWaiterRegistry registry, int expectedCount)
+            throws InterruptedException {
+
+        // Waiters are removed from the registry once their completion is processed
+        long deadline = System.currentTimeMillis() + 5000;
+        while (registry.getWaiterCount() != expectedCount && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(registry.getWaiterCount(), expectedCount);
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test class for CallbackHostGuard.
+ */
+public class CallbackHostGuardTests {
+
+    private static final String HOST = "tpp.example.com:443";
+
+    @Test
+    public void testGetHostKey() {
+
+        Assert.assertEquals(CallbackHostGuard.getHostKey("https://TPP.example.com:8443/callback"),
+                "tpp.example.com:8443");
+        Assert.assertEquals(CallbackHostGuard.getHostKey("https://tpp.example.com/callback"),
+                "tpp.example.com:-1");
+        Assert.assertEquals(CallbackHostGuard.getHostKey("not a url"), "not a url");
+        Assert.assertEquals(CallbackHostGuard.getHostKey(null), "");
+    }
+
+    @Test
+    public void testPermitHandOver() {
+
+        CallbackHostGuard hostGuard = new CallbackHostGuard(1, 3, 1000);
+        Runnable waitingDelivery = () -> { };
+
+        Assert.assertTrue(hostGuard.tryAcquire(HOST, () -> { }));
+        Assert.assertFalse(hostGuard.tryAcquire(HOST, waitingDelivery));
+        Assert.assertSame(hostGuard.release(HOST), waitingDelivery);
+        Assert.assertNull(hostGuard.release(HOST));
+        Assert.assertEquals(hostGuard.getTrackedHostCount(), 0);
+    }
+
+    @Test
+    public void testHostSuspension() {
+
+        AtomicLong clock = new AtomicLong(1000);
+        CallbackHostGuard hostGuard = new CallbackHostGuard(1, 2, 500, clock::get);
+
+        hostGuard.recordResult(HOST, false);
+        Assert.assertEquals(hostGuard.getRemainingSuspensionMillis(HOST), 0);
+        hostGuard.recordResult(HOST, false);
+        Assert.assertEquals(hostGuard.getRemainingSuspensionMillis(HOST), 500);
+
+        clock.addAndGet(500);
+        Assert.assertEquals(hostGuard.getRemainingSuspensionMillis(HOST), 0);
+
+        // A failure after the suspension suspends the host again
+        hostGuard.recordResult(HOST, false);
+        Assert.assertEquals(hostGuard.getRemainingSuspensionMillis(HOST), 500);
+
+        clock.addAndGet(500);
+        hostGuard.recordResult(HOST, true);
+        hostGuard.recordResult(HOST, false);
+        Assert.assertEquals(hostGuard.getRemainingSuspensionMillis(HOST), 0);
+    }
+}
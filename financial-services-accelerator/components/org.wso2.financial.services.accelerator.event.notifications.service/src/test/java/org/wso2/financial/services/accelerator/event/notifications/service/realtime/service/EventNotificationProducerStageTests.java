@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for EventNotificationProducerStage.
+ */
+public class EventNotificationProducerStageTests {
+
+    private static final String CLIENT_ID = "client1";
+    private static final String EVENT_TYPE = "eventType1";
+    private static final String CALLBACK_URL = "https://tpp.example.com/callback";
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    @Test
+    public void testCoalesceNotificationsOfClient() throws Exception {
+
+        EventSubscriptionService subscriptionService = getSubscriptionService();
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        EventNotificationProducerStage producerStage = new EventNotificationProducerStage(subscriptionService,
+                getGenerator(), queue, 2, false, 200, 10);
+        producerStage.start();
+        try {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertTrue(producerStage.submit(getNotification("n" + i), getEvents()));
+            }
+
+            for (int i = 0; i < 3; i++) {
+                Assert.assertNotNull(queue.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            }
+            verify(subscriptionService, times(1)).getEventSubscriptionIndex(CLIENT_ID);
+            assertEventually(() -> producerStage.getPendingCount() == 0);
+            Assert.assertEquals(producerStage.getSubmittedCount(), 3);
+            Assert.assertEquals(producerStage.getEnqueuedCount(), 3);
+            Assert.assertTrue(producerStage.getMaxEnqueueLatencyMillis() >= 0);
+        } finally {
+            producerStage.stop();
+        }
+    }
+
+    @Test
+    public void testDropNotificationsBeyondCapacity() throws Exception {
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        EventNotificationProducerStage producerStage = new EventNotificationProducerStage(getSubscriptionService(),
+                getGenerator(), queue, 1, false, 200, 2);
+        producerStage.start();
+        try {
+            Assert.assertTrue(producerStage.submit(getNotification("n1"), getEvents()));
+            Assert.assertTrue(producerStage.submit(getNotification("n2"), getEvents()));
+            Assert.assertFalse(producerStage.submit(getNotification("n3"), getEvents()));
+            Assert.assertEquals(producerStage.getDroppedCount(), 1);
+
+            Assert.assertNotNull(queue.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            Assert.assertNotNull(queue.poll(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+            assertEventually(() -> producerStage.getPendingCount() == 0);
+            Assert.assertTrue(producerStage.submit(getNotification("n4"), getEvents()));
+        } finally {
+            producerStage.stop();
+        }
+    }
+
+    @Test
+    public void testDropNotificationsWhenStopped() throws Exception {
+
+        EventNotificationProducerStage producerStage = new EventNotificationProducerStage(getSubscriptionService(),
+                getGenerator(), new LinkedBlockingQueue<>(10), 1, false, 0, 2);
+
+        Assert.assertFalse(producerStage.submit(getNotification("n1"), getEvents()));
+        Assert.assertEquals(producerStage.getDroppedCount(), 1);
+    }
+
+    @Test
+    public void testNotificationsWithoutSubscription() throws Exception {
+
+        EventSubscriptionService subscriptionService = mock(EventSubscriptionService.class);
+        when(subscriptionService.getEventSubscriptionIndex(CLIENT_ID))
+                .thenReturn(new EventSubscriptionIndex(Collections.emptyList()));
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        EventNotificationProducerStage producerStage = new EventNotificationProducerStage(subscriptionService,
+                getGenerator(), queue, 1, false, 0, 2);
+        producerStage.start();
+        try {
+            Assert.assertTrue(producerStage.submit(getNotification("n1"), getEvents()));
+
+            assertEventually(() -> producerStage.getFailedCount() == 1);
+            assertEventually(() -> producerStage.getPendingCount() == 0);
+            Assert.assertTrue(queue.isEmpty());
+        } finally {
+            producerStage.stop();
+        }
+    }
+
+    private static EventSubscriptionService getSubscriptionService() throws Exception {
+
+        EventSubscription subscription = new EventSubscription();
+        subscription.setClientId(CLIENT_ID);
+        subscription.setCallbackUrl(CALLBACK_URL);
+        subscription.setEventTypes(Collections.singletonList(EVENT_TYPE));
+        EventSubscriptionService subscriptionService = mock(EventSubscriptionService.class);
+        when(subscriptionService.getEventSubscriptionIndex(CLIENT_ID))
+                .thenReturn(new EventSubscriptionIndex(Collections.singletonList(subscription)));
+        return subscriptionService;
+    }
+
+    private static EventNotificationGenerator getGenerator() throws Exception {
+
+        EventNotificationGenerator generator = mock(EventNotificationGenerator.class);
+        when(generator.generateEventNotificationBody(any(), anyList())).thenReturn(new NotificationResponse());
+        when(generator.generateEventNotification(any(NotificationResponse.class))).thenReturn("set");
+        return generator;
+    }
+
+    private static Notification getNotification(String notificationId) {
+
+        Notification notification = new Notification();
+        notification.setNotificationId(notificationId);
+        notification.setClientId(CLIENT_ID);
+        notification.setStatus(EventNotificationConstants.OPEN);
+        return notification;
+    }
+
+    private static List<NotificationEvent> getEvents() {
+
+        NotificationEvent event = new NotificationEvent();
+        event.setEventType(EVENT_TYPE);
+        event.setEventInformation(new JSONObject());
+        return Collections.singletonList(event);
+    }
+
+    private static void assertEventually(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Condition not met within the timeout");
+            Thread.sleep(10);
+        }
+    }
+}
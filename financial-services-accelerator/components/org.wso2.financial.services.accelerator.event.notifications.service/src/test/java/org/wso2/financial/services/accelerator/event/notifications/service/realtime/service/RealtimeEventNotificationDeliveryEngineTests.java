@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for RealtimeEventNotificationDeliveryEngine.
+ */
+public class RealtimeEventNotificationDeliveryEngineTests {
+
+    private static final String CALLBACK_URL = "https://tpp.example.com/callback";
+    private static final String OTHER_CALLBACK_URL = "https://tpp2.example.com/callback";
+    private static final long VERIFY_TIMEOUT_MILLIS = 5000;
+
+    @Test
+    public void testDeliverNotification() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        when(sender.send(any())).thenReturn(true);
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        RealtimeEventNotificationDeliveryEngine engine = createEngine(queue, sender, notificationService,
+                new RealtimeEventNotificationRetryPolicy(3, 10, "CONSTANT", 60000), 5, 10);
+        try {
+            engine.start();
+            queue.put(getNotification("1", CALLBACK_URL));
+
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).updateNotificationStatusById("1",
+                    EventNotificationConstants.EventNotificationStatusEnum.ACK);
+            assertEventually(() -> engine.getPendingDeliveryCount() == 0);
+            Assert.assertEquals(engine.getDeliveredCount(), 1);
+            Assert.assertEquals(engine.getRetryCount(), 0);
+            Assert.assertEquals(engine.getInFlightSendCount(), 0);
+            Assert.assertEquals(engine.getQueueDepth(), 0);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testRetryUntilDelivered() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        when(sender.send(any())).thenReturn(false, false, true);
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        RealtimeEventNotificationDeliveryEngine engine = createEngine(queue, sender, notificationService,
+                new RealtimeEventNotificationRetryPolicy(3, 10, "LINEAR", 60000), 5, 10);
+        try {
+            engine.start();
+            queue.put(getNotification("1", CALLBACK_URL));
+
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).updateNotificationStatusById("1",
+                    EventNotificationConstants.EventNotificationStatusEnum.ACK);
+            verify(sender, times(3)).send(any());
+            verify(notificationService, never()).updateNotificationStatusById(anyString(),
+                    Mockito.eq(EventNotificationConstants.EventNotificationStatusEnum.ERROR));
+            Assert.assertEquals(engine.getRetryCount(), 2);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testMarkErrorWhenRetriesExhausted() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        when(sender.send(any())).thenReturn(false);
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        RealtimeEventNotificationDeliveryEngine engine = createEngine(queue, sender, notificationService,
+                new RealtimeEventNotificationRetryPolicy(2, 10, "CONSTANT", 60000), 5, 10);
+        try {
+            engine.start();
+            queue.put(getNotification("1", CALLBACK_URL));
+
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).updateNotificationStatusById("1",
+                    EventNotificationConstants.EventNotificationStatusEnum.ERROR);
+            verify(sender, times(3)).send(any());
+            Assert.assertEquals(engine.getFailedCount(), 1);
+            assertEventually(() -> engine.getPendingDeliveryCount() == 0);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testConcurrencyLimitPerHost() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        AtomicInteger activeSends = new AtomicInteger();
+        AtomicInteger maxActiveSends = new AtomicInteger();
+        when(sender.send(any())).thenAnswer(invocation -> {
+            int active = activeSends.incrementAndGet();
+            maxActiveSends.accumulateAndGet(active, Math::max);
+            Thread.sleep(20);
+            activeSends.decrementAndGet();
+            return true;
+        });
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(20);
+        RealtimeEventNotificationDeliveryEngine engine = createEngine(queue, sender, notificationService,
+                new RealtimeEventNotificationRetryPolicy(3, 10, "CONSTANT", 60000), 2, 20);
+        try {
+            for (int i = 0; i < 10; i++) {
+                queue.put(getNotification(String.valueOf(i), CALLBACK_URL));
+            }
+            engine.start();
+
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS).times(10))
+                    .updateNotificationStatusById(anyString(),
+                            Mockito.eq(EventNotificationConstants.EventNotificationStatusEnum.ACK));
+            Assert.assertTrue(maxActiveSends.get() <= 2);
+            Assert.assertEquals(engine.getDeliveredCount(), 10);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testPendingDeliveryLimitAppliesBackpressure() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        CountDownLatch sendReleased = new CountDownLatch(1);
+        when(sender.send(any())).thenAnswer(invocation -> sendReleased.await(VERIFY_TIMEOUT_MILLIS,
+                TimeUnit.MILLISECONDS));
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(2);
+        RealtimeEventNotificationDeliveryEngine engine = createEngine(queue, sender, notificationService,
+                new RealtimeEventNotificationRetryPolicy(3, 10, "CONSTANT", 60000), 5, 2);
+        try {
+            engine.start();
+            queue.put(getNotification("1", CALLBACK_URL));
+            queue.put(getNotification("2", OTHER_CALLBACK_URL));
+            assertEventually(() -> engine.getInFlightSendCount() == 2);
+
+            // The dispatcher holds one more notification and stops taking from the queue, so the bounded queue
+            // blocks further producers once it is full
+            queue.put(getNotification("3", CALLBACK_URL));
+            assertEventually(() -> engine.getQueueDepth() == 0);
+            queue.put(getNotification("4", CALLBACK_URL));
+            queue.put(getNotification("5", CALLBACK_URL));
+            Assert.assertFalse(queue.offer(getNotification("6", CALLBACK_URL), 50, TimeUnit.MILLISECONDS));
+            Assert.assertEquals(engine.getQueueDepth(), 2);
+            Assert.assertEquals(engine.getPendingDeliveryCount(), 2);
+
+            sendReleased.countDown();
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS).times(5))
+                    .updateNotificationStatusById(anyString(),
+                            Mockito.eq(EventNotificationConstants.EventNotificationStatusEnum.ACK));
+            Assert.assertTrue(engine.getMaxSendLatencyMillis() >= 0);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testVirtualThreadOption() throws Exception {
+
+        RealtimeEventNotificationSenderService sender = mock(RealtimeEventNotificationSenderService.class);
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        when(sender.send(any())).thenReturn(true);
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        RealtimeEventNotificationDeliveryEngine engine = new RealtimeEventNotificationDeliveryEngine(queue, sender,
+                notificationService, new RealtimeEventNotificationRetryPolicy(3, 10, "CONSTANT", 60000),
+                new CallbackHostGuard(5, 5, 60000), 5, true, 10);
+        try {
+            engine.start();
+            queue.put(getNotification("1", CALLBACK_URL));
+
+            // Falls back to a thread pool on runtimes without virtual threads
+            verify(notificationService, Mockito.timeout(VERIFY_TIMEOUT_MILLIS)).updateNotificationStatusById("1",
+                    EventNotificationConstants.EventNotificationStatusEnum.ACK);
+        } finally {
+            engine.stop();
+        }
+    }
+
+    @Test
+    public void testRetryPolicyDelays() {
+
+        RealtimeEventNotificationRetryPolicy constant = new RealtimeEventNotificationRetryPolicy(3, 1000,
+                "CONSTANT", 60000);
+        Assert.assertEquals(constant.getRetryDelayMillis(1, 0), 1000);
+        Assert.assertEquals(constant.getRetryDelayMillis(3, 0), 1000);
+        Assert.assertEquals(constant.getRetryDelayMillis(4, 0), -1);
+        Assert.assertEquals(constant.getRetryDelayMillis(1, 60001), -1);
+
+        RealtimeEventNotificationRetryPolicy linear = new RealtimeEventNotificationRetryPolicy(3, 1000,
+                "LINEAR", 60000);
+        Assert.assertEquals(linear.getRetryDelayMillis(1, 0), 1000);
+        Assert.assertEquals(linear.getRetryDelayMillis(3, 0), 4000);
+
+        RealtimeEventNotificationRetryPolicy exponential = new RealtimeEventNotificationRetryPolicy(3, 1000,
+                "INVALID", 60000);
+        Assert.assertEquals(exponential.getRetryDelayMillis(1, 0), 1000);
+        Assert.assertEquals(exponential.getRetryDelayMillis(2, 0), (long) (1000 * Math.E));
+    }
+
+    private static RealtimeEventNotificationDeliveryEngine createEngine(
+            LinkedBlockingQueue<RealtimeEventNotification> queue, RealtimeEventNotificationSenderService sender,
+            RealtimeNotificationService notificationService, RealtimeEventNotificationRetryPolicy retryPolicy,
+            int maxConcurrentDeliveriesPerHost, int maxPendingDeliveries) {
+
+        return new RealtimeEventNotificationDeliveryEngine(queue, sender, notificationService, retryPolicy,
+                new CallbackHostGuard(maxConcurrentDeliveriesPerHost, 5, 60000), 10, false,
+                maxPendingDeliveries);
+    }
+
+    private static RealtimeEventNotification getNotification(String notificationId, String callbackUrl) {
+
+        RealtimeEventNotification notification = mock(RealtimeEventNotification.class);
+        when(notification.getNotificationId()).thenReturn(notificationId);
+        when(notification.getCallbackUrl()).thenReturn(callbackUrl);
+        return notification;
+    }
+
+    private static void assertEventually(BooleanSupplier condition) throws InterruptedException {
+
+        long deadline = System.currentTimeMillis() + VERIFY_TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            Assert.assertTrue(System.currentTimeMillis() < deadline, "Condition not met within the timeout");
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.event.notifications.service.realtime.service;
+
+import org.json.JSONObject;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventNotificationGenerator;
+import org.wso2.financial.services.accelerator.event.notifications.service.EventSubscriptionService;
+import org.wso2.financial.services.accelerator.event.notifications.service.RealtimeNotificationService;
+import org.wso2.financial.services.accelerator.event.notifications.service.constants.EventNotificationConstants;
+import org.wso2.financial.services.accelerator.event.notifications.service.exception.FSEventNotificationException;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscription;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.EventSubscriptionIndex;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationResponse;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.RealtimeEventNotification;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for RealtimeEventNotificationLoaderService.
+ */
+public class RealtimeEventNotificationLoaderServiceTests {
+
+    private static final String CLIENT_ID = "client1";
+    private static final String CLIENT_WITHOUT_SUBSCRIPTION = "client2";
+    private static final String SUBSCRIBED_EVENT_TYPE = "eventType1";
+    private static final String CALLBACK_URL = "https://tpp.example.com/callback";
+
+    @Test
+    public void testLoadOpenNotificationsInPages() throws Exception {
+
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        EventSubscriptionService subscriptionService = mock(EventSubscriptionService.class);
+        EventNotificationGenerator generator = mock(EventNotificationGenerator.class);
+
+        Map<Notification, List<NotificationEvent>> firstPage = new LinkedHashMap<>();
+        firstPage.put(getNotification("n1", CLIENT_ID), getEvents("n1", SUBSCRIBED_EVENT_TYPE));
+        firstPage.put(getNotification("n2", CLIENT_ID), getEvents("n2", "eventType2"));
+        Map<Notification, List<NotificationEvent>> secondPage = new LinkedHashMap<>();
+        secondPage.put(getNotification("n3", CLIENT_WITHOUT_SUBSCRIPTION), getEvents("n3", SUBSCRIBED_EVENT_TYPE));
+        when(notificationService.getNotificationsWithEventsByStatus(EventNotificationConstants.OPEN, null, 2))
+                .thenReturn(firstPage);
+        when(notificationService.getNotificationsWithEventsByStatus(EventNotificationConstants.OPEN, "n2", 2))
+                .thenReturn(secondPage);
+
+        EventSubscription subscription = new EventSubscription();
+        subscription.setClientId(CLIENT_ID);
+        subscription.setCallbackUrl(CALLBACK_URL);
+        subscription.setEventTypes(Collections.singletonList(SUBSCRIBED_EVENT_TYPE));
+        when(subscriptionService.getEventSubscriptionIndex(CLIENT_ID))
+                .thenReturn(new EventSubscriptionIndex(Collections.singletonList(subscription)));
+        when(subscriptionService.getEventSubscriptionIndex(CLIENT_WITHOUT_SUBSCRIPTION))
+                .thenReturn(new EventSubscriptionIndex(Collections.emptyList()));
+
+        when(generator.generateEventNotificationBody(any(), anyList())).thenReturn(new NotificationResponse());
+        when(generator.generateEventNotification(any(NotificationResponse.class))).thenReturn("set");
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        new RealtimeEventNotificationLoaderService(notificationService, subscriptionService, generator, queue, 2, 2)
+                .run();
+
+        Assert.assertEquals(queue.size(), 1);
+        RealtimeEventNotification realtimeEventNotification = queue.poll();
+        Assert.assertEquals(realtimeEventNotification.getNotificationId(), "n1");
+        Assert.assertEquals(realtimeEventNotification.getCallbackUrl(), CALLBACK_URL);
+        verify(subscriptionService, times(1)).getEventSubscriptionIndex(CLIENT_ID);
+        verify(notificationService, times(2)).getNotificationsWithEventsByStatus(Mockito.anyString(), any(),
+                Mockito.anyInt());
+    }
+
+    @Test
+    public void testSkipNotificationsFailingGeneration() throws Exception {
+
+        RealtimeNotificationService notificationService = mock(RealtimeNotificationService.class);
+        EventSubscriptionService subscriptionService = mock(EventSubscriptionService.class);
+        EventNotificationGenerator generator = mock(EventNotificationGenerator.class);
+
+        Map<Notification, List<NotificationEvent>> page = new LinkedHashMap<>();
+        page.put(getNotification("n1", CLIENT_ID), getEvents("n1", SUBSCRIBED_EVENT_TYPE));
+        page.put(getNotification("n2", CLIENT_ID), getEvents("n2", SUBSCRIBED_EVENT_TYPE));
+        when(notificationService.getNotificationsWithEventsByStatus(EventNotificationConstants.OPEN, null, 5))
+                .thenReturn(page);
+
+        EventSubscription subscription = new EventSubscription();
+        subscription.setCallbackUrl(CALLBACK_URL);
+        subscription.setEventTypes(Collections.singletonList(SUBSCRIBED_EVENT_TYPE));
+        when(subscriptionService.getEventSubscriptionIndex(CLIENT_ID))
+                .thenReturn(new EventSubscriptionIndex(Collections.singletonList(subscription)));
+
+        when(generator.generateEventNotificationBody(any(), anyList())).thenReturn(new NotificationResponse());
+        when(generator.generateEventNotification(any(NotificationResponse.class)))
+                .thenThrow(new FSEventNotificationException("Error while signing the JWT token"))
+                .thenReturn("set");
+
+        LinkedBlockingQueue<RealtimeEventNotification> queue = new LinkedBlockingQueue<>(10);
+        new RealtimeEventNotificationLoaderService(notificationService, subscriptionService, generator, queue, 5, 1)
+                .run();
+
+        Assert.assertEquals(queue.size(), 1);
+        verify(notificationService, times(1)).getNotificationsWithEventsByStatus(Mockito.anyString(), any(),
+                Mockito.anyInt());
+    }
+
+    private static Notification getNotification(String notificationId, String clientId) {
+
+        Notification notification = new Notification();
+        notification.setNotificationId(notificationId);
+        notification.setClientId(clientId);
+        notification.setStatus(EventNotificationConstants.OPEN);
+        return notification;
+    }
+
+    private static List<NotificationEvent> getEvents(String notificationId, String eventType) {
+
+        NotificationEvent event = new NotificationEvent();
+        event.setNotificationId(notificationId);
+        event.setEventType(eventType);
+        event.setEventInformation(new JSONObject());
+        return Collections.singletonList(event);
+    }
+}
@@ -36,6 +36,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.model
 import org.wso2.financial.services.accelerator.event.notifications.service.model.Notification;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationError;
 import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationEvent;
+import org.wso2.financial.services.accelerator.event.notifications.service.model.NotificationPage;
 
 import java.nio.file.Paths;
 import java.sql.Connection;
@@ -43,6 +44,7 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -61,6 +63,21 @@ public class EventNotificationTestUtils {
 
         return notificationList;
     }
+
+    public static NotificationPage getSampleNotificationPage() {
+
+        Map<Notification, List<NotificationEvent>> notifications = new LinkedHashMap<>();
+        for (Notification notification : getSampleSavedTestNotification()) {
+            notifications.put(notification, getSampleNotificationsList());
+        }
+        return new NotificationPage(notifications, notifications.size());
+    }
+
+    public static NotificationPage getEmptyNotificationPage() {
+
+        return new NotificationPage(new LinkedHashMap<>(), 0);
+    }
+
     public static Notification getSampleNotificationDTO(String notificationId) {
 
         Notification notification = new Notification();
@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Node local cache of successful consent validation results.
+ * <p>
+ * Entries are keyed by a SHA-256 digest of the request attributes sent to the consent validation endpoint and
+ * grouped by consent ID, so that every cached result of a consent can be dropped when the consent changes.
+ * Consents modified through the consent APIs of the gateway are invalidated by the
+ * {@code ConsentValidationCacheInvalidationExecutor}. Status changes made elsewhere, such as revocations through the
+ * consent manager or expiry by the consent expiry job, are not observed until the cached results expire, so the time
+ * to live is capped at {@link #MAX_TIME_TO_LIVE_SECONDS} to bound that window.
+ * <p>
+ * The results of a consent are only added or removed inside a compute call on the entry of the consent, so a result
+ * stored while the consent is being invalidated is either removed with the consent or kept and counted, and the
+ * entry count never diverges from the stored results.
+ */
+public class ConsentValidationResultCache {
+
+    public static final long MAX_TIME_TO_LIVE_SECONDS = 60;
+
+    private static final Log log = LogFactory.getLog(ConsentValidationResultCache.class);
+    private static final String SHA256_HASH_ALG = "SHA-256";
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final Map<String, Map<String, CachedConsentValidationResult>> resultsByConsent =
+            new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ConsentValidationResultCache(long timeToLiveSeconds, int maxEntries) {
+
+        if (timeToLiveSeconds > MAX_TIME_TO_LIVE_SECONDS) {
+            log.warn(String.format("Consent validation cache time to live of %d seconds exceeds the maximum of %d " +
+                    "seconds. Using %d seconds", timeToLiveSeconds, MAX_TIME_TO_LIVE_SECONDS,
+                    MAX_TIME_TO_LIVE_SECONDS));
+            timeToLiveSeconds = MAX_TIME_TO_LIVE_SECONDS;
+        }
+        this.timeToLiveMillis = timeToLiveSeconds * 1000L;
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTimeToLiveSeconds() {
+
+        return timeToLiveMillis / 1000L;
+    }
+
+    /**
+     * Builds the cache key of a validation request.
+     *
+     * @param clientId         client ID of the token
+     * @param userId           user of the token
+     * @param electedResource  elected API resource template
+     * @param resource         invoked resource including path and query parameters
+     * @param httpMethod       HTTP method of the request
+     * @param context          API context
+     * @return digest of the request attributes
+     */
+    public static String getCacheKey(String clientId, String userId, String electedResource, String resource,
+                                     String httpMethod, String context) {
+
+        StringBuilder keyBuilder = new StringBuilder()
+                .append(clientId).append(KEY_SEPARATOR)
+                .append(userId).append(KEY_SEPARATOR)
+                .append(electedResource).append(KEY_SEPARATOR)
+                .append(resource).append(KEY_SEPARATOR)
+                .append(httpMethod).append(KEY_SEPARATOR)
+                .append(context);
+        try {
+            byte[] hash = MessageDigest.getInstance(SHA256_HASH_ALG)
+                    .digest(keyBuilder.toString().getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            log.debug("SHA-256 algorithm not available for cache key generation, using the raw key", e);
+            return keyBuilder.toString();
+        }
+    }
+
+    /**
+     * Returns the cached validation result of the given consent and request key.
+     *
+     * @param consentId consent ID
+     * @param cacheKey  request key from {@link #getCacheKey}
+     * @return cached result or null if there is no live entry
+     */
+    public CachedConsentValidationResult get(String consentId, String cacheKey) {
+
+        Map<String, CachedConsentValidationResult> results = resultsByConsent.get(consentId);
+        CachedConsentValidationResult result = results == null ? null : results.get(cacheKey);
+        if (result == null) {
+            misses.increment();
+            return null;
+        }
+        if (result.isExpired()) {
+            resultsByConsent.computeIfPresent(consentId, (id, consentResults) -> {
+                if (consentResults.remove(cacheKey, result)) {
+                    size.decrementAndGet();
+                }
+                return consentResults.isEmpty() ? null : consentResults;
+            });
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return result;
+    }
+
+    /**
+     * Stores a successful validation result.
+     *
+     * @param consentId          consent ID
+     * @param cacheKey           request key from {@link #getCacheKey}
+     * @param consentInformation consent information returned by the validation endpoint, may be null
+     */
+    public void put(String consentId, String cacheKey, String consentInformation) {
+
+        if (size.get() >= maxEntries) {
+            removeExpiredEntries();
+            if (size.get() >= maxEntries) {
+                log.debug("Consent validation result cache is full. Skipping caching the validation result");
+                return;
+            }
+        }
+        CachedConsentValidationResult result = new CachedConsentValidationResult(consentInformation,
+                System.currentTimeMillis() + timeToLiveMillis);
+        resultsByConsent.compute(consentId, (id, consentResults) -> {
+            Map<String, CachedConsentValidationResult> results =
+                    consentResults == null ? new ConcurrentHashMap<>() : consentResults;
+            if (results.put(cacheKey, result) == null) {
+                size.incrementAndGet();
+            }
+            return results;
+        });
+    }
+
+    /**
+     * Removes every cached result of the given consent.
+     *
+     * @param consentId consent ID
+     */
+    public void invalidate(String consentId) {
+
+        if (removeConsent(consentId)) {
+            invalidations.increment();
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Invalidated cached validation results of consent %s",
+                        consentId.replaceAll("[\r\n]", "")));
+            }
+        }
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clear() {
+
+        resultsByConsent.keySet().forEach(this::removeConsent);
+    }
+
+    public int size() {
+
+        return size.get();
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getInvalidationCount() {
+
+        return invalidations.sum();
+    }
+
+    /**
+     * Returns the ratio of lookups served from the cache.
+     *
+     * @return hit ratio between 0 and 1
+     */
+    public double getHitRatio() {
+
+        long hitCount = getHitCount();
+        long total = hitCount + getMissCount();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    private boolean removeConsent(String consentId) {
+
+        AtomicBoolean removed = new AtomicBoolean();
+        resultsByConsent.computeIfPresent(consentId, (id, consentResults) -> {
+            size.addAndGet(-consentResults.size());
+            removed.set(true);
+            return null;
+        });
+        return removed.get();
+    }
+
+    private void removeExpiredEntries() {
+
+        for (String consentId : resultsByConsent.keySet()) {
+            resultsByConsent.computeIfPresent(consentId, (id, consentResults) -> {
+                Iterator<CachedConsentValidationResult> results = consentResults.values().iterator();
+                while (results.hasNext()) {
+                    if (results.next().isExpired()) {
+                        results.remove();
+                        size.decrementAndGet();
+                    }
+                }
+                return consentResults.isEmpty() ? null : consentResults;
+            });
+        }
+    }
+
+    /**
+     * Successful validation result held in the cache.
+     */
+    public static final class CachedConsentValidationResult {
+
+        private final String consentInformation;
+        private final long expiresAt;
+
+        CachedConsentValidationResult(String consentInformation, long expiresAt) {
+
+            this.consentInformation = consentInformation;
+            this.expiresAt = expiresAt;
+        }
+
+        public String getConsentInformation() {
+
+            return consentInformation;
+        }
+
+        boolean isExpired() {
+
+            return System.currentTimeMillis() > expiresAt;
+        }
+    }
+}
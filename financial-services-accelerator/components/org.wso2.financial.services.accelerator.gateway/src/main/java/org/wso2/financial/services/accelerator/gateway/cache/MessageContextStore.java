@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Node local store of the state of in-flight messages, keyed by message ID.
+ * <p>
+ * The state created by the request hooks of a message is kept for its response hooks, so that it is neither rebuilt
+ * nor transferred through the gateway cache between hooks. Entries are removed when the last hook of the message
+ * completes. Entries of messages whose hooks did not complete expire after a time to live and are swept while new
+ * entries are stored. The number of entries is bounded, and a message which cannot be stored is left to the caller.
+ *
+ * @param <T> type of the message state
+ */
+public class MessageContextStore<T> {
+
+    private static final Log log = LogFactory.getLog(MessageContextStore.class);
+
+    private final long timeToLiveMillis;
+    private final int maxEntries;
+    private final LongSupplier clock;
+    private final Map<String, StoredMessageContext<T>> entries = new ConcurrentHashMap<>();
+    private final AtomicLong nextSweepTime;
+
+    public MessageContextStore(long timeToLiveSeconds, int maxEntries) {
+
+        this(timeToLiveSeconds, maxEntries, System::currentTimeMillis);
+    }
+
+    MessageContextStore(long timeToLiveSeconds, int maxEntries, LongSupplier clock) {
+
+        this.timeToLiveMillis = timeToLiveSeconds * 1000L;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+        this.nextSweepTime = new AtomicLong(clock.getAsLong() + timeToLiveMillis);
+    }
+
+    /**
+     * Stores the state of a message, replacing any previous state and restarting its time to live.
+     *
+     * @param messageId message ID
+     * @param context   state of the message
+     * @return true if the state is stored, false if the store is full
+     */
+    public boolean put(String messageId, T context) {
+
+        long now = clock.getAsLong();
+        long sweepTime = nextSweepTime.get();
+        if (now >= sweepTime && nextSweepTime.compareAndSet(sweepTime, now + timeToLiveMillis)) {
+            removeExpiredEntries(now);
+        }
+        if (entries.size() >= maxEntries && !entries.containsKey(messageId)) {
+            removeExpiredEntries(now);
+            if (entries.size() >= maxEntries) {
+                log.debug("Message context store is full. Skipping storing the message context");
+                return false;
+            }
+        }
+        entries.put(messageId, new StoredMessageContext<>(context, now + timeToLiveMillis));
+        return true;
+    }
+
+    /**
+     * Returns the state of a message.
+     *
+     * @param messageId message ID
+     * @return state of the message, or null if it is not stored or has expired
+     */
+    public T get(String messageId) {
+
+        StoredMessageContext<T> entry = entries.get(messageId);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < clock.getAsLong()) {
+            entries.remove(messageId, entry);
+            return null;
+        }
+        return entry.context;
+    }
+
+    /**
+     * Removes the state of a message.
+     *
+     * @param messageId message ID
+     * @return removed state, or null if it is not stored or has expired
+     */
+    public T remove(String messageId) {
+
+        StoredMessageContext<T> entry = entries.remove(messageId);
+        return entry == null || entry.expiresAt < clock.getAsLong() ? null : entry.context;
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    private void removeExpiredEntries(long now) {
+
+        entries.entrySet().removeIf(entry -> entry.getValue().expiresAt < now);
+    }
+
+    /**
+     * Message state held in the store.
+     */
+    private static final class StoredMessageContext<T> {
+
+        private final T context;
+        private final long expiresAt;
+
+        private StoredMessageContext(T context, long expiresAt) {
+
+            this.context = context;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,197 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.core;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Index of the compiled routes of the APIs served by the gateway, keyed by API ID.
+ * <p>
+ * Routes are compiled in the background from the definitions of the APIs known to the publisher, when the index is
+ * started and again at every refresh. A route is recompiled only when the revision of its definition changes, and
+ * is removed when the publisher no longer lists its API, so requests are served from the index without parsing a
+ * definition. A request to an API which is not indexed yet, such as one deployed after the last refresh, compiles
+ * its route on the request thread. Concurrent requests to that API wait for the same compilation.
+ */
+public class APIRouteIndex {
+
+    private static final Log log = LogFactory.getLog(APIRouteIndex.class);
+
+    private final Function<String, String> definitionLoader;
+    private final Supplier<Collection<String>> apiIdSupplier;
+    private final Map<String, APIRoute> routes = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<APIRoute>> compilations = new ConcurrentHashMap<>();
+    private ScheduledExecutorService refreshExecutor;
+
+    /**
+     * Creates an index.
+     *
+     * @param definitionLoader loads the OpenAPI definition of an API
+     * @param apiIdSupplier    supplies the IDs of the APIs to compile in the background
+     */
+    public APIRouteIndex(Function<String, String> definitionLoader, Supplier<Collection<String>> apiIdSupplier) {
+
+        this.definitionLoader = definitionLoader;
+        this.apiIdSupplier = apiIdSupplier;
+    }
+
+    /**
+     * Returns the route of an API, compiling it if the API is not indexed yet.
+     *
+     * @param apiId ID of the API
+     * @return compiled route
+     */
+    public APIRoute getRoute(String apiId) {
+
+        APIRoute route = routes.get(apiId);
+        return route != null ? route : compile(apiId);
+    }
+
+    /**
+     * Compiles the routes of the APIs known to the publisher which are not indexed, recompiles the indexed routes
+     * whose definition has changed and removes the routes of the APIs the publisher no longer knows. Failures are
+     * logged, and the previously compiled routes are kept.
+     */
+    public void refresh() {
+
+        Set<String> apiIds;
+        try {
+            apiIds = new LinkedHashSet<>(apiIdSupplier.get());
+            routes.keySet().retainAll(apiIds);
+        } catch (RuntimeException e) {
+            log.warn("Unable to retrieve the APIs from the publisher. Only the indexed routes are refreshed", e);
+            apiIds = new LinkedHashSet<>(routes.keySet());
+        }
+
+        int compiledRoutes = 0;
+        for (String apiId : apiIds) {
+            try {
+                String definition = definitionLoader.apply(apiId);
+                APIRoute current = routes.get(apiId);
+                if (current == null || !current.getRevision().equals(APIRoute.getRevision(definition))) {
+                    routes.put(apiId, APIRoute.compile(apiId, definition));
+                    compiledRoutes++;
+                }
+            } catch (RuntimeException e) {
+                log.warn(String.format("Unable to compile the route of API %s", apiId.replaceAll("[\r\n]", "")), e);
+            }
+        }
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Refreshed the API route index. %d of %d routes were compiled", compiledRoutes,
+                    apiIds.size()));
+        }
+    }
+
+    /**
+     * Returns the IDs of the indexed APIs.
+     *
+     * @return API IDs
+     */
+    public Set<String> getIndexedAPIIds() {
+
+        return Collections.unmodifiableSet(routes.keySet());
+    }
+
+    /**
+     * Refreshes the index in the background now and then periodically.
+     *
+     * @param refreshIntervalSeconds interval between refreshes
+     */
+    public synchronized void start(long refreshIntervalSeconds) {
+
+        if (refreshExecutor != null) {
+            return;
+        }
+        refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fs-gateway-api-route-index");
+            thread.setDaemon(true);
+            return thread;
+        });
+        refreshExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.error("Error while refreshing the API route index", e);
+            }
+        }, 0, Math.max(1, refreshIntervalSeconds), TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic refresh.
+     */
+    public synchronized void stop() {
+
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+            refreshExecutor = null;
+        }
+    }
+
+    private APIRoute compile(String apiId) {
+
+        CompletableFuture<APIRoute> compilation = new CompletableFuture<>();
+        CompletableFuture<APIRoute> inFlightCompilation = compilations.putIfAbsent(apiId, compilation);
+        if (inFlightCompilation != null) {
+            try {
+                return inFlightCompilation.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+
+        try {
+            // The route may have been indexed by a compilation which completed after the lookup
+            APIRoute route = routes.get(apiId);
+            if (route == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Compiling the route of API %s on request",
+                            apiId.replaceAll("[\r\n]", "")));
+                }
+                route = APIRoute.compile(apiId, definitionLoader.apply(apiId));
+                routes.put(apiId, route);
+            }
+            compilation.complete(route);
+            return route;
+        } catch (RuntimeException | Error e) {
+            compilation.completeExceptionally(e);
+            throw e;
+        } finally {
+            compilations.remove(apiId, compilation);
+        }
+    }
+}
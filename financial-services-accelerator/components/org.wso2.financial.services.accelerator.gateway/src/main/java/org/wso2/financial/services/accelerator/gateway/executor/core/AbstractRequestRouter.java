@@ -21,10 +21,13 @@ package org.wso2.financial.services.accelerator.gateway.executor.core;
 
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
 import org.wso2.financial.services.accelerator.common.util.Generated;
+import org.wso2.financial.services.accelerator.gateway.executor.impl.consent.ConsentValidationCacheInvalidationExecutor;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -53,6 +56,28 @@ public abstract class AbstractRequestRouter {
                             FinancialServicesGatewayExecutor.class)).collect(Collectors.toList());
             executorMap.put(consentType, executorList);
         });
+        addConsentValidationCacheInvalidationExecutor();
+    }
+
+    /**
+     * Appends the consent validation cache invalidation executor to the consent executor chain when caching of
+     * consent validation results is enabled and the chain does not configure the executor already.
+     */
+    protected void addConsentValidationCacheInvalidationExecutor() {
+
+        if (!GatewayDataHolder.getInstance().isConsentValidationCacheEnabled()) {
+            return;
+        }
+        List<FinancialServicesGatewayExecutor> consentExecutors =
+                executorMap.get(GatewayConstants.EXECUTOR_TYPE_CONSENT);
+        if (consentExecutors != null && consentExecutors.stream()
+                .anyMatch(executor -> executor instanceof ConsentValidationCacheInvalidationExecutor)) {
+            return;
+        }
+        List<FinancialServicesGatewayExecutor> executorList = consentExecutors == null ? new ArrayList<>() :
+                new ArrayList<>(consentExecutors);
+        executorList.add(new ConsentValidationCacheInvalidationExecutor());
+        executorMap.put(GatewayConstants.EXECUTOR_TYPE_CONSENT, executorList);
     }
 
     /**
@@ -18,6 +18,7 @@
 
 package org.wso2.financial.services.accelerator.gateway.executor.core;
 
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
@@ -34,6 +35,17 @@ public class DefaultRequestRouter extends AbstractRequestRouter {
 
     @Override
     public List<FinancialServicesGatewayExecutor> getExecutorsForRequest(FSAPIRequestContext requestContext) {
+
+        APIRoute apiRoute = requestContext.getAPIRoute();
+        if (apiRoute != null) {
+            if (GatewayConstants.API_TYPE_NON_REGULATORY.equals(apiRoute.getApiType()) ||
+                    GatewayConstants.API_TYPE_CONSENT.equals(apiRoute.getApiType())) {
+                requestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP, apiRoute.getApiType());
+            }
+            String executorType = apiRoute.getExecutorType(requestContext.getMsgInfo().getResource());
+            return executorType == null ? EMPTY_LIST : this.getExecutorMap().get(executorType);
+        }
+
         if (GatewayConstants.API_TYPE_NON_REGULATORY
                 .equals(requestContext.getOpenAPI().getExtensions().get(GatewayConstants.API_TYPE_CUSTOM_PROP))) {
             requestContext.addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
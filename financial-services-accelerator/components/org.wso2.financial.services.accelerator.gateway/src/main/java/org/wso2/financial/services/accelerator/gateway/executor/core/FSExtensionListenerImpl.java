@@ -30,13 +30,18 @@ import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.gateway.cache.GatewayCacheKey;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSMessageContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.RequestPayload;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Financial Services implementation for Extension listener.
@@ -50,15 +55,19 @@ public class FSExtensionListenerImpl implements ExtensionListener {
     public ExtensionResponseDTO preProcessRequest(RequestContextDTO requestContextDTO) {
 
         FSAPIRequestContext fsApiRequestContext = new FSAPIRequestContext(requestContextDTO, new HashMap<>());
-        for (FinancialServicesGatewayExecutor gatewayExecutor :
-                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForRequest(fsApiRequestContext)) {
-            log.debug(() -> "Executing preProcessRequest for executor: " + gatewayExecutor.getClass().getName());
-            gatewayExecutor.preProcessRequest(fsApiRequestContext);
-        }
+        List<FinancialServicesGatewayExecutor> executors =
+                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForRequest(fsApiRequestContext);
+        fsApiRequestContext.preparePayload(getRequiredPayloadViews(executors));
+        GatewayDataHolder.getInstance().getExecutorPipeline().executeAndJoin(executors, fsApiRequestContext,
+                (gatewayExecutor, context) -> {
+                    log.debug(() -> "Executing preProcessRequest for executor: " +
+                            gatewayExecutor.getClass().getName());
+                    return gatewayExecutor.preProcessRequestAsync(context);
+                });
 
         if (!fsApiRequestContext.isError()) {
-            setPropertiesToCache(requestContextDTO.getMsgInfo().getMessageId() +
-                    GatewayConstants.CONTEXT_PROP_CACHE_KEY, fsApiRequestContext.getContextProps());
+            storeMessageContext(requestContextDTO.getMsgInfo().getMessageId(),
+                    new FSMessageContext(fsApiRequestContext, executors));
         }
         return getResponseDTOForRequest(fsApiRequestContext);
     }
@@ -67,19 +76,29 @@ public class FSExtensionListenerImpl implements ExtensionListener {
     @Generated(message = "Ignoring since the method has covered in other tests")
     public ExtensionResponseDTO postProcessRequest(RequestContextDTO requestContextDTO) {
 
-        Map<String, Object> contextProps = getPropertiesFromCache(requestContextDTO.getMsgInfo().getMessageId() +
-                GatewayConstants.CONTEXT_PROP_CACHE_KEY);
-
-        FSAPIRequestContext fsApiRequestContext = new FSAPIRequestContext(requestContextDTO, contextProps);
-        for (FinancialServicesGatewayExecutor gatewayExecutor :
-                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForRequest(fsApiRequestContext)) {
-            log.debug(() -> "Executing postProcessRequest for executor: " + gatewayExecutor.getClass().getName());
-            gatewayExecutor.postProcessRequest(fsApiRequestContext);
+        String messageId = requestContextDTO.getMsgInfo().getMessageId();
+        FSMessageContext messageContext = GatewayDataHolder.getMessageContextStore().get(messageId);
+        FSAPIRequestContext fsApiRequestContext;
+        List<FinancialServicesGatewayExecutor> executors;
+        if (messageContext != null) {
+            fsApiRequestContext = messageContext.getRequestContext().resume(requestContextDTO);
+            executors = messageContext.getRequestExecutors();
+        } else {
+            fsApiRequestContext = new FSAPIRequestContext(requestContextDTO,
+                    getPropertiesFromCache(messageId + GatewayConstants.CONTEXT_PROP_CACHE_KEY));
+            executors = GatewayDataHolder.getInstance().getRequestRouter()
+                    .getExecutorsForRequest(fsApiRequestContext);
         }
+        fsApiRequestContext.preparePayload(getRequiredPayloadViews(executors));
+        GatewayDataHolder.getInstance().getExecutorPipeline().executeAndJoin(executors, fsApiRequestContext,
+                (gatewayExecutor, context) -> {
+                    log.debug(() -> "Executing postProcessRequest for executor: " +
+                            gatewayExecutor.getClass().getName());
+                    return gatewayExecutor.postProcessRequestAsync(context);
+                });
 
         if (!fsApiRequestContext.isError()) {
-            setPropertiesToCache(requestContextDTO.getMsgInfo().getMessageId() +
-                    GatewayConstants.CONTEXT_PROP_CACHE_KEY, fsApiRequestContext.getContextProps());
+            storeMessageContext(messageId, new FSMessageContext(fsApiRequestContext, executors));
         }
         return getResponseDTOForRequest(fsApiRequestContext);
     }
@@ -88,18 +107,27 @@ public class FSExtensionListenerImpl implements ExtensionListener {
     @Generated(message = "Ignoring since the method has covered in other tests")
     public ExtensionResponseDTO preProcessResponse(ResponseContextDTO responseContextDTO) {
 
-        Map<String, Object> contextProps = getPropertiesFromCache(responseContextDTO.getMsgInfo().getMessageId() +
-                GatewayConstants.CONTEXT_PROP_CACHE_KEY);
+        String messageId = responseContextDTO.getMsgInfo().getMessageId();
+        FSMessageContext messageContext = GatewayDataHolder.getMessageContextStore().get(messageId);
+        Map<String, Object> contextProps = messageContext != null ?
+                new HashMap<>(messageContext.getRequestContext().getContextProps()) :
+                getPropertiesFromCache(messageId + GatewayConstants.CONTEXT_PROP_CACHE_KEY);
         FSAPIResponseContext fsApiResponseContext = new FSAPIResponseContext(responseContextDTO, contextProps);
-        for (FinancialServicesGatewayExecutor gatewayExecutor :
-                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForResponse(fsApiResponseContext)) {
-            log.debug(() -> "Executing preProcessResponse for executor: " + gatewayExecutor.getClass().getName());
-            gatewayExecutor.preProcessResponse(fsApiResponseContext);
-        }
+        List<FinancialServicesGatewayExecutor> executors =
+                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForResponse(fsApiResponseContext);
+        GatewayDataHolder.getInstance().getExecutorPipeline().executeAndJoin(executors, fsApiResponseContext,
+                (gatewayExecutor, context) -> {
+                    log.debug(() -> "Executing preProcessResponse for executor: " +
+                            gatewayExecutor.getClass().getName());
+                    return gatewayExecutor.preProcessResponseAsync(context);
+                });
 
         if (!fsApiResponseContext.isError()) {
-            setPropertiesToCache(responseContextDTO.getMsgInfo().getMessageId() +
-                    GatewayConstants.CONTEXT_PROP_CACHE_KEY, fsApiResponseContext.getContextProps());
+            if (messageContext == null) {
+                messageContext = new FSMessageContext(null, null);
+            }
+            messageContext.setResponseContext(fsApiResponseContext, executors);
+            storeMessageContext(messageId, messageContext);
         }
         return getResponseDTOForResponse(fsApiResponseContext);
     }
@@ -108,17 +136,32 @@ public class FSExtensionListenerImpl implements ExtensionListener {
     @Generated(message = "Ignoring since the method has covered in other tests")
     public ExtensionResponseDTO postProcessResponse(ResponseContextDTO responseContextDTO) {
 
-        Map<String, Object> contextProps = getPropertiesFromCache(responseContextDTO.getMsgInfo().getMessageId() +
-                GatewayConstants.CONTEXT_PROP_CACHE_KEY);
-        FSAPIResponseContext fsApiResponseContext = new FSAPIResponseContext(responseContextDTO, contextProps);
-        for (FinancialServicesGatewayExecutor gatewayExecutor :
-                GatewayDataHolder.getInstance().getRequestRouter().getExecutorsForResponse(fsApiResponseContext)) {
-            log.debug(() -> "Executing postProcessResponse for executor: " + gatewayExecutor.getClass().getName());
-            gatewayExecutor.postProcessResponse(fsApiResponseContext);
+        String messageId = responseContextDTO.getMsgInfo().getMessageId();
+        FSMessageContext messageContext = GatewayDataHolder.getMessageContextStore().remove(messageId);
+        FSAPIResponseContext fsApiResponseContext;
+        List<FinancialServicesGatewayExecutor> executors;
+        if (messageContext != null && messageContext.getResponseContext() != null) {
+            fsApiResponseContext = messageContext.getResponseContext();
+            fsApiResponseContext.resume(responseContextDTO);
+            executors = messageContext.getResponseExecutors();
+        } else {
+            Map<String, Object> contextProps = messageContext != null ?
+                    messageContext.getRequestContext().getContextProps() :
+                    getPropertiesFromCache(messageId + GatewayConstants.CONTEXT_PROP_CACHE_KEY);
+            fsApiResponseContext = new FSAPIResponseContext(responseContextDTO, contextProps);
+            executors = GatewayDataHolder.getInstance().getRequestRouter()
+                    .getExecutorsForResponse(fsApiResponseContext);
         }
+        GatewayDataHolder.getInstance().getExecutorPipeline().executeAndJoin(executors, fsApiResponseContext,
+                (gatewayExecutor, context) -> {
+                    log.debug(() -> "Executing postProcessResponse for executor: " +
+                            gatewayExecutor.getClass().getName());
+                    return gatewayExecutor.postProcessResponseAsync(context);
+                });
         ExtensionResponseDTO responseDTOForResponse = getResponseDTOForResponse(fsApiResponseContext);
-        removePropertiesFromCache(responseContextDTO.getMsgInfo().getMessageId() +
-                GatewayConstants.CONTEXT_PROP_CACHE_KEY);
+        if (messageContext == null) {
+            removePropertiesFromCache(messageId + GatewayConstants.CONTEXT_PROP_CACHE_KEY);
+        }
         return responseDTOForResponse;
     }
 
@@ -210,6 +253,42 @@ public class FSExtensionListenerImpl implements ExtensionListener {
         return null;
     }
 
+    /**
+     * Method to collect the views of the request payload used by the executors serving a request.
+     *
+     * @param executors executors serving the request
+     * @return views of the request payload
+     */
+    private static Set<RequestPayload.View> getRequiredPayloadViews(List<FinancialServicesGatewayExecutor> executors) {
+
+        Set<RequestPayload.View> views = EnumSet.noneOf(RequestPayload.View.class);
+        if (executors != null) {
+            for (FinancialServicesGatewayExecutor executor : executors) {
+                views.addAll(executor.getRequiredPayloadViews());
+            }
+        }
+        return views;
+    }
+
+    /**
+     * Method to keep the state of a message for its next extension hook. Hooks run on a copy of the stored state and
+     * only successful hooks store their copy, so the next hooks of the message see the state stored by the last
+     * successful hook. If the message context store is full, the context properties are stored in the gateway cache
+     * instead.
+     *
+     * @param messageId      message ID
+     * @param messageContext state of the message
+     */
+    private void storeMessageContext(String messageId, FSMessageContext messageContext) {
+
+        if (!GatewayDataHolder.getMessageContextStore().put(messageId, messageContext)) {
+            Map<String, Object> contextProps = messageContext.getRequestContext() != null ?
+                    messageContext.getRequestContext().getContextProps() :
+                    messageContext.getResponseContext().getContextProps();
+            setPropertiesToCache(messageId + GatewayConstants.CONTEXT_PROP_CACHE_KEY, contextProps);
+        }
+    }
+
     /**
      * Method to store properties to cache.
      *
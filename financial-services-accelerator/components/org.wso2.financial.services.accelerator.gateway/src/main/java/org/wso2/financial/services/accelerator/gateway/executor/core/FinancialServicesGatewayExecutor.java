@@ -20,6 +20,11 @@ package org.wso2.financial.services.accelerator.gateway.executor.core;
 
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.RequestPayload;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.CompletionStage;
 
 /**
  * Financial Services executor interface.
@@ -53,4 +58,61 @@ public interface FinancialServicesGatewayExecutor {
      * @param fsapiResponseContext FS response context object
      */
     public void postProcessResponse(FSAPIResponseContext fsapiResponseContext);
+
+    /**
+     * Returns the views of the request payload used by the executor. The request payload is read from the message
+     * only if an executor serving the request uses it, and the views are created once and shared by the executors.
+     * The default implementation uses the payload as text.
+     *
+     * @return views of the request payload used by the executor
+     */
+    default Set<RequestPayload.View> getRequiredPayloadViews() {
+
+        return EnumSet.of(RequestPayload.View.TEXT);
+    }
+
+    /**
+     * Asynchronous variant of {@link #preProcessRequest}. Executors performing I/O can override this to return
+     * without blocking the calling thread. The default implementation runs the synchronous method.
+     *
+     * @param fsapiRequestContext FS request context object
+     * @return stage completed when the executor has finished
+     */
+    default CompletionStage<Void> preProcessRequestAsync(FSAPIRequestContext fsapiRequestContext) {
+
+        return GatewayExecutorPipeline.runSynchronously(() -> preProcessRequest(fsapiRequestContext));
+    }
+
+    /**
+     * Asynchronous variant of {@link #postProcessRequest}. The default implementation runs the synchronous method.
+     *
+     * @param fsapiRequestContext FS request context object
+     * @return stage completed when the executor has finished
+     */
+    default CompletionStage<Void> postProcessRequestAsync(FSAPIRequestContext fsapiRequestContext) {
+
+        return GatewayExecutorPipeline.runSynchronously(() -> postProcessRequest(fsapiRequestContext));
+    }
+
+    /**
+     * Asynchronous variant of {@link #preProcessResponse}. The default implementation runs the synchronous method.
+     *
+     * @param fsapiResponseContext FS response context object
+     * @return stage completed when the executor has finished
+     */
+    default CompletionStage<Void> preProcessResponseAsync(FSAPIResponseContext fsapiResponseContext) {
+
+        return GatewayExecutorPipeline.runSynchronously(() -> preProcessResponse(fsapiResponseContext));
+    }
+
+    /**
+     * Asynchronous variant of {@link #postProcessResponse}. The default implementation runs the synchronous method.
+     *
+     * @param fsapiResponseContext FS response context object
+     * @return stage completed when the executor has finished
+     */
+    default CompletionStage<Void> postProcessResponseAsync(FSAPIResponseContext fsapiResponseContext) {
+
+        return GatewayExecutorPipeline.runSynchronously(() -> postProcessResponse(fsapiResponseContext));
+    }
 }
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.core;
+
+import org.wso2.financial.services.accelerator.common.logging.Log;
+import org.wso2.financial.services.accelerator.common.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+/**
+ * Composes the executors of a chain into a single completion stage.
+ * <p>
+ * Executors run in the configured order, each one starting when the previous stage completes. When an async
+ * executor is configured, consecutive {@link IndependentGatewayExecutor}s are started together on it. The result
+ * is joined only at the extension listener boundary.
+ */
+public class GatewayExecutorPipeline {
+
+    private static final Log log = LogFactory.getLog(GatewayExecutorPipeline.class);
+    private static final String VIRTUAL_THREAD_EXECUTOR_FACTORY = "newVirtualThreadPerTaskExecutor";
+
+    private final Executor asyncExecutor;
+
+    /**
+     * Creates a pipeline.
+     *
+     * @param asyncExecutor executor used to run independent executors concurrently, or null to run every executor
+     *                      on the calling thread
+     */
+    public GatewayExecutorPipeline(Executor asyncExecutor) {
+
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Creates the executor used for concurrent execution. Virtual threads are used when requested and the runtime
+     * supports them, otherwise a fixed pool of daemon threads.
+     *
+     * @param poolSize          size of the platform thread pool
+     * @param useVirtualThreads whether to use virtual threads when available
+     * @return executor service for concurrent execution
+     */
+    public static ExecutorService createAsyncExecutor(int poolSize, boolean useVirtualThreads) {
+
+        if (useVirtualThreads) {
+            try {
+                return (ExecutorService) Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR_FACTORY).invoke(null);
+            } catch (ReflectiveOperationException e) {
+                log.warn("Virtual threads are not supported by the runtime. Using a platform thread pool");
+            }
+        }
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(poolSize, runnable -> {
+            Thread thread = new Thread(runnable, "fs-gateway-executor-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Runs the given action and returns its outcome as a completed stage.
+     *
+     * @param action action to run
+     * @return stage completed normally, or exceptionally if the action threw
+     */
+    public static CompletionStage<Void> runSynchronously(Runnable action) {
+
+        CompletableFuture<Void> stage = new CompletableFuture<>();
+        try {
+            action.run();
+            stage.complete(null);
+        } catch (RuntimeException e) {
+            stage.completeExceptionally(e);
+        }
+        return stage;
+    }
+
+    /**
+     * Composes the executors into a single stage.
+     *
+     * @param executors executors in the configured order
+     * @param context   request or response context shared by the executors
+     * @param step      the executor method to invoke
+     * @param <T>       context type
+     * @return stage completed when all executors have finished
+     */
+    public <T> CompletionStage<Void> execute(List<FinancialServicesGatewayExecutor> executors, T context,
+                                             BiFunction<FinancialServicesGatewayExecutor, T,
+                                                     CompletionStage<Void>> step) {
+
+        CompletionStage<Void> pipeline = CompletableFuture.completedFuture(null);
+        List<FinancialServicesGatewayExecutor> independentGroup = new ArrayList<>();
+        for (FinancialServicesGatewayExecutor executor : executors) {
+            if (asyncExecutor != null && executor instanceof IndependentGatewayExecutor) {
+                independentGroup.add(executor);
+                continue;
+            }
+            pipeline = appendGroup(pipeline, independentGroup, context, step);
+            independentGroup = new ArrayList<>();
+            pipeline = pipeline.thenCompose(ignored -> step.apply(executor, context));
+        }
+        return appendGroup(pipeline, independentGroup, context, step);
+    }
+
+    /**
+     * Composes the executors and waits for them to finish. Runtime exceptions thrown by an executor are rethrown
+     * as they are.
+     *
+     * @param executors executors in the configured order
+     * @param context   request or response context shared by the executors
+     * @param step      the executor method to invoke
+     * @param <T>       context type
+     */
+    public <T> void executeAndJoin(List<FinancialServicesGatewayExecutor> executors, T context,
+                                   BiFunction<FinancialServicesGatewayExecutor, T, CompletionStage<Void>> step) {
+
+        try {
+            execute(executors, context, step).toCompletableFuture().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletionStage<Void> appendGroup(CompletionStage<Void> pipeline,
+                                                  List<FinancialServicesGatewayExecutor> group, T context,
+                                                  BiFunction<FinancialServicesGatewayExecutor, T,
+                                                          CompletionStage<Void>> step) {
+
+        if (group.isEmpty()) {
+            return pipeline;
+        }
+        if (group.size() == 1) {
+            FinancialServicesGatewayExecutor executor = group.get(0);
+            return pipeline.thenCompose(ignored -> step.apply(executor, context));
+        }
+        return pipeline.thenCompose(ignored -> {
+            CompletableFuture<?>[] stages = new CompletableFuture<?>[group.size()];
+            for (int i = 0; i < group.size(); i++) {
+                FinancialServicesGatewayExecutor executor = group.get(i);
+                stages[i] = CompletableFuture.supplyAsync(() -> step.apply(executor, context), asyncExecutor)
+                        .thenCompose(stage -> stage);
+            }
+            return CompletableFuture.allOf(stages);
+        });
+    }
+}
@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.core;
+
+/**
+ * Marker for executors which do not depend on the outcome of the executors configured next to them.
+ * <p>
+ * When concurrent execution is enabled, consecutive independent executors of a chain are started together and
+ * the chain continues once all of them have completed. They share the same context object, so implementations
+ * must synchronize on the context when modifying it.
+ */
+public interface IndependentGatewayExecutor extends FinancialServicesGatewayExecutor {
+
+}
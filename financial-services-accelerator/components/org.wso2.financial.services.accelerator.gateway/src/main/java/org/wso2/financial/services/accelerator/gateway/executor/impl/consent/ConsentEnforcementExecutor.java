@@ -18,25 +18,28 @@
 
 package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
 
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.OctetKeyPair;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
-import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.util.EntityUtils;
 import org.json.JSONObject;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesErrorCodes;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.jws.JWSPayloadSigner;
 import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationResultCache;
 import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialServicesGatewayExecutor;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.RequestPayload;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSExecutorError;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
@@ -44,17 +47,21 @@ import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.security.Key;
 import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.security.cert.CertificateException;
+import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Consent Enforcement executor.
@@ -83,6 +90,13 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
     private static final String CONSENT_INFO = "consentInformation";
     private static volatile String consentValidationEndpoint;
     private static volatile Key key;
+    private static volatile JWSPayloadSigner payloadSigner;
+
+    @Override
+    public Set<RequestPayload.View> getRequiredPayloadViews() {
+
+        return EnumSet.of(RequestPayload.View.JSON);
+    }
 
     /**
      * Method to handle request.
@@ -109,9 +123,30 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         }
 
         Map<String, String> requestHeaders = fsApiRequestContext.getMsgInfo().getHeaders();
+        String consentId = fsApiRequestContext.getConsentId();
+        ConsentValidationResultCache validationResultCache = GatewayDataHolder.getConsentValidationResultCache();
+        String cacheKey = null;
+        if (validationResultCache != null) {
+            if (isCacheableRequest(fsApiRequestContext)) {
+                cacheKey = getValidationCacheKey(fsApiRequestContext);
+                ConsentValidationResultCache.CachedConsentValidationResult cachedResult =
+                        validationResultCache.get(consentId, cacheKey);
+                if (cachedResult != null) {
+                    if (cachedResult.getConsentInformation() != null) {
+                        requestHeaders.put(INFO_HEADER_TAG, cachedResult.getConsentInformation());
+                        fsApiRequestContext.setAddedHeaders(requestHeaders);
+                    }
+                    return;
+                }
+            } else {
+                // Requests which may change the consent state must not be served by previously cached results
+                validationResultCache.invalidate(consentId);
+            }
+        }
+
         Map<String, Object> additionalParams = new HashMap<>();
         additionalParams.put(ELECTED_RESOURCE_TAG, fsApiRequestContext.getMsgInfo().getElectedResource());
-        additionalParams.put(CONSENT_ID_TAG, fsApiRequestContext.getConsentId());
+        additionalParams.put(CONSENT_ID_TAG, consentId);
         additionalParams.put(USER_ID_TAG, fsApiRequestContext.getApiRequestInfo().getUsername());
         additionalParams.put(CLIENT_ID_TAG, fsApiRequestContext.getApiRequestInfo().getConsumerKey());
         additionalParams.put(RESOURCE_PARAMS, getResourceParamMap(fsApiRequestContext));
@@ -122,11 +157,11 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
                     fsApiRequestContext.getModifiedPayload(), additionalParams);
         } else {
             validationRequest = createValidationRequestPayload(requestHeaders,
-                    fsApiRequestContext.getRequestPayload(), additionalParams);
+                    fsApiRequestContext.getRequestPayloadJSON(), additionalParams);
         }
-        String enforcementJWTPayload = generateJWT(validationRequest.toString());
         JSONObject jsonResponse;
         try {
+            String enforcementJWTPayload = generateJWT(validationRequest.toString());
             String response = invokeConsentValidationService(enforcementJWTPayload);
             jsonResponse = new JSONObject(response);
         } catch (IOException | FinancialServicesException e) {
@@ -141,6 +176,9 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
             String errorMessage = jsonResponse.get(ERROR_MESSAGE).toString();
             String httpCode = jsonResponse.get(HTTP_CODE).toString();
             handleError(fsApiRequestContext, errorCode, errorMessage, httpCode);
+            if (validationResultCache != null) {
+                validationResultCache.invalidate(consentId);
+            }
             return;
         } else if (!jsonResponse.isNull(MODIFIED_PAYLOAD)) {
             Object modifiedPayloadObj = jsonResponse.get(MODIFIED_PAYLOAD);
@@ -154,6 +192,11 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
                 fsApiRequestContext.setAddedHeaders(requestHeaders);
             }
         }
+        // Results carrying a modified payload depend on the request body and are not cached
+        if (cacheKey != null && jsonResponse.isNull(MODIFIED_PAYLOAD)) {
+            validationResultCache.put(consentId, cacheKey, jsonResponse.isNull(CONSENT_INFO) ? null :
+                    jsonResponse.get(CONSENT_INFO).toString());
+        }
     }
 
     /**
@@ -176,6 +219,34 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
 
     }
 
+    /**
+     * Checks whether the validation result of the request can be cached. Only read requests without a payload are
+     * cached so that submissions against a consent are always validated.
+     *
+     * @param fsApiRequestContext FS request context object
+     * @return true if the validation result can be cached
+     */
+    protected boolean isCacheableRequest(FSAPIRequestContext fsApiRequestContext) {
+
+        String httpMethod = fsApiRequestContext.getMsgInfo().getHttpMethod();
+        String payload = StringUtils.isNotBlank(fsApiRequestContext.getModifiedPayload()) ?
+                fsApiRequestContext.getModifiedPayload() : fsApiRequestContext.getRequestPayload();
+        return (GatewayConstants.GET_HTTP_METHOD.equalsIgnoreCase(httpMethod) ||
+                GatewayConstants.HEAD_HTTP_METHOD.equalsIgnoreCase(httpMethod)) &&
+                (StringUtils.isBlank(payload) || "null".equals(payload));
+    }
+
+    private static String getValidationCacheKey(FSAPIRequestContext fsApiRequestContext) {
+
+        return ConsentValidationResultCache.getCacheKey(
+                fsApiRequestContext.getApiRequestInfo().getConsumerKey(),
+                fsApiRequestContext.getApiRequestInfo().getUsername(),
+                fsApiRequestContext.getMsgInfo().getElectedResource(),
+                fsApiRequestContext.getMsgInfo().getResource(),
+                fsApiRequestContext.getMsgInfo().getHttpMethod(),
+                fsApiRequestContext.getApiRequestInfo().getContext());
+    }
+
     private static String getValidationEndpoint() {
 
         if (consentValidationEndpoint == null) {
@@ -209,7 +280,7 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
                     try (FileInputStream is = new FileInputStream(dataHolder.getKeyStoreLocation())) {
                         KeyStore keystore = KeyStore.getInstance(KeyStore.getDefaultType());
                         keystore.load(is, dataHolder.getKeyStorePassword());
-                        key = keystore.getKey(dataHolder.getKeyAlias(), dataHolder.getKeyPassword().toCharArray());
+                        key = keystore.getKey(getSigningKeyAlias(), dataHolder.getKeyPassword().toCharArray());
                     } catch (IOException | CertificateException | KeyStoreException | NoSuchAlgorithmException
                              | UnrecoverableKeyException e) {
                         log.error("Error occurred while retrieving private key from keystore ", e);
@@ -220,17 +291,93 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         return key;
     }
 
+    private static String getSigningKeyAlias() {
+
+        Object keyAlias = dataHolder.getFinancialServicesConfigurationService() == null ? null : dataHolder
+                .getFinancialServicesConfigurationService().getConfigurations()
+                .get(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_KEY_ALIAS);
+        return keyAlias == null || StringUtils.isBlank(keyAlias.toString()) ? dataHolder.getKeyAlias() :
+                keyAlias.toString().trim();
+    }
+
+    /**
+     * Method to obtain the signer of validation request payloads. The signer is created once and shared by all
+     * requests.
+     *
+     * @return payload signer
+     * @throws FinancialServicesException When the configured signing algorithm or key cannot be used
+     */
+    protected static JWSPayloadSigner getPayloadSigner() throws FinancialServicesException {
+
+        if (payloadSigner == null) {
+            synchronized (ConsentEnforcementExecutor.class) {
+                if (payloadSigner == null) {
+                    payloadSigner = createPayloadSigner(dataHolder.getFinancialServicesConfigurationService()
+                            .getConfigurations());
+                }
+            }
+        }
+        return payloadSigner;
+    }
+
+    /**
+     * Method to create the payload signer for the configured signing algorithm. RS512 with the gateway signing key
+     * is used when no algorithm is configured.
+     *
+     * @param configurations Financial services configurations
+     * @return payload signer
+     * @throws FinancialServicesException When the configured signing algorithm or key cannot be used
+     */
+    @SuppressFBWarnings("PATH_TRAVERSAL_IN")
+    // Suppressed content - Paths.get(jwkLocation)
+    // Suppression reason - False Positive : JWK location is obtained from deployment.toml. So it can be marked
+    //                      as a trusted filepath
+    // Suppressed warning count - 1
+    static JWSPayloadSigner createPayloadSigner(Map<String, Object> configurations)
+            throws FinancialServicesException {
+
+        Object algorithmConfig = configurations.get(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_ALG);
+        String algorithmName = algorithmConfig == null || StringUtils.isBlank(algorithmConfig.toString()) ?
+                JWSAlgorithm.RS512.getName() : algorithmConfig.toString().trim();
+        if (JWSPayloadSigner.UNSIGNED.equalsIgnoreCase(algorithmName)) {
+            log.debug("Consent validation payloads are sent unsigned");
+            return JWSPayloadSigner.unsigned();
+        }
+
+        JWSAlgorithm algorithm = JWSAlgorithm.parse(algorithmName);
+        if (JWSAlgorithm.Family.HMAC_SHA.contains(algorithm)) {
+            Object sharedSecret = configurations.get(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_SECRET);
+            if (sharedSecret == null || StringUtils.isBlank(sharedSecret.toString())) {
+                throw new FinancialServicesException("Shared secret is required to sign with " + algorithmName);
+            }
+            return JWSPayloadSigner.forSharedSecret(algorithm,
+                    sharedSecret.toString().getBytes(StandardCharsets.UTF_8));
+        } else if (JWSAlgorithm.EdDSA.equals(algorithm)) {
+            Object jwkLocation = configurations.get(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_JWK);
+            if (jwkLocation == null || StringUtils.isBlank(jwkLocation.toString())) {
+                throw new FinancialServicesException("Ed25519 JWK location is required to sign with " +
+                        algorithmName);
+            }
+            try {
+                String jwk = new String(Files.readAllBytes(Paths.get(jwkLocation.toString().trim())),
+                        StandardCharsets.UTF_8);
+                return JWSPayloadSigner.forOctetKeyPair(OctetKeyPair.parse(jwk));
+            } catch (IOException | ParseException e) {
+                throw new FinancialServicesException("Error occurred while reading the Ed25519 JWK", e);
+            }
+        }
+        return JWSPayloadSigner.forPrivateKey(algorithm, getJWTSigningKey());
+    }
+
     /**
      * Method to generate JWT.
      * @param payload Payload to be signed
-     * @return Signed JWT
+     * @return Signed JWT, or the payload itself when payload signing is disabled
+     * @throws FinancialServicesException When signing fails
      */
-    protected String generateJWT(String payload) {
+    protected String generateJWT(String payload) throws FinancialServicesException {
 
-        return Jwts.builder()
-                .setPayload(payload)
-                .signWith(SignatureAlgorithm.RS512, getJWTSigningKey())
-                .compact();
+        return getPayloadSigner().sign(payload);
     }
 
     /**
@@ -252,9 +399,15 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
         String userName = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME);
         String password = GatewayUtils.getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD);
         httpPost.setHeader(GatewayConstants.AUTH_HEADER, GatewayUtils.getBasicAuthHeader(userName, password));
-        CloseableHttpResponse response = HTTPClientUtils.getHttpsClient().execute(httpPost);
-        InputStream in = response.getEntity().getContent();
-        return IOUtils.toString(in, String.valueOf(StandardCharsets.UTF_8));
+        // The response handler consumes the entity so that the connection is returned to the pool
+        return HTTPClientUtils.getHttpClientPool(FinancialServicesConstants.HTTP_CLIENT_POOL_CONSENT_VALIDATION)
+                .execute(httpPost, response -> {
+                    HttpEntity entity = response.getEntity();
+                    if (entity == null) {
+                        throw new IOException("No response content received from the consent validation service");
+                    }
+                    return EntityUtils.toString(entity, StandardCharsets.UTF_8);
+                });
     }
 
     /**
@@ -285,15 +438,33 @@ public class ConsentEnforcementExecutor implements FinancialServicesGatewayExecu
     protected JSONObject createValidationRequestPayload(Map<String, String> requestHeaders, String requestPayload,
                                                         Map<String, Object> additionalParams) {
 
-        JSONObject validationRequest = new JSONObject();
-        JSONObject headers = new JSONObject();
-        requestHeaders.forEach(headers::put);
-        validationRequest.put(HEADERS_TAG, headers);
         /*requestContextDTO.getMsgInfo().getPayloadHandler().consumeAsString() method sets the request payload as a
         null string, hence adding string null check to the validation*/
+        JSONObject requestBody = null;
         if (requestPayload != null && !requestPayload.isEmpty() && !requestPayload.equals("null")) {
             //This assumes all input payloads are in Content-Type : Application/JSON
-            validationRequest.put(BODY_TAG, new JSONObject(requestPayload));
+            requestBody = new JSONObject(requestPayload);
+        }
+        return createValidationRequestPayload(requestHeaders, requestBody, additionalParams);
+    }
+
+    /**
+     * Method to create validation request payload from the parsed request body.
+     *
+     * @param requestHeaders   Request headers of original request
+     * @param requestBody      Parsed request body of original request, null if the request has no body
+     * @param additionalParams Additional parameters to add to the validation request
+     * @return JSON Object with added attributes.
+     */
+    protected JSONObject createValidationRequestPayload(Map<String, String> requestHeaders, JSONObject requestBody,
+                                                        Map<String, Object> additionalParams) {
+
+        JSONObject validationRequest = new JSONObject();
+        JSONObject headers = new JSONObject();
+        requestHeaders.forEach(headers::put);
+        validationRequest.put(HEADERS_TAG, headers);
+        if (requestBody != null) {
+            validationRequest.put(BODY_TAG, requestBody);
         }
         additionalParams.forEach(validationRequest::put);
         return validationRequest;
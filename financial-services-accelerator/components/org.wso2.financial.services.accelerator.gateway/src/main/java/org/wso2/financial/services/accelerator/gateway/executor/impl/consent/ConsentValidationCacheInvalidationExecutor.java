@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
+
+import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationResultCache;
+import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialServicesGatewayExecutor;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.RequestPayload;
+import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Executor which drops cached consent validation results of consents modified through the consent APIs.
+ * <p>
+ * Intended for the consent executor chain. A successful revoke, amend or authorisation update of a consent
+ * invalidates the cached validation results of every consent ID found in the resource path.
+ */
+public class ConsentValidationCacheInvalidationExecutor implements FinancialServicesGatewayExecutor {
+
+    private static final Pattern UUID_PATTERN = Pattern.compile(FinancialServicesConstants.UUID_REGEX);
+
+    @Override
+    public Set<RequestPayload.View> getRequiredPayloadViews() {
+
+        return EnumSet.noneOf(RequestPayload.View.class);
+    }
+
+    @Override
+    public void preProcessRequest(FSAPIRequestContext fsApiRequestContext) {
+
+    }
+
+    @Override
+    public void postProcessRequest(FSAPIRequestContext fsApiRequestContext) {
+
+    }
+
+    @Override
+    public void preProcessResponse(FSAPIResponseContext fsApiResponseContext) {
+
+    }
+
+    /**
+     * Method to handle post response.
+     *
+     * @param fsApiResponseContext FS response context object
+     */
+    @Override
+    public void postProcessResponse(FSAPIResponseContext fsApiResponseContext) {
+
+        ConsentValidationResultCache validationResultCache = GatewayDataHolder.getConsentValidationResultCache();
+        if (validationResultCache == null || fsApiResponseContext.isError()) {
+            return;
+        }
+        String httpMethod = fsApiResponseContext.getMsgInfo().getHttpMethod();
+        int statusCode = fsApiResponseContext.getStatusCode();
+        if (GatewayConstants.GET_HTTP_METHOD.equalsIgnoreCase(httpMethod) ||
+                GatewayConstants.HEAD_HTTP_METHOD.equalsIgnoreCase(httpMethod) || statusCode < 200 ||
+                statusCode >= 300) {
+            return;
+        }
+        String resource = fsApiResponseContext.getMsgInfo().getResource();
+        if (resource == null) {
+            return;
+        }
+        Matcher matcher = UUID_PATTERN.matcher(resource);
+        while (matcher.find()) {
+            validationResultCache.invalidate(matcher.group());
+        }
+    }
+}
@@ -25,9 +25,11 @@ import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialSe
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSExecutorError;
+import org.wso2.financial.services.accelerator.gateway.executor.model.RequestPayload;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +42,12 @@ public class DefaultErrorHandlingExecutor implements FinancialServicesGatewayExe
 
     private static final String ERRORS_TAG = "errors";
 
+    @Override
+    public Set<RequestPayload.View> getRequiredPayloadViews() {
+
+        return EnumSet.noneOf(RequestPayload.View.class);
+    }
+
     /**
      * Method to handle pre request.
      *
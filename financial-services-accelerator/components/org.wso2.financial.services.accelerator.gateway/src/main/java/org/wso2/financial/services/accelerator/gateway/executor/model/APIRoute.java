@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.PathItem;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Routing information of an API, compiled once from its OpenAPI definition.
+ * <p>
+ * The API type and the executor chain serving the API are resolved when the route is compiled, so that a request
+ * is dispatched with a single lookup. The revision is a digest of the definition, which identifies the deployed
+ * revision of the API without comparing definitions. Instances are immutable and shared between requests, so the
+ * OpenAPI definition must not be modified.
+ */
+public final class APIRoute {
+
+    private static final String SHA256_HASH_ALG = "SHA-256";
+
+    private final String apiId;
+    private final String revision;
+    private final String apiType;
+    private final String executorType;
+    private final Set<String> resourceTemplates;
+    private final OpenAPI openAPI;
+
+    private APIRoute(String apiId, String revision, OpenAPI openAPI) {
+
+        this.apiId = apiId;
+        this.revision = revision;
+        this.openAPI = openAPI;
+
+        Map<String, Object> extensions = openAPI.getExtensions();
+        Object type = extensions == null ? null : extensions.get(GatewayConstants.API_TYPE_CUSTOM_PROP);
+        this.apiType = type == null ? null : type.toString();
+
+        Set<String> templates = new LinkedHashSet<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (PathItem.HttpMethod httpMethod : path.getValue().readOperationsMap().keySet()) {
+                    templates.add(httpMethod.name() + " " + path.getKey());
+                }
+            }
+        }
+        this.resourceTemplates = Collections.unmodifiableSet(templates);
+
+        if (GatewayConstants.API_TYPE_NON_REGULATORY.equals(apiType)) {
+            this.executorType = null;
+        } else if (GatewayConstants.API_TYPE_CONSENT.equals(apiType)) {
+            this.executorType = GatewayConstants.EXECUTOR_TYPE_CONSENT;
+        } else {
+            this.executorType = GatewayConstants.EXECUTOR_TYPE_DEFAULT;
+        }
+    }
+
+    /**
+     * Compiles the route of an API from its OpenAPI definition.
+     *
+     * @param apiId      ID of the API
+     * @param definition OpenAPI or swagger definition of the API
+     * @return compiled route
+     * @throws FinancialServicesRuntimeException if the definition cannot be parsed
+     */
+    public static APIRoute compile(String apiId, String definition) {
+
+        OpenAPI openAPI = definition == null ? null :
+                new OpenAPIParser().readContents(definition, null, null).getOpenAPI();
+        if (openAPI == null) {
+            throw new FinancialServicesRuntimeException(String.format("Failed to parse the definition of API %s",
+                    apiId));
+        }
+        return new APIRoute(apiId, getRevision(definition), openAPI);
+    }
+
+    /**
+     * Compiles the route of an API from a parsed OpenAPI definition.
+     *
+     * @param apiId    ID of the API
+     * @param revision revision of the definition
+     * @param openAPI  OpenAPI definition of the API
+     * @return compiled route
+     */
+    public static APIRoute of(String apiId, String revision, OpenAPI openAPI) {
+
+        return new APIRoute(apiId, revision, openAPI);
+    }
+
+    /**
+     * Computes the revision of an API definition.
+     *
+     * @param definition OpenAPI or swagger definition
+     * @return digest of the definition
+     */
+    public static String getRevision(String definition) {
+
+        try {
+            MessageDigest digest = MessageDigest.getInstance(SHA256_HASH_ALG);
+            return Base64.getEncoder().encodeToString(digest.digest(definition.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new FinancialServicesRuntimeException("Error while computing the revision of the API definition",
+                    e);
+        }
+    }
+
+    /**
+     * Returns the type of executors serving a request to a resource of the API.
+     *
+     * @param resource invoked resource
+     * @return executor type, or null if the API is not served by any executor
+     */
+    public String getExecutorType(String resource) {
+
+        if (GatewayConstants.EXECUTOR_TYPE_DEFAULT.equals(executorType) && resource != null &&
+                resource.contains(GatewayConstants.DCR_PATH)) {
+            return GatewayConstants.EXECUTOR_TYPE_DCR;
+        }
+        return executorType;
+    }
+
+    public String getApiId() {
+
+        return apiId;
+    }
+
+    public String getRevision() {
+
+        return revision;
+    }
+
+    public String getApiType() {
+
+        return apiType;
+    }
+
+    public Set<String> getResourceTemplates() {
+
+        return resourceTemplates;
+    }
+
+    public OpenAPI getOpenAPI() {
+
+        return openAPI;
+    }
+}
@@ -28,6 +28,7 @@ import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
 import org.wso2.carbon.apimgt.common.gateway.dto.RequestContextDTO;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesErrorCodes;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
@@ -37,6 +38,7 @@ import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Financial services executor request context.
@@ -44,15 +46,17 @@ import java.util.Map;
 public class FSAPIRequestContext extends RequestContextDTO {
 
     private static final Log log = LogFactory.getLog(FSAPIRequestContext.class);
-    private final RequestContextDTO requestContextDTO;
+    private RequestContextDTO requestContextDTO;
     private Map<String, Object> contextProps;
     private String modifiedPayload;
-    private String requestPayload;
+    private RequestPayload requestPayload;
+    private boolean payloadReadFailed;
     private Map<String, String> addedHeaders;
     private boolean isError;
     private ArrayList<FSExecutorError> errors;
     private String consentId;
     private OpenAPI openAPI;
+    private APIRoute apiRoute;
 
     public FSAPIRequestContext(RequestContextDTO requestContextDTO, Map<String, Object> contextProps) {
 
@@ -62,36 +66,48 @@ public class FSAPIRequestContext extends RequestContextDTO {
         this.errors = new ArrayList<>();
 
         this.consentId = extractConsentID(requestContextDTO);
-        this.openAPI = GatewayUtils.retrieveOpenAPI(requestContextDTO);
-
-        if (requestContextDTO.getMsgInfo().getHeaders().get(GatewayConstants.CONTENT_TYPE_TAG) != null) {
-            String contentType = requestContextDTO.getMsgInfo().getHeaders().get(GatewayConstants.CONTENT_TYPE_TAG);
-            String httpMethod = requestContextDTO.getMsgInfo().getHttpMethod();
-            String errorMessage = "Request Content-Type header does not match any allowed types";
-            if (contentType.startsWith(GatewayConstants.JWT_CONTENT_TYPE) || contentType.startsWith(GatewayConstants
-                    .JOSE_CONTENT_TYPE)) {
-                try {
-                    this.requestPayload = GatewayUtils.getTextPayload(requestContextDTO.getMsgInfo().getPayloadHandler()
-                            .consumeAsString());
-                } catch (Exception e) {
-                    log.error(String.format("Failed to read the text payload from request. %s",
-                            e.getMessage().replaceAll("\n\r", "")));
-                    handleContentTypeErrors(errorMessage);
-                }
-            } else if (GatewayUtils.isEligibleRequest(contentType, httpMethod)) {
-                try {
-                    this.requestPayload = requestContextDTO.getMsgInfo().getPayloadHandler().consumeAsString();
-                } catch (Exception e) {
-                    log.error(String.format("Failed to read the payload from request. %s",
-                            e.getMessage().replaceAll("\n\r", "")));
-                    handleContentTypeErrors(errorMessage);
-                }
-            } else {
-                this.requestPayload = null;
-            }
+        this.apiRoute = GatewayUtils.retrieveAPIRoute(requestContextDTO);
+        this.openAPI = apiRoute != null ? apiRoute.getOpenAPI() : null;
+
+        this.requestPayload = new RequestPayload(getPayloadReader(requestContextDTO.getMsgInfo()));
+    }
+
+    private FSAPIRequestContext(FSAPIRequestContext context, RequestContextDTO requestContextDTO) {
+
+        this.requestContextDTO = requestContextDTO;
+        this.contextProps = new HashMap<>(context.contextProps);
+        this.addedHeaders = new HashMap<>();
+        this.isError = context.isError;
+        this.errors = new ArrayList<>(context.errors);
+        this.payloadReadFailed = context.payloadReadFailed;
+
+        this.consentId = context.consentId;
+        this.apiRoute = context.apiRoute;
+        this.openAPI = context.openAPI;
+
+        if (context.modifiedPayload != null) {
+            String payload = context.modifiedPayload;
+            this.requestPayload = new RequestPayload(() -> payload);
+        } else if (context.requestPayload.isRead()) {
+            this.requestPayload = context.requestPayload;
+        } else {
+            this.requestPayload = new RequestPayload(getPayloadReader(requestContextDTO.getMsgInfo()));
         }
     }
 
+    /**
+     * Creates the context for the next extension hook of the same message. The payload modified in the previous
+     * hook becomes the request payload, and the headers added in the previous hook are not carried over since they
+     * have been applied to the message. This context is not changed, so it can be kept if the next hook fails.
+     *
+     * @param requestContextDTO request context of the next hook
+     * @return request context of the next hook
+     */
+    public FSAPIRequestContext resume(RequestContextDTO requestContextDTO) {
+
+        return new FSAPIRequestContext(this, requestContextDTO);
+    }
+
     public String getModifiedPayload() {
 
         return modifiedPayload;
@@ -173,6 +189,16 @@ public class FSAPIRequestContext extends RequestContextDTO {
         this.openAPI = openAPI;
     }
 
+    public APIRoute getAPIRoute() {
+
+        return apiRoute;
+    }
+
+    public void setAPIRoute(APIRoute apiRoute) {
+
+        this.apiRoute = apiRoute;
+    }
+
     @Override
     public MsgInfoDTO getMsgInfo() {
 
@@ -191,9 +217,81 @@ public class FSAPIRequestContext extends RequestContextDTO {
         return requestContextDTO.getClientCertsLatest();
     }
 
+    /**
+     * Returns the request payload as text. The payload is read from the message on the first call and shared by the
+     * executors. If it cannot be read, an invalid content type error is added to the context.
+     *
+     * @return request payload, or null if the request does not carry a payload to process
+     */
     public String getRequestPayload() {
 
-        return requestPayload;
+        try {
+            return requestPayload.getText();
+        } catch (FinancialServicesException e) {
+            handlePayloadReadError(e);
+            return null;
+        }
+    }
+
+    /**
+     * Returns the request payload parsed as a JSON object. The parsed payload is shared by the executors and must
+     * not be modified.
+     *
+     * @return JSON request payload, or null if the request does not carry a payload
+     * @throws JSONException if the payload is not a JSON object
+     */
+    public JSONObject getRequestPayloadJSON() {
+
+        try {
+            return requestPayload.getJSON();
+        } catch (FinancialServicesException e) {
+            handlePayloadReadError(e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads the request payload and creates the views required by the executors serving the request. The payload
+     * is not read if no executor requires it.
+     *
+     * @param views views required by the executors
+     */
+    public void preparePayload(Set<RequestPayload.View> views) {
+
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            requestPayload.prepare(views);
+        } catch (FinancialServicesException e) {
+            handlePayloadReadError(e);
+        }
+    }
+
+    private RequestPayload.Reader getPayloadReader(MsgInfoDTO msgInfo) {
+
+        String contentType = msgInfo.getHeaders().get(GatewayConstants.CONTENT_TYPE_TAG);
+        if (contentType == null) {
+            return null;
+        }
+        if (contentType.startsWith(GatewayConstants.JWT_CONTENT_TYPE) ||
+                contentType.startsWith(GatewayConstants.JOSE_CONTENT_TYPE)) {
+            return () -> GatewayUtils.getTextPayload(msgInfo.getPayloadHandler().consumeAsString());
+        } else if (GatewayUtils.isEligibleRequest(contentType, msgInfo.getHttpMethod())) {
+            return () -> msgInfo.getPayloadHandler().consumeAsString();
+        }
+        return null;
+    }
+
+    private synchronized void handlePayloadReadError(FinancialServicesException e) {
+
+        if (payloadReadFailed) {
+            return;
+        }
+        payloadReadFailed = true;
+        log.error(String.format("Failed to read the payload from request. %s",
+                String.valueOf(e.getMessage()).replaceAll("[\r\n]", "")));
+        handleContentTypeErrors("Request Content-Type header does not match any allowed types");
     }
 
     /**
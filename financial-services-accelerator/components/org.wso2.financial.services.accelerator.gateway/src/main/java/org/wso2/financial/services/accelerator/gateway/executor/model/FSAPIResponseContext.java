@@ -95,6 +95,23 @@ public class FSAPIResponseContext extends ResponseContextDTO {
         }
     }
 
+    /**
+     * Prepares the context for the next extension hook of the same message. The payload modified in the previous
+     * hook becomes the response payload, and the headers added in the previous hook are cleared since they have
+     * been applied to the message.
+     *
+     * @param responseContextDTO response context of the next hook
+     */
+    public void resume(ResponseContextDTO responseContextDTO) {
+
+        this.responseContextDTO = responseContextDTO;
+        this.addedHeaders = new HashMap<>();
+        if (modifiedPayload != null) {
+            this.responsePayload = modifiedPayload;
+            this.modifiedPayload = null;
+        }
+    }
+
     public String getModifiedPayload() {
 
         return modifiedPayload;
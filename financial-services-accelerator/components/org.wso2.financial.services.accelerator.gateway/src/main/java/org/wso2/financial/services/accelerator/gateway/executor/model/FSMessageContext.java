@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import org.wso2.financial.services.accelerator.gateway.executor.core.FinancialServicesGatewayExecutor;
+
+import java.util.List;
+
+/**
+ * State of an in-flight message shared by the extension hooks of the message.
+ * <p>
+ * The executors serving the request are resolved once in the first request hook, and the executors serving the
+ * response once in the first response hook. Each request hook runs on a copy of the stored request context.
+ */
+public class FSMessageContext {
+
+    private final FSAPIRequestContext requestContext;
+    private final List<FinancialServicesGatewayExecutor> requestExecutors;
+    private FSAPIResponseContext responseContext;
+    private List<FinancialServicesGatewayExecutor> responseExecutors;
+
+    public FSMessageContext(FSAPIRequestContext requestContext,
+                            List<FinancialServicesGatewayExecutor> requestExecutors) {
+
+        this.requestContext = requestContext;
+        this.requestExecutors = requestExecutors;
+    }
+
+    public FSAPIRequestContext getRequestContext() {
+
+        return requestContext;
+    }
+
+    public List<FinancialServicesGatewayExecutor> getRequestExecutors() {
+
+        return requestExecutors;
+    }
+
+    public FSAPIResponseContext getResponseContext() {
+
+        return responseContext;
+    }
+
+    public List<FinancialServicesGatewayExecutor> getResponseExecutors() {
+
+        return responseExecutors;
+    }
+
+    public void setResponseContext(FSAPIResponseContext responseContext,
+                                   List<FinancialServicesGatewayExecutor> responseExecutors) {
+
+        this.responseContext = responseContext;
+        this.responseExecutors = responseExecutors;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import org.apache.commons.lang3.StringUtils;
+import org.json.JSONObject;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+/**
+ * Payload of a request, shared by the executors serving the request.
+ * <p>
+ * The payload is read from the message on first access and held once. The parsed JSON view is created on first
+ * access and cached, so executors do not read or parse the payload again. The views are shared and must not
+ * be modified. Executors changing the payload set a modified payload on the request context instead.
+ */
+public class RequestPayload {
+
+    private static final String NULL_PAYLOAD = "null";
+
+    private final Reader reader;
+    private boolean read;
+    private String text;
+    private FinancialServicesException readError;
+    private JSONObject json;
+
+    /**
+     * Views of the payload used by executors.
+     */
+    public enum View {
+        TEXT,
+        JSON
+    }
+
+    /**
+     * Reads the payload from the message.
+     */
+    public interface Reader {
+
+        String read() throws Exception;
+    }
+
+    /**
+     * Creates a payload read from the message on first access.
+     *
+     * @param reader reads the payload, or null if the request does not carry a payload to process
+     */
+    public RequestPayload(Reader reader) {
+
+        this.reader = reader;
+    }
+
+    /**
+     * Returns the payload as text, reading it from the message on the first call.
+     *
+     * @return payload text, or null if the request does not carry a payload to process
+     * @throws FinancialServicesException if the payload cannot be read
+     */
+    public synchronized String getText() throws FinancialServicesException {
+
+        if (!read) {
+            read = true;
+            if (reader != null) {
+                try {
+                    text = reader.read();
+                } catch (Exception e) {
+                    readError = new FinancialServicesException(e.getMessage(), e);
+                }
+            }
+        }
+        if (readError != null) {
+            throw readError;
+        }
+        return text;
+    }
+
+    /**
+     * Returns whether the payload has been read from the message.
+     *
+     * @return true if the payload has been read
+     */
+    public synchronized boolean isRead() {
+
+        return read;
+    }
+
+    /**
+     * Returns the payload parsed as a JSON object. The payload is parsed on the first call.
+     *
+     * @return JSON payload, or null if the payload is empty
+     * @throws FinancialServicesException if the payload cannot be read
+     * @throws org.json.JSONException     if the payload is not a JSON object
+     */
+    public synchronized JSONObject getJSON() throws FinancialServicesException {
+
+        if (json == null) {
+            String payload = getText();
+            if (StringUtils.isEmpty(payload) || NULL_PAYLOAD.equals(payload)) {
+                return null;
+            }
+            json = new JSONObject(payload);
+        }
+        return json;
+    }
+
+    /**
+     * Reads the payload and creates the given views, so that they are shared by the executors. Payloads which
+     * cannot be parsed into a view are left for the executors to handle.
+     *
+     * @param views views to create
+     * @throws FinancialServicesException if the payload cannot be read
+     */
+    public synchronized void prepare(Iterable<View> views) throws FinancialServicesException {
+
+        getText();
+        for (View view : views) {
+            try {
+                if (View.JSON == view) {
+                    getJSON();
+                }
+            } catch (RuntimeException e) {
+                // The executor requiring the view reports the malformed payload
+            }
+        }
+    }
+}
@@ -28,9 +28,15 @@ import org.wso2.financial.services.accelerator.common.constant.FinancialServices
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
+import org.wso2.financial.services.accelerator.gateway.cache.ConsentValidationResultCache;
 import org.wso2.financial.services.accelerator.gateway.cache.GatewayCache;
+import org.wso2.financial.services.accelerator.gateway.cache.MessageContextStore;
+import org.wso2.financial.services.accelerator.gateway.executor.core.APIRouteIndex;
 import org.wso2.financial.services.accelerator.gateway.executor.core.AbstractRequestRouter;
+import org.wso2.financial.services.accelerator.gateway.executor.core.GatewayExecutorPipeline;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSMessageContext;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayUtils;
 
 import java.util.Arrays;
 import java.util.HashMap;
@@ -44,11 +50,21 @@ public class GatewayDataHolder {
     private static volatile GatewayDataHolder instance;
     private static volatile CloseableHttpClient httpClient;
     private static volatile GatewayCache gatewayCache;
+    private static volatile ConsentValidationResultCache consentValidationResultCache;
+    private static volatile APIRouteIndex apiRouteIndex;
+    private static volatile MessageContextStore<FSMessageContext> messageContextStore;
     private FinancialServicesConfigurationService financialServicesConfigurationService;
     private int gatewayCacheAccessExpiry;
     private int gatewayCacheModifiedExpiry;
+    private boolean consentValidationCacheEnabled;
+    private int consentValidationCacheTimeToLive = 30;
+    private int consentValidationCacheMaxEntries = 10000;
+    private long apiRouteIndexRefreshInterval = 300;
+    private int messageContextTimeToLive = 300;
+    private int messageContextMaxEntries = 10000;
     private APIManagerConfigurationService apiManagerConfigurationService;
     private AbstractRequestRouter requestRouter;
+    private GatewayExecutorPipeline executorPipeline = new GatewayExecutorPipeline(null);
     private String keyStoreLocation;
     private char[] keyStorePassword;
     private String keyAlias;
@@ -99,6 +115,78 @@ public class GatewayDataHolder {
         gatewayCache = cache;
     }
 
+    /**
+     * Returns the consent validation result cache.
+     *
+     * @return consent validation result cache or null if caching of validation results is disabled
+     */
+    public static ConsentValidationResultCache getConsentValidationResultCache() {
+
+        GatewayDataHolder dataHolder = getInstance();
+        if (!dataHolder.isConsentValidationCacheEnabled()) {
+            return null;
+        }
+        if (consentValidationResultCache == null) {
+            synchronized (GatewayDataHolder.class) {
+                if (consentValidationResultCache == null) {
+                    consentValidationResultCache = new ConsentValidationResultCache(
+                            dataHolder.getConsentValidationCacheTimeToLive(),
+                            dataHolder.getConsentValidationCacheMaxEntries());
+                }
+            }
+        }
+        return consentValidationResultCache;
+    }
+
+    public void setConsentValidationResultCache(ConsentValidationResultCache cache) {
+        consentValidationResultCache = cache;
+    }
+
+    /**
+     * Returns the index of the compiled API routes.
+     *
+     * @return API route index
+     */
+    public static APIRouteIndex getAPIRouteIndex() {
+
+        if (apiRouteIndex == null) {
+            synchronized (GatewayDataHolder.class) {
+                if (apiRouteIndex == null) {
+                    apiRouteIndex = new APIRouteIndex(GatewayUtils::getSwaggerDefinition,
+                            GatewayUtils::getPublisherAPIIds);
+                }
+            }
+        }
+        return apiRouteIndex;
+    }
+
+    public void setAPIRouteIndex(APIRouteIndex index) {
+        apiRouteIndex = index;
+    }
+
+    /**
+     * Returns the store of the state of in-flight messages shared by the extension hooks.
+     *
+     * @return message context store
+     */
+    public static MessageContextStore<FSMessageContext> getMessageContextStore() {
+
+        if (messageContextStore == null) {
+            synchronized (GatewayDataHolder.class) {
+                if (messageContextStore == null) {
+                    GatewayDataHolder dataHolder = getInstance();
+                    messageContextStore = new MessageContextStore<>(dataHolder.getMessageContextTimeToLive(),
+                            dataHolder.getMessageContextMaxEntries());
+                }
+            }
+        }
+        return messageContextStore;
+    }
+
+    public void setMessageContextStore(MessageContextStore<FSMessageContext> store) {
+        messageContextStore = store;
+    }
+
     public FinancialServicesConfigurationService getFinancialServicesConfigurationService() {
 
         return financialServicesConfigurationService;
@@ -113,11 +201,38 @@ public class GatewayDataHolder {
             setGatewayCacheAccessExpiry((String) configurations.get(FinancialServicesConstants.GATEWAY_CACHE_EXPIRY));
             setGatewayCacheModifiedExpiry((String) configurations
                     .get(FinancialServicesConstants.GATEWAY_CACHE_MODIFIED_EXPIRY));
+            Object cacheEnabled = configurations.get(FinancialServicesConstants.CONSENT_VALIDATION_CACHE_ENABLED);
+            setConsentValidationCacheEnabled(cacheEnabled != null && Boolean.parseBoolean(cacheEnabled.toString()));
+            Object cacheTimeToLive = configurations.get(FinancialServicesConstants.CONSENT_VALIDATION_CACHE_TTL);
+            if (cacheTimeToLive != null) {
+                setConsentValidationCacheTimeToLive(Integer.parseInt(cacheTimeToLive.toString().trim()));
+            }
+            Object cacheMaxEntries = configurations
+                    .get(FinancialServicesConstants.CONSENT_VALIDATION_CACHE_MAX_ENTRIES);
+            if (cacheMaxEntries != null) {
+                setConsentValidationCacheMaxEntries(Integer.parseInt(cacheMaxEntries.toString().trim()));
+            }
+            Object routeIndexRefreshInterval = configurations
+                    .get(FinancialServicesConstants.API_ROUTE_INDEX_REFRESH_INTERVAL);
+            if (routeIndexRefreshInterval != null) {
+                setAPIRouteIndexRefreshInterval(Long.parseLong(routeIndexRefreshInterval.toString().trim()));
+            }
+            Object messageContextTimeToLive = configurations
+                    .get(FinancialServicesConstants.MESSAGE_CONTEXT_STORE_TIME_TO_LIVE);
+            if (messageContextTimeToLive != null) {
+                setMessageContextTimeToLive(Integer.parseInt(messageContextTimeToLive.toString().trim()));
+            }
+            Object messageContextMaxEntries = configurations
+                    .get(FinancialServicesConstants.MESSAGE_CONTEXT_STORE_MAX_ENTRIES);
+            if (messageContextMaxEntries != null) {
+                setMessageContextMaxEntries(Integer.parseInt(messageContextMaxEntries.toString().trim()));
+            }
             AbstractRequestRouter configuredRequestRouter = FinancialServicesUtils.getClassInstanceFromFQN(
                     configurations.get(FinancialServicesConstants.REQUEST_ROUTER).toString(),
                     AbstractRequestRouter.class);
             configuredRequestRouter.build();
             this.setRequestRouter(configuredRequestRouter);
+            this.setExecutorPipeline(createExecutorPipeline(configurations));
             this.urlMap = constructURLMap();
         }
     }
@@ -132,6 +247,16 @@ public class GatewayDataHolder {
         this.requestRouter = requestRouter;
     }
 
+    public GatewayExecutorPipeline getExecutorPipeline() {
+
+        return executorPipeline;
+    }
+
+    public void setExecutorPipeline(GatewayExecutorPipeline executorPipeline) {
+
+        this.executorPipeline = executorPipeline;
+    }
+
     public int getGatewayCacheAccessExpiry() {
 
         return gatewayCacheAccessExpiry;
@@ -152,6 +277,66 @@ public class GatewayDataHolder {
         this.gatewayCacheModifiedExpiry = expTime == null ? 60 : Integer.parseInt(expTime);
     }
 
+    public boolean isConsentValidationCacheEnabled() {
+
+        return consentValidationCacheEnabled;
+    }
+
+    public void setConsentValidationCacheEnabled(boolean consentValidationCacheEnabled) {
+
+        this.consentValidationCacheEnabled = consentValidationCacheEnabled;
+    }
+
+    public int getConsentValidationCacheTimeToLive() {
+
+        return consentValidationCacheTimeToLive;
+    }
+
+    public void setConsentValidationCacheTimeToLive(int timeToLive) {
+
+        this.consentValidationCacheTimeToLive = timeToLive;
+    }
+
+    public int getConsentValidationCacheMaxEntries() {
+
+        return consentValidationCacheMaxEntries;
+    }
+
+    public void setConsentValidationCacheMaxEntries(int maxEntries) {
+
+        this.consentValidationCacheMaxEntries = maxEntries;
+    }
+
+    public long getAPIRouteIndexRefreshInterval() {
+
+        return apiRouteIndexRefreshInterval;
+    }
+
+    public void setAPIRouteIndexRefreshInterval(long refreshInterval) {
+
+        this.apiRouteIndexRefreshInterval = refreshInterval;
+    }
+
+    public int getMessageContextTimeToLive() {
+
+        return messageContextTimeToLive;
+    }
+
+    public void setMessageContextTimeToLive(int timeToLive) {
+
+        this.messageContextTimeToLive = timeToLive;
+    }
+
+    public int getMessageContextMaxEntries() {
+
+        return messageContextMaxEntries;
+    }
+
+    public void setMessageContextMaxEntries(int maxEntries) {
+
+        this.messageContextMaxEntries = maxEntries;
+    }
+
     public String getKeyStoreLocation() {
 
         return keyStoreLocation == null ? ServerConfiguration.getInstance()
@@ -221,6 +406,20 @@ public class GatewayDataHolder {
         this.urlMap = configurations;
     }
 
+    private GatewayExecutorPipeline createExecutorPipeline(Map<String, Object> configurations) {
+
+        Object concurrencyEnabled = configurations.get(FinancialServicesConstants.EXECUTOR_CONCURRENCY_ENABLED);
+        if (concurrencyEnabled == null || !Boolean.parseBoolean(concurrencyEnabled.toString())) {
+            return new GatewayExecutorPipeline(null);
+        }
+        Object poolSize = configurations.get(FinancialServicesConstants.EXECUTOR_CONCURRENCY_POOL_SIZE);
+        Object useVirtualThreads = configurations.get(FinancialServicesConstants.EXECUTOR_CONCURRENCY_VIRTUAL_THREADS);
+        return new GatewayExecutorPipeline(GatewayExecutorPipeline.createAsyncExecutor(
+                poolSize == null ? Runtime.getRuntime().availableProcessors() * 2 :
+                        Integer.parseInt(poolSize.toString().trim()),
+                useVirtualThreads != null && Boolean.parseBoolean(useVirtualThreads.toString())));
+    }
+
     private Map<String, Object> constructURLMap() {
 
         Map<String, Object> urlMap = new HashMap<>();
@@ -44,12 +44,14 @@ public class GatewayServiceComponent {
     @Activate
     protected void activate(ComponentContext context) {
 
+        GatewayDataHolder.getAPIRouteIndex().start(GatewayDataHolder.getInstance().getAPIRouteIndexRefreshInterval());
         log.debug("Financial services gateway component is activated ");
     }
 
     @Deactivate
     protected void deactivate(ComponentContext context) {
 
+        GatewayDataHolder.getAPIRouteIndex().stop();
         log.debug("Financial services gateway component is deactivated ");
     }
 
@@ -44,8 +44,14 @@ public class GatewayConstants {
     public static final String GET_HTTP_METHOD = "GET";
     public static final String PATCH_HTTP_METHOD = "PATCH";
     public static final String DELETE_HTTP_METHOD = "DELETE";
+    public static final String HEAD_HTTP_METHOD = "HEAD";
     public static final String PUBLISHER_API_PATH = "api/am/publisher/apis/";
     public static final String SWAGGER_ENDPOINT = "/swagger";
+    public static final int PUBLISHER_API_PAGE_SIZE = 100;
+    public static final String LIMIT = "limit";
+    public static final String OFFSET = "offset";
+    public static final String LIST = "list";
+    public static final String ID = "id";
     public static final String API_KEY_VALIDATOR_USERNAME = "APIKeyValidator.Username";
     public static final String API_KEY_VALIDATOR_PASSWORD = "APIKeyValidator.Password";
     public static final String API_TYPE_CONSENT = "consent";
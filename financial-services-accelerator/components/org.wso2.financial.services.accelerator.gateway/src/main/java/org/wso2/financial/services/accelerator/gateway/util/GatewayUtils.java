@@ -24,13 +24,15 @@ import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.proc.BadJOSEException;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
-import io.swagger.parser.OpenAPIParser;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
 import org.apache.http.client.utils.URIBuilder;
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.json.XML;
@@ -40,7 +42,7 @@ import org.wso2.financial.services.accelerator.common.exception.FinancialService
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
 import org.wso2.financial.services.accelerator.common.util.Generated;
 import org.wso2.financial.services.accelerator.common.util.JWTUtils;
-import org.wso2.financial.services.accelerator.gateway.cache.GatewayCacheKey;
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 
@@ -52,6 +54,7 @@ import java.net.URISyntaxException;
 import java.nio.charset.StandardCharsets;
 import java.text.ParseException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
@@ -143,26 +146,80 @@ public class GatewayUtils {
     }
 
     /**
-     * Retrieve OpenAPI definition from the cache or from the publisher API.
+     * Method to obtain the IDs of the APIs from publisher API.
+     *
+     * @return IDs of the APIs
+     */
+    @Generated(message = "Cannot test without running APIM. Integration test will be written for this")
+    public static List<String> getPublisherAPIIds() {
+
+        String publisherHostName =
+                GatewayDataHolder.getInstance().getFinancialServicesConfigurationService()
+                        .getConfigurations()
+                        .get(FinancialServicesConstants.PUBLISHER_HOSTNAME).toString();
+
+        String publisherAPIURL = publisherHostName.endsWith(GatewayConstants.SLASH) ?
+                publisherHostName + GatewayConstants.PUBLISHER_API_PATH :
+                publisherHostName + GatewayConstants.SLASH + GatewayConstants.PUBLISHER_API_PATH;
+        String authHeader = GatewayUtils.getBasicAuthHeader(
+                getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_USERNAME),
+                getAPIMgtConfig(GatewayConstants.API_KEY_VALIDATOR_PASSWORD));
+        List<String> apiIds = new ArrayList<>();
+        try {
+            int offset = 0;
+            while (true) {
+                URIBuilder uriBuilder = new URIBuilder(publisherAPIURL)
+                        .addParameter(GatewayConstants.LIMIT, String.valueOf(GatewayConstants.PUBLISHER_API_PAGE_SIZE))
+                        .addParameter(GatewayConstants.OFFSET, String.valueOf(offset));
+                HttpGet httpGet = new HttpGet(uriBuilder.build().toString());
+                httpGet.setHeader(GatewayConstants.AUTH_HEADER, authHeader);
+                JSONArray apis;
+                try (CloseableHttpResponse response = GatewayDataHolder.getHttpClient().execute(httpGet)) {
+                    String body = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+                    if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                        throw new FinancialServicesRuntimeException(String.format("Failed to retrieve APIs from " +
+                                "publisher. Status code: %d", response.getStatusLine().getStatusCode()));
+                    }
+                    apis = new JSONObject(body).optJSONArray(GatewayConstants.LIST);
+                }
+                if (apis == null) {
+                    return apiIds;
+                }
+                for (int i = 0; i < apis.length(); i++) {
+                    apiIds.add(apis.getJSONObject(i).getString(GatewayConstants.ID));
+                }
+                if (apis.length() < GatewayConstants.PUBLISHER_API_PAGE_SIZE) {
+                    return apiIds;
+                }
+                offset += apis.length();
+            }
+        } catch (IOException | FinancialServicesException | URISyntaxException | JSONException e) {
+            throw new FinancialServicesRuntimeException("Failed to retrieve APIs from publisher", e);
+        }
+    }
+
+    /**
+     * Retrieve the compiled route of the API from the route index.
+     *
+     * @param requestContextDTO  Request context DTO
+     * @return compiled route of the API
+     */
+    @Generated(message = "Excluding from unit tests since it includes route index initialization")
+    public static APIRoute retrieveAPIRoute(RequestContextDTO requestContextDTO) {
+
+        return GatewayDataHolder.getAPIRouteIndex().getRoute(requestContextDTO.getApiRequestInfo().getApiId());
+    }
+
+    /**
+     * Retrieve OpenAPI definition from the route index.
      *
      * @param requestContextDTO  Request context DTO
      * @return OpenAPI definition
      */
-    @Generated(message = "Excluding from unit tests since it includes cache initialization")
+    @Generated(message = "Excluding from unit tests since it includes route index initialization")
     public static OpenAPI retrieveOpenAPI(RequestContextDTO requestContextDTO) {
 
-        String apiId = requestContextDTO.getApiRequestInfo().getApiId();
-        Object cacheObject = GatewayDataHolder.getGatewayCache()
-                .getFromCache(GatewayCacheKey.of(apiId));
-        if (cacheObject == null) {
-            String swaggerDefinition = GatewayUtils.getSwaggerDefinition(apiId);
-            OpenAPIParser parser = new OpenAPIParser();
-            OpenAPI openAPIDefinition =  parser.readContents(swaggerDefinition, null, null).getOpenAPI();
-            GatewayDataHolder.getGatewayCache().addToCache(GatewayCacheKey.of(apiId), openAPIDefinition);
-            return openAPIDefinition;
-        }
-
-        return (OpenAPI) cacheObject;
+        return retrieveAPIRoute(requestContextDTO).getOpenAPI();
     }
 
     /**
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test class for ConsentValidationResultCache.
+ */
+public class ConsentValidationResultCacheTest {
+
+    private static final String CONTEXT = "/open-banking/v3.1/aisp";
+
+    @Test
+    public void testCachedResultIsReturned() {
+
+        ConsentValidationResultCache cache = new ConsentValidationResultCache(30, 10);
+        String consentId = UUID.randomUUID().toString();
+        String cacheKey = getCacheKey("/accounts");
+
+        Assert.assertNull(cache.get(consentId, cacheKey));
+        cache.put(consentId, cacheKey, "consent-info");
+
+        ConsentValidationResultCache.CachedConsentValidationResult result = cache.get(consentId, cacheKey);
+        Assert.assertNotNull(result);
+        Assert.assertEquals(result.getConsentInformation(), "consent-info");
+        Assert.assertEquals(cache.getHitCount(), 1);
+        Assert.assertEquals(cache.getMissCount(), 1);
+        Assert.assertEquals(cache.getHitRatio(), 0.5);
+    }
+
+    @Test
+    public void testCacheKeyDependsOnResource() {
+
+        Assert.assertEquals(getCacheKey("/accounts"), getCacheKey("/accounts"));
+        Assert.assertNotEquals(getCacheKey("/accounts/1"), getCacheKey("/accounts/2"));
+    }
+
+    @Test
+    public void testInvalidateRemovesAllResultsOfConsent() {
+
+        ConsentValidationResultCache cache = new ConsentValidationResultCache(30, 10);
+        String consentId = UUID.randomUUID().toString();
+        String otherConsentId = UUID.randomUUID().toString();
+        cache.put(consentId, getCacheKey("/accounts"), null);
+        cache.put(consentId, getCacheKey("/balances"), null);
+        cache.put(otherConsentId, getCacheKey("/accounts"), null);
+
+        cache.invalidate(consentId);
+
+        Assert.assertNull(cache.get(consentId, getCacheKey("/accounts")));
+        Assert.assertNull(cache.get(consentId, getCacheKey("/balances")));
+        Assert.assertNotNull(cache.get(otherConsentId, getCacheKey("/accounts")));
+        Assert.assertEquals(cache.size(), 1);
+        Assert.assertEquals(cache.getInvalidationCount(), 1);
+    }
+
+    @Test
+    public void testExpiredResultIsNotReturned() {
+
+        ConsentValidationResultCache cache = new ConsentValidationResultCache(-1, 10);
+        String consentId = UUID.randomUUID().toString();
+        cache.put(consentId, getCacheKey("/accounts"), null);
+
+        Assert.assertNull(cache.get(consentId, getCacheKey("/accounts")));
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    @Test
+    public void testTimeToLiveIsCapped() {
+
+        Assert.assertEquals(new ConsentValidationResultCache(30, 10).getTimeToLiveSeconds(), 30);
+        Assert.assertEquals(new ConsentValidationResultCache(3600, 10).getTimeToLiveSeconds(),
+                ConsentValidationResultCache.MAX_TIME_TO_LIVE_SECONDS);
+    }
+
+    @Test
+    public void testCacheIsBounded() {
+
+        ConsentValidationResultCache cache = new ConsentValidationResultCache(30, 2);
+        for (int i = 0; i < 5; i++) {
+            cache.put(UUID.randomUUID().toString(), getCacheKey("/accounts"), null);
+        }
+        Assert.assertEquals(cache.size(), 2);
+    }
+
+    @Test
+    public void testSizeIsConsistentWithConcurrentPutAndInvalidate() throws Exception {
+
+        ConsentValidationResultCache cache = new ConsentValidationResultCache(30, 100000);
+        String consentId = UUID.randomUUID().toString();
+        int threadCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount * 2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < threadCount; thread++) {
+            List<String> cacheKeys = new ArrayList<>();
+            for (int i = 0; i < 20000; i++) {
+                cacheKeys.add(getCacheKey("/accounts/" + thread + "/" + i));
+            }
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (String cacheKey : cacheKeys) {
+                    cache.put(consentId, cacheKey, null);
+                }
+                return null;
+            }));
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 20000; i++) {
+                    cache.invalidate(consentId);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        try {
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        cache.invalidate(consentId);
+        Assert.assertEquals(cache.size(), 0);
+    }
+
+    private static String getCacheKey(String resource) {
+
+        return ConsentValidationResultCache.getCacheKey("client-id", "admin@wso2.com", "/accounts", resource,
+                "GET", CONTEXT);
+    }
+}
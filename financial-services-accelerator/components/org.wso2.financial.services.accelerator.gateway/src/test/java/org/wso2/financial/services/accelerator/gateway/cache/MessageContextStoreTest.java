@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.cache;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Test for message context store.
+ */
+public class MessageContextStoreTest {
+
+    @Test
+    public void testStoreAndRemove() {
+
+        MessageContextStore<String> store = new MessageContextStore<>(60, 10);
+
+        Assert.assertTrue(store.put("message-1", "context-1"));
+        Assert.assertEquals(store.get("message-1"), "context-1");
+        Assert.assertEquals(store.remove("message-1"), "context-1");
+        Assert.assertNull(store.get("message-1"));
+        Assert.assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testEntriesExpire() {
+
+        AtomicLong clock = new AtomicLong(1000);
+        MessageContextStore<String> store = new MessageContextStore<>(60, 10, clock::get);
+        store.put("message-1", "context-1");
+
+        clock.addAndGet(59000);
+        Assert.assertEquals(store.get("message-1"), "context-1");
+
+        clock.addAndGet(2000);
+        Assert.assertNull(store.get("message-1"));
+        Assert.assertEquals(store.size(), 0);
+    }
+
+    @Test
+    public void testPutRestartsTimeToLive() {
+
+        AtomicLong clock = new AtomicLong(1000);
+        MessageContextStore<String> store = new MessageContextStore<>(60, 10, clock::get);
+        store.put("message-1", "context-1");
+
+        clock.addAndGet(50000);
+        store.put("message-1", "context-1");
+        clock.addAndGet(50000);
+
+        Assert.assertEquals(store.get("message-1"), "context-1");
+    }
+
+    @Test
+    public void testExpiredEntriesAreSwept() {
+
+        AtomicLong clock = new AtomicLong(1000);
+        MessageContextStore<String> store = new MessageContextStore<>(60, 10, clock::get);
+        store.put("message-1", "context-1");
+        store.put("message-2", "context-2");
+
+        clock.addAndGet(61000);
+        store.put("message-3", "context-3");
+
+        Assert.assertEquals(store.size(), 1);
+    }
+
+    @Test
+    public void testStoreIsBounded() {
+
+        AtomicLong clock = new AtomicLong(1000);
+        MessageContextStore<String> store = new MessageContextStore<>(60, 2, clock::get);
+        Assert.assertTrue(store.put("message-1", "context-1"));
+        Assert.assertTrue(store.put("message-2", "context-2"));
+
+        Assert.assertFalse(store.put("message-3", "context-3"));
+        Assert.assertTrue(store.put("message-2", "context-2"));
+        Assert.assertNull(store.get("message-3"));
+
+        clock.addAndGet(30000);
+        store.remove("message-1");
+        Assert.assertTrue(store.put("message-3", "context-3"));
+        Assert.assertEquals(store.size(), 2);
+    }
+}
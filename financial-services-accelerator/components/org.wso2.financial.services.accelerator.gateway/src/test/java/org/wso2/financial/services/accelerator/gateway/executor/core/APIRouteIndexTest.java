@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.core;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesRuntimeException;
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
+import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for API route index.
+ */
+public class APIRouteIndexTest {
+
+    private static final String ACCOUNTS_API_DEFINITION = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Accounts\"," +
+            "\"version\":\"1.0\"},\"paths\":{\"/accounts\":{\"get\":{\"responses\":{\"200\":" +
+            "{\"description\":\"OK\"}}}}}}";
+    private static final String ACCOUNTS_API_DEFINITION_V2 = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":" +
+            "\"Accounts\",\"version\":\"1.0\"},\"paths\":{\"/accounts\":{\"get\":{\"responses\":{\"200\":" +
+            "{\"description\":\"OK\"}}}},\"/accounts/{accountId}\":{\"get\":{\"responses\":{\"200\":" +
+            "{\"description\":\"OK\"}}}}}}";
+    private static final String CONSENT_API_DEFINITION = "{\"openapi\":\"3.0.1\",\"info\":{\"title\":\"Consent\"," +
+            "\"version\":\"1.0\"},\"x-wso2-api-type\":\"consent\",\"paths\":{\"/consents\":{\"post\":" +
+            "{\"responses\":{\"201\":{\"description\":\"Created\"}}}}}}";
+
+    @Test
+    public void testCompileRoute() {
+
+        APIRoute route = APIRoute.compile("accounts", ACCOUNTS_API_DEFINITION);
+
+        Assert.assertEquals(route.getApiId(), "accounts");
+        Assert.assertEquals(route.getRevision(), APIRoute.getRevision(ACCOUNTS_API_DEFINITION));
+        Assert.assertNull(route.getApiType());
+        Assert.assertEquals(route.getResourceTemplates(), Collections.singleton("GET /accounts"));
+        Assert.assertEquals(route.getExecutorType("/accounts"), GatewayConstants.EXECUTOR_TYPE_DEFAULT);
+        Assert.assertEquals(route.getExecutorType("/register"), GatewayConstants.EXECUTOR_TYPE_DCR);
+    }
+
+    @Test
+    public void testCompileConsentRoute() {
+
+        APIRoute route = APIRoute.compile("consent", CONSENT_API_DEFINITION);
+
+        Assert.assertEquals(route.getApiType(), GatewayConstants.API_TYPE_CONSENT);
+        Assert.assertEquals(route.getExecutorType("/consents"), GatewayConstants.EXECUTOR_TYPE_CONSENT);
+    }
+
+    @Test(expectedExceptions = FinancialServicesRuntimeException.class)
+    public void testCompileInvalidDefinition() {
+
+        APIRoute.compile("invalid", "not a definition");
+    }
+
+    @Test
+    public void testRouteIsCompiledOnce() {
+
+        AtomicInteger loads = new AtomicInteger();
+        APIRouteIndex index = new APIRouteIndex(apiId -> {
+            loads.incrementAndGet();
+            return ACCOUNTS_API_DEFINITION;
+        }, Collections::emptyList);
+
+        APIRoute route = index.getRoute("accounts");
+
+        Assert.assertSame(index.getRoute("accounts"), route);
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void testConcurrentRequestsShareCompilation() throws Exception {
+
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        APIRouteIndex index = new APIRouteIndex(apiId -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return ACCOUNTS_API_DEFINITION;
+        }, Collections::emptyList);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<APIRoute> first = executor.submit(() -> index.getRoute("accounts"));
+            Assert.assertTrue(loading.await(5, TimeUnit.SECONDS));
+            Future<APIRoute> second = executor.submit(() -> index.getRoute("accounts"));
+            Future<APIRoute> third = executor.submit(() -> index.getRoute("accounts"));
+            release.countDown();
+
+            APIRoute route = first.get(5, TimeUnit.SECONDS);
+            Assert.assertSame(second.get(5, TimeUnit.SECONDS), route);
+            Assert.assertSame(third.get(5, TimeUnit.SECONDS), route);
+            Assert.assertEquals(loads.get(), 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testRefreshCompilesPublishedAPIs() {
+
+        Map<String, String> definitions = new HashMap<>();
+        definitions.put("accounts", ACCOUNTS_API_DEFINITION);
+        definitions.put("consent", CONSENT_API_DEFINITION);
+        APIRouteIndex index = new APIRouteIndex(definitions::get, () -> Arrays.asList("accounts", "consent"));
+
+        index.refresh();
+
+        Assert.assertEquals(index.getIndexedAPIIds().size(), 2);
+        Assert.assertEquals(index.getRoute("consent").getApiType(), GatewayConstants.API_TYPE_CONSENT);
+    }
+
+    @Test
+    public void testRefreshRecompilesOnlyChangedRoutes() {
+
+        Map<String, String> definitions = new ConcurrentHashMap<>();
+        definitions.put("accounts", ACCOUNTS_API_DEFINITION);
+        definitions.put("consent", CONSENT_API_DEFINITION);
+        List<String> apiIds = Arrays.asList("accounts", "consent");
+        APIRouteIndex index = new APIRouteIndex(definitions::get, () -> apiIds);
+        index.refresh();
+        APIRoute accountsRoute = index.getRoute("accounts");
+        APIRoute consentRoute = index.getRoute("consent");
+
+        definitions.put("accounts", ACCOUNTS_API_DEFINITION_V2);
+        index.refresh();
+
+        APIRoute refreshedRoute = index.getRoute("accounts");
+        Assert.assertNotSame(refreshedRoute, accountsRoute);
+        Assert.assertEquals(refreshedRoute.getRevision(), APIRoute.getRevision(ACCOUNTS_API_DEFINITION_V2));
+        Assert.assertEquals(refreshedRoute.getResourceTemplates().size(), 2);
+        Assert.assertSame(index.getRoute("consent"), consentRoute);
+    }
+
+    @Test
+    public void testRefreshFailureKeepsCompiledRoute() {
+
+        Map<String, String> definitions = new ConcurrentHashMap<>();
+        definitions.put("accounts", ACCOUNTS_API_DEFINITION);
+        APIRouteIndex index = new APIRouteIndex(apiId -> {
+            String definition = definitions.get(apiId);
+            if (definition == null) {
+                throw new FinancialServicesRuntimeException("Publisher is unavailable");
+            }
+            return definition;
+        }, () -> {
+            throw new FinancialServicesRuntimeException("Publisher is unavailable");
+        });
+        APIRoute route = index.getRoute("accounts");
+
+        definitions.clear();
+        index.refresh();
+
+        Assert.assertSame(index.getRoute("accounts"), route);
+    }
+
+    @Test
+    public void testRefreshRemovesRoutesOfDeletedAPIs() {
+
+        Map<String, String> definitions = new ConcurrentHashMap<>();
+        definitions.put("accounts", ACCOUNTS_API_DEFINITION);
+        definitions.put("consent", CONSENT_API_DEFINITION);
+        List<String> apiIds = new ArrayList<>(Arrays.asList("accounts", "consent"));
+        APIRouteIndex index = new APIRouteIndex(definitions::get, () -> apiIds);
+        index.refresh();
+
+        apiIds.remove("accounts");
+        definitions.remove("accounts");
+        index.refresh();
+
+        Assert.assertEquals(index.getIndexedAPIIds(), Collections.singleton("consent"));
+    }
+
+    private static void await(CountDownLatch latch) {
+
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
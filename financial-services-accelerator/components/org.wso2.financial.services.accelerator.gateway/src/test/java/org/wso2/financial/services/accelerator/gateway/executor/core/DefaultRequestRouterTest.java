@@ -26,8 +26,11 @@ import org.testng.annotations.Test;
 import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
 import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
+import org.wso2.financial.services.accelerator.gateway.executor.impl.consent.ConsentValidationCacheInvalidationExecutor;
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 
 import java.util.ArrayList;
@@ -121,6 +124,65 @@ public class DefaultRequestRouterTest {
         Assert.assertNotNull(defaultRequestRouter.getExecutorsForResponse(obapiResponseContext));
     }
 
+    @Test(priority = 3)
+    public void testRequestsRoutedByCompiledRoute() {
+
+        OpenAPI regulatoryAPI = new OpenAPI();
+        FSAPIRequestContext obapiRequestContext = Mockito.mock(FSAPIRequestContext.class);
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setResource("/anyAPIcall/register");
+        Mockito.when(obapiRequestContext.getMsgInfo()).thenReturn(msgInfoDTO);
+        Mockito.when(obapiRequestContext.getAPIRoute()).thenReturn(APIRoute.of("dcr", "1", regulatoryAPI));
+        Assert.assertSame(defaultRequestRouter.getExecutorsForRequest(obapiRequestContext),
+                defaultRequestRouter.getExecutorMap().get(GatewayConstants.EXECUTOR_TYPE_DCR));
+
+        msgInfoDTO.setResource("/anyAPIcall");
+        Assert.assertSame(defaultRequestRouter.getExecutorsForRequest(obapiRequestContext),
+                defaultRequestRouter.getExecutorMap().get(GatewayConstants.EXECUTOR_TYPE_DEFAULT));
+        Mockito.verify(obapiRequestContext, Mockito.never()).getOpenAPI();
+    }
+
+    @Test(priority = 3)
+    public void testNonRegulatoryRequestsRoutedByCompiledRoute() {
+
+        OpenAPI nonRegulatoryAPI = new OpenAPI();
+        Map<String, Object> extensions = new HashMap<>();
+        extensions.put(GatewayConstants.API_TYPE_CUSTOM_PROP, GatewayConstants.API_TYPE_NON_REGULATORY);
+        nonRegulatoryAPI.setExtensions(extensions);
+        FSAPIRequestContext obapiRequestContext = Mockito.mock(FSAPIRequestContext.class);
+        MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+        msgInfoDTO.setResource("/anyAPIcall");
+        Mockito.when(obapiRequestContext.getMsgInfo()).thenReturn(msgInfoDTO);
+        Mockito.when(obapiRequestContext.getAPIRoute())
+                .thenReturn(APIRoute.of("nonRegulatory", "1", nonRegulatoryAPI));
+        Assert.assertEquals(defaultRequestRouter.getExecutorsForRequest(obapiRequestContext).size(), 0);
+        Mockito.verify(obapiRequestContext).addContextProperty(GatewayConstants.API_TYPE_CUSTOM_PROP,
+                GatewayConstants.API_TYPE_NON_REGULATORY);
+    }
+
+    @Test
+    public void testConsentValidationCacheInvalidationExecutorRegistration() {
+
+        DefaultRequestRouter router = new DefaultRequestRouter();
+        router.setExecutorMap(initExecutors());
+
+        GatewayDataHolder.getInstance().setConsentValidationCacheEnabled(false);
+        router.addConsentValidationCacheInvalidationExecutor();
+        Assert.assertNull(router.getExecutorMap().get(GatewayConstants.EXECUTOR_TYPE_CONSENT));
+
+        try {
+            GatewayDataHolder.getInstance().setConsentValidationCacheEnabled(true);
+            router.addConsentValidationCacheInvalidationExecutor();
+            router.addConsentValidationCacheInvalidationExecutor();
+        } finally {
+            GatewayDataHolder.getInstance().setConsentValidationCacheEnabled(false);
+        }
+        List<FinancialServicesGatewayExecutor> consentExecutors =
+                router.getExecutorMap().get(GatewayConstants.EXECUTOR_TYPE_CONSENT);
+        Assert.assertEquals(consentExecutors.size(), 1);
+        Assert.assertTrue(consentExecutors.get(0) instanceof ConsentValidationCacheInvalidationExecutor);
+    }
+
     public static Map<String, List<FinancialServicesGatewayExecutor>> initExecutors() {
 
         Map<String, List<FinancialServicesGatewayExecutor>> executors = new HashMap<>();
@@ -24,16 +24,25 @@ import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
+import org.wso2.carbon.apimgt.common.gateway.dto.APIRequestInfoDTO;
 import org.wso2.carbon.apimgt.common.gateway.dto.ExtensionResponseDTO;
 import org.wso2.carbon.apimgt.common.gateway.dto.ExtensionResponseStatus;
 import org.wso2.carbon.apimgt.common.gateway.dto.MsgInfoDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.RequestContextDTO;
+import org.wso2.carbon.apimgt.common.gateway.dto.ResponseContextDTO;
 import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
 import org.wso2.financial.services.accelerator.gateway.util.GatewayConstants;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * Test for FS extension implementation.
@@ -230,4 +239,76 @@ public class FSExtensionImplTest {
 
     }
 
+    @Test(priority = 2)
+    public void testResponseHooksReadPropertiesAfterFailedRequestHook() {
+
+        List<Object> responseHookProperties = new ArrayList<>();
+        FinancialServicesGatewayExecutor requestExecutor = new MockFSExecutor() {
+
+            @Override
+            public void preProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+                fsapiRequestContext.addContextProperty("consentType", "accounts");
+            }
+
+            @Override
+            public void postProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+                fsapiRequestContext.addContextProperty("consentType", "payments");
+                fsapiRequestContext.setError(true);
+            }
+        };
+        FinancialServicesGatewayExecutor responseExecutor = new MockFSExecutor() {
+
+            @Override
+            public void preProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+                responseHookProperties.add(fsapiResponseContext.getContextProperty("consentType"));
+            }
+
+            @Override
+            public void postProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+                responseHookProperties.add(fsapiResponseContext.getContextProperty("consentType"));
+            }
+        };
+        AbstractRequestRouter requestRouter = Mockito.mock(AbstractRequestRouter.class);
+        Mockito.when(requestRouter.getExecutorsForRequest(Mockito.any()))
+                .thenReturn(Collections.singletonList(requestExecutor));
+        Mockito.when(requestRouter.getExecutorsForResponse(Mockito.any()))
+                .thenReturn(Collections.singletonList(responseExecutor));
+
+        GatewayDataHolder dataHolder = GatewayDataHolder.getInstance();
+        AbstractRequestRouter configuredRequestRouter = dataHolder.getRequestRouter();
+        dataHolder.setRequestRouter(requestRouter);
+        dataHolder.setAPIRouteIndex(Mockito.mock(APIRouteIndex.class));
+        try {
+            String messageId = UUID.randomUUID().toString();
+            MsgInfoDTO msgInfoDTO = new MsgInfoDTO();
+            msgInfoDTO.setMessageId(messageId);
+            msgInfoDTO.setHeaders(new HashMap<>());
+            APIRequestInfoDTO apiRequestInfoDTO = new APIRequestInfoDTO();
+            apiRequestInfoDTO.setApiId("1234");
+            RequestContextDTO requestContextDTO = new RequestContextDTO();
+            requestContextDTO.setMsgInfo(msgInfoDTO);
+            requestContextDTO.setApiRequestInfo(apiRequestInfoDTO);
+            ResponseContextDTO responseContextDTO = new ResponseContextDTO();
+            responseContextDTO.setMsgInfo(msgInfoDTO);
+            responseContextDTO.setApiRequestInfo(apiRequestInfoDTO);
+            responseContextDTO.setStatusCode(HttpStatus.SC_OK);
+
+            Assert.assertEquals(fsExtensionListener.preProcessRequest(requestContextDTO).getResponseStatus(),
+                    ExtensionResponseStatus.CONTINUE.toString());
+            Assert.assertEquals(fsExtensionListener.postProcessRequest(requestContextDTO).getResponseStatus(),
+                    ExtensionResponseStatus.RETURN_ERROR.toString());
+            fsExtensionListener.preProcessResponse(responseContextDTO);
+            fsExtensionListener.postProcessResponse(responseContextDTO);
+
+            Assert.assertEquals(responseHookProperties, Arrays.asList("accounts", "accounts"));
+            Assert.assertNull(GatewayDataHolder.getMessageContextStore().get(messageId));
+        } finally {
+            dataHolder.setRequestRouter(configuredRequestRouter);
+            dataHolder.setAPIRouteIndex(null);
+        }
+    }
 }
@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.core;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
+import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test for the gateway executor pipeline.
+ */
+public class GatewayExecutorPipelineTest {
+
+    private final FSAPIRequestContext requestContext = mock(FSAPIRequestContext.class);
+    private ExecutorService asyncExecutor;
+
+    @BeforeClass
+    public void beforeClass() {
+
+        asyncExecutor = GatewayExecutorPipeline.createAsyncExecutor(4, false);
+    }
+
+    @AfterClass
+    public void afterClass() {
+
+        asyncExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testExecutorsRunInOrder() {
+
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        GatewayExecutorPipeline pipeline = new GatewayExecutorPipeline(null);
+
+        pipeline.executeAndJoin(Arrays.asList(new RecordingExecutor("first", calls),
+                new RecordingExecutor("second", calls), new RecordingExecutor("third", calls)), requestContext,
+                (executor, context) -> executor.postProcessRequestAsync(context));
+
+        Assert.assertEquals(calls, Arrays.asList("first", "second", "third"));
+    }
+
+    @Test
+    public void testSequentialPipelineRunsOnCallingThread() {
+
+        Thread caller = Thread.currentThread();
+        List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        GatewayExecutorPipeline pipeline = new GatewayExecutorPipeline(null);
+
+        pipeline.executeAndJoin(Arrays.asList(new BarrierExecutor(null, threads),
+                new BarrierExecutor(null, threads)), requestContext,
+                (executor, context) -> executor.postProcessRequestAsync(context));
+
+        Assert.assertEquals(threads, Arrays.asList(caller, caller));
+    }
+
+    @Test(timeOut = 10000)
+    public void testIndependentExecutorsRunConcurrently() {
+
+        // Each executor waits for the other one, so the chain only completes if both run at the same time
+        CountDownLatch latch = new CountDownLatch(2);
+        List<String> calls = Collections.synchronizedList(new ArrayList<>());
+        GatewayExecutorPipeline pipeline = new GatewayExecutorPipeline(asyncExecutor);
+
+        pipeline.executeAndJoin(Arrays.asList(new BarrierExecutor(latch, new ArrayList<>()),
+                new BarrierExecutor(latch, new ArrayList<>()), new RecordingExecutor("last", calls)),
+                requestContext,
+                (executor, context) -> executor.postProcessRequestAsync(context));
+
+        Assert.assertEquals(latch.getCount(), 0);
+        Assert.assertEquals(calls, Collections.singletonList("last"));
+    }
+
+    @Test(expectedExceptions = IllegalStateException.class)
+    public void testExecutorExceptionIsRethrown() {
+
+        List<String> calls = new ArrayList<>();
+        GatewayExecutorPipeline pipeline = new GatewayExecutorPipeline(null);
+        FinancialServicesGatewayExecutor failingExecutor = new RecordingExecutor("failing", calls) {
+            @Override
+            public void postProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+                throw new IllegalStateException("Executor failure");
+            }
+        };
+
+        try {
+            pipeline.executeAndJoin(Arrays.asList(failingExecutor, new RecordingExecutor("skipped", calls)),
+                    requestContext,
+                    (executor, context) -> executor.postProcessRequestAsync(context));
+        } finally {
+            Assert.assertTrue(calls.isEmpty());
+        }
+    }
+
+    private static class RecordingExecutor implements FinancialServicesGatewayExecutor {
+
+        private final String name;
+        private final List<String> calls;
+
+        RecordingExecutor(String name, List<String> calls) {
+
+            this.name = name;
+            this.calls = calls;
+        }
+
+        @Override
+        public void preProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+        }
+
+        @Override
+        public void postProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+            calls.add(name);
+        }
+
+        @Override
+        public void preProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+        }
+
+        @Override
+        public void postProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+        }
+    }
+
+    private static class BarrierExecutor implements IndependentGatewayExecutor {
+
+        private final CountDownLatch latch;
+        private final List<Thread> threads;
+
+        BarrierExecutor(CountDownLatch latch, List<Thread> threads) {
+
+            this.latch = latch;
+            this.threads = threads;
+        }
+
+        @Override
+        public void preProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+        }
+
+        @Override
+        public void postProcessRequest(FSAPIRequestContext fsapiRequestContext) {
+
+            threads.add(Thread.currentThread());
+            if (latch != null) {
+                latch.countDown();
+                try {
+                    if (!latch.await(5, TimeUnit.SECONDS)) {
+                        throw new IllegalStateException("Executors did not run concurrently");
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public void preProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+        }
+
+        @Override
+        public void postProcessResponse(FSAPIResponseContext fsapiResponseContext) {
+
+        }
+    }
+}
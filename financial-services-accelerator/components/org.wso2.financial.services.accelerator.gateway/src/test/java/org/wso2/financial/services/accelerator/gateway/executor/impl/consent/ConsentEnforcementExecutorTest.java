@@ -20,8 +20,9 @@ package org.wso2.financial.services.accelerator.gateway.executor.impl.consent;
 
 import org.apache.commons.io.FileUtils;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.ResponseHandler;
 import org.apache.http.client.methods.CloseableHttpResponse;
-import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.client.methods.HttpUriRequest;
 import org.json.JSONObject;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
@@ -35,6 +36,9 @@ import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigurationService;
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.common.http.HTTPClientPool;
+import org.wso2.financial.services.accelerator.common.jws.JWSPayloadSigner;
 import org.wso2.financial.services.accelerator.common.util.HTTPClientUtils;
 import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
@@ -97,13 +101,16 @@ public class ConsentEnforcementExecutorTest {
         HttpEntity httpEntityMock = Mockito.mock(HttpEntity.class);
         Mockito.doReturn(inStream).when(httpEntityMock).getContent();
 
-        CloseableHttpClient httpClient = Mockito.mock(CloseableHttpClient.class);
+        HTTPClientPool httpClient = Mockito.mock(HTTPClientPool.class);
         CloseableHttpResponse httpResponse = Mockito.mock(CloseableHttpResponse.class);
         Mockito.doReturn(httpEntityMock).when(httpResponse).getEntity();
         Mockito.doReturn(httpResponse).when(httpClient).execute(Mockito.any());
+        Mockito.doAnswer(invocation -> invocation.<ResponseHandler<?>>getArgument(1).handleResponse(httpResponse))
+                .when(httpClient).execute(Mockito.any(HttpUriRequest.class), Mockito.any(ResponseHandler.class));
 
         httpClientUtilsMockedStatic = Mockito.mockStatic(HTTPClientUtils.class);
-        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpsClient()).thenReturn(httpClient);
+        httpClientUtilsMockedStatic.when(() -> HTTPClientUtils.getHttpClientPool(Mockito.anyString()))
+                .thenReturn(httpClient);
 
         consentEnforcementExecutor = new ConsentEnforcementExecutor();
     }
@@ -120,7 +127,7 @@ public class ConsentEnforcementExecutorTest {
     }
 
     @Test(priority = 2)
-    public void testJWTGeneration() {
+    public void testJWTGeneration() throws FinancialServicesException {
 
         String jwtToken = consentEnforcementExecutor.generateJWT(GatewayTestConstants.CUSTOM_PAYLOAD);
         Assert.assertNotNull(jwtToken);
@@ -128,6 +135,38 @@ public class ConsentEnforcementExecutorTest {
         Assert.assertEquals(parts.length, 3);
     }
 
+    @Test
+    public void testUnsignedPayloadSigner() throws FinancialServicesException {
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_ALG, "NONE");
+        JWSPayloadSigner signer = ConsentEnforcementExecutor.createPayloadSigner(configs);
+
+        Assert.assertFalse(signer.isSigned());
+        Assert.assertEquals(signer.sign(GatewayTestConstants.CUSTOM_PAYLOAD), GatewayTestConstants.CUSTOM_PAYLOAD);
+    }
+
+    @Test
+    public void testSharedSecretPayloadSigner() throws FinancialServicesException {
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_ALG, "HS256");
+        configs.put(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_SECRET,
+                "a-shared-secret-of-at-least-32-bytes-long");
+        JWSPayloadSigner signer = ConsentEnforcementExecutor.createPayloadSigner(configs);
+
+        Assert.assertEquals(signer.getAlgorithm().getName(), "HS256");
+        Assert.assertEquals(signer.sign(GatewayTestConstants.CUSTOM_PAYLOAD).split("\\.").length, 3);
+    }
+
+    @Test(expectedExceptions = FinancialServicesException.class)
+    public void testSharedSecretPayloadSignerWithoutSecret() throws FinancialServicesException {
+
+        Map<String, Object> configs = new HashMap<>();
+        configs.put(FinancialServicesConstants.CONSENT_VALIDATION_SIGNING_ALG, "HS256");
+        ConsentEnforcementExecutor.createPayloadSigner(configs);
+    }
+
     @Test(priority = 2)
     public void testValidationPayloadCreation() {
 
@@ -40,6 +40,7 @@ import org.wso2.financial.services.accelerator.common.config.FinancialServicesCo
 import org.wso2.financial.services.accelerator.common.constant.FinancialServicesConstants;
 import org.wso2.financial.services.accelerator.common.util.JWTUtils;
 import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
+import org.wso2.financial.services.accelerator.gateway.executor.model.APIRoute;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIRequestContext;
 import org.wso2.financial.services.accelerator.gateway.executor.model.FSAPIResponseContext;
 import org.wso2.financial.services.accelerator.gateway.internal.GatewayDataHolder;
@@ -104,6 +105,8 @@ public class DCRExecutorTest {
                 .thenReturn("");
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.retrieveOpenAPI(any()))
                 .thenReturn(new OpenAPI());
+        gatewayUtilsMockedStatic.when(() -> GatewayUtils.retrieveAPIRoute(any()))
+                .thenReturn(APIRoute.of("apiId", "revision", new OpenAPI()));
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.constructDCRResponseForCreate(any()))
                 .thenReturn(GatewayTestConstants.IS_DCR_RESPONSE);
         gatewayUtilsMockedStatic.when(() -> GatewayUtils.constructDCRResponseForRetrieval(any()))
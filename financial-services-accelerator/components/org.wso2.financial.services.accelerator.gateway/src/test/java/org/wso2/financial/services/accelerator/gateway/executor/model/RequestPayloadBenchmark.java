@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation to serve the payload of a bulk payment file of 1000 payments to three executors, comparing a
+ * payload parsed by every executor with the payload shared through the request context. Not part of the unit test
+ * suite, run the main method with the test classpath and add the GC profiler to compare the allocation rates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPayloadBenchmark {
+
+    private static final int PAYMENTS = 1000;
+    private static final int EXECUTORS = 3;
+
+    private String payload;
+
+    @Setup
+    public void setup() {
+
+        JSONArray payments = new JSONArray();
+        for (int i = 0; i < PAYMENTS; i++) {
+            payments.put(new JSONObject()
+                    .put("InstructionIdentification", "instruction-" + i)
+                    .put("EndToEndIdentification", "end-to-end-" + i)
+                    .put("InstructedAmount", new JSONObject().put("Amount", "165.88").put("Currency", "GBP"))
+                    .put("CreditorAccount", new JSONObject()
+                            .put("SchemeName", "UK.OBIE.SortCodeAccountNumber")
+                            .put("Identification", "08080021325698")
+                            .put("Name", "ACME Inc")));
+        }
+        payload = new JSONObject().put("Data", new JSONObject().put("Payments", payments)).toString();
+    }
+
+    @Benchmark
+    public int parsedByEveryExecutor() {
+
+        int payments = 0;
+        for (int i = 0; i < EXECUTORS; i++) {
+            payments += new JSONObject(payload).getJSONObject("Data").getJSONArray("Payments").length();
+        }
+        return payments;
+    }
+
+    @Benchmark
+    public int sharedPayload() throws FinancialServicesException {
+
+        RequestPayload requestPayload = new RequestPayload(() -> payload);
+        int payments = 0;
+        for (int i = 0; i < EXECUTORS; i++) {
+            payments += requestPayload.getJSON().getJSONObject("Data").getJSONArray("Payments").length();
+        }
+        return payments;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+
+        Options options = new OptionsBuilder()
+                .include(RequestPayloadBenchmark.class.getSimpleName())
+                .threads(1)
+                .build();
+        new Runner(options).run();
+    }
+}
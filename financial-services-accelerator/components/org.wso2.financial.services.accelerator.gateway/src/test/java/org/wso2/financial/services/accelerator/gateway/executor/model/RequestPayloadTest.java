@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.gateway.executor.model;
+
+import org.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
+import org.wso2.financial.services.accelerator.gateway.GatewayTestConstants;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test for request payload.
+ */
+public class RequestPayloadTest {
+
+    @Test
+    public void testPayloadIsReadOnFirstAccess() throws FinancialServicesException {
+
+        AtomicInteger reads = new AtomicInteger();
+        RequestPayload payload = new RequestPayload(() -> {
+            reads.incrementAndGet();
+            return GatewayTestConstants.CUSTOM_PAYLOAD;
+        });
+        Assert.assertEquals(reads.get(), 0);
+
+        Assert.assertEquals(payload.getText(), GatewayTestConstants.CUSTOM_PAYLOAD);
+        Assert.assertEquals(payload.getJSON().getString("custom"), "payload");
+        Assert.assertEquals(payload.getText(), GatewayTestConstants.CUSTOM_PAYLOAD);
+        Assert.assertEquals(reads.get(), 1);
+    }
+
+    @Test
+    public void testJSONViewIsShared() throws FinancialServicesException {
+
+        RequestPayload payload = new RequestPayload(() -> GatewayTestConstants.CUSTOM_PAYLOAD);
+
+        JSONObject json = payload.getJSON();
+        Assert.assertSame(payload.getJSON(), json);
+    }
+
+    @Test
+    public void testEmptyPayload() throws FinancialServicesException {
+
+        RequestPayload absentPayload = new RequestPayload(null);
+        Assert.assertNull(absentPayload.getText());
+        Assert.assertNull(absentPayload.getJSON());
+
+        RequestPayload nullPayload = new RequestPayload(() -> "null");
+        Assert.assertNull(nullPayload.getJSON());
+    }
+
+    @Test
+    public void testReadFailureIsNotRetried() {
+
+        AtomicInteger reads = new AtomicInteger();
+        RequestPayload payload = new RequestPayload(() -> {
+            reads.incrementAndGet();
+            throw new IOException("Stream closed");
+        });
+
+        Assert.assertThrows(FinancialServicesException.class, payload::getText);
+        Assert.assertThrows(FinancialServicesException.class, payload::getJSON);
+        Assert.assertEquals(reads.get(), 1);
+    }
+
+    @Test
+    public void testPrepareLeavesMalformedViewsToExecutors() throws FinancialServicesException {
+
+        RequestPayload payload = new RequestPayload(() -> "<xml/>");
+
+        payload.prepare(EnumSet.of(RequestPayload.View.JSON));
+
+        Assert.assertEquals(payload.getText(), "<xml/>");
+        Assert.assertThrows(org.json.JSONException.class, payload::getJSON);
+    }
+}
@@ -25,6 +25,7 @@ import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.Consen
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.ConsentAdminHandler;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.builder.ConsentAdminBuilder;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.ConsentAdminData;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.admin.model.StreamingResponsePayload;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionExporter;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
@@ -37,7 +38,9 @@ import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 
 /**
@@ -193,6 +196,22 @@ public class ConsentAdminEndpoint {
         return sendResponse(consentAdminData);
     }
 
+    /**
+     * Export consents, consent status audit records or consent amendment history as NDJSON or gzip compressed CSV.
+     */
+    @GET
+    @Path("/export")
+    @Consumes({ "application/x-www-form-urlencoded" })
+    @Produces({ "application/x-ndjson", "application/gzip", "application/json; charset=utf-8" })
+    public Response export(@Context HttpServletRequest request, @Context HttpServletResponse response,
+            @Context UriInfo uriInfo) {
+
+        ConsentAdminData consentAdminData = new ConsentAdminData(ConsentUtils.getHeaders(request),
+                uriInfo.getQueryParameters(), uriInfo.getAbsolutePath().getPath(), request, response);
+        consentAdminHandler.handleExport(consentAdminData);
+        return sendResponse(consentAdminData);
+    }
+
     /**
      * Method to send response using the payload and response status.
      * 
@@ -201,6 +220,18 @@ public class ConsentAdminEndpoint {
      */
     private Response sendResponse(ConsentAdminData consentAdminData) {
         if (consentAdminData.getResponseStatus() != null) {
+            StreamingResponsePayload streamingPayload = consentAdminData.getStreamingResponsePayload();
+            if (streamingPayload != null) {
+                Response.ResponseBuilder responseBuilder = Response
+                        .status(consentAdminData.getResponseStatus().getStatusCode())
+                        .type(streamingPayload.getContentType())
+                        .entity((StreamingOutput) streamingPayload::writeTo);
+                if (streamingPayload.getFileName() != null) {
+                    responseBuilder.header(HttpHeaders.CONTENT_DISPOSITION,
+                            "attachment; filename=\"" + streamingPayload.getFileName() + "\"");
+                }
+                return responseBuilder.build();
+            }
             if (consentAdminData.getResponsePayload() != null) {
                 return Response.status(consentAdminData.getResponseStatus().getStatusCode())
                         .entity(consentAdminData.getResponsePayload().toString()).build();
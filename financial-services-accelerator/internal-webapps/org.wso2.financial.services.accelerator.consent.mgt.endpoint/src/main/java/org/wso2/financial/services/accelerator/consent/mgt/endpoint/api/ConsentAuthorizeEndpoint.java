@@ -18,9 +18,6 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.endpoint.api;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
@@ -33,6 +30,7 @@ import org.wso2.financial.services.accelerator.common.config.FinancialServicesCo
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.common.exception.FinancialServicesException;
 import org.wso2.financial.services.accelerator.common.util.FinancialServicesUtils;
+import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.AuthorizationSessionStore;
 import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.ConsentCache;
 import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.ConsentConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils.ConsentUtils;
@@ -47,17 +45,14 @@ import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.Aut
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionExporter;
-import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
 import org.wso2.financial.services.accelerator.identity.extensions.util.IdentityCommonUtils;
 
 import java.io.Serializable;
 import java.net.URI;
 import java.net.URISyntaxException;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -90,8 +85,6 @@ public class ConsentAuthorizeEndpoint {
     private final List<String> scopeBasedConsentScopes;
     private static List<ConsentPersistStep> consentPersistSteps = null;
     private static List<ConsentRetrievalStep> consentRetrievalSteps = null;
-    private static final ConsentCoreServiceImpl consentCoreService = new ConsentCoreServiceImpl();
-    private static final Gson gson = new Gson();
 
     public ConsentAuthorizeEndpoint() {
 
@@ -232,15 +225,7 @@ public class ConsentAuthorizeEndpoint {
                     ConsentConstants.ERROR_SERVER_ERROR, state);
         }
         ConsentUtils.setCommonDataToResponse(consentData, jsonObject);
-        String consent = gson.toJson(consentData);
-        Map<String, String> authorizeData = new HashMap<>();
-        authorizeData.put(consentData.getSessionDataKey(), consent);
-        ConsentCache.addConsentDataToCache(sessionDataKey, consentData);
-        if (ConsentConstants.STORE_CONSENT) {
-            if (consentCoreService.getConsentAttributesByName(sessionDataKey).isEmpty()) {
-                consentCoreService.storeConsentAttributes(consentData.getConsentId(), authorizeData);
-            }
-        }
+        AuthorizationSessionStore.getInstance().put(sessionDataKey, consentData);
         return Response.ok(jsonObject.toString(), MediaType.APPLICATION_JSON).build();
     }
 
@@ -259,126 +244,84 @@ public class ConsentAuthorizeEndpoint {
         ConsentData consentData = ConsentCache.getConsentDataFromCache(sessionDataKey);
 
         /*
-        Remove consent data from the cache to prevent multiple calls to the persist endpoint.
+        Remove consent data from the session store to prevent multiple calls to the persist endpoint.
         This ensures the flow is completed and avoids further updates after a single persistence.
          */
-        ConsentCache.removeFromCache(sessionDataKey);
+        AuthorizationSessionStore.getInstance().remove(sessionDataKey, consentData);
 
-        URI location;
+        JSONObject payload;
         try {
-            if (consentData == null) {
-                if (ConsentConstants.STORE_CONSENT) {
-                    Map<String, String> consentDetailsMap = consentCoreService
-                            .getConsentAttributesByName(sessionDataKey);
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(consentData.getRedirectURI(),
-                                AuthErrorCode.SERVER_ERROR,
-                                "Unable to get consent data", consentData.getState());
-                    }
-                    Set<String> keys = consentDetailsMap.keySet();
-                    String consentId = new ArrayList<>(keys).get(0);
-                    JsonObject consentDetails = JsonParser.parseString(consentDetailsMap.get(consentId))
-                            .getAsJsonObject();
-                    consentData = ConsentUtils.getConsentDataFromAttributes(consentDetails, sessionDataKey);
-
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(consentData.getRedirectURI(),
-                                AuthErrorCode.SERVER_ERROR, "Unable to get consent data",
-                                consentData.getState());
-                    }
+            payload = ConsentUtils.getJSONObjectPayload(request);
+        } catch (ConsentException e) {
+            throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.SERVER_ERROR,
+                    ConsentConstants.ERROR_NO_DATA_IN_SESSION_CACHE, consentData.getState());
+        }
+        Map<String, String> headers = ConsentUtils.getHeaders(request);
+
+        if (payload == null) {
+            throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
+                    "Payload unavailable", consentData.getState());
+        }
+
+        boolean approval;
+        if (payload.has(ConsentExtensionConstants.APPROVAL)) {
+            try {
+                if (payload.get(ConsentExtensionConstants.APPROVAL) instanceof Boolean) {
+                    approval = (Boolean) payload.get(ConsentExtensionConstants.APPROVAL);
                 } else {
-                    throw new ConsentException(consentData.getRedirectURI(),
-                            AuthErrorCode.SERVER_ERROR, "Unable to get consent data",
-                            consentData.getState());
+                    approval = Boolean.parseBoolean((String) payload.get(ConsentExtensionConstants.APPROVAL));
                 }
-            }
-            JSONObject payload;
-            try {
-                payload = ConsentUtils.getJSONObjectPayload(request);
-            } catch (ConsentException e) {
-                throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.SERVER_ERROR,
-                        ConsentConstants.ERROR_NO_DATA_IN_SESSION_CACHE, consentData.getState());
-            }
-            Map<String, String> headers = ConsentUtils.getHeaders(request);
-
-            if (payload == null) {
+            } catch (ClassCastException e) {
+                log.error("Error while processing consent persistence approval", e);
                 throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
-                        "Payload unavailable", consentData.getState());
+                        ConsentConstants.ERROR_PERSIST_INVALID_APPROVAL, consentData.getState());
             }
 
-            boolean approval;
-            if (payload.has(ConsentExtensionConstants.APPROVAL)) {
-                try {
-                    if (payload.get(ConsentExtensionConstants.APPROVAL) instanceof Boolean) {
-                        approval = (Boolean) payload.get(ConsentExtensionConstants.APPROVAL);
-                    } else {
-                        approval = Boolean.parseBoolean((String) payload.get(ConsentExtensionConstants.APPROVAL));
-                    }
-                } catch (ClassCastException e) {
-                    log.error("Error while processing consent persistence approval", e);
-                    throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
-                            ConsentConstants.ERROR_PERSIST_INVALID_APPROVAL, consentData.getState());
-                }
+        } else {
+            throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
+                    ConsentConstants.ERROR_PERSIST_APPROVAL_MANDATORY, consentData.getState());
+        }
+
+        ConsentPersistData consentPersistData = new ConsentPersistData(payload, headers, approval, consentData);
 
+        if (payload.has(ConsentExtensionConstants.COOKIES)) {
+            Object cookies = payload.get(ConsentExtensionConstants.COOKIES);
+            if (cookies instanceof Map) {
+                consentPersistData.setBrowserCookies((Map<String, String>) cookies);
             } else {
-                throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
-                        ConsentConstants.ERROR_PERSIST_APPROVAL_MANDATORY, consentData.getState());
+                JSONObject cookiesJson = (JSONObject) cookies;
+                Map<String, String> cookiesMap = new HashMap<>();
+                cookiesJson.keySet().forEach(key -> {
+                    String value = cookiesJson.getString(key);
+                    cookiesMap.put(key, value);
+                });
+                consentPersistData.setBrowserCookies(cookiesMap);
             }
+        }
 
-            ConsentPersistData consentPersistData = new ConsentPersistData(payload, headers, approval, consentData);
-
-            if (payload.has(ConsentExtensionConstants.COOKIES)) {
-                Object cookies = payload.get(ConsentExtensionConstants.COOKIES);
-                if (cookies instanceof Map) {
-                    consentPersistData.setBrowserCookies((Map<String, String>) cookies);
-                } else {
-                    JSONObject cookiesJson = (JSONObject) cookies;
-                    Map<String, String> cookiesMap = new HashMap<>();
-                    cookiesJson.keySet().forEach(key -> {
-                        String value = cookiesJson.getString(key);
-                        cookiesMap.put(key, value);
-                    });
-                    consentPersistData.setBrowserCookies(cookiesMap);
-                }
-            }
+        executePersistence(consentPersistData);
 
-            executePersistence(consentPersistData);
-
-            if (!approval) {
-                throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.ACCESS_DENIED,
-                        "User denied the consent", consentData.getState());
-            } else if (authorize != null && !StringUtils.equals("true", authorize)) {
-                if (StringUtils.equals(StringUtils.EMPTY, authorize) || !StringUtils.equals("false", authorize)) {
-                    /*
-                     * "authorize" parameter comes as an empty string only when a value was not
-                     * defined for the parameter in
-                     * the URL. Throwing an error since a value must be present for the query
-                     * parameter. Also, the value should
-                     * only be true or false
-                     */
-                    throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
-                            ConsentConstants.ERROR_INVALID_VALUE_FOR_AUTHORIZE_PARAM, consentData.getState());
-                } else {
-                    return Response.ok().build();
-                }
+        URI location;
+        if (!approval) {
+            throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.ACCESS_DENIED,
+                    "User denied the consent", consentData.getState());
+        } else if (authorize != null && !StringUtils.equals("true", authorize)) {
+            if (StringUtils.equals(StringUtils.EMPTY, authorize) || !StringUtils.equals("false", authorize)) {
+                /*
+                 * "authorize" parameter comes as an empty string only when a value was not
+                 * defined for the parameter in
+                 * the URL. Throwing an error since a value must be present for the query
+                 * parameter. Also, the value should
+                 * only be true or false
+                 */
+                throw new ConsentException(consentData.getRedirectURI(), AuthErrorCode.INVALID_REQUEST,
+                        ConsentConstants.ERROR_INVALID_VALUE_FOR_AUTHORIZE_PARAM, consentData.getState());
             } else {
-                location = ConsentUtils.authorizeRequest(Boolean.toString(consentPersistData.getApproval()),
-                        consentPersistData.getBrowserCookies(), consentData);
-            }
-        } finally {
-            if (ConsentConstants.STORE_CONSENT && consentData != null) {
-                // remove all session data related to the consent from consent attributes
-                ArrayList<String> keysToDelete = new ArrayList<>();
-                Map<String, String> consentAttributes = consentCoreService
-                        .getConsentAttributes(consentData.getConsentId()).getConsentAttributes();
-                consentAttributes.forEach((key, value) -> {
-                    if (ConsentUtils.isValidJson(value) && value.contains("sessionDataKey")) {
-                        keysToDelete.add(key);
-                    }
-                });
-                consentCoreService.deleteConsentAttributes(consentData.getConsentId(),
-                        keysToDelete);
+                return Response.ok().build();
             }
+        } else {
+            location = ConsentUtils.authorizeRequest(Boolean.toString(consentPersistData.getApproval()),
+                    consentPersistData.getBrowserCookies(), consentData);
         }
 
         return Response.status(ConsentExtensionConstants.STATUS_FOUND).location(location).build();
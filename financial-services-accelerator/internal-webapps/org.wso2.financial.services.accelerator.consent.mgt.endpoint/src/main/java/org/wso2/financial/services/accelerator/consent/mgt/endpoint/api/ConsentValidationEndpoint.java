@@ -18,7 +18,9 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.endpoint.api;
 
+import com.nimbusds.jose.JWSAlgorithm;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.JSONException;
@@ -75,6 +77,7 @@ public class ConsentValidationEndpoint {
     private static final ConsentCoreServiceImpl consentCoreService = new ConsentCoreServiceImpl();
     private static ConsentValidator consentValidator = null;
     private static String requestSignatureAlias;
+    private static String requestSignatureSharedSecret;
 
     public ConsentValidationEndpoint() {
 
@@ -90,6 +93,7 @@ public class ConsentValidationEndpoint {
         if (consentValidateBuilder != null) {
             consentValidator = consentValidateBuilder.getConsentValidator();
             requestSignatureAlias = consentValidateBuilder.getRequestSignatureAlias();
+            requestSignatureSharedSecret = consentValidateBuilder.getRequestSignatureSharedSecret();
             log.info(String.format("Consent validator %s initialized",
                     consentValidator.getClass().getName().replaceAll("\n\r", "")));
         }
@@ -113,7 +117,12 @@ public class ConsentValidationEndpoint {
 
         if (ConsentUtils.getConsentJWTPayloadValidatorConfigEnabled()) {
             try {
-                JWTUtils.validateJWTSignatureWithPublicKey(payload, requestSignatureAlias);
+                if (StringUtils.isNotBlank(requestSignatureSharedSecret) && JWSAlgorithm.Family.HMAC_SHA
+                        .contains(JWTUtils.getSignedJWT(payload).getHeader().getAlgorithm())) {
+                    JWTUtils.validateJWTSignatureWithSharedSecret(payload, requestSignatureSharedSecret);
+                } else {
+                    JWTUtils.validateJWTSignatureWithPublicKey(payload, requestSignatureAlias);
+                }
                 String decodedRequest = JWTUtils.decodeRequestJWT(payload, ConsentExtensionConstants.BODY) != null
                         ? JWTUtils.decodeRequestJWT(payload, ConsentExtensionConstants.BODY)
                         : null;
@@ -127,7 +136,7 @@ public class ConsentValidationEndpoint {
             } catch (ConsentManagementException e) {
                 log.error("Error while validating JWT signature", e);
                 throw new ConsentException(ResponseStatus.BAD_REQUEST, e.getMessage());
-            } catch (JSONException | ParseException e) {
+            } catch (JSONException | ParseException | IllegalArgumentException e) {
                 log.error("Error while decoding validation JWT", e);
                 throw new ConsentException(ResponseStatus.BAD_REQUEST, e.getMessage());
             }
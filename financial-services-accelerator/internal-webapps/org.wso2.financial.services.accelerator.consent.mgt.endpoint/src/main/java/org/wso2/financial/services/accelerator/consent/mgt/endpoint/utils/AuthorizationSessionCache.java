@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils;
+
+import org.wso2.financial.services.accelerator.common.caching.FinancialServicesBaseCache;
+import org.wso2.financial.services.accelerator.common.config.FinancialServicesConfigParser;
+
+/**
+ * Cache of the encoded consent data of authorization sessions, keyed by the session data key.
+ * <p>
+ * The entries are held in the Carbon caching framework rather than the node local cache engine, so that they are
+ * shared with the other nodes of the cluster when distributed caching is enabled.
+ */
+public class AuthorizationSessionCache extends FinancialServicesBaseCache<ConsentCacheKey, byte[]> {
+
+    private static final String cacheName = "FS_AUTHORIZATION_SESSION_CACHE";
+    private static volatile AuthorizationSessionCache authorizationSessionCache;
+
+    private final int expiryMinutes;
+
+    /**
+     * Initialize with unique cache name.
+     */
+    public AuthorizationSessionCache() {
+
+        super(cacheName);
+        this.expiryMinutes = FinancialServicesConfigParser.getInstance().getAuthorizationSessionExpiryTime();
+    }
+
+    /**
+     * Get authorization session cache instance.
+     *
+     * @return authorization session cache instance
+     */
+    public static AuthorizationSessionCache getInstance() {
+
+        if (authorizationSessionCache == null) {
+            synchronized (AuthorizationSessionCache.class) {
+                if (authorizationSessionCache == null) {
+                    authorizationSessionCache = new AuthorizationSessionCache();
+                }
+            }
+        }
+        return authorizationSessionCache;
+    }
+
+    @Override
+    protected boolean isLocalCacheEnabled() {
+
+        return false;
+    }
+
+    @Override
+    public int getCacheAccessExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+
+    @Override
+    public int getCacheModifiedExpiryMinutes() {
+
+        return expiryMinutes;
+    }
+}
@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.model.ConsentData;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.util.ConsentDataCodec;
+import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
+import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Holds the consent data of authorization sessions between the consent retrieval and the consent persistence,
+ * keyed by the session data key.
+ * <p>
+ * The consent data is looked up in three tiers. The node local consent cache holds the consent data objects, so
+ * that the persistence on the node which served the retrieval does not decode them again. The authorization session
+ * cache holds the encoded consent data for the configured expiry time and is shared with the other nodes of the
+ * cluster. When the consent link is preserved, the encoded consent data is also spilled to the consent attributes
+ * once the consent ID is known, so that a session survives a restart or a node whose caches are not shared. The
+ * authorization session cache records the consent data spilled for each session, so that the spill is only written
+ * when it is missing or outdated. The database is only read when the consent data is not found in either cache.
+ */
+public class AuthorizationSessionStore {
+
+    private static final Log log = LogFactory.getLog(AuthorizationSessionStore.class);
+    private static final String SPILLED_SESSION_KEY_SUFFIX = "_spilled";
+    private static volatile AuthorizationSessionStore instance;
+
+    private final ConsentCache consentCache;
+    private final AuthorizationSessionCache authorizationSessionCache;
+    private final ConsentCoreService consentCoreService;
+    private final boolean spillEnabled;
+
+    public AuthorizationSessionStore(ConsentCache consentCache, AuthorizationSessionCache authorizationSessionCache,
+                                     ConsentCoreService consentCoreService, boolean spillEnabled) {
+
+        this.consentCache = consentCache;
+        this.authorizationSessionCache = authorizationSessionCache;
+        this.consentCoreService = consentCoreService;
+        this.spillEnabled = spillEnabled;
+    }
+
+    /**
+     * Get authorization session store instance.
+     *
+     * @return authorization session store instance
+     */
+    public static AuthorizationSessionStore getInstance() {
+
+        if (instance == null) {
+            synchronized (AuthorizationSessionStore.class) {
+                if (instance == null) {
+                    instance = new AuthorizationSessionStore(ConsentCache.getInstance(),
+                            AuthorizationSessionCache.getInstance(), new ConsentCoreServiceImpl(),
+                            ConsentConstants.STORE_CONSENT);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Store the consent data of an authorization session. The consent data is spilled to the database when the
+     * consent ID is known and the consent data has not been spilled for the session yet.
+     *
+     * @param sessionDataKey session data key
+     * @param consentData    consent data
+     * @throws ConsentManagementException if the consent data cannot be encoded or spilled to the database
+     */
+    public void put(String sessionDataKey, ConsentData consentData) throws ConsentManagementException {
+
+        ConsentCacheKey cacheKey = ConsentCacheKey.of(sessionDataKey);
+        byte[] encodedConsentData = ConsentDataCodec.encode(consentData);
+        consentCache.addToCache(cacheKey, consentData);
+        authorizationSessionCache.addToCache(cacheKey, encodedConsentData);
+        if (spillEnabled) {
+            spill(sessionDataKey, consentData.getConsentId(), encodedConsentData);
+        }
+    }
+
+    /**
+     * Get the consent data of an authorization session.
+     *
+     * @param sessionDataKey session data key
+     * @return consent data, or null if the session is not found
+     * @throws ConsentManagementException if the stored consent data cannot be read
+     */
+    public ConsentData get(String sessionDataKey) throws ConsentManagementException {
+
+        ConsentCacheKey cacheKey = ConsentCacheKey.of(sessionDataKey);
+        Object cachedConsentData = consentCache.getFromCache(cacheKey);
+        if (cachedConsentData instanceof ConsentData) {
+            return (ConsentData) cachedConsentData;
+        }
+
+        byte[] encodedConsentData = authorizationSessionCache.getFromCache(cacheKey);
+        if (encodedConsentData != null) {
+            ConsentData consentData = ConsentDataCodec.decode(encodedConsentData);
+            consentCache.addToCache(cacheKey, consentData);
+            return consentData;
+        }
+
+        if (spillEnabled) {
+            Map<String, String> spilledSessions = consentCoreService.getConsentAttributesByName(sessionDataKey);
+            if (!spilledSessions.isEmpty()) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Consent data of session %s is read from the database",
+                            sessionDataKey.replaceAll("[\r\n]", "")));
+                }
+                try {
+                    return ConsentDataCodec.decode(Base64.getDecoder().decode(
+                            spilledSessions.values().iterator().next()));
+                } catch (IllegalArgumentException e) {
+                    throw new ConsentManagementException("Error while decoding the stored consent data", e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove the consent data of an authorization session from all tiers, so that the session cannot be persisted
+     * again.
+     *
+     * @param sessionDataKey session data key
+     * @param consentData    consent data of the session
+     * @throws ConsentManagementException if the consent data cannot be removed from the database
+     */
+    public void remove(String sessionDataKey, ConsentData consentData) throws ConsentManagementException {
+
+        ConsentCacheKey cacheKey = ConsentCacheKey.of(sessionDataKey);
+        consentCache.removeFromCache(cacheKey);
+        authorizationSessionCache.removeFromCache(cacheKey);
+        authorizationSessionCache.removeFromCache(ConsentCacheKey.of(sessionDataKey + SPILLED_SESSION_KEY_SUFFIX));
+        if (spillEnabled && consentData != null && consentData.getConsentId() != null) {
+            consentCoreService.deleteConsentAttributes(consentData.getConsentId(),
+                    new ArrayList<>(Collections.singletonList(sessionDataKey)));
+        }
+    }
+
+    private void spill(String sessionDataKey, String consentId, byte[] encodedConsentData)
+            throws ConsentManagementException {
+
+        if (consentId == null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Consent data of session %s is not stored in the database since the " +
+                        "consent is not created yet", sessionDataKey.replaceAll("[\r\n]", "")));
+            }
+            return;
+        }
+        ConsentCacheKey spilledSessionKey = ConsentCacheKey.of(sessionDataKey + SPILLED_SESSION_KEY_SUFFIX);
+        if (Arrays.equals(authorizationSessionCache.getFromCache(spilledSessionKey), encodedConsentData)) {
+            return;
+        }
+        Map<String, String> sessionAttribute = new HashMap<>();
+        sessionAttribute.put(sessionDataKey, Base64.getEncoder().encodeToString(encodedConsentData));
+        try {
+            consentCoreService.storeConsentAttributes(consentId, sessionAttribute);
+        } catch (ConsentManagementException e) {
+            // The session is already stored if it was stored before the consent data changed, or on a node whose
+            // cache is not shared
+            if (consentCoreService.getConsentAttributesByName(sessionDataKey).isEmpty()) {
+                throw e;
+            }
+            consentCoreService.updateConsentAttributes(consentId, sessionAttribute);
+        }
+        authorizationSessionCache.addToCache(spilledSessionKey, encodedConsentData);
+    }
+}
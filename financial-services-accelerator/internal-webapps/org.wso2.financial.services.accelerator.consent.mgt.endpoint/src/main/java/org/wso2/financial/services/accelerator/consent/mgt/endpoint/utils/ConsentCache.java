@@ -18,9 +18,6 @@
 
 package org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.identity.oauth.cache.SessionDataCache;
@@ -31,15 +28,7 @@ import org.wso2.financial.services.accelerator.common.config.FinancialServicesCo
 import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.model.ConsentData;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentException;
-import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ConsentExtensionConstants;
 import org.wso2.financial.services.accelerator.consent.mgt.extensions.common.ResponseStatus;
-import org.wso2.financial.services.accelerator.consent.mgt.service.impl.ConsentCoreServiceImpl;
-
-import java.net.URISyntaxException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
 
 /**
  * Cache definition to store objects in consent management component
@@ -55,8 +44,6 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     private final Integer accessExpiryMinutes;
     private final Integer modifiedExpiryMinutes;
 
-    private static final ConsentCoreServiceImpl consentCoreService = new ConsentCoreServiceImpl();
-
     /**
      * Initialize with unique cache name.
      */
@@ -85,7 +72,7 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     }
 
     /**
-     * Add consent data to consent data cache.
+     * Add consent data of an authorization session to the session store.
      * 
      * @param sessionDataKey session data key
      * @param consentData    consent data
@@ -95,29 +82,7 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     public static void addConsentDataToCache(String sessionDataKey, ConsentData consentData)
             throws ConsentManagementException {
 
-        ConsentCache.getInstance().addToCache(ConsentCacheKey.of(sessionDataKey), consentData);
-        storeConsent(consentData, sessionDataKey);
-    }
-
-    /**
-     * Add consent data to database.
-     * 
-     * @param sessionDataKey session data key
-     * @param consentData    consent data
-     * @throws ConsentManagementException if an error occurs while storing consent
-     *                                    data
-     */
-    public static void storeConsent(ConsentData consentData, String sessionDataKey) throws ConsentManagementException {
-
-        Gson gson = new Gson();
-        if (ConsentConstants.STORE_CONSENT) {
-            String consent = gson.toJson(consentData);
-            Map<String, String> authorizeData = new HashMap<>();
-            authorizeData.put(consentData.getSessionDataKey(), consent);
-            if (consentCoreService.getConsentAttributesByName(sessionDataKey).isEmpty()) {
-                consentCoreService.storeConsentAttributes(consentData.getConsentId(), authorizeData);
-            }
-        }
+        AuthorizationSessionStore.getInstance().put(sessionDataKey, consentData);
     }
 
     /**
@@ -154,52 +119,22 @@ public class ConsentCache extends FinancialServicesBaseCache<ConsentCacheKey, Ob
     }
 
     /**
-     * Get Consent data from the consent cache.
+     * Get consent data of an authorization session from the session store.
      * 
      * @param sessionDataKey Session data key
      * @return consent data
      */
     public static ConsentData getConsentDataFromCache(String sessionDataKey) {
 
-        ConsentData consentData = (ConsentData) ConsentCache.getInstance()
-                .getFromCache(ConsentCacheKey.of(sessionDataKey));
+        ConsentData consentData;
+        try {
+            consentData = AuthorizationSessionStore.getInstance().get(sessionDataKey);
+        } catch (ConsentManagementException e) {
+            log.error("Error while retrieving consent data from cache", e);
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
+        }
         if (consentData == null) {
-            if (ConsentConstants.STORE_CONSENT) {
-                Map<String, String> consentDetailsMap = null;
-                try {
-                    consentDetailsMap = consentCoreService.getConsentAttributesByName(sessionDataKey);
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
-                    }
-                    Set<String> keys = consentDetailsMap.keySet();
-                    String consentId = new ArrayList<>(keys).get(0);
-                    JsonObject consentDetails = JsonParser.parseString(consentDetailsMap.get(consentId))
-                            .getAsJsonObject();
-                    consentData = ConsentUtils.getConsentDataFromAttributes(consentDetails, sessionDataKey);
-
-                    if (consentDetailsMap.isEmpty()) {
-                        throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
-                    }
-                    // remove all session data related to the consent from consent attributes
-                    ArrayList<String> keysToDelete = new ArrayList<>();
-
-                    Map<String, String> consentAttributes = consentCoreService
-                            .getConsentAttributes(consentData.getConsentId()).getConsentAttributes();
-
-                    consentAttributes.forEach((key, value) -> {
-                        if (ConsentUtils.isValidJson(value) &&
-                                value.contains(ConsentExtensionConstants.SESSION_DATA_KEY)) {
-                            keysToDelete.add(key);
-                        }
-                    });
-                    consentCoreService.deleteConsentAttributes(consentData.getConsentId(), keysToDelete);
-                } catch (ConsentManagementException | URISyntaxException e) {
-                    log.error("Error while retrieving consent data from cache", e);
-                    throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
-                }
-            } else {
-                throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
-            }
+            throw new ConsentException(ResponseStatus.INTERNAL_SERVER_ERROR, "Unable to get consent data");
         }
         return consentData;
     }
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2026, WSO2 LLC. (https://www.wso2.com).
+ * <p>
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.financial.services.accelerator.consent.mgt.endpoint.utils;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.financial.services.accelerator.common.exception.ConsentManagementException;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.model.ConsentData;
+import org.wso2.financial.services.accelerator.consent.mgt.extensions.authorize.util.ConsentDataCodec;
+import org.wso2.financial.services.accelerator.consent.mgt.service.ConsentCoreService;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+
+/**
+ * Test class for AuthorizationSessionStore.
+ */
+public class AuthorizationSessionStoreTest {
+
+    private static final String SESSION_DATA_KEY = "session-data-key";
+    private static final String CONSENT_ID = "4ce7c9e1-1a4b-4d5f-9e3c-2b8a6f0d1e7a";
+
+    private Map<ConsentCacheKey, Object> consentCacheEntries;
+    private Map<ConsentCacheKey, byte[]> authorizationSessionCacheEntries;
+    private ConsentCache consentCache;
+    private AuthorizationSessionCache authorizationSessionCache;
+    private ConsentCoreService consentCoreService;
+
+    @BeforeMethod
+    public void setUp() {
+
+        consentCacheEntries = new HashMap<>();
+        consentCache = Mockito.mock(ConsentCache.class);
+        Mockito.doAnswer(invocation -> consentCacheEntries.put(invocation.getArgument(0),
+                invocation.getArgument(1))).when(consentCache).addToCache(any(), any());
+        Mockito.when(consentCache.getFromCache(any()))
+                .thenAnswer(invocation -> consentCacheEntries.get(invocation.<ConsentCacheKey>getArgument(0)));
+        Mockito.doAnswer(invocation -> consentCacheEntries.remove(invocation.<ConsentCacheKey>getArgument(0)))
+                .when(consentCache).removeFromCache(any(ConsentCacheKey.class));
+
+        authorizationSessionCacheEntries = new HashMap<>();
+        authorizationSessionCache = Mockito.mock(AuthorizationSessionCache.class);
+        Mockito.doAnswer(invocation -> authorizationSessionCacheEntries.put(invocation.getArgument(0),
+                invocation.getArgument(1))).when(authorizationSessionCache).addToCache(any(), any());
+        Mockito.when(authorizationSessionCache.getFromCache(any())).thenAnswer(invocation ->
+                authorizationSessionCacheEntries.get(invocation.<ConsentCacheKey>getArgument(0)));
+        Mockito.doAnswer(invocation ->
+                        authorizationSessionCacheEntries.remove(invocation.<ConsentCacheKey>getArgument(0)))
+                .when(authorizationSessionCache).removeFromCache(any());
+
+        consentCoreService = Mockito.mock(ConsentCoreService.class);
+    }
+
+    @Test
+    public void testGetFromConsentCache() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        ConsentData consentData = getConsentData(CONSENT_ID);
+        store.put(SESSION_DATA_KEY, consentData);
+
+        Assert.assertSame(store.get(SESSION_DATA_KEY), consentData);
+        Mockito.verify(authorizationSessionCache, Mockito.never()).getFromCache(ConsentCacheKey.of(SESSION_DATA_KEY));
+        Mockito.verify(consentCoreService, Mockito.never()).getConsentAttributesByName(anyString());
+    }
+
+    @Test
+    public void testGetFromAuthorizationSessionCache() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        store.put(SESSION_DATA_KEY, getConsentData(CONSENT_ID));
+        consentCacheEntries.clear();
+
+        ConsentData consentData = store.get(SESSION_DATA_KEY);
+
+        Assert.assertEquals(consentData.getConsentId(), CONSENT_ID);
+        Assert.assertEquals(consentData.getSessionDataKey(), SESSION_DATA_KEY);
+        Assert.assertSame(consentCacheEntries.get(ConsentCacheKey.of(SESSION_DATA_KEY)), consentData);
+        Mockito.verify(consentCoreService, Mockito.never()).getConsentAttributesByName(anyString());
+    }
+
+    @Test
+    public void testPutSpillsSessionOnceConsentIdIsKnown() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        store.put(SESSION_DATA_KEY, getConsentData(null));
+        Mockito.verify(consentCoreService, Mockito.never()).storeConsentAttributes(anyString(), anyMap());
+
+        ConsentData consentData = getConsentData(CONSENT_ID);
+        store.put(SESSION_DATA_KEY, consentData);
+        store.put(SESSION_DATA_KEY, consentData);
+
+        Map<String, String> sessionAttribute = Collections.singletonMap(SESSION_DATA_KEY,
+                Base64.getEncoder().encodeToString(ConsentDataCodec.encode(consentData)));
+        Mockito.verify(consentCoreService, Mockito.times(1)).storeConsentAttributes(CONSENT_ID, sessionAttribute);
+    }
+
+    @Test
+    public void testPutUpdatesSpilledSession() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        ConsentData consentData = getConsentData(CONSENT_ID);
+        Mockito.when(consentCoreService.storeConsentAttributes(anyString(), anyMap()))
+                .thenThrow(new ConsentManagementException("Duplicate attribute"));
+        Mockito.when(consentCoreService.getConsentAttributesByName(SESSION_DATA_KEY))
+                .thenReturn(Collections.singletonMap(CONSENT_ID, "stored"));
+
+        store.put(SESSION_DATA_KEY, consentData);
+
+        Mockito.verify(consentCoreService).updateConsentAttributes(CONSENT_ID, Collections.singletonMap(
+                SESSION_DATA_KEY, Base64.getEncoder().encodeToString(ConsentDataCodec.encode(consentData))));
+    }
+
+    @Test
+    public void testPutDoesNotSpillWhenDisabled() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(false);
+        store.put(SESSION_DATA_KEY, getConsentData(CONSENT_ID));
+
+        Mockito.verifyNoInteractions(consentCoreService);
+    }
+
+    @Test
+    public void testGetFromDatabase() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        ConsentData consentData = getConsentData(CONSENT_ID);
+        Mockito.when(consentCoreService.getConsentAttributesByName(SESSION_DATA_KEY))
+                .thenReturn(Collections.singletonMap(CONSENT_ID,
+                        Base64.getEncoder().encodeToString(ConsentDataCodec.encode(consentData))));
+
+        ConsentData storedConsentData = store.get(SESSION_DATA_KEY);
+
+        Assert.assertEquals(storedConsentData.getConsentId(), CONSENT_ID);
+        Assert.assertEquals(storedConsentData.getScopeString(), consentData.getScopeString());
+    }
+
+    @Test
+    public void testGetUnknownSession() throws ConsentManagementException {
+
+        Mockito.when(consentCoreService.getConsentAttributesByName(SESSION_DATA_KEY))
+                .thenReturn(Collections.emptyMap());
+
+        Assert.assertNull(getStore(true).get(SESSION_DATA_KEY));
+        Assert.assertNull(getStore(false).get(SESSION_DATA_KEY));
+    }
+
+    @Test
+    public void testRemove() throws ConsentManagementException {
+
+        AuthorizationSessionStore store = getStore(true);
+        ConsentData consentData = getConsentData(CONSENT_ID);
+        store.put(SESSION_DATA_KEY, consentData);
+        Mockito.when(consentCoreService.getConsentAttributesByName(SESSION_DATA_KEY))
+                .thenReturn(Collections.emptyMap());
+
+        store.remove(SESSION_DATA_KEY, consentData);
+
+        Assert.assertTrue(consentCacheEntries.isEmpty());
+        Assert.assertTrue(authorizationSessionCacheEntries.isEmpty());
+        Assert.assertNull(store.get(SESSION_DATA_KEY));
+        Mockito.verify(consentCoreService).deleteConsentAttributes(CONSENT_ID,
+                new ArrayList<>(Collections.singletonList(SESSION_DATA_KEY)));
+    }
+
+    private AuthorizationSessionStore getStore(boolean spillEnabled) {
+
+        return new AuthorizationSessionStore(consentCache, authorizationSessionCache, consentCoreService,
+                spillEnabled);
+    }
+
+    private static ConsentData getConsentData(String consentId) {
+
+        ConsentData consentData = new ConsentData(SESSION_DATA_KEY, "admin@wso2.com", "client_id=app",
+                "openid accounts", "app", new HashMap<>());
+        consentData.setConsentId(consentId);
+        return consentData;
+    }
+}
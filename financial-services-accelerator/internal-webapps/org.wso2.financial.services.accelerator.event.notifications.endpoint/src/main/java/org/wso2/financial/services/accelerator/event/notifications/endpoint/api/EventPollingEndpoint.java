@@ -38,6 +38,7 @@ import org.wso2.financial.services.accelerator.event.notifications.service.util.
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -45,6 +46,8 @@ import javax.ws.rs.Consumes;
 import javax.ws.rs.POST;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
+import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.container.Suspended;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
@@ -85,8 +88,8 @@ public class EventPollingEndpoint {
     @Produces({"application/json; charset=utf-8", "application/jose+jwe"})
     @ApiOperation(value = "Retrieve Events", tags = {"Events"})
 
-    public Response pollEvents(@Context HttpServletRequest request, @Context HttpServletResponse response,
-                               MultivaluedMap parameterMap) {
+    public void pollEvents(@Context HttpServletRequest request, @Context HttpServletResponse response,
+                           MultivaluedMap parameterMap, @Suspended AsyncResponse asyncResponse) {
 
         String eventPollingData;
         JSONObject eventPollingRequest;
@@ -108,33 +111,70 @@ public class EventPollingEndpoint {
                         eventPollingRequest.put(EventNotificationEndPointConstants.X_WSO2_CLIENT_ID, request.
                                 getHeader(EventNotificationEndPointConstants.X_WSO2_CLIENT_ID));
                     } else {
-                        return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                                .getErrorDTO(EventNotificationEndPointConstants.MISSING_REQUEST_HEADER,
-                                EventNotificationConstants.MISSING_HEADER_PARAM_CLIENT_ID).toString()).build();
+                        asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity(
+                                EventNotificationServiceUtil.getErrorDTO(
+                                        EventNotificationEndPointConstants.MISSING_REQUEST_HEADER,
+                                        EventNotificationConstants.MISSING_HEADER_PARAM_CLIENT_ID).toString())
+                                .build());
+                        return;
                     }
 
                     EventPollingDTO pollingDTO = mapPollingRequestToDTO(eventPollingRequest);
-                    EventPollingResponse eventPollingResponse = eventPollingServiceHandler.
-                            pollEvents(pollingDTO);
-
-                    return EventNotificationUtils.mapEventPollingServiceResponse(eventPollingResponse);
 
+                    // Long polling requests are resumed by the polling service once notifications are available
+                    // or the maximum wait time elapses. The timeout here only guards against a response that is
+                    // never resumed, in which case the client receives 503 Service Unavailable.
+                    asyncResponse.setTimeout(FinancialServicesConfigParser.getInstance()
+                            .getLongPollingMaxWaitTimeInSeconds() * 2L + 1, TimeUnit.SECONDS);
+                    eventPollingServiceHandler.pollEventsAsync(pollingDTO)
+                            .whenComplete((eventPollingResponse, throwable) ->
+                                    resumePolling(asyncResponse, eventPollingResponse, throwable));
                 } catch (ClassCastException e) {
                     log.error(EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR, e);
-                    return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
-                            .getErrorDTO(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
-                            EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR).toString()).build();
+                    asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity(
+                            EventNotificationServiceUtil.getErrorDTO(
+                                    EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
+                                    EventNotificationEndPointConstants.REQUEST_PAYLOAD_ERROR).toString()).build());
+                } catch (RuntimeException e) {
+                    log.error("Error occurred while polling events", e);
+                    asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR).build());
                 }
             } else {
-                return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
+                asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
                         .getErrorDTO(EventNotificationEndPointConstants.INVALID_REQUEST_PAYLOAD,
-                        EventNotificationEndPointConstants.EMPTY_REQ_PAYLOAD).toString()).build();
+                        EventNotificationEndPointConstants.EMPTY_REQ_PAYLOAD).toString()).build());
             }
         } else {
-            return Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
+            asyncResponse.resume(Response.status(Response.Status.BAD_REQUEST).entity(EventNotificationServiceUtil
                     .getErrorDTO(EventNotificationEndPointConstants.MISSING_REQUEST_PAYLOAD,
-                    EventNotificationConstants.MISSING_REQ_PAYLOAD).toString()).build();
+                    EventNotificationConstants.MISSING_REQ_PAYLOAD).toString()).build());
+        }
+    }
+
+    /**
+     * Resumes the suspended polling request with the mapped polling response, or with an internal server error if
+     * polling or mapping the response fails.
+     *
+     * @param asyncResponse         suspended response of the polling request
+     * @param eventPollingResponse  polling response, null if polling failed
+     * @param throwable             cause of the polling failure, null if polling succeeded
+     */
+    private static void resumePolling(AsyncResponse asyncResponse, EventPollingResponse eventPollingResponse,
+                                      Throwable throwable) {
+
+        if (throwable != null) {
+            log.error("Error occurred while polling events", throwable);
+            asyncResponse.resume(Response.status(Response.Status.INTERNAL_SERVER_ERROR).build());
+            return;
+        }
+        Response pollingResponse;
+        try {
+            pollingResponse = EventNotificationUtils.mapEventPollingServiceResponse(eventPollingResponse);
+        } catch (RuntimeException e) {
+            log.error("Error occurred while mapping the event polling response", e);
+            pollingResponse = Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
         }
+        asyncResponse.resume(pollingResponse);
     }
 
     /**
@@ -175,6 +215,12 @@ public class EventPollingEndpoint {
             });
         }
 
+        //Set whether to wait for notifications when none are available
+        if (eventPollingRequest.has(EventNotificationConstants.RETURN_IMMEDIATELY)) {
+            eventPollingDTO.setReturnImmediately(Boolean.parseBoolean(eventPollingRequest.
+                    get(EventNotificationConstants.RETURN_IMMEDIATELY).toString()));
+        }
+
         //Set maxEvents count to return
         if (eventPollingRequest.has(EventNotificationConstants.MAX_EVENTS)) {
             eventPollingDTO.setMaxEvents(Integer.parseInt(eventPollingRequest.